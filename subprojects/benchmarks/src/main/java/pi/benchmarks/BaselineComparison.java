@@ -0,0 +1,183 @@
+/*
+ * Engine Pi ist eine anfängerorientierte 2D-Gaming Engine.
+ *
+ * Copyright (c) 2026 Josef Friedrich and contributors.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package pi.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Vergleicht zwei <b>Ergebnisdateien</b> von JMH im CSV-Format
+ * ({@code -rf csv}) und gibt die prozentuale Abweichung jedes Benchmarks aus.
+ *
+ * <p>
+ * Aufruf:
+ * {@code java -cp benchmarks.jar pi.benchmarks.BaselineComparison <Basis.csv> <Neu.csv> [Schwelle in Prozent]}
+ * </p>
+ *
+ * <p>
+ * Wird eine Schwelle angegeben, endet das Programm mit dem Statuscode
+ * {@code 1}, falls sich mindestens ein Benchmark um mehr als diesen Wert
+ * verschlechtert hat. Bei den Modi {@code thrpt} gilt ein kleinerer Wert, bei
+ * allen anderen Modi ein größerer Wert als Verschlechterung.
+ * </p>
+ *
+ * @since 0.53.0
+ */
+public final class BaselineComparison
+{
+    private BaselineComparison()
+    {
+    }
+
+    /**
+     * Ein einzelnes Messergebnis.
+     *
+     * @param mode Der Modus des Benchmarks, z.B. {@code thrpt} oder
+     *     {@code avgt}.
+     * @param score Der gemessene Wert.
+     * @param unit Die Einheit des gemessenen Werts.
+     */
+    record Result(String mode, double score, String unit)
+    {
+        /**
+         * Gibt die Veränderung gegenüber der Basis in Prozent zurück, wobei
+         * positive Werte immer eine Verbesserung bedeuten.
+         */
+        double improvement(Result baseline)
+        {
+            double change = (score - baseline.score) / baseline.score * 100;
+            return mode.equals("thrpt") ? change : -change;
+        }
+    }
+
+    public static void main(String[] args) throws IOException
+    {
+        if (args.length < 2)
+        {
+            System.err.println(
+                "Verwendung: BaselineComparison <Basis.csv> <Neu.csv> [Schwelle in Prozent]");
+            System.exit(2);
+        }
+        Map<String, Result> baseline = read(Path.of(args[0]));
+        Map<String, Result> current = read(Path.of(args[1]));
+        double threshold = args.length > 2 ? Double.parseDouble(args[2])
+                : Double.NaN;
+        boolean regression = false;
+        for (Map.Entry<String, Result> entry : current.entrySet())
+        {
+            Result before = baseline.get(entry.getKey());
+            Result after = entry.getValue();
+            if (before == null)
+            {
+                System.out.printf(Locale.ROOT,
+                    "%-70s %14.3f %s (neu)%n",
+                    entry.getKey(),
+                    after.score,
+                    after.unit);
+                continue;
+            }
+            double improvement = after.improvement(before);
+            boolean worse = !Double.isNaN(threshold)
+                    && improvement < -threshold;
+            regression |= worse;
+            System.out.printf(Locale.ROOT,
+                "%-70s %14.3f -> %14.3f %s %+7.1f %%%s%n",
+                entry.getKey(),
+                before.score,
+                after.score,
+                after.unit,
+                improvement,
+                worse ? " REGRESSION" : "");
+        }
+        if (regression)
+        {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Liest eine Ergebnisdatei und ordnet jedem Benchmark samt seiner Parameter
+     * sein Ergebnis zu.
+     */
+    static Map<String, Result> read(Path path) throws IOException
+    {
+        List<String> lines = Files.readAllLines(path);
+        Map<String, Result> results = new LinkedHashMap<>();
+        if (lines.isEmpty())
+        {
+            return results;
+        }
+        List<String> header = split(lines.get(0));
+        for (String line : lines.subList(1, lines.size()))
+        {
+            if (line.isBlank())
+            {
+                continue;
+            }
+            List<String> fields = split(line);
+            StringBuilder key = new StringBuilder(fields.get(0));
+            for (int i = 7; i < fields.size() && i < header.size(); i++)
+            {
+                key.append(' ')
+                    .append(header.get(i).replace("Param: ", ""))
+                    .append('=')
+                    .append(fields.get(i));
+            }
+            results.put(key.toString(),
+                new Result(fields.get(1), Double.parseDouble(fields.get(4)),
+                        fields.get(6)));
+        }
+        return results;
+    }
+
+    /**
+     * Zerlegt eine CSV-Zeile, deren Felder in Anführungszeichen stehen können.
+     */
+    static List<String> split(String line)
+    {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++)
+        {
+            char c = line.charAt(i);
+            if (c == '"')
+            {
+                quoted = !quoted;
+            }
+            else if (c == ',' && !quoted)
+            {
+                fields.add(field.toString());
+                field.setLength(0);
+            }
+            else
+            {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+}
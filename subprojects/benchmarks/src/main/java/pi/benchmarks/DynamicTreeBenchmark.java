@@ -0,0 +1,204 @@
+/*
+ * Engine Pi ist eine anfängerorientierte 2D-Gaming Engine.
+ *
+ * Copyright (c) 2026 Josef Friedrich and contributors.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package pi.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.jbox2d.callbacks.TreeCallback;
+import org.jbox2d.callbacks.TreeRayCastCallback;
+import org.jbox2d.collision.AABB;
+import org.jbox2d.collision.RayCastInput;
+import org.jbox2d.callbacks.PairCallback;
+import org.jbox2d.collision.broadphase.BroadPhase;
+import org.jbox2d.collision.broadphase.BroadPhaseStrategy;
+import org.jbox2d.collision.broadphase.DefaultBroadPhaseBuffer;
+import org.jbox2d.collision.broadphase.DynamicTree;
+import org.jbox2d.collision.broadphase.DynamicTreeFlatNodes;
+import org.jbox2d.collision.broadphase.DynamicTreeSoA;
+import org.jbox2d.common.Vec2;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Misst Abfragen, Strahlentests, Verschiebungen und die Paarsuche in den
+ * Bounding-Volume-Bäumen der Broadphase ({@link DynamicTree},
+ * {@link DynamicTreeFlatNodes} und {@link DynamicTreeSoA}) mit {@link #proxies}
+ * zufällig verteilten Einträgen.
+ *
+ * @since 0.53.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class DynamicTreeBenchmark
+{
+    /**
+     * Die Anzahl der vorberechneten Abfragen, die reihum verwendet werden.
+     */
+    private static final int QUERIES = 1024;
+
+    @Param({ "1000", "10000", "100000" })
+    int proxies;
+
+    @Param({ "DynamicTree", "DynamicTreeFlatNodes", "DynamicTreeSoA" })
+    String strategy;
+
+    BroadPhaseStrategy tree;
+
+    BroadPhase broadPhase;
+
+    /**
+     * Die Kantenlänge der Welt, sodass im Mittel ein Eintrag pro Quadratmeter
+     * liegt.
+     */
+    float size;
+
+    AABB[] queries = new AABB[QUERIES];
+
+    RayCastInput[] rays = new RayCastInput[QUERIES];
+
+    int[] proxyIds;
+
+    Vec2[] displacements = new Vec2[QUERIES];
+
+    int next = 0;
+
+    int hits = 0;
+
+    final TreeCallback queryCallback = proxyId -> {
+        hits++;
+        return true;
+    };
+
+    final TreeRayCastCallback rayCastCallback = (input, proxyId) -> {
+        hits++;
+        return input.maxFraction;
+    };
+
+    final PairCallback pairCallback = (userDataA, userDataB) -> hits++;
+
+    @Setup
+    public void setUp()
+    {
+        Random random = new Random(42);
+        if (strategy.equals("DynamicTree"))
+        {
+            tree = new DynamicTree();
+        }
+        else if (strategy.equals("DynamicTreeFlatNodes"))
+        {
+            tree = new DynamicTreeFlatNodes();
+        }
+        else
+        {
+            tree = new DynamicTreeSoA();
+        }
+        broadPhase = new DefaultBroadPhaseBuffer(tree);
+        size = (float) Math.sqrt(proxies);
+        proxyIds = new int[proxies];
+        for (int i = 0; i < proxies; i++)
+        {
+            proxyIds[i] = broadPhase.createProxy(box(random, 0.5f), null);
+        }
+        broadPhase.updatePairs(pairCallback);
+        for (int i = 0; i < QUERIES; i++)
+        {
+            queries[i] = box(random, 5);
+            Vec2 start = new Vec2(random.nextFloat() * size,
+                    random.nextFloat() * size);
+            Vec2 end = new Vec2(random.nextFloat() * size,
+                    random.nextFloat() * size);
+            rays[i] = new RayCastInput(start, end, 1);
+            displacements[i] = new Vec2(random.nextFloat() - 0.5f,
+                    random.nextFloat() - 0.5f);
+        }
+    }
+
+    private AABB box(Random random, float halfSize)
+    {
+        float x = random.nextFloat() * size;
+        float y = random.nextFloat() * size;
+        return new AABB(new Vec2(x - halfSize, y - halfSize),
+                new Vec2(x + halfSize, y + halfSize));
+    }
+
+    private int next()
+    {
+        next = (next + 1) & (QUERIES - 1);
+        return next;
+    }
+
+    @Benchmark
+    public int query()
+    {
+        hits = 0;
+        tree.query(queryCallback, queries[next()]);
+        return hits;
+    }
+
+    @Benchmark
+    public int raycast()
+    {
+        hits = 0;
+        tree.raycast(rayCastCallback, rays[next()]);
+        return hits;
+    }
+
+    @Benchmark
+    public boolean moveProxy()
+    {
+        int i = next();
+        int proxyId = proxyIds[(i * 7919) % proxies];
+        AABB aabb = tree.getFatAABB(proxyId);
+        Vec2 displacement = displacements[i];
+        AABB moved = queries[i];
+        moved.lowerBound.set(aabb.lowerBound).addLocal(displacement);
+        moved.upperBound.set(aabb.upperBound).addLocal(displacement);
+        return tree.moveProxy(proxyId, moved, displacement);
+    }
+
+    /**
+     * Sucht die Paare, nachdem ein Prozent der Einträge verschoben wurde.
+     */
+    @Benchmark
+    public int updatePairs()
+    {
+        hits = 0;
+        int moved = Math.max(1, proxies / 100);
+        for (int i = 0; i < moved; i++)
+        {
+            broadPhase.touchProxy(proxyIds[(next() * 7919) % proxies]);
+        }
+        broadPhase.updatePairs(pairCallback);
+        return hits;
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Engine Pi ist eine anfängerorientierte 2D-Gaming Engine.
+ *
+ * Copyright (c) 2026 Josef Friedrich and contributors.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package pi.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import pi.event.EventListeners;
+import pi.event.FrameListener;
+
+/**
+ * Misst das <b>Benachrichtigen</b> von {@link #listeners} Beobachtern über
+ * {@link EventListeners#invoke(java.util.function.Consumer)}, wie es in jedem
+ * Einzelbild für die {@link FrameListener} geschieht.
+ *
+ * @since 0.53.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class EventListenersBenchmark
+{
+    private static final double PAST_TIME = 1.0 / 60;
+
+    @Param({ "1", "10", "100", "1000" })
+    int listeners;
+
+    EventListeners<FrameListener> frameListeners;
+
+    Blackhole blackhole;
+
+    @Setup
+    public void setUp(Blackhole blackhole)
+    {
+        this.blackhole = blackhole;
+        frameListeners = new EventListeners<>();
+        for (int i = 0; i < listeners; i++)
+        {
+            frameListeners.add(pastTime -> this.blackhole.consume(pastTime));
+        }
+    }
+
+    @Benchmark
+    public void invoke()
+    {
+        frameListeners.invoke(listener -> listener.onFrame(PAST_TIME));
+    }
+}
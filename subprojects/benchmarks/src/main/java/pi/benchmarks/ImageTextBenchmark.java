@@ -0,0 +1,121 @@
+/*
+ * Engine Pi ist eine anfängerorientierte 2D-Gaming Engine.
+ *
+ * Copyright (c) 2026 Josef Friedrich and contributors.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package pi.benchmarks;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import javax.imageio.ImageIO;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import pi.actor.ImageText;
+
+/**
+ * Misst das <b>Setzen eines Bildertextes</b> mit {@link #length} Zeichen, also
+ * das Umbrechen des Inhalts und das Zusammensetzen des Bildes aus den
+ * Buchstabenbildern.
+ *
+ * <p>
+ * Die Buchstabenbilder werden beim Start in einem temporären Ordner erzeugt,
+ * damit der Benchmark nicht von den Ressourcen eines Spiels abhängt.
+ * </p>
+ *
+ * @since 0.53.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class ImageTextBenchmark
+{
+    private static final String ALPHABET = "abcdefghijklmnopqrstuvwxyz0123456789";
+
+    @Param({ "10", "100", "1000" })
+    int length;
+
+    Path fontDirectory;
+
+    ImageText text;
+
+    String content;
+
+    @Setup
+    public void setUp() throws IOException
+    {
+        fontDirectory = Files.createTempDirectory("pi-benchmark-font");
+        for (int i = 0; i < ALPHABET.length(); i++)
+        {
+            BufferedImage glyph = new BufferedImage(8, 8,
+                    BufferedImage.TYPE_INT_ARGB);
+            Graphics2D g = glyph.createGraphics();
+            g.setColor(Color.WHITE);
+            g.fillRect(1, 1 + i % 6, 6, 7 - i % 6);
+            g.dispose();
+            ImageIO.write(glyph,
+                "png",
+                fontDirectory.resolve(ALPHABET.charAt(i) + ".png").toFile());
+        }
+        text = new ImageText(
+                new ImageText.Font(fontDirectory.toString() + "/"));
+        text.lineWidth(40);
+        StringBuilder builder = new StringBuilder(length);
+        for (int i = 0; i < length; i++)
+        {
+            builder.append(i % 7 == 6 ? ' ' : ALPHABET.charAt(i % 36));
+        }
+        content = builder.toString();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException
+    {
+        try (Stream<Path> files = Files.walk(fontDirectory))
+        {
+            files.sorted(Comparator.reverseOrder())
+                .forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public ImageText content()
+    {
+        return text.content(content);
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Engine Pi ist eine anfängerorientierte 2D-Gaming Engine.
+ *
+ * Copyright (c) 2026 Josef Friedrich and contributors.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package pi.benchmarks;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import pi.Rectangle;
+import pi.Scene;
+
+/**
+ * Misst das <b>Zeichnen</b> einer Szene mit {@link #actors} Rechtecken in ein
+ * Bild der Größe 800 × 600 Pixel.
+ *
+ * <p>
+ * Die Rechtecke werden zufällig in einem Bereich verteilt, der doppelt so breit
+ * und hoch wie der sichtbare Ausschnitt ist. Mit {@link #culling} lässt sich
+ * vergleichen, wie viel das Auslassen nicht sichtbarer Figuren einspart.
+ * </p>
+ *
+ * @since 0.53.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class LayerRenderBenchmark
+{
+    private static final int WIDTH = 800;
+
+    private static final int HEIGHT = 600;
+
+    @Param({ "100", "1000", "10000" })
+    int actors;
+
+    @Param({ "true", "false" })
+    boolean culling;
+
+    Scene scene;
+
+    BufferedImage image;
+
+    Graphics2D g;
+
+    @Setup
+    public void setUp()
+    {
+        Random random = new Random(42);
+        scene = new Scene();
+        scene.layer().culling(culling);
+        for (int i = 0; i < actors; i++)
+        {
+            Rectangle rectangle = new Rectangle(0.5, 0.5);
+            rectangle.center(random.nextDouble() * 48 - 24,
+                random.nextDouble() * 36 - 18);
+            scene.add(rectangle);
+        }
+        image = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_ARGB);
+        g = image.createGraphics();
+    }
+
+    @TearDown
+    public void tearDown()
+    {
+        g.dispose();
+    }
+
+    @Benchmark
+    public BufferedImage render()
+    {
+        scene.render(g, WIDTH, HEIGHT);
+        return image;
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Engine Pi ist eine anfängerorientierte 2D-Gaming Engine.
+ *
+ * Copyright (c) 2026 Josef Friedrich and contributors.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package pi.benchmarks;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import pi.Controller;
+import pi.actor.ParticleEmitter;
+
+/**
+ * Misst ein <b>Einzelbild</b> eines {@link ParticleEmitter Partikelsystems} mit
+ * {@link #particles} lebenden Partikeln: das Aktualisieren aller Partikel und
+ * das Zeichnen in ein Bild der Größe 800 × 600 Pixel.
+ *
+ * <p>
+ * Bei 60 Bildern pro Sekunde stehen für ein Einzelbild etwa 16,7 Millisekunden
+ * zur Verfügung.
+ * </p>
+ *
+ * @since 0.53.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class ParticleEmitterBenchmark
+{
+    private static final int WIDTH = 800;
+
+    private static final int HEIGHT = 600;
+
+    private static final double FRAME = 1.0 / 60;
+
+    @Param({ "1000", "10000", "50000" })
+    int particles;
+
+    ParticleEmitter emitter;
+
+    BufferedImage image;
+
+    Graphics2D g;
+
+    @Setup
+    public void setUp()
+    {
+        Controller.instantMode(false);
+        emitter = new ParticleEmitter(particles);
+        // Die Partikel leben ewig, damit ihre Anzahl konstant bleibt.
+        emitter.rate(0)
+            .lifetime(Double.MAX_VALUE, Double.MAX_VALUE)
+            .speed(0.5, 4)
+            .acceleration(0, -1);
+        emitter.emit(particles);
+        image = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_ARGB);
+        g = image.createGraphics();
+        g.translate(WIDTH / 2, HEIGHT / 2);
+    }
+
+    @TearDown
+    public void tearDown()
+    {
+        g.dispose();
+    }
+
+    @Benchmark
+    public int update()
+    {
+        emitter.onFrame(FRAME);
+        return emitter.count();
+    }
+
+    @Benchmark
+    public BufferedImage render()
+    {
+        emitter.render(g, 30);
+        return image;
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Engine Pi ist eine anfängerorientierte 2D-Gaming Engine.
+ *
+ * Copyright (c) 2026 Josef Friedrich and contributors.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package pi.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import pi.graphics.geom.Vector;
+
+/**
+ * Misst typische <b>Vektorrechnungen</b>, die pro Figur und Einzelbild
+ * anfallen. Da {@link Vector} unveränderlich ist, erfasst der Benchmark mit
+ * {@code -prof gc} auch die Anzahl der erzeugten Objekte.
+ *
+ * @since 0.53.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class VectorBenchmark
+{
+    Vector a = new Vector(3, 4);
+
+    Vector b = new Vector(-1.5, 2.5);
+
+    double factor = 0.75;
+
+    double angle = 30;
+
+    @Benchmark
+    public Vector add()
+    {
+        return a.add(b);
+    }
+
+    @Benchmark
+    public Vector multiply()
+    {
+        return a.multiply(factor);
+    }
+
+    @Benchmark
+    public Vector normalize()
+    {
+        return a.normalize();
+    }
+
+    @Benchmark
+    public Vector rotate()
+    {
+        return a.rotate(angle);
+    }
+
+    @Benchmark
+    public double chain()
+    {
+        return a.add(b).multiply(factor).rotate(angle).normalize().length();
+    }
+}
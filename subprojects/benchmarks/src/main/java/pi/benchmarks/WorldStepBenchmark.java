@@ -0,0 +1,95 @@
+/*
+ * Engine Pi ist eine anfängerorientierte 2D-Gaming Engine.
+ *
+ * Copyright (c) 2026 Josef Friedrich and contributors.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package pi.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jbox2d.collision.shapes.PolygonShape;
+import org.jbox2d.common.Vec2;
+import org.jbox2d.dynamics.BodyDef;
+import org.jbox2d.dynamics.BodyType;
+import org.jbox2d.dynamics.World;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Misst einen Simulationsschritt ({@link World#step(float, int, int)}) einer
+ * Welt mit {@link #bodies} Kisten, die auf einen Boden gestapelt werden.
+ *
+ * <p>
+ * Die Welt wird vor jeder Messiteration neu aufgebaut und das Einschlafen der
+ * Körper ist abgeschaltet, damit jeder Schritt gleich aufwendig bleibt.
+ * </p>
+ *
+ * @since 0.53.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class WorldStepBenchmark
+{
+    private static final float TIME_STEP = 1f / 60;
+
+    @Param({ "100", "1000", "5000" })
+    int bodies;
+
+    World world;
+
+    @Setup(Level.Iteration)
+    public void setUp()
+    {
+        world = new World(new Vec2(0, -10));
+        world.setAllowSleep(false);
+        BodyDef groundDef = new BodyDef();
+        PolygonShape ground = new PolygonShape();
+        ground.setAsBox(1000, 1);
+        world.createBody(groundDef).createFixture(ground, 0);
+        PolygonShape box = new PolygonShape();
+        box.setAsBox(0.5f, 0.5f);
+        int columns = (int) Math.ceil(Math.sqrt(bodies));
+        for (int i = 0; i < bodies; i++)
+        {
+            BodyDef def = new BodyDef();
+            def.type = BodyType.DYNAMIC;
+            def.position.set((i % columns) * 1.1f - columns * 0.55f,
+                2 + (i / columns) * 1.1f);
+            world.createBody(def).createFixture(box, 1);
+        }
+    }
+
+    @Benchmark
+    public World step()
+    {
+        world.step(TIME_STEP, 8, 3);
+        return world;
+    }
+}
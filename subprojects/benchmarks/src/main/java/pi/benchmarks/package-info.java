@@ -0,0 +1,32 @@
+/*
+ * Engine Pi ist eine anfängerorientierte 2D-Gaming Engine.
+ *
+ * Copyright (c) 2026 Josef Friedrich and contributors.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+/**
+ * <b>Mikro-Benchmarks</b> der rechenintensiven Teile der Engine und der
+ * Physik-Bibliothek auf Basis von
+ * <a href="https://github.com/openjdk/jmh">JMH</a>.
+ *
+ * <p>
+ * Die Benchmarks werden mit {@code java -jar target/benchmarks.jar} gestartet.
+ * Mit {@link pi.benchmarks.BaselineComparison} lassen sich zwei Ergebnisdateien
+ * im CSV-Format vergleichen.
+ * </p>
+ *
+ * @since 0.53.0
+ */
+package pi.benchmarks;
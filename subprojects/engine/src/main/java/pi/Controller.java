@@ -28,10 +28,15 @@ import java.awt.event.MouseEvent;
 import java.awt.event.MouseWheelEvent;
 import java.awt.event.WindowAdapter;
 import java.awt.event.WindowEvent;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Collection;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 
 import org.jbox2d.common.Settings;
@@ -47,6 +52,9 @@ import pi.event.DefaultControl;
 import pi.event.DefaultListener;
 import pi.event.EventListeners;
 import pi.event.FrameListener;
+import pi.event.InputRecorder;
+import pi.event.InputReplay;
+import pi.event.InputSink;
 import pi.event.KeyStrokeListener;
 import pi.event.KeyStrokeListenerRegistration;
 import pi.event.MouseButton;
@@ -300,6 +308,24 @@ public class Controller
     private static final Collection<Integer> pressedKeys = ConcurrentHashMap
         .newKeySet();
 
+    /**
+     * Die Tasten, die laut AWT gedrückt sind. Im Gegensatz zu
+     * {@link #pressedKeys} wird diese Menge sofort im AWT-Event-Thread
+     * aktualisiert, um wiederholte Tastendrücke herauszufiltern.
+     */
+    private static final Collection<Integer> heldKeys = ConcurrentHashMap
+        .newKeySet();
+
+    /**
+     * Der Zeitstempel der zuletzt zugestellten Eingabe in Nanosekunden.
+     */
+    private static volatile long lastInputNanos;
+
+    /**
+     * Die laufende Aufzeichnung der Eingaben oder {@code null}.
+     */
+    private static InputRecorder inputRecorder;
+
     private static DefaultListener defaultControl = new DefaultControl();
 
     /**
@@ -418,7 +444,7 @@ public class Controller
         MouseAdapter mouseListener = new MouseListener();
         renderPanel.addMouseMotionListener(mouseListener);
         renderPanel.addMouseListener(mouseListener);
-        renderPanel.addMouseWheelListener(Controller::enqueueMouseScrollEvent);
+        renderPanel.addMouseWheelListener(Controller::sampleMouseScrollEvent);
         frame().setIconImage(images.get("logo/logo.png"));
         mousePosition = new java.awt.Point(width / 2, height / 2);
         Thread mainThread = new Thread(Controller::run, "pi.main");
@@ -535,6 +561,7 @@ public class Controller
     {
         loop = new GameLoop(renderPanel, Controller::scene,
                 Controller::isDebug);
+        loop.inputRecorder(inputRecorder);
         sceneLaunchListeners.invoke(
             listener -> listener.onSceneLaunch(Controller.scene(), null));
         loop.run();
@@ -598,15 +625,112 @@ public class Controller
      *
      * @param event das Event.
      */
-    private static void enqueueMouseScrollEvent(MouseWheelEvent event)
+    private static void sampleMouseScrollEvent(MouseWheelEvent event)
     {
-        MouseScrollEvent mouseScrollEvent = new MouseScrollEvent(
-                event.getPreciseWheelRotation());
-        loop.enqueue(() -> {
-            mouseScrollListeners.invoke(
-                listener -> listener.onMouseScrollMove(mouseScrollEvent));
-            scene.invokeMouseScrollListeners(mouseScrollEvent);
-        });
+        if (loop != null)
+        {
+            loop.input()
+                .mouseScroll(System.nanoTime(),
+                    event.getPreciseWheelRotation());
+        }
+    }
+
+    /**
+     * Erzeugt den Empfänger, der die zu Beginn eines Einzelbilds zugestellten
+     * Eingaben an die globalen Beobachter und die Beobachter der aktuellen
+     * Szene weiterleitet.
+     *
+     * @param scene Liefert die Szene, an die die Eingaben weitergeleitet
+     *     werden.
+     *
+     * @return Der Empfänger der Eingaben.
+     *
+     * @since 0.53.0
+     *
+     * @hidden
+     */
+    @Internal
+    public static InputSink inputSink(Supplier<Scene> scene)
+    {
+        return new InputDispatcher(scene);
+    }
+
+    /**
+     * Gibt den <b>Zeitstempel</b> der zuletzt zugestellten Eingabe zurück.
+     *
+     * <p>
+     * Die Eingaben werden zu Beginn jedes Einzelbilds noch vor dem
+     * Simulationsschritt zugestellt. Innerhalb eines Beobachters für Tastatur-
+     * oder Mausereignisse lässt sich so bestimmen, wie lange die Eingabe
+     * zurückliegt, z.B. mit {@code System.nanoTime() - lastInputNanos()}.
+     * </p>
+     *
+     * @return Der Zeitstempel im Zeitsystem von {@link System#nanoTime()}. Bei
+     *     der Wiedergabe einer Aufzeichnung stammt er von einer virtuellen Uhr,
+     *     die mit {@code 0} beginnt.
+     *
+     * @since 0.53.0
+     */
+    @API
+    @Getter
+    public static long lastInputNanos()
+    {
+        return lastInputNanos;
+    }
+
+    /**
+     * Startet die <b>Aufzeichnung</b> der Eingaben und der Zeitspannen aller
+     * Einzelbilder in eine Datei.
+     *
+     * <p>
+     * Eine bereits laufende Aufzeichnung wird beendet. Die Aufzeichnung kann
+     * mit {@link pi.loop.HeadlessRunner#replay(InputReplay)} ohne Fenster
+     * wiedergegeben werden.
+     * </p>
+     *
+     * @param file Die Datei, in die aufgezeichnet wird.
+     *
+     * @throws UncheckedIOException Falls die Datei nicht geschrieben werden
+     *     kann.
+     *
+     * @since 0.53.0
+     */
+    @API
+    public static synchronized void recordInput(Path file)
+    {
+        stopInputRecording();
+        try
+        {
+            inputRecorder = new InputRecorder(Files.newOutputStream(file));
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException(e);
+        }
+        if (loop != null)
+        {
+            loop.inputRecorder(inputRecorder);
+        }
+    }
+
+    /**
+     * Beendet die laufende <b>Aufzeichnung</b> der Eingaben.
+     *
+     * @since 0.53.0
+     */
+    @API
+    public static synchronized void stopInputRecording()
+    {
+        if (inputRecorder == null)
+        {
+            return;
+        }
+        if (loop != null)
+        {
+            loop.inputRecorder(null);
+        }
+        inputRecorder.close();
+        inputRecorder = null;
     }
 
     /**
@@ -946,6 +1070,7 @@ public class Controller
     @API
     public static void exit()
     {
+        stopInputRecording();
         System.exit(0);
     }
 
@@ -1131,42 +1256,49 @@ public class Controller
         Photographer.get().toggleScreenRecording(duration);
     }
 
-    @SuppressWarnings("AssignmentToStaticFieldFromInstanceMethod")
     private static class MouseListener extends MouseAdapter
     {
         @Override
         public void mousePressed(MouseEvent event)
         {
-            enqueueMouseEvent(event, true);
+            sampleMouseEvent(event, true);
         }
 
         @Override
         public void mouseReleased(MouseEvent event)
         {
-            enqueueMouseEvent(event, false);
+            sampleMouseEvent(event, false);
         }
 
         @Override
         public void mouseEntered(MouseEvent event)
         {
-            mousePosition = event.getPoint();
+            sampleMouseMove(event);
         }
 
         @Override
         public void mouseMoved(MouseEvent event)
         {
-            mousePosition = event.getPoint();
+            sampleMouseMove(event);
         }
 
         @Override
         public void mouseDragged(MouseEvent event)
         {
-            mousePosition = event.getPoint();
+            sampleMouseMove(event);
+        }
+
+        private void sampleMouseMove(MouseEvent event)
+        {
+            if (loop != null)
+            {
+                loop.input()
+                    .mouseMove(System.nanoTime(), event.getX(), event.getY());
+            }
         }
 
-        private void enqueueMouseEvent(MouseEvent event, boolean down)
+        private void sampleMouseEvent(MouseEvent event, boolean down)
         {
-            Vector position = convertMousePosition(scene, event.getPoint());
             MouseButton button;
             switch (event.getButton())
             {
@@ -1182,20 +1314,12 @@ public class Controller
                 // Ignore event
                 return;
             }
-            loop.enqueue(() -> {
-                if (down)
-                {
-                    mouseClickListeners.invoke(
-                        listener -> listener.onMouseDown(position, button));
-                    scene.invokeMouseDownListeners(position, button);
-                }
-                else
-                {
-                    mouseClickListeners.invoke(
-                        listener -> listener.onMouseDown(position, button));
-                    scene.invokeMouseUpListeners(position, button);
-                }
-            });
+            if (loop != null)
+            {
+                loop.input()
+                    .mouseButton(System
+                        .nanoTime(), button, event.getX(), event.getY(), down);
+            }
         }
     }
 
@@ -1204,45 +1328,117 @@ public class Controller
         @Override
         public void keyPressed(KeyEvent event)
         {
-            enqueueKeyEvent(event, true);
+            sampleKeyEvent(event, true);
         }
 
         @Override
         public void keyReleased(KeyEvent event)
         {
-            enqueueKeyEvent(event, false);
+            sampleKeyEvent(event, false);
         }
 
-        private void enqueueKeyEvent(KeyEvent event, boolean down)
+        private void sampleKeyEvent(KeyEvent event, boolean down)
         {
-            boolean pressed = pressedKeys.contains(event.getKeyCode());
             if (down)
             {
-                if (pressed)
+                if (!heldKeys.add(event.getKeyCode()))
                 {
                     return; // Ignore duplicate presses, because they're system
                             // dependent
                 }
+            }
+            else
+            {
+                heldKeys.remove(event.getKeyCode());
+            }
+            if (loop == null)
+            {
+                return;
+            }
+            long nanos = System.nanoTime();
+            if (down)
+            {
+                loop.input().keyDown(nanos, event);
+            }
+            else
+            {
+                loop.input().keyUp(nanos, event);
+            }
+        }
+    }
+
+    /**
+     * Leitet die zu Beginn eines Einzelbilds zugestellten Eingaben an die
+     * globalen Beobachter und die Beobachter einer Szene weiter.
+     */
+    @SuppressWarnings("AssignmentToStaticFieldFromInstanceMethod")
+    private static final class InputDispatcher implements InputSink
+    {
+        private final Supplier<Scene> scene;
+
+        private InputDispatcher(Supplier<Scene> scene)
+        {
+            this.scene = scene;
+        }
+
+        @Override
+        public void onKey(long nanos, KeyEvent event, boolean down)
+        {
+            lastInputNanos = nanos;
+            Scene scene = this.scene.get();
+            if (down)
+            {
                 pressedKeys.add(event.getKeyCode());
+                keyStrokeListeners
+                    .invoke(keyListener -> keyListener.onKeyDown(event));
+                scene.invokeKeyDownListeners(event);
             }
             else
             {
                 pressedKeys.remove(event.getKeyCode());
+                keyStrokeListeners
+                    .invoke(keyListener -> keyListener.onKeyUp(event));
+                scene.invokeKeyUpListeners(event);
             }
-            loop.enqueue(() -> {
-                if (down)
-                {
-                    keyStrokeListeners
-                        .invoke(keyListener -> keyListener.onKeyDown(event));
-                    scene.invokeKeyDownListeners(event);
-                }
-                else
-                {
-                    keyStrokeListeners
-                        .invoke(keyListener -> keyListener.onKeyUp(event));
-                    scene.invokeKeyUpListeners(event);
-                }
-            });
+        }
+
+        @Override
+        public void onMouseButton(long nanos, MouseButton button, int x, int y,
+                boolean down)
+        {
+            lastInputNanos = nanos;
+            Scene scene = this.scene.get();
+            Vector position = convertMousePosition(scene,
+                new java.awt.Point(x, y));
+            if (down)
+            {
+                mouseClickListeners
+                    .invoke(listener -> listener.onMouseDown(position, button));
+                scene.invokeMouseDownListeners(position, button);
+            }
+            else
+            {
+                mouseClickListeners
+                    .invoke(listener -> listener.onMouseUp(position, button));
+                scene.invokeMouseUpListeners(position, button);
+            }
+        }
+
+        @Override
+        public void onMouseMove(long nanos, int x, int y)
+        {
+            lastInputNanos = nanos;
+            mousePosition = new java.awt.Point(x, y);
+        }
+
+        @Override
+        public void onMouseScroll(long nanos, double rotation)
+        {
+            lastInputNanos = nanos;
+            MouseScrollEvent event = new MouseScrollEvent(rotation);
+            mouseScrollListeners
+                .invoke(listener -> listener.onMouseScrollMove(event));
+            scene.get().invokeMouseScrollListeners(event);
         }
     }
 
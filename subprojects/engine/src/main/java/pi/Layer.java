@@ -23,13 +23,23 @@ package pi;
 import java.awt.Graphics2D;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
+import org.jbox2d.callbacks.QueryCallback;
+import org.jbox2d.collision.AABB;
+import org.jbox2d.common.Vec2;
 import org.jbox2d.dynamics.Body;
+import org.jbox2d.dynamics.Fixture;
 import org.jbox2d.dynamics.World;
+import org.jbox2d.dynamics.WorldSnapshot;
 import pi.actor.Actor;
 import pi.annotations.API;
 import pi.annotations.Getter;
@@ -46,10 +56,16 @@ import pi.event.MouseScrollListener;
 import pi.event.MouseScrollListenerRegistration;
 import pi.graphics.geom.Bounds;
 import pi.graphics.geom.Vector;
+import pi.loop.UpdateLod;
+import pi.physics.ActorFilter;
+import pi.physics.BakedColliders;
 import pi.physics.BodyHandler;
 import pi.physics.NullHandler;
 import pi.physics.PhysicsData;
 import pi.physics.PhysicsHandler;
+import pi.physics.PhysicsHistory;
+import pi.physics.RayHit;
+import pi.physics.SpatialQuery;
 import pi.physics.WorldHandler;
 
 /**
@@ -66,6 +82,51 @@ public class Layer implements KeyStrokeListenerRegistration,
     private static final Comparator<? super Actor> ACTOR_COMPARATOR = Comparator
         .comparingInt(Actor::layerPosition);
 
+    /**
+     * Die Zeichenreihenfolge: Figuren mit derselben Ebenenposition werden in
+     * der Reihenfolge gezeichnet, in der sie angemeldet wurden.
+     */
+    private static final Comparator<Actor> RENDER_COMPARATOR = Comparator
+        .<Actor>comparingInt(Actor::layerPosition)
+        .thenComparingLong(Actor::layerOrder);
+
+    /**
+     * Der zusätzliche Rand in Pixel, um den der sichtbare Bereich beim
+     * Aussortieren der nicht sichtbaren Figuren erweitert wird.
+     *
+     * <p>
+     * Beschriftungen und Umrisse können etwas über den Umriss der Figur in der
+     * Physics-Engine hinausragen und sollen am Bildrand nicht abgeschnitten
+     * werden.
+     * </p>
+     */
+    private static final int CULLING_MARGIN = 64;
+
+    /**
+     * Die Nummer des letzten Zeichendurchgangs, in dem nicht sichtbare Figuren
+     * aussortiert wurden. Die Nummer wird über alle Ebenen hinweg hochgezählt,
+     * damit eine Figur, die die Ebene wechselt, nicht fälschlicherweise als
+     * sichtbar gilt. Da die Ebenen auch nebenläufig gezeichnet werden, ist der
+     * Zähler atomar.
+     */
+    private static final AtomicLong cullingPasses = new AtomicLong();
+
+    /**
+     * Die Nummer des letzten Einzelbilds, in dem die Figuren im erweiterten
+     * sichtbaren Bereich für die {@link UpdateLod Aktualisierungsrate nach
+     * Sichtbarkeit} markiert wurden. Sie wird wie {@link #cullingPasses} über
+     * alle Ebenen hinweg hochgezählt.
+     */
+    private static final AtomicLong updatePasses = new AtomicLong();
+
+    /**
+     * Die fortlaufende Nummer, mit der die Figuren beim Anmelden an einer Ebene
+     * versehen werden.
+     *
+     * @see Actor#layerOrder()
+     */
+    private static final AtomicLong layerOrders = new AtomicLong();
+
     private <T> Supplier<T> createParentSupplier(Function<Scene, T> supplier)
     {
         return () -> {
@@ -107,6 +168,170 @@ public class Layer implements KeyStrokeListenerRegistration,
 
     private boolean visible = true;
 
+    /**
+     * Gibt an, ob nur die Figuren gezeichnet werden, die sich im sichtbaren
+     * Bereich der Ebene befinden.
+     */
+    private boolean culling = false;
+
+    /**
+     * Die Nummer des aktuellen Zeichendurchgangs. Figuren, die beim Durchsuchen
+     * des sichtbaren Bereichs gefunden werden, werden mit dieser Nummer
+     * markiert.
+     */
+    private long cullingPass;
+
+    /**
+     * Der sichtbare Bereich der Ebene in Meter, der bei jedem Zeichendurchgang
+     * neu befüllt wird.
+     */
+    private final AABB cullingBounds = new AABB();
+
+    /**
+     * Die im aktuellen Zeichendurchgang gefundenen sichtbaren Figuren. Die
+     * Liste wird wiederverwendet, damit beim Zeichnen keine neuen Objekte
+     * angelegt werden müssen.
+     */
+    private final List<Actor> visibleActors = new ArrayList<>();
+
+    /**
+     * Ein wiederverwendeter Begrenzungsrahmen, um die Halterungen von Figuren,
+     * die nicht im Suchbaum verzeichnet sind, mit dem sichtbaren Bereich zu
+     * vergleichen.
+     */
+    private final AABB fixtureBounds = new AABB();
+
+    /**
+     * Ein wiederverwendeter Vektor für den Mittelpunkt von Figuren ohne
+     * Halterungen beim Aussortieren.
+     */
+    private final Vec2 cullingCenter = new Vec2();
+
+    /**
+     * Die Figuren, die nicht im Suchbaum verzeichnet sind und beim Aussortieren
+     * einzeln geprüft werden. Die Liste wird nur während des Zeichnens befüllt.
+     */
+    private final List<Actor> unindexedActors = new ArrayList<>();
+
+    /**
+     * Die Zusammenfassungen statischer Figuren dieser Ebene. Die Körper der
+     * zusammengefassten Figuren sind deaktiviert und nicht im Suchbaum
+     * verzeichnet.
+     */
+    private final List<BakedColliders> bakedColliders = new ArrayList<>();
+
+    /**
+     * Die Einstellungen der Aktualisierungsrate nach Sichtbarkeit.
+     */
+    private final UpdateLod updateLod = new UpdateLod();
+
+    /**
+     * Zählt die Einzelbilder dieser Ebene, um die seltener aktualisierten
+     * Figuren gleichmäßig auf die Einzelbilder zu verteilen.
+     */
+    private long updateFrame;
+
+    /**
+     * Ordnet die Bildbeobachter der Figuren ihrer Figur zu. Der Eintrag wird
+     * beim An- und Abmelden der Beobachter gepflegt, sodass die
+     * {@link UpdateLod Aktualisierungsrate nach Sichtbarkeit} die Besitzerin
+     * eines Beobachters ohne Sperre nachschlagen kann.
+     */
+    private final Map<FrameListener, Actor> frameListenerOwners = new ConcurrentHashMap<>();
+
+    /**
+     * Die Körper, die von der Aktualisierungsrate nach Sichtbarkeit schlafen
+     * gelegt wurden, mit ihren Geschwindigkeiten vor dem Einschlafen.
+     */
+    private final List<SleptBody> sleptBodies = new ArrayList<>();
+
+    /**
+     * Ein schlafen gelegter Körper und seine Geschwindigkeiten, die beim
+     * Aufwecken wiederhergestellt werden.
+     */
+    private record SleptBody(Actor actor, Body body, Vec2 velocity,
+            float angularVelocity)
+    {
+    }
+
+    /**
+     * Die vergangene Zeit des aktuellen Einzelbilds in Sekunden.
+     */
+    private double frameSeconds;
+
+    /**
+     * Benachrichtigt die Bildbeobachter in der Reihenfolge ihrer Anmeldung. Die
+     * Beobachter einer Figur erhalten die für die Figur festgelegte Zeit oder
+     * werden übersprungen.
+     */
+    private final Consumer<FrameListener> scheduledFrameInvoker = listener -> {
+        Actor owner = frameListenerOwners.get(listener);
+        if (owner == null)
+        {
+            listener.onFrame(frameSeconds);
+            return;
+        }
+        double time = owner.scheduledFrameTime();
+        if (!Double.isNaN(time))
+        {
+            listener.onFrame(time);
+        }
+    };
+
+    /**
+     * Die Nummer des aktuellen Einzelbilds der Aktualisierungsrate nach
+     * Sichtbarkeit.
+     */
+    private long updatePass;
+
+    /**
+     * Der erweiterte sichtbare Bereich der Ebene in Meter, der bei jedem
+     * Einzelbild neu befüllt wird.
+     */
+    private final AABB updateBounds = new AABB();
+
+    /**
+     * Markiert alle Figuren, deren Halterungen sich mit dem erweiterten
+     * sichtbaren Bereich überschneiden.
+     */
+    private final QueryCallback updateCallback = fixture -> {
+        if (fixture.getBody().getUserData() instanceof Actor actor)
+        {
+            actor.updatePass(updatePass);
+        }
+        return true;
+    };
+
+    /**
+     * Die Dauer des letzten Simulationsschritts in Nanosekunden.
+     */
+    private volatile long stepNanos;
+
+    /**
+     * Die Dauer des letzten Zeichendurchgangs in Nanosekunden.
+     */
+    private long renderNanos;
+
+    /**
+     * Sammelt alle Figuren, deren Halterungen (Fixtures) sich mit dem
+     * sichtbaren Bereich überschneiden. Figuren mit mehreren Halterungen werden
+     * über die Nummer des Zeichendurchgangs nur einmal aufgenommen.
+     *
+     * <p>
+     * Der Beobachter wird nur einmal erzeugt, damit beim Zeichnen keine neuen
+     * Objekte angelegt werden müssen.
+     * </p>
+     */
+    private final QueryCallback cullingCallback = fixture -> {
+        if (fixture.getBody().getUserData() instanceof Actor actor
+                && actor.cullingPass() != cullingPass)
+        {
+            actor.cullingPass(cullingPass);
+            visibleActors.add(actor);
+        }
+        return true;
+    };
+
     /**
      * Die <b>Szene</b>, zu der diese Ebene gehört.
      */
@@ -114,6 +339,8 @@ public class Layer implements KeyStrokeListenerRegistration,
 
     private final WorldHandler worldHandler;
 
+    private final SpatialQuery spatialQuery;
+
     private final EventListeners<KeyStrokeListener> keyStrokeListeners = new EventListeners<>(
             createParentSupplier(Scene::keyStrokeListeners));
 
@@ -132,6 +359,7 @@ public class Layer implements KeyStrokeListenerRegistration,
     public Layer()
     {
         worldHandler = new WorldHandler(this);
+        spatialQuery = new SpatialQuery(this);
         actors = new ArrayList<>();
         addedActors = new ArrayList<>();
         EventListeners.registerListeners(this);
@@ -404,6 +632,61 @@ public class Layer implements KeyStrokeListenerRegistration,
         return visible;
     }
 
+    /**
+     * Setzt, ob beim Zeichnen nur die Figuren berücksichtigt werden sollen, die
+     * sich im <b>sichtbaren Bereich</b> der Ebene befinden.
+     *
+     * <p>
+     * Die sichtbaren Figuren werden über den räumlichen Suchbaum (dynamic AABB
+     * tree) der Physics-Engine ermittelt, in dem die Umrisse aller Figuren
+     * dieser Ebene ohnehin verwaltet werden. Gezeichnet werden nur die
+     * gefundenen Figuren, der Aufwand hängt also nicht von der Gesamtzahl der
+     * Figuren der Ebene ab. Die Zeichenreihenfolge der sichtbaren Figuren
+     * bleibt unverändert. Standardmäßig ist das Aussortieren
+     * <b>deaktiviert</b>.
+     * </p>
+     *
+     * <p>
+     * Ob eine Figur sichtbar ist, wird anhand ihres Umrisses in der
+     * Physics-Engine entschieden, der um einen Rand von 64 Pixel erweitert
+     * wird. Figuren, die deutlich über ihren Umriss hinaus gezeichnet werden,
+     * können deshalb am Bildrand zu früh verschwinden. Figuren ohne Halterungen
+     * (Fixtures) werden gezeichnet, wenn der Mittelpunkt ihres Körpers im
+     * erweiterten sichtbaren Bereich liegt.
+     * </p>
+     *
+     * @param culling {@code true}, wenn nicht sichtbare Figuren nicht
+     *     gezeichnet werden sollen, sonst {@code false}.
+     *
+     * @see #isCulling()
+     *
+     * @since 0.53.0
+     */
+    @API
+    @Setter
+    public void culling(boolean culling)
+    {
+        this.culling = culling;
+    }
+
+    /**
+     * Gibt an, ob beim Zeichnen nur die Figuren berücksichtigt werden, die sich
+     * im <b>sichtbaren Bereich</b> der Ebene befinden.
+     *
+     * @return {@code true}, wenn nicht sichtbare Figuren nicht gezeichnet
+     *     werden, sonst {@code false}.
+     *
+     * @see #culling(boolean)
+     *
+     * @since 0.53.0
+     */
+    @API
+    @Getter
+    public boolean isCulling()
+    {
+        return culling;
+    }
+
     /**
      * Fügt eine oder mehrere {@link Actor Figuren} der Ebene hinzu.
      *
@@ -435,9 +718,11 @@ public class Layer implements KeyStrokeListenerRegistration,
                         oldHandler.physicsData(), worldHandler);
                 actor.physicsHandler(newHandler);
                 oldHandler.applyMountCallbacks(newHandler);
+                actor.layerOrder(layerOrders.incrementAndGet());
                 this.actors.add(actor);
             }
-            this.actors.sort(ACTOR_COMPARATOR);
+            this.actors.sort(RENDER_COMPARATOR);
+            spatialQuery.invalidate();
         });
     }
 
@@ -454,6 +739,7 @@ public class Layer implements KeyStrokeListenerRegistration,
             addedActors.remove(actor);
         }
         defer(() -> {
+            spatialQuery.invalidate();
             for (Actor actor : actors)
             {
                 this.actors.remove(actor);
@@ -490,6 +776,138 @@ public class Layer implements KeyStrokeListenerRegistration,
         }
     }
 
+    /**
+     * <b>Fasst viele statische Figuren</b> zu einem einzigen Körper mit wenigen
+     * Halterungen zusammen, z.B. die Mauersteine eines Labyrinths.
+     *
+     * <p>
+     * Die Umrisse aller achsenparallelen rechteckigen Halterungen werden
+     * vereinigt und als geschlossene Linienzüge an einen gemeinsamen statischen
+     * Körper gehängt. Das verringert die Anzahl der Einträge in der Broadphase
+     * und verhindert, dass Figuren an den Fugen zwischen benachbarten Steinen
+     * hängen bleiben. Die Figuren werden weiterhin gezeichnet, und
+     * Kollisionsbeobachter melden weiterhin die einzelne berührte Figur.
+     * </p>
+     *
+     * <p>
+     * Die Figuren werden mit Verzögerung durch die Methode
+     * {@link #defer(Runnable)} zusammengefasst, also erst nachdem alle zuvor
+     * hinzugefügten Figuren angemeldet wurden.
+     * </p>
+     *
+     * @param actors Die Figuren, die zusammengefasst werden sollen. Figuren,
+     *     die nicht statisch sind oder andere Halterungen als Vielecke
+     *     besitzen, werden übersprungen.
+     *
+     * @return Die Zusammenfassung, über die sie auch wieder aufgehoben werden
+     *     kann.
+     *
+     * @since 0.53.0
+     */
+    @API
+    public BakedColliders bakeStaticColliders(
+            Collection<? extends Actor> actors)
+    {
+        BakedColliders baked = new BakedColliders(worldHandler, actors);
+        bakedColliders.add(baked);
+        defer(baked::bake);
+        return baked;
+    }
+
+    /**
+     * <b>Erfasst</b> den Zustand der Physik dieser Ebene in einem neuen
+     * {@link WorldSnapshot Schnappschuss}.
+     *
+     * <p>
+     * Um jedes Einzelbild einen Schnappschuss zu erfassen, sollte ein
+     * vorhandener Schnappschuss mit {@link #captureSnapshot(WorldSnapshot)}
+     * wiederverwendet werden.
+     * </p>
+     *
+     * @return Der neue Schnappschuss.
+     *
+     * @see #restoreSnapshot(WorldSnapshot)
+     *
+     * @since 0.53.0
+     */
+    @API
+    public WorldSnapshot captureSnapshot()
+    {
+        return worldHandler.captureSnapshot(new WorldSnapshot());
+    }
+
+    /**
+     * <b>Erfasst</b> den Zustand der Physik dieser Ebene in einem vorhandenen
+     * {@link WorldSnapshot Schnappschuss}.
+     *
+     * @param snapshot Der Schnappschuss, der überschrieben wird.
+     *
+     * @return Der übergebene Schnappschuss.
+     *
+     * @see WorldHandler#captureSnapshot(WorldSnapshot)
+     *
+     * @since 0.53.0
+     */
+    @API
+    public WorldSnapshot captureSnapshot(WorldSnapshot snapshot)
+    {
+        return worldHandler.captureSnapshot(snapshot);
+    }
+
+    /**
+     * <b>Stellt</b> den Zustand der Physik dieser Ebene aus einem
+     * {@link WorldSnapshot Schnappschuss} bitgenau <b>wieder her</b>.
+     *
+     * @param snapshot Der Schnappschuss, der mit {@link #captureSnapshot()}
+     *     erfasst wurde.
+     *
+     * @see WorldHandler#restoreSnapshot(WorldSnapshot)
+     *
+     * @since 0.53.0
+     */
+    @API
+    public void restoreSnapshot(WorldSnapshot snapshot)
+    {
+        worldHandler.restoreSnapshot(snapshot);
+    }
+
+    /**
+     * Beginnt, den Zustand der Physik dieser Ebene nach jedem
+     * Simulationsschritt in einem {@link PhysicsHistory Verlauf} zu erfassen,
+     * mit dem sie z.B. für ein Rollback oder eine Wiederholung
+     * <b>zurückgespult</b> werden kann.
+     *
+     * @param seconds Die Dauer in Sekunden, um die höchstens zurückgespult
+     *     werden kann, oder {@code 0}, um den Verlauf zu beenden.
+     *
+     * @return Der neue Verlauf oder {@code null}, falls er beendet wurde.
+     *
+     * @see WorldHandler#recordHistory(double)
+     *
+     * @since 0.53.0
+     */
+    @API
+    public PhysicsHistory recordPhysicsHistory(double seconds)
+    {
+        return worldHandler.recordHistory(seconds);
+    }
+
+    /**
+     * Gibt den {@link PhysicsHistory Verlauf} der Physik dieser Ebene zurück.
+     *
+     * @return Der Verlauf oder {@code null}, falls keiner erfasst wird.
+     *
+     * @see #recordPhysicsHistory(double)
+     *
+     * @since 0.53.0
+     */
+    @API
+    @Getter
+    public PhysicsHistory physicsHistory()
+    {
+        return worldHandler.history();
+    }
+
     /**
      * Gibt alle <b>Figuren</b> dieser Ebene, die <b>bereits in der
      * Physics-Engine</b> registriert sind, als Liste zurück.
@@ -531,6 +949,152 @@ public class Layer implements KeyStrokeListenerRegistration,
         return addedActors;
     }
 
+    /* spatial query */
+
+    /**
+     * Gibt die <b>räumlichen Abfragen</b> dieser Ebene zurück.
+     *
+     * @return Die räumlichen Abfragen dieser Ebene.
+     *
+     * @since 0.53.0
+     */
+    @API
+    @Getter
+    public SpatialQuery spatialQuery()
+    {
+        return spatialQuery;
+    }
+
+    /**
+     * Hängt alle Figuren an, deren Begrenzungsrahmen sich mit einem
+     * <b>Rechteck</b> überschneidet, ohne alle Figuren der Ebene zu
+     * durchlaufen.
+     *
+     * @param x Die x-Koordinate der linken unteren Ecke in Meter.
+     * @param y Die y-Koordinate der linken unteren Ecke in Meter.
+     * @param width Die Breite des Rechtecks in Meter.
+     * @param height Die Höhe des Rechtecks in Meter.
+     * @param filter Der Filter, z.B. {@link ActorFilter#type(Class)}, oder
+     *     {@code null} für alle Figuren.
+     * @param result Die Liste, an die die gefundenen Figuren angehängt werden.
+     *
+     * @return Die Anzahl der angehängten Figuren.
+     *
+     * @see SpatialQuery
+     *
+     * @since 0.53.0
+     */
+    @API
+    public int actorsInArea(double x, double y, double width, double height,
+            ActorFilter filter, List<Actor> result)
+    {
+        return spatialQuery.actorsInArea(x, y, width, height, filter, result);
+    }
+
+    /**
+     * Hängt alle Figuren an, deren Begrenzungsrahmen sich mit einem
+     * <b>Rechteck</b> überschneidet.
+     *
+     * @param area Das Rechteck in Meter.
+     * @param filter Der Filter oder {@code null} für alle Figuren.
+     * @param result Die Liste, an die die gefundenen Figuren angehängt werden.
+     *
+     * @return Die Anzahl der angehängten Figuren.
+     *
+     * @since 0.53.0
+     */
+    @API
+    public int actorsInArea(Bounds area, ActorFilter filter, List<Actor> result)
+    {
+        return spatialQuery.actorsInArea(area
+            .x(), area.y(), area.width(), area.height(), filter, result);
+    }
+
+    /**
+     * Hängt alle Figuren an, deren Begrenzungsrahmen höchstens den angegebenen
+     * <b>Abstand</b> zu einem Punkt hat.
+     *
+     * @param x Die x-Koordinate des Mittelpunkts in Meter.
+     * @param y Die y-Koordinate des Mittelpunkts in Meter.
+     * @param radius Der Radius in Meter.
+     * @param filter Der Filter oder {@code null} für alle Figuren.
+     * @param result Die Liste, an die die gefundenen Figuren angehängt werden.
+     *
+     * @return Die Anzahl der angehängten Figuren.
+     *
+     * @since 0.53.0
+     */
+    @API
+    public int actorsInRadius(double x, double y, double radius,
+            ActorFilter filter, List<Actor> result)
+    {
+        return spatialQuery.actorsInRadius(x, y, radius, filter, result);
+    }
+
+    /**
+     * Sucht die <b>erste</b> Figur, die ein <b>Strahl</b> trifft.
+     *
+     * @param fromX Die x-Koordinate des Startpunkts in Meter.
+     * @param fromY Die y-Koordinate des Startpunkts in Meter.
+     * @param toX Die x-Koordinate des Endpunkts in Meter.
+     * @param toY Die y-Koordinate des Endpunkts in Meter.
+     * @param filter Der Filter oder {@code null} für alle Figuren.
+     * @param hit Nimmt den Treffer auf.
+     *
+     * @return {@code true}, falls eine Figur getroffen wurde.
+     *
+     * @since 0.53.0
+     */
+    @API
+    public boolean raycast(double fromX, double fromY, double toX, double toY,
+            ActorFilter filter, RayHit hit)
+    {
+        return spatialQuery.raycast(fromX, fromY, toX, toY, filter, hit);
+    }
+
+    /**
+     * Hängt alle Figuren, die ein <b>Strahl</b> trifft, nach ihrer Entfernung
+     * vom Startpunkt sortiert an.
+     *
+     * @param fromX Die x-Koordinate des Startpunkts in Meter.
+     * @param fromY Die y-Koordinate des Startpunkts in Meter.
+     * @param toX Die x-Koordinate des Endpunkts in Meter.
+     * @param toY Die y-Koordinate des Endpunkts in Meter.
+     * @param filter Der Filter oder {@code null} für alle Figuren.
+     * @param result Die Liste, an die die getroffenen Figuren angehängt werden.
+     *
+     * @return Die Anzahl der angehängten Figuren.
+     *
+     * @since 0.53.0
+     */
+    @API
+    public int raycastAll(double fromX, double fromY, double toX, double toY,
+            ActorFilter filter, List<Actor> result)
+    {
+        return spatialQuery.raycastAll(fromX, fromY, toX, toY, filter, result);
+    }
+
+    /**
+     * Hängt die {@code k} <b>nächstgelegenen</b> Figuren aufsteigend nach ihrem
+     * Abstand zum angegebenen Punkt an.
+     *
+     * @param x Die x-Koordinate des Punkts in Meter.
+     * @param y Die y-Koordinate des Punkts in Meter.
+     * @param k Die Anzahl der gesuchten Figuren.
+     * @param filter Der Filter oder {@code null} für alle Figuren.
+     * @param result Die Liste, an die die gefundenen Figuren angehängt werden.
+     *
+     * @return Die Anzahl der angehängten Figuren.
+     *
+     * @since 0.53.0
+     */
+    @API
+    public int nearestActors(double x, double y, int k, ActorFilter filter,
+            List<Actor> result)
+    {
+        return spatialQuery.nearestActors(x, y, k, filter, result);
+    }
+
     /**
      * Übersetzt einen Punkt auf diesem Layer zu der analogen, aktuellen
      * Pixelkoordinate im zum zeichnenden Frame.
@@ -634,8 +1198,10 @@ public class Layer implements KeyStrokeListenerRegistration,
     {
         if (!visible)
         {
+            renderNanos = 0;
             return;
         }
+        long start = System.nanoTime();
 
         Vector cameraFocus = camera.focus();
         double rotation = -camera.rotation();
@@ -645,13 +1211,25 @@ public class Layer implements KeyStrokeListenerRegistration,
         g.rotate(Math.toRadians(rotation) * parallaxRotation, 0, 0);
         g.translate((-cameraFocus.x() * parallaxX) * pixelPerMeter,
             (cameraFocus.y() * parallaxY) * pixelPerMeter);
+        if (culling && collectVisibleActors(cameraFocus,
+            rotation,
+            pixelPerMeter,
+            width,
+            height))
+        {
+            for (Actor actor : visibleActors)
+            {
+                actor.renderBasic(g, pixelPerMeter);
+            }
+            visibleActors.clear();
+            renderNanos = System.nanoTime() - start;
+            return;
+        }
         boolean needsSort = false;
         int previousPosition = Integer.MIN_VALUE;
         for (Actor actor : actors)
         {
-            actor.renderBasic(g,
-
-                pixelPerMeter);
+            actor.renderBasic(g, pixelPerMeter);
             if (!needsSort)
             {
                 int actorPosition = actor.layerPosition();
@@ -664,8 +1242,147 @@ public class Layer implements KeyStrokeListenerRegistration,
         }
         if (needsSort)
         {
-            actors.sort(ACTOR_COMPARATOR);
+            actors.sort(RENDER_COMPARATOR);
+        }
+        renderNanos = System.nanoTime() - start;
+    }
+
+    /**
+     * Sammelt alle Figuren, die sich im <b>sichtbaren Bereich</b> der Ebene
+     * befinden, in Zeichenreihenfolge in {@link #visibleActors}.
+     *
+     * <p>
+     * Der sichtbare Bereich berücksichtigt die Parallaxe der Ebene. Ist die
+     * Kamera gedreht, so wird der achsenparallele Begrenzungsrahmen des
+     * gedrehten Bildausschnitts verwendet. Die Figuren im Suchbaum werden über
+     * die Physics-Engine gefunden. Zusammengefasste Figuren und die übrigen
+     * Figuren, die nicht im Suchbaum verzeichnet sind, werden einzeln geprüft.
+     * </p>
+     *
+     * @param cameraFocus Der Fokus der Kamera in Meter.
+     * @param rotation Die Drehung der Kamera in Grad.
+     * @param pixelPerMeter Die Anzahl an Pixel, die ein Meter misst.
+     * @param width Die Breite des Fensters in Pixel.
+     * @param height Die Höhe des Fensters in Pixel.
+     *
+     * @return {@code true}, wenn die sichtbaren Figuren gesammelt wurden, und
+     *     {@code false}, falls der sichtbare Bereich nicht bestimmt werden
+     *     konnte und deshalb alle Figuren gezeichnet werden müssen.
+     */
+    private boolean collectVisibleActors(Vector cameraFocus, double rotation,
+            double pixelPerMeter, int width, int height)
+    {
+        if (pixelPerMeter <= 0)
+        {
+            return false;
+        }
+        visibleBounds(cullingBounds,
+            cameraFocus,
+            rotation,
+            (width / 2.0 + CULLING_MARGIN) / pixelPerMeter,
+            (height / 2.0 + CULLING_MARGIN) / pixelPerMeter);
+        cullingPass = cullingPasses.incrementAndGet();
+        visibleActors.clear();
+        world().queryAABB(cullingCallback, cullingBounds);
+        bakedColliders.removeIf(BakedColliders::isReleased);
+        for (BakedColliders baked : bakedColliders)
+        {
+            for (Actor actor : baked.actors())
+            {
+                if (actor.cullingPass() != cullingPass
+                        && overlapsCullingBounds(actor))
+                {
+                    actor.cullingPass(cullingPass);
+                    visibleActors.add(actor);
+                }
+            }
+        }
+        spatialQuery.unindexedActors(unindexedActors);
+        for (int i = 0; i < unindexedActors.size(); i++)
+        {
+            Actor actor = unindexedActors.get(i);
+            if (actor.cullingPass() != cullingPass
+                    && overlapsCullingBounds(actor))
+            {
+                actor.cullingPass(cullingPass);
+                visibleActors.add(actor);
+            }
+        }
+        unindexedActors.clear();
+        visibleActors.sort(RENDER_COMPARATOR);
+        return true;
+    }
+
+    /**
+     * Gibt an, ob sich eine Halterung einer Figur, deren Körper nicht im
+     * Suchbaum verzeichnet ist, mit dem sichtbaren Bereich überschneidet. Bei
+     * Figuren ohne Halterungen entscheidet der Mittelpunkt des Körpers.
+     */
+    private boolean overlapsCullingBounds(Actor actor)
+    {
+        Body body = actor.physicsHandler().body();
+        if (body == null || body.fixtureList == null)
+        {
+            Vec2 center = actor.physicsHandler().center(cullingCenter);
+            return center.x >= cullingBounds.lowerBound.x
+                    && center.x <= cullingBounds.upperBound.x
+                    && center.y >= cullingBounds.lowerBound.y
+                    && center.y <= cullingBounds.upperBound.y;
+        }
+        for (Fixture fixture = body.fixtureList; fixture != null; fixture = fixture.next)
+        {
+            for (int child = 0; child < fixture.shape.getChildCount(); child++)
+            {
+                fixture.shape.computeAABB(fixtureBounds, body.xf, child);
+                if (AABB.testOverlap(fixtureBounds, cullingBounds))
+                {
+                    return true;
+                }
+            }
         }
+        return false;
+    }
+
+    /**
+     * Befüllt einen achsenparallelen Begrenzungsrahmen mit dem sichtbaren
+     * Bereich der Ebene unter Berücksichtigung der Parallaxe und der Drehung
+     * der Kamera.
+     *
+     * @param bounds Der zu befüllende Begrenzungsrahmen.
+     * @param cameraFocus Der Fokus der Kamera in Meter.
+     * @param rotation Die Drehung der Kamera in Grad.
+     * @param halfWidth Die halbe Breite des Bildausschnitts in Meter.
+     * @param halfHeight Die halbe Höhe des Bildausschnitts in Meter.
+     */
+    private void visibleBounds(AABB bounds, Vector cameraFocus, double rotation,
+            double halfWidth, double halfHeight)
+    {
+        double radians = Math.toRadians(rotation) * parallaxRotation;
+        double cos = Math.abs(Math.cos(radians));
+        double sin = Math.abs(Math.sin(radians));
+        double extentX = cos * halfWidth + sin * halfHeight;
+        double extentY = sin * halfWidth + cos * halfHeight;
+        double centerX = cameraFocus.x() * parallaxX;
+        double centerY = cameraFocus.y() * parallaxY;
+        bounds.lowerBound.set((float) (centerX - extentX),
+            (float) (centerY - extentY));
+        bounds.upperBound.set((float) (centerX + extentX),
+            (float) (centerY + extentY));
+    }
+
+    /**
+     * Gibt an, ob eine Figur im räumlichen Suchbaum der Physics-Engine
+     * verzeichnet ist.
+     *
+     * <p>
+     * Figuren ohne Halterungen (Fixtures) oder mit einem inaktiven Körper
+     * können nicht über den Suchbaum gefunden werden.
+     * </p>
+     */
+    private static boolean isIndexed(Actor actor)
+    {
+        Body body = actor.physicsHandler().body();
+        return body != null && body.isActive() && body.fixtureList != null;
     }
 
     /**
@@ -694,10 +1411,46 @@ public class Layer implements KeyStrokeListenerRegistration,
     @Internal
     public void step(double pastTime)
     {
+        long start = System.nanoTime();
         synchronized (worldHandler)
         {
             worldHandler.step(pastTime * timeDistort);
         }
+        stepNanos = System.nanoTime() - start;
+    }
+
+    /**
+     * Gibt die Dauer des letzten {@link #step(double) Simulationsschritts} in
+     * Nanosekunden zurück.
+     *
+     * @return Die Dauer des letzten Simulationsschritts in Nanosekunden.
+     *
+     * @since 0.53.0
+     *
+     * @hidden
+     */
+    @Internal
+    @Getter
+    public long stepNanos()
+    {
+        return stepNanos;
+    }
+
+    /**
+     * Gibt die Dauer des letzten {@link #render(Graphics2D, Camera, int, int)
+     * Zeichendurchgangs} in Nanosekunden zurück.
+     *
+     * @return Die Dauer des letzten Zeichendurchgangs in Nanosekunden.
+     *
+     * @since 0.53.0
+     *
+     * @hidden
+     */
+    @Internal
+    @Getter
+    public long renderNanos()
+    {
+        return renderNanos;
     }
 
     @API
@@ -707,6 +1460,36 @@ public class Layer implements KeyStrokeListenerRegistration,
         return frameUpdateListeners;
     }
 
+    /**
+     * Meldet einen Bildbeobachter einer Figur an dieser Ebene an und merkt sich
+     * die Figur als seine Besitzerin.
+     *
+     * @param actor Die Figur, zu der der Beobachter gehört.
+     * @param listener Der Beobachter.
+     *
+     * @hidden
+     */
+    @Internal
+    public void addActorFrameListener(Actor actor, FrameListener listener)
+    {
+        frameListenerOwners.put(listener, actor);
+        frameUpdateListeners.add(listener);
+    }
+
+    /**
+     * Meldet einen Bildbeobachter einer Figur von dieser Ebene ab.
+     *
+     * @param listener Der Beobachter.
+     *
+     * @hidden
+     */
+    @Internal
+    public void removeActorFrameListener(FrameListener listener)
+    {
+        frameUpdateListeners.remove(listener);
+        frameListenerOwners.remove(listener);
+    }
+
     @API
     @Getter
     public EventListeners<KeyStrokeListener> keyStrokeListeners()
@@ -728,6 +1511,29 @@ public class Layer implements KeyStrokeListenerRegistration,
         return mouseScrollListeners;
     }
 
+    /**
+     * Gibt die Einstellungen der <b>Aktualisierungsrate nach Sichtbarkeit</b>
+     * zurück.
+     *
+     * <p>
+     * Ist sie aktiviert, werden die Bildbeobachter von Figuren außerhalb des
+     * sichtbaren Bereichs seltener oder gar nicht benachrichtigt und die Körper
+     * weit entfernter Figuren schlafen gelegt.
+     * </p>
+     *
+     * @return Die Einstellungen der Aktualisierungsrate dieser Ebene.
+     *
+     * @see Actor#alwaysUpdate(boolean)
+     *
+     * @since 0.53.0
+     */
+    @API
+    @Getter
+    public UpdateLod updateLod()
+    {
+        return updateLod;
+    }
+
     /**
      * @hidden
      */
@@ -735,7 +1541,206 @@ public class Layer implements KeyStrokeListenerRegistration,
     void invokeFrameListeners(double pastTime)
     {
         double scaledSeconds = pastTime * timeDistort;
+        long frame = updateFrame++;
+        if (updateLod.isEnabled() && markUpdatedActors())
+        {
+            wakeSleptBodies(updateLod.sleepDistance());
+            scheduleActorFrames(scaledSeconds, frame);
+            frameSeconds = scaledSeconds;
+            frameUpdateListeners.invoke(scheduledFrameInvoker);
+            return;
+        }
+        wakeSleptBodies(0);
         frameUpdateListeners.invoke(
             frameUpdateListener -> frameUpdateListener.onFrame(scaledSeconds));
     }
+
+    /**
+     * Legt für alle Figuren fest, ob ihre Bildbeobachter im aktuellen
+     * Einzelbild benachrichtigt werden. Figuren außerhalb des erweiterten
+     * sichtbaren Bereichs werden nur in jedem n-ten Einzelbild oder gar nicht
+     * benachrichtigt.
+     */
+    private void scheduleActorFrames(double pastTime, long frame)
+    {
+        int interval = updateLod.offscreenInterval();
+        boolean freeze = updateLod.isFreezingOffscreen();
+        double sleepDistance = updateLod.sleepDistance();
+        int updated = 0, throttled = 0, frozen = 0, slept = 0;
+        for (int i = 0; i < actors.size(); i++)
+        {
+            Actor actor = actors.get(i);
+            boolean hasFrameListeners = actor.hasFrameListeners();
+            if (actor.isAlwaysUpdated() || isInUpdateBounds(actor))
+            {
+                if (hasFrameListeners)
+                {
+                    actor.scheduleFrame(pastTime, true);
+                    updated++;
+                }
+                continue;
+            }
+            if (sleepDistance > 0 && sleepIfDistant(actor, sleepDistance))
+            {
+                slept++;
+            }
+            if (!hasFrameListeners)
+            {
+                continue;
+            }
+            if (freeze)
+            {
+                actor.scheduleFrame(0, false);
+                frozen++;
+            }
+            else if ((frame + i) % interval == 0)
+            {
+                actor.scheduleFrame(pastTime, true);
+                updated++;
+            }
+            else
+            {
+                actor.scheduleFrame(pastTime, false);
+                throttled++;
+            }
+        }
+        updateLod.record(updated, throttled, frozen, slept);
+    }
+
+    /**
+     * Markiert alle Figuren, die sich im um den {@link UpdateLod#margin() Rand}
+     * erweiterten sichtbaren Bereich befinden.
+     *
+     * @return {@code true}, wenn die Figuren markiert wurden, und
+     *     {@code false}, falls der sichtbare Bereich nicht bestimmt werden
+     *     konnte und deshalb alle Figuren aktualisiert werden müssen.
+     */
+    private boolean markUpdatedActors()
+    {
+        if (scene == null)
+        {
+            return false;
+        }
+        double pixelPerMeter = calculatePixelPerMeter();
+        if (pixelPerMeter <= 0)
+        {
+            return false;
+        }
+        Camera camera = scene.camera();
+        Vector windowSize = Controller.windowSize();
+        visibleBounds(updateBounds,
+            camera.focus(),
+            -camera.rotation(),
+            windowSize.x() / 2 / pixelPerMeter + updateLod.margin(),
+            windowSize.y() / 2 / pixelPerMeter + updateLod.margin());
+        updatePass = updatePasses.incrementAndGet();
+        world().queryAABB(updateCallback, updateBounds);
+        return true;
+    }
+
+    /**
+     * Gibt an, ob sich eine Figur im erweiterten sichtbaren Bereich befindet.
+     * Bei Figuren, die nicht im Suchbaum verzeichnet sind, entscheidet die Lage
+     * ihres Körpers.
+     */
+    private boolean isInUpdateBounds(Actor actor)
+    {
+        if (actor.updatePass() == updatePass)
+        {
+            return true;
+        }
+        if (isIndexed(actor))
+        {
+            return false;
+        }
+        Body body = actor.physicsHandler().body();
+        return body == null || distanceToUpdateBounds(body) == 0;
+    }
+
+    /**
+     * Legt den dynamischen Körper einer Figur schlafen, falls er weiter als der
+     * angegebene Abstand vom sichtbaren Bereich entfernt ist.
+     */
+    private boolean sleepIfDistant(Actor actor, double sleepDistance)
+    {
+        Body body = actor.physicsHandler().body();
+        if (body == null || !body.isAwake()
+                || body.getType() != org.jbox2d.dynamics.BodyType.DYNAMIC
+                || distanceToUpdateBounds(body) < sleepDistance)
+        {
+            return false;
+        }
+        synchronized (worldHandler)
+        {
+            sleptBodies.add(
+                new SleptBody(actor, body, body.getLinearVelocity().clone(),
+                        body.getAngularVelocity()));
+            body.setAwake(false);
+        }
+        return true;
+    }
+
+    /**
+     * Weckt die schlafen gelegten Körper, die wieder näher als der angegebene
+     * Abstand am sichtbaren Bereich liegen, und gibt ihnen ihre
+     * Geschwindigkeiten zurück. JBox2D setzt die Geschwindigkeiten beim
+     * Einschlafen auf null, ein fallender Körper würde sonst in der Luft stehen
+     * bleiben.
+     *
+     * <p>
+     * Körper, die inzwischen entfernt oder durch eine Kollision geweckt wurden,
+     * werden nur vergessen.
+     * </p>
+     *
+     * @param sleepDistance Der Abstand in Meter oder {@code 0}, um alle Körper
+     *     zu wecken.
+     */
+    private void wakeSleptBodies(double sleepDistance)
+    {
+        if (sleptBodies.isEmpty())
+        {
+            return;
+        }
+        synchronized (worldHandler)
+        {
+            for (int i = sleptBodies.size() - 1; i >= 0; i--)
+            {
+                SleptBody slept = sleptBodies.get(i);
+                Body body = slept.body();
+                if (slept.actor().physicsHandler().body() == body
+                        && !body.isAwake())
+                {
+                    if (sleepDistance > 0 && !slept.actor().isAlwaysUpdated()
+                            && distanceToUpdateBounds(body) >= sleepDistance)
+                    {
+                        continue;
+                    }
+                    body.setAwake(true);
+                    body.setLinearVelocity(slept.velocity());
+                    body.setAngularVelocity(slept.angularVelocity());
+                }
+                SleptBody last = sleptBodies.remove(sleptBodies.size() - 1);
+                if (i < sleptBodies.size())
+                {
+                    sleptBodies.set(i, last);
+                }
+            }
+        }
+    }
+
+    /**
+     * Berechnet den Abstand des Ursprungs eines Körpers zum erweiterten
+     * sichtbaren Bereich in Meter.
+     */
+    private double distanceToUpdateBounds(Body body)
+    {
+        Vec2 position = body.getPosition();
+        double dx = Math.max(0,
+            Math.max(updateBounds.lowerBound.x - position.x,
+                position.x - updateBounds.upperBound.x));
+        double dy = Math.max(0,
+            Math.max(updateBounds.lowerBound.y - position.y,
+                position.y - updateBounds.upperBound.y));
+        return Math.sqrt(dx * dx + dy * dy);
+    }
 }
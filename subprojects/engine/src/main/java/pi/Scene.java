@@ -28,11 +28,9 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.Future;
-import java.util.function.Function;
 
 import pi.actor.Actor;
+import pi.animation.AnimationScheduler;
 import pi.annotations.API;
 import pi.annotations.ChainableMethod;
 import pi.annotations.Getter;
@@ -54,6 +52,12 @@ import pi.graphics.RenderSource;
 import pi.graphics.SceneInfoOverlay;
 import pi.graphics.geom.Bounds;
 import pi.graphics.geom.Vector;
+import pi.loop.FrameProfiler;
+import pi.loop.LayerStepper;
+import pi.physics.ActorFilter;
+import pi.physics.BakedColliders;
+import pi.physics.PhysicsHistory;
+import pi.physics.RayHit;
 import pi.physics.WorldHandler;
 import pi.resources.color.ColorContainer;
 import org.jbox2d.common.Vec2;
@@ -190,32 +194,40 @@ public class Scene implements KeyStrokeListenerRegistration,
      *
      * @param pastTime Die Echtzeit, die seit dem letzten World-Step vergangen
      *     ist.
+     * @param stepper Berechnet die Simulationsschritte der Ebenen.
      *
      * @hidden
      */
     @Internal
-    public final void step(double pastTime,
-            Function<Runnable, Future<?>> invoker) throws InterruptedException
+    public final void step(double pastTime, LayerStepper stepper)
     {
         synchronized (layers)
         {
-            Collection<Future<?>> layerFutures = new ArrayList<>(layers.size());
-            for (Layer currentLayer : layers)
-            {
-                Future<?> future = invoker
-                    .apply(() -> currentLayer.step(pastTime));
-                layerFutures.add(future);
-            }
-            for (Future<?> layerFuture : layerFutures)
+            stepper.step(layers, pastTime);
+        }
+    }
+
+    /**
+     * Übergibt die Dauer der Simulationsschritte und Zeichendurchgänge sowie
+     * die Rechenzeiten der Physik-Engine aller Ebenen an den Profiler.
+     *
+     * @param profiler Der Profiler der Ereignisschleife.
+     *
+     * @since 0.53.0
+     *
+     * @hidden
+     */
+    @Internal
+    public final void profileLayers(FrameProfiler profiler)
+    {
+        synchronized (layers)
+        {
+            for (int i = 0; i < layers.size(); i++)
             {
-                try
-                {
-                    layerFuture.get();
-                }
-                catch (ExecutionException e)
-                {
-                    throw new RuntimeException(e);
-                }
+                Layer layer = layers.get(i);
+                profiler.layer(layer.stepNanos(),
+                    layer.renderNanos(),
+                    layer.worldHandler().stepTimings());
             }
         }
     }
@@ -689,6 +701,47 @@ public class Scene implements KeyStrokeListenerRegistration,
         layer.clear();
     }
 
+    /**
+     * <b>Fasst viele statische Figuren</b> der Hauptebene zu einem einzigen
+     * Körper mit wenigen Halterungen zusammen, z.B. die Mauersteine eines
+     * Labyrinths.
+     *
+     * @param actors Die Figuren, die zusammengefasst werden sollen.
+     *
+     * @return Die Zusammenfassung, über die sie auch wieder aufgehoben werden
+     *     kann.
+     *
+     * @see Layer#bakeStaticColliders(Collection)
+     *
+     * @since 0.53.0
+     */
+    @API
+    public BakedColliders bakeStaticColliders(
+            Collection<? extends Actor> actors)
+    {
+        return layer.bakeStaticColliders(actors);
+    }
+
+    /**
+     * Beginnt, den Zustand der Physik der Hauptebene nach jedem
+     * Simulationsschritt in einem {@link PhysicsHistory Verlauf} zu erfassen,
+     * mit dem sie <b>zurückgespult</b> werden kann.
+     *
+     * @param seconds Die Dauer in Sekunden, um die höchstens zurückgespult
+     *     werden kann, oder {@code 0}, um den Verlauf zu beenden.
+     *
+     * @return Der neue Verlauf oder {@code null}, falls er beendet wurde.
+     *
+     * @see Layer#recordPhysicsHistory(double)
+     *
+     * @since 0.53.0
+     */
+    @API
+    public PhysicsHistory recordPhysicsHistory(double seconds)
+    {
+        return layer.recordPhysicsHistory(seconds);
+    }
+
     /**
      * Gibt alle <b>Figuren</b> aller Ebenen, die <b>bereits in der
      * Physics-Engine</b> registriert sind, als Liste zurück.
@@ -743,6 +796,125 @@ public class Scene implements KeyStrokeListenerRegistration,
         return actors;
     }
 
+    /**
+     * Hängt alle Figuren der <b>Hauptebene</b> an, deren Begrenzungsrahmen sich
+     * mit einem <b>Rechteck</b> überschneidet.
+     *
+     * @param x Die x-Koordinate der linken unteren Ecke in Meter.
+     * @param y Die y-Koordinate der linken unteren Ecke in Meter.
+     * @param width Die Breite des Rechtecks in Meter.
+     * @param height Die Höhe des Rechtecks in Meter.
+     * @param filter Der Filter oder {@code null} für alle Figuren.
+     * @param result Die Liste, an die die gefundenen Figuren angehängt werden.
+     *
+     * @return Die Anzahl der angehängten Figuren.
+     *
+     * @see Layer#actorsInArea(double, double, double, double, ActorFilter,
+     *     List)
+     *
+     * @since 0.53.0
+     */
+    @API
+    public int actorsInArea(double x, double y, double width, double height,
+            ActorFilter filter, List<Actor> result)
+    {
+        return layer.actorsInArea(x, y, width, height, filter, result);
+    }
+
+    /**
+     * Hängt alle Figuren der <b>Hauptebene</b> an, deren Begrenzungsrahmen
+     * höchstens den angegebenen <b>Abstand</b> zu einem Punkt hat.
+     *
+     * @param x Die x-Koordinate des Mittelpunkts in Meter.
+     * @param y Die y-Koordinate des Mittelpunkts in Meter.
+     * @param radius Der Radius in Meter.
+     * @param filter Der Filter oder {@code null} für alle Figuren.
+     * @param result Die Liste, an die die gefundenen Figuren angehängt werden.
+     *
+     * @return Die Anzahl der angehängten Figuren.
+     *
+     * @see Layer#actorsInRadius(double, double, double, ActorFilter, List)
+     *
+     * @since 0.53.0
+     */
+    @API
+    public int actorsInRadius(double x, double y, double radius,
+            ActorFilter filter, List<Actor> result)
+    {
+        return layer.actorsInRadius(x, y, radius, filter, result);
+    }
+
+    /**
+     * Sucht die <b>erste</b> Figur der <b>Hauptebene</b>, die ein <b>Strahl</b>
+     * trifft.
+     *
+     * @param fromX Die x-Koordinate des Startpunkts in Meter.
+     * @param fromY Die y-Koordinate des Startpunkts in Meter.
+     * @param toX Die x-Koordinate des Endpunkts in Meter.
+     * @param toY Die y-Koordinate des Endpunkts in Meter.
+     * @param filter Der Filter oder {@code null} für alle Figuren.
+     * @param hit Nimmt den Treffer auf.
+     *
+     * @return {@code true}, falls eine Figur getroffen wurde.
+     *
+     * @see Layer#raycast(double, double, double, double, ActorFilter, RayHit)
+     *
+     * @since 0.53.0
+     */
+    @API
+    public boolean raycast(double fromX, double fromY, double toX, double toY,
+            ActorFilter filter, RayHit hit)
+    {
+        return layer.raycast(fromX, fromY, toX, toY, filter, hit);
+    }
+
+    /**
+     * Hängt alle Figuren der <b>Hauptebene</b>, die ein <b>Strahl</b> trifft,
+     * nach ihrer Entfernung vom Startpunkt sortiert an.
+     *
+     * @param fromX Die x-Koordinate des Startpunkts in Meter.
+     * @param fromY Die y-Koordinate des Startpunkts in Meter.
+     * @param toX Die x-Koordinate des Endpunkts in Meter.
+     * @param toY Die y-Koordinate des Endpunkts in Meter.
+     * @param filter Der Filter oder {@code null} für alle Figuren.
+     * @param result Die Liste, an die die getroffenen Figuren angehängt werden.
+     *
+     * @return Die Anzahl der angehängten Figuren.
+     *
+     * @see Layer#raycastAll(double, double, double, double, ActorFilter, List)
+     *
+     * @since 0.53.0
+     */
+    @API
+    public int raycastAll(double fromX, double fromY, double toX, double toY,
+            ActorFilter filter, List<Actor> result)
+    {
+        return layer.raycastAll(fromX, fromY, toX, toY, filter, result);
+    }
+
+    /**
+     * Hängt die {@code k} <b>nächstgelegenen</b> Figuren der <b>Hauptebene</b>
+     * aufsteigend nach ihrem Abstand zum angegebenen Punkt an.
+     *
+     * @param x Die x-Koordinate des Punkts in Meter.
+     * @param y Die y-Koordinate des Punkts in Meter.
+     * @param k Die Anzahl der gesuchten Figuren.
+     * @param filter Der Filter oder {@code null} für alle Figuren.
+     * @param result Die Liste, an die die gefundenen Figuren angehängt werden.
+     *
+     * @return Die Anzahl der angehängten Figuren.
+     *
+     * @see Layer#nearestActors(double, double, int, ActorFilter, List)
+     *
+     * @since 0.53.0
+     */
+    @API
+    public int nearestActors(double x, double y, int k, ActorFilter filter,
+            List<Actor> result)
+    {
+        return layer.nearestActors(x, y, k, filter, result);
+    }
+
     /**
      * Gibt den Mittelpunkt der hinzugefügten Figuren aller Ebenen aus.
      *
@@ -808,6 +980,29 @@ public class Scene implements KeyStrokeListenerRegistration,
         camera.focus(center());
     }
 
+    /* animations */
+
+    private final AnimationScheduler animations = new AnimationScheduler();
+
+    /**
+     * Gibt den <b>Planer</b> zurück, der alle mit ihm gestarteten Animationen
+     * dieser Szene in einem Durchlauf pro Einzelbild fortschreibt.
+     *
+     * <pre>{@code
+     * scene.animations().animate(2, actor::opacity, new LinearDouble(1, 0));
+     * }</pre>
+     *
+     * @return Der Animationsplaner der Szene.
+     *
+     * @since 0.53.0
+     */
+    @API
+    @Getter
+    public AnimationScheduler animations()
+    {
+        return animations;
+    }
+
     /* frameUpdateListeners */
 
     private final EventListeners<FrameListener> frameUpdateListeners = new EventListeners<>();
@@ -827,6 +1022,7 @@ public class Scene implements KeyStrokeListenerRegistration,
     {
         frameUpdateListeners.invoke(
             frameUpdateListener -> frameUpdateListener.onFrame(pastTime));
+        animations.onFrame(pastTime);
         synchronized (layers)
         {
             for (Layer currentLayer : layers)
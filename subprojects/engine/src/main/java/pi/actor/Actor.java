@@ -325,6 +325,66 @@ public abstract class Actor implements KeyStrokeListenerRegistration,
         return this.layerPosition;
     }
 
+    /* tag */
+
+    /**
+     * Eine frei wählbare <b>Markierung</b>, nach der z.B. bei räumlichen
+     * Abfragen gefiltert werden kann.
+     */
+    private String tag;
+
+    /**
+     * Setzt die <b>Markierung</b> dieser Figur, z.B. {@code "Gegner"}.
+     *
+     * @param tag Die Markierung oder {@code null}, um sie zu entfernen.
+     *
+     * @return Eine Referenz auf die eigene Instanz der Figur, damit nach dem
+     *     Erbauer/Builder-Entwurfsmuster die Eigenschaften der Figur durch
+     *     aneinander gekettete Setter festgelegt werden können, z.B.
+     *     {@code actor.color(..).postion(..)}.
+     *
+     * @see pi.physics.ActorFilter#tag(String)
+     *
+     * @since 0.53.0
+     */
+    @API
+    @Setter
+    @ChainableMethod
+    public final Actor tag(String tag)
+    {
+        this.tag = tag;
+        return this;
+    }
+
+    /**
+     * Gibt die <b>Markierung</b> dieser Figur zurück.
+     *
+     * @return Die Markierung oder {@code null}, falls keine gesetzt ist.
+     *
+     * @since 0.53.0
+     */
+    @API
+    @Getter
+    public final String tag()
+    {
+        return tag;
+    }
+
+    /**
+     * Gibt an, ob diese Figur die angegebene <b>Markierung</b> trägt.
+     *
+     * @param tag Die gesuchte Markierung.
+     *
+     * @return {@code true}, falls die Markierung übereinstimmt.
+     *
+     * @since 0.53.0
+     */
+    @API
+    public final boolean hasTag(String tag)
+    {
+        return tag != null && tag.equals(this.tag);
+    }
+
     /* visible */
 
     /**
@@ -1001,7 +1061,7 @@ public abstract class Actor implements KeyStrokeListenerRegistration,
             keyStrokeListeners.invoke(layer::removeKeyStrokeListener);
             mouseClickListeners.invoke(layer::removeMouseClickListener);
             mouseScrollListeners.invoke(layer::removeMouseScrollListener);
-            frameUpdateListeners.invoke(layer::removeFrameListener);
+            frameUpdateListeners.invoke(layer::removeActorFrameListener);
             listeners.unmount.invoke(Runnable::run);
             physics = handler;
         }
@@ -1017,7 +1077,8 @@ public abstract class Actor implements KeyStrokeListenerRegistration,
             keyStrokeListeners.invoke(layer::addKeyStrokeListener);
             mouseClickListeners.invoke(layer::addMouseClickListener);
             mouseScrollListeners.invoke(layer::addMouseScrollListener);
-            frameUpdateListeners.invoke(layer::addFrameListener);
+            frameUpdateListeners.invoke(
+                listener -> layer.addActorFrameListener(this, listener));
         }
         return this;
     }
@@ -1105,6 +1166,44 @@ public abstract class Actor implements KeyStrokeListenerRegistration,
         return frameUpdateListeners;
     }
 
+    /**
+     * Fügt einen neuen {@link FrameListener} hinzu.
+     *
+     * <p>
+     * Ist die Figur an einer Ebene angemeldet, so merkt sich die Ebene die
+     * Figur als Besitzerin des Beobachters, damit die {@link Layer#updateLod()
+     * Aktualisierungsrate nach Sichtbarkeit} ihn seltener benachrichtigen kann.
+     * Beobachter, die direkt über {@link #frameListeners()} angemeldet werden,
+     * werden dagegen in jedem Einzelbild benachrichtigt.
+     * </p>
+     */
+    @API
+    @Override
+    public final void addFrameListener(FrameListener listener)
+    {
+        Layer layer = layer();
+        if (layer != null)
+        {
+            layer.addActorFrameListener(this, listener);
+        }
+        frameUpdateListeners.add(listener);
+    }
+
+    /**
+     * Entfernt einen {@link FrameListener}.
+     */
+    @API
+    @Override
+    public final void removeFrameListener(FrameListener listener)
+    {
+        frameUpdateListeners.remove(listener);
+        Layer layer = layer();
+        if (layer != null)
+        {
+            layer.removeActorFrameListener(listener);
+        }
+    }
+
     /**
      * Setzt, ob <i>im Rahmen der physikalischen Simulation</i> die Rotation
      * dieses Objekts blockiert werden soll.
@@ -1185,6 +1284,110 @@ public abstract class Actor implements KeyStrokeListenerRegistration,
         return physics.isRotationLocked();
     }
 
+    /**
+     * Legt die <b>Kollisionskategorien</b> fest, zu denen diese Figur gehört.
+     *
+     * <p>
+     * Es gibt 16 Kategorien, die jeweils durch ein Bit dargestellt werden. Zwei
+     * Figuren kollidieren nur, wenn die Kategorien jeder Figur in der
+     * {@link #collisionMask(int) Kollisionsmaske} der anderen Figur enthalten
+     * sind. Alle anderen Paare werden bereits in der Broad Phase der
+     * Physik-Engine verworfen und erzeugen keine Kollisionsereignisse.
+     * </p>
+     *
+     * <pre>{@code
+     * int PLAYER = 0x0001, ENEMY = 0x0002, BULLET = 0x0004;
+     * bullet.collisionCategory(BULLET).collisionMask(ENEMY);
+     * }</pre>
+     *
+     * @param category Die Bits der Kollisionskategorien, standardmäßig
+     *     {@link WorldHandler#DEFAULT_COLLISION_CATEGORY}.
+     *
+     * @return Eine Referenz auf die eigene Instanz der Figur, damit nach dem
+     *     Erbauer/Builder-Entwurfsmuster die Eigenschaften der Figur durch
+     *     aneinander gekettete Setter festgelegt werden können, z.B.
+     *     {@code actor.color(..).postion(..)}.
+     *
+     * @throws IllegalArgumentException Falls Bits außerhalb der 16 Kategorien
+     *     gesetzt sind.
+     *
+     * @see #collisionMask(int)
+     *
+     * @since 0.53.0
+     */
+    @API
+    @Setter
+    public final Actor collisionCategory(int category)
+    {
+        physics.collisionCategory(category);
+        return this;
+    }
+
+    /**
+     * Gibt die <b>Kollisionskategorien</b> zurück, zu denen diese Figur gehört.
+     *
+     * @return Die Bits der Kollisionskategorien.
+     *
+     * @see #collisionCategory(int)
+     *
+     * @since 0.53.0
+     */
+    @API
+    @Getter
+    public final int collisionCategory()
+    {
+        return physics.collisionCategory();
+    }
+
+    /**
+     * Legt die <b>Kollisionsmaske</b> fest, also die Kategorien, mit denen
+     * diese Figur kollidieren kann.
+     *
+     * <p>
+     * Die Maske {@code 0} enthält keine Kategorie, die Figur kollidiert dann
+     * mit keiner anderen Figur.
+     * </p>
+     *
+     * @param mask Die Bits der Kollisionskategorien, standardmäßig
+     *     {@link WorldHandler#ALL_COLLISION_CATEGORIES}.
+     *
+     * @return Eine Referenz auf die eigene Instanz der Figur, damit nach dem
+     *     Erbauer/Builder-Entwurfsmuster die Eigenschaften der Figur durch
+     *     aneinander gekettete Setter festgelegt werden können, z.B.
+     *     {@code actor.color(..).postion(..)}.
+     *
+     * @throws IllegalArgumentException Falls Bits außerhalb der 16 Kategorien
+     *     gesetzt sind.
+     *
+     * @see #collisionCategory(int)
+     *
+     * @since 0.53.0
+     */
+    @API
+    @Setter
+    public final Actor collisionMask(int mask)
+    {
+        physics.collisionMask(mask);
+        return this;
+    }
+
+    /**
+     * Gibt die <b>Kollisionsmaske</b> zurück, also die Kategorien, mit denen
+     * diese Figur kollidieren kann.
+     *
+     * @return Die Bits der Kollisionskategorien.
+     *
+     * @see #collisionMask(int)
+     *
+     * @since 0.53.0
+     */
+    @API
+    @Getter
+    public final int collisionMask()
+    {
+        return physics.collisionMask();
+    }
+
     /**
      * Gibt die aktuelle Masse des Ziel-Objekts aus. Die Form bleibt
      * unverändert, daher ändert sich die <b>Dichte</b> in der Regel.
@@ -2740,8 +2943,8 @@ public abstract class Actor implements KeyStrokeListenerRegistration,
             return;
         }
 
-        double rotation = physics.rotation();
-        Vector anchor = physics.anchor();
+        double rotation = physics.renderRotation();
+        Vector anchor = physics.renderAnchor();
 
         if (Controller.isDebug() && config.debug.renderAABBs())
         {
@@ -2862,6 +3065,298 @@ public abstract class Actor implements KeyStrokeListenerRegistration,
         return formatter;
     }
 
+    /* culling */
+
+    /**
+     * Die Nummer des Zeichendurchgangs, in dem diese Figur zuletzt im
+     * sichtbaren Bereich ihrer Ebene gefunden wurde.
+     *
+     * @see Layer#culling(boolean)
+     */
+    private long cullingPass = -1;
+
+    /**
+     * Markiert diese Figur als sichtbar im angegebenen Zeichendurchgang.
+     *
+     * @param pass Die Nummer des Zeichendurchgangs.
+     *
+     * @see Layer#culling(boolean)
+     *
+     * @hidden
+     */
+    @Internal
+    @Setter
+    public final void cullingPass(long pass)
+    {
+        cullingPass = pass;
+    }
+
+    /**
+     * Gibt die Nummer des Zeichendurchgangs zurück, in dem diese Figur zuletzt
+     * im sichtbaren Bereich ihrer Ebene gefunden wurde.
+     *
+     * @return Die Nummer des Zeichendurchgangs.
+     *
+     * @see Layer#culling(boolean)
+     *
+     * @hidden
+     */
+    @Internal
+    @Getter
+    public final long cullingPass()
+    {
+        return cullingPass;
+    }
+
+    /**
+     * Die fortlaufende Nummer, mit der diese Figur zuletzt bei einer Ebene
+     * angemeldet wurde. Figuren mit derselben Ebenenposition werden in der
+     * Reihenfolge dieser Nummer gezeichnet.
+     *
+     * @see Layer#culling(boolean)
+     */
+    private long layerOrder;
+
+    /**
+     * Setzt die fortlaufende Nummer, mit der diese Figur bei ihrer Ebene
+     * angemeldet wurde.
+     *
+     * @param order Die fortlaufende Nummer.
+     *
+     * @hidden
+     */
+    @Internal
+    @Setter
+    public final void layerOrder(long order)
+    {
+        layerOrder = order;
+    }
+
+    /**
+     * Gibt die fortlaufende Nummer zurück, mit der diese Figur bei ihrer Ebene
+     * angemeldet wurde.
+     *
+     * @return Die fortlaufende Nummer.
+     *
+     * @hidden
+     */
+    @Internal
+    @Getter
+    public final long layerOrder()
+    {
+        return layerOrder;
+    }
+
+    /* spatial query */
+
+    /**
+     * Die Nummer der räumlichen Abfrage, in der diese Figur zuletzt gefunden
+     * wurde. Verhindert, dass eine Figur mit mehreren Halterungen mehrfach
+     * gemeldet wird.
+     *
+     * @see pi.physics.SpatialQuery
+     */
+    private long spatialQueryPass = -1;
+
+    /**
+     * Markiert diese Figur als gefunden in der angegebenen räumlichen Abfrage.
+     *
+     * @param pass Die Nummer der räumlichen Abfrage.
+     *
+     * @return {@code true}, falls die Figur in dieser Abfrage zum ersten Mal
+     *     gefunden wurde.
+     *
+     * @since 0.53.0
+     *
+     * @hidden
+     */
+    @Internal
+    public final boolean markSpatialQueryPass(long pass)
+    {
+        if (spatialQueryPass == pass)
+        {
+            return false;
+        }
+        spatialQueryPass = pass;
+        return true;
+    }
+
+    /* update level of detail */
+
+    /**
+     * Gibt an, ob die Bildbeobachter dieser Figur unabhängig von ihrer
+     * Sichtbarkeit in jedem Einzelbild benachrichtigt werden.
+     */
+    private boolean alwaysUpdated = false;
+
+    /**
+     * Die Nummer des Einzelbilds, in dem diese Figur zuletzt im erweiterten
+     * sichtbaren Bereich ihrer Ebene gefunden wurde.
+     */
+    private long updatePass = -1;
+
+    /**
+     * Die vergangene Zeit in Sekunden, die den Bildbeobachtern noch nicht
+     * übergeben wurde.
+     */
+    private double pendingFrameTime = 0;
+
+    /**
+     * Die Zeit, die den Bildbeobachtern im aktuellen Einzelbild übergeben wird,
+     * oder {@link Double#NaN}, falls sie in diesem Einzelbild nicht
+     * benachrichtigt werden.
+     */
+    private double scheduledFrameTime = Double.NaN;
+
+    /**
+     * Legt fest, ob die {@link FrameListener Bildbeobachter} dieser Figur
+     * <b>immer</b> in jedem Einzelbild benachrichtigt werden, auch wenn die
+     * Figur außerhalb des sichtbaren Bereichs liegt und die
+     * {@link Layer#updateLod() Aktualisierungsrate nach Sichtbarkeit} aktiviert
+     * ist. Der Körper der Figur wird dann auch nicht schlafen gelegt.
+     *
+     * <p>
+     * Das ist für Figuren gedacht, deren Spiellogik auch außerhalb des Bildes
+     * genau ablaufen muss, z.B. Gegner, die den Spieler verfolgen.
+     * </p>
+     *
+     * @param alwaysUpdated {@code true}, falls die Figur immer aktualisiert
+     *     werden soll.
+     *
+     * @return Eine Referenz auf die eigene Instanz der Figur, damit nach dem
+     *     Erbauer/Builder-Entwurfsmuster die Eigenschaften der Figur durch
+     *     aneinander gekettete Setter festgelegt werden können, z.B.
+     *     {@code actor.color(..).postion(..)}.
+     *
+     * @since 0.53.0
+     */
+    @API
+    @Setter
+    @ChainableMethod
+    public final Actor alwaysUpdate(boolean alwaysUpdated)
+    {
+        this.alwaysUpdated = alwaysUpdated;
+        return this;
+    }
+
+    /**
+     * Gibt an, ob die {@link FrameListener Bildbeobachter} dieser Figur
+     * <b>immer</b> in jedem Einzelbild benachrichtigt werden.
+     *
+     * @return {@code true}, falls die Figur von der Aktualisierungsrate nach
+     *     Sichtbarkeit ausgenommen ist, sonst {@code false}.
+     *
+     * @see #alwaysUpdate(boolean)
+     *
+     * @since 0.53.0
+     */
+    @API
+    @Getter
+    public final boolean isAlwaysUpdated()
+    {
+        return alwaysUpdated;
+    }
+
+    /**
+     * Markiert diese Figur als sichtbar im angegebenen Einzelbild.
+     *
+     * @param pass Die Nummer des Einzelbilds.
+     *
+     * @since 0.53.0
+     *
+     * @hidden
+     */
+    @Internal
+    @Setter
+    public final void updatePass(long pass)
+    {
+        updatePass = pass;
+    }
+
+    /**
+     * Gibt die Nummer des Einzelbilds zurück, in dem diese Figur zuletzt im
+     * erweiterten sichtbaren Bereich ihrer Ebene gefunden wurde.
+     *
+     * @return Die Nummer des Einzelbilds.
+     *
+     * @since 0.53.0
+     *
+     * @hidden
+     */
+    @Internal
+    @Getter
+    public final long updatePass()
+    {
+        return updatePass;
+    }
+
+    /**
+     * Gibt an, ob an dieser Figur {@link FrameListener Bildbeobachter}
+     * angemeldet sind.
+     *
+     * @return {@code true}, falls mindestens ein Bildbeobachter angemeldet ist.
+     *
+     * @since 0.53.0
+     *
+     * @hidden
+     */
+    @Internal
+    public final boolean hasFrameListeners()
+    {
+        return !frameUpdateListeners.isEmpty();
+    }
+
+    /**
+     * Legt fest, ob die {@link FrameListener Bildbeobachter} dieser Figur im
+     * aktuellen Einzelbild benachrichtigt werden. Wird eine Figur nicht
+     * benachrichtigt, wird die vergangene Zeit gesammelt und beim nächsten
+     * Einzelbild, in dem sie benachrichtigt wird, mit übergeben.
+     *
+     * @param pastTime Die seit dem letzten Einzelbild vergangene Zeit in
+     *     Sekunden.
+     * @param due {@code true}, falls die Bildbeobachter in diesem Einzelbild
+     *     benachrichtigt werden.
+     *
+     * @since 0.53.0
+     *
+     * @hidden
+     */
+    @Internal
+    public final void scheduleFrame(double pastTime, boolean due)
+    {
+        if (due)
+        {
+            scheduledFrameTime = pendingFrameTime + pastTime;
+            pendingFrameTime = 0;
+        }
+        else
+        {
+            scheduledFrameTime = Double.NaN;
+            pendingFrameTime += pastTime;
+        }
+    }
+
+    /**
+     * Gibt die Zeit zurück, die den {@link FrameListener Bildbeobachtern}
+     * dieser Figur im aktuellen Einzelbild übergeben wird.
+     *
+     * @return Die vergangene Zeit in Sekunden einschließlich der gesammelten
+     *     Zeit oder {@link Double#NaN}, falls die Bildbeobachter in diesem
+     *     Einzelbild nicht benachrichtigt werden.
+     *
+     * @see #scheduleFrame(double, boolean)
+     *
+     * @since 0.53.0
+     *
+     * @hidden
+     */
+    @Internal
+    @Getter
+    public final double scheduledFrameTime()
+    {
+        return scheduledFrameTime;
+    }
+
     /* labels */
 
     public final LabelHandler label = new LabelHandler();
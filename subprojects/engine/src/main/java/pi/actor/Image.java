@@ -37,7 +37,10 @@ import pi.annotations.Getter;
 import pi.annotations.Internal;
 import pi.annotations.Setter;
 import pi.debug.ToStringFormatter;
+import pi.graphics.SpriteBatch;
 import pi.physics.FixtureBuilder;
+import pi.resources.AtlasRegion;
+import pi.resources.AtlasRegionCache;
 import pi.resources.color.ColorUtil;
 
 // Go to file:///data/school/repos/inf/java/engine-pi/docs/manual/main-classes/actor/image.md
@@ -102,6 +105,12 @@ public class Image extends Actor
     @SuppressWarnings("java:S1700")
     protected BufferedImage image;
 
+    /**
+     * Der Ausschnitt des Bildes im Texturatlas, falls das Bild über den
+     * {@link pi.resources.ImageContainer Bildspeicher} geladen wurde.
+     */
+    private final AtlasRegionCache atlasRegion = new AtlasRegionCache(false);
+
     /**
      * Gibt das {@link BufferedImage}, das dieses <b>Bild</b> darstellt.
      *
@@ -579,6 +588,18 @@ public class Image extends Actor
     @Override
     public void render(Graphics2D g, double pixelPerMeter)
     {
+        AtlasRegion region = atlasRegion.region(image);
+        if (region != null && SpriteBatch.draw(g,
+            region,
+            0,
+            -height * pixelPerMeter,
+            width * pixelPerMeter,
+            height * pixelPerMeter,
+            flippedHorizontally,
+            flippedVertically))
+        {
+            return;
+        }
         AffineTransform pre = g.getTransform();
         int imageH = image.getHeight();
         int imageW = image.getWidth();
@@ -0,0 +1,76 @@
+/*
+ * Engine Pi ist eine anfängerorientierte 2D-Gaming Engine.
+ *
+ * Copyright (c) 2026 Josef Friedrich and contributors.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package pi.actor;
+
+import java.awt.Graphics2D;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+
+import pi.annotations.Getter;
+import pi.resources.AtlasRegion;
+import pi.resources.AtlasRegionCache;
+
+/**
+ * Eine {@link Tile Kachel}, die aus einem Bild besteht.
+ *
+ * <p>
+ * Das Bild wird beim ersten Zeichnen in den {@link pi.resources.Resources#atlas
+ * Texturatlas} aufgenommen, damit {@link TileRegistration} die Kacheln
+ * gesammelt zeichnen kann.
+ * </p>
+ *
+ * @since 0.53.0
+ */
+final class ImageTile implements Tile
+{
+    private final BufferedImage image;
+
+    private final AtlasRegionCache region = new AtlasRegionCache(true);
+
+    ImageTile(BufferedImage image)
+    {
+        this.image = image;
+    }
+
+    @Getter
+    BufferedImage image()
+    {
+        return image;
+    }
+
+    /**
+     * Gibt den Ausschnitt des Bildes im Texturatlas zurück.
+     *
+     * @return Der Ausschnitt oder {@code null}, falls das Bild nicht in den
+     *     Atlas aufgenommen werden konnte.
+     */
+    AtlasRegion region()
+    {
+        return region.region(image);
+    }
+
+    @Override
+    public void render(Graphics2D g, double width, double height)
+    {
+        AffineTransform pre = g.getTransform();
+        g.scale(width / image.getWidth(), height / image.getHeight());
+        g.drawImage(image, null, 0, 0);
+        g.setTransform(pre);
+    }
+}
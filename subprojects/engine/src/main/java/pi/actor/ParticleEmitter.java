@@ -0,0 +1,913 @@
+/*
+ * Engine Pi ist eine anfängerorientierte 2D-Gaming Engine.
+ *
+ * Copyright (c) 2026 Josef Friedrich and contributors.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package pi.actor;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import org.jbox2d.callbacks.QueryCallback;
+import org.jbox2d.collision.AABB;
+import org.jbox2d.common.Vec2;
+import org.jbox2d.dynamics.Body;
+import org.jbox2d.dynamics.Fixture;
+
+import pi.annotations.API;
+import pi.annotations.ChainableMethod;
+import pi.annotations.Getter;
+import pi.annotations.Internal;
+import pi.annotations.Setter;
+import pi.event.FrameListener;
+import pi.graphics.RecordingGraphics2D;
+import pi.graphics.geom.Vector;
+import pi.physics.BodyHandler;
+import pi.physics.FixtureBuilder;
+
+// Go to file:///data/school/repos/inf/java/engine-pi/docs/manual/main-classes/actor/particle-emitter.md
+
+/**
+ * Ein <b>Partikelsystem</b>, das viele kleine, rein optische Teilchen wie
+ * Funken, Rauch oder Staub ausstößt.
+ *
+ * <p>
+ * Im Gegensatz zu {@link Actor#makeParticle()} ist ein Partikel hier keine
+ * eigene Figur mit einem Körper der Physics-Engine. Position, Geschwindigkeit,
+ * Alter und Lebensdauer aller Partikel werden in Feldern primitiver Datentypen
+ * gespeichert, in einem einzigen Durchlauf pro Einzelbild aktualisiert und in
+ * einem einzigen Bild gezeichnet. Dadurch können zehntausende Partikel
+ * gleichzeitig dargestellt werden.
+ * </p>
+ *
+ * <p>
+ * Die Partikel bewegen sich in Weltkoordinaten: Wird das Partikelsystem
+ * verschoben, bleiben bereits ausgestoßene Partikel an ihrem Ort. Die
+ * {@link #color() Farbe} der Figur ist die Farbe eines neuen Partikels, die
+ * sich bis zum Ende seiner Lebensdauer der {@link #endColor() Endfarbe}
+ * annähert.
+ * </p>
+ *
+ * <h2>Verwendungsbeispiel</h2>
+ *
+ * <pre>{@code
+ * ParticleEmitter sparks = new ParticleEmitter();
+ * sparks.rate(500).speed(2, 6).direction(90).spread(60).lifetime(0.5, 1.5);
+ * sparks.acceleration(0, -9.81).collideWithActors(true);
+ * }</pre>
+ *
+ * @since 0.53.0
+ */
+public class ParticleEmitter extends Actor implements FrameListener
+{
+    private static final int DEFAULT_CAPACITY = 10_000;
+
+    /**
+     * Die maximale Breite und Höhe des Bilds, in das die Partikel gezeichnet
+     * werden, in Pixel. Partikel außerhalb werden nicht gezeichnet.
+     */
+    private static final int MAX_IMAGE_SIZE = 4096;
+
+    /**
+     * Der Abstand in Meter, um den der Umriss des Partikelsystems größer als
+     * der Bereich seiner Partikel gewählt wird, damit der Umriss nicht in jedem
+     * Einzelbild angepasst werden muss.
+     */
+    private static final double BOUNDS_MARGIN = 1;
+
+    /* Die Partikel als Struktur aus Feldern (structure of arrays). */
+
+    private final float[] x;
+
+    private final float[] y;
+
+    private final float[] velocityX;
+
+    private final float[] velocityY;
+
+    private final float[] age;
+
+    private final float[] lifetime;
+
+    /**
+     * Die Anzahl der lebenden Partikel. Sie belegen die ersten Einträge der
+     * Felder.
+     */
+    private int count = 0;
+
+    private final SplittableRandom random = new SplittableRandom();
+
+    /**
+     * Die noch nicht ausgestoßenen Bruchteile von Partikeln.
+     */
+    private double emitAccumulator = 0;
+
+    /**
+     * Der Bereich aller Partikel in Weltkoordinaten, der beim Aktualisieren
+     * ermittelt wird.
+     */
+    private float minX, minY, maxX, maxY;
+
+    /**
+     * Der Bereich relativ zum Anker, den der aktuelle Umriss abdeckt.
+     */
+    private double boundsMinX, boundsMinY, boundsMaxX, boundsMaxY;
+
+    private BufferedImage image;
+
+    private int[] pixels;
+
+    private final CollisionQuery collisionQuery = new CollisionQuery();
+
+    /**
+     * Erstellt ein Partikelsystem für höchstens <b>10.000</b> gleichzeitig
+     * lebende Partikel.
+     */
+    public ParticleEmitter()
+    {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Erstellt ein Partikelsystem.
+     *
+     * @param capacity Die maximale Anzahl an gleichzeitig lebenden Partikeln.
+     */
+    public ParticleEmitter(int capacity)
+    {
+        super(() -> FixtureBuilder.rectangle(BOUNDS_MARGIN, BOUNDS_MARGIN));
+        if (capacity <= 0)
+        {
+            throw new IllegalArgumentException(
+                    "Die Kapazität muss größer als 0 sein, war " + capacity);
+        }
+        x = new float[capacity];
+        y = new float[capacity];
+        velocityX = new float[capacity];
+        velocityY = new float[capacity];
+        age = new float[capacity];
+        lifetime = new float[capacity];
+        color = new Color(255, 200, 50);
+        boundsMaxX = BOUNDS_MARGIN;
+        boundsMaxY = BOUNDS_MARGIN;
+    }
+
+    /**
+     * Gibt die maximale Anzahl an gleichzeitig lebenden Partikeln zurück.
+     *
+     * @return Die maximale Anzahl an Partikeln.
+     */
+    @API
+    @Getter
+    public int capacity()
+    {
+        return x.length;
+    }
+
+    /**
+     * Gibt die Anzahl der gerade lebenden Partikel zurück.
+     *
+     * @return Die Anzahl der lebenden Partikel.
+     */
+    @API
+    @Getter
+    public int count()
+    {
+        return count;
+    }
+
+    /* rate */
+
+    /**
+     * Die Anzahl an Partikeln, die pro Sekunde ausgestoßen werden.
+     */
+    private double rate = 100;
+
+    /**
+     * Gibt die Anzahl an Partikeln zurück, die pro Sekunde ausgestoßen werden.
+     *
+     * @return Die Anzahl an Partikeln pro Sekunde.
+     */
+    @API
+    @Getter
+    public double rate()
+    {
+        return rate;
+    }
+
+    /**
+     * Setzt die Anzahl an Partikeln, die pro Sekunde ausgestoßen werden.
+     *
+     * @param rate Die Anzahl an Partikeln pro Sekunde. {@code 0} stoppt den
+     *     fortlaufenden Ausstoß.
+     *
+     * @return Eine Referenz auf die eigene Instanz des Partikelsystems.
+     */
+    @API
+    @Setter
+    @ChainableMethod
+    public ParticleEmitter rate(double rate)
+    {
+        this.rate = Math.max(0, rate);
+        return this;
+    }
+
+    /* lifetime */
+
+    private double minLifetime = 1;
+
+    private double maxLifetime = 1;
+
+    /**
+     * Setzt die <b>Lebensdauer</b> neuer Partikel. Die Lebensdauer jedes
+     * Partikels wird zufällig zwischen den beiden Werten gewählt.
+     *
+     * @param min Die minimale Lebensdauer in Sekunden.
+     * @param max Die maximale Lebensdauer in Sekunden.
+     *
+     * @return Eine Referenz auf die eigene Instanz des Partikelsystems.
+     */
+    @API
+    @Setter
+    @ChainableMethod
+    public ParticleEmitter lifetime(double min, double max)
+    {
+        minLifetime = min;
+        maxLifetime = Math.max(min, max);
+        return this;
+    }
+
+    /* speed */
+
+    private double minSpeed = 1;
+
+    private double maxSpeed = 3;
+
+    /**
+     * Setzt die <b>Geschwindigkeit</b> neuer Partikel. Die Geschwindigkeit
+     * jedes Partikels wird zufällig zwischen den beiden Werten gewählt.
+     *
+     * @param min Die minimale Geschwindigkeit in Meter pro Sekunde.
+     * @param max Die maximale Geschwindigkeit in Meter pro Sekunde.
+     *
+     * @return Eine Referenz auf die eigene Instanz des Partikelsystems.
+     */
+    @API
+    @Setter
+    @ChainableMethod
+    public ParticleEmitter speed(double min, double max)
+    {
+        minSpeed = min;
+        maxSpeed = Math.max(min, max);
+        return this;
+    }
+
+    /* direction */
+
+    private double direction = 90;
+
+    /**
+     * Gibt die <b>Richtung</b> zurück, in die die Partikel ausgestoßen werden.
+     *
+     * @return Die Richtung in Grad relativ zur Drehung des Partikelsystems.
+     */
+    @API
+    @Getter
+    public double direction()
+    {
+        return direction;
+    }
+
+    /**
+     * Setzt die <b>Richtung</b>, in die die Partikel ausgestoßen werden.
+     *
+     * @param direction Die Richtung in Grad relativ zur Drehung des
+     *     Partikelsystems. {@code 0} zeigt nach rechts, {@code 90} nach oben.
+     *
+     * @return Eine Referenz auf die eigene Instanz des Partikelsystems.
+     */
+    @API
+    @Setter
+    @ChainableMethod
+    public ParticleEmitter direction(double direction)
+    {
+        this.direction = direction;
+        return this;
+    }
+
+    /* spread */
+
+    private double spread = 360;
+
+    /**
+     * Gibt die <b>Streuung</b> der Ausstoßrichtung zurück.
+     *
+     * @return Der Öffnungswinkel in Grad.
+     */
+    @API
+    @Getter
+    public double spread()
+    {
+        return spread;
+    }
+
+    /**
+     * Setzt die <b>Streuung</b> der Ausstoßrichtung.
+     *
+     * @param spread Der Öffnungswinkel in Grad, in dem die Partikel um die
+     *     {@link #direction() Richtung} verteilt werden. {@code 360} stößt die
+     *     Partikel in alle Richtungen aus.
+     *
+     * @return Eine Referenz auf die eigene Instanz des Partikelsystems.
+     */
+    @API
+    @Setter
+    @ChainableMethod
+    public ParticleEmitter spread(double spread)
+    {
+        this.spread = spread;
+        return this;
+    }
+
+    /* acceleration */
+
+    private float accelerationX = 0;
+
+    private float accelerationY = 0;
+
+    /**
+     * Setzt die <b>Beschleunigung</b>, die auf alle Partikel wirkt, z.B. eine
+     * eigene Schwerkraft.
+     *
+     * @param x Die Beschleunigung in x-Richtung in Meter pro Sekunde zum
+     *     Quadrat.
+     * @param y Die Beschleunigung in y-Richtung in Meter pro Sekunde zum
+     *     Quadrat.
+     *
+     * @return Eine Referenz auf die eigene Instanz des Partikelsystems.
+     */
+    @API
+    @Setter
+    @ChainableMethod
+    public ParticleEmitter acceleration(double x, double y)
+    {
+        accelerationX = (float) x;
+        accelerationY = (float) y;
+        return this;
+    }
+
+    /* particleSize */
+
+    private double particleSize = 0.1;
+
+    /**
+     * Gibt die <b>Kantenlänge</b> eines Partikels zurück.
+     *
+     * @return Die Kantenlänge in Meter.
+     */
+    @API
+    @Getter
+    public double particleSize()
+    {
+        return particleSize;
+    }
+
+    /**
+     * Setzt die <b>Kantenlänge</b> eines Partikels. Ein Partikel wird als
+     * Quadrat mit mindestens einem Pixel Kantenlänge gezeichnet.
+     *
+     * @param particleSize Die Kantenlänge in Meter.
+     *
+     * @return Eine Referenz auf die eigene Instanz des Partikelsystems.
+     */
+    @API
+    @Setter
+    @ChainableMethod
+    public ParticleEmitter particleSize(double particleSize)
+    {
+        this.particleSize = particleSize;
+        return this;
+    }
+
+    /* endColor */
+
+    private Color endColor = new Color(255, 200, 50, 0);
+
+    /**
+     * Gibt die <b>Endfarbe</b> zurück, der sich die Farbe eines Partikels bis
+     * zum Ende seiner Lebensdauer annähert.
+     *
+     * @return Die Endfarbe.
+     */
+    @API
+    @Getter
+    public Color endColor()
+    {
+        return endColor;
+    }
+
+    /**
+     * Setzt die <b>Endfarbe</b>, der sich die Farbe eines Partikels bis zum
+     * Ende seiner Lebensdauer annähert. Eine durchsichtige Endfarbe lässt die
+     * Partikel ausblenden.
+     *
+     * @param endColor Die Endfarbe.
+     *
+     * @return Eine Referenz auf die eigene Instanz des Partikelsystems.
+     */
+    @API
+    @Setter
+    @ChainableMethod
+    public ParticleEmitter endColor(Color endColor)
+    {
+        this.endColor = endColor;
+        return this;
+    }
+
+    /* collisions */
+
+    private boolean collisions = false;
+
+    /**
+     * Gibt an, ob die Partikel von den Figuren der Ebene abprallen.
+     *
+     * @return {@code true}, falls die Partikel abprallen.
+     */
+    @API
+    @Getter
+    public boolean collidesWithActors()
+    {
+        return collisions;
+    }
+
+    /**
+     * Legt fest, ob die Partikel von den Umrissen der Figuren der Ebene
+     * abprallen, die keine Sensoren sind.
+     *
+     * <p>
+     * Jeder Partikel fragt dazu den räumlichen Suchbaum der Physics-Engine nach
+     * Umrissen an seiner neuen Position ab. Die Partikel beeinflussen die
+     * anderen Figuren nicht.
+     * </p>
+     *
+     * @param collisions {@code true}, falls die Partikel abprallen sollen.
+     *
+     * @return Eine Referenz auf die eigene Instanz des Partikelsystems.
+     */
+    @API
+    @Setter
+    @ChainableMethod
+    public ParticleEmitter collideWithActors(boolean collisions)
+    {
+        this.collisions = collisions;
+        return this;
+    }
+
+    /* bounciness */
+
+    private float bounciness = 0.5f;
+
+    /**
+     * Setzt den Anteil der Geschwindigkeit, den ein Partikel beim
+     * {@link #collideWithActors(boolean) Abprallen} behält.
+     *
+     * @param bounciness Ein Wert zwischen {@code 0} und {@code 1}.
+     *
+     * @return Eine Referenz auf die eigene Instanz des Partikelsystems.
+     */
+    @API
+    @Setter
+    @ChainableMethod
+    public ParticleEmitter bounciness(double bounciness)
+    {
+        this.bounciness = (float) bounciness;
+        return this;
+    }
+
+    /**
+     * Stößt sofort die angegebene Anzahl an Partikeln aus, z.B. für eine
+     * Explosion. Ist die {@link #capacity() Kapazität} erreicht, werden keine
+     * weiteren Partikel erzeugt.
+     *
+     * @param amount Die Anzahl an Partikeln.
+     *
+     * @return Eine Referenz auf die eigene Instanz des Partikelsystems.
+     */
+    @API
+    @ChainableMethod
+    public ParticleEmitter emit(int amount)
+    {
+        Vector anchor = anchor();
+        float originX = (float) anchor.x();
+        float originY = (float) anchor.y();
+        double baseAngle = Math.toRadians(direction + rotation());
+        double halfSpread = Math.toRadians(spread) / 2;
+        int end = Math.min(x.length, count + amount);
+        for (int i = count; i < end; i++)
+        {
+            double angle = baseAngle
+                    + (random.nextDouble() * 2 - 1) * halfSpread;
+            double speed = minSpeed
+                    + random.nextDouble() * (maxSpeed - minSpeed);
+            x[i] = originX;
+            y[i] = originY;
+            velocityX[i] = (float) (Math.cos(angle) * speed);
+            velocityY[i] = (float) (Math.sin(angle) * speed);
+            age[i] = 0;
+            lifetime[i] = (float) (minLifetime
+                    + random.nextDouble() * (maxLifetime - minLifetime));
+        }
+        count = end;
+        return this;
+    }
+
+    /**
+     * Entfernt alle lebenden Partikel.
+     *
+     * @return Eine Referenz auf die eigene Instanz des Partikelsystems.
+     */
+    @API
+    @ChainableMethod
+    public ParticleEmitter clear()
+    {
+        count = 0;
+        return this;
+    }
+
+    /**
+     * Gibt die x-Koordinate eines lebenden Partikels zurück.
+     *
+     * @param index Die Nummer des Partikels zwischen {@code 0} und
+     *     {@link #count()}.
+     *
+     * @return Die x-Koordinate in Meter.
+     */
+    public double particleX(int index)
+    {
+        return x[checkIndex(index)];
+    }
+
+    /**
+     * Gibt die y-Koordinate eines lebenden Partikels zurück.
+     *
+     * @param index Die Nummer des Partikels zwischen {@code 0} und
+     *     {@link #count()}.
+     *
+     * @return Die y-Koordinate in Meter.
+     */
+    public double particleY(int index)
+    {
+        return y[checkIndex(index)];
+    }
+
+    private int checkIndex(int index)
+    {
+        if (index < 0 || index >= count)
+        {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return index;
+    }
+
+    /**
+     * Stößt neue Partikel aus und bewegt alle lebenden Partikel in einem
+     * einzigen Durchlauf.
+     *
+     * @param pastTime Die vergangene Zeit in Sekunden.
+     *
+     * @hidden
+     */
+    @Internal
+    @Override
+    public void onFrame(double pastTime)
+    {
+        emitAccumulator += rate * pastTime;
+        if (emitAccumulator >= 1)
+        {
+            int amount = (int) emitAccumulator;
+            emitAccumulator -= amount;
+            emit(amount);
+        }
+        update((float) pastTime);
+    }
+
+    private void update(float dt)
+    {
+        boolean collide = collisions && collisionQuery.prepare();
+        float ax = accelerationX * dt;
+        float ay = accelerationY * dt;
+        float lowX = 0, lowY = 0, highX = 0, highY = 0;
+        int i = 0;
+        while (i < count)
+        {
+            float particleAge = age[i] + dt;
+            if (particleAge >= lifetime[i])
+            {
+                // Den letzten Partikel an die frei gewordene Stelle
+                // verschieben.
+                count--;
+                x[i] = x[count];
+                y[i] = y[count];
+                velocityX[i] = velocityX[count];
+                velocityY[i] = velocityY[count];
+                age[i] = age[count];
+                lifetime[i] = lifetime[count];
+                continue;
+            }
+            age[i] = particleAge;
+            float vx = velocityX[i] + ax;
+            float vy = velocityY[i] + ay;
+            float oldX = x[i];
+            float oldY = y[i];
+            float newX = oldX + vx * dt;
+            float newY = oldY + vy * dt;
+            if (collide && collisionQuery.hits(newX, newY))
+            {
+                if (!collisionQuery.hits(newX, oldY))
+                {
+                    newY = oldY;
+                    vy = -vy * bounciness;
+                }
+                else if (!collisionQuery.hits(oldX, newY))
+                {
+                    newX = oldX;
+                    vx = -vx * bounciness;
+                }
+                else
+                {
+                    newX = oldX;
+                    newY = oldY;
+                    vx = -vx * bounciness;
+                    vy = -vy * bounciness;
+                }
+            }
+            velocityX[i] = vx;
+            velocityY[i] = vy;
+            x[i] = newX;
+            y[i] = newY;
+            if (i == 0)
+            {
+                lowX = highX = newX;
+                lowY = highY = newY;
+            }
+            else
+            {
+                lowX = Math.min(lowX, newX);
+                highX = Math.max(highX, newX);
+                lowY = Math.min(lowY, newY);
+                highY = Math.max(highY, newY);
+            }
+            i++;
+        }
+        minX = lowX;
+        minY = lowY;
+        maxX = highX + (float) particleSize;
+        maxY = highY + (float) particleSize;
+        updateBounds();
+    }
+
+    /**
+     * Passt den Umriss an den Bereich der Partikel an, damit das Partikelsystem
+     * beim Zeichnen nicht ausgelassen wird, solange einer seiner Partikel
+     * sichtbar ist.
+     */
+    private void updateBounds()
+    {
+        if (count == 0)
+        {
+            return;
+        }
+        Vector anchor = anchor();
+        double relativeMinX = minX - anchor.x();
+        double relativeMinY = minY - anchor.y();
+        double relativeMaxX = maxX - anchor.x();
+        double relativeMaxY = maxY - anchor.y();
+        if (relativeMinX >= boundsMinX && relativeMinY >= boundsMinY
+                && relativeMaxX <= boundsMaxX && relativeMaxY <= boundsMaxY)
+        {
+            return;
+        }
+        boundsMinX = Math.min(0, relativeMinX - BOUNDS_MARGIN);
+        boundsMinY = Math.min(0, relativeMinY - BOUNDS_MARGIN);
+        boundsMaxX = Math.max(BOUNDS_MARGIN, relativeMaxX + BOUNDS_MARGIN);
+        boundsMaxY = Math.max(BOUNDS_MARGIN, relativeMaxY + BOUNDS_MARGIN);
+        double x1 = boundsMinX, y1 = boundsMinY, x2 = boundsMaxX,
+                y2 = boundsMaxY;
+        fixture(() -> FixtureBuilder.polygon(new Vector(x1, y1),
+            new Vector(x2, y1),
+            new Vector(x2, y2),
+            new Vector(x1, y2)));
+    }
+
+    /**
+     * Zeichnet alle Partikel in ein wiederverwendetes Bild und überträgt dieses
+     * mit einem einzigen Zeichenbefehl.
+     *
+     * @hidden
+     */
+    @Internal
+    @Override
+    public void render(Graphics2D g, double pixelPerMeter)
+    {
+        if (count == 0)
+        {
+            return;
+        }
+        // Die Partikel liegen in Weltkoordinaten und sollen nicht mit dem
+        // Partikelsystem gedreht werden.
+        double rotation = physics.renderRotation();
+        if (rotation != 0)
+        {
+            g.rotate(Math.toRadians(rotation));
+        }
+        Vector anchor = physics.renderAnchor();
+        double ax = anchor.x();
+        double ay = anchor.y();
+        int size = Math.max(1, (int) Math.round(particleSize * pixelPerMeter));
+        // Der Bereich der Partikel in Pixel, die y-Achse zeigt nach unten.
+        int left = (int) Math.floor((minX - ax) * pixelPerMeter) - 1;
+        int top = (int) Math.floor(-(maxY - ay) * pixelPerMeter) - 1;
+        int width = Math.min(MAX_IMAGE_SIZE,
+            (int) Math.ceil((maxX - ax) * pixelPerMeter) - left + size + 1);
+        int height = Math.min(MAX_IMAGE_SIZE,
+            (int) Math.ceil(-(minY - ay) * pixelPerMeter) - top + size + 1);
+        if (width <= 0 || height <= 0)
+        {
+            return;
+        }
+        ensureImage(width, height);
+        int stride = image.getWidth();
+        for (int row = 0; row < height; row++)
+        {
+            Arrays.fill(pixels, row * stride, row * stride + width, 0);
+        }
+        int start = color.getRGB();
+        int end = endColor.getRGB();
+        for (int i = 0; i < count; i++)
+        {
+            int px = (int) ((x[i] - ax) * pixelPerMeter - left);
+            int py = (int) (-(y[i] - ay) * pixelPerMeter - top) - size;
+            if (px < 0 || py < 0 || px + size > width || py + size > height)
+            {
+                continue;
+            }
+            int argb = interpolate(start, end, age[i] / lifetime[i]);
+            fillSquare(px, py, size, stride, argb);
+        }
+        // Die Pixel werden im nächsten Einzelbild überschrieben.
+        g.setRenderingHint(RecordingGraphics2D.KEY_IMAGE_SNAPSHOT, true);
+        g.drawImage(image,
+            left,
+            top,
+            left + width,
+            top + height,
+            0,
+            0,
+            width,
+            height,
+            null);
+        g.setRenderingHint(RecordingGraphics2D.KEY_IMAGE_SNAPSHOT, false);
+        if (rotation != 0)
+        {
+            g.rotate(-Math.toRadians(rotation));
+        }
+    }
+
+    private void ensureImage(int width, int height)
+    {
+        if (image == null || image.getWidth() < width
+                || image.getHeight() < height)
+        {
+            int w = image == null ? width : Math.max(width, image.getWidth());
+            int h = image == null ? height
+                    : Math.max(height, image.getHeight());
+            image = new BufferedImage(Math.min(MAX_IMAGE_SIZE, w + w / 4),
+                    Math.min(MAX_IMAGE_SIZE, h + h / 4),
+                    BufferedImage.TYPE_INT_ARGB_PRE);
+            pixels = ((DataBufferInt) image.getRaster().getDataBuffer())
+                .getData();
+        }
+    }
+
+    /**
+     * Überblendet ein Quadrat im Bild mit der angegebenen Farbe (Source-Over
+     * mit vormultipliziertem Alphakanal).
+     */
+    private void fillSquare(int px, int py, int size, int stride, int argb)
+    {
+        int alpha = argb >>> 24;
+        if (alpha == 0)
+        {
+            return;
+        }
+        int inverse = 255 - alpha;
+        int source = (alpha << 24)
+                | ((((argb >> 16) & 0xFF) * alpha / 255) << 16)
+                | ((((argb >> 8) & 0xFF) * alpha / 255) << 8)
+                | ((argb & 0xFF) * alpha / 255);
+        for (int row = py; row < py + size; row++)
+        {
+            int offset = row * stride;
+            for (int column = px; column < px + size; column++)
+            {
+                int destination = pixels[offset + column];
+                if (destination == 0 || inverse == 0)
+                {
+                    pixels[offset + column] = source;
+                    continue;
+                }
+                int redBlue = ((destination & 0xFF00FF) * inverse >>> 8)
+                        & 0xFF00FF;
+                int alphaGreen = (((destination >>> 8) & 0xFF00FF)
+                        * inverse >>> 8) & 0xFF00FF;
+                pixels[offset + column] = source
+                        + (redBlue | (alphaGreen << 8));
+            }
+        }
+    }
+
+    /**
+     * Mischt zwei Farben im ARGB-Format kanalweise.
+     */
+    private static int interpolate(int from, int to, float t)
+    {
+        int weight = (int) (t * 256);
+        int inverse = 256 - weight;
+        int redBlue = (((from & 0xFF00FF) * inverse
+                + (to & 0xFF00FF) * weight) >>> 8) & 0xFF00FF;
+        int alphaGreen = ((((from >>> 8) & 0xFF00FF) * inverse
+                + ((to >>> 8) & 0xFF00FF) * weight) >>> 8) & 0xFF00FF;
+        return redBlue | (alphaGreen << 8);
+    }
+
+    /**
+     * Prüft über den räumlichen Suchbaum der Physics-Engine, ob ein Punkt in
+     * einem festen Umriss liegt.
+     */
+    private final class CollisionQuery implements QueryCallback
+    {
+        private final AABB bounds = new AABB();
+
+        private final Vec2 point = new Vec2();
+
+        private BodyHandler handler;
+
+        private Body own;
+
+        private boolean hit;
+
+        /**
+         * @return {@code false}, falls das Partikelsystem keiner Ebene
+         *     angehört.
+         */
+        boolean prepare()
+        {
+            if (!(physics instanceof BodyHandler bodyHandler))
+            {
+                return false;
+            }
+            handler = bodyHandler;
+            own = bodyHandler.body();
+            return true;
+        }
+
+        boolean hits(float px, float py)
+        {
+            point.set(px, py);
+            bounds.lowerBound.set(px, py);
+            bounds.upperBound.set(px, py);
+            hit = false;
+            handler.worldHandler().queryAABB(bounds, this);
+            return hit;
+        }
+
+        @Override
+        public boolean reportFixture(Fixture fixture)
+        {
+            if (fixture.isSensor() || fixture.getBody() == own
+                    || !fixture.testPoint(point))
+            {
+                return true;
+            }
+            hit = true;
+            return false;
+        }
+    }
+}
@@ -22,7 +22,6 @@ package pi.actor;
 
 import static pi.Controller.images;
 
-import java.awt.geom.AffineTransform;
 import java.awt.image.BufferedImage;
 
 import pi.annotations.API;
@@ -43,12 +42,7 @@ public interface TileMap
 
     static Tile createFromImage(BufferedImage image)
     {
-        return (g, width, height) -> {
-            AffineTransform pre = g.getTransform();
-            g.scale(width / image.getWidth(), height / image.getHeight());
-            g.drawImage(image, null, 0, 0);
-            g.setTransform(pre);
-        };
+        return new ImageTile(image);
     }
 
     static TileMap createFromImage(String path, int sizeX, int sizeY)
@@ -27,7 +27,9 @@ import pi.annotations.API;
 import pi.annotations.Getter;
 import pi.annotations.Internal;
 import pi.annotations.Setter;
+import pi.graphics.SpriteBatch;
 import pi.physics.FixtureBuilder;
+import pi.resources.AtlasRegion;
 
 /**
  * Ein <code>TileContainer</code> ist eine schachbrettartige Anordnung
@@ -53,6 +55,11 @@ public class TileRegistration extends Actor implements TileMap
      */
     private final double tileHeight;
 
+    /**
+     * Sammelt die Kacheln aus dem Texturatlas beim Zeichnen.
+     */
+    private final SpriteBatch batch = new SpriteBatch();
+
     /**
      * Erstellt einen <b>leeren</b> Tile-Container. Er ist erst "sichtbar", wenn
      * Tiles gesetzt werden.
@@ -135,27 +142,44 @@ public class TileRegistration extends Actor implements TileMap
     @Override
     public void render(Graphics2D g, double pixelPerMeter)
     {
-        final AffineTransform ore = g.getTransform();
         double offset = tiles[0].length * tileHeight * pixelPerMeter;
+        double width = tileWidth * pixelPerMeter;
+        double height = tileHeight * pixelPerMeter;
+        // Kacheln aus dem Texturatlas werden gesammelt in
+        // Bildschirmkoordinaten gezeichnet, alle übrigen einzeln.
+        boolean batching = batch.begin(g);
+        final AffineTransform ore = g.getTransform();
         g.translate(0, -offset);
         for (int x = 0; x < tiles.length; x++)
         {
             for (int y = 0; y < tiles[x].length; y++)
             {
-                if (tiles[x][y] == null)
+                Tile tile = tiles[x][y];
+                if (tile == null)
                 {
                     continue;
                 }
-                double tx = tileWidth * x * pixelPerMeter;
-                double ty = tileHeight * y * pixelPerMeter;
+                double tx = width * x;
+                double ty = height * y;
+                if (batching && tile instanceof ImageTile imageTile)
+                {
+                    AtlasRegion region = imageTile.region();
+                    if (region != null)
+                    {
+                        batch.draw(region, tx, ty - offset, width, height);
+                        continue;
+                    }
+                }
                 g.translate(tx, ty);
-                tiles[x][y].render(g,
-                    tileWidth * pixelPerMeter,
-                    tileHeight * pixelPerMeter);
+                tile.render(g, width, height);
                 g.translate(-tx, -ty);
             }
         }
         g.setTransform(ore);
+        if (batching)
+        {
+            batch.end();
+        }
     }
 
     @Override
@@ -27,6 +27,9 @@ import java.awt.image.BufferedImage;
 import pi.annotations.Getter;
 import pi.annotations.Internal;
 import pi.annotations.Setter;
+import pi.graphics.SpriteBatch;
+import pi.resources.AtlasRegion;
+import pi.resources.AtlasRegionCache;
 
 /**
  * Beschreibt ein Einzelbild einer {@link pi.actor.Animation}.
@@ -48,6 +51,11 @@ public final class AnimationFrame
      */
     private double duration;
 
+    /**
+     * Der Ausschnitt des Einzelbilds im Texturatlas.
+     */
+    private final AtlasRegionCache atlasRegion = new AtlasRegionCache(true);
+
     /**
      * Erstellt ein Einzelbild.
      *
@@ -116,6 +124,18 @@ public final class AnimationFrame
     public void render(Graphics2D g, double width, double height,
             boolean flipHorizontal, boolean flipVertical)
     {
+        AtlasRegion region = atlasRegion.region(image);
+        if (region != null && SpriteBatch.draw(g,
+            region,
+            0,
+            -height,
+            width,
+            height,
+            flipHorizontal,
+            flipVertical))
+        {
+            return;
+        }
         AffineTransform pre = g.getTransform();
         g.scale(width / this.image.getWidth(), height / this.image.getHeight());
         g.drawImage(image,
@@ -0,0 +1,355 @@
+/*
+ * Engine Pi ist eine anfängerorientierte 2D-Gaming Engine.
+ *
+ * Copyright (c) 2026 Josef Friedrich and contributors.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package pi.animation;
+
+import java.util.Arrays;
+import java.util.function.DoubleConsumer;
+
+import pi.annotations.API;
+import pi.annotations.Getter;
+import pi.annotations.Internal;
+import pi.event.FrameListener;
+
+/**
+ * Ein zentraler <b>Planer</b>, der viele {@link DoubleAnimator Animationen} in
+ * einem einzigen Durchlauf pro Einzelbild fortschreibt.
+ *
+ * <p>
+ * Die veränderlichen Zustände aller Animationen (Zeit, Dauer, Modus, Richtung,
+ * Pause) liegen in primitiven Feldern. Ein Einzelbild erzeugt daher keine neuen
+ * Objekte, solange keine Animation abgeschlossen wird. Abgeschlossene
+ * Animationen werden durch die letzte Animation ersetzt, sodass die Felder
+ * lückenlos bleiben.
+ * </p>
+ *
+ * <p>
+ * Die Animationsmodi verhalten sich wie beim {@link ValueAnimator}:
+ * </p>
+ * <ul>
+ * <li>{@link AnimationMode#SINGLE SINGLE} - Die Animation wird einmal
+ * ausgeführt. Danach werden die Beobachter des Abschlusses benachrichtigt und
+ * die Animation wird entfernt.</li>
+ * <li>{@link AnimationMode#REPEATED REPEATED} - Die Animation wird
+ * kontinuierlich wiederholt.</li>
+ * <li>{@link AnimationMode#PING_PONG PING_PONG} - Die Animation läuft vorwärts
+ * und rückwärts in einer Schleife.</li>
+ * </ul>
+ *
+ * <p>
+ * Jede {@link pi.Scene Szene} besitzt einen eigenen Planer, siehe
+ * {@link pi.Scene#animations()}.
+ * </p>
+ *
+ * @since 0.53.0
+ */
+public final class AnimationScheduler implements FrameListener
+{
+    private static final int INITIAL_CAPACITY = 16;
+
+    private DoubleAnimator[] animators = new DoubleAnimator[INITIAL_CAPACITY];
+
+    private DoubleConsumer[] consumers = new DoubleConsumer[INITIAL_CAPACITY];
+
+    private DoubleInterpolator[] interpolators = new DoubleInterpolator[INITIAL_CAPACITY];
+
+    /**
+     * Die bisher abgelaufene Zeit jeder Animation in Sekunden.
+     */
+    private double[] times = new double[INITIAL_CAPACITY];
+
+    /**
+     * Die Dauer jeder Animation in Sekunden.
+     */
+    private double[] durations = new double[INITIAL_CAPACITY];
+
+    /**
+     * Die {@link AnimationMode#ordinal() Ordinalzahl} des Animationsmodus.
+     */
+    private byte[] modes = new byte[INITIAL_CAPACITY];
+
+    /**
+     * Ob eine Animation im Modus {@link AnimationMode#PING_PONG PING_PONG}
+     * gerade rückwärts läuft.
+     */
+    private boolean[] backwards = new boolean[INITIAL_CAPACITY];
+
+    private boolean[] paused = new boolean[INITIAL_CAPACITY];
+
+    private int size = 0;
+
+    /**
+     * Die im aktuellen Einzelbild abgeschlossenen Animationen. Das Feld wird
+     * wiederverwendet.
+     */
+    private DoubleAnimator[] completed = new DoubleAnimator[INITIAL_CAPACITY];
+
+    private static final byte SINGLE = (byte) AnimationMode.SINGLE.ordinal();
+
+    private static final byte REPEATED = (byte) AnimationMode.REPEATED
+        .ordinal();
+
+    /**
+     * Startet eine neue <b>Animation</b>.
+     *
+     * @param duration Die <b>Dauer</b> der Animation in Sekunden.
+     * @param consumer Die Funktion, die bei jedem Einzelbild mit dem
+     *     interpolierten Wert aufgerufen wird.
+     * @param interpolator Der <b>Interpolator</b>, der die Werte zwischen Start
+     *     und Ende berechnet, z. B.
+     *     {@link pi.animation.interpolation.LinearDouble LinearDouble}.
+     * @param mode Der <b>Animationsmodus</b>.
+     *
+     * @return Der Animator, über den die Animation gesteuert werden kann.
+     */
+    @API
+    public synchronized DoubleAnimator animate(double duration,
+            DoubleConsumer consumer, DoubleInterpolator interpolator,
+            AnimationMode mode)
+    {
+        if (duration <= 0)
+        {
+            throw new IllegalArgumentException(
+                    "Die Dauer der Animation muss größer als 0 sein, war "
+                            + duration);
+        }
+        DoubleAnimator animator = new DoubleAnimator(this, duration, consumer,
+                interpolator, mode);
+        if (size == animators.length)
+        {
+            grow();
+        }
+        int slot = size++;
+        animators[slot] = animator;
+        consumers[slot] = consumer;
+        interpolators[slot] = interpolator;
+        times[slot] = 0;
+        durations[slot] = duration;
+        modes[slot] = (byte) mode.ordinal();
+        backwards[slot] = false;
+        paused[slot] = false;
+        animator.slot = slot;
+        return animator;
+    }
+
+    /**
+     * Startet eine neue <b>Animation</b>, die einmal abläuft.
+     *
+     * @param duration Die <b>Dauer</b> der Animation in Sekunden.
+     * @param consumer Die Funktion, die bei jedem Einzelbild mit dem
+     *     interpolierten Wert aufgerufen wird.
+     * @param interpolator Der <b>Interpolator</b>, der die Werte zwischen Start
+     *     und Ende berechnet.
+     *
+     * @return Der Animator, über den die Animation gesteuert werden kann.
+     */
+    @API
+    public DoubleAnimator animate(double duration, DoubleConsumer consumer,
+            DoubleInterpolator interpolator)
+    {
+        return animate(duration, consumer, interpolator, AnimationMode.SINGLE);
+    }
+
+    /**
+     * Gibt die Anzahl der <b>laufenden</b> Animationen zurück.
+     *
+     * @return Die Anzahl der laufenden Animationen.
+     */
+    @API
+    @Getter
+    public synchronized int size()
+    {
+        return size;
+    }
+
+    /**
+     * <b>Bricht</b> alle laufenden Animationen ab, ohne die Beobachter des
+     * Abschlusses zu benachrichtigen.
+     */
+    @API
+    public synchronized void clear()
+    {
+        for (int i = 0; i < size; i++)
+        {
+            animators[i].slot = -1;
+        }
+        Arrays.fill(animators, 0, size, null);
+        Arrays.fill(consumers, 0, size, null);
+        Arrays.fill(interpolators, 0, size, null);
+        size = 0;
+    }
+
+    /**
+     * Schreibt alle laufenden Animationen fort.
+     *
+     * @param pastTime Die Zeit in Sekunden seit dem letzten Einzelbild.
+     *
+     * @hidden
+     */
+    @Internal
+    @Override
+    public void onFrame(double pastTime)
+    {
+        int completedCount = 0;
+        synchronized (this)
+        {
+            for (int i = 0; i < size; i++)
+            {
+                if (paused[i])
+                {
+                    continue;
+                }
+                double duration = durations[i];
+                double time = times[i];
+                double progress;
+                if (!backwards[i])
+                {
+                    time += pastTime;
+                    if (time > duration)
+                    {
+                        if (modes[i] == REPEATED)
+                        {
+                            time %= duration;
+                            progress = time / duration;
+                        }
+                        else if (modes[i] == SINGLE)
+                        {
+                            time = duration;
+                            progress = 1;
+                            if (completedCount == completed.length)
+                            {
+                                completed = Arrays.copyOf(completed,
+                                    completedCount * 2);
+                            }
+                            completed[completedCount++] = animators[i];
+                        }
+                        else
+                        {
+                            // Ging bisher vorwärts -> Jetzt rückwärts. Anders
+                            // als beim ValueAnimator wird die Zeit begrenzt,
+                            // damit der Fortschritt nicht über 1 steigt.
+                            backwards[i] = true;
+                            time = duration;
+                            progress = 1;
+                        }
+                    }
+                    else
+                    {
+                        progress = time / duration;
+                    }
+                }
+                else
+                {
+                    time -= pastTime;
+                    if (time < 0)
+                    {
+                        // Rückwärts fertig -> Jetzt wieder vorwärts
+                        backwards[i] = false;
+                        time = 0;
+                        progress = 0;
+                    }
+                    else
+                    {
+                        progress = time / duration;
+                    }
+                }
+                times[i] = time;
+                consumers[i]
+                    .accept(interpolators[i].interpolateAsDouble(progress));
+            }
+            for (int i = 0; i < completedCount; i++)
+            {
+                remove(completed[i]);
+            }
+        }
+        // Die Beobachter werden außerhalb des Durchlaufs benachrichtigt, damit
+        // sie neue Animationen starten oder andere abbrechen können.
+        for (int i = 0; i < completedCount; i++)
+        {
+            DoubleAnimator animator = completed[i];
+            completed[i] = null;
+            animator.complete();
+        }
+    }
+
+    /**
+     * Entfernt eine Animation, indem die letzte Animation an ihre Stelle rückt.
+     */
+    synchronized void remove(DoubleAnimator animator)
+    {
+        int slot = animator.slot;
+        if (slot < 0)
+        {
+            return;
+        }
+        int last = --size;
+        if (slot != last)
+        {
+            animators[slot] = animators[last];
+            consumers[slot] = consumers[last];
+            interpolators[slot] = interpolators[last];
+            times[slot] = times[last];
+            durations[slot] = durations[last];
+            modes[slot] = modes[last];
+            backwards[slot] = backwards[last];
+            paused[slot] = paused[last];
+            animators[slot].slot = slot;
+        }
+        animators[last] = null;
+        consumers[last] = null;
+        interpolators[last] = null;
+        animator.slot = -1;
+    }
+
+    synchronized void paused(DoubleAnimator animator, boolean value)
+    {
+        if (animator.slot >= 0)
+        {
+            paused[animator.slot] = value;
+        }
+    }
+
+    synchronized boolean isPaused(DoubleAnimator animator)
+    {
+        return animator.slot >= 0 && paused[animator.slot];
+    }
+
+    synchronized void progress(DoubleAnimator animator, double progress)
+    {
+        if (animator.slot >= 0)
+        {
+            backwards[animator.slot] = false;
+            times[animator.slot] = durations[animator.slot] * progress;
+        }
+        animator.consumer
+            .accept(animator.interpolator.interpolateAsDouble(progress));
+    }
+
+    private void grow()
+    {
+        int capacity = animators.length * 2;
+        animators = Arrays.copyOf(animators, capacity);
+        consumers = Arrays.copyOf(consumers, capacity);
+        interpolators = Arrays.copyOf(interpolators, capacity);
+        times = Arrays.copyOf(times, capacity);
+        durations = Arrays.copyOf(durations, capacity);
+        modes = Arrays.copyOf(modes, capacity);
+        backwards = Arrays.copyOf(backwards, capacity);
+        paused = Arrays.copyOf(paused, capacity);
+    }
+}
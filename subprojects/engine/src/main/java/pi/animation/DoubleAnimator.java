@@ -0,0 +1,238 @@
+/*
+ * Engine Pi ist eine anfängerorientierte 2D-Gaming Engine.
+ *
+ * Copyright (c) 2026 Josef Friedrich and contributors.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package pi.animation;
+
+import java.util.function.DoubleConsumer;
+
+import pi.annotations.API;
+import pi.annotations.ChainableMethod;
+import pi.event.EventListeners;
+
+/**
+ * Ein <b>Animator</b> für Gleitkommazahlen, der von einem
+ * {@link AnimationScheduler} ausgeführt wird.
+ *
+ * <p>
+ * Im Gegensatz zum {@link ValueAnimator} ist der Animator kein eigener
+ * {@link pi.event.FrameListener}. Der Zustand, der in jedem Einzelbild
+ * fortgeschrieben wird, liegt in den Feldern des Planers. Die interpolierten
+ * Werte werden ohne Umwandlung in {@link Double}-Objekte an einen
+ * {@link DoubleConsumer} übergeben.
+ * </p>
+ *
+ * @see AnimationScheduler#animate(double, DoubleConsumer, DoubleInterpolator,
+ *     AnimationMode)
+ *
+ * @since 0.53.0
+ */
+public final class DoubleAnimator
+{
+    private final AnimationScheduler scheduler;
+
+    final DoubleConsumer consumer;
+
+    final DoubleInterpolator interpolator;
+
+    final AnimationMode mode;
+
+    final double duration;
+
+    /**
+     * Die Position im {@link AnimationScheduler Planer} oder {@code -1}, falls
+     * der Animator nicht mehr ausgeführt wird.
+     */
+    int slot = -1;
+
+    private boolean complete = false;
+
+    private EventListeners<DoubleConsumer> completionListeners;
+
+    DoubleAnimator(AnimationScheduler scheduler, double duration,
+            DoubleConsumer consumer, DoubleInterpolator interpolator,
+            AnimationMode mode)
+    {
+        this.scheduler = scheduler;
+        this.duration = duration;
+        this.consumer = consumer;
+        this.interpolator = interpolator;
+        this.mode = mode;
+    }
+
+    /**
+     * Gibt die <b>Dauer</b> der Animation in Sekunden zurück.
+     *
+     * @return Die Dauer in Sekunden.
+     */
+    @API
+    public double duration()
+    {
+        return duration;
+    }
+
+    /**
+     * Gibt den <b>Animationsmodus</b> zurück.
+     *
+     * @return Der Animationsmodus.
+     */
+    @API
+    public AnimationMode mode()
+    {
+        return mode;
+    }
+
+    /**
+     * Setzt, ob die Animation pausiert werden soll.
+     *
+     * @param paused {@code true}: Die Animation wird unterbrochen, bis das Flag
+     *     umgesetzt wird. {@code false}: Die Animation wird wieder aufgenommen.
+     *
+     * @return Eine Referenz auf das eigene Objekt, damit nach dem
+     *     Erbauer/Builder-Entwurfsmuster die Eigenschaften durch aneinander
+     *     gekettete Setter festgelegt werden können.
+     */
+    @API
+    @ChainableMethod
+    public DoubleAnimator paused(boolean paused)
+    {
+        scheduler.paused(this, paused);
+        return this;
+    }
+
+    /**
+     * Gibt an, ob die Animation pausiert ist.
+     *
+     * @return Ob die Animation pausiert ist.
+     */
+    @API
+    public boolean isPaused()
+    {
+        return scheduler.isPaused(this);
+    }
+
+    /**
+     * Setzt den aktuellen <b>Fortschritt</b> der Animation händisch.
+     *
+     * @param progress Der Fortschritt zwischen {@code 0} (<b>Anfang der
+     *     Animation</b>) und {@code 1} (<b>Ende der Animation</b>).
+     *
+     * @return Eine Referenz auf das eigene Objekt, damit nach dem
+     *     Erbauer/Builder-Entwurfsmuster die Eigenschaften durch aneinander
+     *     gekettete Setter festgelegt werden können.
+     */
+    @API
+    @ChainableMethod
+    public DoubleAnimator progress(double progress)
+    {
+        if (progress < 0 || progress > 1)
+        {
+            throw new IllegalArgumentException(
+                    "Der eingegebene Progess muss zwischen 0 und 1 liegen. War "
+                            + progress);
+        }
+        scheduler.progress(this, progress);
+        return this;
+    }
+
+    /**
+     * Gibt an, ob die Animation im Modus {@link AnimationMode#SINGLE SINGLE}
+     * vollständig abgelaufen ist.
+     *
+     * @return {@code true}, falls die Animation abgeschlossen ist.
+     */
+    @API
+    public boolean isComplete()
+    {
+        return complete;
+    }
+
+    /**
+     * Gibt an, ob die Animation noch vom {@link AnimationScheduler Planer}
+     * ausgeführt wird.
+     *
+     * @return {@code true}, solange die Animation weder abgeschlossen noch
+     *     abgebrochen wurde.
+     */
+    @API
+    public boolean isRunning()
+    {
+        return slot >= 0;
+    }
+
+    /**
+     * <b>Bricht</b> die Animation ab, ohne die Beobachter des Abschlusses zu
+     * benachrichtigen.
+     */
+    @API
+    public void cancel()
+    {
+        scheduler.remove(this);
+    }
+
+    /**
+     * Meldet einen Beobachter an, der beim <b>Abschluss</b> der Animation (nur
+     * im Modus {@link AnimationMode#SINGLE SINGLE}) mit dem Endwert aufgerufen
+     * wird. Ist die Animation bereits abgeschlossen, wird der Beobachter sofort
+     * aufgerufen.
+     *
+     * @param listener Der Beobachter.
+     *
+     * @return Eine Referenz auf das eigene Objekt, damit nach dem
+     *     Erbauer/Builder-Entwurfsmuster die Eigenschaften durch aneinander
+     *     gekettete Setter festgelegt werden können.
+     */
+    @API
+    @ChainableMethod
+    public synchronized DoubleAnimator addCompletionListener(
+            DoubleConsumer listener)
+    {
+        if (complete)
+        {
+            listener.accept(interpolator.interpolateAsDouble(1));
+        }
+        else
+        {
+            if (completionListeners == null)
+            {
+                completionListeners = new EventListeners<>();
+            }
+            completionListeners.add(listener);
+        }
+        return this;
+    }
+
+    /**
+     * Markiert die Animation als abgeschlossen und benachrichtigt die
+     * Beobachter.
+     */
+    void complete()
+    {
+        EventListeners<DoubleConsumer> listeners;
+        synchronized (this)
+        {
+            complete = true;
+            listeners = completionListeners;
+            completionListeners = null;
+        }
+        if (listeners != null)
+        {
+            double finalValue = interpolator.interpolateAsDouble(1);
+            listeners.invoke(listener -> listener.accept(finalValue));
+        }
+    }
+}
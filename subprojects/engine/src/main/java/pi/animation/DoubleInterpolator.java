@@ -0,0 +1,42 @@
+/*
+ * Engine Pi ist eine anfängerorientierte 2D-Gaming Engine.
+ *
+ * Copyright (c) 2026 Josef Friedrich and contributors.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package pi.animation;
+
+/**
+ * Ein <b>Interpolator</b>, der Gleitkommazahlen ohne Umwandlung in
+ * {@link Double}-Objekte berechnet.
+ *
+ * @see DoubleAnimator
+ * @see AnimationScheduler
+ *
+ * @since 0.53.0
+ */
+@FunctionalInterface
+public interface DoubleInterpolator
+{
+    /**
+     * Berechnet den Wert zum angegebenen Fortschritt.
+     *
+     * @param progress Der Fortschritt der Animation. {@code 0} ist der
+     *     <b>Anfang</b>, {@code 1} das <b>Ende</b> der Animation.
+     *
+     * @return Der interpolierte Wert.
+     */
+    double interpolateAsDouble(double progress);
+}
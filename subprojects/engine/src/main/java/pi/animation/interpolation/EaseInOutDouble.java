@@ -20,11 +20,12 @@
  */
 package pi.animation.interpolation;
 
+import pi.animation.DoubleInterpolator;
 import pi.animation.Interpolator;
 import pi.annotations.API;
 import pi.annotations.Internal;
 
-public class EaseInOutDouble implements Interpolator<Double>
+public class EaseInOutDouble implements Interpolator<Double>, DoubleInterpolator
 {
     /**
      * Startpunkt. Interpolationswert bei t=0
@@ -58,6 +59,16 @@ public class EaseInOutDouble implements Interpolator<Double>
     @Internal
     @Override
     public Double interpolate(double progress)
+    {
+        return interpolateAsDouble(progress);
+    }
+
+    /**
+     * @hidden
+     */
+    @Internal
+    @Override
+    public double interpolateAsDouble(double progress)
     {
         return ((Math.sin(progress * Math.PI - Math.PI / 2) + 1) / 2)
                 * (this.end - this.start) + this.start;
@@ -20,11 +20,12 @@
  */
 package pi.animation.interpolation;
 
+import pi.animation.DoubleInterpolator;
 import pi.animation.Interpolator;
 import pi.annotations.API;
 import pi.annotations.Internal;
 
-public class LinearDouble implements Interpolator<Double>
+public class LinearDouble implements Interpolator<Double>, DoubleInterpolator
 {
     private final double start;
 
@@ -43,6 +44,16 @@ public class LinearDouble implements Interpolator<Double>
     @Internal
     @Override
     public Double interpolate(double progress)
+    {
+        return interpolateAsDouble(progress);
+    }
+
+    /**
+     * @hidden
+     */
+    @Internal
+    @Override
+    public double interpolateAsDouble(double progress)
     {
         return this.start + (this.end - this.start) * progress;
     }
@@ -20,11 +20,13 @@
  */
 package pi.animation.interpolation;
 
+import pi.animation.DoubleInterpolator;
 import pi.animation.Interpolator;
 import pi.annotations.API;
 import pi.annotations.Internal;
 
-public class ReverseEaseDouble implements Interpolator<Double>
+public class ReverseEaseDouble
+        implements Interpolator<Double>, DoubleInterpolator
 {
     private final double startAndEnd;
 
@@ -43,6 +45,16 @@ public class ReverseEaseDouble implements Interpolator<Double>
     @Internal
     @Override
     public Double interpolate(double progress)
+    {
+        return interpolateAsDouble(progress);
+    }
+
+    /**
+     * @hidden
+     */
+    @Internal
+    @Override
+    public double interpolateAsDouble(double progress)
     {
         return this.startAndEnd + Math.sin(progress * Math.PI)
                 * (this.middle - this.startAndEnd);
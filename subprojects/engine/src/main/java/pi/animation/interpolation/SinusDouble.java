@@ -20,6 +20,7 @@
  */
 package pi.animation.interpolation;
 
+import pi.animation.DoubleInterpolator;
 import pi.animation.Interpolator;
 import pi.annotations.API;
 import pi.annotations.Internal;
@@ -29,7 +30,7 @@ import pi.annotations.Internal;
  *
  * @author Michael Andonie
  */
-public class SinusDouble implements Interpolator<Double>
+public class SinusDouble implements Interpolator<Double>, DoubleInterpolator
 {
     /**
      * Der Startwert (und Endwert)
@@ -65,6 +66,16 @@ public class SinusDouble implements Interpolator<Double>
     @Internal
     @Override
     public Double interpolate(double progress)
+    {
+        return interpolateAsDouble(progress);
+    }
+
+    /**
+     * @hidden
+     */
+    @Internal
+    @Override
+    public double interpolateAsDouble(double progress)
     {
         return Math.sin(Math.PI * progress * 2) * amplitude + start;
     }
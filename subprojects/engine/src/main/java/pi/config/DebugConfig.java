@@ -56,6 +56,7 @@ public class DebugConfig extends ConfigGroup
         renderAABBs(false);
         renderOBBs(false);
         useANSIcolors(false);
+        profilerOverlay(false);
     }
 
     /* enabled */
@@ -377,4 +378,57 @@ public class DebugConfig extends ConfigGroup
         set("useANSIcolors", useANSIcolors);
         return this;
     }
+
+    /* profilerOverlay */
+
+    /**
+     * Gibt an, ob die Auswertung des {@link pi.loop.FrameProfiler Profilers}
+     * als <b>Überblendung</b> angezeigt wird.
+     */
+    private boolean profilerOverlay;
+
+    /**
+     * Gibt zurück, ob die Auswertung des {@link pi.loop.FrameProfiler
+     * Profilers} als <b>Überblendung</b> angezeigt wird.
+     *
+     * <p>
+     * Die Überblendung zeigt ein Diagramm der Rechenzeit der letzten
+     * Einzelbilder sowie den Median und das 99. Perzentil jedes Abschnitts. Sie
+     * wird unabhängig vom Entwicklungsmodus angezeigt.
+     * </p>
+     *
+     * @return Ob die Auswertung des Profilers als <b>Überblendung</b> angezeigt
+     *     wird.
+     *
+     * @since 0.53.0
+     */
+    @API
+    @Getter
+    public boolean profilerOverlay()
+    {
+        return profilerOverlay;
+    }
+
+    /**
+     * Legt fest, ob die Auswertung des {@link pi.loop.FrameProfiler Profilers}
+     * als <b>Überblendung</b> angezeigt wird.
+     *
+     * @param profilerOverlay Ob die Auswertung des Profilers als
+     *     <b>Überblendung</b> angezeigt werden soll.
+     *
+     * @return Eine Referenz auf die eigene Instanz der Konfigurationsgruppe,
+     *     damit nach dem Erbauer/Builder-Entwurfsmuster die Eigenschaften der
+     *     Konfigurationsgruppe durch aneinander gekettete Setter festgelegt
+     *     werden können, z.B. {@code debug.enabled(..).renderActors(..)}.
+     *
+     * @since 0.53.0
+     */
+    @API
+    @Setter
+    @ChainableMethod
+    public DebugConfig profilerOverlay(boolean profilerOverlay)
+    {
+        set("profilerOverlay", profilerOverlay);
+        return this;
+    }
 }
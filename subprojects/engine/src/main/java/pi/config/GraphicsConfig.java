@@ -33,6 +33,8 @@ import pi.annotations.ChainableMethod;
 import pi.annotations.Getter;
 import pi.annotations.Setter;
 import pi.graphics.geom.Direction;
+import pi.graphics.screen_recording.SupportedAnimatedFormat;
+import pi.loop.GameLoopMode;
 
 // Go to file:///data/school/repos/inf/java/engine-pi/docs/manual/resources/config.md
 
@@ -68,8 +70,14 @@ public class GraphicsConfig extends ConfigGroup
         pixelPerMeter(32);
         zoomChange(0.05);
         framerate(60);
+        loopMode(GameLoopMode.SIMPLE);
+        pipelinedRendering(false);
+        layerConcurrency(1);
+        solverThreads(1);
+        glyphAtlas(false);
         colorScheme("Gnome");
         screenRecordingNFrames(2);
+        screenRecordingFormat(SupportedAnimatedFormat.MP4);
     }
 
     /* windowWidth */
@@ -376,6 +384,282 @@ public class GraphicsConfig extends ConfigGroup
         return this;
     }
 
+    /* loopMode */
+
+    /**
+     * Der <b>Modus</b>, in dem die Ereignisschleife die Einzelbilder taktet.
+     */
+    private GameLoopMode loopMode;
+
+    /**
+     * Gibt den <b>Modus</b> zurück, in dem die Ereignisschleife die
+     * Einzelbilder taktet.
+     *
+     * @return Der <b>Modus</b> der Ereignisschleife.
+     *
+     * @since 0.53.0
+     */
+    @API
+    @Getter
+    public GameLoopMode loopMode()
+    {
+        return loopMode;
+    }
+
+    /**
+     * Setzt den <b>Modus</b>, in dem die Ereignisschleife die Einzelbilder
+     * taktet.
+     *
+     * <p>
+     * Die Einstellung wird beim Start der Ereignisschleife ausgewertet.
+     * </p>
+     *
+     * @param loopMode Der <b>Modus</b> der Ereignisschleife.
+     *
+     * @return Eine Referenz auf die eigene Instanz der Konfigurationsgruppe,
+     *     damit nach dem Erbauer/Builder-Entwurfsmuster die Eigenschaften der
+     *     Konfigurationsgruppe durch aneinander gekettete Setter festgelegt
+     *     werden können, z.B. {@code graphic.windowWidth(..).windowHeight(..)}.
+     *
+     * @since 0.53.0
+     */
+    @API
+    @Setter
+    @ChainableMethod
+    public GraphicsConfig loopMode(GameLoopMode loopMode)
+    {
+        set("loopMode", loopMode);
+        return this;
+    }
+
+    /* pipelinedRendering */
+
+    /**
+     * Gibt an, ob die Einzelbilder in einem <b>eigenen Thread</b> gezeichnet
+     * werden.
+     */
+    private boolean pipelinedRendering;
+
+    /**
+     * Gibt an, ob die Einzelbilder in einem <b>eigenen Thread</b> gezeichnet
+     * werden.
+     *
+     * @return {@code true}, falls in einem eigenen Thread gezeichnet wird,
+     *     sonst {@code false}.
+     *
+     * @since 0.53.0
+     */
+    @API
+    @Getter
+    public boolean pipelinedRendering()
+    {
+        return pipelinedRendering;
+    }
+
+    /**
+     * Legt fest, ob die Einzelbilder in einem <b>eigenen Thread</b> gezeichnet
+     * werden.
+     *
+     * <p>
+     * Ist die Einstellung aktiviert, zeichnet die Ereignisschleife die Figuren
+     * nicht direkt auf die Zeichenfläche, sondern zeichnet die Zeichenbefehle
+     * nur auf. Ein eigener Thread überträgt sie auf den Bildschirm, während
+     * bereits das nächste Einzelbild berechnet wird. Die Einstellung wird beim
+     * Start der Ereignisschleife ausgewertet. Zeichenflächen, die ihre Größe
+     * nicht als {@link pi.graphics.SizedRenderTarget} angeben, werden weiterhin
+     * direkt gezeichnet.
+     * </p>
+     *
+     * @param pipelinedRendering {@code true}, um in einem eigenen Thread zu
+     *     zeichnen.
+     *
+     * @return Eine Referenz auf die eigene Instanz der Konfigurationsgruppe,
+     *     damit nach dem Erbauer/Builder-Entwurfsmuster die Eigenschaften der
+     *     Konfigurationsgruppe durch aneinander gekettete Setter festgelegt
+     *     werden können, z.B. {@code graphic.windowWidth(..).windowHeight(..)}.
+     *
+     * @since 0.53.0
+     */
+    @API
+    @Setter
+    @ChainableMethod
+    public GraphicsConfig pipelinedRendering(boolean pipelinedRendering)
+    {
+        set("pipelinedRendering", pipelinedRendering);
+        return this;
+    }
+
+    /* layerConcurrency */
+
+    /**
+     * Die <b>Anzahl</b> an <b>Ebenen</b>, deren Physik höchstens
+     * <b>gleichzeitig</b> berechnet wird.
+     */
+    private int layerConcurrency;
+
+    /**
+     * Gibt die <b>Anzahl</b> an <b>Ebenen</b> zurück, deren Physik höchstens
+     * <b>gleichzeitig</b> berechnet wird.
+     *
+     * @return Die Anzahl an gleichzeitig berechneten Ebenen. {@code 0} steht
+     *     für die Anzahl der Prozessorkerne.
+     *
+     * @since 0.53.0
+     */
+    @API
+    @Getter
+    public int layerConcurrency()
+    {
+        return layerConcurrency;
+    }
+
+    /**
+     * Legt fest, wie viele <b>Ebenen</b> ihre Physik höchstens
+     * <b>gleichzeitig</b> berechnen.
+     *
+     * <p>
+     * Besteht eine Szene aus mehreren Ebenen, werden deren Simulationsschritte
+     * in einem Thread-Pool dieser Größe berechnet. Die Kollisionsbeobachter
+     * werden anschließend im Thread der Ereignisschleife benachrichtigt. Mit
+     * {@code 1} (Standardwert) werden die Ebenen nacheinander im Thread der
+     * Ereignisschleife berechnet. Die Einstellung wird beim Start der
+     * Ereignisschleife ausgewertet.
+     * </p>
+     *
+     * <p>
+     * Werden die Ebenen gleichzeitig berechnet, wirkt sich
+     * {@link pi.event.CollisionEvent#ignoreCollision()} erst auf den folgenden
+     * Simulationsschritt aus.
+     * </p>
+     *
+     * @param layerConcurrency Die Anzahl an gleichzeitig berechneten Ebenen.
+     *     {@code 0} steht für die Anzahl der Prozessorkerne.
+     *
+     * @return Eine Referenz auf die eigene Instanz der Konfigurationsgruppe,
+     *     damit nach dem Erbauer/Builder-Entwurfsmuster die Eigenschaften der
+     *     Konfigurationsgruppe durch aneinander gekettete Setter festgelegt
+     *     werden können, z.B. {@code graphic.windowWidth(..).windowHeight(..)}.
+     *
+     * @since 0.53.0
+     */
+    @API
+    @Setter
+    @ChainableMethod
+    public GraphicsConfig layerConcurrency(int layerConcurrency)
+    {
+        set("layerConcurrency", layerConcurrency);
+        return this;
+    }
+
+    /* solverThreads */
+
+    /**
+     * Die <b>Anzahl</b> an <b>Threads</b>, mit denen die voneinander
+     * unabhängigen Körpergruppen einer Ebene gelöst werden.
+     */
+    private int solverThreads;
+
+    /**
+     * Gibt die <b>Anzahl</b> an <b>Threads</b> zurück, mit denen die
+     * voneinander unabhängigen Körpergruppen einer Ebene gelöst werden.
+     *
+     * @return Die Anzahl an Threads des Physik-Lösers.
+     *
+     * @since 0.53.0
+     */
+    @API
+    @Getter
+    public int solverThreads()
+    {
+        return solverThreads;
+    }
+
+    /**
+     * Legt fest, mit wie vielen <b>Threads</b> die voneinander unabhängigen
+     * Körpergruppen (Inseln) einer Ebene gelöst werden.
+     *
+     * <p>
+     * Körper, die sich weder berühren noch durch Gelenke verbunden sind,
+     * beeinflussen sich in einem Simulationsschritt nicht. Ab {@code 2} werden
+     * solche Gruppen gleichzeitig gelöst. Das Ergebnis stimmt mit der
+     * Berechnung in einem einzigen Thread überein. Die Einstellung wird beim
+     * Erzeugen einer Ebene ausgewertet.
+     * </p>
+     *
+     * @param solverThreads Die Anzahl an Threads des Physik-Lösers, mindestens
+     *     {@code 1}.
+     *
+     * @return Eine Referenz auf die eigene Instanz der Konfigurationsgruppe,
+     *     damit nach dem Erbauer/Builder-Entwurfsmuster die Eigenschaften der
+     *     Konfigurationsgruppe durch aneinander gekettete Setter festgelegt
+     *     werden können, z.B. {@code graphic.windowWidth(..).windowHeight(..)}.
+     *
+     * @since 0.53.0
+     */
+    @API
+    @Setter
+    @ChainableMethod
+    public GraphicsConfig solverThreads(int solverThreads)
+    {
+        set("solverThreads", solverThreads);
+        return this;
+    }
+
+    /* glyphAtlas */
+
+    /**
+     * Gibt an, ob Texte aus einem <b>Glyphenatlas</b> gezeichnet werden.
+     */
+    private boolean glyphAtlas;
+
+    /**
+     * Gibt an, ob Texte aus einem <b>Glyphenatlas</b> gezeichnet werden.
+     *
+     * @return {@code true}, falls Texte aus gerasterten Zeichen zusammengesetzt
+     *     werden, sonst {@code false}.
+     *
+     * @since 0.53.0
+     */
+    @API
+    @Getter
+    public boolean glyphAtlas()
+    {
+        return glyphAtlas;
+    }
+
+    /**
+     * Legt fest, ob Texte aus einem <b>Glyphenatlas</b> gezeichnet werden.
+     *
+     * <p>
+     * Ist die Einstellung aktiviert, werden die Zeichen einer Schriftart einmal
+     * je Bildschirmgröße und Farbe gerastert und Textzeilen aus diesen Bildern
+     * zusammengesetzt. Das spart vor allem bei Texten, die sich in jedem
+     * Einzelbild ändern, z.B. Zähler oder Stoppuhren, Rechenzeit. Gedrehte,
+     * gespiegelte oder sehr große Texte werden weiterhin als Vektorgrafik
+     * gezeichnet.
+     * </p>
+     *
+     * @param glyphAtlas {@code true}, um Texte aus einem Glyphenatlas zu
+     *     zeichnen.
+     *
+     * @return Eine Referenz auf die eigene Instanz der Konfigurationsgruppe,
+     *     damit nach dem Erbauer/Builder-Entwurfsmuster die Eigenschaften der
+     *     Konfigurationsgruppe durch aneinander gekettete Setter festgelegt
+     *     werden können, z.B. {@code graphic.windowWidth(..).windowHeight(..)}.
+     *
+     * @see pi.resources.font.GlyphAtlas
+     *
+     * @since 0.53.0
+     */
+    @API
+    @Setter
+    @ChainableMethod
+    public GraphicsConfig glyphAtlas(boolean glyphAtlas)
+    {
+        set("glyphAtlas", glyphAtlas);
+        return this;
+    }
+
     /* colorScheme */
 
     /**
@@ -532,6 +816,58 @@ public class GraphicsConfig extends ConfigGroup
         return this;
     }
 
+    /* screenRecordingFormat */
+
+    /**
+     * Das <b>Format</b>, in dem die <b>Bildschirmaufnahme</b> gespeichert wird.
+     */
+    private SupportedAnimatedFormat screenRecordingFormat;
+
+    /**
+     * Gibt das <b>Format</b> zurück, in dem die <b>Bildschirmaufnahme</b>
+     * gespeichert wird.
+     *
+     * @return Das <b>Format</b> der Bildschirmaufnahme.
+     *
+     * @since 0.53.0
+     */
+    @API
+    @Getter
+    public SupportedAnimatedFormat screenRecordingFormat()
+    {
+        return screenRecordingFormat;
+    }
+
+    /**
+     * Setzt das <b>Format</b>, in dem die <b>Bildschirmaufnahme</b> gespeichert
+     * wird.
+     *
+     * <p>
+     * Die Formate {@link SupportedAnimatedFormat#GIF GIF} und
+     * {@link SupportedAnimatedFormat#APNG APNG} werden von der Engine selbst
+     * erzeugt, alle anderen Formate benötigt das Kommandozeilenprogramm
+     * <a href="https://www.ffmpeg.org">ffmpeg</a>.
+     * </p>
+     *
+     * @param screenRecordingFormat Das <b>Format</b> der Bildschirmaufnahme.
+     *
+     * @return Eine Referenz auf die eigene Instanz der Konfigurationsgruppe,
+     *     damit nach dem Erbauer/Builder-Entwurfsmuster die Eigenschaften der
+     *     Konfigurationsgruppe durch aneinander gekettete Setter festgelegt
+     *     werden können, z.B. {@code graphic.windowWidth(..).windowHeight(..)}.
+     *
+     * @since 0.53.0
+     */
+    @API
+    @Setter
+    @ChainableMethod
+    public GraphicsConfig screenRecordingFormat(
+            SupportedAnimatedFormat screenRecordingFormat)
+    {
+        set("screenRecordingFormat", screenRecordingFormat);
+        return this;
+    }
+
     /* assembled */
 
     /**
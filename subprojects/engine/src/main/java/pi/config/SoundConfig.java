@@ -29,6 +29,7 @@ import pi.annotations.API;
 import pi.annotations.ChainableMethod;
 import pi.annotations.Getter;
 import pi.annotations.Setter;
+import pi.resources.sound.VoiceStealing;
 
 // Go to file:///data/school/repos/inf/java/engine-pi/docs/manual/resources/config.md
 
@@ -56,6 +57,8 @@ public class SoundConfig extends ConfigGroup
         // diesem Paket instanziert werden kann.
         soundVolume(0.5);
         musicVolume(0.5);
+        maxVoices(32);
+        voiceStealing(VoiceStealing.OLDEST);
     }
 
     /* soundVolume */
@@ -117,4 +120,80 @@ public class SoundConfig extends ConfigGroup
         set("musicVolume", musicVolume);
         return this;
     }
+
+    /* maxVoices */
+
+    private int maxVoices;
+
+    /**
+     * Gibt die <b>maximale Anzahl</b> an gleichzeitig abgespielten Klängen und
+     * Musikstücken zurück.
+     *
+     * @return Die <b>maximale Anzahl</b> an Stimmen des Mischpults.
+     *
+     * @since 0.53.0
+     */
+    @API
+    @Getter
+    public int maxVoices()
+    {
+        return maxVoices;
+    }
+
+    /**
+     * Setzt die <b>maximale Anzahl</b> an gleichzeitig abgespielten Klängen und
+     * Musikstücken.
+     *
+     * <p>
+     * Die Einstellung wird beim ersten Abspielen eines Klangs ausgewertet.
+     * </p>
+     *
+     * @param maxVoices Die neue <b>maximale Anzahl</b> an Stimmen des
+     *     Mischpults.
+     *
+     * @since 0.53.0
+     */
+    @API
+    @Setter
+    @ChainableMethod
+    public SoundConfig maxVoices(final int maxVoices)
+    {
+        set("maxVoices", maxVoices);
+        return this;
+    }
+
+    /* voiceStealing */
+
+    private VoiceStealing voiceStealing;
+
+    /**
+     * Gibt an, welche Wiedergabe beendet wird, wenn alle Stimmen belegt sind.
+     *
+     * @return Die <b>Strategie</b>, nach der Stimmen neu vergeben werden.
+     *
+     * @since 0.53.0
+     */
+    @API
+    @Getter
+    public VoiceStealing voiceStealing()
+    {
+        return voiceStealing;
+    }
+
+    /**
+     * Legt fest, welche Wiedergabe beendet wird, wenn alle Stimmen belegt sind.
+     *
+     * @param voiceStealing Die <b>Strategie</b>, nach der Stimmen neu vergeben
+     *     werden.
+     *
+     * @since 0.53.0
+     */
+    @API
+    @Setter
+    @ChainableMethod
+    public SoundConfig voiceStealing(final VoiceStealing voiceStealing)
+    {
+        set("voiceStealing", voiceStealing);
+        return this;
+    }
 }
@@ -0,0 +1,195 @@
+/*
+ * Engine Pi ist eine anfängerorientierte 2D-Gaming Engine.
+ *
+ * Copyright (c) 2026 Josef Friedrich and contributors.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package pi.debug;
+
+import static pi.Controller.colors;
+import static pi.Controller.config;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics2D;
+
+import pi.annotations.Internal;
+import pi.loop.FrameProfiler;
+import pi.loop.ProfilerPhase;
+
+/**
+ * Zeichnet die Auswertung des {@link FrameProfiler Profilers} als
+ * <b>Überblendung</b> in das rechte obere Eck.
+ *
+ * <p>
+ * Oben wird ein Diagramm der Rechenzeit der zuletzt berechneten Einzelbilder
+ * gezeichnet. Jede Säule ist nach den Abschnitten der Ereignisschleife
+ * unterteilt, die waagrechte Linie markiert die angestrebte Anzeigedauer.
+ * Darunter stehen der Median (p50) und das 99. Perzentil (p99) jedes Abschnitts
+ * und jeder Ebene in Millisekunden.
+ * </p>
+ *
+ * @see pi.config.DebugConfig#profilerOverlay(boolean)
+ *
+ * @since 0.53.0
+ */
+public final class ProfilerOverlayDrawer
+{
+    private static final Font FONT = new Font(Font.MONOSPACED, Font.PLAIN, 11);
+
+    private static final Color BACKGROUND = new Color(0, 0, 0, 170);
+
+    private static final int WIDTH = 240;
+
+    private static final int GRAPH_HEIGHT = 60;
+
+    private static final int PADDING = 5;
+
+    /**
+     * Die Abschnitte, die im Diagramm übereinander gestapelt werden.
+     */
+    private static final ProfilerPhase[] STACKED = { ProfilerPhase.INPUT,
+            ProfilerPhase.STEP, ProfilerPhase.FRAME_LISTENERS,
+            ProfilerPhase.CAMERA, ProfilerPhase.DISPATCH, ProfilerPhase.RENDER,
+            ProfilerPhase.FLIP };
+
+    private final Color[] stackedColors;
+
+    private final long[] frames = new long[WIDTH - 2 * PADDING];
+
+    private final long[][] stacked = new long[STACKED.length][WIDTH
+            - 2 * PADDING];
+
+    public ProfilerOverlayDrawer()
+    {
+        stackedColors = new Color[] { colors.getSafe("brown"),
+                colors.getSafe("blue"), colors.getSafe("green"),
+                colors.getSafe("yellow"), colors.getSafe("orange"),
+                colors.getSafe("purple"), colors.getSafe("red") };
+    }
+
+    /**
+     * Zeichnet die Auswertung des Profilers in das rechte obere Eck.
+     *
+     * @param g Das {@link Graphics2D}-Objekt, in das gezeichnet werden soll.
+     * @param profiler Der auszuwertende Profiler.
+     * @param width Die Breite der Zeichenfläche in Pixel.
+     * @param height Die Höhe der Zeichenfläche in Pixel.
+     *
+     * @hidden
+     */
+    @Internal
+    public void draw(Graphics2D g, FrameProfiler profiler, int width,
+            int height)
+    {
+        g.setFont(FONT);
+        FontMetrics metrics = g.getFontMetrics();
+        int lineHeight = metrics.getHeight();
+        int layers = profiler.layerCount();
+        int lines = 2 + ProfilerPhase.values().length + 2 * layers;
+        int x = width - WIDTH - PADDING;
+        int y = PADDING;
+        g.setColor(BACKGROUND);
+        g.fillRect(x,
+            y,
+            WIDTH,
+            GRAPH_HEIGHT + 3 * PADDING + lines * lineHeight);
+        drawGraph(g, profiler, x + PADDING, y + PADDING);
+        int textX = x + PADDING;
+        int textY = y + GRAPH_HEIGHT + 2 * PADDING + metrics.getAscent();
+        g.setColor(Color.WHITE);
+        g.drawString(String.format("%-10s %8s %8s", "ms", "p50", "p99"),
+            textX,
+            textY);
+        for (ProfilerPhase phase : ProfilerPhase.values())
+        {
+            textY += lineHeight;
+            drawRow(g,
+                phase.label(),
+                profiler.percentile(phase, 0.5),
+                profiler.percentile(phase, 0.99),
+                textX,
+                textY);
+        }
+        for (int i = 0; i < layers; i++)
+        {
+            textY += lineHeight;
+            drawRow(g,
+                "L" + i + " step",
+                profiler.layerStepPercentile(i, 0.5),
+                profiler.layerStepPercentile(i, 0.99),
+                textX,
+                textY);
+            textY += lineHeight;
+            drawRow(g,
+                "L" + i + " render",
+                profiler.layerRenderPercentile(i, 0.5),
+                profiler.layerRenderPercentile(i, 0.99),
+                textX,
+                textY);
+        }
+        textY += lineHeight;
+        g.drawString(
+            FrameProfiler.measuresAllocations()
+                    ? String.format("Alloc %.1f MB/s",
+                        profiler.allocationRate() / 1_000_000)
+                    : "Alloc n/a",
+            textX,
+            textY);
+    }
+
+    private static void drawRow(Graphics2D g, String label, double p50,
+            double p99, int x, int y)
+    {
+        g.drawString(String
+            .format("%-10s %8.2f %8.2f", label, p50 * 1000, p99 * 1000), x, y);
+    }
+
+    private void drawGraph(Graphics2D g, FrameProfiler profiler, int x, int y)
+    {
+        int count = profiler.history(ProfilerPhase.FRAME, frames);
+        for (int i = 0; i < STACKED.length; i++)
+        {
+            profiler.history(STACKED[i], stacked[i]);
+        }
+        double desired = 1e9 / config.graphics.framerate();
+        double scale = 2 * desired;
+        for (int i = 0; i < count; i++)
+        {
+            scale = Math.max(scale, frames[i]);
+        }
+        int bottom = y + GRAPH_HEIGHT;
+        int offset = frames.length - count;
+        for (int i = 0; i < count; i++)
+        {
+            int top = bottom;
+            for (int phase = 0; phase < STACKED.length; phase++)
+            {
+                int barHeight = (int) Math
+                    .round(stacked[phase][i] / scale * GRAPH_HEIGHT);
+                if (barHeight > 0)
+                {
+                    g.setColor(stackedColors[phase]);
+                    g.fillRect(x + offset + i, top - barHeight, 1, barHeight);
+                    top -= barHeight;
+                }
+            }
+        }
+        int target = bottom - (int) Math.round(desired / scale * GRAPH_HEIGHT);
+        g.setColor(Color.WHITE);
+        g.drawLine(x, target, x + frames.length - 1, target);
+    }
+}
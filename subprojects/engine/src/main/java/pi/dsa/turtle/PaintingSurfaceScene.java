@@ -23,6 +23,7 @@ import java.awt.Graphics2D;
 import pi.Scene;
 import pi.annotations.Internal;
 import pi.graphics.PaintingSurface;
+import pi.graphics.RecordingGraphics2D;
 
 /**
  * Eine <b>Szene</b> mit einer <b>Malfläche</b> als Hintergrund.
@@ -64,7 +65,10 @@ public class PaintingSurfaceScene extends Scene
         // Hintergrund erscheint.
         if (paintingSurface != null)
         {
+            // Die Schildkröte malt weiter in dasselbe Bild.
+            g.setRenderingHint(RecordingGraphics2D.KEY_IMAGE_SNAPSHOT, true);
             g.drawImage(paintingSurface.getImage(), 0, 0, null);
+            g.setRenderingHint(RecordingGraphics2D.KEY_IMAGE_SNAPSHOT, false);
         }
         super.render(g, width, height);
     }
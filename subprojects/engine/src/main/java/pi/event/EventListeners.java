@@ -23,6 +23,7 @@ package pi.event;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
@@ -35,18 +36,51 @@ import pi.annotations.API;
  * Die Klasse stellt Methoden bereit, um Beobachter an- ({@link #add(Object)})
  * und abzumelden ({@link #remove(Object)}).
  * </p>
+ *
+ * <p>
+ * Beim <b>Benachrichtigen</b> ({@link #invoke(Consumer)}) wird über eine
+ * unveränderliche Momentaufnahme der Beobachter in Form eines Feldes iteriert,
+ * ohne eine Sperre zu halten und ohne einen Iterator zu erzeugen. An- und
+ * Abmeldungen verändern nur die eigentliche Menge der Beobachter und werden
+ * gesammelt vor der nächsten Benachrichtigung in eine neue Momentaufnahme
+ * übernommen. Beobachter, die während einer Benachrichtigung an- oder
+ * abgemeldet werden, wirken sich daher erst auf die folgende Benachrichtigung
+ * aus.
+ * </p>
  */
 public final class EventListeners<T>
 {
+    private static final Object[] EMPTY = new Object[0];
+
     private final Collection<T> listeners = new LinkedHashSet<>();
 
-    private final Collection<T> listenerIterationCopy = new LinkedHashSet<>();
+    /**
+     * Die Momentaufnahme der Beobachter, über die beim Benachrichtigen iteriert
+     * wird. Das Feld wird nie verändert, sondern bei Bedarf ersetzt.
+     *
+     * @since 0.53.0
+     */
+    private volatile Object[] snapshot = EMPTY;
 
-    private final Collection<Runnable> pendingCopyModifications = new ArrayList<>();
+    /**
+     * Gibt an, ob sich die Beobachter seit der letzten Momentaufnahme geändert
+     * haben.
+     *
+     * @since 0.53.0
+     */
+    private volatile boolean dirty = false;
 
-    private final Supplier<EventListeners<T>> parentSupplier;
+    /**
+     * Die Instanzen, die im jeweiligen Thread gerade benachrichtigen, um
+     * rekursive Aufrufe zu erkennen. Die Verschachtelungstiefe ist gering,
+     * daher genügt eine Liste.
+     *
+     * @since 0.53.0
+     */
+    private static final ThreadLocal<List<EventListeners<?>>> invoking = ThreadLocal
+        .withInitial(ArrayList::new);
 
-    private boolean iterating = false;
+    private final Supplier<EventListeners<T>> parentSupplier;
 
     public EventListeners()
     {
@@ -64,17 +98,14 @@ public final class EventListeners<T>
      * @param listener Der Beobachter, der angemeldet werden soll.
      */
     @API
-    public synchronized void add(T listener)
+    public void add(T listener)
     {
-        listeners.add(listener);
-        if (iterating)
+        synchronized (this)
         {
-            pendingCopyModifications
-                .add(() -> listenerIterationCopy.add(listener));
-        }
-        else
-        {
-            listenerIterationCopy.add(listener);
+            if (listeners.add(listener))
+            {
+                dirty = true;
+            }
         }
         EventListeners<T> parent = parentSupplier.get();
         if (parent != null)
@@ -89,17 +120,14 @@ public final class EventListeners<T>
      * @param listener Der Beobachter, der abgemeldet werden soll.
      */
     @API
-    public synchronized void remove(T listener)
+    public void remove(T listener)
     {
-        listeners.remove(listener);
-        if (iterating)
+        synchronized (this)
         {
-            pendingCopyModifications
-                .add(() -> listenerIterationCopy.remove(listener));
-        }
-        else
-        {
-            listenerIterationCopy.remove(listener);
+            if (listeners.remove(listener))
+            {
+                dirty = true;
+            }
         }
         EventListeners<T> parent = parentSupplier.get();
         if (parent != null)
@@ -122,31 +150,57 @@ public final class EventListeners<T>
         return listeners.contains(listener);
     }
 
+    /**
+     * <b>Benachrichtigt</b> alle Beobachter der aktuellen Momentaufnahme.
+     *
+     * <p>
+     * Der Aufruf ist in einem Thread nicht wiedereintrittsfähig: Benachrichtigt
+     * ein Beobachter dieselbe Instanz erneut, wird eine
+     * {@link IllegalStateException} geworfen.
+     * </p>
+     *
+     * @param invoker Wird für jeden Beobachter aufgerufen.
+     */
     @API
-    public synchronized void invoke(Consumer<T> invoker)
+    @SuppressWarnings("unchecked")
+    public void invoke(Consumer<T> invoker)
     {
-        if (iterating)
+        List<EventListeners<?>> active = invoking.get();
+        for (int i = 0; i < active.size(); i++)
         {
-            throw new IllegalStateException(
-                    "Recursive invocation of event listeners is unsupported");
+            if (active.get(i) == this)
+            {
+                throw new IllegalStateException(
+                        "Recursive invocation of event listeners is unsupported");
+            }
         }
+        active.add(this);
         try
         {
-            iterating = true;
-            for (T listener : listenerIterationCopy)
+            Object[] listeners = dirty ? takeSnapshot() : snapshot;
+            for (int i = 0; i < listeners.length; i++)
             {
-                invoker.accept(listener);
+                invoker.accept((T) listeners[i]);
             }
         }
         finally
         {
-            iterating = false;
-            for (Runnable pendingModification : pendingCopyModifications)
-            {
-                pendingModification.run();
-            }
-            pendingCopyModifications.clear();
+            active.remove(active.size() - 1);
+        }
+    }
+
+    /**
+     * Übernimmt alle gesammelten An- und Abmeldungen in eine neue
+     * Momentaufnahme.
+     */
+    private synchronized Object[] takeSnapshot()
+    {
+        if (dirty)
+        {
+            snapshot = listeners.isEmpty() ? EMPTY : listeners.toArray();
+            dirty = false;
         }
+        return snapshot;
     }
 
     /**
@@ -167,6 +221,7 @@ public final class EventListeners<T>
     public synchronized void clear()
     {
         listeners.clear();
+        dirty = true;
     }
 
     /**
@@ -0,0 +1,393 @@
+/*
+ * Engine Pi ist eine anfängerorientierte 2D-Gaming Engine.
+ *
+ * Copyright (c) 2026 Josef Friedrich and contributors.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package pi.event;
+
+import java.awt.Component;
+import java.awt.event.KeyEvent;
+import java.util.Arrays;
+
+import pi.annotations.API;
+import pi.annotations.Getter;
+import pi.annotations.Internal;
+
+/**
+ * Sammelt die <b>Eingaben</b> von Tastatur und Maus mit einem
+ * <b>Zeitstempel</b> in Nanosekunden, bis sie zu Beginn des nächsten
+ * Einzelbilds zugestellt werden.
+ *
+ * <p>
+ * Die Eingaben werden von beliebigen Threads, z.B. dem AWT-Event-Thread,
+ * hinzugefügt. Die Ereignisschleife übernimmt sie zu Beginn jedes Einzelbilds
+ * mit {@link #sample()} und stellt sie mit {@link #deliver(InputSink)} noch vor
+ * dem Simulationsschritt zu. Die Eingaben werden in zwei abwechselnd genutzten
+ * Sätzen von Feldern primitiver Datentypen gespeichert, sodass nach dem
+ * Aufwärmen beim Sammeln keine neuen Objekte erzeugt werden. Aufeinander
+ * folgende Mausbewegungen werden zu einer Eingabe zusammengefasst.
+ * </p>
+ *
+ * @see InputRecorder
+ * @see InputReplay
+ *
+ * @since 0.53.0
+ */
+public final class InputBuffer
+{
+    static final byte KEY_DOWN = 1;
+
+    static final byte KEY_UP = 2;
+
+    static final byte MOUSE_DOWN = 3;
+
+    static final byte MOUSE_UP = 4;
+
+    static final byte MOUSE_MOVE = 5;
+
+    static final byte MOUSE_SCROLL = 6;
+
+    private static final MouseButton[] BUTTONS = MouseButton.values();
+
+    /**
+     * Die Quelle der Tastaturereignisse, die beim Abspielen einer Aufzeichnung
+     * erzeugt werden.
+     */
+    private static final Component REPLAY_SOURCE = new Component()
+    {
+        private static final long serialVersionUID = 1L;
+    };
+
+    /**
+     * Die Eingaben, die seit dem letzten {@link #sample()} eingegangen sind.
+     */
+    private Samples pending = new Samples();
+
+    /**
+     * Die Eingaben des laufenden Einzelbilds.
+     */
+    private Samples frame = new Samples();
+
+    /**
+     * Der Zeitpunkt des letzten {@link #sample()} in Nanosekunden.
+     */
+    private long sampleNanos;
+
+    /**
+     * Fügt einen <b>Tastendruck</b> hinzu.
+     *
+     * @param nanos Der Zeitpunkt der Eingabe im Zeitsystem von
+     *     {@link System#nanoTime()}.
+     * @param event Das Tastaturereignis.
+     */
+    @API
+    public void keyDown(long nanos, KeyEvent event)
+    {
+        key(nanos, event, true);
+    }
+
+    /**
+     * Fügt das <b>Loslassen</b> einer Taste hinzu.
+     *
+     * @param nanos Der Zeitpunkt der Eingabe im Zeitsystem von
+     *     {@link System#nanoTime()}.
+     * @param event Das Tastaturereignis.
+     */
+    @API
+    public void keyUp(long nanos, KeyEvent event)
+    {
+        key(nanos, event, false);
+    }
+
+    private void key(long nanos, KeyEvent event, boolean down)
+    {
+        key(nanos,
+            event.getKeyCode(),
+            event.getKeyChar(),
+            event.getModifiersEx(),
+            event.getKeyLocation(),
+            down,
+            event);
+    }
+
+    synchronized void key(long nanos, int keyCode, char keyChar, int modifiers,
+            int location, boolean down, KeyEvent event)
+    {
+        int i = pending.add(down ? KEY_DOWN : KEY_UP, nanos);
+        pending.code[i] = keyCode;
+        pending.keyChar[i] = keyChar;
+        pending.modifiers[i] = modifiers;
+        pending.location[i] = location;
+        pending.events[i] = event;
+    }
+
+    /**
+     * Fügt das Drücken oder Loslassen einer <b>Maustaste</b> hinzu.
+     *
+     * @param nanos Der Zeitpunkt der Eingabe im Zeitsystem von
+     *     {@link System#nanoTime()}.
+     * @param button Die Maustaste.
+     * @param x Die x-Koordinate des Mauszeigers im Fenster in Pixel.
+     * @param y Die y-Koordinate des Mauszeigers im Fenster in Pixel.
+     * @param down {@code true}, falls die Maustaste gedrückt, {@code false},
+     *     falls sie losgelassen wurde.
+     */
+    @API
+    public synchronized void mouseButton(long nanos, MouseButton button, int x,
+            int y, boolean down)
+    {
+        int i = pending.add(down ? MOUSE_DOWN : MOUSE_UP, nanos);
+        pending.code[i] = button.ordinal();
+        pending.x[i] = x;
+        pending.y[i] = y;
+    }
+
+    /**
+     * Fügt eine <b>Bewegung</b> des Mauszeigers hinzu.
+     *
+     * <p>
+     * Folgt die Bewegung direkt auf eine andere Bewegung, wird die vorherige
+     * Bewegung ersetzt.
+     * </p>
+     *
+     * @param nanos Der Zeitpunkt der Eingabe im Zeitsystem von
+     *     {@link System#nanoTime()}.
+     * @param x Die x-Koordinate des Mauszeigers im Fenster in Pixel.
+     * @param y Die y-Koordinate des Mauszeigers im Fenster in Pixel.
+     */
+    @API
+    public synchronized void mouseMove(long nanos, int x, int y)
+    {
+        int i;
+        if (pending.count > 0 && pending.type[pending.count - 1] == MOUSE_MOVE)
+        {
+            i = pending.count - 1;
+            pending.nanos[i] = nanos;
+        }
+        else
+        {
+            i = pending.add(MOUSE_MOVE, nanos);
+        }
+        pending.x[i] = x;
+        pending.y[i] = y;
+    }
+
+    /**
+     * Fügt eine Drehung des <b>Mausrads</b> hinzu.
+     *
+     * @param nanos Der Zeitpunkt der Eingabe im Zeitsystem von
+     *     {@link System#nanoTime()}.
+     * @param rotation Die Drehung des Mausrads.
+     */
+    @API
+    public synchronized void mouseScroll(long nanos, double rotation)
+    {
+        int i = pending.add(MOUSE_SCROLL, nanos);
+        pending.rotation[i] = rotation;
+    }
+
+    /**
+     * Übernimmt alle bisher eingegangenen Eingaben in das laufende Einzelbild.
+     *
+     * @return Die Anzahl an übernommenen Eingaben.
+     *
+     * @hidden
+     */
+    @Internal
+    public int sample()
+    {
+        return sample(System.nanoTime());
+    }
+
+    /**
+     * Übernimmt alle bisher eingegangenen Eingaben in das laufende Einzelbild.
+     *
+     * @param nanos Der Zeitpunkt der Übernahme im Zeitsystem von
+     *     {@link System#nanoTime()}.
+     *
+     * @return Die Anzahl an übernommenen Eingaben.
+     *
+     * @hidden
+     */
+    @Internal
+    public synchronized int sample(long nanos)
+    {
+        frame.clear();
+        Samples sampled = frame;
+        frame = pending;
+        pending = sampled;
+        sampleNanos = nanos;
+        return frame.count;
+    }
+
+    /**
+     * Gibt die Anzahl an Eingaben des laufenden Einzelbilds zurück.
+     *
+     * @return Die Anzahl an Eingaben, die beim letzten {@link #sample()}
+     *     übernommen wurden.
+     */
+    @API
+    @Getter
+    public int size()
+    {
+        return frame.count;
+    }
+
+    /**
+     * Gibt den Zeitpunkt des letzten {@link #sample()} zurück.
+     *
+     * @return Der Zeitpunkt im Zeitsystem von {@link System#nanoTime()}.
+     */
+    @API
+    @Getter
+    public long sampleNanos()
+    {
+        return sampleNanos;
+    }
+
+    /**
+     * Stellt alle Eingaben des laufenden Einzelbilds in der Reihenfolge ihres
+     * Eingangs zu.
+     *
+     * @param sink Der Empfänger der Eingaben.
+     *
+     * @hidden
+     */
+    @Internal
+    public void deliver(InputSink sink)
+    {
+        Samples samples = frame;
+        for (int i = 0; i < samples.count; i++)
+        {
+            long nanos = samples.nanos[i];
+            switch (samples.type[i])
+            {
+            case KEY_DOWN:
+            case KEY_UP:
+                sink.onKey(nanos,
+                    keyEvent(samples, i),
+                    samples.type[i] == KEY_DOWN);
+                break;
+
+            case MOUSE_DOWN:
+            case MOUSE_UP:
+                sink.onMouseButton(nanos,
+                    BUTTONS[samples.code[i]],
+                    samples.x[i],
+                    samples.y[i],
+                    samples.type[i] == MOUSE_DOWN);
+                break;
+
+            case MOUSE_MOVE:
+                sink.onMouseMove(nanos, samples.x[i], samples.y[i]);
+                break;
+
+            default:
+                sink.onMouseScroll(nanos, samples.rotation[i]);
+                break;
+            }
+        }
+    }
+
+    /**
+     * Gibt das ursprüngliche Tastaturereignis zurück oder erzeugt beim
+     * Abspielen einer Aufzeichnung ein gleichwertiges Ereignis.
+     */
+    private static KeyEvent keyEvent(Samples samples, int i)
+    {
+        KeyEvent event = samples.events[i];
+        if (event == null)
+        {
+            event = new KeyEvent(REPLAY_SOURCE,
+                    samples.type[i] == KEY_DOWN ? KeyEvent.KEY_PRESSED
+                            : KeyEvent.KEY_RELEASED,
+                    samples.nanos[i] / 1_000_000, samples.modifiers[i],
+                    samples.code[i], samples.keyChar[i], samples.location[i]);
+            samples.events[i] = event;
+        }
+        return event;
+    }
+
+    /**
+     * Gibt die Eingaben des laufenden Einzelbilds zurück.
+     */
+    Samples frame()
+    {
+        return frame;
+    }
+
+    /**
+     * Die Eingaben eines Einzelbilds in Feldern primitiver Datentypen. Je nach
+     * Art der Eingabe werden nur einige der Felder verwendet.
+     */
+    static final class Samples
+    {
+        private static final int INITIAL_CAPACITY = 16;
+
+        byte[] type = new byte[INITIAL_CAPACITY];
+
+        long[] nanos = new long[INITIAL_CAPACITY];
+
+        /**
+         * Der Key-Code der Taste bzw. die Ordnungszahl der Maustaste.
+         */
+        int[] code = new int[INITIAL_CAPACITY];
+
+        char[] keyChar = new char[INITIAL_CAPACITY];
+
+        int[] modifiers = new int[INITIAL_CAPACITY];
+
+        int[] location = new int[INITIAL_CAPACITY];
+
+        int[] x = new int[INITIAL_CAPACITY];
+
+        int[] y = new int[INITIAL_CAPACITY];
+
+        double[] rotation = new double[INITIAL_CAPACITY];
+
+        KeyEvent[] events = new KeyEvent[INITIAL_CAPACITY];
+
+        int count = 0;
+
+        int add(byte type, long nanos)
+        {
+            if (count == this.type.length)
+            {
+                int capacity = count * 2;
+                this.type = Arrays.copyOf(this.type, capacity);
+                this.nanos = Arrays.copyOf(this.nanos, capacity);
+                code = Arrays.copyOf(code, capacity);
+                keyChar = Arrays.copyOf(keyChar, capacity);
+                modifiers = Arrays.copyOf(modifiers, capacity);
+                location = Arrays.copyOf(location, capacity);
+                x = Arrays.copyOf(x, capacity);
+                y = Arrays.copyOf(y, capacity);
+                rotation = Arrays.copyOf(rotation, capacity);
+                events = Arrays.copyOf(events, capacity);
+            }
+            this.type[count] = type;
+            this.nanos[count] = nanos;
+            events[count] = null;
+            return count++;
+        }
+
+        void clear()
+        {
+            Arrays.fill(events, 0, count, null);
+            count = 0;
+        }
+    }
+}
@@ -0,0 +1,215 @@
+/*
+ * Engine Pi ist eine anfängerorientierte 2D-Gaming Engine.
+ *
+ * Copyright (c) 2026 Josef Friedrich and contributors.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package pi.event;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+import pi.annotations.API;
+import pi.annotations.Getter;
+import pi.annotations.Internal;
+
+/**
+ * <b>Zeichnet</b> die Eingaben und die an die Simulation weitergegebene Zeit
+ * jedes Einzelbilds in einem kompakten <b>Binärformat</b> auf.
+ *
+ * <p>
+ * Eine Aufzeichnung kann mit {@link InputReplay} und
+ * {@link pi.loop.HeadlessRunner#replay(InputReplay)} ohne Fenster wiedergegeben
+ * werden. Da die Zeitspannen der Einzelbilder bitgenau gespeichert werden,
+ * erhält die Simulation bei der Wiedergabe exakt dieselben Eingaben zu
+ * denselben Einzelbildern. So lassen sich Fehlerberichte und Leistungsmessungen
+ * reproduzieren.
+ * </p>
+ *
+ * <p>
+ * Das Format besteht aus der Kennung {@code PINP} und einer Versionsnummer.
+ * Jedes Einzelbild beginnt mit einem Markierungsbyte, der Zeitspanne als
+ * {@code double} und der Anzahl an Eingaben. Jede Eingabe besteht aus ihrer
+ * Art, ihrem Alter in Nanosekunden zum Beginn des Einzelbilds und ihren Daten.
+ * Ganzzahlen werden mit variabler Länge gespeichert. Ein abschließendes
+ * Markierungsbyte kennzeichnet das Ende der Aufzeichnung.
+ * </p>
+ *
+ * @see pi.Controller#recordInput(java.nio.file.Path)
+ *
+ * @since 0.53.0
+ */
+public final class InputRecorder implements AutoCloseable
+{
+    static final int MAGIC = 0x50494E50;
+
+    static final int VERSION = 1;
+
+    static final byte FRAME = 1;
+
+    static final byte END = 0;
+
+    private final DataOutputStream out;
+
+    private long frames = 0;
+
+    private boolean closed = false;
+
+    /**
+     * Erzeugt eine neue Aufzeichnung, die in den angegebenen Datenstrom
+     * geschrieben wird.
+     *
+     * @param out Der Datenstrom, der beim {@link #close() Beenden} der
+     *     Aufzeichnung geschlossen wird.
+     */
+    @API
+    public InputRecorder(OutputStream out)
+    {
+        this.out = new DataOutputStream(new BufferedOutputStream(out));
+        try
+        {
+            this.out.writeInt(MAGIC);
+            this.out.writeByte(VERSION);
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Gibt die Anzahl der bisher aufgezeichneten Einzelbilder zurück.
+     *
+     * @return Die Anzahl der aufgezeichneten Einzelbilder.
+     */
+    @API
+    @Getter
+    public synchronized long frames()
+    {
+        return frames;
+    }
+
+    /**
+     * Zeichnet ein Einzelbild mit den zuletzt {@link InputBuffer#sample()
+     * übernommenen} Eingaben auf.
+     *
+     * @param pastTime Die Zeit in Sekunden, die an die Simulation weitergegeben
+     *     wird.
+     * @param input Die Eingaben des Einzelbilds.
+     *
+     * @hidden
+     */
+    @Internal
+    public synchronized void record(double pastTime, InputBuffer input)
+    {
+        if (closed)
+        {
+            return;
+        }
+        InputBuffer.Samples samples = input.frame();
+        long sampleNanos = input.sampleNanos();
+        try
+        {
+            out.writeByte(FRAME);
+            out.writeDouble(pastTime);
+            writeVarLong(samples.count);
+            for (int i = 0; i < samples.count; i++)
+            {
+                byte type = samples.type[i];
+                out.writeByte(type);
+                writeVarLong(Math.max(0, sampleNanos - samples.nanos[i]));
+                switch (type)
+                {
+                case InputBuffer.KEY_DOWN:
+                case InputBuffer.KEY_UP:
+                    writeVarLong(samples.code[i]);
+                    out.writeChar(samples.keyChar[i]);
+                    writeVarLong(samples.modifiers[i]);
+                    out.writeByte(samples.location[i]);
+                    break;
+
+                case InputBuffer.MOUSE_DOWN:
+                case InputBuffer.MOUSE_UP:
+                    out.writeByte(samples.code[i]);
+                    writeVarInt(samples.x[i]);
+                    writeVarInt(samples.y[i]);
+                    break;
+
+                case InputBuffer.MOUSE_MOVE:
+                    writeVarInt(samples.x[i]);
+                    writeVarInt(samples.y[i]);
+                    break;
+
+                default:
+                    out.writeDouble(samples.rotation[i]);
+                    break;
+                }
+            }
+            frames++;
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Schreibt eine vorzeichenbehaftete Ganzzahl im ZigZag-Verfahren mit
+     * variabler Länge.
+     */
+    private void writeVarInt(int value) throws IOException
+    {
+        writeVarLong(((value << 1) ^ (value >> 31)) & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Schreibt eine nicht negative Ganzzahl mit variabler Länge: Jedes Byte
+     * enthält sieben Bit, das höchste Bit zeigt an, ob ein weiteres Byte folgt.
+     */
+    private void writeVarLong(long value) throws IOException
+    {
+        while ((value & ~0x7FL) != 0)
+        {
+            out.writeByte((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    /**
+     * Beendet die Aufzeichnung und schließt den Datenstrom.
+     */
+    @Override
+    public synchronized void close()
+    {
+        if (closed)
+        {
+            return;
+        }
+        closed = true;
+        try
+        {
+            out.writeByte(END);
+            out.close();
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,246 @@
+/*
+ * Engine Pi ist eine anfängerorientierte 2D-Gaming Engine.
+ *
+ * Copyright (c) 2026 Josef Friedrich and contributors.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package pi.event;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+
+import pi.annotations.API;
+import pi.annotations.Getter;
+
+/**
+ * Liest eine mit dem {@link InputRecorder} erstellte <b>Aufzeichnung</b> der
+ * Eingaben Einzelbild für Einzelbild.
+ *
+ * <p>
+ * Die Zeitstempel der Eingaben werden auf eine virtuelle Uhr abgebildet, die
+ * mit {@code 0} beginnt und pro Einzelbild um die aufgezeichnete Zeitspanne
+ * voranschreitet. So erhalten auch die Beobachter bei jeder Wiedergabe
+ * dieselben Zeitstempel.
+ * </p>
+ *
+ * <pre>{@code
+ * try (HeadlessRunner runner = new HeadlessRunner(scene, 1.0 / 60, false);
+ *         InputReplay replay = new InputReplay(Files.newInputStream(file)))
+ * {
+ *     runner.replay(replay);
+ * }
+ * }</pre>
+ *
+ * @see pi.loop.HeadlessRunner#replay(InputReplay)
+ *
+ * @since 0.53.0
+ */
+public final class InputReplay implements AutoCloseable
+{
+    private static final MouseButton[] BUTTONS = MouseButton.values();
+
+    private final DataInputStream in;
+
+    /**
+     * Die virtuelle Uhr in Nanosekunden.
+     */
+    private long clock = 0;
+
+    private long frames = 0;
+
+    private boolean ended = false;
+
+    /**
+     * Öffnet eine Aufzeichnung.
+     *
+     * @param in Der Datenstrom der Aufzeichnung, der beim {@link #close()
+     *     Schließen} geschlossen wird.
+     *
+     * @throws IllegalArgumentException Falls der Datenstrom keine Aufzeichnung
+     *     in einer unterstützten Version enthält.
+     */
+    @API
+    public InputReplay(InputStream in)
+    {
+        this.in = new DataInputStream(new BufferedInputStream(in));
+        try
+        {
+            int magic = this.in.readInt();
+            int version = this.in.readUnsignedByte();
+            if (magic != InputRecorder.MAGIC
+                    || version != InputRecorder.VERSION)
+            {
+                throw new IllegalArgumentException(
+                        "Keine Aufzeichnung von Eingaben oder nicht unterstützte Version "
+                                + version);
+            }
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Gibt die Anzahl der bisher gelesenen Einzelbilder zurück.
+     *
+     * @return Die Anzahl der gelesenen Einzelbilder.
+     */
+    @API
+    @Getter
+    public long frames()
+    {
+        return frames;
+    }
+
+    /**
+     * Gibt an, ob das Ende der Aufzeichnung erreicht wurde.
+     *
+     * @return {@code true}, falls keine weiteren Einzelbilder folgen.
+     */
+    @API
+    public boolean isEnded()
+    {
+        return ended;
+    }
+
+    /**
+     * Liest das <b>nächste Einzelbild</b> und fügt seine Eingaben dem
+     * angegebenen Puffer hinzu.
+     *
+     * @param target Der Puffer, dem die Eingaben hinzugefügt werden.
+     *
+     * @return Die Zeit in Sekunden, die in diesem Einzelbild an die Simulation
+     *     weitergegeben wurde, oder {@link Double#NaN}, falls das Ende der
+     *     Aufzeichnung erreicht wurde.
+     */
+    @API
+    public double next(InputBuffer target)
+    {
+        if (ended)
+        {
+            return Double.NaN;
+        }
+        try
+        {
+            if (in.readByte() != InputRecorder.FRAME)
+            {
+                ended = true;
+                return Double.NaN;
+            }
+            double pastTime = in.readDouble();
+            long count = readVarLong();
+            for (long i = 0; i < count; i++)
+            {
+                readSample(target);
+            }
+            frames++;
+            clock += Math.round(pastTime * 1e9);
+            return pastTime;
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void readSample(InputBuffer target) throws IOException
+    {
+        byte type = in.readByte();
+        long nanos = clock - readVarLong();
+        switch (type)
+        {
+        case InputBuffer.KEY_DOWN:
+        case InputBuffer.KEY_UP:
+            int keyCode = (int) readVarLong();
+            char keyChar = in.readChar();
+            int modifiers = (int) readVarLong();
+            int location = in.readUnsignedByte();
+            target.key(nanos,
+                keyCode,
+                keyChar,
+                modifiers,
+                location,
+                type == InputBuffer.KEY_DOWN,
+                null);
+            break;
+
+        case InputBuffer.MOUSE_DOWN:
+        case InputBuffer.MOUSE_UP:
+            MouseButton button = BUTTONS[in.readUnsignedByte()];
+            int x = readVarInt();
+            int y = readVarInt();
+            target.mouseButton(nanos,
+                button,
+                x,
+                y,
+                type == InputBuffer.MOUSE_DOWN);
+            break;
+
+        case InputBuffer.MOUSE_MOVE:
+            int moveX = readVarInt();
+            int moveY = readVarInt();
+            target.mouseMove(nanos, moveX, moveY);
+            break;
+
+        case InputBuffer.MOUSE_SCROLL:
+            target.mouseScroll(nanos, in.readDouble());
+            break;
+
+        default:
+            throw new IOException("Unbekannte Art der Eingabe: " + type);
+        }
+    }
+
+    private int readVarInt() throws IOException
+    {
+        int raw = (int) readVarLong();
+        return (raw >>> 1) ^ -(raw & 1);
+    }
+
+    private long readVarLong() throws IOException
+    {
+        long value = 0;
+        int shift = 0;
+        int b;
+        do
+        {
+            b = in.readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        }
+        while ((b & 0x80) != 0);
+        return value;
+    }
+
+    /**
+     * Schließt den Datenstrom der Aufzeichnung.
+     */
+    @Override
+    public void close()
+    {
+        try
+        {
+            in.close();
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Engine Pi ist eine anfängerorientierte 2D-Gaming Engine.
+ *
+ * Copyright (c) 2026 Josef Friedrich and contributors.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package pi.event;
+
+import java.awt.event.KeyEvent;
+
+/**
+ * Empfängt die <b>Eingaben</b>, die ein {@link InputBuffer} zu Beginn eines
+ * Einzelbilds zustellt.
+ *
+ * <p>
+ * Alle Methoden werden im Thread der Ereignisschleife in der Reihenfolge
+ * aufgerufen, in der die Eingaben eingegangen sind.
+ * </p>
+ *
+ * @see InputBuffer#deliver(InputSink)
+ *
+ * @since 0.53.0
+ */
+public interface InputSink
+{
+    /**
+     * Wird aufgerufen, wenn eine Taste gedrückt oder losgelassen wurde.
+     *
+     * @param nanos Der Zeitpunkt der Eingabe im Zeitsystem von
+     *     {@link System#nanoTime()}.
+     * @param event Das Tastaturereignis.
+     * @param down {@code true}, falls die Taste gedrückt, {@code false}, falls
+     *     sie losgelassen wurde.
+     */
+    void onKey(long nanos, KeyEvent event, boolean down);
+
+    /**
+     * Wird aufgerufen, wenn eine Maustaste gedrückt oder losgelassen wurde.
+     *
+     * @param nanos Der Zeitpunkt der Eingabe im Zeitsystem von
+     *     {@link System#nanoTime()}.
+     * @param button Die Maustaste.
+     * @param x Die x-Koordinate des Mauszeigers im Fenster in Pixel.
+     * @param y Die y-Koordinate des Mauszeigers im Fenster in Pixel.
+     * @param down {@code true}, falls die Maustaste gedrückt, {@code false},
+     *     falls sie losgelassen wurde.
+     */
+    void onMouseButton(long nanos, MouseButton button, int x, int y,
+            boolean down);
+
+    /**
+     * Wird aufgerufen, wenn der Mauszeiger bewegt wurde.
+     *
+     * @param nanos Der Zeitpunkt der Eingabe im Zeitsystem von
+     *     {@link System#nanoTime()}.
+     * @param x Die x-Koordinate des Mauszeigers im Fenster in Pixel.
+     * @param y Die y-Koordinate des Mauszeigers im Fenster in Pixel.
+     */
+    void onMouseMove(long nanos, int x, int y);
+
+    /**
+     * Wird aufgerufen, wenn das Mausrad gedreht wurde.
+     *
+     * @param nanos Der Zeitpunkt der Eingabe im Zeitsystem von
+     *     {@link System#nanoTime()}.
+     * @param rotation Die Drehung des Mausrads.
+     */
+    void onMouseScroll(long nanos, double rotation);
+}
@@ -0,0 +1,368 @@
+/*
+ * Engine Pi ist eine anfängerorientierte 2D-Gaming Engine.
+ *
+ * Copyright (c) 2026 Josef Friedrich and contributors.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package pi.graphics;
+
+import java.awt.Color;
+import java.awt.Composite;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.Image;
+import java.awt.Paint;
+import java.awt.RenderingHints;
+import java.awt.Shape;
+import java.awt.Stroke;
+import java.awt.font.GlyphVector;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.awt.image.BufferedImageOp;
+import java.awt.image.RenderedImage;
+import java.awt.image.renderable.RenderableImage;
+import java.text.AttributedCharacterIterator;
+import java.util.List;
+
+import pi.annotations.Getter;
+
+/**
+ * Eine <b>Liste von Zeichenbefehlen</b>, die ein {@link RecordingGraphics2D}
+ * aufgezeichnet hat.
+ *
+ * <p>
+ * Die Liste kann in einem anderen Thread als dem, in dem sie aufgezeichnet
+ * wurde, beliebig oft in ein {@link Graphics2D}-Objekt abgespielt werden, bis
+ * ihr {@link RecordingGraphics2D} mit
+ * {@link RecordingGraphics2D#reset(int, int)} wiederverwendet wird. Die
+ * Zeichenbefehle enthalten Kopien aller veränderlichen Geometrie- und
+ * Zustandsobjekte. Bilder werden dagegen nur referenziert, sofern sie nicht mit
+ * {@link RecordingGraphics2D#KEY_IMAGE_SNAPSHOT} gezeichnet wurden.
+ * </p>
+ *
+ * @see RecordingGraphics2D
+ *
+ * @since 0.53.0
+ */
+public final class DrawList implements RenderSource
+{
+    private Command[] commands = new Command[0];
+
+    private int size;
+
+    private int width;
+
+    private int height;
+
+    DrawList()
+    {
+    }
+
+    /**
+     * Übernimmt die aufgezeichneten Zeichenbefehle in das wiederverwendete Feld
+     * dieser Liste.
+     */
+    void set(List<Command> commands, int width, int height)
+    {
+        int size = commands.size();
+        if (this.commands.length < size)
+        {
+            this.commands = new Command[Math.max(size,
+                this.commands.length * 2)];
+        }
+        for (int i = 0; i < size; i++)
+        {
+            this.commands[i] = commands.get(i);
+        }
+        for (int i = size; i < this.size; i++)
+        {
+            this.commands[i] = null;
+        }
+        this.size = size;
+        this.width = width;
+        this.height = height;
+    }
+
+    /**
+     * Gibt die <b>Breite</b> der Zeichenfläche in Pixel zurück, für die die
+     * Liste aufgezeichnet wurde.
+     *
+     * @return Die <b>Breite</b> in Pixel.
+     */
+    @Getter
+    public int width()
+    {
+        return width;
+    }
+
+    /**
+     * Gibt die <b>Höhe</b> der Zeichenfläche in Pixel zurück, für die die Liste
+     * aufgezeichnet wurde.
+     *
+     * @return Die <b>Höhe</b> in Pixel.
+     */
+    @Getter
+    public int height()
+    {
+        return height;
+    }
+
+    /**
+     * Gibt die <b>Anzahl</b> der aufgezeichneten Zeichenbefehle zurück.
+     *
+     * @return Die <b>Anzahl</b> der Zeichenbefehle.
+     */
+    @Getter
+    public int size()
+    {
+        return size;
+    }
+
+    /**
+     * Spielt alle Zeichenbefehle in das angegebene {@link Graphics2D}-Objekt ab
+     * und gibt es anschließend frei.
+     *
+     * @param g Das {@link Graphics2D}-Objekt, in das gezeichnet werden soll.
+     * @param width Die <b>Breite</b> der Zeichenfläche in Pixel. Wird nicht
+     *     ausgewertet, da die Liste bereits für eine feste Größe aufgezeichnet
+     *     wurde.
+     * @param height Die <b>Höhe</b> der Zeichenfläche in Pixel. Wird nicht
+     *     ausgewertet.
+     */
+    @Override
+    public void render(Graphics2D g, int width, int height)
+    {
+        replay(g);
+        g.dispose();
+    }
+
+    /**
+     * Spielt alle Zeichenbefehle in das angegebene {@link Graphics2D}-Objekt
+     * ab, ohne es freizugeben.
+     *
+     * @param g Das {@link Graphics2D}-Objekt, in das gezeichnet werden soll.
+     */
+    public void replay(Graphics2D g)
+    {
+        Replay replay = new Replay(g, g.getTransform(), g.getClip());
+        for (int i = 0; i < size; i++)
+        {
+            commands[i].replay(replay);
+        }
+        g.setTransform(replay.baseTransform);
+        g.setClip(replay.baseClip);
+    }
+
+    /**
+     * Der Ausgangszustand des {@link Graphics2D}-Objekts vor dem Abspielen.
+     */
+    record Replay(Graphics2D g, AffineTransform baseTransform, Shape baseClip)
+    {
+    }
+
+    /**
+     * Ein einzelner aufgezeichneter Zeichenbefehl.
+     */
+    interface Command
+    {
+        void replay(Replay replay);
+    }
+
+    /**
+     * Der vollständige Zeichenzustand, der für die folgenden Zeichenbefehle
+     * gilt.
+     *
+     * @param transform Die Transformation relativ zum Ausgangszustand.
+     * @param clip Der Zuschneidebereich im Koordinatensystem des
+     *     Ausgangszustands oder {@code null}.
+     * @param xorColor Die Farbe des XOR-Modus oder {@code null}.
+     */
+    record State(AffineTransform transform, Paint paint, Composite composite,
+            Stroke stroke, Font font, Color background, Color xorColor,
+            Shape clip, RenderingHints hints) implements Command
+    {
+        @Override
+        public void replay(Replay replay)
+        {
+            Graphics2D g = replay.g;
+            g.setTransform(replay.baseTransform);
+            g.setClip(replay.baseClip);
+            if (clip != null)
+            {
+                g.clip(clip);
+            }
+            g.transform(transform);
+            g.setRenderingHints(hints);
+            g.setComposite(composite);
+            g.setPaint(paint);
+            g.setStroke(stroke);
+            g.setFont(font);
+            g.setBackground(background);
+            if (xorColor != null)
+            {
+                g.setXORMode(xorColor);
+            }
+        }
+    }
+
+    record Fill(Shape shape) implements Command
+    {
+        @Override
+        public void replay(Replay replay)
+        {
+            replay.g.fill(shape);
+        }
+    }
+
+    record Draw(Shape shape) implements Command
+    {
+        @Override
+        public void replay(Replay replay)
+        {
+            replay.g.draw(shape);
+        }
+    }
+
+    record ClearRect(int x, int y, int width, int height) implements Command
+    {
+        @Override
+        public void replay(Replay replay)
+        {
+            replay.g.clearRect(x, y, width, height);
+        }
+    }
+
+    record CopyArea(int x, int y, int width, int height, int dx, int dy)
+            implements Command
+    {
+        @Override
+        public void replay(Replay replay)
+        {
+            replay.g.copyArea(x, y, width, height, dx, dy);
+        }
+    }
+
+    record DrawImage(Image image, int x, int y, Color background)
+            implements Command
+    {
+        @Override
+        public void replay(Replay replay)
+        {
+            replay.g.drawImage(image, x, y, background, null);
+        }
+    }
+
+    record DrawScaledImage(Image image, int x, int y, int width, int height,
+            Color background) implements Command
+    {
+        @Override
+        public void replay(Replay replay)
+        {
+            replay.g.drawImage(image, x, y, width, height, background, null);
+        }
+    }
+
+    record DrawImageRegion(Image image, int dx1, int dy1, int dx2, int dy2,
+            int sx1, int sy1, int sx2, int sy2, Color background)
+            implements Command
+    {
+        @Override
+        public void replay(Replay replay)
+        {
+            replay.g.drawImage(image,
+                dx1,
+                dy1,
+                dx2,
+                dy2,
+                sx1,
+                sy1,
+                sx2,
+                sy2,
+                background,
+                null);
+        }
+    }
+
+    record DrawTransformedImage(Image image, AffineTransform transform)
+            implements Command
+    {
+        @Override
+        public void replay(Replay replay)
+        {
+            replay.g.drawImage(image, transform, null);
+        }
+    }
+
+    record DrawFilteredImage(BufferedImage image, BufferedImageOp op, int x,
+            int y) implements Command
+    {
+        @Override
+        public void replay(Replay replay)
+        {
+            replay.g.drawImage(image, op, x, y);
+        }
+    }
+
+    record DrawRenderedImage(RenderedImage image, AffineTransform transform)
+            implements Command
+    {
+        @Override
+        public void replay(Replay replay)
+        {
+            replay.g.drawRenderedImage(image, transform);
+        }
+    }
+
+    record DrawRenderableImage(RenderableImage image, AffineTransform transform)
+            implements Command
+    {
+        @Override
+        public void replay(Replay replay)
+        {
+            replay.g.drawRenderableImage(image, transform);
+        }
+    }
+
+    record DrawString(String text, float x, float y) implements Command
+    {
+        @Override
+        public void replay(Replay replay)
+        {
+            replay.g.drawString(text, x, y);
+        }
+    }
+
+    record DrawAttributedString(AttributedCharacterIterator iterator, float x,
+            float y) implements Command
+    {
+        @Override
+        public void replay(Replay replay)
+        {
+            replay.g.drawString((AttributedCharacterIterator) iterator.clone(),
+                x,
+                y);
+        }
+    }
+
+    record DrawGlyphVector(GlyphVector glyphs, float x, float y)
+            implements Command
+    {
+        @Override
+        public void replay(Replay replay)
+        {
+            replay.g.drawGlyphVector(glyphs, x, y);
+        }
+    }
+}
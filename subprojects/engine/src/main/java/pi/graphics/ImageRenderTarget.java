@@ -0,0 +1,97 @@
+/*
+ * Engine Pi ist eine anfängerorientierte 2D-Gaming Engine.
+ *
+ * Copyright (c) 2026 Josef Friedrich and contributors.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package pi.graphics;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+
+import pi.annotations.Getter;
+
+/**
+ * Eine <b>Zeichenfläche im Arbeitsspeicher</b>, die in ein
+ * {@link BufferedImage} zeichnet.
+ *
+ * <p>
+ * Im Gegensatz zum {@link RenderPanel} benötigt diese Zeichenfläche weder ein
+ * Fenster noch einen Bildschirm und funktioniert daher auch mit der
+ * Systemeigenschaft {@code java.awt.headless=true}, z.B. auf einem Server zur
+ * kontinuierlichen Integration.
+ * </p>
+ *
+ * @see pi.loop.HeadlessRunner
+ *
+ * @since 0.53.0
+ */
+public final class ImageRenderTarget implements SizedRenderTarget
+{
+    private final BufferedImage image;
+
+    /**
+     * Erzeugt eine neue Zeichenfläche im Arbeitsspeicher.
+     *
+     * @param width Die <b>Breite</b> der Zeichenfläche in Pixel.
+     * @param height Die <b>Höhe</b> der Zeichenfläche in Pixel.
+     */
+    public ImageRenderTarget(int width, int height)
+    {
+        if (width <= 0 || height <= 0)
+        {
+            throw new IllegalArgumentException(
+                    "Die Zeichenfläche kann nicht kleiner/gleich 0 sein. "
+                            + "Eingabe war: " + width + " - " + height + ".");
+        }
+        image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+    }
+
+    /**
+     * Gibt das <b>Bild</b> zurück, in das gezeichnet wird.
+     *
+     * <p>
+     * Das Bild wird bei jedem Zeichenvorgang überschrieben. Soll ein Einzelbild
+     * aufbewahrt werden, muss es kopiert werden.
+     * </p>
+     *
+     * @return Das Bild, in das gezeichnet wird.
+     */
+    @Getter
+    public BufferedImage image()
+    {
+        return image;
+    }
+
+    @Override
+    public void render(RenderSource source)
+    {
+        source.render(image.createGraphics(),
+            image.getWidth(),
+            image.getHeight());
+    }
+
+    @Override
+    public int getWidth()
+    {
+        return image.getWidth();
+    }
+
+    @Override
+    public int getHeight()
+    {
+        return image.getHeight();
+    }
+}
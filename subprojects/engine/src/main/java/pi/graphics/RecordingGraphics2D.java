@@ -0,0 +1,954 @@
+/*
+ * Engine Pi ist eine anfängerorientierte 2D-Gaming Engine.
+ *
+ * Copyright (c) 2026 Josef Friedrich and contributors.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package pi.graphics;
+
+import java.awt.AlphaComposite;
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Composite;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.Image;
+import java.awt.Paint;
+import java.awt.Polygon;
+import java.awt.Rectangle;
+import java.awt.RenderingHints;
+import java.awt.Shape;
+import java.awt.Stroke;
+import java.awt.font.FontRenderContext;
+import java.awt.font.GlyphVector;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Arc2D;
+import java.awt.geom.Area;
+import java.awt.geom.Ellipse2D;
+import java.awt.geom.Line2D;
+import java.awt.geom.NoninvertibleTransformException;
+import java.awt.geom.Path2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.geom.RectangularShape;
+import java.awt.geom.RoundRectangle2D;
+import java.awt.image.BufferedImage;
+import java.awt.image.BufferedImageOp;
+import java.awt.image.ColorModel;
+import java.awt.image.ImageObserver;
+import java.awt.image.RenderedImage;
+import java.awt.image.renderable.RenderableImage;
+import java.text.AttributedCharacterIterator;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Ein {@link Graphics2D}-Objekt, das nicht zeichnet, sondern alle
+ * Zeichenbefehle in einer {@link DrawList} <b>aufzeichnet</b>.
+ *
+ * <p>
+ * Die Figuren zeichnen sich wie gewohnt über ihre {@code render}-Methoden. So
+ * kann die Zeichenliste während der Aktualisierung eines Einzelbilds erzeugt
+ * und anschließend in einem eigenen Thread in die eigentliche Zeichenfläche
+ * übertragen werden.
+ * </p>
+ *
+ * <p>
+ * Geometrische Formen und Transformationen werden beim Aufzeichnen kopiert.
+ * Bilder werden nur referenziert und dürfen deshalb nach dem Zeichnen nicht
+ * mehr verändert werden. Bilder, die bei jedem Einzelbild neu beschrieben
+ * werden, müssen mit dem Hinweis {@link #KEY_IMAGE_SNAPSHOT} gezeichnet werden;
+ * sie werden dann beim Aufzeichnen kopiert. Ein {@link ImageObserver} wird
+ * nicht unterstützt.
+ * </p>
+ *
+ * <p>
+ * Mit {@link #reset(int, int)} kann ein Grafikobjekt samt seiner
+ * {@link DrawList} und der Bildkopien für das nächste Einzelbild
+ * wiederverwendet werden.
+ * </p>
+ *
+ * @see DrawList
+ *
+ * @since 0.53.0
+ */
+public final class RecordingGraphics2D extends Graphics2D
+{
+    /**
+     * Ein Hinweis ({@link RenderingHints.Key}), der angibt, ob die folgenden
+     * Bilder beim Aufzeichnen <b>kopiert</b> werden, z.B.
+     * {@code g.setRenderingHint(RecordingGraphics2D.KEY_IMAGE_SNAPSHOT, true)}.
+     *
+     * <p>
+     * Er ist für {@link BufferedImage}s gedacht, die nach dem Zeichnen weiter
+     * verändert werden, etwa die Pixel eines Partikelsystems. Andere
+     * {@link Graphics2D}-Objekte ignorieren den Hinweis.
+     * </p>
+     */
+    public static final RenderingHints.Key KEY_IMAGE_SNAPSHOT = new RenderingHints.Key(
+            0x5049)
+    {
+        @Override
+        public boolean isCompatibleValue(Object value)
+        {
+            return value instanceof Boolean;
+        }
+
+        @Override
+        public String toString()
+        {
+            return "Image snapshot key";
+        }
+    };
+
+    /**
+     * Wird zur Berechnung von Schriftmetriken benötigt.
+     */
+    private static final ThreadLocal<Graphics2D> SCRATCH = ThreadLocal
+        .withInitial(() -> new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB)
+            .createGraphics());
+
+    /**
+     * Der von allen abgeleiteten Grafikobjekten gemeinsam genutzte Teil der
+     * Aufzeichnung.
+     */
+    private static final class Recording
+    {
+        final List<DrawList.Command> commands = new ArrayList<>();
+
+        /**
+         * Das Grafikobjekt, dessen Zustand zuletzt aufgezeichnet wurde.
+         */
+        RecordingGraphics2D owner;
+
+        /**
+         * Die Zeichenliste, die bei jedem Aufruf von {@link #toDrawList()} neu
+         * befüllt wird.
+         */
+        final DrawList drawList = new DrawList();
+
+        /**
+         * Die Kopien der Bilder, die mit {@link #KEY_IMAGE_SNAPSHOT} gezeichnet
+         * wurden. Sie werden nach {@link #reset(int, int)} wiederverwendet.
+         */
+        final List<BufferedImage> snapshots = new ArrayList<>();
+
+        int snapshotCount;
+    }
+
+    private final Recording recording;
+
+    private int width;
+
+    private int height;
+
+    private AffineTransform transform;
+
+    private Paint paint;
+
+    private Color color;
+
+    private Color background;
+
+    private Color xorColor;
+
+    private Composite composite;
+
+    private Stroke stroke;
+
+    private Font font;
+
+    /**
+     * Der Zuschneidebereich im Koordinatensystem der Zeichenfläche oder
+     * {@code null}, falls nicht zugeschnitten wird.
+     */
+    private Shape clip;
+
+    private RenderingHints hints;
+
+    /**
+     * Der Wert des Hinweises {@link #KEY_IMAGE_SNAPSHOT}. Er wird nicht in
+     * {@link #hints} gespeichert, da er das Zeichnen nicht beeinflusst.
+     */
+    private boolean snapshotImages;
+
+    /**
+     * Gibt an, ob sich der Zustand seit dem letzten aufgezeichneten
+     * Zeichenbefehl geändert hat.
+     */
+    private boolean stateChanged = true;
+
+    /**
+     * Erzeugt ein neues aufzeichnendes Grafikobjekt.
+     *
+     * @param width Die <b>Breite</b> der Zeichenfläche in Pixel.
+     * @param height Die <b>Höhe</b> der Zeichenfläche in Pixel.
+     */
+    public RecordingGraphics2D(int width, int height)
+    {
+        recording = new Recording();
+        reset(width, height);
+    }
+
+    private RecordingGraphics2D(RecordingGraphics2D parent)
+    {
+        recording = parent.recording;
+        width = parent.width;
+        height = parent.height;
+        transform = new AffineTransform(parent.transform);
+        paint = parent.paint;
+        color = parent.color;
+        background = parent.background;
+        xorColor = parent.xorColor;
+        composite = parent.composite;
+        stroke = parent.stroke;
+        font = parent.font;
+        clip = parent.clip;
+        hints = (RenderingHints) parent.hints.clone();
+        snapshotImages = parent.snapshotImages;
+    }
+
+    /**
+     * Verwirft alle aufgezeichneten Zeichenbefehle und setzt den Zustand
+     * zurück, um ein neues Einzelbild aufzuzeichnen.
+     *
+     * <p>
+     * Die zuvor mit {@link #toDrawList()} zurückgegebene Zeichenliste und die
+     * darin enthaltenen Bildkopien werden dabei wiederverwendet und dürfen
+     * danach nicht mehr abgespielt werden.
+     * </p>
+     *
+     * @param width Die <b>Breite</b> der Zeichenfläche in Pixel.
+     * @param height Die <b>Höhe</b> der Zeichenfläche in Pixel.
+     */
+    public void reset(int width, int height)
+    {
+        recording.commands.clear();
+        recording.owner = null;
+        recording.snapshotCount = 0;
+        this.width = width;
+        this.height = height;
+        transform = new AffineTransform();
+        color = Color.WHITE;
+        paint = color;
+        background = Color.BLACK;
+        xorColor = null;
+        composite = AlphaComposite.SrcOver;
+        stroke = new BasicStroke();
+        font = new Font(Font.DIALOG, Font.PLAIN, 12);
+        clip = null;
+        hints = new RenderingHints(null);
+        snapshotImages = false;
+        stateChanged = true;
+    }
+
+    /**
+     * Beendet die Aufzeichnung und gibt die aufgezeichneten Zeichenbefehle
+     * zurück.
+     *
+     * @return Die Liste der aufgezeichneten Zeichenbefehle. Sie bleibt bis zum
+     *     nächsten Aufruf von {@link #reset(int, int)} unverändert.
+     */
+    public DrawList toDrawList()
+    {
+        recording.drawList.set(recording.commands, width, height);
+        return recording.drawList;
+    }
+
+    /* Aufzeichnen */
+
+    private void changed()
+    {
+        stateChanged = true;
+    }
+
+    private void record(DrawList.Command command)
+    {
+        if (stateChanged || recording.owner != this)
+        {
+            recording.commands
+                .add(new DrawList.State(new AffineTransform(transform), paint,
+                        composite, stroke, font, background, xorColor, clip,
+                        (RenderingHints) hints.clone()));
+            recording.owner = this;
+            stateChanged = false;
+        }
+        recording.commands.add(command);
+    }
+
+    /**
+     * Kopiert ein Bild, falls der Hinweis {@link #KEY_IMAGE_SNAPSHOT} gesetzt
+     * ist, in eine wiederverwendete Bildkopie der Aufzeichnung.
+     */
+    private Image snapshot(Image image)
+    {
+        if (!snapshotImages || !(image instanceof BufferedImage source))
+        {
+            return image;
+        }
+        List<BufferedImage> snapshots = recording.snapshots;
+        int index = recording.snapshotCount++;
+        BufferedImage snapshot = index < snapshots.size() ? snapshots.get(index)
+                : null;
+        if (snapshot == null || snapshot.getWidth() != source.getWidth()
+                || snapshot.getHeight() != source.getHeight()
+                || !snapshot.getColorModel().equals(source.getColorModel()))
+        {
+            ColorModel model = source.getColorModel();
+            snapshot = new BufferedImage(model,
+                    model.createCompatibleWritableRaster(source.getWidth(),
+                        source.getHeight()),
+                    model.isAlphaPremultiplied(), null);
+            if (index < snapshots.size())
+            {
+                snapshots.set(index, snapshot);
+            }
+            else
+            {
+                snapshots.add(snapshot);
+            }
+        }
+        source.copyData(snapshot.getRaster());
+        return snapshot;
+    }
+
+    private static Shape copy(Shape shape)
+    {
+        if (shape instanceof RectangularShape rectangular)
+        {
+            return (Shape) rectangular.clone();
+        }
+        if (shape instanceof Line2D line)
+        {
+            return (Shape) line.clone();
+        }
+        if (shape instanceof Path2D path)
+        {
+            return (Shape) path.clone();
+        }
+        if (shape instanceof Polygon polygon)
+        {
+            return new Polygon(polygon.xpoints, polygon.ypoints,
+                    polygon.npoints);
+        }
+        return new Path2D.Double(shape);
+    }
+
+    /* Zustand */
+
+    @Override
+    public Graphics create()
+    {
+        return new RecordingGraphics2D(this);
+    }
+
+    @Override
+    public void dispose()
+    {
+        // Es werden keine Ressourcen belegt.
+    }
+
+    @Override
+    public Color getColor()
+    {
+        return color;
+    }
+
+    @Override
+    public void setColor(Color color)
+    {
+        if (color != null)
+        {
+            this.color = color;
+            paint = color;
+            changed();
+        }
+    }
+
+    @Override
+    public Paint getPaint()
+    {
+        return paint;
+    }
+
+    @Override
+    public void setPaint(Paint paint)
+    {
+        if (paint instanceof Color c)
+        {
+            setColor(c);
+        }
+        else if (paint != null)
+        {
+            this.paint = paint;
+            changed();
+        }
+    }
+
+    @Override
+    public void setPaintMode()
+    {
+        xorColor = null;
+        changed();
+    }
+
+    @Override
+    public void setXORMode(Color color)
+    {
+        xorColor = color;
+        changed();
+    }
+
+    @Override
+    public Composite getComposite()
+    {
+        return composite;
+    }
+
+    @Override
+    public void setComposite(Composite composite)
+    {
+        if (composite == null)
+        {
+            throw new IllegalArgumentException("null Composite");
+        }
+        this.composite = composite;
+        xorColor = null;
+        changed();
+    }
+
+    @Override
+    public Color getBackground()
+    {
+        return background;
+    }
+
+    @Override
+    public void setBackground(Color color)
+    {
+        background = color;
+        changed();
+    }
+
+    @Override
+    public Stroke getStroke()
+    {
+        return stroke;
+    }
+
+    @Override
+    public void setStroke(Stroke stroke)
+    {
+        if (stroke == null)
+        {
+            throw new IllegalArgumentException("null Stroke");
+        }
+        this.stroke = stroke;
+        changed();
+    }
+
+    @Override
+    public Font getFont()
+    {
+        return font;
+    }
+
+    @Override
+    public void setFont(Font font)
+    {
+        if (font != null)
+        {
+            this.font = font;
+            changed();
+        }
+    }
+
+    @Override
+    public FontMetrics getFontMetrics(Font font)
+    {
+        Graphics2D scratch = SCRATCH.get();
+        scratch.setRenderingHints(hints);
+        scratch.setTransform(transform);
+        return scratch.getFontMetrics(font);
+    }
+
+    @Override
+    public FontRenderContext getFontRenderContext()
+    {
+        Object antialiasing = hints.get(RenderingHints.KEY_TEXT_ANTIALIASING);
+        Object fractionalMetrics = hints
+            .get(RenderingHints.KEY_FRACTIONALMETRICS);
+        return new FontRenderContext(transform,
+                antialiasing != null ? antialiasing
+                        : RenderingHints.VALUE_TEXT_ANTIALIAS_DEFAULT,
+                fractionalMetrics != null ? fractionalMetrics
+                        : RenderingHints.VALUE_FRACTIONALMETRICS_DEFAULT);
+    }
+
+    @Override
+    public GraphicsConfiguration getDeviceConfiguration()
+    {
+        return SCRATCH.get().getDeviceConfiguration();
+    }
+
+    @Override
+    public void setRenderingHint(RenderingHints.Key key, Object value)
+    {
+        if (key == KEY_IMAGE_SNAPSHOT)
+        {
+            snapshotImages = Boolean.TRUE.equals(value);
+            return;
+        }
+        hints.put(key, value);
+        changed();
+    }
+
+    @Override
+    public Object getRenderingHint(RenderingHints.Key key)
+    {
+        if (key == KEY_IMAGE_SNAPSHOT)
+        {
+            return snapshotImages;
+        }
+        return hints.get(key);
+    }
+
+    @Override
+    public void setRenderingHints(Map<?, ?> hints)
+    {
+        this.hints = new RenderingHints(null);
+        this.hints.putAll(hints);
+        changed();
+    }
+
+    @Override
+    public void addRenderingHints(Map<?, ?> hints)
+    {
+        this.hints.putAll(hints);
+        changed();
+    }
+
+    @Override
+    public RenderingHints getRenderingHints()
+    {
+        return (RenderingHints) hints.clone();
+    }
+
+    /* Transformation */
+
+    @Override
+    public void translate(int x, int y)
+    {
+        translate((double) x, (double) y);
+    }
+
+    @Override
+    public void translate(double tx, double ty)
+    {
+        transform.translate(tx, ty);
+        changed();
+    }
+
+    @Override
+    public void rotate(double theta)
+    {
+        transform.rotate(theta);
+        changed();
+    }
+
+    @Override
+    public void rotate(double theta, double x, double y)
+    {
+        transform.rotate(theta, x, y);
+        changed();
+    }
+
+    @Override
+    public void scale(double sx, double sy)
+    {
+        transform.scale(sx, sy);
+        changed();
+    }
+
+    @Override
+    public void shear(double shx, double shy)
+    {
+        transform.shear(shx, shy);
+        changed();
+    }
+
+    @Override
+    public void transform(AffineTransform tx)
+    {
+        transform.concatenate(tx);
+        changed();
+    }
+
+    @Override
+    public void setTransform(AffineTransform tx)
+    {
+        transform = new AffineTransform(tx);
+        changed();
+    }
+
+    @Override
+    public AffineTransform getTransform()
+    {
+        return new AffineTransform(transform);
+    }
+
+    /* Zuschneiden */
+
+    @Override
+    public Shape getClip()
+    {
+        if (clip == null)
+        {
+            return null;
+        }
+        try
+        {
+            return transform.createInverse().createTransformedShape(clip);
+        }
+        catch (NoninvertibleTransformException e)
+        {
+            return null;
+        }
+    }
+
+    @Override
+    public Rectangle getClipBounds()
+    {
+        Shape userClip = getClip();
+        return userClip != null ? userClip.getBounds() : null;
+    }
+
+    @Override
+    public void setClip(Shape shape)
+    {
+        clip = shape != null ? transform.createTransformedShape(shape) : null;
+        changed();
+    }
+
+    @Override
+    public void setClip(int x, int y, int width, int height)
+    {
+        setClip(new Rectangle(x, y, width, height));
+    }
+
+    @Override
+    public void clip(Shape shape)
+    {
+        if (shape == null)
+        {
+            setClip(null);
+            return;
+        }
+        Shape device = transform.createTransformedShape(shape);
+        if (clip == null)
+        {
+            clip = device;
+        }
+        else if (clip instanceof Rectangle2D a
+                && device instanceof Rectangle2D b)
+        {
+            clip = a.createIntersection(b);
+        }
+        else
+        {
+            Area area = new Area(clip);
+            area.intersect(new Area(device));
+            clip = area;
+        }
+        changed();
+    }
+
+    @Override
+    public void clipRect(int x, int y, int width, int height)
+    {
+        clip(new Rectangle(x, y, width, height));
+    }
+
+    @Override
+    public boolean hit(Rectangle rect, Shape shape, boolean onStroke)
+    {
+        Shape outline = onStroke ? stroke.createStrokedShape(shape) : shape;
+        return transform.createTransformedShape(outline).intersects(rect);
+    }
+
+    /* Formen */
+
+    @Override
+    public void draw(Shape shape)
+    {
+        record(new DrawList.Draw(copy(shape)));
+    }
+
+    @Override
+    public void fill(Shape shape)
+    {
+        record(new DrawList.Fill(copy(shape)));
+    }
+
+    @Override
+    public void drawLine(int x1, int y1, int x2, int y2)
+    {
+        record(new DrawList.Draw(new Line2D.Float(x1, y1, x2, y2)));
+    }
+
+    @Override
+    public void fillRect(int x, int y, int width, int height)
+    {
+        record(new DrawList.Fill(new Rectangle(x, y, width, height)));
+    }
+
+    @Override
+    public void clearRect(int x, int y, int width, int height)
+    {
+        record(new DrawList.ClearRect(x, y, width, height));
+    }
+
+    @Override
+    public void copyArea(int x, int y, int width, int height, int dx, int dy)
+    {
+        record(new DrawList.CopyArea(x, y, width, height, dx, dy));
+    }
+
+    @Override
+    public void drawRoundRect(int x, int y, int width, int height, int arcWidth,
+            int arcHeight)
+    {
+        record(new DrawList.Draw(new RoundRectangle2D.Float(x, y, width, height,
+                arcWidth, arcHeight)));
+    }
+
+    @Override
+    public void fillRoundRect(int x, int y, int width, int height, int arcWidth,
+            int arcHeight)
+    {
+        record(new DrawList.Fill(new RoundRectangle2D.Float(x, y, width, height,
+                arcWidth, arcHeight)));
+    }
+
+    @Override
+    public void drawOval(int x, int y, int width, int height)
+    {
+        record(new DrawList.Draw(new Ellipse2D.Float(x, y, width, height)));
+    }
+
+    @Override
+    public void fillOval(int x, int y, int width, int height)
+    {
+        record(new DrawList.Fill(new Ellipse2D.Float(x, y, width, height)));
+    }
+
+    @Override
+    public void drawArc(int x, int y, int width, int height, int startAngle,
+            int arcAngle)
+    {
+        record(new DrawList.Draw(new Arc2D.Float(x, y, width, height,
+                startAngle, arcAngle, Arc2D.OPEN)));
+    }
+
+    @Override
+    public void fillArc(int x, int y, int width, int height, int startAngle,
+            int arcAngle)
+    {
+        record(new DrawList.Fill(new Arc2D.Float(x, y, width, height,
+                startAngle, arcAngle, Arc2D.PIE)));
+    }
+
+    @Override
+    public void drawPolyline(int[] xPoints, int[] yPoints, int nPoints)
+    {
+        if (nPoints <= 0)
+        {
+            return;
+        }
+        Path2D.Float path = new Path2D.Float();
+        path.moveTo(xPoints[0], yPoints[0]);
+        for (int i = 1; i < nPoints; i++)
+        {
+            path.lineTo(xPoints[i], yPoints[i]);
+        }
+        record(new DrawList.Draw(path));
+    }
+
+    @Override
+    public void drawPolygon(int[] xPoints, int[] yPoints, int nPoints)
+    {
+        record(new DrawList.Draw(new Polygon(xPoints, yPoints, nPoints)));
+    }
+
+    @Override
+    public void fillPolygon(int[] xPoints, int[] yPoints, int nPoints)
+    {
+        record(new DrawList.Fill(new Polygon(xPoints, yPoints, nPoints)));
+    }
+
+    /* Text */
+
+    @Override
+    public void drawString(String text, int x, int y)
+    {
+        drawString(text, (float) x, (float) y);
+    }
+
+    @Override
+    public void drawString(String text, float x, float y)
+    {
+        if (text == null)
+        {
+            throw new NullPointerException("String is null");
+        }
+        record(new DrawList.DrawString(text, x, y));
+    }
+
+    @Override
+    public void drawString(AttributedCharacterIterator iterator, int x, int y)
+    {
+        drawString(iterator, (float) x, (float) y);
+    }
+
+    @Override
+    public void drawString(AttributedCharacterIterator iterator, float x,
+            float y)
+    {
+        record(new DrawList.DrawAttributedString(
+                (AttributedCharacterIterator) iterator.clone(), x, y));
+    }
+
+    @Override
+    public void drawGlyphVector(GlyphVector glyphs, float x, float y)
+    {
+        record(new DrawList.DrawGlyphVector(glyphs, x, y));
+    }
+
+    /* Bilder */
+
+    @Override
+    public boolean drawImage(Image image, int x, int y, ImageObserver observer)
+    {
+        return drawImage(image, x, y, null, observer);
+    }
+
+    @Override
+    public boolean drawImage(Image image, int x, int y, Color background,
+            ImageObserver observer)
+    {
+        if (image != null)
+        {
+            record(new DrawList.DrawImage(snapshot(image), x, y, background));
+        }
+        return true;
+    }
+
+    @Override
+    public boolean drawImage(Image image, int x, int y, int width, int height,
+            ImageObserver observer)
+    {
+        return drawImage(image, x, y, width, height, null, observer);
+    }
+
+    @Override
+    public boolean drawImage(Image image, int x, int y, int width, int height,
+            Color background, ImageObserver observer)
+    {
+        if (image != null)
+        {
+            record(new DrawList.DrawScaledImage(snapshot(image), x, y, width,
+                    height, background));
+        }
+        return true;
+    }
+
+    @Override
+    public boolean drawImage(Image image, int dx1, int dy1, int dx2, int dy2,
+            int sx1, int sy1, int sx2, int sy2, ImageObserver observer)
+    {
+        return drawImage(image,
+            dx1,
+            dy1,
+            dx2,
+            dy2,
+            sx1,
+            sy1,
+            sx2,
+            sy2,
+            null,
+            observer);
+    }
+
+    @Override
+    public boolean drawImage(Image image, int dx1, int dy1, int dx2, int dy2,
+            int sx1, int sy1, int sx2, int sy2, Color background,
+            ImageObserver observer)
+    {
+        if (image != null)
+        {
+            record(new DrawList.DrawImageRegion(snapshot(image), dx1, dy1, dx2,
+                    dy2, sx1, sy1, sx2, sy2, background));
+        }
+        return true;
+    }
+
+    @Override
+    public boolean drawImage(Image image, AffineTransform transform,
+            ImageObserver observer)
+    {
+        if (image != null)
+        {
+            record(new DrawList.DrawTransformedImage(snapshot(image),
+                    transform != null ? new AffineTransform(transform)
+                            : new AffineTransform()));
+        }
+        return true;
+    }
+
+    @Override
+    public void drawImage(BufferedImage image, BufferedImageOp op, int x, int y)
+    {
+        if (image != null)
+        {
+            record(new DrawList.DrawFilteredImage(
+                    (BufferedImage) snapshot(image), op, x, y));
+        }
+    }
+
+    @Override
+    public void drawRenderedImage(RenderedImage image,
+            AffineTransform transform)
+    {
+        if (image != null)
+        {
+            record(new DrawList.DrawRenderedImage(image,
+                    new AffineTransform(transform)));
+        }
+    }
+
+    @Override
+    public void drawRenderableImage(RenderableImage image,
+            AffineTransform transform)
+    {
+        if (image != null)
+        {
+            record(new DrawList.DrawRenderableImage(image,
+                    new AffineTransform(transform)));
+        }
+    }
+}
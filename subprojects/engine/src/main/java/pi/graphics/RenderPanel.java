@@ -27,6 +27,7 @@ import java.awt.image.BufferStrategy;
 import static pi.Controller.colors;
 
 import pi.graphics.screen_recording.Photographer;
+import pi.graphics.screen_recording.ScreenshotImage;
 
 /**
  * Ein Render-Panel, das als Zeichenfläche für die Engine dient.
@@ -51,7 +52,7 @@ import pi.graphics.screen_recording.Photographer;
  * @author Michael Andonie
  * @author Niklas Keller
  */
-public final class RenderPanel extends Canvas implements RenderTarget
+public final class RenderPanel extends Canvas implements SizedRenderTarget
 {
     private Photographer photographer;
 
@@ -83,22 +84,34 @@ public final class RenderPanel extends Canvas implements RenderTarget
     @Override
     public void render(RenderSource source)
     {
+        int width = getWidth();
+        int height = getHeight();
+        // Soll von diesem Einzelbild ein Bildschirmfoto gemacht werden, wird
+        // es nur einmal in das Bildschirmfoto gezeichnet und dieses dann in
+        // das Fenster kopiert.
+        ScreenshotImage screenshot = null;
+        if (photographer.hasToTakeScreenshot())
+        {
+            screenshot = photographer.createImage(width, height);
+            if (screenshot != null)
+            {
+                source.render(screenshot.g(), width, height);
+            }
+        }
         BufferStrategy bufferStrategy = getBufferStrategy();
         do
         {
             do
             {
-                source.render((Graphics2D) bufferStrategy.getDrawGraphics(),
-                    getWidth(),
-                    getHeight());
-
-                // Kann von jedem Einzelbild ein Bildschirmfoto machen.
-                if (photographer.hasToTakeScreenshot())
+                Graphics2D g = (Graphics2D) bufferStrategy.getDrawGraphics();
+                if (screenshot != null)
                 {
-                    var image = photographer.createImage(getWidth(),
-                        getHeight());
-                    source.render(image.g(), getWidth(), getHeight());
-                    photographer.writeImage(image);
+                    g.drawImage(screenshot.image(), 0, 0, null);
+                    g.dispose();
+                }
+                else
+                {
+                    source.render(g, width, height);
                 }
             }
             while (bufferStrategy.contentsRestored()
@@ -111,5 +124,9 @@ public final class RenderPanel extends Canvas implements RenderTarget
         }
         while (bufferStrategy.contentsLost()
                 && !Thread.currentThread().isInterrupted());
+        if (screenshot != null)
+        {
+            photographer.writeImage(screenshot);
+        }
     }
 }
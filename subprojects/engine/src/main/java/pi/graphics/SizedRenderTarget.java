@@ -0,0 +1,53 @@
+/*
+ * Engine Pi ist eine anfängerorientierte 2D-Gaming Engine.
+ *
+ * Copyright (c) 2026 Josef Friedrich and contributors.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package pi.graphics;
+
+/**
+ * Eine {@link RenderTarget Zeichenfläche}, die ihre <b>Größe</b> angibt.
+ *
+ * <p>
+ * Die Größe wird nur für das
+ * {@link pi.config.GraphicsConfig#pipelinedRendering(boolean) Zeichnen in einem
+ * eigenen Thread} benötigt, bei dem die Zeichenbefehle aufgezeichnet werden,
+ * ohne die Zeichenfläche zu berühren. Eigene Zeichenflächen, die nur
+ * {@link RenderTarget} implementieren, werden auch bei aktiviertem Zeichnen in
+ * einem eigenen Thread wie bisher direkt gezeichnet.
+ * </p>
+ *
+ * @see RenderPanel
+ * @see ImageRenderTarget
+ *
+ * @since 0.53.0
+ */
+public interface SizedRenderTarget extends RenderTarget
+{
+    /**
+     * Gibt die <b>Breite</b> der Zeichenfläche in Pixel zurück.
+     *
+     * @return Die <b>Breite</b> der Zeichenfläche in Pixel.
+     */
+    int getWidth();
+
+    /**
+     * Gibt die <b>Höhe</b> der Zeichenfläche in Pixel zurück.
+     *
+     * @return Die <b>Höhe</b> der Zeichenfläche in Pixel.
+     */
+    int getHeight();
+}
@@ -0,0 +1,233 @@
+/*
+ * Engine Pi ist eine anfängerorientierte 2D-Gaming Engine.
+ *
+ * Copyright (c) 2026 Josef Friedrich and contributors.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package pi.graphics;
+
+import java.awt.Graphics2D;
+import java.awt.geom.AffineTransform;
+import java.util.Arrays;
+
+import pi.annotations.API;
+import pi.resources.AtlasRegion;
+import pi.resources.TextureAtlas;
+
+/**
+ * Zeichnet viele <b>Ausschnitte</b> eines {@link TextureAtlas Texturatlas}
+ * gesammelt in <b>Bildschirmkoordinaten</b>.
+ *
+ * <p>
+ * Zwischen {@link #begin(Graphics2D)} und {@link #end()} werden die
+ * Zielrechtecke mit der aktuellen Transformation des {@link Graphics2D}-Objekts
+ * einmalig in ganze Bildschirmpixel umgerechnet und gespeichert. Beim Beenden
+ * wird die Transformation nur einmal zurückgesetzt und alle Ausschnitte werden
+ * Seite für Seite gezeichnet. Da benachbarte Kanten auf dieselben Pixel
+ * gerundet werden, entstehen zwischen Kacheln keine Lücken.
+ * </p>
+ *
+ * <p>
+ * Da die Ausschnitte nach Seiten geordnet gezeichnet werden, eignet sich ein
+ * Stapel nur für Bilder, die sich <b>nicht überlappen</b>, z.B. die Kacheln
+ * einer Kachelkarte. Gedrehte oder gescherte Transformationen werden nicht
+ * unterstützt.
+ * </p>
+ *
+ * @since 0.53.0
+ */
+public final class SpriteBatch
+{
+    private static final AffineTransform IDENTITY = new AffineTransform();
+
+    private AtlasRegion[] regions = new AtlasRegion[64];
+
+    /**
+     * Die Zielrechtecke als {@code x1, y1, x2, y2} in Bildschirmpixel.
+     */
+    private int[] targets = new int[64 * 4];
+
+    private int size = 0;
+
+    private Graphics2D g;
+
+    private AffineTransform transform;
+
+    /**
+     * Die größte Seitennummer der gesammelten Ausschnitte.
+     */
+    private int maxPage;
+
+    /**
+     * Beginnt einen neuen Stapel.
+     *
+     * @param g Das {@link Graphics2D}-Objekt, in das gezeichnet werden soll.
+     *
+     * @return {@code true}, falls der Stapel begonnen wurde, {@code false},
+     *     falls die Transformation gedreht oder geschert ist und die Bilder
+     *     deshalb einzeln gezeichnet werden müssen.
+     */
+    @API
+    public boolean begin(Graphics2D g)
+    {
+        AffineTransform transform = g.getTransform();
+        if (!isAxisAligned(transform))
+        {
+            return false;
+        }
+        this.g = g;
+        this.transform = transform;
+        size = 0;
+        maxPage = 0;
+        return true;
+    }
+
+    /**
+     * Fügt dem Stapel einen Ausschnitt hinzu.
+     *
+     * @param region Der Ausschnitt des Texturatlas.
+     * @param x Die x-Koordinate der linken oberen Ecke im aktuellen
+     *     Koordinatensystem.
+     * @param y Die y-Koordinate der linken oberen Ecke im aktuellen
+     *     Koordinatensystem.
+     * @param width Die Breite im aktuellen Koordinatensystem.
+     * @param height Die Höhe im aktuellen Koordinatensystem.
+     */
+    @API
+    public void draw(AtlasRegion region, double x, double y, double width,
+            double height)
+    {
+        if (size == regions.length)
+        {
+            regions = Arrays.copyOf(regions, size * 2);
+            targets = Arrays.copyOf(targets, size * 8);
+        }
+        regions[size] = region;
+        int i = size * 4;
+        targets[i] = screenX(transform, x);
+        targets[i + 1] = screenY(transform, y);
+        targets[i + 2] = screenX(transform, x + width);
+        targets[i + 3] = screenY(transform, y + height);
+        maxPage = Math.max(maxPage, region.pageIndex());
+        size++;
+    }
+
+    /**
+     * Zeichnet alle gesammelten Ausschnitte und stellt die Transformation
+     * wieder her.
+     */
+    @API
+    public void end()
+    {
+        if (size > 0)
+        {
+            g.setTransform(IDENTITY);
+            for (int page = 0; page <= maxPage; page++)
+            {
+                for (int i = 0; i < size; i++)
+                {
+                    AtlasRegion region = regions[i];
+                    if (region.pageIndex() == page)
+                    {
+                        drawRegion(g, region, i * 4);
+                    }
+                }
+            }
+            g.setTransform(transform);
+            Arrays.fill(regions, 0, size, null);
+        }
+        size = 0;
+        g = null;
+        transform = null;
+    }
+
+    private void drawRegion(Graphics2D g, AtlasRegion region, int i)
+    {
+        g.drawImage(region.page(),
+            targets[i],
+            targets[i + 1],
+            targets[i + 2],
+            targets[i + 3],
+            region.x(),
+            region.y(),
+            region.x() + region.width(),
+            region.y() + region.height(),
+            null);
+    }
+
+    /**
+     * Zeichnet einen einzelnen Ausschnitt in Bildschirmkoordinaten, falls die
+     * Transformation des {@link Graphics2D}-Objekts weder gedreht noch geschert
+     * ist.
+     *
+     * @param g Das {@link Graphics2D}-Objekt, in das gezeichnet werden soll.
+     * @param region Der Ausschnitt des Texturatlas.
+     * @param x Die x-Koordinate der linken oberen Ecke im aktuellen
+     *     Koordinatensystem.
+     * @param y Die y-Koordinate der linken oberen Ecke im aktuellen
+     *     Koordinatensystem.
+     * @param width Die Breite im aktuellen Koordinatensystem.
+     * @param height Die Höhe im aktuellen Koordinatensystem.
+     * @param flipHorizontally Ob das Bild waagrecht gespiegelt wird.
+     * @param flipVertically Ob das Bild senkrecht gespiegelt wird.
+     *
+     * @return {@code true}, falls gezeichnet wurde, sonst {@code false}.
+     */
+    @API
+    public static boolean draw(Graphics2D g, AtlasRegion region, double x,
+            double y, double width, double height, boolean flipHorizontally,
+            boolean flipVertically)
+    {
+        AffineTransform transform = g.getTransform();
+        if (!isAxisAligned(transform))
+        {
+            return false;
+        }
+        int x1 = screenX(transform, x);
+        int y1 = screenY(transform, y);
+        int x2 = screenX(transform, x + width);
+        int y2 = screenY(transform, y + height);
+        g.setTransform(IDENTITY);
+        g.drawImage(region.page(),
+            flipHorizontally ? x2 : x1,
+            flipVertically ? y2 : y1,
+            flipHorizontally ? x1 : x2,
+            flipVertically ? y1 : y2,
+            region.x(),
+            region.y(),
+            region.x() + region.width(),
+            region.y() + region.height(),
+            null);
+        g.setTransform(transform);
+        return true;
+    }
+
+    private static boolean isAxisAligned(AffineTransform transform)
+    {
+        return transform.getShearX() == 0 && transform.getShearY() == 0;
+    }
+
+    private static int screenX(AffineTransform transform, double x)
+    {
+        return (int) Math
+            .round(transform.getScaleX() * x + transform.getTranslateX());
+    }
+
+    private static int screenY(AffineTransform transform, double y)
+    {
+        return (int) Math
+            .round(transform.getScaleY() * y + transform.getTranslateY());
+    }
+}
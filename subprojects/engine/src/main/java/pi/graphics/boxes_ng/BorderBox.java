@@ -91,6 +91,7 @@ public class BorderBox extends ChildBox
             color = colors.get("black");
         }
         this.thickness = thickness;
+        remeasure();
         return this;
     }
 
@@ -141,6 +142,7 @@ public class BorderBox extends ChildBox
         if (thickness == 0)
         {
             thickness = 1;
+            remeasure();
         }
         this.color = color;
         return this;
@@ -52,6 +52,15 @@ import pi.graphics.boxes.GridBox;
  * können die Positionen und Abmessungen auch als Meter gesetzt werden.
  * </p>
  *
+ * <p>
+ * Das Layout wird <b>inkrementell</b> berechnet: Setter, die die Abmessungen
+ * verändern, markieren die Box und alle übergeordneten Boxen nur als veraltet.
+ * Gemessen wird erst beim nächsten {@link #render(Graphics2D) Zeichnen} und
+ * dann nur in den markierten Teilbäumen. Eine reine Positionsänderung über
+ * {@link #x(double)} oder {@link #y(double)} ordnet lediglich die Kinder-Boxen
+ * neu an, ohne Texte erneut auszumessen.
+ * </p>
+ *
  * @author Josef Friedrich
  *
  * @since 0.38.0
@@ -74,9 +83,42 @@ public abstract class Box implements Iterable<Box>
     protected @Nullable Box parent;
 
     /**
-     * Zeigt an, ob die Box bereits <b>ausgemessen</b> wurde.
+     * Zeigt an, ob die <b>Abmessungen</b> der Box beim nächsten Messdurchgang
+     * neu berechnet werden müssen.
+     *
+     * <p>
+     * Ist diese Markierung gesetzt, dann ist sie auch bei allen übergeordneten
+     * Boxen gesetzt. Saubere Teilbäume werden beim Messen übersprungen, ihre
+     * zuletzt berechneten Abmessungen bleiben zwischengespeichert.
+     * </p>
+     *
+     * @since 0.53.0
+     */
+    private boolean dimensionDirty = true;
+
+    /**
+     * Zeigt an, ob die <b>Ankerpunkte</b> der Kinder-Boxen beim nächsten
+     * Messdurchgang neu berechnet werden müssen.
+     *
+     * @since 0.53.0
+     */
+    private boolean anchorsDirty = true;
+
+    /**
+     * Die <b>x</b>-Koordinate, an der die Kinder-Boxen zuletzt angeordnet
+     * wurden.
+     *
+     * @since 0.53.0
      */
-    private boolean measured;
+    private double arrangedX = Double.NaN;
+
+    /**
+     * Die <b>y</b>-Koordinate, an der die Kinder-Boxen zuletzt angeordnet
+     * wurden.
+     *
+     * @since 0.53.0
+     */
+    private double arrangedY = Double.NaN;
 
     /**
      * Gibt an, ob bei dieser Box die <b>Abmessungen gesetzt</b> werden können
@@ -179,6 +221,10 @@ public abstract class Box implements Iterable<Box>
                     + getClass().getSimpleName()
                     + " kann die Breite nicht setzt werden. Sie wird automatische bestimmt.");
         }
+        if (definedWidth == width)
+        {
+            return this;
+        }
         definedWidth = width;
         return remeasure();
     }
@@ -266,6 +312,10 @@ public abstract class Box implements Iterable<Box>
                     + getClass().getSimpleName()
                     + " kann die Höhe nicht setzt werden. Sie wird automatische bestimmt.");
         }
+        if (definedHeight == height)
+        {
+            return this;
+        }
         definedHeight = height;
         return remeasure();
     }
@@ -384,7 +434,7 @@ public abstract class Box implements Iterable<Box>
     public Box x(double x)
     {
         this.x = x;
-        return remeasure();
+        return this;
     }
 
     /**
@@ -474,7 +524,7 @@ public abstract class Box implements Iterable<Box>
     public Box y(double y)
     {
         this.y = y;
-        return remeasure();
+        return this;
     }
 
     /**
@@ -605,7 +655,7 @@ public abstract class Box implements Iterable<Box>
         }
 
         this.pixelPerMeter = pixelPerMeter;
-        measured = false;
+        remeasure();
         measure();
         return this;
     }
@@ -747,11 +797,22 @@ public abstract class Box implements Iterable<Box>
      *
      * <p>
      * Falls das Flag {@code measureDimensionTwice} gesetzt ist, werden diese
-     * Berechnungen zweimal durchgeführt.
+     * Berechnungen zweimal durchgeführt. Im zweiten Durchgang werden dabei nur
+     * die Kind-Boxen erneut gemessen, deren Abmessungen im ersten Durchgang
+     * verändert wurden.
+     * </p>
+     *
+     * <p>
+     * Boxen, die seit dem letzten Messdurchgang nicht als veraltet markiert
+     * wurden, werden samt ihrer Kind-Boxen übersprungen.
      * </p>
      */
     protected void measureDimension()
     {
+        if (!dimensionDirty)
+        {
+            return;
+        }
         for (Box child : childs)
         {
             child.measureDimension();
@@ -766,6 +827,9 @@ public abstract class Box implements Iterable<Box>
             }
             calculateDimension();
         }
+        dimensionDirty = false;
+        // Geänderte Abmessungen verschieben die Kinder-Boxen.
+        anchorsDirty = true;
     }
 
     /**
@@ -804,10 +868,22 @@ public abstract class Box implements Iterable<Box>
 
     /**
      * Aktualisiert die Ankerpunkte dieser Box und ihrer untergeordneten Boxen.
+     *
+     * <p>
+     * Die Kinder-Boxen werden nur dann neu angeordnet, wenn sich die Position
+     * oder die Abmessungen der Box seit der letzten Anordnung verändert haben.
+     * </p>
      */
     protected void measureAnchors()
     {
+        if (!anchorsDirty && x == arrangedX && y == arrangedY)
+        {
+            return;
+        }
         calculateAnchors();
+        arrangedX = x;
+        arrangedY = y;
+        anchorsDirty = false;
         for (Box child : childs)
         {
             child.measureAnchors();
@@ -819,14 +895,29 @@ public abstract class Box implements Iterable<Box>
      *
      * <p>
      * Bestimmt rekursiv zuerst die Abmessungen (Höhe und Breite) und
-     * anschließend die Ankerpunkte (x, y) der Kind-Boxen.
+     * anschließend die Ankerpunkte (x, y) der Kind-Boxen. Dabei werden nur die
+     * seit dem letzten Messdurchgang veralteten Teilbäume neu berechnet.
      * </p>
      */
     public void measure()
     {
         measureDimension();
         measureAnchors();
-        measured = true;
+    }
+
+    /**
+     * Gibt an, ob die Abmessungen der Box beim nächsten Messdurchgang <b>neu
+     * berechnet</b> werden müssen.
+     *
+     * @return {@code true}, wenn die Box seit dem letzten Messdurchgang als
+     *     veraltet markiert wurde, sonst {@code false}.
+     *
+     * @since 0.53.0
+     */
+    @Getter
+    public boolean needsMeasuring()
+    {
+        return dimensionDirty;
     }
 
     /**
@@ -870,11 +961,14 @@ public abstract class Box implements Iterable<Box>
     }
 
     /**
-     * Setzt den Messstatus dieser Box auf „nicht gemessen“ zurück.
+     * Setzt den Messstatus dieser Box und aller übergeordneten Boxen auf „nicht
+     * gemessen“ zurück.
      *
      * <p>
      * Dies zwingt die Box, ihre Dimensionen bei der nächsten Messung neu zu
-     * berechnen.
+     * berechnen. Gemessen wird erst beim nächsten Aufruf von {@link #measure()}
+     * oder {@link #render(Graphics2D)}, sodass mehrere Änderungen
+     * hintereinander nur einen Messdurchgang auslösen.
      * </p>
      *
      * @return Eine Referenz auf die eigene Instanz der Box, damit nach dem
@@ -885,7 +979,32 @@ public abstract class Box implements Iterable<Box>
     @ChainableMethod
     public Box remeasure()
     {
-        measured = false;
+        for (Box box = this; box != null; box = box.parent)
+        {
+            box.dimensionDirty = true;
+        }
+        return this;
+    }
+
+    /**
+     * Markiert die <b>Ankerpunkte</b> der Kinder-Boxen dieser Box und aller
+     * übergeordneten Boxen als veraltet, ohne dass die Abmessungen neu
+     * berechnet werden.
+     *
+     * @return Eine Referenz auf die eigene Instanz der Box, damit nach dem
+     *     Erbauer/Builder-Entwurfsmuster die Eigenschaften der Box durch
+     *     aneinander gekettete Setter festgelegt werden können, z.B.
+     *     {@code box.x(..).y(..)}.
+     *
+     * @since 0.53.0
+     */
+    @ChainableMethod
+    protected Box rearrange()
+    {
+        for (Box box = this; box != null; box = box.parent)
+        {
+            box.anchorsDirty = true;
+        }
         return this;
     }
 
@@ -905,10 +1024,7 @@ public abstract class Box implements Iterable<Box>
     @ChainableMethod
     public Box render(Graphics2D g)
     {
-        if (!measured)
-        {
-            measure();
-        }
+        measure();
         doDrawing(g);
         return this;
     }
@@ -931,10 +1047,7 @@ public abstract class Box implements Iterable<Box>
     public Box render(Graphics2D g, double pixelPerMeter)
     {
         pixelPerMeter(pixelPerMeter);
-        if (!measured)
-        {
-            measure();
-        }
+        measure();
         doDrawing(g);
         return this;
     }
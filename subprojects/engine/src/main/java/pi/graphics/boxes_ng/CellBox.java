@@ -67,7 +67,11 @@ public class CellBox extends ChildBox
     @Override
     public CellBox width(double width)
     {
-        definedWidth = width;
+        if (definedWidth != width)
+        {
+            definedWidth = width;
+            remeasure();
+        }
         return this;
     }
 
@@ -81,7 +85,11 @@ public class CellBox extends ChildBox
     @Override
     public CellBox height(double height)
     {
-        definedHeight = height;
+        if (definedHeight != height)
+        {
+            definedHeight = height;
+            remeasure();
+        }
         return this;
     }
 
@@ -95,6 +103,7 @@ public class CellBox extends ChildBox
     public CellBox hAlign(HAlign hAlign)
     {
         this.hAlign = hAlign;
+        rearrange();
         return this;
     }
 
@@ -108,6 +117,7 @@ public class CellBox extends ChildBox
     public CellBox vAlign(VAlign vAlign)
     {
         this.vAlign = vAlign;
+        rearrange();
         return this;
     }
 
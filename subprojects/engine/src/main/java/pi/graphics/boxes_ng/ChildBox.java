@@ -70,6 +70,7 @@ public abstract class ChildBox extends Box
         }
         childs.clear();
         childs.add(child);
+        remeasure();
     }
 
     @Override
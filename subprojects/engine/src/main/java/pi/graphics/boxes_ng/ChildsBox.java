@@ -53,6 +53,7 @@ public class ChildsBox<T extends Box> extends Box
             CellBox container = new CellBox(child);
             this.childs.add(container);
             container.parent = this;
+            remeasure();
         }
     }
 
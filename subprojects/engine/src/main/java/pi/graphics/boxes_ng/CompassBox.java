@@ -87,6 +87,7 @@ public class CompassBox extends LeafBox
     public CompassBox size(double size)
     {
         this.size = size;
+        remeasure();
         return this;
     }
 
@@ -75,6 +75,7 @@ public class GridBox<T extends Box> extends PaddingBox<T>
     {
         this.columns = columns;
         buildGrid();
+        remeasure();
         return this;
     }
 
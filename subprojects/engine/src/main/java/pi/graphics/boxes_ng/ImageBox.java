@@ -74,6 +74,7 @@ public class ImageBox extends LeafBox
     public ImageBox width(double width)
     {
         definedWidth = width;
+        remeasure();
         return this;
     }
 
@@ -92,6 +93,7 @@ public class ImageBox extends LeafBox
     public ImageBox height(double height)
     {
         definedHeight = height;
+        remeasure();
         return this;
     }
 
@@ -91,6 +91,7 @@ public class InsetBox extends ChildBox
     public InsetBox top(int top)
     {
         this.top = top;
+        remeasure();
         return this;
     }
 
@@ -127,6 +128,7 @@ public class InsetBox extends ChildBox
     public InsetBox right(int right)
     {
         this.right = right;
+        remeasure();
         return this;
     }
 
@@ -163,6 +165,7 @@ public class InsetBox extends ChildBox
     public InsetBox bottom(int bottom)
     {
         this.bottom = bottom;
+        remeasure();
         return this;
     }
 
@@ -199,6 +202,7 @@ public class InsetBox extends ChildBox
     public InsetBox left(int left)
     {
         this.left = left;
+        remeasure();
         return this;
     }
 
@@ -225,6 +229,7 @@ public class InsetBox extends ChildBox
         right = margin;
         bottom = margin;
         left = margin;
+        remeasure();
         return this;
     }
 
@@ -37,6 +37,7 @@ public abstract class PaddingBox<T extends Box> extends ChildsBox<T>
     public PaddingBox<T> padding(int padding)
     {
         this.padding = padding;
+        remeasure();
         return this;
     }
 
@@ -84,7 +84,6 @@ public class TextBlockBox extends TextBox
     {
         super(TextUtil.convertToMultilineString(content));
         wrap();
-        calculateDimension();
     }
 
     /* content */
@@ -107,7 +106,7 @@ public class TextBlockBox extends TextBox
     {
         super.content(TextUtil.convertToMultilineString(content));
         wrap();
-        calculateDimension();
+        remeasure();
         return this;
     }
 
@@ -136,7 +135,7 @@ public class TextBlockBox extends TextBox
         }
         definedWidth = width;
         charsPerLine = 0;
-        calculateDimension();
+        remeasure();
         return this;
     }
 
@@ -181,7 +180,7 @@ public class TextBlockBox extends TextBox
         // Box-Breite verwendet.
         definedWidth = 0;
         wrap();
-        calculateDimension();
+        remeasure();
         return this;
     }
 
@@ -285,7 +284,7 @@ public class TextBlockBox extends TextBox
                     "Der Zeilenabstand muss ein positiver Wert sein.");
         }
         this.lineSpacing = lineSpacing;
-        calculateDimension();
+        remeasure();
         return this;
     }
 
@@ -293,6 +292,34 @@ public class TextBlockBox extends TextBox
 
     private List<TextLayoutLine> lines = new ArrayList<>();
 
+    /**
+     * Der Inhalt, für den die {@link #lines Zeilen} zuletzt umgebrochen wurden.
+     *
+     * <p>
+     * Solange sich Inhalt, Schriftart und Umbruchbreite nicht ändern, werden
+     * die zwischengespeicherten Zeilen wiederverwendet.
+     * </p>
+     *
+     * @since 0.53.0
+     */
+    private String linesContent;
+
+    /**
+     * Die Schriftart, mit der die {@link #lines Zeilen} zuletzt umgebrochen
+     * wurden.
+     *
+     * @since 0.53.0
+     */
+    private Font linesFont;
+
+    /**
+     * Die Umbruchbreite in Pixel, mit der die {@link #lines Zeilen} zuletzt
+     * umgebrochen wurden.
+     *
+     * @since 0.53.0
+     */
+    private double linesWrappingWidth;
+
     /**
      * Gibt die intern berechneten, umgebrochenen <b>Textzeilen</b> zurück.
      *
@@ -304,6 +331,7 @@ public class TextBlockBox extends TextBox
     @Getter
     public List<TextLayoutLine> lines()
     {
+        measureDimension();
         return lines;
     }
 
@@ -317,6 +345,7 @@ public class TextBlockBox extends TextBox
     @API
     public String[] linesText()
     {
+        measureDimension();
         return lines.stream()
             .map(TextLayoutLine::lineContent)
             .toArray(String[]::new);
@@ -332,6 +361,7 @@ public class TextBlockBox extends TextBox
     @API
     public int linesCount()
     {
+        measureDimension();
         return lines.size();
     }
 
@@ -351,10 +381,17 @@ public class TextBlockBox extends TextBox
         {
             wrappingWidth = definedWidth;
         }
-        lines = splitIntoLines(content,
-            FontUtil.getFontRenderContext(),
-            font,
-            (float) wrappingWidth);
+        if (!content.equals(linesContent) || !font.equals(linesFont)
+                || wrappingWidth != linesWrappingWidth)
+        {
+            lines = splitIntoLines(content,
+                FontUtil.getFontRenderContext(),
+                font,
+                (float) wrappingWidth);
+            linesContent = content;
+            linesFont = font;
+            linesWrappingWidth = wrappingWidth;
+        }
         var dim = measureLines(lines);
         width = dim.width;
         height = dim.height;
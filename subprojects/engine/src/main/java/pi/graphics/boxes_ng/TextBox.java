@@ -113,7 +113,7 @@ public abstract class TextBox extends LeafBox
             content = " ";
         }
         this.content = TextUtil.convertToString(content);
-        calculateDimension();
+        remeasure();
         return this;
     }
 
@@ -182,7 +182,7 @@ public abstract class TextBox extends LeafBox
     public TextBox font(Font font)
     {
         this.font = font.deriveFont(fontStyle, (float) fontSize);
-        calculateDimension();
+        remeasure();
         return this;
     }
 
@@ -206,7 +206,7 @@ public abstract class TextBox extends LeafBox
     public TextBox fontSize(double fontSize)
     {
         font = font.deriveFont((float) fontSize);
-        calculateDimension();
+        remeasure();
         return this;
     }
 
@@ -242,7 +242,7 @@ public abstract class TextBox extends LeafBox
     {
         this.fontStyle = fontStyle.style();
         font = font.deriveFont(this.fontStyle);
-        calculateDimension();
+        remeasure();
         return this;
     }
 
@@ -273,7 +273,7 @@ public abstract class TextBox extends LeafBox
     {
         this.fontStyle = fontStyle;
         font = font.deriveFont(fontStyle);
-        calculateDimension();
+        remeasure();
         return this;
     }
 
@@ -358,12 +358,55 @@ public abstract class TextBox extends LeafBox
         return this;
     }
 
+    /**
+     * Gibt die <b>Breite</b> der Box in Pixel zurück.
+     *
+     * <p>
+     * Wurde der Text seit dem letzten Messdurchgang verändert, so wird er
+     * vorher ausgemessen.
+     * </p>
+     *
+     * @return Die <b>Breite</b> der Box in Pixel.
+     *
+     * @since 0.53.0
+     */
+    @API
+    @Getter
+    @Override
+    public int width()
+    {
+        measureDimension();
+        return super.width();
+    }
+
+    /**
+     * Gibt die <b>Höhe</b> der Box in Pixel zurück.
+     *
+     * <p>
+     * Wurde der Text seit dem letzten Messdurchgang verändert, so wird er
+     * vorher ausgemessen.
+     * </p>
+     *
+     * @return Die <b>Höhe</b> der Box in Pixel.
+     *
+     * @since 0.53.0
+     */
+    @API
+    @Getter
+    @Override
+    public int height()
+    {
+        measureDimension();
+        return super.height();
+    }
+
     /**
      * @hidden
      */
     @Override
     protected ToStringFormatter toStringFormatter()
     {
+        measureDimension();
         var formatter = super.toStringFormatter();
 
         if (fontSize != 16)
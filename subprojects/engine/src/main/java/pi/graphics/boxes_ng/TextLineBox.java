@@ -18,6 +18,7 @@
  */
 package pi.graphics.boxes_ng;
 
+import static pi.Controller.config;
 import static pi.util.MathUtil.round;
 // Go to file:///data/school/repos/inf/java/engine-pi/subprojects/demos/src/main/java/demos/classes/graphics/boxes/TextLineBoxDemo.java
 
@@ -27,6 +28,7 @@ import java.awt.Graphics2D;
 import java.awt.geom.AffineTransform;
 
 import pi.resources.font.FontUtil;
+import pi.resources.font.GlyphRun;
 
 /**
  * Eine einzeilige <b>Text</b>box.
@@ -45,6 +47,14 @@ public class TextLineBox extends TextBox
      */
     private int baseline;
 
+    /**
+     * Die aus einem Glyphenatlas zusammengesetzte Textzeile, falls
+     * {@link pi.config.GraphicsConfig#glyphAtlas(boolean)} aktiviert ist.
+     *
+     * @since 0.53.0
+     */
+    private GlyphRun glyphRun;
+
     /**
      * Der Skalierungsfaktor in x-Richtung.
      */
@@ -157,8 +167,11 @@ public class TextLineBox extends TextBox
             oldColor = g.getColor();
             g.setColor(color);
         }
-        g.setFont(font);
-        g.drawString(content, x(), yTop() + baseline);
+        if (!drawGlyphRun(g, content, x(), yTop() + baseline))
+        {
+            g.setFont(font);
+            g.drawString(content, x(), yTop() + baseline);
+        }
         g.setColor(oldColor);
         g.setFont(oldFont);
 
@@ -171,6 +184,27 @@ public class TextLineBox extends TextBox
         }
     }
 
+    /**
+     * Zeichnet den Text aus einem Glyphenatlas, falls dies aktiviert und mit
+     * der aktuellen Transformation möglich ist.
+     *
+     * @return {@code true}, falls der Text gezeichnet wurde.
+     */
+    private boolean drawGlyphRun(Graphics2D g, String content, double x,
+            double y)
+    {
+        if (!config.graphics.glyphAtlas())
+        {
+            return false;
+        }
+        if (glyphRun == null)
+        {
+            glyphRun = new GlyphRun();
+        }
+        return glyphRun
+            .draw(g, content, font, color != null ? color : g.getColor(), x, y);
+    }
+
     /**
      * @hidden
      */
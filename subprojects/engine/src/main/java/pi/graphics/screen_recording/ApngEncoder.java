@@ -0,0 +1,277 @@
+/*
+ * Engine Pi ist eine anfängerorientierte 2D-Gaming Engine.
+ *
+ * Copyright (c) 2026 Josef Friedrich and contributors.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package pi.graphics.screen_recording;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * Schreibt die Einzelbilder einer Bildschirmaufnahme als
+ * <a href="https://de.wikipedia.org/wiki/Animated_Portable_Network_Graphics">
+ * APNG-Datei</a>, ohne ein externes Programm zu benötigen.
+ *
+ * <p>
+ * Jedes Einzelbild wird vollständig und verlustfrei im RGB-Format gespeichert,
+ * die Zeilen werden mit dem PNG-Filter „Sub“ vorbereitet. Die Animation wird
+ * endlos wiederholt.
+ * </p>
+ *
+ * @see <a href="https://wiki.mozilla.org/APNG_Specification">APNG
+ *     Specification</a>
+ *
+ * @since 0.53.0
+ */
+public final class ApngEncoder implements FrameEncoder
+{
+    private static final byte[] SIGNATURE = { (byte) 0x89, 'P', 'N', 'G', '\r',
+            '\n', 0x1a, '\n' };
+
+    /**
+     * Die Position der Anzahl der Einzelbilder im {@code acTL}-Block: Signatur
+     * (8 Bytes), {@code IHDR}-Block (25 Bytes), Länge und Typ des
+     * {@code acTL}-Blocks (8 Bytes).
+     */
+    private static final int FRAME_COUNT_OFFSET = 8 + 25 + 8;
+
+    /**
+     * Der PNG-Filter „Sub“: Jedes Byte wird als Differenz zum entsprechenden
+     * Byte des linken Nachbarpixels gespeichert.
+     */
+    private static final byte FILTER_SUB = 1;
+
+    private final File file;
+
+    private final DataOutputStream output;
+
+    private final int width;
+
+    private final int height;
+
+    private final int framerate;
+
+    private final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+
+    private final CRC32 crc = new CRC32();
+
+    /**
+     * Eine gefilterte Bildzeile: ein Byte für den Filter und drei Bytes pro
+     * Pixel.
+     */
+    private final byte[] row;
+
+    private final byte[] deflateBuffer = new byte[64 * 1024];
+
+    /**
+     * Die komprimierten Bilddaten des aktuellen Einzelbilds.
+     */
+    private byte[] data = new byte[64 * 1024];
+
+    private int dataLength;
+
+    private final byte[] header = new byte[26];
+
+    /**
+     * Die fortlaufende Nummer der {@code fcTL}- und {@code fdAT}-Blöcke.
+     */
+    private int sequence = 0;
+
+    private int frames = 0;
+
+    /**
+     * Erzeugt einen neuen APNG-Kodierer.
+     *
+     * @param file Die Datei, in die die Animation geschrieben wird.
+     * @param width Die <b>Breite</b> der Einzelbilder in Pixel.
+     * @param height Die <b>Höhe</b> der Einzelbilder in Pixel.
+     * @param framerate Die Anzahl an Einzelbildern pro Sekunde.
+     *
+     * @throws IOException Falls die Datei nicht geöffnet werden kann.
+     */
+    public ApngEncoder(File file, int width, int height, int framerate)
+            throws IOException
+    {
+        this.file = file;
+        this.width = width;
+        this.height = height;
+        this.framerate = framerate;
+        row = new byte[1 + 3 * width];
+        output = new DataOutputStream(
+                new BufferedOutputStream(new FileOutputStream(file)));
+        output.write(SIGNATURE);
+        writeInt(header, 0, width);
+        writeInt(header, 4, height);
+        header[8] = 8; // Bittiefe
+        header[9] = 2; // Farbtyp RGB
+        header[10] = 0; // Kompression
+        header[11] = 0; // Filter
+        header[12] = 0; // kein Zeilensprungverfahren
+        writeChunk("IHDR", header, 13);
+        // Die Anzahl der Einzelbilder wird beim Schließen nachgetragen.
+        writeInt(header, 0, 0);
+        writeInt(header, 4, 0); // endlos wiederholen
+        writeChunk("acTL", header, 8);
+    }
+
+    @Override
+    public void encode(ScreenshotImage frame) throws IOException
+    {
+        writeInt(header, 0, sequence++);
+        writeInt(header, 4, width);
+        writeInt(header, 8, height);
+        writeInt(header, 12, 0); // x-Versatz
+        writeInt(header, 16, 0); // y-Versatz
+        writeShort(header, 20, 1);
+        writeShort(header, 22, framerate);
+        header[24] = 0; // APNG_DISPOSE_OP_NONE
+        header[25] = 0; // APNG_BLEND_OP_SOURCE
+        writeChunk("fcTL", header, 26);
+        compress(frame.pixels());
+        if (frames == 0)
+        {
+            writeChunk("IDAT", data, dataLength);
+        }
+        else
+        {
+            // Ein fdAT-Block beginnt mit seiner fortlaufenden Nummer.
+            ensureCapacity(dataLength + 4);
+            System.arraycopy(data, 0, data, 4, dataLength);
+            writeInt(data, 0, sequence++);
+            writeChunk("fdAT", data, dataLength + 4);
+        }
+        frames++;
+    }
+
+    private void compress(int[] pixels)
+    {
+        deflater.reset();
+        dataLength = 0;
+        row[0] = FILTER_SUB;
+        for (int y = 0; y < height; y++)
+        {
+            int previous = 0;
+            int offset = y * width;
+            for (int x = 0; x < width; x++)
+            {
+                int pixel = pixels[offset + x];
+                int i = 1 + 3 * x;
+                row[i] = (byte) ((pixel >> 16) - (previous >> 16));
+                row[i + 1] = (byte) ((pixel >> 8) - (previous >> 8));
+                row[i + 2] = (byte) (pixel - previous);
+                previous = pixel;
+            }
+            deflater.setInput(row);
+            drain();
+        }
+        deflater.finish();
+        while (!deflater.finished())
+        {
+            drain();
+        }
+    }
+
+    private void drain()
+    {
+        while (true)
+        {
+            int length = deflater.deflate(deflateBuffer);
+            if (length == 0)
+            {
+                if (deflater.needsInput() || deflater.finished())
+                {
+                    return;
+                }
+                continue;
+            }
+            ensureCapacity(dataLength + length);
+            System.arraycopy(deflateBuffer, 0, data, dataLength, length);
+            dataLength += length;
+        }
+    }
+
+    private void ensureCapacity(int capacity)
+    {
+        if (capacity > data.length)
+        {
+            byte[] larger = new byte[Math.max(capacity, 2 * data.length)];
+            System.arraycopy(data, 0, larger, 0, dataLength);
+            data = larger;
+        }
+    }
+
+    @Override
+    public void close() throws IOException
+    {
+        writeChunk("IEND", header, 0);
+        output.close();
+        deflater.end();
+        if (frames == 0)
+        {
+            file.delete();
+            return;
+        }
+        // Trägt die Anzahl der Einzelbilder in den acTL-Block ein und
+        // berechnet dessen Prüfsumme neu.
+        try (RandomAccessFile patch = new RandomAccessFile(file, "rw"))
+        {
+            writeInt(header, 0, frames);
+            writeInt(header, 4, 0);
+            patch.seek(FRAME_COUNT_OFFSET);
+            patch.write(header, 0, 8);
+            patch.writeInt(checksum("acTL", header, 8));
+        }
+    }
+
+    private void writeChunk(String type, byte[] data, int length)
+            throws IOException
+    {
+        output.writeInt(length);
+        output.write(type.getBytes(StandardCharsets.US_ASCII));
+        output.write(data, 0, length);
+        output.writeInt(checksum(type, data, length));
+    }
+
+    private int checksum(String type, byte[] data, int length)
+    {
+        crc.reset();
+        crc.update(type.getBytes(StandardCharsets.US_ASCII));
+        crc.update(data, 0, length);
+        return (int) crc.getValue();
+    }
+
+    private static void writeInt(byte[] buffer, int offset, int value)
+    {
+        buffer[offset] = (byte) (value >>> 24);
+        buffer[offset + 1] = (byte) (value >>> 16);
+        buffer[offset + 2] = (byte) (value >>> 8);
+        buffer[offset + 3] = (byte) value;
+    }
+
+    private static void writeShort(byte[] buffer, int offset, int value)
+    {
+        buffer[offset] = (byte) (value >>> 8);
+        buffer[offset + 1] = (byte) value;
+    }
+}
@@ -0,0 +1,214 @@
+/*
+ * Engine Pi ist eine anfängerorientierte 2D-Gaming Engine.
+ *
+ * Copyright (c) 2026 Josef Friedrich and contributors.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package pi.graphics.screen_recording;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Übergibt die Einzelbilder einer Bildschirmaufnahme unkomprimiert über eine
+ * Pipe an <a href="https://de.wikipedia.org/wiki/FFmpeg">ffmpeg</a>, das sie zu
+ * einem Video kodiert.
+ *
+ *
+ * <p>
+ * ffmpeg kodiert das Video bereits während der Aufnahme, es werden keine
+ * Einzelbilder auf der Festplatte zwischengespeichert.
+ * </p>
+ *
+ * @author Josef Friedrich
+ *
+ * @since 0.53.0
+ */
+public final class FfmpegEncoder implements FrameEncoder
+{
+    private final Process process;
+
+    private final OutputStream output;
+
+    /**
+     * Die Pixel eines Einzelbilds im Format {@code bgr0}, das einem
+     * {@code int}-Pixel im Format {@code 0xRRGGBB} in der Bytereihenfolge
+     * Little Endian entspricht.
+     */
+    private final ByteBuffer buffer;
+
+    private final IntBuffer pixels;
+
+    /**
+     * Startet ffmpeg.
+     *
+     * @param file Die Datei, in die das Video geschrieben wird.
+     * @param format Das Format des Videos.
+     * @param width Die <b>Breite</b> der Einzelbilder in Pixel.
+     * @param height Die <b>Höhe</b> der Einzelbilder in Pixel.
+     * @param framerate Die Anzahl an Einzelbildern pro Sekunde.
+     *
+     * @throws IOException Falls ffmpeg nicht gestartet werden kann, z.B. weil
+     *     es nicht installiert ist.
+     */
+    public FfmpegEncoder(File file, SupportedAnimatedFormat format, int width,
+            int height, int framerate) throws IOException
+    {
+        ProcessBuilder processBuilder = new ProcessBuilder("ffmpeg",
+                // -y (global) Overwrite output files without asking.
+                "-y",
+                // Die Einzelbilder werden unkomprimiert über die
+                // Standardeingabe übergeben.
+                "-f", "rawvideo", "-pix_fmt", "bgr0", "-video_size",
+                width + "x" + height,
+                // -framerate Set the grabbing frame rate. Default is ntsc,
+                // corresponding to a frame rate of 30000/1001.
+                "-framerate", String.valueOf(framerate),
+                // -i url (input) input file url
+                "-i", "-");
+        addFormatOptions(processBuilder.command(), format, framerate);
+        processBuilder.command().add(file.getAbsolutePath());
+        processBuilder.redirectOutput(ProcessBuilder.Redirect.DISCARD);
+        processBuilder.redirectError(ProcessBuilder.Redirect.DISCARD);
+        process = processBuilder.start();
+        output = process.getOutputStream();
+        buffer = ByteBuffer.allocate(width * height * 4)
+            .order(ByteOrder.LITTLE_ENDIAN);
+        pixels = buffer.asIntBuffer();
+    }
+
+    private static void addFormatOptions(List<String> command,
+            SupportedAnimatedFormat format, int framerate)
+    {
+        switch (format)
+        {
+        case GIF:
+            /* @formatter:off
+             *
+             * ffmpeg -h encoder=gif:
+             *
+             * Encoder gif [GIF (Graphics Interchange Format)]:
+             *     General capabilities: dr1
+             *     Threading capabilities: none
+             *     Supported pixel formats: rgb8 bgr8 rgb4_byte bgr4_byte gray pal8
+             * GIF encoder AVOptions:
+             *   -gifflags          <flags>      E..V....... set GIF flags (default offsetting+transdiff)
+             *      offsetting                   E..V....... enable picture offsetting
+             *      transdiff                    E..V....... enable transparency detection between frames
+             *   -gifimage          <boolean>    E..V....... enable encoding only images per frame (default false)
+             *   -global_palette    <boolean>    E..V....... write a palette to the global gif header where feasible (default true)
+             *
+             * @formatter:on */
+
+            // https://www.ffmpeg.org/ffmpeg-all.html#gif-2
+            // loop bool Set the number of times to loop the output. Use -1
+            // for no loop, 0 for looping indefinitely (default).
+            command.add("-loop");
+            command.add("0");
+            // -vf filtergraph (output) Create the filtergraph specified by
+            // filtergraph and use it to filter the stream. This is an alias
+            // for -filter:v, see the -filter option.
+            command.add("-vf");
+            command.add("fps=" + framerate + ",scale=iw:ih:flags=lanczos");
+            break;
+
+        case WEBP:
+            /* @formatter:off
+             *
+             * ffmpeg -h encoder=webp:
+             *
+             * Encoder libwebp [libwebp WebP image]:
+             *     General capabilities: dr1
+             *     Threading capabilities: none
+             *     Supported pixel formats: bgra yuv420p yuva420p
+             * libwebp encoder AVOptions:
+             * -lossless          <int>        E..V....... Use lossless mode (from 0 to 1) (default 0)
+             * -preset            <int>        E..V....... Configuration preset (from -1 to 5) (default none)
+             * -quality           <float>      E..V....... Quality (from 0 to 100) (default 75)
+             *
+             * @formatter:on */
+
+            command.add("-loop");
+            command.add("0");
+            command.add("-vcodec");
+            command.add("webp");
+            command.add("-lossless"); // Macht komische Streifen
+            command.add("1"); // 0 ist aus, 1 ist an
+            command.add("-pix_fmt");
+            command.add("bgra");
+            break;
+
+        case APNG:
+            // -plays repetitions: specify how many times to play the content, 0
+            // causes an infinite loop, with 1 there is no loop
+            command.add("-plays");
+            command.add("0");
+            break;
+
+        case WEBM:
+        case MP4:
+            command.add("-c:v");
+            command.add("libvpx-vp9");
+            command.add("-pix_fmt");
+            command.add("yuva420p");
+            break;
+
+        default:
+            break;
+        }
+    }
+
+    @Override
+    public void encode(ScreenshotImage frame) throws IOException
+    {
+        pixels.clear();
+        pixels.put(frame.pixels());
+        output.write(buffer.array());
+    }
+
+    @Override
+    public void close() throws IOException
+    {
+        output.close();
+        int exitCode;
+        try
+        {
+            if (!process.waitFor(1, TimeUnit.MINUTES))
+            {
+                process.destroy();
+                throw new IOException(
+                        "ffmpeg wurde nicht rechtzeitig beendet.");
+            }
+            exitCode = process.exitValue();
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            process.destroy();
+            throw new IOException("ffmpeg wurde unterbrochen.", e);
+        }
+        if (exitCode != 0)
+        {
+            throw new IOException(
+                    "ffmpeg fehlgeschlagen mit Exit-Code: " + exitCode);
+        }
+    }
+}
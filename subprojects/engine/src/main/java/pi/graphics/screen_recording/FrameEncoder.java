@@ -0,0 +1,59 @@
+/*
+ * Engine Pi ist eine anfängerorientierte 2D-Gaming Engine.
+ *
+ * Copyright (c) 2026 Josef Friedrich and contributors.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package pi.graphics.screen_recording;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Ein <b>Kodierer</b>, der die Einzelbilder einer Bildschirmaufnahme in eine
+ * Datei schreibt.
+ *
+ * <p>
+ * Die Methoden werden nacheinander vom selben Hintergrund-Thread der
+ * {@link RecordingPipeline} aufgerufen. Das übergebene Einzelbild darf nach dem
+ * Ende von {@link #encode(ScreenshotImage)} nicht mehr verwendet werden, da es
+ * anschließend für ein späteres Einzelbild wiederverwendet wird.
+ * </p>
+ *
+ * @see GifEncoder
+ * @see ApngEncoder
+ * @see FfmpegEncoder
+ *
+ * @since 0.53.0
+ */
+public interface FrameEncoder extends Closeable
+{
+    /**
+     * Kodiert ein Einzelbild.
+     *
+     * @param frame Das zu kodierende Einzelbild.
+     *
+     * @throws IOException Falls das Einzelbild nicht geschrieben werden kann.
+     */
+    void encode(ScreenshotImage frame) throws IOException;
+
+    /**
+     * Schließt die Datei ab, nachdem alle Einzelbilder kodiert wurden.
+     *
+     * @throws IOException Falls die Datei nicht abgeschlossen werden kann.
+     */
+    @Override
+    void close() throws IOException;
+}
@@ -0,0 +1,134 @@
+/*
+ * Engine Pi ist eine anfängerorientierte 2D-Gaming Engine.
+ *
+ * Copyright (c) 2026 Josef Friedrich and contributors.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package pi.graphics.screen_recording;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageTypeSpecifier;
+import javax.imageio.ImageWriter;
+import javax.imageio.metadata.IIOMetadata;
+import javax.imageio.metadata.IIOMetadataNode;
+import javax.imageio.stream.ImageOutputStream;
+
+/**
+ * Schreibt die Einzelbilder einer Bildschirmaufnahme als
+ * <a href="https://de.wikipedia.org/wiki/Graphics_Interchange_Format">animierte
+ * GIF-Datei</a>, ohne ein externes Programm zu benötigen.
+ *
+ * <p>
+ * Die Farben jedes Einzelbilds werden von {@link ImageIO} auf eine Palette mit
+ * höchstens 256 Farben reduziert. Die Animation wird endlos wiederholt.
+ * </p>
+ *
+ * @since 0.53.0
+ */
+public final class GifEncoder implements FrameEncoder
+{
+    private final ImageWriter writer;
+
+    private final ImageOutputStream output;
+
+    /**
+     * Die Metadaten, die für jedes Einzelbild gleich sind.
+     */
+    private final IIOMetadata metadata;
+
+    /**
+     * Erzeugt einen neuen GIF-Kodierer.
+     *
+     * @param file Die Datei, in die die Animation geschrieben wird.
+     * @param framerate Die Anzahl an Einzelbildern pro Sekunde.
+     *
+     * @throws IOException Falls die Datei nicht geöffnet werden kann.
+     */
+    public GifEncoder(File file, int framerate) throws IOException
+    {
+        writer = ImageIO.getImageWritersByFormatName("gif").next();
+        // Der Ausgabestrom kürzt eine bereits vorhandene Datei nicht.
+        file.delete();
+        output = ImageIO.createImageOutputStream(file);
+        writer.setOutput(output);
+        metadata = createMetadata(framerate);
+        writer.prepareWriteSequence(null);
+    }
+
+    private IIOMetadata createMetadata(int framerate) throws IOException
+    {
+        IIOMetadata metadata = writer.getDefaultImageMetadata(ImageTypeSpecifier
+            .createFromBufferedImageType(BufferedImage.TYPE_INT_RGB), null);
+        String format = metadata.getNativeMetadataFormatName();
+        IIOMetadataNode root = (IIOMetadataNode) metadata.getAsTree(format);
+        IIOMetadataNode control = child(root, "GraphicControlExtension");
+        control.setAttribute("disposalMethod", "none");
+        control.setAttribute("userInputFlag", "FALSE");
+        control.setAttribute("transparentColorFlag", "FALSE");
+        control.setAttribute("transparentColorIndex", "0");
+        // Die Anzeigedauer wird in Hundertstelsekunden angegeben.
+        control.setAttribute("delayTime",
+            String.valueOf(Math.max(1, Math.round(100f / framerate))));
+        // Die Erweiterung NETSCAPE2.0 legt die Anzahl der Wiederholungen fest,
+        // 0 bedeutet endlos.
+        IIOMetadataNode loop = new IIOMetadataNode("ApplicationExtension");
+        loop.setAttribute("applicationID", "NETSCAPE");
+        loop.setAttribute("authenticationCode", "2.0");
+        loop.setUserObject(new byte[] { 1, 0, 0 });
+        child(root, "ApplicationExtensions").appendChild(loop);
+        metadata.setFromTree(format, root);
+        return metadata;
+    }
+
+    private static IIOMetadataNode child(IIOMetadataNode parent, String name)
+    {
+        for (int i = 0; i < parent.getLength(); i++)
+        {
+            if (parent.item(i).getNodeName().equals(name))
+            {
+                return (IIOMetadataNode) parent.item(i);
+            }
+        }
+        IIOMetadataNode node = new IIOMetadataNode(name);
+        parent.appendChild(node);
+        return node;
+    }
+
+    @Override
+    public void encode(ScreenshotImage frame) throws IOException
+    {
+        writer.writeToSequence(new IIOImage(frame.image(), null, metadata),
+            null);
+    }
+
+    @Override
+    public void close() throws IOException
+    {
+        try
+        {
+            writer.endWriteSequence();
+        }
+        finally
+        {
+            output.close();
+            writer.dispose();
+        }
+    }
+}
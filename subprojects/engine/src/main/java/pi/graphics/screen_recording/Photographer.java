@@ -29,8 +29,10 @@ import pi.Controller;
  * <p>
  * {@link java.awt.Canvas} beinhaltet keine Pixel-Daten, die man abgreifen
  * könnte und eine Bilddatei erstellen könnte. Ein Einzelbild, von dem ein
- * Bildschirmfoto gemacht werden soll, muss also zweimal gezeichnet werden. Die
- * Klasse wird in {@link pi.graphics.RenderPanel} als Attribut eingefügt.
+ * Bildschirmfoto gemacht werden soll, wird deshalb einmal in ein
+ * {@link ScreenshotImage} gezeichnet und dieses anschließend in das Fenster
+ * kopiert. Die Klasse wird in {@link pi.graphics.RenderPanel} als Attribut
+ * eingefügt.
  * </p>
  *
  * <p>
@@ -63,6 +65,18 @@ public final class Photographer
 
     private VideoTask videoTask;
 
+    /**
+     * Die Aufgabe, die ein Bildschirmfoto vom aktuellen Einzelbild benötigt,
+     * oder {@code null}.
+     */
+    private ImageTask frameImageTask;
+
+    /**
+     * Die Videoaufnahme, die das aktuelle Einzelbild benötigt, oder
+     * {@code null}.
+     */
+    private VideoTask frameVideoTask;
+
     /**
      * @since 0.42.0
      */
@@ -182,6 +196,21 @@ public final class Photographer
         }
     }
 
+    /**
+     * Gibt die laufende <b>Bildschirmaufnahme</b> zurück, z.B. um die Anzahl
+     * der ausgelassenen Einzelbilder abzufragen.
+     *
+     * @return Die laufende Bildschirmaufnahme oder {@code null}, falls keine
+     *     Bildschirmaufnahme läuft oder noch kein Einzelbild aufgenommen wurde.
+     *
+     * @since 0.53.0
+     */
+    public RecordingPipeline recording()
+    {
+        VideoTask videoTask = this.videoTask;
+        return videoTask != null ? videoTask.pipeline() : null;
+    }
+
     /**
      * Soll bei diesem Einzelbild ein Bildschirmfoto gemacht werden?
      *
@@ -189,16 +218,46 @@ public final class Photographer
      */
     public boolean hasToTakeScreenshot()
     {
-        return (imageTask != null && imageTask.hasToTakeScreenshot())
-                || (videoTask != null && videoTask.hasToTakeScreenshot());
+        ImageTask imageTask = this.imageTask;
+        VideoTask videoTask = this.videoTask;
+        frameImageTask = imageTask != null && imageTask.hasToTakeScreenshot()
+                ? imageTask
+                : null;
+        frameVideoTask = videoTask != null && videoTask.hasToTakeScreenshot()
+                ? videoTask
+                : null;
+        return frameImageTask != null || frameVideoTask != null;
     }
 
     /**
+     * Stellt ein Einzelbild bereit, in das das aktuelle Einzelbild gezeichnet
+     * wird.
+     *
+     * <p>
+     * Bei einer Bildschirmaufnahme wird ein wiederverwendbares Einzelbild der
+     * {@link RecordingPipeline} zurückgegeben.
+     * </p>
+     *
+     * @return Ein Einzelbild oder {@code null}, falls das Einzelbild
+     *     ausgelassen wird, weil die Bildschirmaufnahme nicht hinterherkommt.
+     *
      * @since 0.42.0
      */
     public ScreenshotImage createImage(int width, int height)
     {
-        return new ScreenshotImage(width, height);
+        if (frameVideoTask != null)
+        {
+            ScreenshotImage image = frameVideoTask.acquire(width, height);
+            if (image != null)
+            {
+                return image;
+            }
+        }
+        if (frameImageTask != null)
+        {
+            return new ScreenshotImage(width, height);
+        }
+        return null;
     }
 
     /**
@@ -206,15 +265,19 @@ public final class Photographer
      */
     public void writeImage(ScreenshotImage image)
     {
-        if (imageTask != null)
+        if (frameImageTask != null)
         {
-            imageTask.writeImage(image);
-            imageTask = null;
+            frameImageTask.writeImage(image);
+            if (imageTask == frameImageTask)
+            {
+                imageTask = null;
+            }
+            frameImageTask = null;
         }
-
-        if (videoTask != null)
+        if (frameVideoTask != null)
         {
-            videoTask.writeImage(image);
+            frameVideoTask.writeImage(image);
+            frameVideoTask = null;
         }
     }
 
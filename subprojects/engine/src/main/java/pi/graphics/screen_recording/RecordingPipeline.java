@@ -0,0 +1,352 @@
+/*
+ * Engine Pi ist eine anfängerorientierte 2D-Gaming Engine.
+ *
+ * Copyright (c) 2026 Josef Friedrich and contributors.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package pi.graphics.screen_recording;
+
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+import pi.annotations.API;
+import pi.annotations.Getter;
+
+/**
+ * Übergibt die Einzelbilder einer <b>Bildschirmaufnahme</b> an einen
+ * Hintergrund-Thread, der sie mit einem {@link FrameEncoder} kodiert.
+ *
+ * <p>
+ * Die Einzelbilder stammen aus einem Vorrat fester Größe und werden nach dem
+ * Kodieren wiederverwendet. Die Warteschlange zwischen dem Zeichen-Thread und
+ * dem Kodierer ist begrenzt: Ist der Kodierer zu langsam, wird ein Einzelbild
+ * ausgelassen, statt das Spiel auszubremsen. Die Anzahl der ausgelassenen
+ * Einzelbilder und die Auslastung der Warteschlange können abgefragt werden.
+ * </p>
+ *
+ * @see Photographer#recording()
+ *
+ * @since 0.53.0
+ */
+public final class RecordingPipeline implements AutoCloseable
+{
+    private static final Logger log = Logger
+        .getLogger(RecordingPipeline.class.getName());
+
+    /**
+     * Die Anzahl an Einzelbildern, die standardmäßig höchstens auf ihre
+     * Kodierung warten.
+     */
+    public static final int DEFAULT_QUEUE_CAPACITY = 8;
+
+    /**
+     * Markiert das Ende der Aufnahme in der Warteschlange.
+     */
+    private static final ScreenshotImage END = new ScreenshotImage(1, 1);
+
+    private final int width;
+
+    private final int height;
+
+    private final FrameEncoder encoder;
+
+    /**
+     * Die Einzelbilder, die auf ihre Kodierung warten.
+     */
+    private final BlockingQueue<ScreenshotImage> queue;
+
+    private final int queueCapacity;
+
+    /**
+     * Die bereits erzeugten Einzelbilder, die gerade nicht verwendet werden.
+     */
+    private final BlockingQueue<ScreenshotImage> pool;
+
+    /**
+     * Die maximale Anzahl an Einzelbildern: die volle Warteschlange, ein
+     * Einzelbild, das gerade gezeichnet wird, und eines, das gerade kodiert
+     * wird.
+     */
+    private final int maxFrames;
+
+    private final AtomicInteger allocatedFrames = new AtomicInteger();
+
+    private final AtomicLong droppedFrames = new AtomicLong();
+
+    private final AtomicLong encodedFrames = new AtomicLong();
+
+    private volatile int maxQueueDepth = 0;
+
+    private volatile boolean closed = false;
+
+    /**
+     * Ein Fehler des Kodierers. Nach einem Fehler werden keine weiteren
+     * Einzelbilder kodiert.
+     */
+    private volatile Exception failure;
+
+    private final Thread thread;
+
+    /**
+     * Erzeugt eine neue Aufnahme mit einer Warteschlange für
+     * {@link #DEFAULT_QUEUE_CAPACITY} Einzelbilder.
+     *
+     * @param width Die <b>Breite</b> der Einzelbilder in Pixel.
+     * @param height Die <b>Höhe</b> der Einzelbilder in Pixel.
+     * @param encoder Der Kodierer, der die Einzelbilder schreibt.
+     */
+    @API
+    public RecordingPipeline(int width, int height, FrameEncoder encoder)
+    {
+        this(width, height, encoder, DEFAULT_QUEUE_CAPACITY);
+    }
+
+    /**
+     * Erzeugt eine neue Aufnahme.
+     *
+     * @param width Die <b>Breite</b> der Einzelbilder in Pixel.
+     * @param height Die <b>Höhe</b> der Einzelbilder in Pixel.
+     * @param encoder Der Kodierer, der die Einzelbilder schreibt.
+     * @param queueCapacity Die Anzahl an Einzelbildern, die höchstens auf ihre
+     *     Kodierung warten.
+     */
+    @API
+    public RecordingPipeline(int width, int height, FrameEncoder encoder,
+            int queueCapacity)
+    {
+        if (queueCapacity <= 0)
+        {
+            throw new IllegalArgumentException(
+                    "Die Kapazität muss größer als 0 sein, war "
+                            + queueCapacity);
+        }
+        this.width = width;
+        this.height = height;
+        this.encoder = encoder;
+        this.queueCapacity = queueCapacity;
+        maxFrames = queueCapacity + 2;
+        // Ein zusätzlicher Platz für die Endmarkierung.
+        queue = new ArrayBlockingQueue<>(queueCapacity + 1);
+        pool = new ArrayBlockingQueue<>(maxFrames);
+        thread = new Thread(this::run, "pi.recording");
+        thread.start();
+    }
+
+    /**
+     * Gibt ein freies Einzelbild zurück, in das gezeichnet werden kann.
+     *
+     * <p>
+     * Sind alle Einzelbilder in Verwendung, weil der Kodierer nicht
+     * hinterherkommt, wird das Einzelbild als ausgelassen gezählt und
+     * {@code null} zurückgegeben.
+     * </p>
+     *
+     * @return Ein freies Einzelbild oder {@code null}.
+     */
+    public ScreenshotImage acquire()
+    {
+        if (closed)
+        {
+            return null;
+        }
+        ScreenshotImage frame = pool.poll();
+        if (frame != null)
+        {
+            return frame;
+        }
+        if (allocatedFrames.incrementAndGet() <= maxFrames)
+        {
+            return new ScreenshotImage(width, height);
+        }
+        allocatedFrames.decrementAndGet();
+        droppedFrames.incrementAndGet();
+        return null;
+    }
+
+    /**
+     * Übergibt ein gezeichnetes Einzelbild an den Kodierer.
+     *
+     * @param frame Ein Einzelbild, das mit {@link #acquire()} angefordert
+     *     wurde.
+     */
+    public void submit(ScreenshotImage frame)
+    {
+        if (closed || frame.width() != width || frame.height() != height
+                || queue.size() >= queueCapacity || !queue.offer(frame))
+        {
+            droppedFrames.incrementAndGet();
+            recycle(frame);
+            return;
+        }
+        int depth = queue.size();
+        if (depth > maxQueueDepth)
+        {
+            maxQueueDepth = depth;
+        }
+    }
+
+    /**
+     * Gibt die Anzahl der <b>ausgelassenen</b> Einzelbilder zurück.
+     *
+     * @return Die Anzahl der Einzelbilder, die nicht kodiert wurden, weil die
+     *     Warteschlange voll war.
+     */
+    @API
+    @Getter
+    public long droppedFrames()
+    {
+        return droppedFrames.get();
+    }
+
+    /**
+     * Gibt die Anzahl der bereits <b>kodierten</b> Einzelbilder zurück.
+     *
+     * @return Die Anzahl der kodierten Einzelbilder.
+     */
+    @API
+    @Getter
+    public long encodedFrames()
+    {
+        return encodedFrames.get();
+    }
+
+    /**
+     * Gibt die Anzahl der Einzelbilder zurück, die gerade auf ihre Kodierung
+     * <b>warten</b>.
+     *
+     * @return Die aktuelle Länge der Warteschlange.
+     */
+    @API
+    @Getter
+    public int queueDepth()
+    {
+        int depth = queue.size();
+        return queue.contains(END) ? depth - 1 : depth;
+    }
+
+    /**
+     * Gibt die Anzahl an Einzelbildern zurück, die höchstens auf ihre Kodierung
+     * warten.
+     *
+     * @return Die Kapazität der Warteschlange.
+     */
+    @API
+    @Getter
+    public int queueCapacity()
+    {
+        return queueCapacity;
+    }
+
+    /**
+     * Gibt die größte bisher gemessene Länge der Warteschlange zurück.
+     *
+     * @return Die größte Anzahl an Einzelbildern, die gleichzeitig auf ihre
+     *     Kodierung gewartet haben.
+     */
+    @API
+    @Getter
+    public int maxQueueDepth()
+    {
+        return maxQueueDepth;
+    }
+
+    /**
+     * Beendet die Aufnahme: Wartet, bis alle übergebenen Einzelbilder kodiert
+     * sind, und schließt anschließend den Kodierer.
+     *
+     * @throws IOException Falls beim Kodieren ein Fehler aufgetreten ist.
+     */
+    @Override
+    public void close() throws IOException
+    {
+        if (closed)
+        {
+            return;
+        }
+        closed = true;
+        try
+        {
+            queue.put(END);
+            thread.join();
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            thread.interrupt();
+        }
+        encoder.close();
+        if (failure != null)
+        {
+            throw new IOException("Die Bildschirmaufnahme ist fehlgeschlagen.",
+                    failure);
+        }
+    }
+
+    private void recycle(ScreenshotImage frame)
+    {
+        if (!pool.offer(frame))
+        {
+            allocatedFrames.decrementAndGet();
+        }
+    }
+
+    private void run()
+    {
+        while (true)
+        {
+            ScreenshotImage frame;
+            try
+            {
+                frame = queue.take();
+            }
+            catch (InterruptedException e)
+            {
+                return;
+            }
+            if (frame == END)
+            {
+                return;
+            }
+            boolean encoded = false;
+            try
+            {
+                if (failure == null)
+                {
+                    encoder.encode(frame);
+                    encoded = true;
+                }
+            }
+            catch (IOException | RuntimeException e)
+            {
+                log.severe(
+                    "Ein Einzelbild der Bildschirmaufnahme konnte nicht kodiert werden: "
+                            + e.getMessage());
+                failure = e;
+            }
+            finally
+            {
+                recycle(frame);
+            }
+            if (encoded)
+            {
+                encodedFrames.incrementAndGet();
+            }
+        }
+    }
+}
@@ -18,16 +18,23 @@
  */
 package pi.graphics.screen_recording;
 
-import static pi.Controller.config;
-
 import java.awt.Graphics2D;
 import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
 
 import pi.annotations.Getter;
 import pi.util.Graphics2DUtil;
 import pi.util.ImageUtil;
 
 /**
+ * Ein <b>Einzelbild</b> für ein Bildschirmfoto oder eine Bildschirmaufnahme.
+ *
+ * <p>
+ * Bei einer Bildschirmaufnahme werden die Einzelbilder wiederverwendet: Nachdem
+ * ein Einzelbild kodiert wurde, wird es für ein späteres Einzelbild erneut
+ * beschrieben.
+ * </p>
+ *
  * @author Josef Friedrich
  *
  * @since 0.42.0
@@ -36,22 +43,78 @@ public class ScreenshotImage
 {
     private final BufferedImage image;
 
-    private final Graphics2D g;
-
     public ScreenshotImage(int width, int height)
     {
-        image = new BufferedImage(config.graphics.windowWidth(),
-                config.graphics.windowHeight(), BufferedImage.TYPE_INT_RGB);
-        g = (Graphics2D) image.getGraphics();
-        Graphics2DUtil.antiAliasing(g, true);
+        image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
     }
 
-    @Getter
+    /**
+     * Erzeugt ein neues {@link Graphics2D}-Objekt, mit dem in das Einzelbild
+     * gezeichnet werden kann.
+     *
+     * @return Ein neues {@link Graphics2D}-Objekt mit aktivierter
+     *     Kantenglättung.
+     */
     public Graphics2D g()
     {
+        Graphics2D g = image.createGraphics();
+        Graphics2DUtil.antiAliasing(g, true);
         return g;
     }
 
+    /**
+     * Gibt das Bild zurück, in das gezeichnet wird.
+     *
+     * @return Das Bild mit dem Typ {@link BufferedImage#TYPE_INT_RGB}.
+     *
+     * @since 0.53.0
+     */
+    @Getter
+    public BufferedImage image()
+    {
+        return image;
+    }
+
+    /**
+     * Gibt die Pixel des Einzelbilds zeilenweise im Format {@code 0xRRGGBB}
+     * zurück, ohne sie zu kopieren.
+     *
+     * @return Die Pixel des Einzelbilds.
+     *
+     * @since 0.53.0
+     */
+    @Getter
+    public int[] pixels()
+    {
+        return ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+    }
+
+    /**
+     * Gibt die <b>Breite</b> des Einzelbilds in Pixel zurück.
+     *
+     * @return Die <b>Breite</b> in Pixel.
+     *
+     * @since 0.53.0
+     */
+    @Getter
+    public int width()
+    {
+        return image.getWidth();
+    }
+
+    /**
+     * Gibt die <b>Höhe</b> des Einzelbilds in Pixel zurück.
+     *
+     * @return Die <b>Höhe</b> in Pixel.
+     *
+     * @since 0.53.0
+     */
+    @Getter
+    public int height()
+    {
+        return image.getHeight();
+    }
+
     public void write(String filePath)
     {
         ImageUtil.write(image, filePath);
@@ -21,11 +21,15 @@ package pi.graphics.screen_recording;
 import pi.annotations.Getter;
 
 /**
+ * Die Formate, in denen eine <b>Bildschirmaufnahme</b> gespeichert werden kann.
+ *
  * @author Josef Friedrich
  *
  * @since 0.42.0
+ *
+ * @see pi.config.GraphicsConfig#screenRecordingFormat(SupportedAnimatedFormat)
  */
-enum SupportedAnimatedFormat
+public enum SupportedAnimatedFormat
 {
     /**
      * <a href="https://de.wikipedia.org/wiki/Graphics_Interchange_Format">Das
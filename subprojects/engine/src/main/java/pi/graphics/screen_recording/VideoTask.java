@@ -20,8 +20,9 @@ package pi.graphics.screen_recording;
 
 import static pi.Controller.config;
 
-import java.util.Timer;
-import java.util.TimerTask;
+import java.io.File;
+import java.io.IOException;
+import java.util.logging.Logger;
 
 import pi.Controller;
 import pi.util.FileUtil;
@@ -29,12 +30,20 @@ import pi.util.FileUtil;
 /**
  * Erzeugt mehrere Bildschirmfotos für eine Video (screen recording).
  *
+ * <p>
+ * Die Einzelbilder werden über eine {@link RecordingPipeline} an einen
+ * Hintergrund-Thread übergeben, der sie direkt in das Video kodiert.
+ * </p>
+ *
  * @author Josef Friedrich
  *
  * @since 0.42.0
  */
 class VideoTask extends PhotoshootingTask
 {
+    private static final Logger log = Logger
+        .getLogger(VideoTask.class.getName());
+
     private int frameCounter = 0;
 
     /**
@@ -45,28 +54,50 @@ class VideoTask extends PhotoshootingTask
      */
     int nFrames;
 
+    /**
+     * Das Format, in dem die Bildschirmaufnahme gespeichert wird.
+     */
+    private final SupportedAnimatedFormat format;
+
+    /**
+     * Die Aufnahme wird beim ersten Einzelbild erzeugt, da erst dann die Größe
+     * der Einzelbilder bekannt ist.
+     */
+    private RecordingPipeline pipeline;
+
+    /**
+     * Gibt an, ob der Kodierer nicht gestartet werden konnte.
+     */
+    private boolean failed = false;
+
+    /**
+     * Das zuletzt angeforderte Einzelbild der Aufnahme.
+     */
+    private ScreenshotImage acquired;
+
     private String oldTitle;
 
     VideoTask()
     {
-        this(config.graphics.screenRecordingNFrames());
+        this(config.graphics.screenRecordingNFrames(),
+                config.graphics.screenRecordingFormat());
     }
 
-    VideoTask(int nFrames)
+    VideoTask(int nFrames, SupportedAnimatedFormat format)
     {
         super();
         this.nFrames = nFrames;
+        this.format = format;
     }
 
     protected String getBaseDir()
     {
-        return FileUtil.getTmpDir() + "/engine-pi-screen-recording_"
-                + getFormattedTime();
+        return FileUtil.getVideosDir();
     }
 
     String getFilename()
     {
-        return "screenshot_" + System.nanoTime() + ".png";
+        return "Engine-Pi_" + getFormattedTime() + "." + format.extension();
     }
 
     @Override
@@ -81,10 +112,78 @@ class VideoTask extends PhotoshootingTask
         return false;
     }
 
+    /**
+     * Die Anzahl der Einzelbilder pro Sekunde im Video.
+     */
+    int framerate()
+    {
+        return Math.max(1,
+            (int) Math.round((double) config.graphics.framerate() / nFrames));
+    }
+
+    /**
+     * Gibt die Aufnahme zurück oder {@code null}, falls sie noch nicht
+     * gestartet wurde.
+     */
+    synchronized RecordingPipeline pipeline()
+    {
+        return pipeline;
+    }
+
+    /**
+     * Fordert ein freies Einzelbild der Aufnahme an.
+     *
+     * @return Ein freies Einzelbild oder {@code null}, falls das Einzelbild
+     *     ausgelassen werden muss.
+     */
+    synchronized ScreenshotImage acquire(int width, int height)
+    {
+        if (pipeline == null && !failed)
+        {
+            File file = new File(baseDir() + "/" + getFilename());
+            try
+            {
+                pipeline = new RecordingPipeline(width, height,
+                        createEncoder(file, width, height));
+            }
+            catch (IOException e)
+            {
+                log.severe(
+                    "Die Bildschirmaufnahme konnte nicht gestartet werden: "
+                            + e.getMessage());
+                failed = true;
+            }
+        }
+        acquired = pipeline != null ? pipeline.acquire() : null;
+        return acquired;
+    }
+
+    private FrameEncoder createEncoder(File file, int width, int height)
+            throws IOException
+    {
+        switch (format)
+        {
+        case GIF:
+            return new GifEncoder(file, framerate());
+
+        case APNG:
+            return new ApngEncoder(file, width, height, framerate());
+
+        default:
+            return new FfmpegEncoder(file, format, width, height, framerate());
+        }
+    }
+
     @Override
-    void writeImage(ScreenshotImage image)
+    synchronized void writeImage(ScreenshotImage image)
     {
-        super.writeImage(image);
+        if (image != acquired)
+        {
+            return;
+        }
+        acquired = null;
+        pipeline.submit(image);
+        imageCount++;
         var window = Controller.window();
         if (window != null)
         {
@@ -93,36 +192,41 @@ class VideoTask extends PhotoshootingTask
                 oldTitle = window.getTitle();
             }
             window.setTitle("Bildschirmaufnahme: " + imageCount
-                    + " Einzelbilder aufgenommen");
+                    + " Einzelbilder aufgenommen, " + pipeline.droppedFrames()
+                    + " ausgelassen");
         }
     }
 
     void onStopRecording()
     {
-        // Wir warten eine gewissen Zeit, bis das letzte Bild augenommen wurde.
-        Timer timer = new Timer();
-        timer.schedule(new TimerTask()
-        {
-            @Override
-            public void run()
+        // Das Video wird in einem eigenen Thread abgeschlossen, da der
+        // Kodierer noch die Einzelbilder in der Warteschlange verarbeitet.
+        Thread thread = new Thread(() -> {
+            RecordingPipeline pipeline = pipeline();
+            // Den alten Titel wiederherstellen
+            var window = Controller.window();
+            if (window != null && oldTitle != null)
             {
-                // Den alten Titel wiederherstellen
-                var window = Controller.window();
-                if (window != null && oldTitle != null)
-                {
-                    window.setTitle(oldTitle);
-                }
-                // Die Bilder zu Videos konvertieren
-                new ImagesToVideoConverter(baseDir(),
-                        FileUtil.getVideosDir() + "/Engine-Pi_"
-                                + getFormattedTime(),
-                        (int) Math.round(
-                            (double) config.graphics.framerate() / nFrames))
-                                .generate();
-                // Den temporären Ordner mit allen Bilder löschen.
-                FileUtil.deleteDir(baseDir());
+                window.setTitle(oldTitle);
             }
-
-        }, 100 /* 100 Millisekunden */);
+            if (pipeline == null)
+            {
+                return;
+            }
+            try
+            {
+                pipeline.close();
+                log.info("Bildschirmaufnahme gespeichert: " + baseDir() + "/"
+                        + getFilename() + " (" + pipeline.encodedFrames()
+                        + " Einzelbilder, " + pipeline.droppedFrames()
+                        + " ausgelassen, höchstens " + pipeline.maxQueueDepth()
+                        + " Einzelbilder in der Warteschlange)");
+            }
+            catch (IOException e)
+            {
+                log.severe(e.getMessage());
+            }
+        }, "pi.recording.stop");
+        thread.start();
     }
 }
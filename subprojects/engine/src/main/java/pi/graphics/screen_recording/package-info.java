@@ -24,8 +24,10 @@
  * <p>
  * Die Hauptklasse {@link Photographer} macht einzelne Bildschirmfotos oder
  * Bildschirmfotoserien für die Videoaufzeichnungen. Die Klasse
- * {@link ImagesToVideoConverter} konvertiert diese Bildschirmfotoserien zu
- * Videodatei mit Hilfe von ffmpeg (über die Kommandozeile).
+ * {@link RecordingPipeline} übergibt die Einzelbilder einer Videoaufzeichnung
+ * an einen Hintergrund-Thread, der sie mit einem {@link FrameEncoder} direkt
+ * kodiert: als GIF- oder APNG-Datei oder mit Hilfe von ffmpeg (über die
+ * Kommandozeile) als Video.
  * </p>
  *
  * @since 0.42.0
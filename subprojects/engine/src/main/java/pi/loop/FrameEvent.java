@@ -0,0 +1,108 @@
+/*
+ * Engine Pi ist eine anfängerorientierte 2D-Gaming Engine.
+ *
+ * Copyright (c) 2026 Josef Friedrich and contributors.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package pi.loop;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Ein <b>JFR-Ereignis</b> (Java Flight Recorder), das die Messwerte des
+ * {@link FrameProfiler} für ein Einzelbild enthält.
+ *
+ * <p>
+ * Das Ereignis wird nur erzeugt, wenn eine Aufzeichnung läuft, z.B. mit
+ * {@code java -XX:StartFlightRecording=filename=pi.jfr ...}, und lässt sich in
+ * JDK Mission Control unter der Kategorie „Engine Pi“ auswerten.
+ * </p>
+ *
+ * @since 0.53.0
+ */
+@Name("pi.Frame")
+@Label("Frame")
+@Category("Engine Pi")
+@Description("Timings of one frame of the game loop")
+@StackTrace(false)
+final class FrameEvent extends Event
+{
+    @Label("Frame Number")
+    long frame;
+
+    @Label("Frame")
+    @Timespan(Timespan.NANOSECONDS)
+    long work;
+
+    @Label("Input")
+    @Timespan(Timespan.NANOSECONDS)
+    long input;
+
+    @Label("Step")
+    @Timespan(Timespan.NANOSECONDS)
+    long step;
+
+    @Label("Frame Listeners")
+    @Timespan(Timespan.NANOSECONDS)
+    long frameListeners;
+
+    @Label("Camera")
+    @Timespan(Timespan.NANOSECONDS)
+    long camera;
+
+    @Label("Dispatch")
+    @Timespan(Timespan.NANOSECONDS)
+    long dispatch;
+
+    @Label("Render")
+    @Timespan(Timespan.NANOSECONDS)
+    long render;
+
+    @Label("Flip")
+    @Timespan(Timespan.NANOSECONDS)
+    long flip;
+
+    @Label("Physics Step")
+    @Timespan(Timespan.NANOSECONDS)
+    long physicsStep;
+
+    @Label("Physics Collide")
+    @Timespan(Timespan.NANOSECONDS)
+    long physicsCollide;
+
+    @Label("Physics Solve")
+    @Timespan(Timespan.NANOSECONDS)
+    long physicsSolve;
+
+    @Label("Physics Broadphase")
+    @Timespan(Timespan.NANOSECONDS)
+    long physicsBroadphase;
+
+    @Label("Physics TOI")
+    @Timespan(Timespan.NANOSECONDS)
+    long physicsSolveTOI;
+
+    @Label("Allocated")
+    @Description("Bytes allocated by the game loop thread during the frame")
+    @DataAmount
+    long allocated;
+}
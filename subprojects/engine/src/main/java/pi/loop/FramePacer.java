@@ -0,0 +1,110 @@
+/*
+ * Engine Pi ist eine anfängerorientierte 2D-Gaming Engine.
+ *
+ * Copyright (c) 2026 Josef Friedrich and contributors.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package pi.loop;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Wartet <b>hochgenau</b> bis zu einem vorgegebenen Zeitpunkt.
+ *
+ * <p>
+ * {@link Thread#sleep(long)} wartet nur ganze Millisekunden und wacht je nach
+ * Betriebssystem deutlich zu spät auf. Der Taktgeber parkt den Thread deshalb
+ * mit {@link LockSupport#parkNanos(long)} nur bis kurz vor den Zielzeitpunkt
+ * und wartet die restliche Zeit aktiv. Die Dauer des aktiven Wartens passt sich
+ * an die beobachtete Verspätung beim Aufwachen an.
+ * </p>
+ *
+ * @since 0.53.0
+ */
+final class FramePacer
+{
+    /**
+     * Die minimale Dauer des aktiven Wartens in Nanosekunden.
+     */
+    private static final long MIN_SPIN_NANOS = 200_000;
+
+    /**
+     * Die maximale Dauer des aktiven Wartens in Nanosekunden.
+     */
+    private static final long MAX_SPIN_NANOS = 2_000_000;
+
+    /**
+     * Die aktuelle Dauer des aktiven Wartens in Nanosekunden.
+     */
+    private long spinNanos = 1_000_000;
+
+    /**
+     * Wartet, bis der angegebene Zeitpunkt erreicht ist.
+     *
+     * @param deadline Der Zeitpunkt in Nanosekunden, gemessen mit
+     *     {@link System#nanoTime()}.
+     *
+     * @throws InterruptedException Falls der Thread während des Wartens
+     *     unterbrochen wird.
+     */
+    void waitUntil(long deadline) throws InterruptedException
+    {
+        while (true)
+        {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0)
+            {
+                return;
+            }
+            if (Thread.interrupted())
+            {
+                throw new InterruptedException();
+            }
+            if (remaining > spinNanos)
+            {
+                long parkNanos = remaining - spinNanos;
+                long parkStart = System.nanoTime();
+                LockSupport.parkNanos(parkNanos);
+                adapt(System.nanoTime() - parkStart - parkNanos);
+            }
+            else
+            {
+                Thread.onSpinWait();
+            }
+        }
+    }
+
+    /**
+     * Passt die Dauer des aktiven Wartens an die Verspätung beim Aufwachen an.
+     *
+     * @param oversleptNanos Die Verspätung des letzten Parkens in Nanosekunden.
+     */
+    private void adapt(long oversleptNanos)
+    {
+        long target = Math.max(MIN_SPIN_NANOS,
+            Math.min(MAX_SPIN_NANOS, 2 * oversleptNanos));
+        spinNanos += (target - spinNanos) / 8;
+    }
+
+    /**
+     * Gibt die aktuelle Dauer des aktiven Wartens in Nanosekunden zurück.
+     *
+     * @return Die aktuelle Dauer des aktiven Wartens in Nanosekunden.
+     */
+    long spinNanos()
+    {
+        return spinNanos;
+    }
+}
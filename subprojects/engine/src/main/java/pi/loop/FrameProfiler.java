@@ -0,0 +1,518 @@
+/*
+ * Engine Pi ist eine anfängerorientierte 2D-Gaming Engine.
+ *
+ * Copyright (c) 2026 Josef Friedrich and contributors.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package pi.loop;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+
+import pi.annotations.API;
+import pi.annotations.Getter;
+import pi.annotations.Internal;
+
+/**
+ * Misst die <b>Dauer der einzelnen Abschnitte</b> jedes Einzelbilds der
+ * {@link GameLoop Ereignisschleife}.
+ *
+ * <p>
+ * Gemessen werden die {@link ProfilerPhase Abschnitte} der Ereignisschleife,
+ * die Simulationsschritte und Zeichendurchgänge jeder Ebene, die Rechenzeiten
+ * der Physik-Engine sowie die Menge an Speicher, die der Thread der
+ * Ereignisschleife während eines Einzelbilds belegt. Wie bei den
+ * {@link FrameStatistics} werden die Messwerte in Ringpuffern fester Größe
+ * abgelegt, sodass beim Aufzeichnen keine neuen Objekte erzeugt werden.
+ * </p>
+ *
+ * <p>
+ * Läuft eine Aufzeichnung des Java Flight Recorders, wird zusätzlich für jedes
+ * Einzelbild ein JFR-Ereignis {@code pi.Frame} geschrieben. Die Auswertung
+ * lässt sich mit {@link pi.config.DebugConfig#profilerOverlay(boolean)} als
+ * Überblendung einblenden.
+ * </p>
+ *
+ * @see GameLoop#profiler()
+ *
+ * @since 0.53.0
+ */
+public final class FrameProfiler
+{
+    private static final double NANOSECONDS_PER_SECOND = 1e9;
+
+    private static final ProfilerPhase[] PHASES = ProfilerPhase.values();
+
+    /**
+     * Misst den belegten Speicher des aktuellen Threads oder ist {@code null},
+     * falls die virtuelle Maschine diese Messung nicht unterstützt.
+     */
+    private static final com.sun.management.ThreadMXBean ALLOCATION_BEAN = allocationBean();
+
+    private final int capacity;
+
+    /**
+     * Die Dauer der Abschnitte in Nanosekunden, ein Ringpuffer pro Abschnitt.
+     */
+    private final long[][] phaseNanos;
+
+    /**
+     * Die Dauer der Simulationsschritte in Nanosekunden, ein Ringpuffer pro
+     * Ebene.
+     */
+    private long[][] layerStepNanos = new long[0][];
+
+    /**
+     * Die Dauer der Zeichendurchgänge in Nanosekunden, ein Ringpuffer pro
+     * Ebene.
+     */
+    private long[][] layerRenderNanos = new long[0][];
+
+    /**
+     * Der belegte Speicher pro Einzelbild in Byte.
+     */
+    private final long[] allocatedBytes;
+
+    /**
+     * Die Zeit zwischen dem Ende zweier Einzelbilder in Nanosekunden.
+     */
+    private final long[] intervalNanos;
+
+    /**
+     * Ein wiederverwendbares Feld zum Sortieren beim Berechnen von Quantilen.
+     */
+    private final long[] sorted;
+
+    /**
+     * Die Messwerte des laufenden Einzelbilds.
+     */
+    private final long[] current = new long[PHASES.length];
+
+    private long[] currentLayerStep = new long[0];
+
+    private long[] currentLayerRender = new long[0];
+
+    private int currentLayers;
+
+    private int layerCount;
+
+    private int next = 0;
+
+    private int count = 0;
+
+    private long frameCounter = 0;
+
+    private boolean inFrame = false;
+
+    private long frameStart;
+
+    private long lastMark;
+
+    private long lastFrameEnd;
+
+    private long allocationStart;
+
+    private long threadId;
+
+    /**
+     * Erzeugt einen neuen Profiler.
+     *
+     * @param capacity Die Anzahl an Einzelbildern, die höchstens berücksichtigt
+     *     werden.
+     */
+    public FrameProfiler(int capacity)
+    {
+        if (capacity <= 0)
+        {
+            throw new IllegalArgumentException(
+                    "Die Kapazität muss größer als 0 sein, war " + capacity);
+        }
+        this.capacity = capacity;
+        phaseNanos = new long[PHASES.length][capacity];
+        allocatedBytes = new long[capacity];
+        intervalNanos = new long[capacity];
+        sorted = new long[capacity];
+    }
+
+    private static com.sun.management.ThreadMXBean allocationBean()
+    {
+        try
+        {
+            if (ManagementFactory
+                .getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+                    && bean.isThreadAllocatedMemorySupported())
+            {
+                bean.setThreadAllocatedMemoryEnabled(true);
+                return bean;
+            }
+        }
+        catch (UnsupportedOperationException | SecurityException e)
+        {
+            // Die Speichermessung ist optional.
+        }
+        return null;
+    }
+
+    /**
+     * Beginnt die Messung eines Einzelbilds.
+     *
+     * @hidden
+     */
+    @Internal
+    public void beginFrame()
+    {
+        Arrays.fill(current, 0);
+        currentLayers = 0;
+        inFrame = true;
+        frameStart = System.nanoTime();
+        lastMark = frameStart;
+        if (ALLOCATION_BEAN != null)
+        {
+            threadId = Thread.currentThread().getId();
+            allocationStart = ALLOCATION_BEAN.getThreadAllocatedBytes(threadId);
+        }
+    }
+
+    /**
+     * Schließt einen Abschnitt ab. Die Zeit seit dem letzten Aufruf bzw. seit
+     * dem Beginn des Einzelbilds wird dem angegebenen Abschnitt hinzugerechnet.
+     *
+     * @param phase Der abgeschlossene Abschnitt.
+     *
+     * @hidden
+     */
+    @Internal
+    public void mark(ProfilerPhase phase)
+    {
+        if (!inFrame)
+        {
+            return;
+        }
+        long now = System.nanoTime();
+        current[phase.ordinal()] += now - lastMark;
+        lastMark = now;
+    }
+
+    /**
+     * Übernimmt die Messwerte einer Ebene in das laufende Einzelbild.
+     *
+     * @param stepNanos Die Dauer des Simulationsschritts der Ebene in
+     *     Nanosekunden.
+     * @param renderNanos Die Dauer des Zeichendurchgangs der Ebene in
+     *     Nanosekunden.
+     * @param stepTimings Die Rechenzeiten der Physik-Engine in Millisekunden,
+     *     siehe {@link pi.physics.WorldHandler#stepTimings()}.
+     *
+     * @hidden
+     */
+    @Internal
+    public void layer(long stepNanos, long renderNanos, float[] stepTimings)
+    {
+        if (!inFrame)
+        {
+            return;
+        }
+        if (currentLayers == currentLayerStep.length)
+        {
+            currentLayerStep = Arrays.copyOf(currentLayerStep,
+                currentLayers + 1);
+            currentLayerRender = Arrays.copyOf(currentLayerRender,
+                currentLayers + 1);
+        }
+        currentLayerStep[currentLayers] = stepNanos;
+        currentLayerRender[currentLayers] = renderNanos;
+        currentLayers++;
+        for (ProfilerPhase phase : PHASES)
+        {
+            int index = phase.stepTiming();
+            if (index >= 0 && index < stepTimings.length)
+            {
+                current[phase
+                    .ordinal()] += (long) (stepTimings[index] * 1_000_000);
+            }
+        }
+    }
+
+    /**
+     * Beendet die Messung eines Einzelbilds und legt die Messwerte in den
+     * Ringpuffern ab.
+     *
+     * @hidden
+     */
+    @Internal
+    public void endFrame()
+    {
+        if (!inFrame)
+        {
+            return;
+        }
+        inFrame = false;
+        long now = System.nanoTime();
+        current[ProfilerPhase.FRAME.ordinal()] = now - frameStart;
+        long allocated = ALLOCATION_BEAN != null
+                ? ALLOCATION_BEAN.getThreadAllocatedBytes(threadId)
+                        - allocationStart
+                : 0;
+        synchronized (this)
+        {
+            for (int i = 0; i < PHASES.length; i++)
+            {
+                phaseNanos[i][next] = current[i];
+            }
+            if (layerStepNanos.length < currentLayers)
+            {
+                growLayers(currentLayers);
+            }
+            for (int i = 0; i < layerStepNanos.length; i++)
+            {
+                boolean present = i < currentLayers;
+                layerStepNanos[i][next] = present ? currentLayerStep[i] : 0;
+                layerRenderNanos[i][next] = present ? currentLayerRender[i] : 0;
+            }
+            layerCount = currentLayers;
+            allocatedBytes[next] = allocated;
+            intervalNanos[next] = lastFrameEnd > 0 ? now - lastFrameEnd
+                    : current[ProfilerPhase.FRAME.ordinal()];
+            next = (next + 1) % capacity;
+            if (count < capacity)
+            {
+                count++;
+            }
+            frameCounter++;
+        }
+        lastFrameEnd = now;
+        commitEvent(allocated);
+    }
+
+    private void growLayers(int layers)
+    {
+        int old = layerStepNanos.length;
+        layerStepNanos = Arrays.copyOf(layerStepNanos, layers);
+        layerRenderNanos = Arrays.copyOf(layerRenderNanos, layers);
+        for (int i = old; i < layers; i++)
+        {
+            layerStepNanos[i] = new long[capacity];
+            layerRenderNanos[i] = new long[capacity];
+        }
+    }
+
+    private void commitEvent(long allocated)
+    {
+        FrameEvent event = new FrameEvent();
+        if (!event.shouldCommit())
+        {
+            return;
+        }
+        event.frame = frameCounter;
+        event.work = current[ProfilerPhase.FRAME.ordinal()];
+        event.input = current[ProfilerPhase.INPUT.ordinal()];
+        event.step = current[ProfilerPhase.STEP.ordinal()];
+        event.frameListeners = current[ProfilerPhase.FRAME_LISTENERS.ordinal()];
+        event.camera = current[ProfilerPhase.CAMERA.ordinal()];
+        event.dispatch = current[ProfilerPhase.DISPATCH.ordinal()];
+        event.render = current[ProfilerPhase.RENDER.ordinal()];
+        event.flip = current[ProfilerPhase.FLIP.ordinal()];
+        event.physicsStep = current[ProfilerPhase.PHYSICS_STEP.ordinal()];
+        event.physicsCollide = current[ProfilerPhase.PHYSICS_COLLIDE.ordinal()];
+        event.physicsSolve = current[ProfilerPhase.PHYSICS_SOLVE.ordinal()];
+        event.physicsBroadphase = current[ProfilerPhase.PHYSICS_BROADPHASE
+            .ordinal()];
+        event.physicsSolveTOI = current[ProfilerPhase.PHYSICS_SOLVE_TOI
+            .ordinal()];
+        event.allocated = allocated;
+        event.commit();
+    }
+
+    /**
+     * Gibt die Anzahl an Einzelbildern zurück, die in die Auswertung eingehen.
+     *
+     * @return Die Anzahl an berücksichtigten Einzelbildern.
+     */
+    @API
+    @Getter
+    public synchronized int count()
+    {
+        return count;
+    }
+
+    /**
+     * Gibt die Anzahl an Einzelbildern zurück, die seit der Erzeugung des
+     * Profilers gemessen wurden.
+     *
+     * @return Die Anzahl an gemessenen Einzelbildern.
+     */
+    @API
+    @Getter
+    public synchronized long frameCounter()
+    {
+        return frameCounter;
+    }
+
+    /**
+     * Gibt die Anzahl an Ebenen im zuletzt gemessenen Einzelbild zurück.
+     *
+     * @return Die Anzahl an Ebenen.
+     */
+    @API
+    @Getter
+    public synchronized int layerCount()
+    {
+        return layerCount;
+    }
+
+    /**
+     * Gibt die Dauer eines Abschnitts im zuletzt gemessenen Einzelbild in
+     * Sekunden zurück.
+     *
+     * @param phase Der Abschnitt.
+     *
+     * @return Die Dauer in Sekunden.
+     */
+    @API
+    public synchronized double last(ProfilerPhase phase)
+    {
+        if (count == 0)
+        {
+            return 0;
+        }
+        return phaseNanos[phase.ordinal()][(next - 1 + capacity) % capacity]
+                / NANOSECONDS_PER_SECOND;
+    }
+
+    /**
+     * Gibt ein <b>Quantil</b> der Dauer eines Abschnitts in Sekunden zurück.
+     *
+     * @param phase Der Abschnitt.
+     * @param quantile Das Quantil zwischen {@code 0} und {@code 1}, z.B.
+     *     {@code 0.99} für das 99. Perzentil.
+     *
+     * @return Die Dauer in Sekunden, die von dem angegebenen Anteil der
+     *     Einzelbilder nicht überschritten wurde.
+     */
+    @API
+    public synchronized double percentile(ProfilerPhase phase, double quantile)
+    {
+        return percentile(phaseNanos[phase.ordinal()], quantile);
+    }
+
+    /**
+     * Gibt ein <b>Quantil</b> der Dauer der Simulationsschritte einer Ebene in
+     * Sekunden zurück.
+     *
+     * @param layer Der Index der Ebene in der Zeichenreihenfolge der Szene.
+     * @param quantile Das Quantil zwischen {@code 0} und {@code 1}.
+     *
+     * @return Die Dauer in Sekunden oder {@code 0}, falls für die Ebene keine
+     *     Messwerte vorliegen.
+     */
+    @API
+    public synchronized double layerStepPercentile(int layer, double quantile)
+    {
+        if (layer < 0 || layer >= layerStepNanos.length)
+        {
+            return 0;
+        }
+        return percentile(layerStepNanos[layer], quantile);
+    }
+
+    /**
+     * Gibt ein <b>Quantil</b> der Dauer der Zeichendurchgänge einer Ebene in
+     * Sekunden zurück.
+     *
+     * @param layer Der Index der Ebene in der Zeichenreihenfolge der Szene.
+     * @param quantile Das Quantil zwischen {@code 0} und {@code 1}.
+     *
+     * @return Die Dauer in Sekunden oder {@code 0}, falls für die Ebene keine
+     *     Messwerte vorliegen.
+     */
+    @API
+    public synchronized double layerRenderPercentile(int layer, double quantile)
+    {
+        if (layer < 0 || layer >= layerRenderNanos.length)
+        {
+            return 0;
+        }
+        return percentile(layerRenderNanos[layer], quantile);
+    }
+
+    /**
+     * Gibt die durchschnittliche <b>Speicherbelegungsrate</b> des Threads der
+     * Ereignisschleife zurück.
+     *
+     * @return Die belegten Byte pro Sekunde oder {@code 0}, falls die virtuelle
+     *     Maschine diese Messung nicht unterstützt.
+     */
+    @API
+    public synchronized double allocationRate()
+    {
+        long bytes = 0;
+        long nanos = 0;
+        for (int i = 0; i < count; i++)
+        {
+            bytes += allocatedBytes[i];
+            nanos += intervalNanos[i];
+        }
+        return nanos > 0 ? bytes * NANOSECONDS_PER_SECOND / nanos : 0;
+    }
+
+    /**
+     * Gibt an, ob die virtuelle Maschine die Messung des belegten Speichers
+     * unterstützt.
+     *
+     * @return {@code true}, falls die {@link #allocationRate()
+     *     Speicherbelegungsrate} gemessen wird.
+     */
+    @API
+    public static boolean measuresAllocations()
+    {
+        return ALLOCATION_BEAN != null;
+    }
+
+    /**
+     * Kopiert die Dauer eines Abschnitts der berücksichtigten Einzelbilder vom
+     * ältesten zum jüngsten in das angegebene Feld.
+     *
+     * @param phase Der Abschnitt.
+     * @param target Das Feld, in das die Dauer in Nanosekunden geschrieben
+     *     wird.
+     *
+     * @return Die Anzahl an geschriebenen Werten.
+     */
+    @API
+    public synchronized int history(ProfilerPhase phase, long[] target)
+    {
+        long[] values = phaseNanos[phase.ordinal()];
+        int length = Math.min(count, target.length);
+        int start = (next - length + capacity) % capacity;
+        for (int i = 0; i < length; i++)
+        {
+            target[i] = values[(start + i) % capacity];
+        }
+        return length;
+    }
+
+    private double percentile(long[] values, double quantile)
+    {
+        if (count == 0)
+        {
+            return 0;
+        }
+        System.arraycopy(values, 0, sorted, 0, count);
+        Arrays.sort(sorted, 0, count);
+        int index = (int) Math
+            .round(Math.max(0, Math.min(1, quantile)) * (count - 1));
+        return sorted[index] / NANOSECONDS_PER_SECOND;
+    }
+}
@@ -0,0 +1,262 @@
+/*
+ * Engine Pi ist eine anfängerorientierte 2D-Gaming Engine.
+ *
+ * Copyright (c) 2026 Josef Friedrich and contributors.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package pi.loop;
+
+import java.util.Arrays;
+
+import pi.annotations.API;
+import pi.annotations.Getter;
+import pi.annotations.Internal;
+
+/**
+ * Sammelt <b>Zeitmessungen</b> der zuletzt berechneten <b>Einzelbilder</b>.
+ *
+ * <p>
+ * Die Messwerte werden in einem Ringpuffer fester Größe abgelegt, sodass beim
+ * Aufzeichnen keine neuen Objekte erzeugt werden. Alle Zeitangaben der
+ * Auswertungsmethoden erfolgen in Sekunden.
+ * </p>
+ *
+ * @see GameLoop#statistics()
+ *
+ * @since 0.53.0
+ */
+public final class FrameStatistics
+{
+    private static final double NANOSECONDS_PER_SECOND = 1e9;
+
+    /**
+     * Ab dem Wievielfachen der angestrebten Anzeigedauer ein Einzelbild als
+     * ausgelassen gilt.
+     */
+    private static final double DROPPED_FRAME_FACTOR = 1.5;
+
+    /**
+     * Die gesamte Dauer der Einzelbilder in Nanosekunden.
+     */
+    private final long[] frameNanos;
+
+    /**
+     * Die Rechenzeit der Einzelbilder ohne das Warten auf den nächsten Takt in
+     * Nanosekunden.
+     */
+    private final long[] workNanos;
+
+    /**
+     * Ein wiederverwendbares Feld zum Sortieren beim Berechnen von Quantilen.
+     */
+    private final long[] sorted;
+
+    private final long desiredFrameNanos;
+
+    private int next = 0;
+
+    private int count = 0;
+
+    private long droppedFrames = 0;
+
+    /**
+     * Erzeugt eine neue Sammlung von Zeitmessungen.
+     *
+     * @param capacity Die Anzahl an Einzelbildern, die höchstens berücksichtigt
+     *     werden.
+     * @param desiredFrameDuration Die angestrebte Anzeigedauer eines
+     *     Einzelbilds in Sekunden.
+     */
+    public FrameStatistics(int capacity, double desiredFrameDuration)
+    {
+        if (capacity <= 0)
+        {
+            throw new IllegalArgumentException(
+                    "Die Kapazität muss größer als 0 sein, war " + capacity);
+        }
+        frameNanos = new long[capacity];
+        workNanos = new long[capacity];
+        sorted = new long[capacity];
+        desiredFrameNanos = (long) (desiredFrameDuration
+                * NANOSECONDS_PER_SECOND);
+    }
+
+    /**
+     * Zeichnet die Zeitmessung eines Einzelbilds auf.
+     *
+     * @param frameNanos Die gesamte Dauer des Einzelbilds in Nanosekunden.
+     * @param workNanos Die Rechenzeit des Einzelbilds ohne das Warten auf den
+     *     nächsten Takt in Nanosekunden.
+     *
+     * @hidden
+     */
+    @Internal
+    public synchronized void record(long frameNanos, long workNanos)
+    {
+        this.frameNanos[next] = frameNanos;
+        this.workNanos[next] = workNanos;
+        next = (next + 1) % this.frameNanos.length;
+        if (count < this.frameNanos.length)
+        {
+            count++;
+        }
+        if (frameNanos > desiredFrameNanos * DROPPED_FRAME_FACTOR)
+        {
+            droppedFrames++;
+        }
+    }
+
+    /**
+     * Gibt die Anzahl an Einzelbildern zurück, die in die Auswertung eingehen.
+     *
+     * @return Die Anzahl an berücksichtigten Einzelbildern.
+     */
+    @API
+    @Getter
+    public synchronized int count()
+    {
+        return count;
+    }
+
+    /**
+     * Gibt die durchschnittliche Dauer eines Einzelbilds in Sekunden zurück.
+     *
+     * @return Die durchschnittliche Dauer eines Einzelbilds in Sekunden.
+     */
+    @API
+    public synchronized double averageFrameDuration()
+    {
+        return average(frameNanos);
+    }
+
+    /**
+     * Gibt die durchschnittliche Rechenzeit eines Einzelbilds ohne das Warten
+     * auf den nächsten Takt in Sekunden zurück.
+     *
+     * @return Die durchschnittliche Rechenzeit eines Einzelbilds in Sekunden.
+     */
+    @API
+    public synchronized double averageWorkDuration()
+    {
+        return average(workNanos);
+    }
+
+    /**
+     * Gibt die kürzeste Dauer eines Einzelbilds in Sekunden zurück.
+     *
+     * @return Die kürzeste Dauer eines Einzelbilds in Sekunden.
+     */
+    @API
+    public synchronized double minFrameDuration()
+    {
+        return percentile(0);
+    }
+
+    /**
+     * Gibt die längste Dauer eines Einzelbilds in Sekunden zurück.
+     *
+     * @return Die längste Dauer eines Einzelbilds in Sekunden.
+     */
+    @API
+    public synchronized double maxFrameDuration()
+    {
+        return percentile(1);
+    }
+
+    /**
+     * Gibt ein <b>Quantil</b> der Dauer der Einzelbilder in Sekunden zurück.
+     *
+     * @param quantile Das Quantil zwischen {@code 0} und {@code 1}, z.B.
+     *     {@code 0.99} für das 99. Perzentil.
+     *
+     * @return Die Dauer in Sekunden, die von dem angegebenen Anteil der
+     *     Einzelbilder nicht überschritten wurde.
+     */
+    @API
+    public synchronized double percentile(double quantile)
+    {
+        if (count == 0)
+        {
+            return 0;
+        }
+        System.arraycopy(frameNanos, 0, sorted, 0, count);
+        Arrays.sort(sorted, 0, count);
+        int index = (int) Math
+            .round(Math.max(0, Math.min(1, quantile)) * (count - 1));
+        return sorted[index] / NANOSECONDS_PER_SECOND;
+    }
+
+    /**
+     * Gibt die <b>Standardabweichung</b> der Dauer der Einzelbilder in Sekunden
+     * zurück.
+     *
+     * @return Die Standardabweichung der Dauer der Einzelbilder in Sekunden.
+     */
+    @API
+    public synchronized double jitter()
+    {
+        if (count == 0)
+        {
+            return 0;
+        }
+        double mean = average(frameNanos) * NANOSECONDS_PER_SECOND;
+        double sum = 0;
+        for (int i = 0; i < count; i++)
+        {
+            double deviation = frameNanos[i] - mean;
+            sum += deviation * deviation;
+        }
+        return Math.sqrt(sum / count) / NANOSECONDS_PER_SECOND;
+    }
+
+    /**
+     * Gibt die durchschnittliche <b>Bildfrequenz</b> zurück.
+     *
+     * @return Die durchschnittliche Anzahl an Einzelbildern pro Sekunde.
+     */
+    @API
+    public synchronized double averageFramerate()
+    {
+        double average = average(frameNanos);
+        return average > 0 ? 1 / average : 0;
+    }
+
+    /**
+     * Gibt die Anzahl an Einzelbildern seit Spielstart zurück, die mehr als das
+     * Anderthalbfache der angestrebten Anzeigedauer benötigt haben.
+     *
+     * @return Die Anzahl an ausgelassenen Einzelbildern.
+     */
+    @API
+    @Getter
+    public synchronized long droppedFrames()
+    {
+        return droppedFrames;
+    }
+
+    private double average(long[] values)
+    {
+        if (count == 0)
+        {
+            return 0;
+        }
+        long sum = 0;
+        for (int i = 0; i < count; i++)
+        {
+            sum += values[i];
+        }
+        return sum / (double) count / NANOSECONDS_PER_SECOND;
+    }
+}
@@ -26,20 +26,24 @@ import java.awt.Graphics2D;
 import java.awt.geom.AffineTransform;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 
 import pi.Controller;
 import pi.Scene;
 import pi.annotations.Getter;
 import pi.annotations.Internal;
+import pi.annotations.Setter;
 import pi.debug.CoordinateSystemDrawer;
 import pi.debug.DebugInfoBoxDrawer;
+import pi.debug.ProfilerOverlayDrawer;
 import pi.event.EventListeners;
 import pi.event.FrameListener;
+import pi.event.InputBuffer;
+import pi.event.InputRecorder;
+import pi.event.InputSink;
+import pi.graphics.RecordingGraphics2D;
 import pi.graphics.RenderTarget;
+import pi.graphics.SizedRenderTarget;
 import pi.util.Graphics2DUtil;
 
 /**
@@ -70,8 +74,26 @@ public final class GameLoop
 
     private static final int NANOSECONDS_PER_SECOND = 1000000000;
 
-    private final ExecutorService threadPoolExecutor = Executors
-        .newCachedThreadPool();
+    /**
+     * Die <b>maximale Zeit</b> in Sekunden, die im Modus
+     * {@link GameLoopMode#FIXED_TIMESTEP} pro Einzelbild an die Simulation
+     * weitergegeben wird.
+     *
+     * <p>
+     * Verhindert, dass die Simulation nach einer langen Unterbrechung, z.B.
+     * durch einen Debugger, sehr viele Schritte auf einmal nachholen muss.
+     * </p>
+     */
+    private static final double MAX_FRAME_DURATION = 0.25;
+
+    /**
+     * Die Anzahl an Einzelbildern, die in die {@link #statistics()
+     * Zeitmessungen} eingehen.
+     */
+    private static final int STATISTICS_CAPACITY = 240;
+
+    private final LayerStepper layerStepper = new LayerStepper(
+            config.graphics.layerConcurrency());
 
     private final RenderTarget render;
 
@@ -91,19 +113,71 @@ public final class GameLoop
 
     private DebugInfoBoxDrawer infoBoxDrawer;
 
+    /**
+     * Zeichnet die Auswertung des Profilers oder ist {@code null}, solange die
+     * Überblendung noch nicht angezeigt wurde.
+     */
+    private ProfilerOverlayDrawer profilerOverlayDrawer;
+
     /**
      * Die <b>Anzahl</b> an <b>Einzelbilder</b>, die seit dem Start des Spiels
      * berechnet wurden.
      */
     private long frameCounter;
 
+    /**
+     * Der Modus, in dem die Ereignisschleife die Einzelbilder taktet.
+     */
+    private final GameLoopMode mode;
+
+    private final FramePacer pacer = new FramePacer();
+
+    /**
+     * Der Thread, der die aufgezeichneten Zeichenbefehle überträgt, oder
+     * {@code null}, falls im Thread der Ereignisschleife gezeichnet wird.
+     */
+    private RenderThread renderThread;
+
+    private final FrameStatistics statistics = new FrameStatistics(
+            STATISTICS_CAPACITY, DESIRED_FRAME_DURATION);
+
+    private final FrameProfiler profiler = new FrameProfiler(
+            STATISTICS_CAPACITY);
+
+    /**
+     * Sammelt die Eingaben, die zu Beginn des nächsten Einzelbilds zugestellt
+     * werden.
+     */
+    private final InputBuffer input = new InputBuffer();
+
+    /**
+     * Der Empfänger der Eingaben.
+     */
+    private final InputSink inputSink;
+
+    /**
+     * Zeichnet die Eingaben und Zeitspannen der Einzelbilder auf oder ist
+     * {@code null}.
+     */
+    private volatile InputRecorder inputRecorder;
+
+    /**
+     * Erzeugt eine neue Ereignisschleife.
+     *
+     * @param render Die Zeichenfläche, in die die Einzelbilder gezeichnet
+     *     werden, oder {@code null}, falls nicht gezeichnet werden soll.
+     * @param currentScene Liefert die aktuelle Szene.
+     * @param isDebug Liefert, ob der Entwicklungsmodus aktiviert ist.
+     */
     public GameLoop(RenderTarget render, Supplier<Scene> currentScene,
             Supplier<Boolean> isDebug)
     {
         this.render = render;
         this.currentScene = currentScene;
         this.isDebug = isDebug;
+        mode = config.graphics.loopMode();
         infoBoxDrawer = new DebugInfoBoxDrawer();
+        inputSink = Controller.inputSink(currentScene);
     }
 
     /**
@@ -149,6 +223,95 @@ public final class GameLoop
         return frameDuration;
     }
 
+    /**
+     * Gibt den <b>Modus</b> aus, in dem die Ereignisschleife die Einzelbilder
+     * taktet.
+     *
+     * @return Der Modus der Ereignisschleife.
+     *
+     * @since 0.53.0
+     */
+    @Getter
+    public GameLoopMode mode()
+    {
+        return mode;
+    }
+
+    /**
+     * Gibt die <b>Zeitmessungen</b> der zuletzt berechneten Einzelbilder aus.
+     *
+     * @return Die Zeitmessungen der zuletzt berechneten Einzelbilder.
+     *
+     * @since 0.53.0
+     */
+    @Getter
+    public FrameStatistics statistics()
+    {
+        return statistics;
+    }
+
+    /**
+     * Gibt den <b>Profiler</b> aus, der die Dauer der einzelnen Abschnitte der
+     * zuletzt berechneten Einzelbilder misst.
+     *
+     * @return Der Profiler der Ereignisschleife.
+     *
+     * @since 0.53.0
+     */
+    @Getter
+    public FrameProfiler profiler()
+    {
+        return profiler;
+    }
+
+    /**
+     * Gibt den <b>Eingabepuffer</b> aus, dessen Eingaben zu Beginn des nächsten
+     * Einzelbilds noch vor dem Simulationsschritt zugestellt werden.
+     *
+     * @return Der Eingabepuffer der Ereignisschleife.
+     *
+     * @since 0.53.0
+     */
+    @Getter
+    public InputBuffer input()
+    {
+        return input;
+    }
+
+    /**
+     * Gibt die laufende <b>Aufzeichnung</b> der Eingaben aus.
+     *
+     * @return Die Aufzeichnung oder {@code null}, falls nicht aufgezeichnet
+     *     wird.
+     *
+     * @since 0.53.0
+     */
+    @Getter
+    public InputRecorder inputRecorder()
+    {
+        return inputRecorder;
+    }
+
+    /**
+     * Startet oder beendet die <b>Aufzeichnung</b> der Eingaben.
+     *
+     * <p>
+     * Ab dem nächsten Einzelbild werden die Eingaben und die an die Simulation
+     * weitergegebene Zeit jedes Einzelbilds aufgezeichnet. Eine vorherige
+     * Aufzeichnung wird nicht geschlossen.
+     * </p>
+     *
+     * @param inputRecorder Die Aufzeichnung oder {@code null}, um nicht mehr
+     *     aufzuzeichnen.
+     *
+     * @since 0.53.0
+     */
+    @Setter
+    public void inputRecorder(InputRecorder inputRecorder)
+    {
+        this.inputRecorder = inputRecorder;
+    }
+
     /**
      * Fügt eine {@link Runnable Aufgabe} in die Warteschlange ein, um ihn
      * später auszuführen.
@@ -166,15 +329,18 @@ public final class GameLoop
      *
      * Die Methode orchestriert den gesamten Spielzyklus:
      * <ul>
-     * <li>Berechnet die verstrichene Zeit seit dem letzten Frame (maximal 2x
-     * die gewünschte Frame-Dauer)</li>
+     * <li>Berechnet die verstrichene Zeit seit dem letzten Frame (im Modus
+     * {@link GameLoopMode#SIMPLE} maximal 2x die gewünschte Frame-Dauer)</li>
+     * <li>Stellt die seit dem letzten Frame eingegangenen Eingaben zu und
+     * zeichnet sie ggf. auf</li>
      * <li>Aktualisiert die aktuelle Szene mit der verstrichenen Zeit</li>
      * <li>Ruft die {@link FrameListener} der aktuellen Szene auf.</li>
      * <li>Aktualisiert die Kamera der aktuellen Szene</li>
      * <li>Verarbeitet alle ausstehenden Aufgaben aus der Dispatch-Queue</li>
      * <li>Rendert den aktuellen Frame</li>
-     * <li>Synchronisiert die Frame-Rate durch Sleep-Mechanismus, um die
-     * gewünschte Frame-Dauer einzuhalten</li>
+     * <li>Synchronisiert die Frame-Rate je nach {@link GameLoopMode Modus}
+     * durch Sleep-Mechanismus oder hochgenaues Warten, um die gewünschte
+     * Frame-Dauer einzuhalten</li>
      * <li>Berechnet die tatsächliche Frame-Dauer für den nächsten Zyklus</li>
      * </ul>
      *
@@ -187,36 +353,76 @@ public final class GameLoop
      *     Ausführung der Loop auftritt
      */
     public void run()
+    {
+        if (config.graphics.pipelinedRendering()
+                && render instanceof SizedRenderTarget)
+        {
+            renderThread = new RenderThread(render);
+        }
+        if (mode == GameLoopMode.FIXED_TIMESTEP)
+        {
+            runFixedTimestep();
+        }
+        else
+        {
+            runSimple();
+        }
+        if (renderThread != null)
+        {
+            renderThread.stop();
+            renderThread = null;
+        }
+        shutdown();
+    }
+
+    /**
+     * Berechnet <b>ein Einzelbild</b> mit einer vorgegebenen Zeitspanne, ohne
+     * auf den nächsten Takt zu warten.
+     *
+     * <p>
+     * Mit dieser Methode kann die Ereignisschleife von außen mit einer
+     * virtuellen Uhr angetrieben werden, z.B. durch den {@link HeadlessRunner}.
+     * </p>
+     *
+     * @param pastTime Die Zeit in Sekunden, die an die Simulation weitergegeben
+     *     wird.
+     *
+     * @throws InterruptedException Falls der Thread beim Warten auf die
+     *     Simulation unterbrochen wird.
+     *
+     * @since 0.53.0
+     */
+    public void step(double pastTime) throws InterruptedException
+    {
+        frameDuration = pastTime;
+        frame(pastTime);
+    }
+
+    /**
+     * Fährt den Thread-Pool herunter, in dem die Ebenen berechnet werden, und
+     * wartet maximal 3 Sekunden auf die Terminierung ausstehender Aufgaben.
+     */
+    void shutdown()
+    {
+        layerStepper.shutdown();
+    }
+
+    /**
+     * Die Ereignisschleife im Modus {@link GameLoopMode#SIMPLE}.
+     */
+    private void runSimple()
     {
         frameDuration = DESIRED_FRAME_DURATION;
         long frameStart = System.nanoTime();
         long frameEnd;
         while (!Thread.currentThread().isInterrupted())
         {
-            Scene scene = currentScene();
             try
             {
-                frameCounter++;
-                double pastTime = Math.min(2 * DESIRED_FRAME_DURATION,
-                    frameDuration);
-                scene.step(pastTime, threadPoolExecutor::submit);
-                // Beobachter der Bildaktualisierung.
-                frameUpdateListeners
-                    .invoke(listener -> listener.onFrame(pastTime));
-                // Aktualisiert die Kamera der aktuellen Szene
-                scene.camera().onFrame();
-                // Ruft die {@link FrameListener} der aktuellen Szene auf.
-                scene.invokeFrameListeners(pastTime);
-                Runnable runnable = dispatchableQueue.poll();
-                while (runnable != null)
-                {
-                    runnable.run();
-                    runnable = dispatchableQueue.poll();
-                }
-                render();
+                frame(Math.min(2 * DESIRED_FRAME_DURATION, frameDuration));
                 frameEnd = System.nanoTime();
-                double duration = (double) (frameEnd - frameStart)
-                        / NANOSECONDS_PER_SECOND;
+                long workNanos = frameEnd - frameStart;
+                double duration = (double) workNanos / NANOSECONDS_PER_SECOND;
                 if (duration < DESIRED_FRAME_DURATION)
                 {
                     try
@@ -232,12 +438,63 @@ public final class GameLoop
                     }
                 }
                 frameEnd = System.nanoTime();
+                statistics.record(frameEnd - frameStart, workNanos);
+                frameDuration = ((double) (frameEnd - frameStart)
+                        / NANOSECONDS_PER_SECOND);
+                frameStart = frameEnd;
+            }
+            catch (InterruptedException e)
+            {
+                break;
+            }
+            catch (Exception e)
+            {
+                throw new RuntimeException(e);
+            }
+        }
+    }
+
+    /**
+     * Die Ereignisschleife im Modus {@link GameLoopMode#FIXED_TIMESTEP}.
+     *
+     * <p>
+     * Die Einzelbilder werden an festen Zeitpunkten gestartet, die im Abstand
+     * der angestrebten Anzeigedauer aufeinander folgen. So gleichen sich kleine
+     * Verspätungen über die folgenden Einzelbilder aus. Liegt die Schleife mehr
+     * als ein Einzelbild zurück, wird der Takt neu ausgerichtet.
+     * </p>
+     */
+    private void runFixedTimestep()
+    {
+        long desiredFrameNanos = (long) (DESIRED_FRAME_DURATION
+                * NANOSECONDS_PER_SECOND);
+        frameDuration = DESIRED_FRAME_DURATION;
+        long frameStart = System.nanoTime();
+        long deadline = frameStart + desiredFrameNanos;
+        while (!Thread.currentThread().isInterrupted())
+        {
+            try
+            {
+                frame(Math.min(MAX_FRAME_DURATION, frameDuration));
+                long workNanos = System.nanoTime() - frameStart;
+                pacer.waitUntil(deadline);
+                long frameEnd = System.nanoTime();
+                if (frameEnd - deadline > desiredFrameNanos)
+                {
+                    deadline = frameEnd + desiredFrameNanos;
+                }
+                else
+                {
+                    deadline += desiredFrameNanos;
+                }
+                statistics.record(frameEnd - frameStart, workNanos);
                 frameDuration = ((double) (frameEnd - frameStart)
                         / NANOSECONDS_PER_SECOND);
                 frameStart = frameEnd;
             }
             catch (InterruptedException e)
             {
+                Thread.currentThread().interrupt();
                 break;
             }
             catch (Exception e)
@@ -245,15 +502,53 @@ public final class GameLoop
                 throw new RuntimeException(e);
             }
         }
-        threadPoolExecutor.shutdown();
-        try
+    }
+
+    /**
+     * Berechnet und zeichnet ein Einzelbild.
+     *
+     * @param pastTime Die Zeit in Sekunden, die an die Simulation weitergegeben
+     *     wird.
+     *
+     * @throws InterruptedException Falls der Thread beim Warten auf die
+     *     Simulation unterbrochen wird.
+     */
+    private void frame(double pastTime) throws InterruptedException
+    {
+        Scene scene = currentScene();
+        frameCounter++;
+        profiler.beginFrame();
+        // Die Eingaben werden noch vor dem Simulationsschritt zugestellt.
+        input.sample();
+        InputRecorder recorder = inputRecorder;
+        if (recorder != null)
         {
-            threadPoolExecutor.awaitTermination(3, TimeUnit.SECONDS);
+            recorder.record(pastTime, input);
         }
-        catch (InterruptedException e)
+        input.deliver(inputSink);
+        profiler.mark(ProfilerPhase.INPUT);
+        scene.step(pastTime, layerStepper);
+        profiler.mark(ProfilerPhase.STEP);
+        // Beobachter der Bildaktualisierung.
+        frameUpdateListeners.invoke(listener -> listener.onFrame(pastTime));
+        profiler.mark(ProfilerPhase.FRAME_LISTENERS);
+        // Aktualisiert die Kamera der aktuellen Szene
+        scene.camera().onFrame();
+        profiler.mark(ProfilerPhase.CAMERA);
+        // Ruft die {@link FrameListener} der aktuellen Szene auf.
+        scene.invokeFrameListeners(pastTime);
+        profiler.mark(ProfilerPhase.FRAME_LISTENERS);
+        Runnable runnable = dispatchableQueue.poll();
+        while (runnable != null)
         {
-            return;
+            runnable.run();
+            runnable = dispatchableQueue.poll();
         }
+        profiler.mark(ProfilerPhase.DISPATCH);
+        render();
+        profiler.mark(ProfilerPhase.FLIP);
+        scene.profileLayers(profiler);
+        profiler.endFrame();
     }
 
     @Getter
@@ -267,9 +562,39 @@ public final class GameLoop
         renderTarget.render(this::render);
     }
 
-    private void render()
+    /**
+     * Zeichnet das aktuelle Einzelbild.
+     *
+     * <p>
+     * Ist das {@link pi.config.GraphicsConfig#pipelinedRendering(boolean)
+     * Zeichnen in einem eigenen Thread} aktiviert, werden die Zeichenbefehle
+     * nur aufgezeichnet und vom Zeichen-Thread übertragen, während bereits das
+     * nächste Einzelbild berechnet wird. Dafür muss die Zeichenfläche ihre
+     * Größe als {@link SizedRenderTarget} angeben, andernfalls wird direkt
+     * gezeichnet.
+     * </p>
+     *
+     * @throws InterruptedException Falls der Thread beim Warten auf den
+     *     Zeichen-Thread unterbrochen wird.
+     */
+    private void render() throws InterruptedException
     {
-        render.render(this::render);
+        if (render == null)
+        {
+            return;
+        }
+        if (renderThread != null && render instanceof SizedRenderTarget sized)
+        {
+            int width = sized.getWidth();
+            int height = sized.getHeight();
+            RecordingGraphics2D g = renderThread.recorder(width, height);
+            render(g, width, height);
+            renderThread.submit(g.toDrawList());
+        }
+        else
+        {
+            render.render(this::render);
+        }
     }
 
     /**
@@ -294,11 +619,20 @@ public final class GameLoop
         AffineTransform oldTransform = g.getTransform();
         scene.render(g, width, height);
         g.setTransform(oldTransform);
+        profiler.mark(ProfilerPhase.RENDER);
         if (isDebug.get())
         {
             new CoordinateSystemDrawer(g, scene, width, height).draw();
             infoBoxDrawer.draw(g, this);
         }
+        if (config.debug.profilerOverlay())
+        {
+            if (profilerOverlayDrawer == null)
+            {
+                profilerOverlayDrawer = new ProfilerOverlayDrawer();
+            }
+            profilerOverlayDrawer.draw(g, profiler, width, height);
+        }
         g.dispose();
     }
 
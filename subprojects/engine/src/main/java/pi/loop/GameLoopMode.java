@@ -0,0 +1,65 @@
+/*
+ * Engine Pi ist eine anfängerorientierte 2D-Gaming Engine.
+ *
+ * Copyright (c) 2026 Josef Friedrich and contributors.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package pi.loop;
+
+/**
+ * Legt fest, wie die {@link GameLoop Ereignisschleife} die Einzelbilder taktet
+ * und an die Simulation weitergibt.
+ *
+ * @see pi.config.GraphicsConfig#loopMode(GameLoopMode)
+ *
+ * @since 0.53.0
+ */
+public enum GameLoopMode
+{
+    /**
+     * Die ursprüngliche Ereignisschleife: Nach jedem Einzelbild wird mit
+     * {@link Thread#sleep(long)} auf ganze Millisekunden gerundet gewartet. Die
+     * an die Simulation weitergegebene Zeit wird auf das Doppelte der
+     * angestrebten Anzeigedauer begrenzt.
+     */
+    SIMPLE(false),
+
+    /**
+     * Die Physik-Simulation läuft mit der festen Schrittweite
+     * {@link pi.physics.WorldHandler#STEP_TIME} unabhängig von der
+     * Bildfrequenz. Beim Zeichnen wird die Lage der Figuren zwischen den
+     * letzten beiden Simulationsschritten interpoliert. Die Einzelbilder werden
+     * hochgenau mit einer Kombination aus Parken und aktivem Warten getaktet.
+     */
+    FIXED_TIMESTEP(true);
+
+    private final boolean interpolates;
+
+    GameLoopMode(boolean interpolates)
+    {
+        this.interpolates = interpolates;
+    }
+
+    /**
+     * Gibt an, ob in diesem Modus die Lage der Figuren beim Zeichnen zwischen
+     * zwei Simulationsschritten interpoliert wird.
+     *
+     * @return {@code true}, falls interpoliert wird, sonst {@code false}.
+     */
+    public boolean interpolates()
+    {
+        return interpolates;
+    }
+}
@@ -0,0 +1,320 @@
+/*
+ * Engine Pi ist eine anfängerorientierte 2D-Gaming Engine.
+ *
+ * Copyright (c) 2026 Josef Friedrich and contributors.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package pi.loop;
+
+import static pi.Controller.config;
+
+import java.awt.image.BufferedImage;
+
+import pi.Controller;
+import pi.Scene;
+import pi.annotations.API;
+import pi.annotations.ChainableMethod;
+import pi.annotations.Getter;
+import pi.annotations.Setter;
+import pi.event.InputReplay;
+import pi.graphics.ImageRenderTarget;
+
+/**
+ * Führt eine Szene <b>ohne Fenster</b> und mit einer <b>virtuellen Uhr</b> aus.
+ *
+ * <p>
+ * Jedes Einzelbild gibt genau die eingestellte Anzeigedauer an die Simulation
+ * weiter, unabhängig davon, wie lange die Berechnung tatsächlich gedauert hat.
+ * Die Einzelbilder werden so schnell berechnet, wie es der Prozessor erlaubt,
+ * und im Thread des Aufrufers ausgeführt. Auf Wunsch wird jedes Einzelbild in
+ * ein {@link BufferedImage} gezeichnet.
+ * </p>
+ *
+ * <p>
+ * Da weder ein Fenster noch ein Bildschirm benötigt werden, funktioniert die
+ * Ausführung auch mit der Systemeigenschaft {@code java.awt.headless=true}.
+ * Damit lassen sich z.B. Physik-Szenarien schneller als in Echtzeit
+ * durchrechnen oder Einzelbilder mit Referenzbildern vergleichen.
+ * </p>
+ *
+ * <pre>{@code
+ * try (HeadlessRunner runner = new HeadlessRunner(scene))
+ * {
+ *     runner.run(10);
+ *     ImageIO.write(runner.image(), "png", file);
+ * }
+ * }</pre>
+ *
+ * @since 0.53.0
+ */
+public final class HeadlessRunner implements AutoCloseable
+{
+    private final GameLoop loop;
+
+    /**
+     * Die Zeichenfläche oder {@code null}, falls nicht gezeichnet wird.
+     */
+    private final ImageRenderTarget target;
+
+    /**
+     * Die Zeitspanne in Sekunden, die pro Einzelbild an die Simulation
+     * weitergegeben wird.
+     */
+    private final double frameDuration;
+
+    private Scene scene;
+
+    /**
+     * Die bisher simulierte Zeit in Sekunden.
+     */
+    private double time = 0;
+
+    /**
+     * Erzeugt eine neue Ausführung, die mit der
+     * {@link pi.config.GraphicsConfig#framerate() konfigurierten Bildrate}
+     * voranschreitet und jedes Einzelbild in ein Bild mit der
+     * {@link pi.config.GraphicsConfig#windowDimension() konfigurierten
+     * Fenstergröße} zeichnet.
+     *
+     * @param scene Die auszuführende Szene.
+     */
+    @API
+    public HeadlessRunner(Scene scene)
+    {
+        this(scene, 1.0 / config.graphics.framerate(), true);
+    }
+
+    /**
+     * Erzeugt eine neue Ausführung.
+     *
+     * @param scene Die auszuführende Szene.
+     * @param frameDuration Die Zeitspanne in Sekunden, die pro Einzelbild an
+     *     die Simulation weitergegeben wird.
+     * @param render Ob die Einzelbilder in ein Bild mit der
+     *     {@link pi.config.GraphicsConfig#windowDimension() konfigurierten
+     *     Fenstergröße} gezeichnet werden sollen.
+     */
+    @API
+    public HeadlessRunner(Scene scene, double frameDuration, boolean render)
+    {
+        if (frameDuration <= 0)
+        {
+            throw new IllegalArgumentException(
+                    "Die Anzeigedauer eines Einzelbilds muss größer als 0 sein, war "
+                            + frameDuration);
+        }
+        this.scene = scene;
+        this.frameDuration = frameDuration;
+        target = render
+                ? new ImageRenderTarget(config.graphics.windowWidth(),
+                        config.graphics.windowHeight())
+                : null;
+        loop = new GameLoop(target, this::scene, Controller::isDebug);
+    }
+
+    /**
+     * Gibt die <b>aktuelle Szene</b> zurück.
+     *
+     * @return Die aktuelle Szene.
+     */
+    @API
+    @Getter
+    public Scene scene()
+    {
+        return scene;
+    }
+
+    /**
+     * Wechselt <b>sofort</b> zu einer anderen Szene.
+     *
+     * @param scene Die Szene, die ab dem nächsten Einzelbild ausgeführt wird.
+     *
+     * @return Eine Referenz auf die eigene Instanz der Ausführung.
+     */
+    @API
+    @Setter
+    @ChainableMethod
+    public HeadlessRunner scene(Scene scene)
+    {
+        this.scene = scene;
+        return this;
+    }
+
+    /**
+     * Gibt die <b>Ereignisschleife</b> zurück, die die Einzelbilder berechnet.
+     *
+     * @return Die Ereignisschleife.
+     */
+    @Getter
+    public GameLoop loop()
+    {
+        return loop;
+    }
+
+    /**
+     * Gibt die Zeitspanne in Sekunden zurück, die pro Einzelbild an die
+     * Simulation weitergegeben wird.
+     *
+     * @return Die Anzeigedauer eines Einzelbilds in Sekunden.
+     */
+    @API
+    @Getter
+    public double frameDuration()
+    {
+        return frameDuration;
+    }
+
+    /**
+     * Gibt die <b>bisher simulierte Zeit</b> in Sekunden zurück.
+     *
+     * @return Die Summe der Anzeigedauern aller berechneten Einzelbilder in
+     *     Sekunden.
+     */
+    @API
+    @Getter
+    public double time()
+    {
+        return time;
+    }
+
+    /**
+     * Gibt die <b>Anzahl</b> der bisher berechneten Einzelbilder zurück.
+     *
+     * @return Die Anzahl der berechneten Einzelbilder.
+     */
+    @API
+    @Getter
+    public long frameCounter()
+    {
+        return loop.frameCounter();
+    }
+
+    /**
+     * Gibt das <b>Bild</b> zurück, in das das zuletzt berechnete Einzelbild
+     * gezeichnet wurde.
+     *
+     * <p>
+     * Das Bild wird bei jedem Einzelbild überschrieben.
+     * </p>
+     *
+     * @return Das Bild oder {@code null}, falls nicht gezeichnet wird.
+     */
+    @API
+    @Getter
+    public BufferedImage image()
+    {
+        return target != null ? target.image() : null;
+    }
+
+    /**
+     * Berechnet <b>ein Einzelbild</b>.
+     *
+     * @return Eine Referenz auf die eigene Instanz der Ausführung.
+     */
+    @API
+    @ChainableMethod
+    public HeadlessRunner step()
+    {
+        return step(frameDuration);
+    }
+
+    private HeadlessRunner step(double pastTime)
+    {
+        try
+        {
+            loop.step(pastTime);
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(
+                    "Die Ausführung wurde unterbrochen.", e);
+        }
+        time += pastTime;
+        return this;
+    }
+
+    /**
+     * Berechnet die angegebene <b>Anzahl an Einzelbildern</b>.
+     *
+     * @param frames Die Anzahl der zu berechnenden Einzelbilder.
+     *
+     * @return Eine Referenz auf die eigene Instanz der Ausführung.
+     */
+    @API
+    @ChainableMethod
+    public HeadlessRunner steps(int frames)
+    {
+        for (int i = 0; i < frames; i++)
+        {
+            step();
+        }
+        return this;
+    }
+
+    /**
+     * Berechnet so viele Einzelbilder, bis mindestens die angegebene
+     * <b>Zeitspanne</b> simuliert wurde.
+     *
+     * @param duration Die zu simulierende Zeitspanne in Sekunden.
+     *
+     * @return Eine Referenz auf die eigene Instanz der Ausführung.
+     */
+    @API
+    @ChainableMethod
+    public HeadlessRunner run(double duration)
+    {
+        // Die kleine Toleranz verhindert ein zusätzliches Einzelbild durch
+        // Rundungsfehler, z.B. bei 1 / 60 Sekunden.
+        return steps((int) Math.ceil(duration / frameDuration - 1e-9));
+    }
+
+    /**
+     * <b>Spielt</b> eine Aufzeichnung der Eingaben bis zu ihrem Ende <b>ab</b>.
+     *
+     * <p>
+     * Jedes aufgezeichnete Einzelbild wird mit seinen Eingaben und genau der
+     * aufgezeichneten Zeitspanne berechnet. Die eingestellte
+     * {@link #frameDuration() Anzeigedauer} wird dabei nicht verwendet.
+     * </p>
+     *
+     * @param replay Die abzuspielende Aufzeichnung.
+     *
+     * @return Eine Referenz auf die eigene Instanz der Ausführung.
+     *
+     * @see pi.Controller#recordInput(java.nio.file.Path)
+     */
+    @API
+    @ChainableMethod
+    public HeadlessRunner replay(InputReplay replay)
+    {
+        double pastTime = replay.next(loop.input());
+        while (!Double.isNaN(pastTime))
+        {
+            step(pastTime);
+            pastTime = replay.next(loop.input());
+        }
+        return this;
+    }
+
+    /**
+     * Beendet die Threads, in denen die Ebenen der Szene berechnet werden.
+     */
+    @Override
+    public void close()
+    {
+        loop.shutdown();
+    }
+}
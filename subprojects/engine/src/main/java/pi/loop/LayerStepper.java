@@ -0,0 +1,226 @@
+/*
+ * Engine Pi ist eine anfängerorientierte 2D-Gaming Engine.
+ *
+ * Copyright (c) 2026 Josef Friedrich and contributors.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package pi.loop;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
+
+import pi.Layer;
+import pi.annotations.Getter;
+import pi.annotations.Internal;
+import pi.physics.WorldHandler;
+
+/**
+ * Berechnet die <b>Simulationsschritte</b> mehrerer {@link Layer Ebenen}
+ * <b>gleichzeitig</b> in einem begrenzten Thread-Pool.
+ *
+ * <p>
+ * Die Ebenen werden in einem {@link ForkJoinPool} berechnet, dessen Größe durch
+ * die {@link pi.config.GraphicsConfig#layerConcurrency(int) Einstellung}
+ * begrenzt ist. Die Aufgaben für die einzelnen Ebenen werden von Einzelbild zu
+ * Einzelbild wiederverwendet. Während des Simulationsschritts sammelt jede
+ * Ebene ihre Kontakte. Die Kollisionsbeobachter werden erst anschließend im
+ * aufrufenden Thread in der Reihenfolge der Ebenen benachrichtigt.
+ * </p>
+ *
+ * <p>
+ * Besteht eine Szene nur aus einer Ebene oder ist höchstens eine Ebene
+ * gleichzeitig erlaubt, werden die Ebenen ohne Thread-Pool nacheinander im
+ * aufrufenden Thread berechnet und die Kollisionsbeobachter sofort
+ * benachrichtigt.
+ * </p>
+ *
+ * @since 0.53.0
+ *
+ * @hidden
+ */
+@Internal
+public final class LayerStepper
+{
+    private final int concurrency;
+
+    /**
+     * Der Thread-Pool, der erst beim ersten gleichzeitigen Simulationsschritt
+     * erzeugt wird.
+     */
+    private ForkJoinPool pool;
+
+    /**
+     * Die wiederverwendeten Aufgaben, eine pro Ebene.
+     */
+    private StepTask[] tasks = new StepTask[0];
+
+    /**
+     * Erzeugt einen neuen Planer für die Simulationsschritte.
+     *
+     * @param concurrency Die Anzahl an Ebenen, die höchstens gleichzeitig
+     *     berechnet werden. {@code 0} steht für die Anzahl der Prozessorkerne.
+     */
+    public LayerStepper(int concurrency)
+    {
+        if (concurrency < 0)
+        {
+            throw new IllegalArgumentException(
+                    "Die Anzahl an gleichzeitig berechneten Ebenen darf nicht negativ sein, war "
+                            + concurrency);
+        }
+        this.concurrency = concurrency == 0
+                ? Runtime.getRuntime().availableProcessors()
+                : concurrency;
+    }
+
+    /**
+     * Gibt die Anzahl an Ebenen zurück, die höchstens gleichzeitig berechnet
+     * werden.
+     *
+     * @return Die Anzahl an gleichzeitig berechneten Ebenen.
+     */
+    @Getter
+    public int concurrency()
+    {
+        return concurrency;
+    }
+
+    /**
+     * Führt auf allen angegebenen Ebenen den Simulationsschritt aus und wartet,
+     * bis alle Ebenen berechnet sind.
+     *
+     * @param layers Die Ebenen, deren Simulationsschritt ausgeführt werden
+     *     soll.
+     * @param pastTime Die Zeit in Sekunden, die seit dem letzten
+     *     Simulationsschritt vergangen ist.
+     */
+    public void step(List<Layer> layers, double pastTime)
+    {
+        int count = layers.size();
+        if (concurrency <= 1 || count <= 1)
+        {
+            for (int i = 0; i < count; i++)
+            {
+                layers.get(i).step(pastTime);
+            }
+            return;
+        }
+        if (pool == null)
+        {
+            pool = new ForkJoinPool(concurrency, LayerStepper::newThread, null,
+                    false);
+        }
+        if (tasks.length < count)
+        {
+            StepTask[] grown = new StepTask[count];
+            System.arraycopy(tasks, 0, grown, 0, tasks.length);
+            for (int i = tasks.length; i < count; i++)
+            {
+                grown[i] = new StepTask();
+            }
+            tasks = grown;
+        }
+        for (int i = 0; i < count; i++)
+        {
+            StepTask task = tasks[i];
+            task.reinitialize();
+            task.layer = layers.get(i);
+            task.pastTime = pastTime;
+            task.layer.worldHandler().bufferingContacts(true);
+            pool.execute(task);
+        }
+        RuntimeException failure = null;
+        for (int i = 0; i < count; i++)
+        {
+            try
+            {
+                tasks[i].join();
+            }
+            catch (RuntimeException e)
+            {
+                if (failure == null)
+                {
+                    failure = e;
+                }
+                else
+                {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+        for (int i = 0; i < count; i++)
+        {
+            StepTask task = tasks[i];
+            WorldHandler worldHandler = task.layer.worldHandler();
+            task.layer = null;
+            worldHandler.bufferingContacts(false);
+            worldHandler.dispatchBufferedContacts();
+        }
+        if (failure != null)
+        {
+            throw failure;
+        }
+    }
+
+    /**
+     * Fährt den Thread-Pool herunter und wartet maximal 3 Sekunden auf die
+     * Terminierung ausstehender Aufgaben.
+     */
+    public void shutdown()
+    {
+        if (pool == null)
+        {
+            return;
+        }
+        pool.shutdown();
+        try
+        {
+            pool.awaitTermination(3, TimeUnit.SECONDS);
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static ForkJoinWorkerThread newThread(ForkJoinPool pool)
+    {
+        ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory
+            .newThread(pool);
+        thread.setName("pi.physics-" + thread.getPoolIndex());
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    /**
+     * Die wiederverwendbare Aufgabe, den Simulationsschritt einer Ebene
+     * auszuführen.
+     */
+    private static final class StepTask extends RecursiveAction
+    {
+        private Layer layer;
+
+        private double pastTime;
+
+        @Override
+        protected void compute()
+        {
+            layer.step(pastTime);
+        }
+    }
+}
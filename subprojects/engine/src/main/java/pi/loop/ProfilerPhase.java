@@ -0,0 +1,131 @@
+/*
+ * Engine Pi ist eine anfängerorientierte 2D-Gaming Engine.
+ *
+ * Copyright (c) 2026 Josef Friedrich and contributors.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package pi.loop;
+
+/**
+ * Die <b>Abschnitte</b> eines Einzelbilds, deren Dauer der
+ * {@link FrameProfiler} misst.
+ *
+ * @see FrameProfiler
+ *
+ * @since 0.53.0
+ */
+public enum ProfilerPhase
+{
+    /**
+     * Die gesamte Rechenzeit eines Einzelbilds ohne das Warten auf den nächsten
+     * Takt.
+     */
+    FRAME("Frame", -1),
+
+    /**
+     * Das Zustellen der Eingaben zu Beginn des Einzelbilds.
+     */
+    INPUT("Input", -1),
+
+    /**
+     * Die Simulationsschritte aller Ebenen.
+     */
+    STEP("Step", -1),
+
+    /**
+     * Die globalen Beobachter und die Beobachter der Szene, die auf die
+     * Bildaktualisierung reagieren.
+     */
+    FRAME_LISTENERS("Listeners", -1),
+
+    /**
+     * Die Aktualisierung der Kamera.
+     */
+    CAMERA("Camera", -1),
+
+    /**
+     * Die Aufgaben aus der Warteschlange der Ereignisschleife.
+     */
+    DISPATCH("Dispatch", -1),
+
+    /**
+     * Das Zeichnen der Ebenen.
+     */
+    RENDER("Render", -1),
+
+    /**
+     * Das Übertragen des gezeichneten Bilds in die Zeichenfläche bzw. das
+     * Warten auf den Zeichen-Thread.
+     */
+    FLIP("Flip", -1),
+
+    /**
+     * Die gesamte Rechenzeit der Physik-Engine über alle Ebenen.
+     */
+    PHYSICS_STEP("Physics", 0),
+
+    /**
+     * Die Kollisionserkennung der Physik-Engine.
+     */
+    PHYSICS_COLLIDE("Collide", 1),
+
+    /**
+     * Das Lösen der Bedingungen in der Physik-Engine.
+     */
+    PHYSICS_SOLVE("Solve", 2),
+
+    /**
+     * Die Aktualisierung der Broadphase in der Physik-Engine.
+     */
+    PHYSICS_BROADPHASE("Broadphase", 3),
+
+    /**
+     * Die Berechnung der Kollisionszeitpunkte (TOI) in der Physik-Engine.
+     */
+    PHYSICS_SOLVE_TOI("TOI", 4);
+
+    private final String label;
+
+    private final int stepTiming;
+
+    ProfilerPhase(String label, int stepTiming)
+    {
+        this.label = label;
+        this.stepTiming = stepTiming;
+    }
+
+    /**
+     * Gibt die kurze <b>Bezeichnung</b> des Abschnitts zurück, die in der
+     * Überblendung angezeigt wird.
+     *
+     * @return Die Bezeichnung des Abschnitts.
+     */
+    public String label()
+    {
+        return label;
+    }
+
+    /**
+     * Gibt den Index der Rechenzeit in
+     * {@link pi.physics.WorldHandler#stepTimings()} zurück.
+     *
+     * @return Der Index oder {@code -1}, falls der Abschnitt nicht von der
+     *     Physik-Engine gemessen wird.
+     */
+    int stepTiming()
+    {
+        return stepTiming;
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * Engine Pi ist eine anfängerorientierte 2D-Gaming Engine.
+ *
+ * Copyright (c) 2026 Josef Friedrich and contributors.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package pi.loop;
+
+import pi.graphics.DrawList;
+import pi.graphics.RecordingGraphics2D;
+import pi.graphics.RenderTarget;
+
+/**
+ * Ein eigener Thread, der aufgezeichnete {@link DrawList Zeichenlisten} in die
+ * Zeichenfläche überträgt, während die Ereignisschleife bereits das nächste
+ * Einzelbild berechnet.
+ *
+ * <p>
+ * Es wartet höchstens eine Zeichenliste auf ihre Übertragung. Ist der
+ * Zeichen-Thread langsamer als die Ereignisschleife, blockiert
+ * {@link #submit(DrawList)}, bis die vorherige Zeichenliste übernommen wurde.
+ * </p>
+ *
+ * <p>
+ * Höchstens zwei Zeichenlisten sind gleichzeitig in Gebrauch: eine wird
+ * übertragen, eine wartet. Daher reichen drei {@link RecordingGraphics2D
+ * aufzeichnende Grafikobjekte}, die samt ihren Zeichenlisten reihum
+ * wiederverwendet werden.
+ * </p>
+ *
+ * @since 0.53.0
+ */
+final class RenderThread
+{
+    private final RenderTarget target;
+
+    private final Thread thread;
+
+    /**
+     * Die reihum wiederverwendeten aufzeichnenden Grafikobjekte.
+     */
+    private final RecordingGraphics2D[] recorders = new RecordingGraphics2D[3];
+
+    private int nextRecorder = 0;
+
+    /**
+     * Die Zeichenliste, die als Nächstes übertragen wird, oder {@code null}.
+     */
+    private DrawList pending;
+
+    /**
+     * Ein Fehler, der beim Zeichnen aufgetreten ist und an die Ereignisschleife
+     * weitergereicht wird.
+     */
+    private RuntimeException failure;
+
+    RenderThread(RenderTarget target)
+    {
+        this.target = target;
+        thread = new Thread(this::run, "pi.render");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Gibt ein leeres aufzeichnendes Grafikobjekt für das nächste Einzelbild
+     * zurück.
+     *
+     * <p>
+     * Die Zeichenliste des Grafikobjekts wurde drei Einzelbilder zuvor
+     * übergeben. Da {@link #submit(DrawList)} erst zurückkehrt, wenn die
+     * vorherige Zeichenliste übernommen wurde, ist sie bereits übertragen.
+     * </p>
+     *
+     * @param width Die <b>Breite</b> der Zeichenfläche in Pixel.
+     * @param height Die <b>Höhe</b> der Zeichenfläche in Pixel.
+     *
+     * @return Ein zurückgesetztes aufzeichnendes Grafikobjekt.
+     */
+    RecordingGraphics2D recorder(int width, int height)
+    {
+        int index = nextRecorder;
+        nextRecorder = (index + 1) % recorders.length;
+        RecordingGraphics2D recorder = recorders[index];
+        if (recorder == null)
+        {
+            recorder = new RecordingGraphics2D(width, height);
+            recorders[index] = recorder;
+        }
+        else
+        {
+            recorder.reset(width, height);
+        }
+        return recorder;
+    }
+
+    /**
+     * Übergibt eine Zeichenliste an den Zeichen-Thread.
+     *
+     * @param drawList Die zu zeichnende Zeichenliste.
+     *
+     * @throws InterruptedException Falls die Ereignisschleife beim Warten auf
+     *     den Zeichen-Thread unterbrochen wird.
+     */
+    synchronized void submit(DrawList drawList) throws InterruptedException
+    {
+        while (pending != null && failure == null)
+        {
+            wait();
+        }
+        if (failure != null)
+        {
+            throw failure;
+        }
+        pending = drawList;
+        notifyAll();
+    }
+
+    /**
+     * Beendet den Zeichen-Thread und wartet kurz auf sein Ende.
+     */
+    void stop()
+    {
+        thread.interrupt();
+        try
+        {
+            thread.join(1000);
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void run()
+    {
+        while (!Thread.currentThread().isInterrupted())
+        {
+            DrawList drawList;
+            synchronized (this)
+            {
+                try
+                {
+                    while (pending == null)
+                    {
+                        wait();
+                    }
+                }
+                catch (InterruptedException e)
+                {
+                    return;
+                }
+                drawList = pending;
+                pending = null;
+                notifyAll();
+            }
+            try
+            {
+                target.render(drawList);
+            }
+            catch (RuntimeException e)
+            {
+                synchronized (this)
+                {
+                    failure = e;
+                    notifyAll();
+                }
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,322 @@
+/*
+ * Engine Pi ist eine anfängerorientierte 2D-Gaming Engine.
+ *
+ * Copyright (c) 2026 Josef Friedrich and contributors.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package pi.loop;
+
+import pi.Layer;
+import pi.actor.Actor;
+import pi.annotations.API;
+import pi.annotations.ChainableMethod;
+import pi.annotations.Getter;
+import pi.annotations.Internal;
+import pi.annotations.Setter;
+
+/**
+ * Die Einstellungen der <b>Aktualisierungsrate nach Sichtbarkeit</b> (update
+ * level of detail) einer {@link Layer Ebene}.
+ *
+ * <p>
+ * Ist die Einstellung aktiviert, werden die {@link pi.event.FrameListener
+ * Bildbeobachter} einer Figur, z.B. die ihrer Animationen, nur dann in jedem
+ * Einzelbild benachrichtigt, wenn sich die Figur im sichtbaren Bereich der
+ * Kamera befindet. Figuren außerhalb des sichtbaren Bereichs werden nur in
+ * jedem {@link #offscreenInterval() n-ten} Einzelbild benachrichtigt. Die
+ * dazwischen vergangene Zeit wird gesammelt und gemeinsam übergeben, sodass
+ * Animationen trotzdem korrekt fortschreiten. Alternativ können Figuren
+ * außerhalb des sichtbaren Bereichs ganz {@link #freezeOffscreen(boolean)
+ * angehalten} werden. Die Körper weit entfernter Figuren können zusätzlich
+ * {@link #sleepDistance(double) schlafen gelegt} werden.
+ * </p>
+ *
+ * <p>
+ * Figuren, deren Spiellogik in jedem Einzelbild laufen muss, können mit
+ * {@link Actor#alwaysUpdate(boolean)} ausgenommen werden.
+ * </p>
+ *
+ * @see Layer#updateLod()
+ *
+ * @since 0.53.0
+ */
+public final class UpdateLod
+{
+    private boolean enabled = false;
+
+    private int offscreenInterval = 4;
+
+    private boolean freezeOffscreen = false;
+
+    private double margin = 2;
+
+    private double sleepDistance = 0;
+
+    private int updatedActors;
+
+    private int throttledActors;
+
+    private int frozenActors;
+
+    private int sleptBodies;
+
+    /**
+     * Gibt an, ob die Aktualisierungsrate nach Sichtbarkeit <b>aktiviert</b>
+     * ist.
+     *
+     * @return {@code true}, falls Figuren außerhalb des sichtbaren Bereichs
+     *     seltener aktualisiert werden, sonst {@code false}. Standardmäßig
+     *     {@code false}.
+     */
+    @API
+    @Getter
+    public boolean isEnabled()
+    {
+        return enabled;
+    }
+
+    /**
+     * <b>Aktiviert</b> oder deaktiviert die Aktualisierungsrate nach
+     * Sichtbarkeit.
+     *
+     * @param enabled {@code true}, falls Figuren außerhalb des sichtbaren
+     *     Bereichs seltener aktualisiert werden sollen.
+     *
+     * @return Eine Referenz auf die eigene Instanz.
+     */
+    @API
+    @Setter
+    @ChainableMethod
+    public UpdateLod enabled(boolean enabled)
+    {
+        this.enabled = enabled;
+        return this;
+    }
+
+    /**
+     * Gibt an, in jedem wievielten Einzelbild Figuren außerhalb des sichtbaren
+     * Bereichs <b>aktualisiert</b> werden.
+     *
+     * @return Der Abstand in Einzelbildern. Standardmäßig {@code 4}.
+     */
+    @API
+    @Getter
+    public int offscreenInterval()
+    {
+        return offscreenInterval;
+    }
+
+    /**
+     * Legt fest, in jedem wievielten Einzelbild Figuren außerhalb des
+     * sichtbaren Bereichs <b>aktualisiert</b> werden.
+     *
+     * @param offscreenInterval Der Abstand in Einzelbildern, mindestens
+     *     {@code 1}.
+     *
+     * @return Eine Referenz auf die eigene Instanz.
+     */
+    @API
+    @Setter
+    @ChainableMethod
+    public UpdateLod offscreenInterval(int offscreenInterval)
+    {
+        if (offscreenInterval < 1)
+        {
+            throw new IllegalArgumentException(
+                    "Der Abstand muss mindestens 1 Einzelbild betragen, war "
+                            + offscreenInterval);
+        }
+        this.offscreenInterval = offscreenInterval;
+        return this;
+    }
+
+    /**
+     * Gibt an, ob Figuren außerhalb des sichtbaren Bereichs <b>angehalten</b>
+     * werden.
+     *
+     * @return {@code true}, falls ihre Bildbeobachter gar nicht benachrichtigt
+     *     werden, sonst {@code false}. Standardmäßig {@code false}.
+     */
+    @API
+    @Getter
+    public boolean isFreezingOffscreen()
+    {
+        return freezeOffscreen;
+    }
+
+    /**
+     * Legt fest, ob Figuren außerhalb des sichtbaren Bereichs <b>angehalten</b>
+     * werden.
+     *
+     * <p>
+     * Angehaltene Figuren erhalten die vergangene Zeit auch später nicht: Ihre
+     * Animationen setzen dort fort, wo sie beim Verlassen des sichtbaren
+     * Bereichs standen.
+     * </p>
+     *
+     * @param freezeOffscreen {@code true}, falls die Bildbeobachter von Figuren
+     *     außerhalb des sichtbaren Bereichs gar nicht benachrichtigt werden
+     *     sollen.
+     *
+     * @return Eine Referenz auf die eigene Instanz.
+     */
+    @API
+    @Setter
+    @ChainableMethod
+    public UpdateLod freezeOffscreen(boolean freezeOffscreen)
+    {
+        this.freezeOffscreen = freezeOffscreen;
+        return this;
+    }
+
+    /**
+     * Gibt den <b>Rand</b> in Meter zurück, um den der sichtbare Bereich
+     * erweitert wird.
+     *
+     * @return Der Rand in Meter. Standardmäßig {@code 2}.
+     */
+    @API
+    @Getter
+    public double margin()
+    {
+        return margin;
+    }
+
+    /**
+     * Legt den <b>Rand</b> in Meter fest, um den der sichtbare Bereich
+     * erweitert wird, damit Figuren schon kurz vor dem Betreten des Bildes
+     * wieder in jedem Einzelbild aktualisiert werden.
+     *
+     * @param margin Der Rand in Meter.
+     *
+     * @return Eine Referenz auf die eigene Instanz.
+     */
+    @API
+    @Setter
+    @ChainableMethod
+    public UpdateLod margin(double margin)
+    {
+        this.margin = margin;
+        return this;
+    }
+
+    /**
+     * Gibt den <b>Abstand</b> zum sichtbaren Bereich zurück, ab dem die Körper
+     * von Figuren schlafen gelegt werden.
+     *
+     * @return Der Abstand in Meter. {@code 0} bedeutet, dass keine Körper
+     *     schlafen gelegt werden. Standardmäßig {@code 0}.
+     */
+    @API
+    @Getter
+    public double sleepDistance()
+    {
+        return sleepDistance;
+    }
+
+    /**
+     * Legt den <b>Abstand</b> zum sichtbaren Bereich fest, ab dem die
+     * dynamischen Körper von Figuren <b>schlafen gelegt</b> werden.
+     *
+     * <p>
+     * Schlafende Körper nehmen nicht an der Simulation teil. Sobald ein Körper
+     * wieder näher als dieser Abstand am sichtbaren Bereich liegt, wird er
+     * geweckt und erhält die Geschwindigkeit zurück, die er vor dem Einschlafen
+     * hatte. Ein fallender Körper fällt also weiter, statt in der Luft stehen
+     * zu bleiben.
+     * </p>
+     *
+     * @param sleepDistance Der Abstand in Meter oder {@code 0}, falls keine
+     *     Körper schlafen gelegt werden sollen.
+     *
+     * @return Eine Referenz auf die eigene Instanz.
+     */
+    @API
+    @Setter
+    @ChainableMethod
+    public UpdateLod sleepDistance(double sleepDistance)
+    {
+        this.sleepDistance = sleepDistance;
+        return this;
+    }
+
+    /**
+     * Gibt die Anzahl der Figuren zurück, die im letzten Einzelbild
+     * <b>aktualisiert</b> wurden.
+     *
+     * @return Die Anzahl der Figuren, deren Bildbeobachter benachrichtigt
+     *     wurden.
+     */
+    @API
+    @Getter
+    public int updatedActors()
+    {
+        return updatedActors;
+    }
+
+    /**
+     * Gibt die Anzahl der Figuren zurück, deren Aktualisierung im letzten
+     * Einzelbild <b>aufgeschoben</b> wurde.
+     *
+     * @return Die Anzahl der Figuren, deren vergangene Zeit gesammelt wurde.
+     */
+    @API
+    @Getter
+    public int throttledActors()
+    {
+        return throttledActors;
+    }
+
+    /**
+     * Gibt die Anzahl der Figuren zurück, die im letzten Einzelbild
+     * <b>angehalten</b> waren.
+     *
+     * @return Die Anzahl der angehaltenen Figuren.
+     */
+    @API
+    @Getter
+    public int frozenActors()
+    {
+        return frozenActors;
+    }
+
+    /**
+     * Gibt die Anzahl der Körper zurück, die im letzten Einzelbild <b>schlafen
+     * gelegt</b> wurden.
+     *
+     * @return Die Anzahl der schlafen gelegten Körper.
+     */
+    @API
+    @Getter
+    public int sleptBodies()
+    {
+        return sleptBodies;
+    }
+
+    /**
+     * Speichert die Zählerstände eines Einzelbilds.
+     *
+     * @hidden
+     */
+    @Internal
+    public void record(int updatedActors, int throttledActors, int frozenActors,
+            int sleptBodies)
+    {
+        this.updatedActors = updatedActors;
+        this.throttledActors = throttledActors;
+        this.frozenActors = frozenActors;
+        this.sleptBodies = sleptBodies;
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Engine Pi ist eine anfängerorientierte 2D-Gaming Engine.
+ *
+ * Copyright (c) 2026 Josef Friedrich and contributors.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package pi.physics;
+
+import pi.actor.Actor;
+import pi.annotations.API;
+
+/**
+ * Ein <b>Filter</b>, der bei räumlichen Abfragen entscheidet, welche
+ * {@link Actor Figuren} in das Ergebnis aufgenommen werden.
+ *
+ * <p>
+ * Ein Filter sollte einmal erzeugt und für viele Abfragen wiederverwendet
+ * werden.
+ * </p>
+ *
+ * @see SpatialQuery
+ *
+ * @since 0.53.0
+ */
+@FunctionalInterface
+public interface ActorFilter
+{
+    /**
+     * Ein Filter, der <b>alle</b> Figuren annimmt.
+     */
+    ActorFilter ALL = actor -> true;
+
+    /**
+     * Entscheidet, ob eine Figur in das Ergebnis aufgenommen wird.
+     *
+     * @param actor Die gefundene Figur.
+     *
+     * @return {@code true}, falls die Figur aufgenommen wird.
+     */
+    boolean accept(Actor actor);
+
+    /**
+     * Erzeugt einen Filter, der nur Figuren einer bestimmten <b>Klasse</b>
+     * (oder ihrer Unterklassen) annimmt.
+     *
+     * @param type Die Klasse der gesuchten Figuren, z.B. {@code Circle.class}.
+     *
+     * @return Ein neuer Filter.
+     */
+    @API
+    static ActorFilter type(Class<? extends Actor> type)
+    {
+        return type::isInstance;
+    }
+
+    /**
+     * Erzeugt einen Filter, der nur Figuren mit einer bestimmten
+     * {@link Actor#tag(String) Markierung} annimmt.
+     *
+     * @param tag Die gesuchte Markierung.
+     *
+     * @return Ein neuer Filter.
+     */
+    @API
+    static ActorFilter tag(String tag)
+    {
+        return actor -> actor.hasTag(tag);
+    }
+
+    /**
+     * Verknüpft diesen Filter mit einem weiteren Filter, sodass nur Figuren
+     * angenommen werden, die <b>beide</b> Filter annehmen.
+     *
+     * @param other Der zweite Filter.
+     *
+     * @return Ein neuer Filter.
+     */
+    @API
+    default ActorFilter and(ActorFilter other)
+    {
+        return actor -> accept(actor) && other.accept(actor);
+    }
+}
@@ -0,0 +1,488 @@
+/*
+ * Engine Pi ist eine anfängerorientierte 2D-Gaming Engine.
+ *
+ * Copyright (c) 2026 Josef Friedrich and contributors.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package pi.physics;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jbox2d.collision.shapes.ChainShape;
+import org.jbox2d.collision.shapes.PolygonShape;
+import org.jbox2d.common.Transform;
+import org.jbox2d.common.Vec2;
+import org.jbox2d.dynamics.Body;
+import org.jbox2d.dynamics.BodyDef;
+import org.jbox2d.dynamics.Fixture;
+import org.jbox2d.dynamics.FixtureDef;
+
+import pi.Layer;
+import pi.actor.Actor;
+import pi.annotations.API;
+import pi.annotations.Getter;
+import pi.annotations.Internal;
+import pi.physics.RectangleUnion.Outline;
+
+/**
+ * Viele <b>statische Figuren</b>, die zu einem einzigen Körper mit wenigen
+ * Halterungen <b>zusammengefasst</b> wurden.
+ *
+ * <p>
+ * Labyrinthe und Kachel-Level bestehen oft aus Hunderten statischer Figuren,
+ * z.B. Mauersteinen. Jede von ihnen besitzt einen eigenen Körper, dessen
+ * Halterungen in der Broadphase der Physics-Engine verzeichnet sind. Beim
+ * Zusammenfassen werden die Umrisse aller achsenparallelen Rechtecke vereinigt
+ * und als geschlossene Linienzüge ({@link ChainShape}) an einen einzigen
+ * statischen Körper gehängt. Gerade Wände ergeben dabei nur eine Kante, und
+ * innere Kanten zwischen benachbarten Steinen, an denen Figuren hängen bleiben
+ * könnten, fallen weg. Andere Vielecke werden unverändert an den gemeinsamen
+ * Körper gehängt.
+ * </p>
+ *
+ * <p>
+ * Die ursprünglichen Figuren bleiben in der Ebene und werden weiterhin
+ * gezeichnet, ihre Körper werden jedoch deaktiviert. Die Halterungen des
+ * gemeinsamen Körpers merken sich in ihren Nutzerdaten, welche Figur an welcher
+ * Stelle einer Kante liegt. Deshalb melden die Kollisionsbeobachter weiterhin
+ * die einzelne Figur, die berührt wurde, und an den Figuren angemeldete
+ * Beobachter werden weiterhin benachrichtigt.
+ * </p>
+ *
+ * <p>
+ * Wird eine zusammengefasste Figur aus der Ebene entfernt, werden die übrigen
+ * Figuren neu zusammengefasst. Soll eine Figur bewegt oder ihr Typ geändert
+ * werden, muss die Zusammenfassung vorher mit {@link #release()} aufgehoben
+ * werden.
+ * </p>
+ *
+ * @see Layer#bakeStaticColliders(Collection)
+ *
+ * @since 0.53.0
+ */
+public final class BakedColliders
+{
+    private final WorldHandler worldHandler;
+
+    /**
+     * Die Figuren, die zusammengefasst werden sollen.
+     */
+    private final List<Actor> candidates;
+
+    /**
+     * Die Figuren, deren Körper zurzeit deaktiviert sind.
+     */
+    private final List<Actor> actors = new ArrayList<>();
+
+    /**
+     * Die Beobachter, die beim Entfernen einer zusammengefassten Figur die
+     * übrigen Figuren neu zusammenfassen.
+     */
+    private final Map<Actor, Runnable> unmountListeners = new HashMap<>();
+
+    /**
+     * Der gemeinsame statische Körper oder {@code null}.
+     */
+    private Body body;
+
+    private int fixtureCount = 0;
+
+    private int proxyCount = 0;
+
+    private boolean released = false;
+
+    /**
+     * Gibt an, ob die Figuren beim nächsten Einzelbild neu zusammengefasst
+     * werden.
+     */
+    private boolean rebakeScheduled = false;
+
+    /**
+     * Erzeugt eine noch leere Zusammenfassung. Die Figuren werden erst mit
+     * {@link #bake()} zusammengefasst.
+     *
+     * @param worldHandler Die Physics-Welt, in der die Figuren angemeldet sind.
+     * @param actors Die Figuren, die zusammengefasst werden sollen.
+     *
+     * @hidden
+     */
+    @Internal
+    public BakedColliders(WorldHandler worldHandler,
+            Collection<? extends Actor> actors)
+    {
+        this.worldHandler = worldHandler;
+        candidates = new ArrayList<>(actors);
+    }
+
+    /**
+     * Gibt den gemeinsamen statischen <b>Körper</b> zurück.
+     *
+     * @return Der Körper oder {@code null}, falls die Figuren noch nicht
+     *     zusammengefasst wurden.
+     *
+     * @hidden
+     */
+    @Internal
+    @Getter
+    public Body body()
+    {
+        return body;
+    }
+
+    /**
+     * Gibt an, ob die Figuren zurzeit <b>zusammengefasst</b> sind.
+     *
+     * @return {@code true}, falls der gemeinsame Körper besteht, sonst
+     *     {@code false}.
+     */
+    @API
+    @Getter
+    public boolean isBaked()
+    {
+        return body != null;
+    }
+
+    /**
+     * Gibt die Anzahl der <b>zusammengefassten Figuren</b> zurück.
+     *
+     * <p>
+     * Figuren, die nicht statisch sind, nicht in derselben Ebene angemeldet
+     * sind oder andere Halterungen als Vielecke besitzen, werden nicht
+     * zusammengefasst und nicht mitgezählt.
+     * </p>
+     *
+     * @return Die Anzahl der Figuren, deren Körper deaktiviert wurden.
+     */
+    @API
+    @Getter
+    public int actorCount()
+    {
+        return actors.size();
+    }
+
+    /**
+     * Gibt die Figuren zurück, deren Körper zurzeit <b>deaktiviert</b> sind.
+     *
+     * <p>
+     * Diese Figuren sind nicht im räumlichen Suchbaum der Physics-Engine
+     * verzeichnet und müssen beim Aussortieren nicht sichtbarer Figuren
+     * gesondert geprüft werden.
+     * </p>
+     *
+     * @return Die zusammengefassten Figuren.
+     *
+     * @hidden
+     */
+    @Internal
+    @Getter
+    public List<Actor> actors()
+    {
+        return Collections.unmodifiableList(actors);
+    }
+
+    /**
+     * Gibt an, ob die Zusammenfassung mit {@link #release()} endgültig
+     * <b>aufgehoben</b> wurde.
+     *
+     * @return {@code true}, falls die Zusammenfassung aufgehoben wurde.
+     *
+     * @hidden
+     */
+    @Internal
+    @Getter
+    public boolean isReleased()
+    {
+        return released;
+    }
+
+    /**
+     * Gibt die Anzahl der <b>Halterungen</b> des gemeinsamen Körpers zurück.
+     *
+     * @return Die Anzahl der Linienzüge und Vielecke.
+     */
+    @API
+    @Getter
+    public int fixtureCount()
+    {
+        return fixtureCount;
+    }
+
+    /**
+     * Gibt die Anzahl der Einträge des gemeinsamen Körpers in der
+     * <b>Broadphase</b> zurück, also die Summe der Kanten aller Linienzüge und
+     * der Vielecke.
+     *
+     * @return Die Anzahl der Broadphase-Einträge.
+     */
+    @API
+    @Getter
+    public int proxyCount()
+    {
+        return proxyCount;
+    }
+
+    /**
+     * <b>Hebt die Zusammenfassung auf</b>: Der gemeinsame Körper wird entfernt
+     * und die Körper der Figuren werden wieder aktiviert.
+     */
+    @API
+    public void release()
+    {
+        synchronized (worldHandler)
+        {
+            worldHandler.assertNoWorldStep();
+            released = true;
+            unmountListeners.forEach(Actor::removeUnmountListener);
+            unmountListeners.clear();
+            restore();
+        }
+    }
+
+    /**
+     * <b>Fasst die Figuren zusammen</b>. Wird von der Ebene aufgerufen, nachdem
+     * alle zuvor hinzugefügten Figuren angemeldet wurden.
+     *
+     * @hidden
+     */
+    @Internal
+    public void bake()
+    {
+        synchronized (worldHandler)
+        {
+            worldHandler.assertNoWorldStep();
+            if (released)
+            {
+                return;
+            }
+            restore();
+            body = worldHandler.createBody(new BodyDef(), null);
+            Map<Material, RectangleUnion> unions = new LinkedHashMap<>();
+            List<Body> owners = new ArrayList<>();
+            for (Actor actor : candidates)
+            {
+                Body owner = bakeableBody(actor);
+                if (owner == null)
+                {
+                    continue;
+                }
+                int ownerIndex = owners.size();
+                owners.add(owner);
+                for (Fixture fixture = owner.fixtureList; fixture != null; fixture = fixture.next)
+                {
+                    PolygonShape polygon = (PolygonShape) fixture.shape;
+                    Vec2[] vertices = new Vec2[polygon.count];
+                    for (int i = 0; i < polygon.count; i++)
+                    {
+                        vertices[i] = Transform.mul(owner.xf,
+                            polygon.vertices[i]);
+                    }
+                    if (!addRectangle(
+                        unions.computeIfAbsent(new Material(fixture),
+                            material -> new RectangleUnion()),
+                        vertices,
+                        ownerIndex))
+                    {
+                        PolygonShape copy = new PolygonShape();
+                        copy.set(vertices, vertices.length);
+                        createFixture(copy, fixture, new BakedOutline(owner));
+                    }
+                }
+                owner.setActive(false);
+                actors.add(actor);
+                unmountListeners.computeIfAbsent(actor, baked -> {
+                    Runnable listener = () -> remove(baked);
+                    baked.addUnmountListener(listener);
+                    return listener;
+                });
+            }
+            Body[] ownerBodies = owners.toArray(new Body[0]);
+            for (Map.Entry<Material, RectangleUnion> entry : unions.entrySet())
+            {
+                for (Outline outline : entry.getValue().outlines())
+                {
+                    Vec2[] vertices = new Vec2[outline.vertexCount()];
+                    for (int i = 0; i < vertices.length; i++)
+                    {
+                        vertices[i] = new Vec2(outline.vertices()[2 * i],
+                                outline.vertices()[2 * i + 1]);
+                    }
+                    ChainShape chain = new ChainShape();
+                    chain.createLoop(vertices, vertices.length);
+                    createFixture(chain,
+                        entry.getKey(),
+                        new BakedOutline(ownerBodies, outline));
+                }
+            }
+        }
+    }
+
+    /**
+     * Gibt den Körper einer Figur zurück, falls sie zusammengefasst werden
+     * kann.
+     */
+    private Body bakeableBody(Actor actor)
+    {
+        PhysicsHandler handler = actor.physicsHandler();
+        Body owner = handler.body();
+        if (handler.worldHandler() != worldHandler || owner == null
+                || !owner.isActive() || owner.fixtureList == null
+                || handler.bodyType() != BodyType.STATIC)
+        {
+            return null;
+        }
+        for (Fixture fixture = owner.fixtureList; fixture != null; fixture = fixture.next)
+        {
+            if (!(fixture.shape instanceof PolygonShape) || fixture.isSensor)
+            {
+                return null;
+            }
+        }
+        return owner;
+    }
+
+    /**
+     * Fügt ein Vieleck der Vereinigung hinzu, falls es ein achsenparalleles
+     * Rechteck ist.
+     */
+    private static boolean addRectangle(RectangleUnion union, Vec2[] vertices,
+            int owner)
+    {
+        if (vertices.length != 4)
+        {
+            return false;
+        }
+        float minX = Float.MAX_VALUE, minY = Float.MAX_VALUE;
+        float maxX = -Float.MAX_VALUE, maxY = -Float.MAX_VALUE;
+        for (Vec2 vertex : vertices)
+        {
+            minX = Math.min(minX, vertex.x);
+            minY = Math.min(minY, vertex.y);
+            maxX = Math.max(maxX, vertex.x);
+            maxY = Math.max(maxY, vertex.y);
+        }
+        for (Vec2 vertex : vertices)
+        {
+            if (!isNear(vertex.x, minX, maxX) || !isNear(vertex.y, minY, maxY))
+            {
+                return false;
+            }
+        }
+        if (maxX - minX <= RectangleUnion.EPSILON
+                || maxY - minY <= RectangleUnion.EPSILON)
+        {
+            return false;
+        }
+        union.add(minX, minY, maxX, maxY, owner);
+        return true;
+    }
+
+    private static boolean isNear(float value, float a, float b)
+    {
+        return Math.abs(value - a) <= RectangleUnion.EPSILON
+                || Math.abs(value - b) <= RectangleUnion.EPSILON;
+    }
+
+    private void createFixture(org.jbox2d.collision.shapes.Shape shape,
+            Fixture template, BakedOutline outline)
+    {
+        createFixture(shape, new Material(template), outline);
+    }
+
+    private void createFixture(org.jbox2d.collision.shapes.Shape shape,
+            Material material, BakedOutline outline)
+    {
+        FixtureDef def = new FixtureDef();
+        def.shape = shape;
+        def.friction = material.friction;
+        def.restitution = material.restitution;
+        def.filter.categoryBits = material.categoryBits;
+        def.filter.maskBits = material.maskBits;
+        def.filter.groupIndex = material.groupIndex;
+        def.userData = outline;
+        body.createFixture(def);
+        fixtureCount++;
+        proxyCount += shape.getChildCount();
+    }
+
+    /**
+     * Fasst die übrigen Figuren beim nächsten Einzelbild neu zusammen, nachdem
+     * eine von ihnen aus der Ebene entfernt wurde. Werden mehrere Figuren
+     * gleichzeitig entfernt, wird nur einmal neu zusammengefasst.
+     */
+    private void remove(Actor actor)
+    {
+        candidates.remove(actor);
+        actors.remove(actor);
+        Runnable listener = unmountListeners.remove(actor);
+        if (listener != null)
+        {
+            actor.removeUnmountListener(listener);
+        }
+        if (!rebakeScheduled)
+        {
+            rebakeScheduled = true;
+            worldHandler.layer().defer(() -> {
+                rebakeScheduled = false;
+                bake();
+            });
+        }
+    }
+
+    /**
+     * Entfernt den gemeinsamen Körper und aktiviert die Körper der Figuren, die
+     * noch angemeldet sind.
+     */
+    private void restore()
+    {
+        if (body != null)
+        {
+            worldHandler.world().destroyBody(body);
+            body = null;
+        }
+        for (Actor actor : actors)
+        {
+            Body owner = actor.physicsHandler().body();
+            if (owner != null
+                    && actor.physicsHandler().worldHandler() == worldHandler)
+            {
+                owner.setActive(true);
+            }
+        }
+        actors.clear();
+        fixtureCount = 0;
+        proxyCount = 0;
+    }
+
+    /**
+     * Die Materialeigenschaften einer Halterung. Nur Rechtecke mit gleichen
+     * Eigenschaften werden zu einem Umriss vereinigt.
+     */
+    private record Material(float friction, float restitution, int categoryBits,
+            int maskBits, int groupIndex)
+    {
+        private Material(Fixture fixture)
+        {
+            this(fixture.friction, fixture.restitution,
+                    fixture.filter.categoryBits, fixture.filter.maskBits,
+                    fixture.filter.groupIndex);
+        }
+    }
+}
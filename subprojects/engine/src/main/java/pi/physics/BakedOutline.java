@@ -0,0 +1,81 @@
+/*
+ * Engine Pi ist eine anfängerorientierte 2D-Gaming Engine.
+ *
+ * Copyright (c) 2026 Josef Friedrich and contributors.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package pi.physics;
+
+import org.jbox2d.dynamics.Body;
+
+import pi.physics.RectangleUnion.Outline;
+
+/**
+ * Die Nutzerdaten einer <b>zusammengefassten Halterung</b>, über die die
+ * Kollisionen wieder den einzelnen Figuren zugeordnet werden.
+ *
+ * <p>
+ * Ein Linienzug ({@code ChainShape}) besteht aus mehreren Kanten, deren Index
+ * im Kontakt als {@code childIndex} vermerkt ist. Entlang jeder Kante ist
+ * bekannt, welche ursprüngliche Figur an welcher Stelle an sie grenzt.
+ * </p>
+ *
+ * @see BakedColliders
+ *
+ * @since 0.53.0
+ */
+final class BakedOutline
+{
+    /**
+     * Die Körper der zusammengefassten Figuren. Die Besitzernummern des
+     * Umrisses verweisen in dieses Feld.
+     */
+    private final Body[] owners;
+
+    /**
+     * Der Umriss oder {@code null}, falls die Halterung nur zu einer Figur
+     * gehört.
+     */
+    private final Outline outline;
+
+    BakedOutline(Body[] owners, Outline outline)
+    {
+        this.owners = owners;
+        this.outline = outline;
+    }
+
+    BakedOutline(Body owner)
+    {
+        this(new Body[] { owner }, null);
+    }
+
+    /**
+     * Gibt den Körper der Figur zurück, zu der eine Kollision gehört.
+     *
+     * @param child Der Index der Kante, die berührt wurde.
+     * @param x Die x-Koordinate des Punkts, an dem die Kante berührt wurde.
+     * @param y Die y-Koordinate des Punkts, an dem die Kante berührt wurde.
+     *
+     * @return Der Körper der ursprünglichen Figur.
+     */
+    Body owner(int child, float x, float y)
+    {
+        if (outline == null)
+        {
+            return owners[0];
+        }
+        return owners[outline.owner(child, x, y)];
+    }
+}
@@ -24,9 +24,11 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Supplier;
 
+import org.jbox2d.callbacks.QueryCallback;
 import org.jbox2d.collision.AABB;
 import org.jbox2d.common.Vec2;
 import org.jbox2d.dynamics.Body;
+import org.jbox2d.dynamics.Filter;
 import org.jbox2d.dynamics.Fixture;
 import org.jbox2d.dynamics.contacts.ContactEdge;
 
@@ -55,8 +57,6 @@ public class BodyHandler implements PhysicsHandler
 {
     private static final Vec2 NULL_VECTOR = new Vec2();
 
-    private static final int DEFAULT_MASK_BITS = 0xFFFF;
-
     /**
      * Referenz auf den Handler der World, in der sich der Body befindet.
      */
@@ -70,6 +70,61 @@ public class BodyHandler implements PhysicsHandler
 
     private BodyType type;
 
+    /**
+     * Die {@link pi.actor.Actor#collisionCategory(int) Kollisionskategorien}
+     * des Körpers.
+     */
+    private int collisionCategory;
+
+    /**
+     * Die {@link pi.actor.Actor#collisionMask(int) Kollisionsmaske} des
+     * Körpers.
+     */
+    private int collisionMask;
+
+    /**
+     * Der Index des Platzes mit den Kollisionsbeobachtern dieses Körpers im
+     * {@link WorldHandler} oder {@code -1}.
+     */
+    int collisionSlot = -1;
+
+    /**
+     * Die Position des Körpers vor dem letzten Simulationsschritt.
+     */
+    private final Vec2 previousPosition = new Vec2();
+
+    /**
+     * Der Drehwinkel des Körpers im Bogenmaß vor dem letzten
+     * Simulationsschritt.
+     */
+    private float previousAngle;
+
+    /**
+     * Gibt an, ob {@link #previousPosition} und {@link #previousAngle} gültig
+     * sind. Wird der Körper von außen versetzt oder gedreht, soll er ohne
+     * Zwischenschritte an der neuen Stelle gezeichnet werden.
+     */
+    private boolean hasPreviousTransform = false;
+
+    /**
+     * Der zwischengespeicherte Begrenzungsrahmen des Körpers.
+     */
+    private final AABB cachedAABB = new AABB();
+
+    /**
+     * Der {@link WorldHandler#stepCount() Simulationsschritt}, in dem
+     * {@link #cachedAABB} berechnet wurde, oder {@code -1}, falls er neu
+     * berechnet werden muss.
+     */
+    private long cachedAABBStep = -1;
+
+    /**
+     * Der wiederverwendbare Suchbereich des {@link #isGrounded() Steh-Tests}.
+     */
+    private final AABB groundQuery = new AABB();
+
+    private final GroundCallback groundCallback = new GroundCallback();
+
     /**
      * Erstellt einen neuen Body-Handler
      *
@@ -80,6 +135,8 @@ public class BodyHandler implements PhysicsHandler
             WorldHandler worldHandler)
     {
         this.worldHandler = worldHandler;
+        collisionCategory = physicsData.collisionCategory();
+        collisionMask = physicsData.collisionMask();
         body = physicsData.createBody(worldHandler, actor);
         bodyType(physicsData.bodyType());
     }
@@ -98,6 +155,8 @@ public class BodyHandler implements PhysicsHandler
             Vec2 vector = meters.toVec2();
             body.setTransform(vector.addLocal(body.getPosition()),
                 body.getAngle());
+            hasPreviousTransform = false;
+            cachedAABBStep = -1;
             // Wake up body, ensures in-engine (JB2D) adjustments will happen,
             // e.g. collision rejustment
             body.setAwake(true);
@@ -113,27 +172,81 @@ public class BodyHandler implements PhysicsHandler
      */
     public AABB aabb()
     {
-        AABB bodyBounds = new AABB();
+        return aabb(new AABB());
+    }
+
+    /**
+     * Schreibt den achsenparallelen Begrenzungsrahmen dieses Körpers in ein
+     * vorhandenes {@link AABB}-Objekt.
+     *
+     * <p>
+     * Der Begrenzungsrahmen wird nur einmal pro Simulationsschritt berechnet
+     * und zwischengespeichert, solange der Körper nicht über diesen Handler
+     * versetzt, gedreht oder mit neuen Umrissen versehen wird.
+     * </p>
+     *
+     * @param result Das Objekt, in das der Begrenzungsrahmen geschrieben wird.
+     *
+     * @return Das übergebene Objekt.
+     *
+     * @since 0.53.0
+     */
+    @Override
+    public AABB aabb(AABB result)
+    {
+        result.set(cachedAABB());
+        return result;
+    }
+
+    /**
+     * Gibt den zwischengespeicherten Begrenzungsrahmen zurück und berechnet ihn
+     * bei Bedarf neu.
+     */
+    private AABB cachedAABB()
+    {
+        long stepCount = worldHandler.stepCount();
+        if (cachedAABBStep != stepCount)
+        {
+            computeAABB(cachedAABB);
+            cachedAABBStep = stepCount;
+        }
+        return cachedAABB;
+    }
+
+    private void computeAABB(AABB bodyBounds)
+    {
         bodyBounds.lowerBound.x = Float.MAX_VALUE;
         bodyBounds.lowerBound.y = Float.MAX_VALUE;
         bodyBounds.upperBound.x = -Float.MAX_VALUE;
         bodyBounds.upperBound.y = -Float.MAX_VALUE;
         for (Fixture fixture = body.fixtureList; fixture != null; fixture = fixture.next)
         {
-            // TODO Include chain shapes (more than one child)
-            bodyBounds.combine(bodyBounds, fixture.getAABB(0));
+            for (int child = 0; child < fixture.proxyCount; child++)
+            {
+                bodyBounds.combine(bodyBounds, fixture.getAABB(child));
+            }
         }
-        return bodyBounds;
     }
 
     @Override
     public Vector center()
+    {
+        return Vector.of(center(new Vec2()));
+    }
+
+    /**
+     * @since 0.53.0
+     */
+    @Override
+    public Vec2 center(Vec2 result)
     {
         if (type == BodyType.DYNAMIC || type == BodyType.PARTICLE)
         {
-            return Vector.of(body.getWorldCenter());
+            return result.set(body.getWorldCenter());
         }
-        return Vector.of(aabb().getCenter());
+        AABB bounds = cachedAABB();
+        return result.set((bounds.lowerBound.x + bounds.upperBound.x) * .5f,
+            (bounds.lowerBound.y + bounds.upperBound.y) * .5f);
     }
 
     @Override
@@ -156,12 +269,61 @@ public class BodyHandler implements PhysicsHandler
         return Vector.of(body.getPosition());
     }
 
+    /**
+     * @since 0.53.0
+     */
+    @Override
+    public Vec2 anchor(Vec2 result)
+    {
+        return result.set(body.getPosition());
+    }
+
     @Override
     public double rotation()
     {
         return Math.toDegrees(body.getAngle());
     }
 
+    /**
+     * Speichert die aktuelle Lage des Körpers für die Interpolation beim
+     * Zeichnen. Wird vom {@link WorldHandler} vor jedem Simulationsschritt
+     * aufgerufen.
+     *
+     * @since 0.53.0
+     */
+    void storePreviousTransform()
+    {
+        previousPosition.set(body.getPosition());
+        previousAngle = body.getAngle();
+        hasPreviousTransform = true;
+    }
+
+    @Override
+    public Vector renderAnchor()
+    {
+        if (!hasPreviousTransform || !worldHandler.isInterpolating())
+        {
+            return anchor();
+        }
+        double alpha = worldHandler.interpolationAlpha();
+        Vec2 position = body.getPosition();
+        return new Vector(
+                previousPosition.x + (position.x - previousPosition.x) * alpha,
+                previousPosition.y + (position.y - previousPosition.y) * alpha);
+    }
+
+    @Override
+    public double renderRotation()
+    {
+        if (!hasPreviousTransform || !worldHandler.isInterpolating())
+        {
+            return rotation();
+        }
+        double alpha = worldHandler.interpolationAlpha();
+        return Math.toDegrees(
+            previousAngle + (body.getAngle() - previousAngle) * alpha);
+    }
+
     @Override
     public void rotateBy(double degree)
     {
@@ -170,6 +332,8 @@ public class BodyHandler implements PhysicsHandler
             worldHandler.assertNoWorldStep();
             body.setTransform(body.getPosition(),
                 (float) (body.getAngle() + Math.toRadians(degree)));
+            hasPreviousTransform = false;
+            cachedAABBStep = -1;
         }
     }
 
@@ -181,6 +345,8 @@ public class BodyHandler implements PhysicsHandler
             worldHandler.assertNoWorldStep();
             body.setTransform(body.getPosition(),
                 (float) Math.toRadians(degree));
+            hasPreviousTransform = false;
+            cachedAABBStep = -1;
         }
     }
 
@@ -332,45 +498,26 @@ public class BodyHandler implements PhysicsHandler
             for (Fixture fixture = body.fixtureList; fixture != null; fixture = fixture.next)
             {
                 fixture.isSensor = type.isSensor();
-                switch (type)
-                {
-                case SENSOR:
-                    fixture.filter.categoryBits = WorldHandler.CATEGORY_PASSIVE;
-                    fixture.filter.maskBits = DEFAULT_MASK_BITS
-                            & ~WorldHandler.CATEGORY_PARTICLE;
-                    break;
-
-                case STATIC:
-                    fixture.filter.categoryBits = WorldHandler.CATEGORY_STATIC;
-                    fixture.filter.maskBits = DEFAULT_MASK_BITS;
-                    break;
-
-                case KINEMATIC:
-                    fixture.filter.categoryBits = WorldHandler.CATEGORY_KINEMATIC;
-                    fixture.filter.maskBits = DEFAULT_MASK_BITS;
-                    break;
-
-                case DYNAMIC:
-                    fixture.filter.categoryBits = WorldHandler.CATEGORY_DYNAMIC;
-                    fixture.filter.maskBits = DEFAULT_MASK_BITS
-                            & ~WorldHandler.CATEGORY_PARTICLE;
-                    break;
-
-                case PARTICLE:
-                    fixture.filter.categoryBits = WorldHandler.CATEGORY_PARTICLE;
-                    fixture.filter.maskBits = WorldHandler.CATEGORY_STATIC
-                            | WorldHandler.CATEGORY_KINEMATIC;
-                    break;
-
-                default:
-                    throw new IllegalArgumentException(
-                            "Unbekannter BodyType (Verhalten einer Figur in der physikalischen Simulation): "
-                                    + type);
-                }
+                applyTypeFilter(fixture);
             }
         }
     }
 
+    /**
+     * Setzt die unteren Bits des Filters einer Halterung entsprechend des
+     * {@link BodyType Typs}. Die Kollisionskategorien im oberen Teil bleiben
+     * erhalten.
+     */
+    private void applyTypeFilter(Fixture fixture)
+    {
+        Filter filter = fixture.filter;
+        filter.categoryBits = WorldHandler.filterBits(type.filterCategoryBits(),
+            WorldHandler.collisionBits(filter.categoryBits));
+        filter.maskBits = WorldHandler.filterBits(type.filterMaskBits(),
+            WorldHandler.collisionBits(filter.maskBits));
+        fixture.refilter();
+    }
+
     @Override
     public BodyType bodyType()
     {
@@ -464,6 +611,50 @@ public class BodyHandler implements PhysicsHandler
         return body.isFixedRotation();
     }
 
+    @Override
+    public void collisionCategory(int category)
+    {
+        synchronized (worldHandler)
+        {
+            worldHandler.assertNoWorldStep();
+            collisionCategory = WorldHandler.checkCollisionBits(category);
+            for (Fixture fixture = body.fixtureList; fixture != null; fixture = fixture.next)
+            {
+                fixture.filter.categoryBits = WorldHandler
+                    .filterBits(fixture.filter.categoryBits, category);
+                fixture.refilter();
+            }
+        }
+    }
+
+    @Override
+    public int collisionCategory()
+    {
+        return collisionCategory;
+    }
+
+    @Override
+    public void collisionMask(int mask)
+    {
+        synchronized (worldHandler)
+        {
+            worldHandler.assertNoWorldStep();
+            collisionMask = WorldHandler.checkCollisionBits(mask);
+            for (Fixture fixture = body.fixtureList; fixture != null; fixture = fixture.next)
+            {
+                fixture.filter.maskBits = WorldHandler
+                    .filterBits(fixture.filter.maskBits, mask);
+                fixture.refilter();
+            }
+        }
+    }
+
+    @Override
+    public int collisionMask()
+    {
+        return collisionMask;
+    }
+
     @Override
     public boolean isGrounded()
     {
@@ -472,26 +663,38 @@ public class BodyHandler implements PhysicsHandler
             throw new UnsupportedOperationException(
                     "Der Steh-Test ist nur für dynamische Objekte definiert!");
         }
-        AABB bodyBounds = aabb();
+        AABB bodyBounds = cachedAABB();
         // Test-AABB: Ein Rechteckt direkt unterhalt des Körper mit einer
         // minimalen Höhe und der Breite des Körpers
-        AABB testAABB = new AABB();
         final double epsilon = 0.0001;
-        testAABB.lowerBound.set(bodyBounds.lowerBound.x,
+        groundQuery.lowerBound.set(bodyBounds.lowerBound.x,
             bodyBounds.lowerBound.y);
-        testAABB.upperBound.set(bodyBounds.upperBound.x,
+        groundQuery.upperBound.set(bodyBounds.upperBound.x,
             (float) (bodyBounds.lowerBound.y + epsilon));
-        Fixture[] groundCandidates = worldHandler.queryAABB(testAABB);
-        for (Fixture fixture : groundCandidates)
+        groundCallback.grounded = false;
+        worldHandler.queryAABB(groundQuery, groundCallback);
+        return groundCallback.grounded;
+    }
+
+    /**
+     * Sucht beim {@link #isGrounded() Steh-Test} nach einem statischen Körper
+     * und bricht die Suche beim ersten Treffer ab.
+     */
+    private static final class GroundCallback implements QueryCallback
+    {
+        boolean grounded;
+
+        @Override
+        public boolean reportFixture(Fixture fixture)
         {
-            Actor corresponding = (Actor) fixture.getBody().getUserData();
-            if (corresponding != null
+            if (fixture.getBody().getUserData() instanceof Actor corresponding
                     && corresponding.bodyType() == BodyType.STATIC)
             {
-                return true;
+                grounded = true;
+                return false;
             }
+            return true;
         }
-        return false;
     }
 
     @Override
@@ -505,8 +708,10 @@ public class BodyHandler implements PhysicsHandler
             }
             for (FixtureData fixtureData : fixtures.get())
             {
-                body.createFixture(fixtureData.createFixtureDef(physicsData()));
+                applyTypeFilter(body.createFixture(
+                    fixtureData.createFixtureDef(physicsData())));
             }
+            cachedAABBStep = -1;
         }
     }
 
@@ -517,7 +722,10 @@ public class BodyHandler implements PhysicsHandler
     @Internal
     public PhysicsData physicsData()
     {
-        return PhysicsData.fromBody(body, bodyType());
+        PhysicsData data = PhysicsData.fromBody(body, bodyType());
+        data.collisionCategory(collisionCategory);
+        data.collisionMask(collisionMask);
+        return data;
     }
 
     @Override
@@ -530,6 +738,20 @@ public class BodyHandler implements PhysicsHandler
     public List<CollisionEvent<Actor>> collisions()
     {
         List<CollisionEvent<Actor>> contacts = new ArrayList<>();
+        forEachCollision((contact, other) -> {
+            contacts.add(new CollisionEvent<>(contact, other));
+            return true;
+        });
+        return contacts;
+    }
+
+    /**
+     * @since 0.53.0
+     */
+    @Override
+    public int forEachCollision(ContactCallback callback)
+    {
+        int count = 0;
         for (ContactEdge contact = body
             .getContactList(); contact != null; contact = contact.next)
         {
@@ -537,11 +759,15 @@ public class BodyHandler implements PhysicsHandler
             // ob sie sich tatsächlich berühren.
             if (contact.contact.isTouching())
             {
-                contacts.add(new CollisionEvent<>(contact.contact,
-                        (Actor) contact.other.getUserData()));
+                count++;
+                if (!callback.reportContact(contact.contact,
+                    (Actor) contact.other.getUserData()))
+                {
+                    break;
+                }
             }
         }
-        return contacts;
+        return count;
     }
 
     @Override
@@ -156,6 +156,46 @@ public enum BodyType
         };
     }
 
+    /**
+     * Gibt die Kategorie-Bits zurück, mit denen dieser Typ im unteren Teil des
+     * JBox2D-{@link org.jbox2d.dynamics.Filter Filters} gekennzeichnet wird.
+     *
+     * @return Die Kategorie-Bits des Typs.
+     *
+     * @since 0.53.0
+     */
+    int filterCategoryBits()
+    {
+        return switch (this)
+        {
+        case SENSOR -> WorldHandler.CATEGORY_PASSIVE;
+        case STATIC -> WorldHandler.CATEGORY_STATIC;
+        case KINEMATIC -> WorldHandler.CATEGORY_KINEMATIC;
+        case DYNAMIC -> WorldHandler.CATEGORY_DYNAMIC;
+        case PARTICLE -> WorldHandler.CATEGORY_PARTICLE;
+        };
+    }
+
+    /**
+     * Gibt die Masken-Bits zurück, die festlegen, mit welchen Typen dieser Typ
+     * kollidieren kann.
+     *
+     * @return Die Masken-Bits des Typs.
+     *
+     * @since 0.53.0
+     */
+    int filterMaskBits()
+    {
+        return switch (this)
+        {
+        case SENSOR, DYNAMIC ->
+            WorldHandler.TYPE_MASK_BITS & ~WorldHandler.CATEGORY_PARTICLE;
+        case STATIC, KINEMATIC -> WorldHandler.TYPE_MASK_BITS;
+        case PARTICLE ->
+            WorldHandler.CATEGORY_STATIC | WorldHandler.CATEGORY_KINEMATIC;
+        };
+    }
+
     public boolean isSensor()
     {
         return this == SENSOR;
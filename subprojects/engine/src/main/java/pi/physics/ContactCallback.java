@@ -0,0 +1,47 @@
+/*
+ * Engine Pi ist eine anfängerorientierte 2D-Gaming Engine.
+ *
+ * Copyright (c) 2026 Josef Friedrich and contributors.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package pi.physics;
+
+import org.jbox2d.dynamics.contacts.Contact;
+
+import pi.actor.Actor;
+
+/**
+ * Wird für jeden <b>berührenden Kontakt</b> eines Körpers aufgerufen, ohne dass
+ * dabei ein {@link pi.event.CollisionEvent} oder eine Liste erzeugt wird.
+ *
+ * @see PhysicsHandler#forEachCollision(ContactCallback)
+ *
+ * @since 0.53.0
+ */
+@FunctionalInterface
+public interface ContactCallback
+{
+    /**
+     * Meldet einen berührenden Kontakt.
+     *
+     * @param contact Der Kontakt der Physics-Engine. Er ist nur während des
+     *     Aufrufs gültig.
+     * @param other Die Figur, die berührt wird.
+     *
+     * @return {@code true}, um mit dem nächsten Kontakt fortzufahren,
+     *     {@code false}, um die Suche abzubrechen.
+     */
+    boolean reportContact(Contact contact, Actor other);
+}
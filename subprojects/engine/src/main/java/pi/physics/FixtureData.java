@@ -51,6 +51,14 @@ public class FixtureData
 
     private Shape shape;
 
+    private int collisionCategory = WorldHandler.DEFAULT_COLLISION_CATEGORY;
+
+    private boolean isCollisionCategorySet = false;
+
+    private int collisionMask = WorldHandler.ALL_COLLISION_CATEGORIES;
+
+    private boolean isCollisionMaskSet = false;
+
     public double getDensity()
     {
         return density;
@@ -84,6 +92,52 @@ public class FixtureData
         this.restitution = restitution;
     }
 
+    /**
+     * @since 0.53.0
+     */
+    public int getCollisionCategory()
+    {
+        return collisionCategory;
+    }
+
+    /**
+     * Legt die Kollisionskategorien dieser Halterung fest. Ohne Angabe gelten
+     * die {@link pi.actor.Actor#collisionCategory(int) Kategorien der Figur}.
+     *
+     * @param collisionCategory Die Bits der Kollisionskategorien.
+     *
+     * @since 0.53.0
+     */
+    public void setCollisionCategory(int collisionCategory)
+    {
+        isCollisionCategorySet = true;
+        this.collisionCategory = WorldHandler
+            .checkCollisionBits(collisionCategory);
+    }
+
+    /**
+     * @since 0.53.0
+     */
+    public int getCollisionMask()
+    {
+        return collisionMask;
+    }
+
+    /**
+     * Legt die Kollisionsmaske dieser Halterung fest. Ohne Angabe gilt die
+     * {@link pi.actor.Actor#collisionMask(int) Maske der Figur}.
+     *
+     * @param collisionMask Die Bits der Kollisionskategorien, mit denen die
+     *     Halterung kollidiert.
+     *
+     * @since 0.53.0
+     */
+    public void setCollisionMask(int collisionMask)
+    {
+        isCollisionMaskSet = true;
+        this.collisionMask = WorldHandler.checkCollisionBits(collisionMask);
+    }
+
     public Shape getShape()
     {
         return shape;
@@ -155,7 +209,15 @@ public class FixtureData
         def.restitution = (float) (isRestitutionSet ? restitution
                 : parent.globalRestitution());
         def.isSensor = isSensorSet ? isSensor : parent.bodyType().isSensor();
-        def.filter = filter;
+        BodyType type = parent.bodyType();
+        def.filter = new Filter();
+        def.filter.groupIndex = filter.groupIndex;
+        def.filter.categoryBits = WorldHandler.filterBits(
+            type.filterCategoryBits(),
+            isCollisionCategorySet ? collisionCategory
+                    : parent.collisionCategory());
+        def.filter.maskBits = WorldHandler.filterBits(type.filterMaskBits(),
+            isCollisionMaskSet ? collisionMask : parent.collisionMask());
         def.shape = shape;
         return def;
     }
@@ -177,10 +239,13 @@ public class FixtureData
         FixtureData data = new FixtureData(fixture.shape);
         data.setRestitution(fixture.restitution);
         data.setDensity(fixture.density);
-        data.setFriction(fixture.density);
+        data.setFriction(fixture.friction);
         data.setSensor(fixture.isSensor);
-        data.filter = fixture.filter; // TODO: Adapt Filter Line once Filter
-                                      // is implemented
+        data.filter = fixture.filter;
+        data.setCollisionCategory(
+            WorldHandler.collisionBits(fixture.filter.categoryBits));
+        data.setCollisionMask(
+            WorldHandler.collisionBits(fixture.filter.maskBits));
         return data;
     }
 }
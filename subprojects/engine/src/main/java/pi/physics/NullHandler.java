@@ -349,6 +349,33 @@ public class NullHandler implements PhysicsHandler
         return this.physicsData.isRotationLocked();
     }
 
+    @Override
+    @Setter
+    public void collisionCategory(int category)
+    {
+        physicsData
+            .collisionCategory(WorldHandler.checkCollisionBits(category));
+    }
+
+    @Override
+    public int collisionCategory()
+    {
+        return physicsData.collisionCategory();
+    }
+
+    @Override
+    @Setter
+    public void collisionMask(int mask)
+    {
+        physicsData.collisionMask(WorldHandler.checkCollisionBits(mask));
+    }
+
+    @Override
+    public int collisionMask()
+    {
+        return physicsData.collisionMask();
+    }
+
     @Override
     public boolean isGrounded()
     {
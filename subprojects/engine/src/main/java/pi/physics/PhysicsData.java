@@ -82,6 +82,10 @@ public class PhysicsData
 
     private BodyType type = DEFAULT_BODY_TYPE;
 
+    private int collisionCategory = WorldHandler.DEFAULT_COLLISION_CATEGORY;
+
+    private int collisionMask = WorldHandler.ALL_COLLISION_CATEGORIES;
+
     private Supplier<List<FixtureData>> fixtures;
 
     /**
@@ -138,6 +142,10 @@ public class PhysicsData
             data.globalDensity(body.fixtureList.density);
             data.globalFriction(body.fixtureList.friction);
             data.globalRestitution(body.fixtureList.restitution);
+            data.collisionCategory(WorldHandler
+                .collisionBits(body.fixtureList.filter.categoryBits));
+            data.collisionMask(
+                WorldHandler.collisionBits(body.fixtureList.filter.maskBits));
         }
 
         data.rotationLocked(body.isFixedRotation());
@@ -257,6 +265,42 @@ public class PhysicsData
         return rotationLocked;
     }
 
+    /**
+     * @since 0.53.0
+     */
+    @Getter
+    public int collisionCategory()
+    {
+        return collisionCategory;
+    }
+
+    /**
+     * @since 0.53.0
+     */
+    @Setter
+    public void collisionCategory(int collisionCategory)
+    {
+        this.collisionCategory = collisionCategory;
+    }
+
+    /**
+     * @since 0.53.0
+     */
+    @Getter
+    public int collisionMask()
+    {
+        return collisionMask;
+    }
+
+    /**
+     * @since 0.53.0
+     */
+    @Setter
+    public void collisionMask(int collisionMask)
+    {
+        this.collisionMask = collisionMask;
+    }
+
     @Setter
     public void rotationLocked(boolean rotationLocked)
     {
@@ -24,6 +24,7 @@ import java.util.List;
 import java.util.function.Supplier;
 
 import org.jbox2d.collision.AABB;
+import org.jbox2d.common.Vec2;
 import org.jbox2d.dynamics.Body;
 import pi.actor.Actor;
 import pi.annotations.Internal;
@@ -66,6 +67,31 @@ public interface PhysicsHandler
 
     AABB aabb();
 
+    /**
+     * Schreibt den achsenparallelen Begrenzungsrahmen (AABB) des Ziel-Objekts
+     * in ein vorhandenes {@link AABB}-Objekt, ohne ein neues zu erzeugen.
+     *
+     * @param result Das Objekt, in das der Begrenzungsrahmen geschrieben wird.
+     *
+     * @return Das übergebene Objekt oder {@code null}, falls das Ziel-Objekt
+     *     keine Umrisse hat.
+     *
+     * @since 0.53.0
+     *
+     * @hidden
+     */
+    @Internal
+    default AABB aabb(AABB result)
+    {
+        AABB aabb = aabb();
+        if (aabb == null)
+        {
+            return null;
+        }
+        result.set(aabb);
+        return result;
+    }
+
     /**
      * Gibt den <b>Gewichtsmittelpunkt</b> dieses {@link Actor}-Objekts aus.
      *
@@ -77,6 +103,25 @@ public interface PhysicsHandler
     @Internal
     Vector center();
 
+    /**
+     * Schreibt den <b>Gewichtsmittelpunkt</b> des Ziel-Objekts in einen
+     * vorhandenen Vektor, ohne einen neuen zu erzeugen.
+     *
+     * @param result Der Vektor, in den der Mittelpunkt geschrieben wird.
+     *
+     * @return Der übergebene Vektor.
+     *
+     * @since 0.53.0
+     *
+     * @hidden
+     */
+    @Internal
+    default Vec2 center(Vec2 result)
+    {
+        Vector center = center();
+        return result.set((float) center.x(), (float) center.y());
+    }
+
     /**
      * Gibt an, ob ein bestimmter Punkt auf der Zeichenebene innerhalb des
      * Ziel-Objekts liegt.
@@ -105,6 +150,25 @@ public interface PhysicsHandler
     @Internal
     Vector anchor();
 
+    /**
+     * Schreibt die aktuelle <b>Anker</b>-Position des Ziel-Objekts in einen
+     * vorhandenen Vektor, ohne einen neuen zu erzeugen.
+     *
+     * @param result Der Vektor, in den die Anker-Position geschrieben wird.
+     *
+     * @return Der übergebene Vektor.
+     *
+     * @since 0.53.0
+     *
+     * @hidden
+     */
+    @Internal
+    default Vec2 anchor(Vec2 result)
+    {
+        Vector anchor = anchor();
+        return result.set((float) anchor.x(), (float) anchor.y());
+    }
+
     /**
      * Gibt die aktuelle Rotation des Ziel-Objekts in <i>Grad</i> an. Bei
      * Erstellung eines {@link Actor}-Objekts ist seine Rotation stets 0.
@@ -116,6 +180,52 @@ public interface PhysicsHandler
     @Internal
     double rotation();
 
+    /**
+     * Gibt die <b>Anker</b>-Position des Ziel-Objekts an, an der es gezeichnet
+     * werden soll.
+     *
+     * <p>
+     * Läuft die Simulation mit fester Schrittweite, wird die Position zwischen
+     * den letzten beiden Simulationsschritten interpoliert. Ansonsten
+     * entspricht sie der {@link #anchor() aktuellen Anker-Position}.
+     * </p>
+     *
+     * @return Die <b>Anker</b>-Position, an der das Ziel-Objekt gezeichnet
+     *     werden soll.
+     *
+     * @since 0.53.0
+     *
+     * @hidden
+     */
+    @Internal
+    default Vector renderAnchor()
+    {
+        return anchor();
+    }
+
+    /**
+     * Gibt die Rotation des Ziel-Objekts in <i>Grad</i> an, mit der es
+     * gezeichnet werden soll.
+     *
+     * <p>
+     * Läuft die Simulation mit fester Schrittweite, wird die Rotation zwischen
+     * den letzten beiden Simulationsschritten interpoliert. Ansonsten
+     * entspricht sie der {@link #rotation() aktuellen Rotation}.
+     * </p>
+     *
+     * @return Die Rotation in <i>Grad</i>, mit der das Ziel-Objekt gezeichnet
+     *     werden soll.
+     *
+     * @since 0.53.0
+     *
+     * @hidden
+     */
+    @Internal
+    default double renderRotation()
+    {
+        return rotation();
+    }
+
     /**
      * Rotiert das Ziel-Objekt um einen festen Winkel.
      *
@@ -378,6 +488,50 @@ public interface PhysicsHandler
     @Internal
     boolean isRotationLocked();
 
+    /**
+     * Setzt die Kollisionskategorien aller Halterungen.
+     *
+     * @param category Die Bits der Kollisionskategorien.
+     *
+     * @since 0.53.0
+     *
+     * @hidden
+     */
+    @Internal
+    void collisionCategory(int category);
+
+    /**
+     * @return Die Bits der Kollisionskategorien.
+     *
+     * @since 0.53.0
+     *
+     * @hidden
+     */
+    @Internal
+    int collisionCategory();
+
+    /**
+     * Setzt die Kollisionsmaske aller Halterungen.
+     *
+     * @param mask Die Bits der Kollisionskategorien, mit denen kollidiert wird.
+     *
+     * @since 0.53.0
+     *
+     * @hidden
+     */
+    @Internal
+    void collisionMask(int mask);
+
+    /**
+     * @return Die Bits der Kollisionskategorien, mit denen kollidiert wird.
+     *
+     * @since 0.53.0
+     *
+     * @hidden
+     */
+    @Internal
+    int collisionMask();
+
     /**
      * Testet, ob das Objekt unter sich festen Boden hat. Dies ist der Fall,
      * wenn direkt unter dem Objekt ein passives Objekt liegt.<br>
@@ -421,6 +575,24 @@ public interface PhysicsHandler
 
     List<CollisionEvent<Actor>> collisions();
 
+    /**
+     * Ruft für jeden <b>berührenden Kontakt</b> des Ziel-Objekts den
+     * angegebenen Beobachter auf, ohne Objekte zu erzeugen.
+     *
+     * @param callback Der Beobachter, der für jeden Kontakt aufgerufen wird.
+     *
+     * @return Die Anzahl an gemeldeten Kontakten.
+     *
+     * @since 0.53.0
+     *
+     * @hidden
+     */
+    @Internal
+    default int forEachCollision(ContactCallback callback)
+    {
+        return 0;
+    }
+
     /**
      * Legt den Schlafzustand des Körpers fest. Ein schlafender Körper hat sehr
      * geringe CPU-Kosten.
@@ -0,0 +1,233 @@
+/*
+ * Engine Pi ist eine anfängerorientierte 2D-Gaming Engine.
+ *
+ * Copyright (c) 2026 Josef Friedrich and contributors.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package pi.physics;
+
+import java.nio.ByteBuffer;
+
+import org.jbox2d.dynamics.WorldSnapshot;
+
+import pi.Layer;
+import pi.annotations.API;
+import pi.annotations.Getter;
+import pi.annotations.Internal;
+
+/**
+ * Ein <b>Verlauf</b> der Physik einer Ebene, mit dem sie um einige
+ * Simulationsschritte <b>zurückgespult</b> werden kann, z.B. für ein Rollback
+ * im Netzwerkspiel, zur Fehlersuche oder für eine Wiederholung.
+ *
+ * <p>
+ * Nach jedem Simulationsschritt wird der Zustand der Physics-Welt als
+ * {@link WorldSnapshot} erfasst. Vollständig gespeichert wird nur der neueste
+ * Zustand. Für jeden älteren Schritt wird nur der XOR-Unterschied zum
+ * nächstneueren Zustand abgelegt, in dem unveränderte Bereiche übersprungen
+ * werden. Ruhende und statische Körper kosten daher fast keinen Speicher, und
+ * ein Verlauf über zehn Sekunden ist nur ein Bruchteil so groß wie 600
+ * vollständige Zustände. Sind die Puffer groß genug, werden keine neuen Objekte
+ * mehr erzeugt.
+ * </p>
+ *
+ * <p>
+ * Wird eine Figur mit Körper hinzugefügt oder entfernt, ändert sich der Aufbau
+ * der Welt. Der Verlauf beginnt dann von vorn, da ältere Zustände nicht mehr in
+ * die Welt zurückgeschrieben werden können.
+ * </p>
+ *
+ * @see Layer#recordPhysicsHistory(double)
+ *
+ * @since 0.53.0
+ */
+public final class PhysicsHistory
+{
+    private final WorldHandler worldHandler;
+
+    /**
+     * Die Unterschiede zwischen aufeinanderfolgenden Zuständen als Ringpuffer.
+     * Ein Unterschied verwandelt den neueren in den älteren Zustand.
+     */
+    private final ByteBuffer[] deltas;
+
+    /**
+     * Die Längen der Unterschiede in Byte.
+     */
+    private final int[] deltaLengths;
+
+    /**
+     * Der Index des neuesten Unterschieds im Ringpuffer.
+     */
+    private int newest = -1;
+
+    /**
+     * Die Anzahl der gespeicherten Unterschiede.
+     */
+    private int size = 0;
+
+    /**
+     * Der zuletzt erfasste Zustand.
+     */
+    private WorldSnapshot latest = new WorldSnapshot();
+
+    /**
+     * Gibt an, ob {@link #latest} einen erfassten Zustand enthält.
+     */
+    private boolean recorded = false;
+
+    private WorldSnapshot captured = new WorldSnapshot();
+
+    /**
+     * Erzeugt einen leeren Verlauf.
+     *
+     * @param worldHandler Die Physics-Welt, deren Zustände erfasst werden.
+     * @param steps Die Anzahl an Simulationsschritten, um die höchstens
+     *     zurückgespult werden kann.
+     */
+    PhysicsHistory(WorldHandler worldHandler, int steps)
+    {
+        if (steps < 1)
+        {
+            throw new IllegalArgumentException(
+                    "Die Anzahl an Simulationsschritten muss größer als 0 sein, war "
+                            + steps);
+        }
+        this.worldHandler = worldHandler;
+        deltas = new ByteBuffer[steps];
+        deltaLengths = new int[steps];
+    }
+
+    /**
+     * Gibt die <b>Anzahl an Simulationsschritten</b> zurück, um die höchstens
+     * zurückgespult werden kann.
+     *
+     * @return Die Kapazität des Verlaufs in Simulationsschritten.
+     */
+    @API
+    @Getter
+    public int capacity()
+    {
+        return deltas.length;
+    }
+
+    /**
+     * Gibt die <b>Anzahl an Simulationsschritten</b> zurück, um die zurzeit
+     * zurückgespult werden kann.
+     *
+     * @return Die Anzahl an gespeicherten Simulationsschritten.
+     */
+    @API
+    @Getter
+    public int size()
+    {
+        return size;
+    }
+
+    /**
+     * Gibt den <b>Speicherbedarf</b> der gespeicherten Zustände in Byte zurück.
+     *
+     * @return Die Größe des neuesten Zustands und aller Unterschiede in Byte.
+     */
+    @API
+    @Getter
+    public long memoryUsage()
+    {
+        long bytes = recorded ? latest.getSize() : 0;
+        for (int i = 0; i < size; i++)
+        {
+            bytes += deltaLengths[(newest - i + deltas.length) % deltas.length];
+        }
+        return bytes;
+    }
+
+    /**
+     * Erfasst den Zustand der Welt nach einem Simulationsschritt.
+     *
+     * @hidden
+     */
+    @Internal
+    public void record()
+    {
+        WorldSnapshot previous = latest;
+        captured.capture(worldHandler.world());
+        if (recorded && captured.hasSameStructure(previous))
+        {
+            int slot = (newest + 1) % deltas.length;
+            int maxLength = captured.getMaxDeltaSize(previous);
+            ByteBuffer delta = deltas[slot];
+            if (delta == null || delta.capacity() < maxLength)
+            {
+                delta = ByteBuffer.allocate(maxLength + maxLength / 2);
+                deltas[slot] = delta;
+            }
+            delta.clear();
+            deltaLengths[slot] = captured.encodeDelta(previous, delta);
+            newest = slot;
+            size = Math.min(size + 1, deltas.length);
+        }
+        else
+        {
+            size = 0;
+        }
+        latest = captured;
+        captured = previous;
+        recorded = true;
+    }
+
+    /**
+     * <b>Spult</b> die Physik um die angegebene Anzahl an Simulationsschritten
+     * <b>zurück</b>. Die übersprungenen neueren Zustände werden verworfen.
+     *
+     * @param steps Die Anzahl an Simulationsschritten, höchstens
+     *     {@link #size()}.
+     */
+    @API
+    public void rewind(int steps)
+    {
+        if (steps < 0 || steps > size)
+        {
+            throw new IllegalArgumentException("Es kann nur um 0 bis " + size
+                    + " Simulationsschritte zurückgespult werden, nicht um "
+                    + steps);
+        }
+        synchronized (worldHandler)
+        {
+            for (int i = 0; i < steps; i++)
+            {
+                ByteBuffer delta = deltas[newest];
+                delta.clear();
+                delta.limit(deltaLengths[newest]);
+                latest.applyDelta(delta);
+                newest = (newest - 1 + deltas.length) % deltas.length;
+                size--;
+            }
+            if (recorded)
+            {
+                worldHandler.restoreSnapshot(latest);
+            }
+        }
+    }
+
+    /**
+     * <b>Verwirft</b> alle gespeicherten Zustände.
+     */
+    @API
+    public void clear()
+    {
+        size = 0;
+        recorded = false;
+    }
+}
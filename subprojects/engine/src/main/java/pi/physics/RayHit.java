@@ -0,0 +1,145 @@
+/*
+ * Engine Pi ist eine anfängerorientierte 2D-Gaming Engine.
+ *
+ * Copyright (c) 2026 Josef Friedrich and contributors.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package pi.physics;
+
+import pi.actor.Actor;
+import pi.annotations.API;
+import pi.annotations.Getter;
+
+/**
+ * Der <b>Treffer</b> eines Strahlentests, der für viele Tests wiederverwendet
+ * werden kann.
+ *
+ * @see SpatialQuery#raycast(double, double, double, double, ActorFilter,
+ *     RayHit)
+ *
+ * @since 0.53.0
+ */
+public final class RayHit
+{
+    private Actor actor;
+
+    private double x;
+
+    private double y;
+
+    private double normalX;
+
+    private double normalY;
+
+    private double fraction;
+
+    /**
+     * Erzeugt einen leeren Treffer.
+     */
+    @API
+    public RayHit()
+    {
+    }
+
+    /**
+     * Übernimmt die Werte eines Treffers.
+     */
+    void set(Actor actor, double x, double y, double normalX, double normalY,
+            double fraction)
+    {
+        this.actor = actor;
+        this.x = x;
+        this.y = y;
+        this.normalX = normalX;
+        this.normalY = normalY;
+        this.fraction = fraction;
+    }
+
+    /**
+     * Gibt die getroffene <b>Figur</b> zurück.
+     *
+     * @return Die getroffene Figur oder {@code null}, falls der Strahl keine
+     *     Figur getroffen hat.
+     */
+    @API
+    @Getter
+    public Actor actor()
+    {
+        return actor;
+    }
+
+    /**
+     * Gibt die <b>x-Koordinate</b> des Trefferpunkts in Meter zurück.
+     *
+     * @return Die x-Koordinate des Trefferpunkts.
+     */
+    @API
+    @Getter
+    public double x()
+    {
+        return x;
+    }
+
+    /**
+     * Gibt die <b>y-Koordinate</b> des Trefferpunkts in Meter zurück.
+     *
+     * @return Die y-Koordinate des Trefferpunkts.
+     */
+    @API
+    @Getter
+    public double y()
+    {
+        return y;
+    }
+
+    /**
+     * Gibt die x-Komponente der <b>Normalen</b> der getroffenen Oberfläche
+     * zurück.
+     *
+     * @return Die x-Komponente der Normalen.
+     */
+    @API
+    @Getter
+    public double normalX()
+    {
+        return normalX;
+    }
+
+    /**
+     * Gibt die y-Komponente der <b>Normalen</b> der getroffenen Oberfläche
+     * zurück.
+     *
+     * @return Die y-Komponente der Normalen.
+     */
+    @API
+    @Getter
+    public double normalY()
+    {
+        return normalY;
+    }
+
+    /**
+     * Gibt den <b>Anteil</b> der Strahlenlänge bis zum Trefferpunkt zurück.
+     *
+     * @return Ein Wert zwischen {@code 0} (Startpunkt) und {@code 1}
+     *     (Endpunkt).
+     */
+    @API
+    @Getter
+    public double fraction()
+    {
+        return fraction;
+    }
+}
@@ -0,0 +1,418 @@
+/*
+ * Engine Pi ist eine anfängerorientierte 2D-Gaming Engine.
+ *
+ * Copyright (c) 2026 Josef Friedrich and contributors.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package pi.physics;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Berechnet die <b>Vereinigung achsenparalleler Rechtecke</b> und gibt ihre
+ * Umrisse als geschlossene Linienzüge zurück.
+ *
+ * <p>
+ * Die Kanten der Rechtecke teilen die Ebene in ein unregelmäßiges Gitter. Jede
+ * Zelle des Gitters gehört zum ersten Rechteck, das sie überdeckt. Die Umrisse
+ * verlaufen entlang der Grenzen zwischen belegten und freien Zellen. Gerade
+ * Abschnitte werden zu einer Kante zusammengefasst, die sich merkt, welches
+ * Rechteck an welcher Stelle an sie grenzt.
+ * </p>
+ *
+ * @since 0.53.0
+ */
+final class RectangleUnion
+{
+    /**
+     * Koordinaten, die näher als dieser Abstand beieinander liegen, werden als
+     * gleich angesehen.
+     */
+    static final float EPSILON = 1e-4f;
+
+    private static final int RIGHT = 0;
+
+    private static final int UP = 1;
+
+    private float[] rectangles = new float[64];
+
+    private int[] owners = new int[16];
+
+    private int count = 0;
+
+    /**
+     * Fügt ein Rechteck hinzu.
+     *
+     * @param minX Die x-Koordinate der linken Kante.
+     * @param minY Die y-Koordinate der unteren Kante.
+     * @param maxX Die x-Koordinate der rechten Kante.
+     * @param maxY Die y-Koordinate der oberen Kante.
+     * @param owner Die Nummer des Besitzers, der in den Kanten der Umrisse
+     *     vermerkt wird.
+     */
+    void add(float minX, float minY, float maxX, float maxY, int owner)
+    {
+        if (count == owners.length)
+        {
+            owners = Arrays.copyOf(owners, count * 2);
+            rectangles = Arrays.copyOf(rectangles, count * 8);
+        }
+        rectangles[4 * count] = minX;
+        rectangles[4 * count + 1] = minY;
+        rectangles[4 * count + 2] = maxX;
+        rectangles[4 * count + 3] = maxY;
+        owners[count++] = owner;
+    }
+
+    /**
+     * Gibt die Anzahl der hinzugefügten Rechtecke zurück.
+     *
+     * @return Die Anzahl der Rechtecke.
+     */
+    int size()
+    {
+        return count;
+    }
+
+    /**
+     * Berechnet die Umrisse aller hinzugefügten Rechtecke.
+     *
+     * @return Die geschlossenen Umrisse. Außenränder laufen gegen, Ränder von
+     *     Löchern im Uhrzeigersinn.
+     */
+    List<Outline> outlines()
+    {
+        List<Outline> outlines = new ArrayList<>();
+        if (count == 0)
+        {
+            return outlines;
+        }
+        float[] xs = coordinates(0);
+        float[] ys = coordinates(1);
+        int columns = xs.length - 1;
+        int rows = ys.length - 1;
+        int[] cells = new int[columns * rows];
+        Arrays.fill(cells, -1);
+        for (int r = 0; r < count; r++)
+        {
+            int x0 = index(xs, rectangles[4 * r]);
+            int y0 = index(ys, rectangles[4 * r + 1]);
+            int x1 = index(xs, rectangles[4 * r + 2]);
+            int y1 = index(ys, rectangles[4 * r + 3]);
+            for (int y = y0; y < y1; y++)
+            {
+                for (int x = x0; x < x1; x++)
+                {
+                    if (cells[y * columns + x] < 0)
+                    {
+                        cells[y * columns + x] = owners[r];
+                    }
+                }
+            }
+        }
+        Edges edges = new Edges((columns + 1) * (rows + 1));
+        int stride = columns + 1;
+        // Waagrechte Grenzen: Die belegte Zelle liegt immer links der
+        // Laufrichtung.
+        for (int y = 0; y <= rows; y++)
+        {
+            for (int x = 0; x < columns; x++)
+            {
+                int below = y > 0 ? cells[(y - 1) * columns + x] : -1;
+                int above = y < rows ? cells[y * columns + x] : -1;
+                if (above >= 0 && below < 0)
+                {
+                    edges.add(y * stride + x, y * stride + x + 1, RIGHT, above);
+                }
+                else if (below >= 0 && above < 0)
+                {
+                    edges.add(y * stride + x + 1,
+                        y * stride + x,
+                        RIGHT + 2,
+                        below);
+                }
+            }
+        }
+        // Senkrechte Grenzen
+        for (int x = 0; x <= columns; x++)
+        {
+            for (int y = 0; y < rows; y++)
+            {
+                int left = x > 0 ? cells[y * columns + x - 1] : -1;
+                int right = x < columns ? cells[y * columns + x] : -1;
+                if (left >= 0 && right < 0)
+                {
+                    edges.add(y * stride + x, (y + 1) * stride + x, UP, left);
+                }
+                else if (right >= 0 && left < 0)
+                {
+                    edges.add((y + 1) * stride + x,
+                        y * stride + x,
+                        UP + 2,
+                        right);
+                }
+            }
+        }
+        boolean[] used = new boolean[edges.size];
+        int[] loop = new int[edges.size];
+        for (int start = 0; start < edges.size; start++)
+        {
+            if (used[start])
+            {
+                continue;
+            }
+            int length = 0;
+            int edge = start;
+            do
+            {
+                used[edge] = true;
+                loop[length++] = edge;
+                edge = edges.next(edge);
+            }
+            while (edge != start);
+            outlines.add(outline(edges, loop, length, xs, ys, stride));
+        }
+        return outlines;
+    }
+
+    /**
+     * Fasst die Einheitskanten eines geschlossenen Umrisses zu geraden Kanten
+     * zusammen.
+     */
+    private static Outline outline(Edges edges, int[] loop, int length,
+            float[] xs, float[] ys, int stride)
+    {
+        // Beginnt an einer Ecke, damit keine gerade Kante geteilt wird.
+        int first = 0;
+        while (edges.direction[loop[first]] == edges.direction[loop[(first
+                + length - 1) % length]])
+        {
+            first++;
+        }
+        float[] vertices = new float[2 * length];
+        int[] edgeSegments = new int[length + 1];
+        float[] segmentFrom = new float[length];
+        float[] segmentTo = new float[length];
+        int[] segmentOwners = new int[length];
+        int vertexCount = 0;
+        int segmentCount = 0;
+        int previousDirection = -1;
+        for (int i = 0; i < length; i++)
+        {
+            int edge = loop[(first + i) % length];
+            int direction = edges.direction[edge];
+            int from = edges.from[edge];
+            int to = edges.to[edge];
+            boolean horizontal = direction % 2 == RIGHT;
+            float a = horizontal ? xs[from % stride] : ys[from / stride];
+            float b = horizontal ? xs[to % stride] : ys[to / stride];
+            if (direction != previousDirection)
+            {
+                vertices[2 * vertexCount] = xs[from % stride];
+                vertices[2 * vertexCount + 1] = ys[from / stride];
+                edgeSegments[vertexCount++] = segmentCount;
+                previousDirection = direction;
+            }
+            else if (segmentOwners[segmentCount - 1] == edges.owner[edge])
+            {
+                // Gleicher Besitzer: Der vorherige Abschnitt wird verlängert.
+                segmentFrom[segmentCount - 1] = Math
+                    .min(segmentFrom[segmentCount - 1], Math.min(a, b));
+                segmentTo[segmentCount - 1] = Math
+                    .max(segmentTo[segmentCount - 1], Math.max(a, b));
+                continue;
+            }
+            segmentFrom[segmentCount] = Math.min(a, b);
+            segmentTo[segmentCount] = Math.max(a, b);
+            segmentOwners[segmentCount++] = edges.owner[edge];
+        }
+        edgeSegments[vertexCount] = segmentCount;
+        return new Outline(Arrays.copyOf(vertices, 2 * vertexCount),
+                Arrays.copyOf(edgeSegments, vertexCount + 1),
+                Arrays.copyOf(segmentFrom, segmentCount),
+                Arrays.copyOf(segmentTo, segmentCount),
+                Arrays.copyOf(segmentOwners, segmentCount));
+    }
+
+    /**
+     * Sammelt die x- ({@code axis = 0}) oder y-Koordinaten ({@code axis = 1})
+     * aller Rechtecke sortiert und ohne nahe beieinander liegende Werte.
+     */
+    private float[] coordinates(int axis)
+    {
+        float[] values = new float[2 * count];
+        for (int r = 0; r < count; r++)
+        {
+            values[2 * r] = rectangles[4 * r + axis];
+            values[2 * r + 1] = rectangles[4 * r + 2 + axis];
+        }
+        Arrays.sort(values);
+        int unique = 0;
+        for (float value : values)
+        {
+            if (unique == 0 || value - values[unique - 1] > EPSILON)
+            {
+                values[unique++] = value;
+            }
+        }
+        return Arrays.copyOf(values, unique);
+    }
+
+    /**
+     * Sucht den Index der Koordinate, die dem Wert am nächsten liegt.
+     */
+    private static int index(float[] values, float value)
+    {
+        int index = Arrays.binarySearch(values, value);
+        if (index >= 0)
+        {
+            return index;
+        }
+        int insertion = -index - 1;
+        if (insertion == values.length || insertion > 0
+                && value - values[insertion - 1] < values[insertion] - value)
+        {
+            return insertion - 1;
+        }
+        return insertion;
+    }
+
+    /**
+     * Die gerichteten Einheitskanten zwischen belegten und freien Zellen. Von
+     * jedem Gitterpunkt gehen höchstens zwei Kanten aus.
+     */
+    private static final class Edges
+    {
+        private int[] from = new int[64];
+
+        private int[] to = new int[64];
+
+        private int[] direction = new int[64];
+
+        private int[] owner = new int[64];
+
+        private int size = 0;
+
+        private final int[] firstOut;
+
+        private final int[] secondOut;
+
+        private Edges(int vertices)
+        {
+            firstOut = new int[vertices];
+            secondOut = new int[vertices];
+            Arrays.fill(firstOut, -1);
+            Arrays.fill(secondOut, -1);
+        }
+
+        private void add(int from, int to, int direction, int owner)
+        {
+            if (size == this.from.length)
+            {
+                this.from = Arrays.copyOf(this.from, size * 2);
+                this.to = Arrays.copyOf(this.to, size * 2);
+                this.direction = Arrays.copyOf(this.direction, size * 2);
+                this.owner = Arrays.copyOf(this.owner, size * 2);
+            }
+            this.from[size] = from;
+            this.to[size] = to;
+            this.direction[size] = direction;
+            this.owner[size] = owner;
+            if (firstOut[from] < 0)
+            {
+                firstOut[from] = size;
+            }
+            else
+            {
+                secondOut[from] = size;
+            }
+            size++;
+        }
+
+        /**
+         * Gibt die Folgekante zurück. Berühren sich zwei Flächen nur in einem
+         * Punkt, gehen von ihm zwei Kanten aus. Dann wird nach links abgebogen,
+         * damit die Umrisse der Flächen getrennt bleiben.
+         */
+        private int next(int edge)
+        {
+            int vertex = to[edge];
+            int a = firstOut[vertex];
+            int b = secondOut[vertex];
+            if (b >= 0 && direction[b] == (direction[edge] + 1) % 4)
+            {
+                return b;
+            }
+            return a;
+        }
+    }
+
+    /**
+     * Ein geschlossener Umriss.
+     *
+     * @param vertices Die Eckpunkte als abwechselnde x- und y-Koordinaten. Die
+     *     Kante {@code i} verläuft vom Eckpunkt {@code i} zum Eckpunkt
+     *     {@code i + 1}, die letzte Kante zurück zum ersten Eckpunkt.
+     * @param edgeSegments Der Index des ersten Abschnitts jeder Kante. Der
+     *     letzte Eintrag ist die Anzahl aller Abschnitte.
+     * @param segmentFrom Der Beginn jedes Abschnitts entlang seiner Kante, also
+     *     die kleinere x-Koordinate bei waagrechten und die kleinere
+     *     y-Koordinate bei senkrechten Kanten.
+     * @param segmentTo Das Ende jedes Abschnitts entlang seiner Kante.
+     * @param segmentOwners Der Besitzer jedes Abschnitts.
+     */
+    record Outline(float[] vertices, int[] edgeSegments, float[] segmentFrom,
+            float[] segmentTo, int[] segmentOwners)
+    {
+        /**
+         * Gibt die Anzahl der Eckpunkte und damit auch der Kanten zurück.
+         */
+        int vertexCount()
+        {
+            return vertices.length / 2;
+        }
+
+        /**
+         * Gibt den Besitzer des Abschnitts einer Kante zurück, der dem Punkt am
+         * nächsten liegt.
+         *
+         * @param edge Der Index der Kante.
+         * @param x Die x-Koordinate des Punkts.
+         * @param y Die y-Koordinate des Punkts.
+         */
+        int owner(int edge, float x, float y)
+        {
+            int next = (edge + 1) % vertexCount();
+            boolean horizontal = vertices[2 * edge + 1] == vertices[2 * next
+                    + 1];
+            float position = horizontal ? x : y;
+            int nearest = edgeSegments[edge];
+            float nearestDistance = Float.MAX_VALUE;
+            for (int i = edgeSegments[edge]; i < edgeSegments[edge + 1]; i++)
+            {
+                float distance = Math.max(segmentFrom[i] - position,
+                    position - segmentTo[i]);
+                if (distance < nearestDistance)
+                {
+                    nearest = i;
+                    nearestDistance = distance;
+                }
+            }
+            return segmentOwners[nearest];
+        }
+    }
+}
@@ -0,0 +1,656 @@
+/*
+ * Engine Pi ist eine anfängerorientierte 2D-Gaming Engine.
+ *
+ * Copyright (c) 2026 Josef Friedrich and contributors.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package pi.physics;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.jbox2d.callbacks.QueryCallback;
+import org.jbox2d.callbacks.RayCastCallback;
+import org.jbox2d.collision.AABB;
+import org.jbox2d.common.Vec2;
+import org.jbox2d.dynamics.Body;
+import org.jbox2d.dynamics.Fixture;
+
+import pi.Layer;
+import pi.actor.Actor;
+import pi.annotations.API;
+import pi.annotations.Internal;
+
+/**
+ * <b>Räumliche Abfragen</b> nach den {@link Actor Figuren} einer {@link Layer
+ * Ebene}: in einem Rechteck, in einem Umkreis, entlang eines Strahls und die
+ * nächstgelegenen Figuren.
+ *
+ * <p>
+ * Figuren mit Halterungen (Fixtures) werden über den Suchbaum der Broadphase
+ * der Physics-Engine gefunden, sodass nicht alle Figuren der Ebene durchlaufen
+ * werden müssen. Figuren ohne Halterungen oder mit inaktivem Körper sind nicht
+ * im Suchbaum verzeichnet. Sie werden in einer eigenen Liste geführt, die
+ * höchstens einmal pro Simulationsschritt und nach dem Hinzufügen oder
+ * Entfernen von Figuren erneuert wird, und gelten als Punkt in ihrem
+ * Mittelpunkt.
+ * </p>
+ *
+ * <p>
+ * Die Ergebnisse werden an eine übergebene Liste angehängt. Während einer
+ * Abfrage werden keine neuen Objekte erzeugt. Die Abfragen sind für den Thread
+ * der Ereignisschleife gedacht, z.B. in einem {@link pi.event.FrameListener}.
+ * </p>
+ *
+ * @see Layer#actorsInArea(double, double, double, double, ActorFilter, List)
+ *
+ * @since 0.53.0
+ */
+public final class SpatialQuery
+{
+    /**
+     * Die Kantenlänge des ersten Suchbereichs bei der Suche nach den
+     * nächstgelegenen Figuren in Meter.
+     */
+    private static final float INITIAL_NEAREST_RADIUS = 2;
+
+    /**
+     * Der größte Radius in Meter, bis zu dem nach den nächstgelegenen Figuren
+     * gesucht wird.
+     */
+    private static final float MAX_NEAREST_RADIUS = 1e7f;
+
+    private final Layer layer;
+
+    private final WorldHandler worldHandler;
+
+    /**
+     * Zählt die Abfragen, um mehrfach gefundene Figuren zu erkennen.
+     */
+    private long pass = 0;
+
+    private final AABB queryBounds = new AABB();
+
+    private final AABB actorBounds = new AABB();
+
+    private final Vec2 point = new Vec2();
+
+    private final Vec2 rayStart = new Vec2();
+
+    private final Vec2 rayEnd = new Vec2();
+
+    /* Zustand der laufenden Abfrage */
+
+    private ActorFilter filter;
+
+    private List<Actor> result;
+
+    private int found;
+
+    private float centerX;
+
+    private float centerY;
+
+    private float radiusSquared;
+
+    /**
+     * Die Anzahl der verschiedenen Figuren im Suchbaum, die bei der aktuellen
+     * Suche nach den nächstgelegenen Figuren gefunden wurden.
+     */
+    private int seen;
+
+    /* Figuren, die nicht im Suchbaum verzeichnet sind */
+
+    private Actor[] unindexed = new Actor[8];
+
+    private int unindexedCount = 0;
+
+    /**
+     * Die Anzahl der Figuren, die im Suchbaum verzeichnet sind.
+     */
+    private int indexedCount = 0;
+
+    private long refreshedStep = -1;
+
+    private boolean dirty = true;
+
+    /* die nächstgelegenen Figuren, aufsteigend nach Entfernung */
+
+    private Actor[] nearest = new Actor[8];
+
+    private float[] nearestDistances = new float[8];
+
+    private int nearestCount;
+
+    private int k;
+
+    /* Strahlentreffer */
+
+    private Actor[] hits = new Actor[8];
+
+    private float[] hitFractions = new float[8];
+
+    private int hitCount;
+
+    private RayHit rayHit;
+
+    private final QueryCallback areaCallback = fixture -> {
+        Actor actor = firstFound(fixture);
+        if (actor != null && filter.accept(actor))
+        {
+            AABB bounds = actor.physicsHandler().aabb(actorBounds);
+            if (bounds != null && AABB.testOverlap(bounds, queryBounds))
+            {
+                result.add(actor);
+                found++;
+            }
+        }
+        return true;
+    };
+
+    private final QueryCallback radiusCallback = fixture -> {
+        Actor actor = firstFound(fixture);
+        if (actor != null && filter.accept(actor)
+                && distanceSquared(actor) <= radiusSquared)
+        {
+            result.add(actor);
+            found++;
+        }
+        return true;
+    };
+
+    private final QueryCallback nearestCallback = fixture -> {
+        Actor actor = firstFound(fixture);
+        if (actor != null)
+        {
+            seen++;
+            if (filter.accept(actor))
+            {
+                offerNearest(actor, distanceSquared(actor));
+            }
+        }
+        return true;
+    };
+
+    private final RayCastCallback firstHitCallback = (fixture, hitPoint, normal,
+            fraction) -> {
+        Actor actor = actorOf(fixture);
+        if (actor == null || !filter.accept(actor))
+        {
+            return -1;
+        }
+        rayHit.set(actor, hitPoint.x, hitPoint.y, normal.x, normal.y, fraction);
+        found = 1;
+        // Den Strahl bis zu diesem Treffer kürzen.
+        return fraction;
+    };
+
+    private final RayCastCallback allHitsCallback = (fixture, hitPoint, normal,
+            fraction) -> {
+        Actor actor = actorOf(fixture);
+        if (actor != null && filter.accept(actor))
+        {
+            addHit(actor, fraction);
+        }
+        // Den Strahl nicht kürzen, um alle Treffer zu erhalten.
+        return 1;
+    };
+
+    /**
+     * Erzeugt die räumlichen Abfragen einer Ebene.
+     *
+     * @param layer Die Ebene, deren Figuren abgefragt werden.
+     *
+     * @hidden
+     */
+    @Internal
+    public SpatialQuery(Layer layer)
+    {
+        this.layer = layer;
+        this.worldHandler = layer.worldHandler();
+    }
+
+    /**
+     * Vermerkt, dass Figuren hinzugefügt oder entfernt wurden.
+     *
+     * @hidden
+     */
+    @Internal
+    public void invalidate()
+    {
+        dirty = true;
+    }
+
+    /**
+     * Hängt alle Figuren an, deren Begrenzungsrahmen sich mit einem
+     * <b>Rechteck</b> überschneidet.
+     *
+     * @param x Die x-Koordinate der linken unteren Ecke in Meter.
+     * @param y Die y-Koordinate der linken unteren Ecke in Meter.
+     * @param width Die Breite des Rechtecks in Meter.
+     * @param height Die Höhe des Rechtecks in Meter.
+     * @param filter Der Filter oder {@code null} für alle Figuren.
+     * @param result Die Liste, an die die gefundenen Figuren angehängt werden.
+     *
+     * @return Die Anzahl der angehängten Figuren.
+     */
+    @API
+    public int actorsInArea(double x, double y, double width, double height,
+            ActorFilter filter, List<Actor> result)
+    {
+        synchronized (worldHandler)
+        {
+            begin(filter, result);
+            queryBounds.lowerBound.set((float) x, (float) y);
+            queryBounds.upperBound.set((float) (x + width),
+                (float) (y + height));
+            worldHandler.queryAABB(queryBounds, areaCallback);
+            refreshUnindexed();
+            for (int i = 0; i < unindexedCount; i++)
+            {
+                Actor actor = unindexed[i];
+                Vec2 center = actor.physicsHandler().center(point);
+                if (center.x >= x && center.x <= x + width && center.y >= y
+                        && center.y <= y + height && this.filter.accept(actor))
+                {
+                    result.add(actor);
+                    found++;
+                }
+            }
+            return end();
+        }
+    }
+
+    /**
+     * Hängt alle Figuren an, deren Begrenzungsrahmen höchstens den angegebenen
+     * <b>Abstand</b> zu einem Punkt hat.
+     *
+     * @param x Die x-Koordinate des Mittelpunkts in Meter.
+     * @param y Die y-Koordinate des Mittelpunkts in Meter.
+     * @param radius Der Radius in Meter.
+     * @param filter Der Filter oder {@code null} für alle Figuren.
+     * @param result Die Liste, an die die gefundenen Figuren angehängt werden.
+     *
+     * @return Die Anzahl der angehängten Figuren.
+     */
+    @API
+    public int actorsInRadius(double x, double y, double radius,
+            ActorFilter filter, List<Actor> result)
+    {
+        synchronized (worldHandler)
+        {
+            begin(filter, result);
+            centerX = (float) x;
+            centerY = (float) y;
+            radiusSquared = (float) (radius * radius);
+            setQueryBounds((float) radius);
+            worldHandler.queryAABB(queryBounds, radiusCallback);
+            refreshUnindexed();
+            for (int i = 0; i < unindexedCount; i++)
+            {
+                Actor actor = unindexed[i];
+                if (this.filter.accept(actor)
+                        && distanceSquared(actor) <= radiusSquared)
+                {
+                    result.add(actor);
+                    found++;
+                }
+            }
+            return end();
+        }
+    }
+
+    /**
+     * Sucht die <b>erste</b> Figur, die ein <b>Strahl</b> trifft.
+     *
+     * <p>
+     * Es werden nur Figuren mit Halterungen (Fixtures) getroffen. Getestet wird
+     * gegen die genauen Umrisse der Halterungen.
+     * </p>
+     *
+     * @param fromX Die x-Koordinate des Startpunkts in Meter.
+     * @param fromY Die y-Koordinate des Startpunkts in Meter.
+     * @param toX Die x-Koordinate des Endpunkts in Meter.
+     * @param toY Die y-Koordinate des Endpunkts in Meter.
+     * @param filter Der Filter oder {@code null} für alle Figuren.
+     * @param hit Nimmt den Treffer auf. Wird nur verändert, falls eine Figur
+     *     getroffen wurde.
+     *
+     * @return {@code true}, falls eine Figur getroffen wurde.
+     */
+    @API
+    public boolean raycast(double fromX, double fromY, double toX, double toY,
+            ActorFilter filter, RayHit hit)
+    {
+        synchronized (worldHandler)
+        {
+            begin(filter, null);
+            rayHit = hit;
+            raycast(fromX, fromY, toX, toY, firstHitCallback);
+            rayHit = null;
+            return end() > 0;
+        }
+    }
+
+    /**
+     * Hängt alle Figuren, die ein <b>Strahl</b> trifft, <b>nach ihrer
+     * Entfernung</b> vom Startpunkt sortiert an.
+     *
+     * @param fromX Die x-Koordinate des Startpunkts in Meter.
+     * @param fromY Die y-Koordinate des Startpunkts in Meter.
+     * @param toX Die x-Koordinate des Endpunkts in Meter.
+     * @param toY Die y-Koordinate des Endpunkts in Meter.
+     * @param filter Der Filter oder {@code null} für alle Figuren.
+     * @param result Die Liste, an die die getroffenen Figuren angehängt werden.
+     *
+     * @return Die Anzahl der angehängten Figuren.
+     */
+    @API
+    public int raycastAll(double fromX, double fromY, double toX, double toY,
+            ActorFilter filter, List<Actor> result)
+    {
+        synchronized (worldHandler)
+        {
+            begin(filter, result);
+            hitCount = 0;
+            raycast(fromX, fromY, toX, toY, allHitsCallback);
+            for (int i = 0; i < hitCount; i++)
+            {
+                result.add(hits[i]);
+                hits[i] = null;
+            }
+            found = hitCount;
+            return end();
+        }
+    }
+
+    /**
+     * Hängt die {@code k} <b>nächstgelegenen</b> Figuren an, aufsteigend nach
+     * dem Abstand ihres Begrenzungsrahmens zum angegebenen Punkt sortiert.
+     *
+     * @param x Die x-Koordinate des Punkts in Meter.
+     * @param y Die y-Koordinate des Punkts in Meter.
+     * @param k Die Anzahl der gesuchten Figuren.
+     * @param filter Der Filter oder {@code null} für alle Figuren.
+     * @param result Die Liste, an die die gefundenen Figuren angehängt werden.
+     *
+     * @return Die Anzahl der angehängten Figuren. Sie ist kleiner als
+     *     {@code k}, falls die Ebene nicht genügend passende Figuren enthält.
+     */
+    @API
+    public int nearestActors(double x, double y, int k, ActorFilter filter,
+            List<Actor> result)
+    {
+        if (k <= 0)
+        {
+            return 0;
+        }
+        synchronized (worldHandler)
+        {
+            begin(filter, result);
+            centerX = (float) x;
+            centerY = (float) y;
+            this.k = k;
+            if (nearest.length < k)
+            {
+                nearest = new Actor[k];
+                nearestDistances = new float[k];
+            }
+            refreshUnindexed();
+            float radius = INITIAL_NEAREST_RADIUS;
+            while (true)
+            {
+                nearestCount = 0;
+                seen = 0;
+                pass++;
+                setQueryBounds(radius);
+                worldHandler.queryAABB(queryBounds, nearestCallback);
+                // Alle Figuren außerhalb des Suchbereichs sind weiter als
+                // der Radius entfernt.
+                if (nearestCount == k
+                        && nearestDistances[k - 1] <= radius * radius
+                        || seen >= indexedCount || radius > MAX_NEAREST_RADIUS)
+                {
+                    break;
+                }
+                radius *= 2;
+            }
+            for (int i = 0; i < unindexedCount; i++)
+            {
+                Actor actor = unindexed[i];
+                if (this.filter.accept(actor))
+                {
+                    offerNearest(actor, distanceSquared(actor));
+                }
+            }
+            for (int i = 0; i < nearestCount; i++)
+            {
+                result.add(nearest[i]);
+                nearest[i] = null;
+            }
+            found = nearestCount;
+            return end();
+        }
+    }
+
+    /**
+     * Hängt alle Figuren an, die <b>nicht im Suchbaum</b> verzeichnet sind,
+     * also Figuren ohne Halterungen (Fixtures) oder mit einem inaktiven Körper.
+     * Die Liste dieser Figuren wird höchstens einmal pro Simulationsschritt
+     * erneuert.
+     *
+     * @param result Die Liste, an die die Figuren angehängt werden.
+     *
+     * @return Die Anzahl der angehängten Figuren.
+     *
+     * @hidden
+     */
+    @Internal
+    public int unindexedActors(List<Actor> result)
+    {
+        synchronized (worldHandler)
+        {
+            refreshUnindexed();
+            for (int i = 0; i < unindexedCount; i++)
+            {
+                result.add(unindexed[i]);
+            }
+            return unindexedCount;
+        }
+    }
+
+    private void begin(ActorFilter filter, List<Actor> result)
+    {
+        this.filter = filter != null ? filter : ActorFilter.ALL;
+        this.result = result;
+        found = 0;
+        pass++;
+    }
+
+    private int end()
+    {
+        filter = null;
+        result = null;
+        return found;
+    }
+
+    private void setQueryBounds(float radius)
+    {
+        queryBounds.lowerBound.set(centerX - radius, centerY - radius);
+        queryBounds.upperBound.set(centerX + radius, centerY + radius);
+    }
+
+    private void raycast(double fromX, double fromY, double toX, double toY,
+            RayCastCallback callback)
+    {
+        rayStart.set((float) fromX, (float) fromY);
+        rayEnd.set((float) toX, (float) toY);
+        if (rayStart.x == rayEnd.x && rayStart.y == rayEnd.y)
+        {
+            return;
+        }
+        worldHandler.world().raycast(callback, rayStart, rayEnd);
+    }
+
+    private static Actor actorOf(Fixture fixture)
+    {
+        if (fixture.getBody().getUserData() instanceof Actor actor)
+        {
+            return actor;
+        }
+        return null;
+    }
+
+    /**
+     * Gibt die Figur einer Halterung zurück, falls sie in der laufenden Abfrage
+     * zum ersten Mal gefunden wurde.
+     */
+    private Actor firstFound(Fixture fixture)
+    {
+        Actor actor = actorOf(fixture);
+        if (actor == null || !actor.markSpatialQueryPass(pass))
+        {
+            return null;
+        }
+        return actor;
+    }
+
+    /**
+     * Berechnet das Quadrat des Abstands zwischen dem Begrenzungsrahmen einer
+     * Figur und dem Mittelpunkt der Abfrage.
+     */
+    private float distanceSquared(Actor actor)
+    {
+        PhysicsHandler handler = actor.physicsHandler();
+        AABB bounds = handler.aabb(actorBounds);
+        float dx, dy;
+        if (bounds == null)
+        {
+            Vec2 center = handler.center(point);
+            dx = center.x - centerX;
+            dy = center.y - centerY;
+        }
+        else
+        {
+            dx = Math.max(Math.max(bounds.lowerBound.x - centerX, 0),
+                centerX - bounds.upperBound.x);
+            dy = Math.max(Math.max(bounds.lowerBound.y - centerY, 0),
+                centerY - bounds.upperBound.y);
+        }
+        return dx * dx + dy * dy;
+    }
+
+    /**
+     * Fügt eine Figur in die aufsteigend sortierte Liste der nächstgelegenen
+     * Figuren ein, falls sie näher als die bisher k-nächste Figur liegt.
+     */
+    private void offerNearest(Actor actor, float distance)
+    {
+        if (nearestCount == k && distance >= nearestDistances[k - 1])
+        {
+            return;
+        }
+        int i = nearestCount < k ? nearestCount++ : k - 1;
+        while (i > 0 && nearestDistances[i - 1] > distance)
+        {
+            nearest[i] = nearest[i - 1];
+            nearestDistances[i] = nearestDistances[i - 1];
+            i--;
+        }
+        nearest[i] = actor;
+        nearestDistances[i] = distance;
+    }
+
+    /**
+     * Vermerkt einen Strahlentreffer. Trifft der Strahl mehrere Halterungen
+     * derselben Figur, zählt der nächstgelegene Treffer.
+     */
+    private void addHit(Actor actor, float fraction)
+    {
+        if (!actor.markSpatialQueryPass(pass))
+        {
+            for (int i = 0; i < hitCount; i++)
+            {
+                if (hits[i] == actor)
+                {
+                    if (fraction >= hitFractions[i])
+                    {
+                        return;
+                    }
+                    // Den früheren Treffer entfernen und neu einsortieren.
+                    System.arraycopy(hits, i + 1, hits, i, hitCount - i - 1);
+                    System.arraycopy(hitFractions,
+                        i + 1,
+                        hitFractions,
+                        i,
+                        hitCount - i - 1);
+                    hitCount--;
+                    break;
+                }
+            }
+        }
+        if (hitCount == hits.length)
+        {
+            hits = Arrays.copyOf(hits, hitCount * 2);
+            hitFractions = Arrays.copyOf(hitFractions, hitCount * 2);
+        }
+        int i = hitCount++;
+        while (i > 0 && hitFractions[i - 1] > fraction)
+        {
+            hits[i] = hits[i - 1];
+            hitFractions[i] = hitFractions[i - 1];
+            i--;
+        }
+        hits[i] = actor;
+        hitFractions[i] = fraction;
+    }
+
+    /**
+     * Erneuert die Liste der Figuren, die nicht im Suchbaum verzeichnet sind,
+     * höchstens einmal pro Simulationsschritt.
+     */
+    private void refreshUnindexed()
+    {
+        long step = worldHandler.stepCount();
+        if (!dirty && refreshedStep == step)
+        {
+            return;
+        }
+        dirty = false;
+        refreshedStep = step;
+        for (int i = 0; i < unindexedCount; i++)
+        {
+            unindexed[i] = null;
+        }
+        unindexedCount = 0;
+        indexedCount = 0;
+        List<Actor> actors = layer.actors();
+        for (int i = 0; i < actors.size(); i++)
+        {
+            Actor actor = actors.get(i);
+            Body body = actor.physicsHandler().body();
+            if (body != null && body.isActive() && body.fixtureList != null)
+            {
+                indexedCount++;
+                continue;
+            }
+            if (unindexedCount == unindexed.length)
+            {
+                unindexed = Arrays.copyOf(unindexed, unindexedCount * 2);
+            }
+            unindexed[unindexedCount++] = actor;
+        }
+    }
+}
@@ -20,30 +20,38 @@
  */
 package pi.physics;
 
+import static pi.Controller.config;
+
 import java.util.ArrayList;
-import java.util.Collection;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Set;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
 
+import org.jbox2d.callbacks.ContactFilter;
 import org.jbox2d.callbacks.ContactImpulse;
 import org.jbox2d.callbacks.ContactListener;
 import org.jbox2d.callbacks.QueryCallback;
 import org.jbox2d.collision.AABB;
 import org.jbox2d.collision.Manifold;
+import org.jbox2d.common.Transform;
 import org.jbox2d.common.Vec2;
 import org.jbox2d.dynamics.Body;
 import org.jbox2d.dynamics.BodyDef;
+import org.jbox2d.dynamics.Filter;
 import org.jbox2d.dynamics.Fixture;
+import org.jbox2d.dynamics.Profile;
 import org.jbox2d.dynamics.World;
+import org.jbox2d.dynamics.WorldSnapshot;
 import org.jbox2d.dynamics.contacts.Contact;
 import org.jbox2d.dynamics.contacts.ContactEdge;
 
 import pi.Layer;
 import pi.actor.Actor;
+import pi.annotations.API;
 import pi.annotations.Getter;
 import pi.annotations.Internal;
 import pi.annotations.Setter;
@@ -79,6 +87,37 @@ public class WorldHandler implements ContactListener
 
     public static final int CATEGORY_PARTICLE = 16;
 
+    /**
+     * Die Bits der Filter, die den {@link BodyType Typ} einer Halterung
+     * kennzeichnen. Die oberen 16 Bits enthalten die frei wählbaren
+     * {@link Actor#collisionCategory(int) Kollisionskategorien} in
+     * <b>invertierter</b> Form: Filter, deren obere 16 Bits nicht gesetzt sind,
+     * etwa der Standardfilter von JBox2D, gehören so zu allen Kategorien und
+     * kollidieren mit allen Kategorien.
+     */
+    static final int TYPE_MASK_BITS = 0xFFFF;
+
+    private static final int COLLISION_SHIFT = 16;
+
+    /**
+     * Die <b>Kollisionskategorie</b>, zu der eine Figur gehört, solange keine
+     * andere festgelegt wurde.
+     *
+     * @see Actor#collisionCategory(int)
+     *
+     * @since 0.53.0
+     */
+    public static final int DEFAULT_COLLISION_CATEGORY = 0x0001;
+
+    /**
+     * Eine <b>Kollisionsmaske</b>, die alle 16 Kollisionskategorien enthält.
+     *
+     * @see Actor#collisionMask(int)
+     *
+     * @since 0.53.0
+     */
+    public static final int ALL_COLLISION_CATEGORIES = 0xFFFF;
+
     public static final double STEP_TIME = 8f / 1000;
 
     /**
@@ -98,23 +137,110 @@ public class WorldHandler implements ContactListener
     private final World world;
 
     /**
-     * Alle spezifisch angegebenen Actor-Actor Kollisionsüberwachungen.
+     * Die Kollisionsbeobachter der Körper. Jeder Körper mit Beobachtern belegt
+     * einen Platz, dessen Index im {@link BodyHandler#collisionSlot
+     * BodyHandler} des Körpers gespeichert ist, sodass die Beobachter eines
+     * Kontakts ohne Hashtabelle gefunden werden.
+     *
+     * <p>
+     * Das Feld wird nur beim Vergrößern durch eine Kopie mit doppelter
+     * Kapazität ersetzt. Jede Änderung wird über {@link #collisionSlotCount}
+     * veröffentlicht, sodass die Beobachter bei jedem Kontakt ohne Sperre
+     * nachgeschlagen werden können, auch wenn die Ebenen nebenläufig simuliert
+     * werden.
+     * </p>
      */
-    private final Map<Body, List<Checkup<? extends Actor>>> specificCollisionListeners = new ConcurrentHashMap<>();
+    private volatile CollisionSlot[] collisionSlots = new CollisionSlot[16];
 
     /**
-     * Sämtliche allgemeinen CollisionListener.
+     * Die Anzahl der bisher benutzten Plätze in {@link #collisionSlots}. Das
+     * Feld wird nach jeder Änderung der Plätze geschrieben und vor dem Feld der
+     * Plätze gelesen.
      */
-    private final Map<Body, List<CollisionListener<Actor>>> generalCollisonListeners = new ConcurrentHashMap<>();
+    private volatile int collisionSlotCount = 0;
+
+    /**
+     * Die Indizes freigegebener Plätze, die wiederverwendet werden.
+     */
+    private int[] freeCollisionSlots = new int[16];
+
+    private int freeCollisionSlotCount = 0;
 
     /**
-     * Diese Liste enthält die (noch nicht beendeten) Kontakte, die nicht
+     * Diese Menge enthält die (noch nicht beendeten) Kontakte, die nicht
      * aufgelöst werden sollen.
      */
-    private final Collection<FixturePair> contactsToIgnore = new ArrayList<>();
+    private final Set<FixturePair> contactsToIgnore = new HashSet<>();
+
+    /**
+     * Ein wiederverwendbarer Schlüssel für die Suche in
+     * {@link #contactsToIgnore}.
+     */
+    private final FixturePair ignoreProbe = new FixturePair(null, null);
+
+    /**
+     * Die Anzahl der begonnenen bzw. beendeten Kontakte im laufenden
+     * Simulationsschritt.
+     */
+    private int contactsBegun = 0;
+
+    private int contactsEnded = 0;
+
+    /**
+     * Die Anzahl der begonnenen bzw. beendeten Kontakte im letzten
+     * Simulationsschritt.
+     */
+    private volatile int lastStepContactsBegun = 0;
+
+    private volatile int lastStepContactsEnded = 0;
 
     private double simulationAccumulator = 0;
 
+    /**
+     * Gibt an, ob die Kollisionsbeobachter erst nach dem Simulationsschritt
+     * über {@link #dispatchBufferedContacts()} benachrichtigt werden.
+     */
+    private boolean bufferingContacts = false;
+
+    /**
+     * Die Kontakte, die während des Simulationsschritts begonnen oder geendet
+     * haben, falls die Kollisionsbeobachter erst danach benachrichtigt werden.
+     */
+    private final ContactBuffer contactBuffer = new ContactBuffer();
+
+    /**
+     * Der Verlauf, in dem nach jedem Simulationsschritt der Zustand der Welt
+     * erfasst wird, oder {@code null}.
+     */
+    private PhysicsHistory history;
+
+    /**
+     * Gibt an, ob vor dem letzten Simulationsschritt die Lage der Körper für
+     * die {@link #interpolationAlpha() Interpolation} gespeichert wurde.
+     */
+    private boolean interpolating = false;
+
+    /**
+     * Die Anzahl der bisher ausgeführten Simulationsschritte.
+     * Zwischengespeicherte Werte der Körper, z.B. ihre Begrenzungsrahmen, sind
+     * nur innerhalb eines Simulationsschritts gültig.
+     */
+    private volatile long stepCount = 0;
+
+    /**
+     * Die Anzahl an Rechenzeiten der Physik-Engine, die in
+     * {@link #stepTimings()} abgelegt werden.
+     */
+    public static final int STEP_TIMINGS = 5;
+
+    /**
+     * Die summierten Rechenzeiten aller Simulationsschritte des letzten Aufrufs
+     * von {@link #step(double)} in Millisekunden, in der Reihenfolge
+     * Gesamtschritt, Kollisionserkennung, Lösen der Bedingungen, Broadphase und
+     * Kollisionszeitpunkte (TOI).
+     */
+    private final float[] stepTimings = new float[STEP_TIMINGS];
+
     /**
      * Erstellt eine neue standardisierte Physik ohne Schwerkraft.
      *
@@ -125,7 +251,9 @@ public class WorldHandler implements ContactListener
     {
         this.layer = layer;
         world = new World(new Vec2());
+        world.setSolverThreads(Math.max(1, config.graphics.solverThreads()));
         world.setContactListener(this);
+        world.setContactFilter(new CategoryContactFilter());
     }
 
     /**
@@ -182,6 +310,7 @@ public class WorldHandler implements ContactListener
 
     public void step(double pastTime)
     {
+        Arrays.fill(stepTimings, 0);
         if (worldPaused)
         {
             return;
@@ -193,13 +322,314 @@ public class WorldHandler implements ContactListener
                 // Wir verwenden konstante Dauer
                 // https://gamedev.stackexchange.com/q/86609/38865
                 simulationAccumulator += pastTime;
+                boolean interpolation = config.graphics.loopMode()
+                    .interpolates();
+                boolean stepped = false;
                 while (simulationAccumulator >= STEP_TIME)
                 {
                     simulationAccumulator -= STEP_TIME;
+                    if (interpolation)
+                    {
+                        storePreviousTransforms();
+                    }
+                    contactsBegun = 0;
+                    contactsEnded = 0;
                     world.step((float) STEP_TIME, 6, 3);
+                    lastStepContactsBegun = contactsBegun;
+                    lastStepContactsEnded = contactsEnded;
+                    stepCount++;
+                    stepped = true;
+                    recordStepTimings(world.getProfile());
+                    if (history != null)
+                    {
+                        history.record();
+                    }
                 }
+                interpolating = interpolation && (interpolating || stepped);
+            }
+        }
+    }
+
+    /**
+     * Legt fest, ob die Kollisionsbeobachter erst nach dem Simulationsschritt
+     * benachrichtigt werden.
+     *
+     * <p>
+     * Wird die Physik mehrerer Ebenen gleichzeitig in verschiedenen Threads
+     * berechnet, sammelt jede Ebene ihre Kontakte, damit die
+     * Kollisionsbeobachter anschließend mit {@link #dispatchBufferedContacts()}
+     * im Thread der Ereignisschleife benachrichtigt werden können. Da die
+     * Beobachter dann erst nach dem Simulationsschritt aufgerufen werden, wirkt
+     * sich {@link CollisionEvent#ignoreCollision()} erst auf den folgenden
+     * Simulationsschritt aus.
+     * </p>
+     *
+     * @param bufferingContacts {@code true}, um die Kontakte zu sammeln,
+     *     {@code false}, um die Beobachter sofort zu benachrichtigen.
+     *
+     * @since 0.53.0
+     *
+     * @hidden
+     */
+    @Internal
+    @Setter
+    public void bufferingContacts(boolean bufferingContacts)
+    {
+        this.bufferingContacts = bufferingContacts;
+    }
+
+    /**
+     * Benachrichtigt die Kollisionsbeobachter über alle Kontakte, die seit dem
+     * letzten Aufruf gesammelt wurden, in der Reihenfolge ihres Auftretens.
+     *
+     * @see #bufferingContacts(boolean)
+     *
+     * @since 0.53.0
+     *
+     * @hidden
+     */
+    @Internal
+    public void dispatchBufferedContacts()
+    {
+        ContactBuffer buffer = contactBuffer;
+        for (int i = 0; i < buffer.size; i++)
+        {
+            BufferedContact contact = buffer.contacts[i];
+            notifyCollisionListeners(contact,
+                buffer.bodiesA[i],
+                buffer.bodiesB[i],
+                buffer.begins[i]);
+            if (!buffer.begins[i])
+            {
+                // Erst nach den Beobachtern, damit auch ein dort ignorierter
+                // Kontakt wieder von der Blacklist entfernt wird.
+                removeFromBlacklist(contact);
+            }
+        }
+        buffer.clear();
+    }
+
+    /**
+     * Speichert die Lage aller nicht statischen Körper vor einem
+     * Simulationsschritt.
+     */
+    private void storePreviousTransforms()
+    {
+        for (Body body = world.getBodyList(); body != null; body = body
+            .getNext())
+        {
+            if (body.getType() != org.jbox2d.dynamics.BodyType.STATIC
+                    && body.getUserData() instanceof Actor actor
+                    && actor.physicsHandler() instanceof BodyHandler handler)
+            {
+                handler.storePreviousTransform();
+            }
+        }
+    }
+
+    /**
+     * Gibt an, ob beim Zeichnen die Lage der Körper zwischen den letzten beiden
+     * Simulationsschritten interpoliert wird.
+     *
+     * @return {@code true}, falls interpoliert wird, sonst {@code false}.
+     *
+     * @since 0.53.0
+     *
+     * @hidden
+     */
+    @Internal
+    public boolean isInterpolating()
+    {
+        return interpolating;
+    }
+
+    /**
+     * Gibt die Anzahl der bisher ausgeführten Simulationsschritte zurück.
+     *
+     * @return Die Anzahl der Simulationsschritte.
+     *
+     * @since 0.53.0
+     *
+     * @hidden
+     */
+    @Internal
+    @Getter
+    public long stepCount()
+    {
+        return stepCount;
+    }
+
+    /**
+     * Gibt die summierten <b>Rechenzeiten</b> der Physik-Engine im letzten
+     * Aufruf von {@link #step(double)} in Millisekunden zurück.
+     *
+     * <p>
+     * Das Feld enthält {@link #STEP_TIMINGS} Einträge in der Reihenfolge
+     * Gesamtschritt, Kollisionserkennung, Lösen der Bedingungen, Broadphase und
+     * Kollisionszeitpunkte (TOI). Es wird beim nächsten Aufruf überschrieben
+     * und darf nicht verändert werden.
+     * </p>
+     *
+     * @return Die Rechenzeiten in Millisekunden.
+     *
+     * @since 0.53.0
+     *
+     * @hidden
+     */
+    @Internal
+    @Getter
+    public float[] stepTimings()
+    {
+        return stepTimings;
+    }
+
+    private void recordStepTimings(Profile profile)
+    {
+        stepTimings[0] += profile.step.last();
+        stepTimings[1] += profile.collide.last();
+        stepTimings[2] += profile.solve.last();
+        stepTimings[3] += profile.broadphase.last();
+        stepTimings[4] += profile.solveTOI.last();
+    }
+
+    /**
+     * Gibt den <b>Interpolationsfaktor</b> zwischen dem vorletzten und dem
+     * letzten Simulationsschritt zurück.
+     *
+     * <p>
+     * Der Faktor gibt an, welcher Anteil der festen Schrittweite
+     * {@link #STEP_TIME} seit dem letzten Simulationsschritt bereits
+     * verstrichen ist.
+     * </p>
+     *
+     * @return Ein Wert zwischen {@code 0} (Lage vor dem letzten
+     *     Simulationsschritt) und {@code 1} (aktuelle Lage).
+     *
+     * @since 0.53.0
+     *
+     * @hidden
+     */
+    @Internal
+    public double interpolationAlpha()
+    {
+        if (!interpolating)
+        {
+            return 1;
+        }
+        return Math.max(0, Math.min(1, simulationAccumulator / STEP_TIME));
+    }
+
+    /**
+     * <b>Erfasst</b> den dynamischen Zustand der Physics-Welt in einem
+     * wiederverwendbaren {@link WorldSnapshot Schnappschuss}.
+     *
+     * <p>
+     * Erfasst werden die Lage, Geschwindigkeit und Ruhezustand aller Körper
+     * sowie die Kontakte und Gelenke mit ihren Impulsen, nicht jedoch
+     * hinzugefügte oder entfernte Figuren. Ein Schnappschuss ist ein flaches
+     * Byte-Feld und kann jedes Einzelbild erfasst werden.
+     * </p>
+     *
+     * @param snapshot Der Schnappschuss, der überschrieben wird.
+     *
+     * @return Der übergebene Schnappschuss.
+     *
+     * @see #restoreSnapshot(WorldSnapshot)
+     *
+     * @since 0.53.0
+     */
+    @API
+    public WorldSnapshot captureSnapshot(WorldSnapshot snapshot)
+    {
+        synchronized (this)
+        {
+            synchronized (world)
+            {
+                snapshot.capture(world);
             }
         }
+        return snapshot;
+    }
+
+    /**
+     * <b>Stellt</b> den Zustand der Physics-Welt aus einem {@link WorldSnapshot
+     * Schnappschuss} <b>wieder her</b>.
+     *
+     * <p>
+     * Die Wiederherstellung ist bitgenau: Die folgenden Simulationsschritte
+     * verlaufen genau so wie nach dem Erfassen des Schnappschusses.
+     * Kollisionsbeobachter werden über Kontakte, die dabei entstehen oder
+     * verschwinden, nicht benachrichtigt.
+     * </p>
+     *
+     * @param snapshot Der Schnappschuss, der mit
+     *     {@link #captureSnapshot(WorldSnapshot)} erfasst wurde.
+     *
+     * @throws IllegalStateException Falls seit dem Erfassen Figuren mit Körpern
+     *     hinzugefügt oder entfernt wurden.
+     *
+     * @since 0.53.0
+     */
+    @API
+    public void restoreSnapshot(WorldSnapshot snapshot)
+    {
+        synchronized (this)
+        {
+            synchronized (world)
+            {
+                snapshot.restore(world);
+                // Die gespeicherten vorherigen Lagen gehören nicht zum
+                // wiederhergestellten Zustand.
+                interpolating = false;
+                // Zwischengespeicherte Werte der Körper werden ungültig.
+                stepCount++;
+            }
+        }
+    }
+
+    /**
+     * Beginnt, den Zustand der Physics-Welt nach jedem Simulationsschritt in
+     * einem {@link PhysicsHistory Verlauf} zu erfassen, oder beendet dies.
+     *
+     * @param seconds Die Dauer in Sekunden, um die höchstens zurückgespult
+     *     werden kann, oder {@code 0}, um den Verlauf zu beenden.
+     *
+     * @return Der neue Verlauf oder {@code null}, falls er beendet wurde.
+     *
+     * @since 0.53.0
+     */
+    @API
+    public PhysicsHistory recordHistory(double seconds)
+    {
+        if (seconds < 0)
+        {
+            throw new IllegalArgumentException(
+                    "Die Dauer des Verlaufs darf nicht negativ sein, war "
+                            + seconds);
+        }
+        synchronized (this)
+        {
+            history = seconds == 0 ? null
+                    : new PhysicsHistory(this,
+                            (int) Math.ceil(seconds / STEP_TIME));
+            return history;
+        }
+    }
+
+    /**
+     * Gibt den {@link PhysicsHistory Verlauf} der Physics-Welt zurück.
+     *
+     * @return Der Verlauf oder {@code null}, falls keiner erfasst wird.
+     *
+     * @see #recordHistory(double)
+     *
+     * @since 0.53.0
+     */
+    @API
+    @Getter
+    public PhysicsHistory history()
+    {
+        return history;
     }
 
     /**
@@ -232,10 +662,138 @@ public class WorldHandler implements ContactListener
      * @hidden
      */
     @Internal
-    public void removeAllInternalReferences(Body body)
+    public synchronized void removeAllInternalReferences(Body body)
+    {
+        if (body.getUserData() instanceof Actor actor
+                && actor.physicsHandler() instanceof BodyHandler handler)
+        {
+            int index = handler.collisionSlot;
+            if (collisionSlot(body) != null)
+            {
+                collisionSlots[index] = null;
+                // Veröffentlicht den freigegebenen Platz.
+                collisionSlotCount = collisionSlotCount;
+                if (freeCollisionSlotCount == freeCollisionSlots.length)
+                {
+                    freeCollisionSlots = Arrays.copyOf(freeCollisionSlots,
+                        freeCollisionSlotCount * 2);
+                }
+                freeCollisionSlots[freeCollisionSlotCount++] = index;
+            }
+            handler.collisionSlot = -1;
+        }
+    }
+
+    /**
+     * Gibt die Anzahl der Kontakte zurück, die im <b>letzten Simulationsschritt
+     * begonnen</b> haben.
+     *
+     * @return Die Anzahl der begonnenen Kontakte.
+     *
+     * @since 0.53.0
+     */
+    @Getter
+    public int contactsBegunLastStep()
+    {
+        return lastStepContactsBegun;
+    }
+
+    /**
+     * Gibt die Anzahl der Kontakte zurück, die im <b>letzten Simulationsschritt
+     * geendet</b> haben.
+     *
+     * @return Die Anzahl der beendeten Kontakte.
+     *
+     * @since 0.53.0
+     */
+    @Getter
+    public int contactsEndedLastStep()
     {
-        specificCollisionListeners.remove(body);
-        generalCollisonListeners.remove(body);
+        return lastStepContactsEnded;
+    }
+
+    /**
+     * Gibt die Anzahl aller <b>Kontakte</b> zurück, die zurzeit in der Welt
+     * bestehen, also aller Paare von Halterungen, deren Begrenzungsrahmen sich
+     * überlappen und deren Filter eine Kollision zulassen.
+     *
+     * @return Die Anzahl der Kontakte.
+     *
+     * @since 0.53.0
+     */
+    @Getter
+    public int contactCount()
+    {
+        return world.getContactCount();
+    }
+
+    /**
+     * Gibt den Platz mit den Kollisionsbeobachtern eines Körpers zurück.
+     *
+     * <p>
+     * Die Methode benötigt keine Sperre: Ein veralteter Index wird über den
+     * Körper des Platzes erkannt.
+     * </p>
+     *
+     * @return Der Platz oder {@code null}, falls für den Körper keine
+     *     Beobachter angemeldet sind.
+     */
+    private CollisionSlot collisionSlot(Body body)
+    {
+        if (body.getUserData() instanceof Actor actor
+                && actor.physicsHandler() instanceof BodyHandler handler)
+        {
+            int count = collisionSlotCount;
+            CollisionSlot[] slots = collisionSlots;
+            int index = handler.collisionSlot;
+            if (index >= 0 && index < count)
+            {
+                CollisionSlot slot = slots[index];
+                if (slot != null && slot.body == body)
+                {
+                    return slot;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Gibt den Platz mit den Kollisionsbeobachtern eines Körpers zurück und
+     * belegt einen neuen Platz, falls der Körper noch keinen besitzt.
+     */
+    private synchronized CollisionSlot obtainCollisionSlot(Body body)
+    {
+        CollisionSlot slot = collisionSlot(body);
+        if (slot != null)
+        {
+            return slot;
+        }
+        if (!(body.getUserData() instanceof Actor actor
+                && actor.physicsHandler() instanceof BodyHandler handler))
+        {
+            throw new IllegalStateException(
+                    "Der Körper gehört zu keiner Figur in dieser Welt.");
+        }
+        int count = collisionSlotCount;
+        int index;
+        if (freeCollisionSlotCount > 0)
+        {
+            index = freeCollisionSlots[--freeCollisionSlotCount];
+        }
+        else
+        {
+            index = count++;
+            if (index == collisionSlots.length)
+            {
+                collisionSlots = Arrays.copyOf(collisionSlots, index * 2);
+            }
+        }
+        slot = new CollisionSlot(body);
+        collisionSlots[index] = slot;
+        handler.collisionSlot = index;
+        collisionSlotCount = count;
+        return slot;
     }
 
     /**
@@ -255,6 +813,12 @@ public class WorldHandler implements ContactListener
             .add(new FixturePair(contact.fixtureA, contact.fixtureB));
     }
 
+    private boolean isBlacklisted(Contact contact)
+    {
+        return !contactsToIgnore.isEmpty() && contactsToIgnore
+            .contains(ignoreProbe.set(contact.fixtureA, contact.fixtureB));
+    }
+
     /* ContactListener interface */
 
     /**
@@ -299,7 +863,15 @@ public class WorldHandler implements ContactListener
     @Override
     public void beginContact(Contact contact)
     {
-        processContact(contact, true);
+        contactsBegun++;
+        if (bufferingContacts)
+        {
+            contactBuffer.add(contact, true);
+        }
+        else
+        {
+            processContact(contact, true);
+        }
     }
 
     /**
@@ -314,7 +886,16 @@ public class WorldHandler implements ContactListener
     @Override
     public void endContact(Contact contact)
     {
-        processContact(contact, false);
+        contactsEnded++;
+        if (bufferingContacts)
+        {
+            contactBuffer.add(contact, false);
+            contact.setEnabled(true);
+        }
+        else
+        {
+            processContact(contact, false);
+        }
     }
 
     /**
@@ -355,12 +936,9 @@ public class WorldHandler implements ContactListener
     @Override
     public void preSolve(Contact contact, Manifold manifold)
     {
-        for (FixturePair ignoredPair : contactsToIgnore)
+        if (isBlacklisted(contact))
         {
-            if (ignoredPair.matches(contact.fixtureA, contact.fixtureB))
-            {
-                contact.setEnabled(false);
-            }
+            contact.setEnabled(false);
         }
     }
 
@@ -405,46 +983,53 @@ public class WorldHandler implements ContactListener
      * @hidden
      */
     @Internal
-    @SuppressWarnings("squid:S3776")
     private void processContact(final Contact contact, boolean isBegin)
     {
+        notifyCollisionListeners(contact,
+            colliderBody(contact, true, isBegin),
+            colliderBody(contact, false, isBegin),
+            isBegin);
+        if (!isBegin)
+        {
+            // Contact ist beendet -> Set Enabled and remove from blacklist
+            contact.setEnabled(true);
+            removeFromBlacklist(contact);
+        }
+    }
 
-        var bodies = BodySorter.fromContact(contact);
+    /**
+     * Benachrichtigt die spezifischen und allgemeinen Kollisionsbeobachter der
+     * beiden Körper eines Kontakts.
+     *
+     * @param contact JBox2D Contact Objekt, das den Contact beschreibt.
+     * @param bodyA Der Körper der ersten Halterung des Kontakts.
+     * @param bodyB Der Körper der zweiten Halterung des Kontakts.
+     * @param isBegin true = Begin-Kontakt | false = End-Kontakt
+     */
+    private void notifyCollisionListeners(Contact contact, Body bodyA,
+            Body bodyB, boolean isBegin)
+    {
+        CollisionSlot slotA = collisionSlot(bodyA);
+        CollisionSlot slotB = collisionSlot(bodyB);
+        if (slotA == null && slotB == null)
+        {
+            return;
+        }
 
         /* TEIL I : Spezifische Checkups */
 
-        if (bodies.areHashCodesEqual())
+        if (slotA != null)
         {
-            // Hashes sind gleich (blöde Sache!) -> beide Varianten probieren.
-            List<Checkup<? extends Actor>> result1 = specificCollisionListeners
-                .get(bodies.lower());
-            if (result1 != null)
-            {
-                for (Checkup<? extends Actor> c : result1)
-                {
-                    c.checkCollision(bodies.higher(), contact, isBegin);
-                }
-            }
-            List<Checkup<? extends Actor>> result2 = specificCollisionListeners
-                .get(bodies.higher());
-            if (result2 != null)
+            for (Checkup<? extends Actor> c : slotA.specific)
             {
-                for (Checkup<? extends Actor> c : result2)
-                {
-                    c.checkCollision(bodies.lower(), contact, isBegin);
-                }
+                c.checkCollision(bodyB, contact, isBegin);
             }
         }
-        else
+        if (slotB != null)
         {
-            List<Checkup<? extends Actor>> result = specificCollisionListeners
-                .get(bodies.lower());
-            if (result != null)
+            for (Checkup<? extends Actor> c : slotB.specific)
             {
-                for (Checkup<? extends Actor> c : result)
-                {
-                    c.checkCollision(bodies.higher(), contact, isBegin);
-                }
+                c.checkCollision(bodyA, contact, isBegin);
             }
         }
 
@@ -452,31 +1037,59 @@ public class WorldHandler implements ContactListener
          * TEIL II : Allgemeine Checkups
          */
 
-        generalCheckup(bodies.lower(), bodies.higher(), contact, isBegin);
-        generalCheckup(bodies.higher(), bodies.lower(), contact, isBegin);
-
-        if (!isBegin)
+        if (slotA != null)
         {
-            // Contact ist beendet -> Set Enabled and remove from blacklist
-            contact.setEnabled(true);
-            removeFromBlacklist(contact);
+            generalCheckup(slotA, bodyB, contact, isBegin);
+        }
+        if (slotB != null)
+        {
+            generalCheckup(slotB, bodyA, contact, isBegin);
         }
     }
 
-    private void removeFromBlacklist(Contact contact)
+    /**
+     * Gibt den Körper zurück, dem eine Seite eines Kontakts bei der
+     * Benachrichtigung der Kollisionsbeobachter zugeordnet wird.
+     *
+     * <p>
+     * Gehört die Halterung zu {@link BakedColliders zusammengefassten Figuren},
+     * wird der Körper der Figur bestimmt, die dem Schwerpunkt des anderen
+     * Körpers an der berührten Kante am nächsten liegt. Die Zuordnung wird bei
+     * Kontaktbeginn im Kontakt gespeichert, damit das Kontaktende derselben
+     * Figur gemeldet wird.
+     * </p>
+     *
+     * @param contact Der Kontakt.
+     * @param sideA {@code true} für die erste, {@code false} für die zweite
+     *     Halterung des Kontakts.
+     * @param isBegin true = Begin-Kontakt | false = End-Kontakt
+     */
+    private static Body colliderBody(Contact contact, boolean sideA,
+            boolean isBegin)
     {
-        FixturePair fixturePair = null;
-        for (FixturePair ignoredPair : contactsToIgnore)
+        Fixture fixture = sideA ? contact.fixtureA : contact.fixtureB;
+        if (!(fixture.userData instanceof BakedOutline outline))
         {
-            if (ignoredPair.matches(contact.fixtureA, contact.fixtureB))
-            {
-                fixturePair = ignoredPair;
-                break;
-            }
+            return fixture.getBody();
         }
-        if (fixturePair != null)
+        if (!isBegin && contact.userData instanceof Body owner)
+        {
+            return owner;
+        }
+        Vec2 center = (sideA ? contact.fixtureB : contact.fixtureA).getBody()
+            .getWorldCenter();
+        Body owner = outline
+            .owner(sideA ? contact.indexA : contact.indexB, center.x, center.y);
+        contact.userData = owner;
+        return owner;
+    }
+
+    private void removeFromBlacklist(Contact contact)
+    {
+        if (!contactsToIgnore.isEmpty())
         {
-            contactsToIgnore.remove(fixturePair);
+            contactsToIgnore
+                .remove(ignoreProbe.set(contact.fixtureA, contact.fixtureB));
         }
     }
 
@@ -484,12 +1097,11 @@ public class WorldHandler implements ContactListener
      * @hidden
      */
     @Internal
-    private void generalCheckup(Body actor, Body colliding, Contact contact,
-            final boolean isBegin)
+    private void generalCheckup(CollisionSlot slot, Body colliding,
+            Contact contact, final boolean isBegin)
     {
-        List<CollisionListener<Actor>> list = generalCollisonListeners
-            .get(actor);
-        if (list != null)
+        List<CollisionListener<Actor>> list = slot.general;
+        if (!list.isEmpty())
         {
             Actor other = (Actor) colliding.getUserData();
             if (other == null)
@@ -539,10 +1151,30 @@ public class WorldHandler implements ContactListener
     public Fixture[] queryAABB(AABB aabb)
     {
         ArrayList<Fixture> fixtures = new ArrayList<>();
-        world.queryAABB((QueryCallback) fixtures::add, aabb);
+        queryAABB(aabb, fixtures::add);
         return fixtures.toArray(new Fixture[0]);
     }
 
+    /**
+     * Ruft für jede Halterung (Fixture), die sich möglicherweise mit dem
+     * angegebenen achsenparallelen Begrenzungsrahmen überschneidet, den
+     * Beobachter auf, ohne dabei ein Feld oder eine Liste zu erzeugen.
+     *
+     * @param aabb Der achsenparallele Begrenzungsrahmen, durch den nach
+     *     Überschneidungen gesucht werden soll.
+     * @param callback Der Beobachter. Gibt er {@code false} zurück, wird die
+     *     Suche abgebrochen.
+     *
+     * @since 0.53.0
+     *
+     * @hidden
+     */
+    @Internal
+    public void queryAABB(AABB aabb, QueryCallback callback)
+    {
+        world.queryAABB(callback, aabb);
+    }
+
     /**
      * Prüft, ob zwei {@link Body}-Objekte aktuell miteinander kollidieren.
      *
@@ -582,6 +1214,30 @@ public class WorldHandler implements ContactListener
         return false;
     }
 
+    /**
+     * Die Kollisionsbeobachter eines Körpers.
+     */
+    private static final class CollisionSlot
+    {
+        private final Body body;
+
+        /**
+         * Die Beobachter, die nur bei Kollisionen mit einer bestimmten anderen
+         * Figur benachrichtigt werden.
+         */
+        private final List<Checkup<? extends Actor>> specific = new CopyOnWriteArrayList<>();
+
+        /**
+         * Die Beobachter, die bei allen Kollisionen benachrichtigt werden.
+         */
+        private final List<CollisionListener<Actor>> general = new CopyOnWriteArrayList<>();
+
+        private CollisionSlot(Body body)
+        {
+            this.body = body;
+        }
+    }
+
     /**
      * Speichert ein korrespondierendes Body-Objekt
      */
@@ -590,7 +1246,8 @@ public class WorldHandler implements ContactListener
         private final CollisionListener<E> listener;
 
         /**
-         * Der zweite Body (erster Body ist Hashmap-Schlüssel)
+         * Der zweite Body (erster Body ist der Besitzer des
+         * {@link CollisionSlot Platzes})
          */
         private final Body body;
 
@@ -652,9 +1309,9 @@ public class WorldHandler implements ContactListener
                 throw new IllegalStateException(
                         "Body is missing on an Actor with an existing WorldHandler");
             }
-            actor.physicsHandler().worldHandler().generalCollisonListeners
-                .computeIfAbsent(body, key -> new CopyOnWriteArrayList<>())
-                .add(listener);
+            actor.physicsHandler()
+                .worldHandler()
+                .obtainCollisionSlot(body).general.add(listener);
         });
     }
 
@@ -674,13 +1331,20 @@ public class WorldHandler implements ContactListener
             Actor actor, E collider, CollisionListener<E> listener)
     {
         addMountListener(actor, collider, worldHandler -> {
-            var bodies = BodySorter.fromActors(actor, collider);
-            Checkup<E> checkup = new Checkup<>(listener, bodies.higher(),
-                    collider);
-            worldHandler.specificCollisionListeners
-                .computeIfAbsent(bodies.lower(),
-                    key -> new CopyOnWriteArrayList<>())
-                .add(checkup);
+            Body body = actor.physicsHandler().body();
+            Body colliderBody = collider.physicsHandler().body();
+            if (body == null || colliderBody == null)
+            {
+                throw new IllegalArgumentException(
+                        "Kollision: Eine Figur ohne physikalischen Body wurde zur Kollisionsüberwachung angemeldet.");
+            }
+            if (body == colliderBody)
+            {
+                throw new IllegalArgumentException(
+                        "Es fand eine Kollision mit dem gleichen Körper statt.");
+            }
+            worldHandler.obtainCollisionSlot(body).specific
+                .add(new Checkup<>(listener, colliderBody, collider));
         });
     }
 
@@ -750,105 +1414,107 @@ public class WorldHandler implements ContactListener
     }
 
     /**
-     * Sortiert die {@link Body Körper} nach ihrem Hashcode.
+     * Sammelt Kontakte in wiederverwendeten Feldern, die nur bei Bedarf
+     * vergrößert werden.
      *
-     * @since 0.49.0
+     * <p>
+     * Da JBox2D beendete Kontakte wiederverwendet, werden nicht die Kontakte
+     * selbst, sondern Kopien mit den Halterungen, dem Manifold und den Körpern
+     * festgehalten.
+     * </p>
+     *
+     * @since 0.53.0
      */
-    private static class BodySorter
+    private static class ContactBuffer
     {
-        private Body lower;
+        private BufferedContact[] contacts = new BufferedContact[16];
 
-        private Body higher;
+        private Body[] bodiesA = new Body[16];
 
-        /**
-         * Erzeugt einen neuen {@link Body Körper}-Sortierer.
-         *
-         * @param bodyA Der {@link Body Körper} A mit einem beliebigen Hashcode.
-         * @param bodyB Der {@link Body Körper} B mit einem beliebigen Hashcode.
-         *
-         * @throws IllegalArgumentException Falls eine Körper null ist.
-         * @throws IllegalArgumentException Falls Körper A und Körper B die
-         *     gleichen Objekte sind.
-         */
-        BodySorter(Body bodyA, Body bodyB)
-        {
-            if (bodyA == null || bodyB == null)
-            {
-                throw new IllegalArgumentException(
-                        "Kollision: Eine Figur ohne physikalischen Body wurde zur Kollisionsüberwachung angemeldet.");
-            }
+        private Body[] bodiesB = new Body[16];
 
-            if (bodyA == bodyB)
-            {
-                // Gleicher Body
-                throw new IllegalArgumentException(
-                        "Es fand eine Kollision mit dem gleichen Körper statt.");
-            }
+        private boolean[] begins = new boolean[16];
 
-            if (bodyA.hashCode() < bodyB.hashCode())
+        private int size = 0;
+
+        void add(Contact contact, boolean isBegin)
+        {
+            if (size == contacts.length)
             {
-                lower = bodyA;
-                higher = bodyB;
+                int capacity = size * 2;
+                contacts = Arrays.copyOf(contacts, capacity);
+                bodiesA = Arrays.copyOf(bodiesA, capacity);
+                bodiesB = Arrays.copyOf(bodiesB, capacity);
+                begins = Arrays.copyOf(begins, capacity);
             }
-            else
+            bodiesA[size] = colliderBody(contact, true, isBegin);
+            bodiesB[size] = colliderBody(contact, false, isBegin);
+            begins[size] = isBegin;
+            if (contacts[size] == null)
             {
-                lower = bodyB;
-                higher = bodyA;
+                contacts[size] = new BufferedContact();
             }
+            contacts[size].copy(contact);
+            size++;
         }
 
-        /**
-         * Erzeugt einen neuen {@link Body Körper}-Sortierer durch Angabe eines
-         * {@link Contact Kontaktes}.
-         */
-        static BodySorter fromContact(Contact contact)
+        void clear()
         {
-            return new BodySorter(contact.getFixtureA().getBody(),
-                    contact.getFixtureB().getBody());
+            for (int i = 0; i < size; i++)
+            {
+                contacts[i].release();
+            }
+            Arrays.fill(bodiesA, 0, size, null);
+            Arrays.fill(bodiesB, 0, size, null);
+            size = 0;
         }
+    }
 
-        /**
-         * Erzeugt einen neuen {@link Body Körper}-Sortierer durch Angabe
-         * zweiter {@link Actor Figuren}.
-         */
-        static BodySorter fromActors(Actor actorA, Actor actorB)
+    /**
+     * Eine Kopie eines Kontakts, die bis zur Benachrichtigung der
+     * Kollisionsbeobachter unverändert bleibt.
+     *
+     * <p>
+     * Die Kopie wird nicht ausgewertet.
+     * {@link CollisionEvent#ignoreCollision()} setzt die Halterungen der Kopie
+     * auf die Blacklist, sodass der echte Kontakt im nächsten
+     * {@link #preSolve(Contact, Manifold)} deaktiviert wird.
+     * </p>
+     *
+     * @since 0.53.0
+     */
+    private static class BufferedContact extends Contact
+    {
+        BufferedContact()
         {
-            return new BodySorter(actorA.physicsHandler().body(),
-                    actorB.physicsHandler().body());
+            super(null);
         }
 
-        /**
-         * Gibt den {@link Body Körper} mit dem kleinerem Hashcode zurück.
-         *
-         * @return Der {@link Body Körper} mit dem kleinerem Hashcode.
-         *
-         * @since 0.49.0
-         */
-        Body lower()
+        void copy(Contact contact)
         {
-            return lower;
+            init(contact.fixtureA,
+                contact.indexA,
+                contact.fixtureB,
+                contact.indexB);
+            flags = contact.flags;
+            manifold.set(contact.manifold);
+            friction = contact.friction;
+            restitution = contact.restitution;
+            tangentSpeed = contact.tangentSpeed;
+            userData = contact.userData;
         }
 
-        /**
-         * Gibt den {@link Body Körper} mit dem größerem Hashcode zurück.
-         *
-         * @return Der {@link Body Körper} mit dem größerem Hashcode.
-         *
-         * @since 0.49.0
-         */
-        Body higher()
+        void release()
         {
-            return higher;
+            fixtureA = null;
+            fixtureB = null;
+            userData = null;
         }
 
-        /**
-         * Zwei unterschiedliche Objekte könnten denselben Hashcode haben.
-         *
-         * @since 0.49.0
-         */
-        boolean areHashCodesEqual()
+        @Override
+        public void evaluate(Manifold manifold, Transform xfA, Transform xfB)
         {
-            return lower.hashCode() == higher.hashCode();
+            // Die Kopie wird nicht ausgewertet.
         }
     }
 
@@ -865,12 +1531,12 @@ public class WorldHandler implements ContactListener
         /**
          * Die erste Halterung (Fixture).
          */
-        private final Fixture fixtureA;
+        private Fixture fixtureA;
 
         /**
          * Die zweite Halterung (Fixture).
          */
-        private final Fixture fixtureB;
+        private Fixture fixtureB;
 
         /**
          * Erstellt ein neues Fixture-Tupel.
@@ -898,5 +1564,101 @@ public class WorldHandler implements ContactListener
             return (fixtureA == otherA && fixtureB == otherB)
                     || (fixtureA == otherB && fixtureB == otherA);
         }
+
+        /**
+         * Setzt die Halterungen dieses Tupels neu. Wird nur für den
+         * wiederverwendbaren Suchschlüssel verwendet.
+         */
+        FixturePair set(Fixture fixtureA, Fixture fixtureB)
+        {
+            this.fixtureA = fixtureA;
+            this.fixtureB = fixtureB;
+            return this;
+        }
+
+        @Override
+        public boolean equals(Object other)
+        {
+            return other instanceof FixturePair pair
+                    && matches(pair.fixtureA, pair.fixtureB);
+        }
+
+        @Override
+        public int hashCode()
+        {
+            // Die Summe ist unabhängig von der Reihenfolge.
+            return System.identityHashCode(fixtureA)
+                    + System.identityHashCode(fixtureB);
+        }
+    }
+
+    /**
+     * Lässt zwei Halterungen nur dann kollidieren, wenn sowohl ihre
+     * {@link BodyType Typen} (untere 16 Bits der Filter) als auch ihre
+     * {@link Actor#collisionCategory(int) Kollisionskategorien} (obere 16 Bits)
+     * zueinander passen.
+     *
+     * <p>
+     * Der Filter wird bereits in der Broad Phase ausgewertet, bevor ein Kontakt
+     * erzeugt wird.
+     * </p>
+     */
+    private static final class CategoryContactFilter extends ContactFilter
+    {
+        @Override
+        public boolean shouldCollide(Fixture fixtureA, Fixture fixtureB)
+        {
+            Filter filterA = fixtureA.getFilterData();
+            Filter filterB = fixtureB.getFilterData();
+            if (filterA.groupIndex == filterB.groupIndex
+                    && filterA.groupIndex != 0)
+            {
+                return filterA.groupIndex > 0;
+            }
+            return accepts(filterA, filterB) && accepts(filterB, filterA);
+        }
+
+        private static boolean accepts(Filter filter, Filter other)
+        {
+            return (filter.maskBits & other.categoryBits & TYPE_MASK_BITS) != 0
+                    && (collisionBits(filter.maskBits)
+                            & collisionBits(other.categoryBits)) != 0;
+        }
+    }
+
+    /**
+     * Setzt die Bits eines Filters aus den Bits des Typs und den invertierten
+     * Bits der Kollisionskategorien zusammen.
+     */
+    static int filterBits(int typeBits, int collisionBits)
+    {
+        return (typeBits & TYPE_MASK_BITS) | ((~collisionBits
+                & ALL_COLLISION_CATEGORIES) << COLLISION_SHIFT);
+    }
+
+    /**
+     * Gibt die Bits der Kollisionskategorien eines Filters zurück. Sind die
+     * oberen 16 Bits des Filters nicht gesetzt, so sind dies alle Kategorien.
+     */
+    static int collisionBits(int filterBits)
+    {
+        return ~(filterBits >>> COLLISION_SHIFT) & ALL_COLLISION_CATEGORIES;
+    }
+
+    /**
+     * Prüft, ob die Bits gültige Kollisionskategorien sind.
+     *
+     * @throws IllegalArgumentException Falls Bits außerhalb der 16
+     *     Kollisionskategorien gesetzt sind.
+     */
+    static int checkCollisionBits(int bits)
+    {
+        if ((bits & ~ALL_COLLISION_CATEGORIES) != 0)
+        {
+            throw new IllegalArgumentException(
+                    "Es gibt nur 16 Kollisionskategorien (Bits 0x0001 bis 0x8000), war 0x"
+                            + Integer.toHexString(bits));
+        }
+        return bits;
     }
 }
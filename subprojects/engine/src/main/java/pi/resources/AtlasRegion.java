@@ -0,0 +1,42 @@
+/*
+ * Engine Pi ist eine anfängerorientierte 2D-Gaming Engine.
+ *
+ * Copyright (c) 2026 Josef Friedrich and contributors.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package pi.resources;
+
+import java.awt.image.BufferedImage;
+
+/**
+ * Ein rechteckiger <b>Ausschnitt</b> einer Seite eines {@link TextureAtlas
+ * Texturatlas}, in den ein Bild kopiert wurde.
+ *
+ * @param page Die Seite des Texturatlas, in der das Bild liegt.
+ * @param pageIndex Die Nummer der Seite, beginnend mit {@code 0}.
+ * @param x Die x-Koordinate der linken oberen Ecke in der Seite in Pixel.
+ * @param y Die y-Koordinate der linken oberen Ecke in der Seite in Pixel.
+ * @param width Die Breite des Ausschnitts in Pixel.
+ * @param height Die Höhe des Ausschnitts in Pixel.
+ * @param generation Der {@link TextureAtlas#generation() Stand} des
+ *     Texturatlas, zu dem der Ausschnitt angelegt wurde. Nach einem Neuaufbau
+ *     des Texturatlas ist der Ausschnitt ungültig.
+ *
+ * @since 0.53.0
+ */
+public record AtlasRegion(BufferedImage page, int pageIndex, int x, int y,
+        int width, int height, int generation)
+{
+}
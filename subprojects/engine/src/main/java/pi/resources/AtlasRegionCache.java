@@ -0,0 +1,100 @@
+/*
+ * Engine Pi ist eine anfängerorientierte 2D-Gaming Engine.
+ *
+ * Copyright (c) 2026 Josef Friedrich and contributors.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package pi.resources;
+
+import java.awt.image.BufferedImage;
+
+import pi.annotations.Internal;
+
+/**
+ * Merkt sich den {@link AtlasRegion Ausschnitt} eines Bildes im
+ * {@link Resources#atlas Texturatlas}, damit er nicht bei jedem Zeichnen erneut
+ * nachgeschlagen werden muss.
+ *
+ * <p>
+ * Der Ausschnitt wird erneut abgefragt, sobald sich das Bild oder die
+ * {@link TextureAtlas#generation() Generation} des Atlas ändert.
+ * </p>
+ *
+ * @since 0.53.0
+ *
+ * @hidden
+ */
+@Internal
+public final class AtlasRegionCache
+{
+    private final TextureAtlas atlas;
+
+    /**
+     * Gibt an, ob fehlende Bilder dem Atlas hinzugefügt werden.
+     */
+    private final boolean add;
+
+    private BufferedImage image;
+
+    private AtlasRegion region;
+
+    private int generation = -1;
+
+    /**
+     * Erzeugt einen neuen Zwischenspeicher für den {@link Resources#atlas
+     * gemeinsamen Texturatlas}.
+     *
+     * @param add Ob Bilder, die noch nicht im Atlas liegen, hinzugefügt werden
+     *     sollen. Das ist nur für unveränderliche Bilder sinnvoll, z.B. Kacheln
+     *     oder Einzelbilder von Animationen.
+     */
+    public AtlasRegionCache(boolean add)
+    {
+        this(Resources.atlas, add);
+    }
+
+    /**
+     * Erzeugt einen neuen Zwischenspeicher.
+     *
+     * @param atlas Der Texturatlas.
+     * @param add Ob Bilder, die noch nicht im Atlas liegen, hinzugefügt werden
+     *     sollen.
+     */
+    public AtlasRegionCache(TextureAtlas atlas, boolean add)
+    {
+        this.atlas = atlas;
+        this.add = add;
+    }
+
+    /**
+     * Gibt den Ausschnitt des angegebenen Bildes zurück.
+     *
+     * @param image Das Bild.
+     *
+     * @return Der Ausschnitt oder {@code null}, falls das Bild nicht im Atlas
+     *     liegt.
+     */
+    public AtlasRegion region(BufferedImage image)
+    {
+        int current = atlas.generation();
+        if (image != this.image || generation != current)
+        {
+            region = add ? atlas.add(image) : atlas.region(image);
+            this.image = image;
+            generation = current;
+        }
+        return region;
+    }
+}
@@ -29,6 +29,7 @@ import static pi.Controller.config;
 
 import java.awt.Color;
 import java.awt.image.BufferedImage;
+import java.awt.image.DataBuffer;
 import java.net.URL;
 
 import javax.imageio.ImageIO;
@@ -78,6 +79,23 @@ public final class ImageContainer extends ResourcesContainer<BufferedImage>
         return ImageUtil.toCompatibleImage(image);
     }
 
+    /**
+     * Gibt die Größe der dekodierten Bilddaten in Byte zurück.
+     *
+     * @param image Das Bild.
+     *
+     * @return Die Speichergröße der Bilddaten in Byte.
+     *
+     * @since 0.53.0
+     */
+    @Override
+    protected long sizeOf(BufferedImage image)
+    {
+        DataBuffer buffer = image.getRaster().getDataBuffer();
+        return (long) buffer.getSize() * buffer.getNumBanks()
+                * DataBuffer.getDataTypeSize(buffer.getDataType()) / 8;
+    }
+
     /**
      * Ruft ein Bild auf, vergrößert es, indem seine <b>Pixel vervielfältigt</b>
      * werden und <b>färbt</b> es neu.
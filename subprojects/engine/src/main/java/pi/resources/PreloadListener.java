@@ -0,0 +1,44 @@
+/*
+ * Engine Pi ist eine anfängerorientierte 2D-Gaming Engine.
+ *
+ * Copyright (c) 2026 Josef Friedrich and contributors.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package pi.resources;
+
+/**
+ * Beobachtet den <b>Fortschritt</b> eines {@link PreloadManifest}.
+ *
+ * <p>
+ * Die Methode wird auf dem Lade-Thread aufgerufen, der die jeweilige Ressource
+ * geladen hat, und nicht auf dem Thread der Ereignisschleife.
+ * </p>
+ *
+ * @see PreloadManifest#addListener(PreloadListener)
+ *
+ * @since 0.53.0
+ */
+@FunctionalInterface
+public interface PreloadListener
+{
+    /**
+     * Wird aufgerufen, nachdem eine Ressource geladen wurde oder ihr Laden
+     * fehlgeschlagen ist.
+     *
+     * @param completed Die Anzahl an bereits abgeschlossenen Ressourcen.
+     * @param total Die Gesamtzahl an Ressourcen des Manifests.
+     */
+    void progress(int completed, int total);
+}
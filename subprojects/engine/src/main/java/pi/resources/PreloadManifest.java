@@ -0,0 +1,348 @@
+/*
+ * Engine Pi ist eine anfängerorientierte 2D-Gaming Engine.
+ *
+ * Copyright (c) 2026 Josef Friedrich and contributors.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package pi.resources;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import pi.annotations.API;
+import pi.annotations.ChainableMethod;
+import pi.annotations.Getter;
+
+/**
+ * Ein <b>Lade-Manifest</b>, das eine Menge von Bildern, Klängen und
+ * Schriftarten als Einheit im Hintergrund vorlädt.
+ *
+ * <p>
+ * Die Ressourcen werden parallel in den jeweiligen {@link ResourcesContainer
+ * Speichern} geladen. Bilder werden dabei bereits außerhalb der
+ * Ereignisschleife in ein für den Bildschirm optimiertes Format umgewandelt.
+ * Eine Lade-Szene kann den Fortschritt über {@link #progress()} in jedem
+ * Einzelbild abfragen oder sich über einen {@link PreloadListener}
+ * benachrichtigen lassen.
+ * </p>
+ *
+ * <p>
+ * Solange das Manifest nicht {@link #release() freigegeben} wurde, werden seine
+ * Ressourcen nicht durch das {@link ResourcesContainer#memoryBudget(long)
+ * Speicherbudget} verdrängt.
+ * </p>
+ *
+ * <pre>{@code
+ * PreloadManifest level = new PreloadManifest()
+ *     .images("level/tiles.png", "level/hero.png")
+ *     .sounds("level/music.mp3")
+ *     .start();
+ * }</pre>
+ *
+ * @since 0.53.0
+ */
+public final class PreloadManifest
+{
+    /**
+     * Eine einzelne vorzuladende Ressource.
+     */
+    private record Entry(ResourcesContainer<?> container, String name)
+    {
+    }
+
+    private final List<Entry> entries = new ArrayList<>();
+
+    private final List<PreloadListener> listeners = new CopyOnWriteArrayList<>();
+
+    private final List<ResourceLoadException> failures = new CopyOnWriteArrayList<>();
+
+    private final AtomicInteger completed = new AtomicInteger();
+
+    private CountDownLatch done;
+
+    private boolean released;
+
+    /**
+     * Fügt <b>Bilder</b> hinzu, die in {@link Resources#images} geladen werden.
+     *
+     * @param names Die Dateipfade der Bilder.
+     *
+     * @return Eine Referenz auf das eigene Objekt, damit nach dem
+     *     Erbauer/Builder-Entwurfsmuster die Eigenschaften durch aneinander
+     *     gekettete Setter festgelegt werden können, z. B.
+     *     {@code manifest.images(..).sounds(..)}.
+     */
+    @API
+    @ChainableMethod
+    public PreloadManifest images(String... names)
+    {
+        return add(Resources.images, names);
+    }
+
+    /**
+     * Fügt <b>Klänge</b> hinzu, die in {@link Resources#sounds} geladen werden.
+     *
+     * @param names Die Dateipfade der Klänge.
+     *
+     * @return Eine Referenz auf das eigene Objekt, damit nach dem
+     *     Erbauer/Builder-Entwurfsmuster die Eigenschaften durch aneinander
+     *     gekettete Setter festgelegt werden können, z. B.
+     *     {@code manifest.images(..).sounds(..)}.
+     */
+    @API
+    @ChainableMethod
+    public PreloadManifest sounds(String... names)
+    {
+        return add(Resources.sounds, names);
+    }
+
+    /**
+     * Fügt <b>Schriftarten</b> hinzu, die in {@link Resources#fonts} geladen
+     * werden.
+     *
+     * @param names Die Dateipfade der Schriftarten.
+     *
+     * @return Eine Referenz auf das eigene Objekt, damit nach dem
+     *     Erbauer/Builder-Entwurfsmuster die Eigenschaften durch aneinander
+     *     gekettete Setter festgelegt werden können, z. B.
+     *     {@code manifest.images(..).fonts(..)}.
+     */
+    @API
+    @ChainableMethod
+    public PreloadManifest fonts(String... names)
+    {
+        return add(Resources.fonts, names);
+    }
+
+    /**
+     * Fügt Ressourcen hinzu, die in einem beliebigen Speicher geladen werden.
+     *
+     * @param container Der Speicher, in den die Ressourcen geladen werden.
+     * @param names Die Namen bzw. Dateipfade der Ressourcen.
+     *
+     * @return Eine Referenz auf das eigene Objekt, damit nach dem
+     *     Erbauer/Builder-Entwurfsmuster die Eigenschaften durch aneinander
+     *     gekettete Setter festgelegt werden können.
+     *
+     * @throws IllegalStateException Falls das Laden bereits gestartet wurde.
+     */
+    @ChainableMethod
+    public synchronized PreloadManifest add(ResourcesContainer<?> container,
+            String... names)
+    {
+        if (done != null)
+        {
+            throw new IllegalStateException(
+                    "Das Laden des Manifests wurde bereits gestartet.");
+        }
+        for (String name : names)
+        {
+            entries.add(new Entry(container, name));
+        }
+        return this;
+    }
+
+    /**
+     * Meldet einen Beobachter an, der nach jeder geladenen Ressource
+     * benachrichtigt wird.
+     *
+     * @param listener Der Beobachter.
+     *
+     * @return Eine Referenz auf das eigene Objekt, damit nach dem
+     *     Erbauer/Builder-Entwurfsmuster die Eigenschaften durch aneinander
+     *     gekettete Setter festgelegt werden können.
+     */
+    @API
+    @ChainableMethod
+    public PreloadManifest addListener(PreloadListener listener)
+    {
+        listeners.add(listener);
+        return this;
+    }
+
+    /**
+     * <b>Startet</b> das parallele Laden aller Ressourcen im Hintergrund.
+     * Weitere Aufrufe haben keine Wirkung.
+     *
+     * @return Eine Referenz auf das eigene Objekt, damit nach dem
+     *     Erbauer/Builder-Entwurfsmuster die Eigenschaften durch aneinander
+     *     gekettete Setter festgelegt werden können.
+     */
+    @API
+    @ChainableMethod
+    public synchronized PreloadManifest start()
+    {
+        if (done != null)
+        {
+            return this;
+        }
+        done = new CountDownLatch(entries.size());
+        for (Entry entry : entries)
+        {
+            entry.container.pin(entry.name);
+        }
+        for (Entry entry : entries)
+        {
+            ResourcesContainer.ASYNC_POOL.execute(() -> load(entry));
+        }
+        return this;
+    }
+
+    private void load(Entry entry)
+    {
+        try
+        {
+            entry.container.get(entry.name);
+        }
+        catch (ResourceLoadException e)
+        {
+            failures.add(e);
+        }
+        catch (RuntimeException e)
+        {
+            failures.add(new ResourceLoadException(e));
+        }
+        int count = completed.incrementAndGet();
+        try
+        {
+            for (PreloadListener listener : listeners)
+            {
+                listener.progress(count, entries.size());
+            }
+        }
+        finally
+        {
+            // Erst nach den Beobachtern freigeben, damit await() nicht vor der
+            // letzten Benachrichtigung zurückkehrt.
+            done.countDown();
+        }
+    }
+
+    /**
+     * Wartet, bis alle Ressourcen geladen wurden. Startet das Laden, falls es
+     * noch nicht gestartet wurde.
+     *
+     * @return Eine Referenz auf das eigene Objekt, damit nach dem
+     *     Erbauer/Builder-Entwurfsmuster die Eigenschaften durch aneinander
+     *     gekettete Setter festgelegt werden können.
+     */
+    @API
+    @ChainableMethod
+    public PreloadManifest await()
+    {
+        start();
+        try
+        {
+            done.await();
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+        }
+        return this;
+    }
+
+    /**
+     * Gibt die <b>Gesamtzahl</b> an Ressourcen des Manifests zurück.
+     *
+     * @return Die Anzahl an Ressourcen.
+     */
+    @API
+    @Getter
+    public synchronized int total()
+    {
+        return entries.size();
+    }
+
+    /**
+     * Gibt die Anzahl an bereits <b>abgeschlossenen</b> Ressourcen zurück,
+     * einschließlich der fehlgeschlagenen.
+     *
+     * @return Die Anzahl an abgeschlossenen Ressourcen.
+     */
+    @API
+    @Getter
+    public int completed()
+    {
+        return completed.get();
+    }
+
+    /**
+     * Gibt den <b>Fortschritt</b> als Anteil zwischen {@code 0} und {@code 1}
+     * zurück.
+     *
+     * @return Der Anteil der abgeschlossenen Ressourcen. Ein leeres Manifest
+     *     hat den Fortschritt {@code 1}.
+     */
+    @API
+    @Getter
+    public double progress()
+    {
+        int total = total();
+        if (total == 0)
+        {
+            return 1;
+        }
+        return (double) completed() / total;
+    }
+
+    /**
+     * Gibt an, ob alle Ressourcen <b>abgeschlossen</b> sind.
+     *
+     * @return {@code true}, falls das Laden gestartet wurde und alle Ressourcen
+     *     geladen wurden oder fehlgeschlagen sind.
+     */
+    @API
+    public synchronized boolean isDone()
+    {
+        return done != null && done.getCount() == 0;
+    }
+
+    /**
+     * Gibt die <b>Fehler</b> der Ressourcen zurück, die nicht geladen werden
+     * konnten.
+     *
+     * @return Eine unveränderliche Liste der Fehler.
+     */
+    @API
+    @Getter
+    public List<ResourceLoadException> failures()
+    {
+        return Collections.unmodifiableList(failures);
+    }
+
+    /**
+     * <b>Gibt</b> die Ressourcen des Manifests <b>frei</b>, sodass sie bei
+     * Überschreitung des Speicherbudgets wieder verdrängt werden dürfen. Die
+     * Ressourcen bleiben im Speicher, bis sie verdrängt werden.
+     */
+    @API
+    public synchronized void release()
+    {
+        if (done == null || released)
+        {
+            return;
+        }
+        released = true;
+        for (Entry entry : entries)
+        {
+            entry.container.unpin(entry.name);
+        }
+    }
+}
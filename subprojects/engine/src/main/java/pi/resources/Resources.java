@@ -65,6 +65,14 @@ public final class Resources
      */
     public static final ImageContainer images = new ImageContainer();
 
+    /**
+     * Ein <b>Texturatlas</b>, in den alle Bilder aus {@link #images} sowie
+     * Kacheln und Einzelbilder von Animationen gepackt werden.
+     *
+     * @since 0.53.0
+     */
+    public static final TextureAtlas atlas = new TextureAtlas(images);
+
     /**
      * Ein Speicher für <b>Klänge</b> des Datentyps
      * {@link pi.resources.sound.Sound Sound}.
@@ -25,9 +25,13 @@
  */
 package pi.resources;
 
+import java.lang.ref.WeakReference;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -39,7 +43,9 @@ import java.util.concurrent.Future;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 
+import pi.annotations.API;
 import pi.annotations.Getter;
+import pi.annotations.Setter;
 
 /**
  * Eine abstrakte Implementierung für Unterklassen, die einen bestimmten Typ von
@@ -51,6 +57,16 @@ import pi.annotations.Getter;
  * also um einen Cache.
  * </p>
  *
+ * <p>
+ * Mit {@link #memoryBudget(long)} lässt sich die Summe der Speichergrößen aller
+ * Ressourcen begrenzen. Wird das Budget überschritten, verdrängt der Speicher
+ * die am längsten nicht verwendeten Ressourcen, die nicht von einem
+ * {@link PreloadManifest} festgehalten werden. Verdrängte Ressourcen werden nur
+ * noch schwach referenziert: Solange sie noch an anderer Stelle, zum Beispiel
+ * von einer Figur, verwendet werden, liefert der Speicher dieselbe Instanz ohne
+ * erneutes Laden zurück.
+ * </p>
+ *
  * @param <T> Der Datentyp der Ressource, die in dieser Instanz enthalten ist.
  *
  * @see ResourcesContainerListener
@@ -63,8 +79,7 @@ public abstract class ResourcesContainer<T> implements Container<T>
     // use a work-stealing pool to maximize resource load speed while minimizing
     // the number of resources
     // in use
-    private static final ExecutorService ASYNC_POOL = Executors
-        .newWorkStealingPool();
+    static final ExecutorService ASYNC_POOL = Executors.newWorkStealingPool();
 
     private final Map<String, T> resources = new ConcurrentHashMap<>();
 
@@ -76,6 +91,30 @@ public abstract class ResourcesContainer<T> implements Container<T>
 
     private ResourceManipulator<T> manipulator;
 
+    /**
+     * Die Speichergrößen der Ressourcen in der Reihenfolge ihrer letzten
+     * Verwendung. Die am längsten nicht verwendete Ressource steht am Anfang.
+     * Alle Zugriffe sind über diese Tabelle synchronisiert.
+     */
+    private final LinkedHashMap<String, Long> usage = new LinkedHashMap<>(16,
+            0.75f, true);
+
+    /**
+     * Wie oft eine Ressource von einem {@link PreloadManifest} festgehalten
+     * wird. Festgehaltene Ressourcen werden nicht verdrängt.
+     */
+    private final Map<String, Integer> pins = new HashMap<>();
+
+    /**
+     * Verdrängte Ressourcen, die eventuell noch an anderer Stelle verwendet
+     * werden.
+     */
+    private final Map<String, WeakReference<T>> evicted = new ConcurrentHashMap<>();
+
+    private long usedBytes;
+
+    private long memoryBudget;
+
     /**
      * Add a new container listener to this instance in order to observe
      * resource life cycles. The listener will get notified whenever a resource
@@ -183,10 +222,13 @@ public abstract class ResourcesContainer<T> implements Container<T>
             }
         }
         resources.put(name, resource);
+        evicted.remove(name);
+        track(name, resource);
         for (ResourcesContainerListener<T> listener : listeners)
         {
             listener.added(name, resource);
         }
+        evict(name);
         return resource;
     }
 
@@ -202,6 +244,12 @@ public abstract class ResourcesContainer<T> implements Container<T>
     public void clear()
     {
         resources.clear();
+        evicted.clear();
+        synchronized (usage)
+        {
+            usage.clear();
+            usedBytes = 0;
+        }
         for (ResourcesContainerListener<T> listener : listeners)
         {
             listener.cleared();
@@ -374,6 +422,10 @@ public abstract class ResourcesContainer<T> implements Container<T>
                     "Der Name der Ressource darf nicht null sein.");
         }
         T resource = resources.get(name);
+        if (!forceLoad && resource == null)
+        {
+            resource = revive(name);
+        }
         if (forceLoad || resource == null)
         {
             resource = loadResource(name);
@@ -384,6 +436,7 @@ public abstract class ResourcesContainer<T> implements Container<T>
             }
             return add(name, resource);
         }
+        touch(name);
         return resource;
     }
 
@@ -491,6 +544,7 @@ public abstract class ResourcesContainer<T> implements Container<T>
         T removedResource = resources.remove(name);
         if (removedResource != null)
         {
+            untrack(name);
             for (ResourcesContainerListener<? super T> listener : listeners)
             {
                 listener.removed(name, removedResource);
@@ -539,6 +593,215 @@ public abstract class ResourcesContainer<T> implements Container<T>
 
     protected abstract T load(URL name) throws ResourceLoadException;
 
+    /**
+     * Schätzt die <b>Speichergröße</b> einer Ressource in Byte.
+     *
+     * <p>
+     * Die Größe wird für das {@link #memoryBudget(long) Speicherbudget}
+     * verwendet. Ressourcen der Größe {@code 0} zählen nicht zum Budget.
+     * </p>
+     *
+     * @param resource Die Ressource.
+     *
+     * @return Die Speichergröße in Byte. Die Standardimplementierung gibt
+     *     {@code 0} zurück.
+     *
+     * @since 0.53.0
+     */
+    protected long sizeOf(T resource)
+    {
+        return 0;
+    }
+
+    /**
+     * Legt das <b>Speicherbudget</b> fest, also die maximale Summe der
+     * {@link #sizeOf(Object) Speichergrößen} aller Ressourcen.
+     *
+     * @param bytes Das Budget in Byte. {@code 0} bedeutet unbegrenzt.
+     *
+     * @since 0.53.0
+     */
+    @API
+    @Setter
+    public void memoryBudget(long bytes)
+    {
+        if (bytes < 0)
+        {
+            throw new IllegalArgumentException(
+                    "Das Speicherbudget darf nicht negativ sein, war " + bytes);
+        }
+        synchronized (usage)
+        {
+            memoryBudget = bytes;
+        }
+        evict(null);
+    }
+
+    /**
+     * Gibt das <b>Speicherbudget</b> in Byte zurück.
+     *
+     * @return Das Budget in Byte. {@code 0} bedeutet unbegrenzt.
+     *
+     * @since 0.53.0
+     */
+    @API
+    @Getter
+    public long memoryBudget()
+    {
+        synchronized (usage)
+        {
+            return memoryBudget;
+        }
+    }
+
+    /**
+     * Gibt die Summe der {@link #sizeOf(Object) Speichergrößen} aller
+     * gespeicherten Ressourcen in Byte zurück.
+     *
+     * @return Der <b>belegte Speicher</b> in Byte.
+     *
+     * @since 0.53.0
+     */
+    @API
+    @Getter
+    public long usedBytes()
+    {
+        synchronized (usage)
+        {
+            return usedBytes;
+        }
+    }
+
+    /**
+     * Hält eine Ressource fest, sodass sie nicht verdrängt wird.
+     *
+     * @param name Der Name, unter dem die Ressource verwaltet wird.
+     */
+    void pin(String name)
+    {
+        synchronized (usage)
+        {
+            pins.merge(name, 1, Integer::sum);
+        }
+    }
+
+    /**
+     * Gibt eine mit {@link #pin(String)} festgehaltene Ressource wieder frei.
+     *
+     * @param name Der Name, unter dem die Ressource verwaltet wird.
+     */
+    void unpin(String name)
+    {
+        synchronized (usage)
+        {
+            pins.computeIfPresent(name,
+                (key, count) -> count > 1 ? count - 1 : null);
+        }
+        evict(null);
+    }
+
+    private void track(String name, T resource)
+    {
+        long size = sizeOf(resource);
+        synchronized (usage)
+        {
+            Long previous = usage.put(name, size);
+            usedBytes += size - (previous != null ? previous : 0);
+        }
+    }
+
+    private void untrack(String name)
+    {
+        synchronized (usage)
+        {
+            Long previous = usage.remove(name);
+            if (previous != null)
+            {
+                usedBytes -= previous;
+            }
+        }
+    }
+
+    private void touch(String name)
+    {
+        synchronized (usage)
+        {
+            usage.get(name);
+        }
+    }
+
+    /**
+     * Holt eine verdrängte Ressource zurück, falls sie noch an anderer Stelle
+     * verwendet wird.
+     */
+    private T revive(String name)
+    {
+        WeakReference<T> reference = evicted.remove(name);
+        if (reference == null)
+        {
+            return null;
+        }
+        T resource = reference.get();
+        if (resource == null)
+        {
+            return null;
+        }
+        resources.put(name, resource);
+        track(name, resource);
+        evict(name);
+        return resource;
+    }
+
+    /**
+     * Verdrängt die am längsten nicht verwendeten Ressourcen, bis das
+     * Speicherbudget wieder eingehalten wird.
+     *
+     * @param keep Der Name einer Ressource, die gerade hinzugefügt wurde und
+     *     nicht verdrängt werden soll, oder {@code null}.
+     */
+    private void evict(String keep)
+    {
+        List<String> victims = null;
+        synchronized (usage)
+        {
+            if (memoryBudget <= 0 || usedBytes <= memoryBudget)
+            {
+                return;
+            }
+            long remaining = usedBytes;
+            Iterator<Map.Entry<String, Long>> iterator = usage.entrySet()
+                .iterator();
+            while (remaining > memoryBudget && iterator.hasNext())
+            {
+                Map.Entry<String, Long> entry = iterator.next();
+                String name = entry.getKey();
+                if (entry.getValue() == 0 || name.equals(keep)
+                        || pins.containsKey(name))
+                {
+                    continue;
+                }
+                remaining -= entry.getValue();
+                if (victims == null)
+                {
+                    victims = new ArrayList<>();
+                }
+                victims.add(name);
+            }
+        }
+        if (victims == null)
+        {
+            return;
+        }
+        for (String name : victims)
+        {
+            T resource = remove(name);
+            if (resource != null)
+            {
+                evicted.put(name, new WeakReference<>(resource));
+            }
+        }
+    }
+
     /**
      * Ruft einen Alias für den angegebenen resourceName ab. Die Bereitstellung
      * eines Alias hängt von der jeweiligen ResourceContainer-Implementierung
@@ -0,0 +1,441 @@
+/*
+ * Engine Pi ist eine anfängerorientierte 2D-Gaming Engine.
+ *
+ * Copyright (c) 2026 Josef Friedrich and contributors.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package pi.resources;
+
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import pi.annotations.API;
+import pi.annotations.Getter;
+import pi.util.ImageUtil;
+
+/**
+ * Ein <b>Texturatlas</b>, der viele kleine Bilder in wenige große <b>Seiten</b>
+ * packt.
+ *
+ * <p>
+ * Werden viele Kacheln oder Einzelbilder aus wenigen großen Bildern gezeichnet,
+ * kann Java2D diese Bilder einmal im Grafikspeicher ablegen und muss nicht für
+ * jedes kleine Bild erneut Daten übertragen. Die Bilder werden zeilenweise in
+ * Regalen (Shelves) auf die Seiten verteilt. Jedes neu hinzugefügte Bild wird
+ * nur in die freie Fläche einer Seite kopiert, die übrigen Bilder bleiben
+ * unberührt.
+ * </p>
+ *
+ * <p>
+ * Der Atlas hält die Bilder nur schwach referenziert. Ist kein Platz mehr frei,
+ * werden die Seiten einmal mit den noch verwendeten Bildern <b>neu
+ * aufgebaut</b>. Dabei erhöht sich die {@link #generation() Generation}, sodass
+ * zuvor zwischengespeicherte {@link AtlasRegion Ausschnitte} erneut abgefragt
+ * werden müssen.
+ * </p>
+ *
+ * @see Resources#atlas
+ *
+ * @since 0.53.0
+ */
+public final class TextureAtlas
+{
+    /**
+     * Die Standardkantenlänge einer Seite in Pixel.
+     */
+    public static final int DEFAULT_PAGE_SIZE = 1024;
+
+    /**
+     * Die Standardanzahl an Seiten, die höchstens angelegt werden.
+     */
+    public static final int DEFAULT_MAX_PAGES = 8;
+
+    /**
+     * Der Abstand zwischen zwei Bildern in Pixel.
+     */
+    private static final int PADDING = 1;
+
+    private final int pageSize;
+
+    private final int maxPages;
+
+    private final List<Page> pages = new ArrayList<>();
+
+    /**
+     * Die Ausschnitte der gepackten Bilder. Da {@link BufferedImage} weder
+     * {@code equals} noch {@code hashCode} überschreibt, werden die Bilder nach
+     * ihrer Identität unterschieden.
+     */
+    private final Map<BufferedImage, AtlasRegion> regions = new WeakHashMap<>();
+
+    /**
+     * Die Anzahl der seit dem letzten Neuaufbau gepackten Bilder.
+     */
+    private int packed = 0;
+
+    private volatile int generation = 0;
+
+    /**
+     * Erzeugt einen neuen Texturatlas mit Standardgröße, der alle Bilder, die
+     * in den angegebenen Speicher geladen werden, automatisch aufnimmt.
+     *
+     * @param images Der Speicher, dessen Bilder aufgenommen werden.
+     */
+    public TextureAtlas(ImageContainer images)
+    {
+        this(DEFAULT_PAGE_SIZE, DEFAULT_MAX_PAGES);
+        images.addContainerListener(new ResourcesContainerListener<>()
+        {
+            @Override
+            public void added(String resourceName, BufferedImage resource)
+            {
+                add(resource);
+            }
+
+            @Override
+            public void removed(String resourceName, BufferedImage resource)
+            {
+                remove(resource);
+            }
+
+            @Override
+            public void cleared()
+            {
+                clear();
+            }
+        });
+    }
+
+    /**
+     * Erzeugt einen neuen, leeren Texturatlas.
+     *
+     * @param pageSize Die Kantenlänge einer quadratischen Seite in Pixel.
+     * @param maxPages Die Anzahl an Seiten, die höchstens angelegt werden.
+     */
+    public TextureAtlas(int pageSize, int maxPages)
+    {
+        if (pageSize <= 0 || maxPages <= 0)
+        {
+            throw new IllegalArgumentException(
+                    "Die Seitengröße und die Seitenanzahl müssen größer als 0 sein.");
+        }
+        this.pageSize = pageSize;
+        this.maxPages = maxPages;
+    }
+
+    /**
+     * Gibt die Kantenlänge einer Seite in Pixel zurück.
+     *
+     * @return Die Kantenlänge einer Seite in Pixel.
+     */
+    @API
+    @Getter
+    public int pageSize()
+    {
+        return pageSize;
+    }
+
+    /**
+     * Gibt die größte Kantenlänge in Pixel zurück, die ein Bild haben darf,
+     * damit es in den Atlas aufgenommen wird. Größere Bilder, z.B.
+     * Hintergründe, werden weiterhin direkt gezeichnet.
+     *
+     * @return Die größte Kantenlänge eines Bildes in Pixel.
+     */
+    @API
+    @Getter
+    public int maxImageSize()
+    {
+        return pageSize / 2;
+    }
+
+    /**
+     * Gibt die <b>Generation</b> des Atlas zurück, die sich bei jedem Neuaufbau
+     * erhöht.
+     *
+     * @return Die aktuelle Generation.
+     */
+    @API
+    @Getter
+    public int generation()
+    {
+        return generation;
+    }
+
+    /**
+     * Gibt die Anzahl der angelegten Seiten zurück.
+     *
+     * @return Die Anzahl der Seiten.
+     */
+    @API
+    @Getter
+    public synchronized int pageCount()
+    {
+        return pages.size();
+    }
+
+    /**
+     * Gibt eine Seite des Atlas zurück.
+     *
+     * @param index Die Nummer der Seite, beginnend mit {@code 0}.
+     *
+     * @return Die Seite als Bild.
+     */
+    @API
+    @Getter
+    public synchronized BufferedImage page(int index)
+    {
+        return pages.get(index).image;
+    }
+
+    /**
+     * Gibt die Anzahl der Bilder im Atlas zurück.
+     *
+     * @return Die Anzahl der Bilder.
+     */
+    @API
+    @Getter
+    public synchronized int regionCount()
+    {
+        return regions.size();
+    }
+
+    /**
+     * Gibt den <b>Ausschnitt</b> eines Bildes zurück, ohne es hinzuzufügen.
+     *
+     * @param image Das gesuchte Bild.
+     *
+     * @return Der Ausschnitt oder {@code null}, falls das Bild nicht im Atlas
+     *     liegt.
+     */
+    @API
+    public synchronized AtlasRegion region(BufferedImage image)
+    {
+        return regions.get(image);
+    }
+
+    /**
+     * <b>Fügt</b> ein Bild dem Atlas <b>hinzu</b>, falls es noch nicht
+     * enthalten ist, und gibt seinen Ausschnitt zurück.
+     *
+     * <p>
+     * Das Bild wird kopiert. Spätere Änderungen an den Pixeln des Bildes werden
+     * daher nicht übernommen.
+     * </p>
+     *
+     * @param image Das Bild, das aufgenommen werden soll.
+     *
+     * @return Der Ausschnitt oder {@code null}, falls das Bild zu groß ist oder
+     *     im Atlas kein Platz mehr frei ist.
+     */
+    @API
+    public synchronized AtlasRegion add(BufferedImage image)
+    {
+        if (image == null)
+        {
+            return null;
+        }
+        AtlasRegion region = regions.get(image);
+        if (region != null)
+        {
+            return region;
+        }
+        if (image.getWidth() > maxImageSize()
+                || image.getHeight() > maxImageSize())
+        {
+            return null;
+        }
+        region = pack(image);
+        if (region == null && regions.size() < packed)
+        {
+            // Bilder wurden entfernt oder nicht mehr verwendet. Ein Neuaufbau
+            // gibt ihre Fläche wieder frei.
+            rebuild();
+            region = pack(image);
+        }
+        return region;
+    }
+
+    /**
+     * <b>Entfernt</b> ein Bild aus dem Atlas. Seine Fläche wird beim nächsten
+     * Neuaufbau wieder frei.
+     *
+     * @param image Das Bild, das entfernt werden soll.
+     */
+    @API
+    public synchronized void remove(BufferedImage image)
+    {
+        regions.remove(image);
+    }
+
+    /**
+     * <b>Leert</b> den Atlas. Die Seiten bleiben für neue Bilder erhalten.
+     */
+    @API
+    public synchronized void clear()
+    {
+        regions.clear();
+        packed = 0;
+        generation++;
+        for (Page page : pages)
+        {
+            page.reset();
+        }
+    }
+
+    /**
+     * Baut alle Seiten mit den noch verwendeten Bildern neu auf. Die Bilder
+     * werden dabei nach ihrer Höhe sortiert, um die Regale möglichst dicht zu
+     * füllen.
+     */
+    private void rebuild()
+    {
+        BufferedImage[] images = regions.keySet().toArray(new BufferedImage[0]);
+        Arrays.sort(images,
+            Comparator.comparingInt((BufferedImage image) -> image.getHeight())
+                .reversed());
+        clear();
+        for (BufferedImage image : images)
+        {
+            pack(image);
+        }
+    }
+
+    private AtlasRegion pack(BufferedImage image)
+    {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        for (int i = 0; i <= pages.size(); i++)
+        {
+            if (i == pages.size())
+            {
+                if (pages.size() == maxPages)
+                {
+                    return null;
+                }
+                pages.add(new Page(pageSize));
+            }
+            Page page = pages.get(i);
+            long position = page.allocate(width + PADDING, height + PADDING);
+            if (position >= 0)
+            {
+                int x = (int) (position >> 32);
+                int y = (int) position;
+                page.copy(image, x, y);
+                AtlasRegion region = new AtlasRegion(page.image, i, x, y, width,
+                        height, generation);
+                regions.put(image, region);
+                packed++;
+                return region;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Eine Seite des Atlas, die in waagrechte Regale eingeteilt ist.
+     */
+    private static final class Page
+    {
+        private final BufferedImage image;
+
+        private final int size;
+
+        private int[] shelfY = new int[8];
+
+        private int[] shelfHeight = new int[8];
+
+        private int[] shelfX = new int[8];
+
+        private int shelves = 0;
+
+        /**
+         * Die y-Koordinate, an der das nächste Regal beginnt.
+         */
+        private int nextShelfY = 0;
+
+        Page(int size)
+        {
+            this.size = size;
+            image = ImageUtil.getCompatibleImage(size, size);
+        }
+
+        /**
+         * Reserviert eine Fläche.
+         *
+         * @return Die Position als {@code x << 32 | y} oder {@code -1}, falls
+         *     die Seite voll ist.
+         */
+        long allocate(int width, int height)
+        {
+            // Das niedrigste passende Regal verschwendet am wenigsten Fläche.
+            int best = -1;
+            for (int i = 0; i < shelves; i++)
+            {
+                if (height <= shelfHeight[i] && shelfX[i] + width <= size
+                        && (best < 0 || shelfHeight[i] < shelfHeight[best]))
+                {
+                    best = i;
+                }
+            }
+            if (best < 0)
+            {
+                if (nextShelfY + height > size || width > size)
+                {
+                    return -1;
+                }
+                if (shelves == shelfY.length)
+                {
+                    shelfY = Arrays.copyOf(shelfY, shelves * 2);
+                    shelfHeight = Arrays.copyOf(shelfHeight, shelves * 2);
+                    shelfX = Arrays.copyOf(shelfX, shelves * 2);
+                }
+                best = shelves++;
+                shelfY[best] = nextShelfY;
+                shelfHeight[best] = height;
+                shelfX[best] = 0;
+                nextShelfY += height;
+            }
+            int x = shelfX[best];
+            shelfX[best] += width;
+            return ((long) x << 32) | shelfY[best];
+        }
+
+        void copy(BufferedImage source, int x, int y)
+        {
+            Graphics2D g = image.createGraphics();
+            g.setComposite(AlphaComposite.Src);
+            g.drawImage(source, x, y, null);
+            g.dispose();
+        }
+
+        void reset()
+        {
+            Graphics2D g = image.createGraphics();
+            g.setComposite(AlphaComposite.Clear);
+            g.fillRect(0, 0, size, size);
+            g.dispose();
+            shelves = 0;
+            nextShelfY = 0;
+        }
+    }
+}
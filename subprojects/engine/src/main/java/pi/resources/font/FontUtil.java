@@ -88,6 +88,12 @@ public final class FontUtil
      * Bestimmt die <b>Abmessungen einer Zeichenkette</b> in einer bestimmten
      * Schriftart in Pixel.
      *
+     * <p>
+     * Die Breiten einfacher Zeichen werden je Schriftart zwischengespeichert.
+     * Ändert sich nur der Text, z.B. bei einem Zähler, muss Java2D daher nur
+     * neue Zeichen ausmessen.
+     * </p>
+     *
      * @param content Die <b>Zeichenkette</b>, von der die Abmessungen bestimmt
      *     werden sollen.
      * @param font Die <b>Schriftart</b>, von der die Abmessungen bestimmt
@@ -101,6 +107,14 @@ public final class FontUtil
     public static FontStringBounds getStringBounds(String content, Font font)
     {
         Canvas canvas = getCanvas();
+        if (GlyphMetrics.isSimple(content, font))
+        {
+            // Einfache Texte werden aus den zwischengespeicherten
+            // Zeichenbreiten zusammengesetzt.
+            return new FontStringBounds(
+                    GlyphMetrics.of(font, canvas::getFontMetrics)
+                        .bounds(content));
+        }
         return new FontStringBounds(canvas.getFontMetrics(font)
             .getStringBounds(content, getGraphics()));
     }
@@ -0,0 +1,341 @@
+/*
+ * Engine Pi ist eine anfängerorientierte 2D-Gaming Engine.
+ *
+ * Copyright (c) 2026 Josef Friedrich and contributors.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package pi.resources.font;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.RenderingHints;
+import java.awt.font.FontRenderContext;
+import java.awt.font.GlyphVector;
+import java.awt.image.BufferedImage;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import pi.annotations.API;
+import pi.annotations.Getter;
+import pi.resources.AtlasRegion;
+import pi.resources.TextureAtlas;
+
+/**
+ * Ein <b>Glyphenatlas</b>, der die Zeichen einer Schriftart in einer festen
+ * Pixelgröße und Farbe einmal rastert und in einem gemeinsamen
+ * {@link TextureAtlas Texturatlas} ablegt.
+ *
+ * <p>
+ * Ein Text wird anschließend als Folge von Bildausschnitten gezeichnet, die
+ * alle aus wenigen großen Seiten stammen. Java2D muss die Umrisse der Zeichen
+ * dadurch nicht in jedem Einzelbild erneut rastern.
+ * </p>
+ *
+ * <p>
+ * Es werden höchstens {@link #MAX_ATLASES} Glyphenatlanten gleichzeitig
+ * vorgehalten. Der am längsten nicht verwendete Atlas wird verworfen und gibt
+ * seine Fläche im Texturatlas frei.
+ * </p>
+ *
+ * @see GlyphRun
+ *
+ * @since 0.53.0
+ */
+public final class GlyphAtlas
+{
+    /**
+     * Die größte <b>Pixelgröße</b> einer Schriftart, deren Zeichen gerastert
+     * werden. Größere Texte werden weiterhin als Vektorgrafik gezeichnet.
+     */
+    public static final int MAX_PIXEL_SIZE = 128;
+
+    /**
+     * Die Anzahl an Glyphenatlanten, die höchstens gleichzeitig vorgehalten
+     * werden.
+     */
+    public static final int MAX_ATLASES = 32;
+
+    /**
+     * Der gemeinsame Texturatlas aller Glyphenatlanten.
+     */
+    private static final TextureAtlas textures = new TextureAtlas(1024, 4);
+
+    private static final Map<Key, GlyphAtlas> atlases = new LinkedHashMap<>(16,
+            0.75f, true)
+    {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, GlyphAtlas> eldest)
+        {
+            if (size() > MAX_ATLASES)
+            {
+                eldest.getValue().release();
+                return true;
+            }
+            return false;
+        }
+    };
+
+    /**
+     * Der Schlüssel eines Glyphenatlas.
+     */
+    private record Key(Font font, int pixelSize, int rgb)
+    {
+    }
+
+    /**
+     * Ein gerastertes <b>Zeichen</b>.
+     */
+    static final class Glyph
+    {
+        /**
+         * Das Bild des Zeichens oder {@code null} bei Leerzeichen.
+         */
+        final BufferedImage image;
+
+        /**
+         * Der Abstand der linken Bildkante vom Stift in Pixel.
+         */
+        final int left;
+
+        /**
+         * Der Abstand der oberen Bildkante von der Grundlinie in Pixel (meist
+         * negativ).
+         */
+        final int top;
+
+        /**
+         * Die Strecke, um die der Stift nach dem Zeichen weiterrückt.
+         */
+        final float advance;
+
+        /**
+         * Der Ausschnitt im Texturatlas oder {@code null}.
+         */
+        AtlasRegion region;
+
+        /**
+         * Die {@link TextureAtlas#generation() Generation} des Texturatlas, für
+         * die {@link #region} ermittelt wurde.
+         */
+        int generation = -1;
+
+        Glyph(BufferedImage image, int left, int top, float advance)
+        {
+            this.image = image;
+            this.left = left;
+            this.top = top;
+            this.advance = advance;
+        }
+    }
+
+    private final Font font;
+
+    private final Color color;
+
+    private final FontRenderContext context = new FontRenderContext(null, true,
+            false);
+
+    /**
+     * Die Zeichen unterhalb von {@link GlyphMetrics#MIN_COMPLEX_CHAR}.
+     */
+    private final Glyph[] glyphs = new Glyph[GlyphMetrics.MIN_COMPLEX_CHAR];
+
+    private final char[] single = new char[1];
+
+    private boolean released = false;
+
+    private GlyphAtlas(Font font, Color color)
+    {
+        this.font = font;
+        this.color = color;
+    }
+
+    /**
+     * Gibt den Glyphenatlas einer Schriftart in einer bestimmten
+     * <b>Pixelgröße</b> und <b>Farbe</b> zurück.
+     *
+     * @param font Die Schriftart. Ihre Größe wird durch {@code pixelSize}
+     *     ersetzt.
+     * @param pixelSize Die Größe der Schrift in Pixel, höchstens
+     *     {@link #MAX_PIXEL_SIZE}.
+     * @param color Die Farbe der Zeichen.
+     *
+     * @return Der Glyphenatlas.
+     */
+    @API
+    public static synchronized GlyphAtlas of(Font font, int pixelSize,
+            Color color)
+    {
+        if (pixelSize <= 0 || pixelSize > MAX_PIXEL_SIZE)
+        {
+            throw new IllegalArgumentException(
+                    "Die Pixelgröße muss zwischen 1 und " + MAX_PIXEL_SIZE
+                            + " liegen, war " + pixelSize);
+        }
+        Key key = new Key(font, pixelSize, color.getRGB());
+        GlyphAtlas atlas = atlases.get(key);
+        if (atlas == null)
+        {
+            atlas = new GlyphAtlas(font.deriveFont((float) pixelSize), color);
+            atlases.put(key, atlas);
+        }
+        return atlas;
+    }
+
+    /**
+     * Gibt an, ob ein Text mit einem Glyphenatlas <b>gezeichnet</b> werden
+     * kann.
+     *
+     * @param content Der Text.
+     * @param font Die Schriftart.
+     *
+     * @return {@code true}, falls der Text nur einfache Zeichen enthält und die
+     *     Schriftart weder Kerning noch Ligaturen verwendet.
+     */
+    @API
+    public static boolean supports(String content, Font font)
+    {
+        return GlyphMetrics.isSimple(content, font);
+    }
+
+    /**
+     * Gibt die gerasterte <b>Schriftart</b> zurück.
+     *
+     * @return Die Schriftart in der Pixelgröße des Atlas.
+     */
+    @API
+    @Getter
+    public Font font()
+    {
+        return font;
+    }
+
+    /**
+     * Gibt die <b>Farbe</b> der Zeichen zurück.
+     *
+     * @return Die Farbe der Zeichen.
+     */
+    @API
+    @Getter
+    public Color color()
+    {
+        return color;
+    }
+
+    /**
+     * Gibt die Anzahl der bereits <b>gerasterten Zeichen</b> zurück.
+     *
+     * @return Die Anzahl der gerasterten Zeichen.
+     */
+    @API
+    @Getter
+    public synchronized int glyphCount()
+    {
+        int count = 0;
+        for (Glyph glyph : glyphs)
+        {
+            if (glyph != null)
+            {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Gibt ein Zeichen zurück und rastert es beim ersten Aufruf.
+     *
+     * @param c Ein Zeichen unterhalb von {@link GlyphMetrics#MIN_COMPLEX_CHAR}.
+     *
+     * @return Das gerasterte Zeichen.
+     */
+    synchronized Glyph glyph(char c)
+    {
+        Glyph glyph = glyphs[c];
+        if (glyph == null)
+        {
+            glyph = rasterize(c);
+            glyphs[c] = glyph;
+        }
+        return glyph;
+    }
+
+    private Glyph rasterize(char c)
+    {
+        single[0] = c;
+        GlyphVector vector = font.createGlyphVector(context, single);
+        float advance = (float) font.getStringBounds(single, 0, 1, context)
+            .getWidth();
+        Rectangle bounds = vector.getPixelBounds(context, 0, 0);
+        if (bounds.isEmpty())
+        {
+            return new Glyph(null, 0, 0, advance);
+        }
+        // Ein Pixel Rand auf jeder Seite für die Kantenglättung.
+        BufferedImage image = new BufferedImage(bounds.width + 2,
+                bounds.height + 2, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = image.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING,
+            RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+        g.setRenderingHint(RenderingHints.KEY_FRACTIONALMETRICS,
+            RenderingHints.VALUE_FRACTIONALMETRICS_OFF);
+        g.setColor(color);
+        g.drawGlyphVector(vector, 1 - bounds.x, 1 - bounds.y);
+        g.dispose();
+        return new Glyph(image, bounds.x - 1, bounds.y - 1, advance);
+    }
+
+    /**
+     * Gibt den Ausschnitt eines Zeichens im gemeinsamen Texturatlas zurück und
+     * legt es dort bei Bedarf ab.
+     *
+     * @param glyph Ein Zeichen mit Bild.
+     *
+     * @return Der Ausschnitt oder {@code null}, falls im Texturatlas kein Platz
+     *     frei ist. Das Zeichen muss dann direkt aus seinem Bild gezeichnet
+     *     werden.
+     */
+    AtlasRegion region(Glyph glyph)
+    {
+        int generation = textures.generation();
+        if (glyph.generation != generation)
+        {
+            glyph.region = released ? null : textures.add(glyph.image);
+            // Nach dem Hinzufügen kann sich die Generation durch einen
+            // Neuaufbau erhöht haben.
+            glyph.generation = textures.generation();
+        }
+        return glyph.region;
+    }
+
+    /**
+     * Entfernt alle Zeichen dieses Atlas aus dem gemeinsamen Texturatlas.
+     */
+    private synchronized void release()
+    {
+        released = true;
+        for (Glyph glyph : glyphs)
+        {
+            if (glyph != null && glyph.image != null)
+            {
+                textures.remove(glyph.image);
+            }
+        }
+    }
+}
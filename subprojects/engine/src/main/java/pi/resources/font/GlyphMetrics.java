@@ -0,0 +1,171 @@
+/*
+ * Engine Pi ist eine anfängerorientierte 2D-Gaming Engine.
+ *
+ * Copyright (c) 2026 Josef Friedrich and contributors.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package pi.resources.font;
+
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.geom.Rectangle2D;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Zwischengespeicherte <b>Zeichenbreiten</b> einer Schriftart.
+ *
+ * <p>
+ * Für einfache Texte, die weder Kerning noch Ligaturen noch komplexe Schriften
+ * benötigen, summiert Java2D die Breiten der einzelnen Zeichen. Diese Klasse
+ * merkt sich die Breite jedes Zeichens beim ersten Auftreten, sodass eine
+ * veränderte Zeichenkette, z.B. ein hochzählender Punktestand, ohne erneuten
+ * Aufruf von {@link FontMetrics#getStringBounds(String, java.awt.Graphics)}
+ * ausgemessen werden kann. Das Ergebnis stimmt genau mit dem von Java2D
+ * überein.
+ * </p>
+ *
+ * @since 0.53.0
+ */
+final class GlyphMetrics
+{
+    /**
+     * Die Anzahl an Schriftarten, deren Zeichenbreiten höchstens
+     * zwischengespeichert werden.
+     */
+    private static final int MAX_FONTS = 64;
+
+    /**
+     * Ab diesem Zeichen können Java2D-Texte komplexe Schriften enthalten, die
+     * nicht mehr zeichenweise ausgemessen werden können.
+     */
+    static final char MIN_COMPLEX_CHAR = 0x0300;
+
+    private static final Map<Font, GlyphMetrics> cache = new LinkedHashMap<>(16,
+            0.75f, true)
+    {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(
+                Map.Entry<Font, GlyphMetrics> eldest)
+        {
+            return size() > MAX_FONTS;
+        }
+    };
+
+    private final FontMetrics metrics;
+
+    /**
+     * Die Breiten der Zeichen unterhalb von {@link #MIN_COMPLEX_CHAR}.
+     * {@code NaN} steht für ein noch nicht ausgemessenes Zeichen.
+     */
+    private final float[] advances = new float[MIN_COMPLEX_CHAR];
+
+    private final float ascent;
+
+    private final float height;
+
+    private final char[] single = new char[1];
+
+    private GlyphMetrics(FontMetrics metrics)
+    {
+        this.metrics = metrics;
+        Arrays.fill(advances, Float.NaN);
+        Rectangle2D empty = metrics.getStringBounds(new char[0], 0, 0, null);
+        ascent = (float) -empty.getY();
+        height = (float) empty.getHeight();
+    }
+
+    /**
+     * Gibt die zwischengespeicherten Zeichenbreiten einer Schriftart zurück.
+     *
+     * @param font Die Schriftart.
+     * @param metrics Die Schriftmetrik, mit der ausgemessen werden soll, falls
+     *     die Schriftart noch nicht zwischengespeichert ist.
+     *
+     * @return Die Zeichenbreiten der Schriftart.
+     */
+    static synchronized GlyphMetrics of(Font font,
+            Function<Font, FontMetrics> metrics)
+    {
+        GlyphMetrics glyphMetrics = cache.get(font);
+        if (glyphMetrics == null)
+        {
+            glyphMetrics = new GlyphMetrics(metrics.apply(font));
+            cache.put(font, glyphMetrics);
+        }
+        return glyphMetrics;
+    }
+
+    /**
+     * Prüft, ob ein Text in der angegebenen Schriftart <b>zeichenweise</b>
+     * ausgemessen und gezeichnet werden kann.
+     *
+     * @param content Der Text.
+     * @param font Die Schriftart.
+     *
+     * @return {@code true}, falls der Text nur einfache Zeichen enthält und die
+     *     Schriftart keine Layout-Attribute wie Kerning oder Ligaturen hat.
+     */
+    static boolean isSimple(String content, Font font)
+    {
+        if (font.hasLayoutAttributes())
+        {
+            return false;
+        }
+        for (int i = 0; i < content.length(); i++)
+        {
+            if (content.charAt(i) >= MIN_COMPLEX_CHAR)
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Misst einen einfachen Text aus.
+     *
+     * @param content Ein Text, für den {@link #isSimple(String, Font)} gilt.
+     *
+     * @return Das umgebende Rechteck wie bei
+     *     {@link FontMetrics#getStringBounds(String, java.awt.Graphics)}.
+     */
+    synchronized Rectangle2D bounds(String content)
+    {
+        float width = 0;
+        for (int i = 0; i < content.length(); i++)
+        {
+            width += advance(content.charAt(i));
+        }
+        return new Rectangle2D.Float(0f, -ascent, width, height);
+    }
+
+    private float advance(char c)
+    {
+        float advance = advances[c];
+        if (Float.isNaN(advance))
+        {
+            single[0] = c;
+            advance = (float) metrics.getStringBounds(single, 0, 1, null)
+                .getWidth();
+            advances[c] = advance;
+        }
+        return advance;
+    }
+}
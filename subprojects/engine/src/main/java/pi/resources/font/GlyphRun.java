@@ -0,0 +1,241 @@
+/*
+ * Engine Pi ist eine anfängerorientierte 2D-Gaming Engine.
+ *
+ * Copyright (c) 2026 Josef Friedrich and contributors.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package pi.resources.font;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.geom.AffineTransform;
+import java.util.Arrays;
+
+import pi.annotations.API;
+import pi.resources.AtlasRegion;
+import pi.resources.font.GlyphAtlas.Glyph;
+
+/**
+ * Eine <b>Textzeile</b>, die aus den Zeichen eines {@link GlyphAtlas
+ * Glyphenatlas} zusammengesetzt gezeichnet wird.
+ *
+ * <p>
+ * Die Zeichen und ihre Stiftpositionen werden zwischengespeichert. Ändert sich
+ * der Text, so werden nur die Zeichen ab der ersten Abweichung neu
+ * nachgeschlagen. Zählt z.B. ein Punktestand von {@code 1299} auf {@code 1300}
+ * hoch, bleibt die führende {@code 1} unverändert.
+ * </p>
+ *
+ * <p>
+ * Gezeichnet wird nur, wenn die aktuelle Transformation des
+ * {@link Graphics2D}-Objekts weder dreht noch spiegelt noch verzerrt und die
+ * Schrift auf dem Bildschirm höchstens {@link GlyphAtlas#MAX_PIXEL_SIZE} Pixel
+ * groß ist. Andernfalls muss der Text wie bisher als Vektorgrafik gezeichnet
+ * werden.
+ * </p>
+ *
+ * @since 0.53.0
+ */
+public final class GlyphRun
+{
+    /**
+     * Die kleinste Pixelgröße, ab der Zeichen gerastert werden. Kleinere Texte
+     * sind ohnehin kaum lesbar und werden als Vektorgrafik gezeichnet.
+     */
+    private static final int MIN_PIXEL_SIZE = 4;
+
+    /**
+     * Transformationen mit diesen Anteilen können nicht aus achsenparallelen
+     * Bildausschnitten zusammengesetzt werden.
+     */
+    private static final int UNSUPPORTED_TRANSFORM = AffineTransform.TYPE_FLIP
+            | AffineTransform.TYPE_MASK_ROTATION
+            | AffineTransform.TYPE_GENERAL_TRANSFORM;
+
+    private static final AffineTransform IDENTITY = new AffineTransform();
+
+    private GlyphAtlas atlas;
+
+    private Font atlasFont;
+
+    private int atlasPixelSize;
+
+    private int atlasRgb;
+
+    private char[] chars = new char[16];
+
+    private Glyph[] glyphs = new Glyph[16];
+
+    /**
+     * Die Stiftposition vor jedem Zeichen in Pixeln des Atlas.
+     */
+    private float[] pens = new float[16];
+
+    private int length = 0;
+
+    /**
+     * Die Anzahl der Zeichen, die beim letzten Aufruf von
+     * {@link #layout(String, GlyphAtlas)} neu nachgeschlagen wurden.
+     */
+    private int laidOut = 0;
+
+    /**
+     * <b>Zeichnet</b> einen Text mit seiner Grundlinie an die angegebene
+     * Position.
+     *
+     * @param g Das {@link Graphics2D}-Objekt, in das gezeichnet werden soll.
+     * @param content Der Text.
+     * @param font Die Schriftart.
+     * @param color Die Farbe des Textes.
+     * @param x Die x-Koordinate des Textanfangs im aktuellen Koordinatensystem
+     *     von {@code g}.
+     * @param y Die y-Koordinate der Grundlinie im aktuellen Koordinatensystem
+     *     von {@code g}.
+     *
+     * @return {@code true}, falls der Text gezeichnet wurde, {@code false},
+     *     falls er als Vektorgrafik gezeichnet werden muss.
+     */
+    @API
+    public boolean draw(Graphics2D g, String content, Font font, Color color,
+            double x, double y)
+    {
+        AffineTransform transform = g.getTransform();
+        if ((transform.getType() & UNSUPPORTED_TRANSFORM) != 0)
+        {
+            return false;
+        }
+        double scaleX = transform.getScaleX();
+        double scaleY = transform.getScaleY();
+        if (Math.abs(scaleX - scaleY) > scaleY * 0.01)
+        {
+            return false;
+        }
+        double deviceSize = font.getSize2D() * scaleY;
+        int pixelSize = (int) Math.round(deviceSize);
+        if (pixelSize < MIN_PIXEL_SIZE || pixelSize > GlyphAtlas.MAX_PIXEL_SIZE
+                || !GlyphAtlas.supports(content, font))
+        {
+            return false;
+        }
+        layout(content, atlas(font, pixelSize, color));
+
+        double scale = deviceSize / pixelSize;
+        double originX = transform.getTranslateX() + x * scaleX;
+        double baseline = transform.getTranslateY() + y * scaleY;
+        g.setTransform(IDENTITY);
+        for (int i = 0; i < length; i++)
+        {
+            Glyph glyph = glyphs[i];
+            if (glyph.image == null)
+            {
+                continue;
+            }
+            int dx = (int) Math.round(originX + (pens[i] + glyph.left) * scale);
+            int dy = (int) Math.round(baseline + glyph.top * scale);
+            int width = (int) Math.round(glyph.image.getWidth() * scale);
+            int height = (int) Math.round(glyph.image.getHeight() * scale);
+            AtlasRegion region = atlas.region(glyph);
+            if (region != null)
+            {
+                g.drawImage(region.page(),
+                    dx,
+                    dy,
+                    dx + width,
+                    dy + height,
+                    region.x(),
+                    region.y(),
+                    region.x() + region.width(),
+                    region.y() + region.height(),
+                    null);
+            }
+            else
+            {
+                g.drawImage(glyph.image, dx, dy, width, height, null);
+            }
+        }
+        g.setTransform(transform);
+        return true;
+    }
+
+    private GlyphAtlas atlas(Font font, int pixelSize, Color color)
+    {
+        int rgb = color.getRGB();
+        if (atlas == null || (font != atlasFont && !font.equals(atlasFont))
+                || pixelSize != atlasPixelSize || rgb != atlasRgb)
+        {
+            atlas = GlyphAtlas.of(font, pixelSize, color);
+            atlasFont = font;
+            atlasPixelSize = pixelSize;
+            atlasRgb = rgb;
+            // Ein anderer Atlas liefert andere Zeichen.
+            length = 0;
+        }
+        return atlas;
+    }
+
+    /**
+     * Schlägt die Zeichen eines Textes nach. Der unveränderte Anfang des
+     * vorherigen Textes wird übernommen.
+     *
+     * @param content Der Text.
+     * @param atlas Der Glyphenatlas.
+     */
+    void layout(String content, GlyphAtlas atlas)
+    {
+        int newLength = content.length();
+        if (newLength > chars.length)
+        {
+            int capacity = Math.max(newLength, chars.length * 2);
+            chars = Arrays.copyOf(chars, capacity);
+            glyphs = Arrays.copyOf(glyphs, capacity);
+            pens = Arrays.copyOf(pens, capacity);
+        }
+        int start = 0;
+        int common = Math.min(length, newLength);
+        while (start < common && chars[start] == content.charAt(start))
+        {
+            start++;
+        }
+        float pen = start == 0 ? 0
+                : pens[start - 1] + glyphs[start - 1].advance;
+        for (int i = start; i < newLength; i++)
+        {
+            char c = content.charAt(i);
+            Glyph glyph = atlas.glyph(c);
+            chars[i] = c;
+            glyphs[i] = glyph;
+            pens[i] = pen;
+            pen += glyph.advance;
+        }
+        for (int i = newLength; i < length; i++)
+        {
+            glyphs[i] = null;
+        }
+        laidOut = newLength - start;
+        length = newLength;
+    }
+
+    /**
+     * Gibt die Anzahl der Zeichen zurück, die beim letzten Zeichnen neu
+     * nachgeschlagen wurden.
+     *
+     * @return Die Anzahl der neu nachgeschlagenen Zeichen.
+     */
+    int laidOut()
+    {
+        return laidOut;
+    }
+}
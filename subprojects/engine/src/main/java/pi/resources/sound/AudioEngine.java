@@ -25,6 +25,7 @@
  */
 package pi.resources.sound;
 
+import static pi.Controller.config;
 import static pi.Controller.sounds;
 
 import java.util.Collection;
@@ -35,8 +36,6 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadFactory;
 import java.util.function.Consumer;
 
-import javax.sound.sampled.LineUnavailableException;
-
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
 
@@ -119,6 +118,34 @@ public final class AudioEngine
         return INSTANCE;
     }
 
+    /* mixer */
+
+    private AudioMixer mixer;
+
+    /**
+     * Liefert das <b>Mischpult</b>, auf dem alle Wiedergaben abgespielt werden.
+     *
+     * <p>
+     * Das Mischpult wird beim ersten Aufruf mit der in
+     * {@link pi.config.SoundConfig#maxVoices(int)} festgelegten Anzahl an
+     * Stimmen erzeugt.
+     * </p>
+     *
+     * @return Das Mischpult.
+     *
+     * @since 0.53.0
+     */
+    @API
+    @Getter
+    public synchronized AudioMixer mixer()
+    {
+        if (mixer == null)
+        {
+            mixer = new AudioMixer(config.sound.maxVoices(), executor);
+        }
+        return mixer;
+    }
+
     /* sound */
 
     /**
@@ -208,14 +235,7 @@ public final class AudioEngine
     @API
     public @NonNull SoundPlayback createSoundPlayback(Sound sound, boolean loop)
     {
-        try
-        {
-            return new SoundPlayback(sound, loop);
-        }
-        catch (LineUnavailableException | IllegalArgumentException e)
-        {
-            throw new IllegalArgumentException(e);
-        }
+        return new SoundPlayback(sound, loop);
     }
 
     /**
@@ -440,26 +460,19 @@ public final class AudioEngine
         {
             return currentMusic;
         }
-        try
+        MusicPlayback playback = new MusicPlayback(music);
+        if (config != null)
         {
-            MusicPlayback playback = new MusicPlayback(music);
-            if (config != null)
-            {
-                config.accept(playback);
-            }
-            if (stop)
-            {
-                stopMusic();
-            }
-            allMusic.add(playback);
-            playback.start();
-            currentMusic = playback;
-            return playback;
+            config.accept(playback);
         }
-        catch (LineUnavailableException | IllegalArgumentException e)
+        if (stop)
         {
-            throw new IllegalArgumentException(e);
+            stopMusic();
         }
+        allMusic.add(playback);
+        playback.start();
+        currentMusic = playback;
+        return playback;
     }
 
     /**
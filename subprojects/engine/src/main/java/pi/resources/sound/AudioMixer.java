@@ -0,0 +1,388 @@
+/*
+ * Engine Pi ist eine anfängerorientierte 2D-Gaming Engine.
+ *
+ * Copyright (c) 2026 Josef Friedrich and contributors.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package pi.resources.sound;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Logger;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.LineUnavailableException;
+import javax.sound.sampled.SourceDataLine;
+
+import pi.annotations.API;
+import pi.annotations.Getter;
+
+/**
+ * Ein <b>Mischpult</b>, das alle {@link Playback Wiedergaben} in einer einzigen
+ * Ausgabeleitung zusammenführt.
+ *
+ * <p>
+ * Jede Wiedergabe belegt eine <b>Stimme</b> des Mischpults. Ein einziger Thread
+ * addiert die Abtastwerte aller Stimmen blockweise unter Berücksichtigung von
+ * Lautstärke, Stereoposition und Wiederholung und schreibt das Ergebnis in eine
+ * {@link SourceDataLine}. Im Mischvorgang werden keine neuen Objekte erzeugt.
+ * </p>
+ *
+ * <p>
+ * Sind alle Stimmen belegt, entscheidet die {@link VoiceStealing Strategie},
+ * welche laufende Klangwiedergabe für einen neuen Klang beendet wird.
+ * </p>
+ *
+ * @see AudioEngine#mixer()
+ *
+ * @since 0.53.0
+ */
+public final class AudioMixer
+{
+    private static final Logger log = Logger
+        .getLogger(AudioMixer.class.getName());
+
+    /**
+     * Die Abtastrate der Ausgabe in Hertz.
+     */
+    static final float SAMPLE_RATE = 44_100;
+
+    /**
+     * Die Anzahl an Kanälen der Ausgabe (Stereo).
+     */
+    static final int CHANNELS = 2;
+
+    /**
+     * Die Anzahl an Einzelbildern (Frames), die in einem Durchgang gemischt
+     * werden. 512 Einzelbilder entsprechen etwa 11,6 Millisekunden.
+     */
+    static final int BLOCK_FRAMES = 512;
+
+    /**
+     * Das Format der Ausgabe: 16 Bit, vorzeichenbehaftet, Little Endian.
+     */
+    static final AudioFormat FORMAT = new AudioFormat(SAMPLE_RATE, 16, CHANNELS,
+            true, false);
+
+    private static final long BLOCK_NANOS = (long) (BLOCK_FRAMES * 1e9
+            / SAMPLE_RATE);
+
+    /**
+     * Die Stimmen des Mischpults. Freie Stimmen sind {@code null}.
+     */
+    private final Playback[] voices;
+
+    /**
+     * Die Summe aller Stimmen eines Blocks vor der Umwandlung in 16 Bit.
+     */
+    private final float[] mixBuffer = new float[BLOCK_FRAMES * CHANNELS];
+
+    private final byte[] outputBuffer = new byte[BLOCK_FRAMES * CHANNELS * 2];
+
+    /**
+     * Führt die Beobachter beendeter Wiedergaben außerhalb des Misch-Threads
+     * aus.
+     */
+    private final Executor events;
+
+    private int activeVoices = 0;
+
+    /**
+     * Zählt die gestarteten Stimmen, um die älteste Stimme zu bestimmen.
+     */
+    private long sequence = 0;
+
+    private Thread thread;
+
+    /**
+     * Gibt an, ob ein eigener Thread die Stimmen in Echtzeit mischt und
+     * ausgibt.
+     */
+    private final boolean realtime;
+
+    /**
+     * Erzeugt ein neues Mischpult, das seine Stimmen in Echtzeit ausgibt.
+     *
+     * @param maxVoices Die maximale Anzahl an gleichzeitig abgespielten
+     *     Wiedergaben.
+     * @param events Führt die Beobachter beendeter Wiedergaben aus.
+     */
+    AudioMixer(int maxVoices, Executor events)
+    {
+        this(maxVoices, events, true);
+    }
+
+    /**
+     * Erzeugt ein neues Mischpult.
+     *
+     * @param maxVoices Die maximale Anzahl an gleichzeitig abgespielten
+     *     Wiedergaben.
+     * @param events Führt die Beobachter beendeter Wiedergaben aus.
+     * @param realtime Ob ein eigener Thread die Stimmen in Echtzeit mischt und
+     *     ausgibt. Andernfalls muss {@link #mix(byte[], int)} von außen
+     *     aufgerufen werden.
+     */
+    AudioMixer(int maxVoices, Executor events, boolean realtime)
+    {
+        if (maxVoices <= 0)
+        {
+            throw new IllegalArgumentException(
+                    "Die Anzahl an Stimmen muss größer als 0 sein, war "
+                            + maxVoices);
+        }
+        voices = new Playback[maxVoices];
+        this.events = events;
+        this.realtime = realtime;
+    }
+
+    /**
+     * Gibt die <b>maximale Anzahl</b> an gleichzeitig abgespielten Wiedergaben
+     * zurück.
+     *
+     * @return Die maximale Anzahl an Stimmen.
+     */
+    @API
+    @Getter
+    public int maxVoices()
+    {
+        return voices.length;
+    }
+
+    /**
+     * Gibt die <b>Anzahl</b> der gerade belegten Stimmen zurück.
+     *
+     * @return Die Anzahl an laufenden Wiedergaben.
+     */
+    @API
+    @Getter
+    public synchronized int activeVoices()
+    {
+        return activeVoices;
+    }
+
+    /**
+     * Belegt eine Stimme mit der angegebenen Wiedergabe.
+     *
+     * @param playback Die abzuspielende Wiedergabe.
+     * @param stealing Die Strategie, falls alle Stimmen belegt sind.
+     *
+     * @return {@code true}, falls die Wiedergabe eine Stimme erhalten hat,
+     *     sonst {@code false}.
+     */
+    boolean play(Playback playback, VoiceStealing stealing)
+    {
+        Playback stolen = null;
+        synchronized (this)
+        {
+            int slot = freeSlot();
+            if (slot < 0)
+            {
+                slot = stealableSlot(stealing);
+                if (slot < 0)
+                {
+                    return false;
+                }
+                stolen = voices[slot];
+                activeVoices--;
+            }
+            playback.prepareVoice(++sequence);
+            voices[slot] = playback;
+            activeVoices++;
+            startThread();
+            notifyAll();
+        }
+        if (stolen != null && stolen.markCancelled())
+        {
+            stolen.notifyCancelled();
+        }
+        return true;
+    }
+
+    /**
+     * Gibt die Stimme der angegebenen Wiedergabe frei.
+     *
+     * @param playback Die zu entfernende Wiedergabe.
+     */
+    synchronized void remove(Playback playback)
+    {
+        for (int i = 0; i < voices.length; i++)
+        {
+            if (voices[i] == playback)
+            {
+                voices[i] = null;
+                activeVoices--;
+                return;
+            }
+        }
+    }
+
+    private int freeSlot()
+    {
+        for (int i = 0; i < voices.length; i++)
+        {
+            if (voices[i] == null)
+            {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private int stealableSlot(VoiceStealing stealing)
+    {
+        if (stealing == VoiceStealing.NONE)
+        {
+            return -1;
+        }
+        int slot = -1;
+        for (int i = 0; i < voices.length; i++)
+        {
+            Playback voice = voices[i];
+            if (!voice.isStealable())
+            {
+                continue;
+            }
+            if (slot < 0)
+            {
+                slot = i;
+            }
+            else if (stealing == VoiceStealing.OLDEST
+                    ? voice.voiceSequence() < voices[slot].voiceSequence()
+                    : voice.masterVolume() < voices[slot].masterVolume())
+            {
+                slot = i;
+            }
+        }
+        return slot;
+    }
+
+    /**
+     * Mischt die nächsten Einzelbilder aller Stimmen.
+     *
+     * @param output Das Feld, in das die Einzelbilder im {@link #FORMAT
+     *     Ausgabeformat} geschrieben werden.
+     * @param frames Die Anzahl an Einzelbildern, höchstens
+     *     {@link #BLOCK_FRAMES}.
+     */
+    synchronized void mix(byte[] output, int frames)
+    {
+        int samples = frames * CHANNELS;
+        for (int i = 0; i < samples; i++)
+        {
+            mixBuffer[i] = 0;
+        }
+        for (int i = 0; i < voices.length; i++)
+        {
+            Playback voice = voices[i];
+            if (voice == null || voice.isPaused())
+            {
+                continue;
+            }
+            if (!voice.mix(mixBuffer, frames))
+            {
+                voices[i] = null;
+                activeVoices--;
+                if (voice.markFinished())
+                {
+                    events.execute(voice.finishedNotifier());
+                }
+            }
+        }
+        for (int i = 0; i < samples; i++)
+        {
+            int value = Math.round(mixBuffer[i]);
+            if (value > Short.MAX_VALUE)
+            {
+                value = Short.MAX_VALUE;
+            }
+            else if (value < Short.MIN_VALUE)
+            {
+                value = Short.MIN_VALUE;
+            }
+            output[2 * i] = (byte) value;
+            output[2 * i + 1] = (byte) (value >> 8);
+        }
+    }
+
+    private void startThread()
+    {
+        if (realtime && thread == null)
+        {
+            thread = new Thread(this::run, "pi.sound.mixer");
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MAX_PRIORITY);
+            thread.start();
+        }
+    }
+
+    private void run()
+    {
+        SourceDataLine line = openLine();
+        long deadline = System.nanoTime();
+        while (!Thread.currentThread().isInterrupted())
+        {
+            synchronized (this)
+            {
+                try
+                {
+                    while (activeVoices == 0)
+                    {
+                        wait();
+                        deadline = System.nanoTime();
+                    }
+                }
+                catch (InterruptedException e)
+                {
+                    break;
+                }
+            }
+            mix(outputBuffer, BLOCK_FRAMES);
+            if (line != null)
+            {
+                line.write(outputBuffer, 0, outputBuffer.length);
+            }
+            else
+            {
+                // Ohne Ausgabeleitung wird die Wiedergabedauer nur
+                // nachgebildet, damit die Beobachter dennoch benachrichtigt
+                // werden.
+                deadline += BLOCK_NANOS;
+                LockSupport.parkNanos(deadline - System.nanoTime());
+            }
+        }
+        if (line != null)
+        {
+            line.close();
+        }
+    }
+
+    private static SourceDataLine openLine()
+    {
+        try
+        {
+            SourceDataLine line = AudioSystem.getSourceDataLine(FORMAT);
+            line.open(FORMAT, BLOCK_FRAMES * FORMAT.getFrameSize() * 4);
+            line.start();
+            return line;
+        }
+        catch (LineUnavailableException | IllegalArgumentException
+                | SecurityException e)
+        {
+            log.warning("Keine Audioausgabe verfügbar: " + e.getMessage());
+            return null;
+        }
+    }
+}
@@ -25,7 +25,7 @@
  */
 package pi.resources.sound;
 
-import javax.sound.sampled.LineUnavailableException;
+import java.util.Iterator;
 
 import pi.annotations.Getter;
 import pi.annotations.Setter;
@@ -42,35 +42,36 @@ public class MusicPlayback extends Playback
 {
     private final VolumeControl musicVolume;
 
-    public MusicPlayback(Music music) throws LineUnavailableException
+    /**
+     * Liefert die Klänge der Musik nacheinander an das Mischpult.
+     */
+    private Iterator<Sound> sounds;
+
+    public MusicPlayback(Music music)
     {
-        super(music.format());
+        super();
         this.music = music;
         musicVolume = createVolumeControl();
         musicVolume.set(config.sound.musicVolume());
     }
 
     @Override
-    public void run()
+    Sound nextSound()
     {
-        try
-        {
-            for (Sound sound : music)
-            {
-                if (play(sound))
-                {
-                    return;
-                }
-            }
-        }
-        catch (Exception e)
-        {
-            throw new IllegalArgumentException(e);
-        }
-        finally
+        if (sounds == null)
         {
-            finish();
+            sounds = music.iterator();
         }
+        return sounds.hasNext() ? sounds.next() : null;
+    }
+
+    /**
+     * Musikwiedergaben werden nie zugunsten eines neuen Klangs beendet.
+     */
+    @Override
+    boolean isStealable()
+    {
+        return false;
     }
 
     private final Music music;
@@ -31,38 +31,31 @@ import java.util.WeakHashMap;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 
-import javax.sound.sampled.AudioFormat;
-import javax.sound.sampled.AudioSystem;
-import javax.sound.sampled.BooleanControl;
-import javax.sound.sampled.FloatControl;
-import javax.sound.sampled.LineUnavailableException;
-import javax.sound.sampled.SourceDataLine;
+import static pi.Controller.config;
 
 import pi.annotations.Getter;
 import pi.annotations.Setter;
 import pi.debug.ToStringFormatter;
 
 /**
- * The {@code SoundPlayback} class is a wrapper {@code SourceDataLine} on which
- * a {@code Sound} playback can be carried out.
+ * The {@code Playback} class is a voice on the {@link AudioMixer} on which a
+ * {@code Sound} playback can be carried out.
  *
  * @author Steffen Wilke
  * @author Matthias Wilke
  *
- * @see #play(Sound)
+ * @see AudioMixer
  */
-public abstract class Playback implements Runnable
+public abstract class Playback
 {
-    protected final SourceDataLine line;
-
-    private final FloatControl gainControl;
-
-    private final BooleanControl muteControl;
-
     private boolean started = false;
 
     private volatile boolean cancelled = false;
 
+    private volatile boolean finished = false;
+
+    private volatile boolean paused = false;
+
     private final Collection<PlaybackListener> listeners = ConcurrentHashMap
         .newKeySet();
 
@@ -73,34 +66,64 @@ public abstract class Playback implements Runnable
 
     private final AtomicInteger miscVolume = new AtomicInteger(0x3f800000); // floatToIntBits(1f)
 
-    Playback(AudioFormat format) throws LineUnavailableException
+    /**
+     * The product of all volume controls, read by the mixing thread.
+     */
+    private volatile float gain = 1;
+
+    /**
+     * The stereo position from {@code -1} (left) to {@code 1} (right).
+     */
+    private volatile float pan = 0;
+
+    /**
+     * Notifies the listeners once the mixer has finished this playback. It is
+     * created up front so that the mixing thread does not allocate.
+     */
+    private final Runnable finishedNotifier = this::notifyFinished;
+
+    /* Voice state, only accessed by the mixing thread after start. */
+
+    private long voiceSequence;
+
+    private Sound current;
+
+    private short[] samples;
+
+    private int channels;
+
+    private int frames;
+
+    private double step;
+
+    private double position;
+
+    Playback()
     {
-        // acquire resources in the constructor so that they can be used before
-        // the
-        // task is started
-        line = AudioSystem.getSourceDataLine(format);
-        line.open();
-        line.start();
-        gainControl = (FloatControl) line
-            .getControl(FloatControl.Type.MASTER_GAIN);
-        muteControl = (BooleanControl) line
-            .getControl(BooleanControl.Type.MUTE);
         masterVolume = createVolumeControl();
     }
 
     /**
      * Starts playing the audio.
      *
+     * <p>
+     * If all voices of the mixer are taken and no voice can be stolen, the
+     * playback is cancelled right away.
+     * </p>
+     *
      * @throws IllegalStateException if the audio has already been started
      */
-    public synchronized void start()
+    public void start()
     {
-        if (started)
+        synchronized (this)
         {
-            throw new IllegalStateException("already started");
+            if (started)
+            {
+                throw new IllegalStateException("already started");
+            }
+            started = true;
         }
         play();
-        started = true;
     }
 
     /**
@@ -147,10 +170,7 @@ public abstract class Playback implements Runnable
      */
     public void pause()
     {
-        if (line.isOpen())
-        {
-            line.stop();
-        }
+        paused = true;
     }
 
     /**
@@ -159,10 +179,7 @@ public abstract class Playback implements Runnable
      */
     public void resume()
     {
-        if (line.isOpen())
-        {
-            line.start();
-        }
+        paused = false;
     }
 
     /**
@@ -172,7 +189,7 @@ public abstract class Playback implements Runnable
      */
     public boolean isPaused()
     {
-        return !line.isActive();
+        return paused;
     }
 
     /**
@@ -184,30 +201,27 @@ public abstract class Playback implements Runnable
      */
     public boolean isPlaying()
     {
-        return line.isOpen();
+        return !cancelled && !finished;
     }
 
     /**
      * Attempts to cancel the playback of this audio. If the playback was
      * successfully cancelled, it will notify listeners.
      */
-    public synchronized void cancel()
+    public void cancel()
     {
-        if (!started)
-        {
-            throw new IllegalStateException("not started");
-        }
-        if (!cancelled && line.isOpen())
+        synchronized (this)
         {
-            line.stop();
-            cancelled = true;
-            line.flush();
-            SoundEvent event = new SoundEvent(this, null);
-            for (PlaybackListener listener : listeners)
+            if (!started)
             {
-                listener.cancelled(event);
+                throw new IllegalStateException("not started");
             }
         }
+        if (markCancelled())
+        {
+            AudioEngine.getInstance().mixer().remove(this);
+            notifyCancelled();
+        }
     }
 
     /**
@@ -219,11 +233,7 @@ public abstract class Playback implements Runnable
     @Getter
     public double masterVolume()
     {
-        if (muteControl.getValue())
-        {
-            return 0;
-        }
-        return Math.pow(10.0, gainControl.getValue() / 20.0);
+        return gain;
     }
 
     /**
@@ -262,57 +272,193 @@ public abstract class Playback implements Runnable
         return volumeControls;
     }
 
+    /**
+     * Gets the stereo position of this playback.
+     *
+     * @return The stereo position from {@code -1} (left) over {@code 0}
+     *     (center) to {@code 1} (right).
+     *
+     * @since 0.53.0
+     */
+    @Getter
+    public double pan()
+    {
+        return pan;
+    }
+
+    /**
+     * Sets the stereo position of this playback.
+     *
+     * @param pan The stereo position from {@code -1} (left) over {@code 0}
+     *     (center) to {@code 1} (right).
+     *
+     * @since 0.53.0
+     */
+    @Setter
+    public void pan(double pan)
+    {
+        if (pan < -1 || pan > 1)
+        {
+            throw new IllegalArgumentException(
+                    "pan must be between -1 and 1, was " + pan);
+        }
+        this.pan = (float) pan;
+    }
+
+    /**
+     * Hands this playback over to the mixer.
+     */
     void play()
     {
-        AudioEngine.getInstance().executor.submit(this);
+        if (!AudioEngine.getInstance()
+            .mixer()
+            .play(this, config.sound.voiceStealing()) && markCancelled())
+        {
+            notifyCancelled();
+        }
     }
 
     /**
-     * Plays a sound to this object's data line.
+     * Provides the next sound of this playback. Called once when the voice is
+     * prepared and then from the mixing thread every time the current sound has
+     * ended.
+     *
+     * @return The next sound or {@code null} if the playback has finished.
+     */
+    abstract Sound nextSound();
+
+    /**
+     * Determines if the mixer may stop this playback to free a voice.
      *
-     * @param sound The sound to play
+     * @return Whether this playback may be stolen.
+     */
+    abstract boolean isStealable();
+
+    /**
+     * Prepares the voice state before this playback is added to the mixer.
      *
-     * @return Whether the sound was cancelled while playing
+     * @param sequence The start order among all voices.
      */
-    boolean play(Sound sound) throws LineUnavailableException
+    void prepareVoice(long sequence)
+    {
+        voiceSequence = sequence;
+        position = 0;
+        load(nextSound());
+    }
+
+    long voiceSequence()
+    {
+        return voiceSequence;
+    }
+
+    private void load(Sound sound)
     {
-        line.open();
-        line.start();
-        byte[] data = sound.streamData();
-        int len = line.getFormat().getFrameSize();
-        // math hacks here: we're getting just over half the buffer size, but it
-        // needs to be an integral
-        // number of sample frames
-        len = (line.getBufferSize() / len / 2 + 1) * len;
-        for (int i = 0; i < data.length; i += line
-            .write(data, i, Math.min(len, data.length - i)))
+        current = sound;
+        if (sound == null || sound.format() == null)
         {
-            if (cancelled || !line.isOpen())
-            {
-                return true;
-            }
+            frames = 0;
+            return;
         }
-        return cancelled;
+        samples = sound.samples();
+        channels = sound.format().getChannels();
+        frames = sound.frames();
+        step = sound.format().getSampleRate() / AudioMixer.SAMPLE_RATE;
     }
 
     /**
-     * Finishes the playback. If this playback was not cancelled in the process,
-     * it will notify listeners.
+     * Adds the next frames of this playback to the mixing buffer. Called from
+     * the mixing thread; must not allocate.
+     *
+     * @param buffer The interleaved stereo mixing buffer.
+     * @param count The number of frames to mix.
+     *
+     * @return {@code false} if the playback has finished.
      */
-    void finish()
+    boolean mix(float[] buffer, int count)
     {
-        line.drain();
-        synchronized (this)
+        float volume = gain;
+        float balance = pan;
+        float left = volume * Math.min(1, 1 - balance);
+        float right = volume * Math.min(1, 1 + balance);
+        for (int i = 0; i < count; i++)
         {
-            cancel();
-            if (!cancelled)
+            while (position >= frames)
             {
-                SoundEvent event = new SoundEvent(this, null);
-                for (PlaybackListener listener : listeners)
+                if (current == null || frames == 0)
                 {
-                    listener.finished(event);
+                    return false;
                 }
+                position -= frames;
+                load(nextSound());
             }
+            int index = (int) position;
+            float fraction = (float) (position - index);
+            int a = index * channels;
+            int b = (index + 1 < frames ? index + 1 : index) * channels;
+            float l = samples[a] + (samples[b] - samples[a]) * fraction;
+            float r = l;
+            if (channels > 1)
+            {
+                r = samples[a + 1]
+                        + (samples[b + 1] - samples[a + 1]) * fraction;
+            }
+            buffer[2 * i] += l * left;
+            buffer[2 * i + 1] += r * right;
+            position += step;
+        }
+        return true;
+    }
+
+    /**
+     * Marks this playback as finished by the mixer.
+     *
+     * @return Whether the listeners have to be notified.
+     */
+    synchronized boolean markFinished()
+    {
+        if (cancelled || finished)
+        {
+            return false;
+        }
+        finished = true;
+        return true;
+    }
+
+    /**
+     * Marks this playback as cancelled.
+     *
+     * @return Whether the listeners have to be notified.
+     */
+    synchronized boolean markCancelled()
+    {
+        if (cancelled || finished)
+        {
+            return false;
+        }
+        cancelled = true;
+        return true;
+    }
+
+    void notifyCancelled()
+    {
+        SoundEvent event = new SoundEvent(this, null);
+        for (PlaybackListener listener : listeners)
+        {
+            listener.cancelled(event);
+        }
+    }
+
+    Runnable finishedNotifier()
+    {
+        return finishedNotifier;
+    }
+
+    private void notifyFinished()
+    {
+        SoundEvent event = new SoundEvent(this, null);
+        for (PlaybackListener listener : listeners)
+        {
+            listener.finished(event);
         }
     }
 
@@ -325,16 +471,7 @@ public abstract class Playback implements Runnable
             {
                 volume *= control.get();
             }
-            float dbGain = (float) (20.0 * Math.log10(volume));
-            if (dbGain < gainControl.getMinimum())
-            {
-                muteControl.setValue(true);
-            }
-            else
-            {
-                gainControl.setValue(dbGain);
-                muteControl.setValue(false);
-            }
+            gain = volume;
         }
     }
 
@@ -343,6 +480,7 @@ public abstract class Playback implements Runnable
         var formatter = new ToStringFormatter(object);
         formatter.append("started", started);
         formatter.append("canceled", cancelled);
+        formatter.append("finished", finished);
         return formatter;
     }
 
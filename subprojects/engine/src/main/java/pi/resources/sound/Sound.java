@@ -94,8 +94,8 @@ public final class Sound
                 // VorbisSPI dekodiert wird.
                 in = AudioSystem.getAudioInputStream(decodedFormat, in);
                 stream = in;
-                streamData = StreamUtil.getBytes(stream);
                 format = stream.getFormat();
+                samples = toSamples(StreamUtil.getBytes(stream));
             }
         }
         catch (UnsupportedAudioFileException | IOException e)
@@ -190,25 +190,64 @@ public final class Sound
         return data;
     }
 
-    /* streamData */
+    /* samples */
 
-    private byte[] streamData;
+    private short[] samples = new short[0];
 
     /**
-     * Liefert die dekodierten Stream-Daten dieses Sounds als geklontes
-     * Byte-Array.
+     * Liefert die dekodierten <b>Abtastwerte</b> dieses Klangs.
      *
-     * @return Die Stream-Daten oder ein leeres Array, falls keine Daten
-     *     vorhanden sind.
+     * <p>
+     * Bei mehreren Kanälen sind die Abtastwerte verschränkt abgelegt, also z.B.
+     * {@code links, rechts, links, rechts, ...}. Das zurückgegebene Feld wird
+     * nicht kopiert und darf nicht verändert werden.
+     * </p>
+     *
+     * @return Die Abtastwerte als vorzeichenbehaftete 16-Bit-Werte.
+     *
+     * @since 0.53.0
      */
     @Getter
-    byte[] streamData()
+    short[] samples()
+    {
+        return samples;
+    }
+
+    /**
+     * Liefert die Anzahl an <b>Einzelbildern</b> (Frames) dieses Klangs, also
+     * die Anzahl an Abtastwerten pro Kanal.
+     *
+     * @return Die Anzahl an Einzelbildern.
+     *
+     * @since 0.53.0
+     */
+    @Getter
+    int frames()
+    {
+        if (format == null || format.getChannels() <= 0)
+        {
+            return 0;
+        }
+        return samples.length / format.getChannels();
+    }
+
+    /**
+     * Wandelt die dekodierten Stream-Daten im Format 16 Bit Little Endian in
+     * Abtastwerte um.
+     *
+     * @param data Die dekodierten Stream-Daten.
+     *
+     * @return Die Abtastwerte.
+     */
+    private static short[] toSamples(byte[] data)
     {
-        if (streamData == null)
+        short[] samples = new short[data.length / 2];
+        for (int i = 0; i < samples.length; i++)
         {
-            return new byte[0];
+            samples[i] = (short) ((data[2 * i] & 0xff)
+                    | (data[2 * i + 1] << 8));
         }
-        return streamData.clone();
+        return samples;
     }
 
     /**
@@ -78,6 +78,23 @@ public final class SoundContainer extends ResourcesContainer<Sound>
      * @throws ResourceLoadException wenn die Audio-Datei nicht aufgerufen
      *     werden konnte.
      */
+    /**
+     * Gibt die Größe der Rohdaten und der dekodierten Abtastwerte in Byte
+     * zurück.
+     *
+     * @param sound Der Klang.
+     *
+     * @return Die Speichergröße des Klangs in Byte.
+     *
+     * @since 0.53.0
+     */
+    @Override
+    protected long sizeOf(Sound sound)
+    {
+        byte[] data = sound.rawData();
+        return (data != null ? data.length : 0) + 2L * sound.samples().length;
+    }
+
     @Override
     @SuppressWarnings("squid:S1185")
     public Sound get(String filePath)
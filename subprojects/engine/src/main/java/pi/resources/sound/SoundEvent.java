@@ -35,7 +35,7 @@ import pi.annotations.Getter;
  * object to their listeners.
  *
  * @see Playback#cancel()
- * @see Playback#finish()
+ * @see PlaybackListener#finished(SoundEvent)
  *
  * @author Steffen Wilke
  * @author Matthias Wilke
@@ -25,7 +25,6 @@
  */
 package pi.resources.sound;
 
-import javax.sound.sampled.LineUnavailableException;
 import static pi.Controller.config;
 
 /**
@@ -40,44 +39,41 @@ public class SoundPlayback extends Playback
 
     private final boolean loop;
 
+    /**
+     * Whether the sound has already been handed to the mixer once.
+     */
+    private boolean played = false;
+
     public SoundPlayback(Sound sound, boolean loop)
-            throws LineUnavailableException
     {
-        super(sound.format());
+        super();
         this.loop = loop;
         this.sound = sound;
         volume(config.sound.soundVolume());
     }
 
     @Override
-    public void run()
+    Sound nextSound()
     {
-        try
-        {
-            do
-            {
-                if (play(sound))
-                {
-                    return;
-                }
-            }
-            while (loop);
-        }
-        catch (LineUnavailableException e)
-        {
-            e.printStackTrace();
-        }
-        finally
+        if (played && !loop)
         {
-            finish();
+            return null;
         }
+        played = true;
+        return sound;
     }
 
     @Override
-    protected void play()
+    boolean isStealable()
+    {
+        return true;
+    }
+
+    @Override
+    void play()
     {
-        super.play();
         AudioEngine.getInstance().addSound(this);
+        super.play();
     }
 
     /**
@@ -0,0 +1,51 @@
+/*
+ * Engine Pi ist eine anfängerorientierte 2D-Gaming Engine.
+ *
+ * Copyright (c) 2026 Josef Friedrich and contributors.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package pi.resources.sound;
+
+/**
+ * Legt fest, welche laufende <b>Klangwiedergabe</b> das {@link AudioMixer
+ * Mischpult} beendet, wenn alle Stimmen belegt sind und ein neuer Klang
+ * abgespielt werden soll.
+ *
+ * <p>
+ * Musikwiedergaben werden nie verdrängt.
+ * </p>
+ *
+ * @see pi.config.SoundConfig#voiceStealing(VoiceStealing)
+ *
+ * @since 0.53.0
+ */
+public enum VoiceStealing
+{
+    /**
+     * Die am längsten laufende Klangwiedergabe wird beendet.
+     */
+    OLDEST,
+
+    /**
+     * Die leiseste Klangwiedergabe wird beendet.
+     */
+    QUIETEST,
+
+    /**
+     * Es wird keine laufende Wiedergabe beendet. Der neue Klang wird nicht
+     * abgespielt.
+     */
+    NONE
+}
@@ -342,6 +342,13 @@ public class ImageUtil
         {
             return null;
         }
+        if (GraphicsEnvironment.isHeadless())
+        {
+            // Ohne Bildschirm gibt es keine Grafikkonfiguration, an die das
+            // Bild angepasst werden könnte.
+            return new BufferedImage(width, height,
+                    BufferedImage.TYPE_INT_ARGB);
+        }
         if (graphicsConfig == null)
         {
             final GraphicsEnvironment env = GraphicsEnvironment
@@ -0,0 +1,91 @@
+/*
+ * Engine Pi ist eine anfängerorientierte 2D-Gaming Engine.
+ *
+ * Copyright (c) 2026 Josef Friedrich and contributors.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package pi;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import pi.event.InputSink;
+import pi.event.MouseButton;
+import pi.event.MouseClickListener;
+import pi.graphics.geom.Vector;
+
+/**
+ * @since 0.53.0
+ */
+class ControllerTest
+{
+    @Test
+    void mouseButtonsReachDownAndUpCallbacks()
+    {
+        Controller.instantMode(false);
+        Scene scene = new Scene();
+        List<String> global = new ArrayList<>();
+        List<String> local = new ArrayList<>();
+        MouseClickListener globalListener = new MouseClickListener()
+        {
+            @Override
+            public void onMouseDown(Vector position, MouseButton button)
+            {
+                global.add("down " + button);
+            }
+
+            @Override
+            public void onMouseUp(Vector position, MouseButton button)
+            {
+                global.add("up " + button);
+            }
+        };
+        scene.mouseClickListeners().add(new MouseClickListener()
+        {
+            @Override
+            public void onMouseDown(Vector position, MouseButton button)
+            {
+                local.add("down " + button);
+            }
+
+            @Override
+            public void onMouseUp(Vector position, MouseButton button)
+            {
+                local.add("up " + button);
+            }
+        });
+        Controller.addMouseClickListener(globalListener);
+        try
+        {
+            InputSink sink = Controller.inputSink(() -> scene);
+            sink.onMouseButton(1, MouseButton.LEFT, 10, 10, true);
+            sink.onMouseButton(2, MouseButton.LEFT, 10, 10, false);
+            sink.onMouseButton(3, MouseButton.RIGHT, 10, 10, true);
+            sink.onMouseButton(4, MouseButton.RIGHT, 10, 10, false);
+        }
+        finally
+        {
+            Controller.removeMouseClickListener(globalListener);
+        }
+        List<String> expected = List
+            .of("down LEFT", "up LEFT", "down RIGHT", "up RIGHT");
+        assertEquals(expected, global);
+        assertEquals(expected, local);
+    }
+}
@@ -0,0 +1,186 @@
+/*
+ * Engine Pi ist eine anfängerorientierte 2D-Gaming Engine.
+ *
+ * Copyright (c) 2026 Josef Friedrich and contributors.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package pi;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import pi.actor.Rectangle;
+
+/**
+ * @since 0.53.0
+ */
+class LayerTest
+{
+    Scene scene;
+
+    Layer layer;
+
+    List<String> rendered;
+
+    /**
+     * Ein Rechteck, das sich beim Zeichnen in der Liste {@link #rendered}
+     * einträgt.
+     */
+    class RecordingRectangle extends Rectangle
+    {
+        final String name;
+
+        RecordingRectangle(String name)
+        {
+            super(1, 1);
+            this.name = name;
+        }
+
+        @Override
+        public void render(Graphics2D g, double pixelPerMeter)
+        {
+            rendered.add(name);
+        }
+    }
+
+    @BeforeEach
+    void setUp()
+    {
+        Controller.instantMode(false);
+        scene = new Scene();
+        layer = scene.layer();
+        rendered = new ArrayList<>();
+    }
+
+    RecordingRectangle add(String name, double x, double y)
+    {
+        RecordingRectangle rectangle = new RecordingRectangle(name);
+        rectangle.center(x, y);
+        layer.add(rectangle);
+        return rectangle;
+    }
+
+    void render()
+    {
+        // Meldet die Figuren in der Physics-Engine an.
+        scene.invokeFrameListeners(0);
+        BufferedImage image = new BufferedImage(320, 240,
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = image.createGraphics();
+        layer.render(g, scene.camera(), 320, 240);
+        g.dispose();
+    }
+
+    @Test
+    void cullingDisabledByDefault()
+    {
+        assertFalse(layer.isCulling());
+    }
+
+    @Nested
+    class CullingTest
+    {
+        @BeforeEach
+        void enableCulling()
+        {
+            layer.culling(true);
+            assertTrue(layer.isCulling());
+        }
+
+        @Test
+        void skipsActorsOutsideVisibleArea()
+        {
+            add("visible", 0, 0);
+            add("far", 1000, 1000);
+            render();
+            assertEquals(List.of("visible"), rendered);
+        }
+
+        @Test
+        void keepsLayerPositionOrder()
+        {
+            add("front", 1, 1).layerPosition(5);
+            add("back", -1, -1).layerPosition(-5);
+            add("far", -1000, 0).layerPosition(0);
+            render();
+            assertEquals(List.of("back", "front"), rendered);
+        }
+
+        @Test
+        void keepsInsertionOrderForEqualLayerPosition()
+        {
+            add("first", 2, 0);
+            add("second", -2, 0);
+            add("third", 0, 0);
+            render();
+            assertEquals(List.of("first", "second", "third"), rendered);
+        }
+
+        @Test
+        void includesBakedActors()
+        {
+            RecordingRectangle visible = add("visible", 0, 0);
+            RecordingRectangle far = add("far", 1000, 1000);
+            visible.makeStatic();
+            far.makeStatic();
+            layer.bakeStaticColliders(List.of(visible, far));
+            render();
+            assertEquals(List.of("visible"), rendered);
+        }
+
+        @Test
+        void includesActorsWithInactiveBodies()
+        {
+            RecordingRectangle visible = add("visible", 0, 0);
+            RecordingRectangle far = add("far", 1000, 1000);
+            scene.invokeFrameListeners(0);
+            visible.physicsHandler().body().setActive(false);
+            far.physicsHandler().body().setActive(false);
+            render();
+            assertEquals(List.of("visible"), rendered);
+        }
+
+        @Test
+        void respectsParallax()
+        {
+            add("moved", 100, 0);
+            scene.camera().focus(200, 0);
+            layer.parallaxPosition(0.5, 1);
+            render();
+            assertEquals(List.of("moved"), rendered);
+        }
+
+        @Test
+        void disabled()
+        {
+            layer.culling(false);
+            assertFalse(layer.isCulling());
+            add("visible", 0, 0);
+            add("far", 1000, 1000);
+            render();
+            assertEquals(List.of("visible", "far"), rendered);
+        }
+    }
+}
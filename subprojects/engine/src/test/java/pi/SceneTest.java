@@ -18,6 +18,7 @@
  */
 package pi;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static pi.CustomAssertions.assertToStringClassName;
 import static pi.CustomAssertions.assertToStringContains;
 import static pi.CustomAssertions.assertToStringFieldOrder;
@@ -27,6 +28,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import pi.animation.interpolation.LinearDouble;
+
 /**
  * @author Josef Friedrich
  *
@@ -71,4 +74,16 @@ class SceneTest
         }
     }
 
+    @Test
+    void animationsAdvanceWithFrameListeners()
+    {
+        double[] value = new double[1];
+        scene.animations()
+            .animate(1, v -> value[0] = v, new LinearDouble(0, 4));
+
+        scene.invokeFrameListeners(0.25);
+
+        assertEquals(1, value[0], 1e-9);
+    }
+
 }
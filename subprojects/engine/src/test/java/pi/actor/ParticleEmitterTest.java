@@ -0,0 +1,182 @@
+/*
+ * Engine Pi ist eine anfängerorientierte 2D-Gaming Engine.
+ *
+ * Copyright (c) 2026 Josef Friedrich and contributors.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package pi.actor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import pi.Controller;
+import pi.Scene;
+
+/**
+ * @since 0.53.0
+ */
+class ParticleEmitterTest
+{
+    ParticleEmitter emitter;
+
+    @BeforeEach
+    void setUp()
+    {
+        Controller.instantMode(false);
+        emitter = new ParticleEmitter(100);
+        emitter.rate(0).speed(2, 2).direction(0).spread(0).lifetime(1, 1);
+    }
+
+    @Test
+    void invalidCapacity()
+    {
+        assertThrows(IllegalArgumentException.class,
+            () -> new ParticleEmitter(0));
+    }
+
+    @Test
+    void emitIsLimitedByCapacity()
+    {
+        assertSame(emitter, emitter.emit(60));
+        assertEquals(60, emitter.count());
+        emitter.emit(60);
+        assertEquals(100, emitter.count());
+        emitter.clear();
+        assertEquals(0, emitter.count());
+    }
+
+    @Test
+    void rate()
+    {
+        emitter.rate(100);
+        emitter.onFrame(0.105);
+        assertEquals(10, emitter.count());
+        emitter.onFrame(0.1);
+        assertEquals(20, emitter.count());
+    }
+
+    @Test
+    void move()
+    {
+        emitter.emit(1);
+        emitter.onFrame(0.5);
+        assertEquals(1, emitter.particleX(0), 1e-6);
+        assertEquals(0, emitter.particleY(0), 1e-6);
+    }
+
+    @Test
+    void acceleration()
+    {
+        emitter.speed(0, 0).lifetime(2, 2).acceleration(0, -2);
+        emitter.emit(1);
+        emitter.onFrame(0.5);
+        emitter.onFrame(0.5);
+        // Semi-implizites Euler-Verfahren: 0.5 * 1 * 0.5 + 0.5 * 2 * 0.5
+        assertEquals(-1.5, emitter.particleY(0), 1e-6);
+    }
+
+    @Test
+    void particlesStayInWorldCoordinates()
+    {
+        emitter.emit(1);
+        emitter.moveBy(5, 5);
+        emitter.onFrame(0.5);
+        assertEquals(1, emitter.particleX(0), 1e-6);
+        emitter.emit(1);
+        assertEquals(5, emitter.particleX(1), 1e-6);
+    }
+
+    @Test
+    void expire()
+    {
+        emitter.emit(1);
+        emitter.onFrame(0.5);
+        emitter.lifetime(2, 2).emit(1);
+        emitter.onFrame(0.6);
+        assertEquals(1, emitter.count());
+        // Der überlebende Partikel rückt an die erste Stelle.
+        assertEquals(1.2, emitter.particleX(0), 1e-6);
+        assertThrows(IndexOutOfBoundsException.class,
+            () -> emitter.particleX(1));
+    }
+
+    @Test
+    void render()
+    {
+        emitter.speed(0, 0).particleSize(0.5).color(Color.RED);
+        emitter.endColor(Color.RED);
+        emitter.emit(1);
+        emitter.onFrame(0.1);
+        BufferedImage target = new BufferedImage(100, 100,
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = target.createGraphics();
+        g.translate(50, 50);
+        emitter.render(g, 10);
+        g.dispose();
+        // Ein Quadrat mit 5 Pixel Kantenlänge oberhalb des Ankers.
+        assertEquals(Color.RED.getRGB(), target.getRGB(52, 47));
+        assertEquals(0, target.getRGB(52, 52));
+        assertEquals(0, target.getRGB(57, 47));
+    }
+
+    @Test
+    void fadeOut()
+    {
+        emitter.speed(0, 0).particleSize(1).color(Color.WHITE);
+        emitter.endColor(new Color(255, 255, 255, 0));
+        emitter.emit(1);
+        emitter.onFrame(0.5);
+        BufferedImage target = new BufferedImage(20, 20,
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = target.createGraphics();
+        g.translate(0, 20);
+        emitter.render(g, 10);
+        g.dispose();
+        int alpha = target.getRGB(5, 15) >>> 24;
+        assertTrue(alpha > 100 && alpha < 156, "alpha " + alpha);
+    }
+
+    @Test
+    void collideWithActors()
+    {
+        Scene scene = new Scene();
+        Rectangle ground = new Rectangle(10, 1);
+        ground.center(0, -2);
+        ground.makeStatic();
+        emitter.speed(4, 4).direction(-90).lifetime(5, 5);
+        emitter.collideWithActors(true);
+        scene.add(ground, emitter);
+        scene.invokeFrameListeners(0);
+        emitter.emit(10);
+        for (int i = 0; i < 60; i++)
+        {
+            scene.invokeFrameListeners(1.0 / 60);
+        }
+        assertEquals(10, emitter.count());
+        for (int i = 0; i < emitter.count(); i++)
+        {
+            assertTrue(emitter.particleY(i) > -1.5);
+        }
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * Engine Pi ist eine anfängerorientierte 2D-Gaming Engine.
+ *
+ * Copyright (c) 2026 Josef Friedrich and contributors.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package pi.animation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import pi.animation.interpolation.LinearDouble;
+
+/**
+ * @since 0.53.0
+ */
+class AnimationSchedulerTest
+{
+    private final AnimationScheduler scheduler = new AnimationScheduler();
+
+    private double value = Double.NaN;
+
+    @Test
+    void singleCompletesAndIsRemoved()
+    {
+        List<Double> finals = new ArrayList<>();
+        DoubleAnimator animator = scheduler
+            .animate(1, v -> value = v, new LinearDouble(0, 10))
+            .addCompletionListener(finals::add);
+
+        scheduler.onFrame(0.25);
+        assertEquals(2.5, value, 1e-9);
+        assertTrue(animator.isRunning());
+
+        scheduler.onFrame(1);
+        assertEquals(10, value, 1e-9);
+        assertEquals(List.of(10.0), finals);
+        assertTrue(animator.isComplete());
+        assertFalse(animator.isRunning());
+        assertEquals(0, scheduler.size());
+    }
+
+    @Test
+    void completionListenerAddedAfterCompletionIsCalledImmediately()
+    {
+        DoubleAnimator animator = scheduler.animate(1, v -> {
+        }, new LinearDouble(0, 5));
+        scheduler.onFrame(2);
+
+        List<Double> finals = new ArrayList<>();
+        animator.addCompletionListener(finals::add);
+        assertEquals(List.of(5.0), finals);
+    }
+
+    @Test
+    void repeatedWrapsAround()
+    {
+        scheduler.animate(1,
+            v -> value = v,
+            new LinearDouble(0, 1),
+            AnimationMode.REPEATED);
+
+        scheduler.onFrame(0.75);
+        scheduler.onFrame(0.5);
+
+        assertEquals(0.25, value, 1e-9);
+        assertEquals(1, scheduler.size());
+    }
+
+    @Test
+    void pingPongRunsBackwards()
+    {
+        scheduler.animate(1,
+            v -> value = v,
+            new LinearDouble(0, 1),
+            AnimationMode.PING_PONG);
+
+        scheduler.onFrame(1.5);
+        assertEquals(1, value, 1e-9);
+        scheduler.onFrame(0.25);
+        assertEquals(0.75, value, 1e-9);
+        scheduler.onFrame(1);
+        assertEquals(0, value, 1e-9);
+        scheduler.onFrame(0.5);
+        assertEquals(0.5, value, 1e-9);
+    }
+
+    @Test
+    void pausedAnimationDoesNotAdvance()
+    {
+        DoubleAnimator animator = scheduler
+            .animate(1, v -> value = v, new LinearDouble(0, 1));
+        scheduler.onFrame(0.5);
+        animator.paused(true);
+        scheduler.onFrame(0.25);
+
+        assertTrue(animator.isPaused());
+        assertEquals(0.5, value, 1e-9);
+
+        animator.paused(false);
+        scheduler.onFrame(0.25);
+        assertEquals(0.75, value, 1e-9);
+    }
+
+    @Test
+    void progressSetsTimeAndValue()
+    {
+        DoubleAnimator animator = scheduler
+            .animate(2, v -> value = v, new LinearDouble(0, 1));
+
+        animator.progress(0.5);
+        assertEquals(0.5, value, 1e-9);
+
+        scheduler.onFrame(0.5);
+        assertEquals(0.75, value, 1e-9);
+        assertThrows(IllegalArgumentException.class,
+            () -> animator.progress(2));
+    }
+
+    @Test
+    void cancelKeepsOtherAnimationsRunning()
+    {
+        double[] values = new double[3];
+        DoubleAnimator first = scheduler
+            .animate(1, v -> values[0] = v, new LinearDouble(0, 1));
+        scheduler.animate(1, v -> values[1] = v, new LinearDouble(0, 2));
+        scheduler.animate(1, v -> values[2] = v, new LinearDouble(0, 3));
+
+        first.cancel();
+        scheduler.onFrame(0.5);
+
+        assertFalse(first.isRunning());
+        assertEquals(2, scheduler.size());
+        assertEquals(0, values[0]);
+        assertEquals(1, values[1], 1e-9);
+        assertEquals(1.5, values[2], 1e-9);
+    }
+
+    @Test
+    void completionListenerCanStartAnimation()
+    {
+        scheduler.animate(1, v -> {
+        }, new LinearDouble(0, 1))
+            .addCompletionListener(v -> scheduler
+                .animate(1, next -> value = next, new LinearDouble(0, 1)));
+
+        scheduler.onFrame(2);
+        assertEquals(1, scheduler.size());
+        assertTrue(Double.isNaN(value));
+
+        scheduler.onFrame(0.5);
+        assertEquals(0.5, value, 1e-9);
+    }
+
+    @Test
+    void growsBeyondInitialCapacity()
+    {
+        double[] sum = new double[1];
+        for (int i = 0; i < 100; i++)
+        {
+            scheduler.animate(1, v -> sum[0] += v, new LinearDouble(0, 1));
+        }
+        scheduler.onFrame(0.5);
+
+        assertEquals(100, scheduler.size());
+        assertEquals(50, sum[0], 1e-9);
+    }
+}
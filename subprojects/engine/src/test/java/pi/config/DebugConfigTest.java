@@ -212,4 +212,29 @@ class DebugConfigTest
             assertSame(config, config.useANSIcolors(true));
         }
     }
+
+    @Nested
+    class ProfilerOverlayTest
+    {
+        @Test
+        void defaultValue()
+        {
+            assertFalse(config.profilerOverlay());
+        }
+
+        @Test
+        void setValue()
+        {
+            config.profilerOverlay(true);
+            assertTrue(config.profilerOverlay());
+            config.profilerOverlay(false);
+            assertFalse(config.profilerOverlay());
+        }
+
+        @Test
+        void chaining()
+        {
+            assertSame(config, config.profilerOverlay(true));
+        }
+    }
 }
@@ -29,6 +29,9 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
 import pi.graphics.geom.Direction;
+import pi.graphics.screen_recording.SupportedAnimatedFormat;
+import pi.loop.GameLoopMode;
+import pi.resources.sound.VoiceStealing;
 
 /**
  * @author Josef Friedrich
@@ -59,18 +62,28 @@ class EngineConfigurationTest
         assertEquals(32.0, config.graphics.pixelPerMeter());
         assertEquals(0.05, config.graphics.zoomChange());
         assertEquals(60, config.graphics.framerate());
+        assertEquals(GameLoopMode.SIMPLE, config.graphics.loopMode());
+        assertFalse(config.graphics.pipelinedRendering());
+        assertEquals(1, config.graphics.layerConcurrency());
+        assertEquals(1, config.graphics.solverThreads());
+        assertFalse(config.graphics.glyphAtlas());
         assertEquals("Gnome", config.graphics.colorScheme());
         assertEquals(1, config.graphics.pixelMultiplication());
         assertEquals(2, config.graphics.screenRecordingNFrames());
+        assertEquals(SupportedAnimatedFormat.MP4,
+            config.graphics.screenRecordingFormat());
 
         assertEquals(0.5, config.sound.soundVolume());
         assertEquals(0.5, config.sound.musicVolume());
+        assertEquals(32, config.sound.maxVoices());
+        assertEquals(VoiceStealing.OLDEST, config.sound.voiceStealing());
 
         assertFalse(config.debug.enabled());
         assertTrue(config.debug.renderActors());
         assertFalse(config.debug.actorCoordinates());
         assertFalse(config.debug.renderAABBs());
         assertFalse(config.debug.useANSIcolors());
+        assertFalse(config.debug.profilerOverlay());
 
         assertEquals(-1, config.coordinatesystem.linesNMeter());
         assertFalse(config.coordinatesystem.labelsOnIntersections());
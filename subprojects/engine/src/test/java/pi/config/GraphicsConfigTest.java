@@ -28,6 +28,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import pi.graphics.geom.Direction;
+import pi.graphics.screen_recording.SupportedAnimatedFormat;
+import pi.loop.GameLoopMode;
 
 /**
  * @author Josef Friedrich
@@ -70,6 +72,46 @@ class GraphicsConfigTest
         assertEquals(120, config.framerate());
     }
 
+    @Test
+    void loopMode()
+    {
+        assertEquals(GameLoopMode.SIMPLE, config.loopMode());
+        config.loopMode(GameLoopMode.FIXED_TIMESTEP);
+        assertEquals(GameLoopMode.FIXED_TIMESTEP, config.loopMode());
+    }
+
+    @Test
+    void pipelinedRendering()
+    {
+        assertFalse(config.pipelinedRendering());
+        config.pipelinedRendering(true);
+        assertTrue(config.pipelinedRendering());
+    }
+
+    @Test
+    void layerConcurrency()
+    {
+        assertEquals(1, config.layerConcurrency());
+        config.layerConcurrency(2);
+        assertEquals(2, config.layerConcurrency());
+    }
+
+    @Test
+    void solverThreads()
+    {
+        assertEquals(1, config.solverThreads());
+        config.solverThreads(4);
+        assertEquals(4, config.solverThreads());
+    }
+
+    @Test
+    void glyphAtlas()
+    {
+        assertFalse(config.glyphAtlas());
+        config.glyphAtlas(true);
+        assertTrue(config.glyphAtlas());
+    }
+
     @Test
     void colorScheme()
     {
@@ -102,6 +144,16 @@ class GraphicsConfigTest
         assertEquals(5, config.screenRecordingNFrames());
     }
 
+    @Test
+    void screenRecordingFormat()
+    {
+        assertEquals(SupportedAnimatedFormat.MP4,
+            config.screenRecordingFormat());
+        config.screenRecordingFormat(SupportedAnimatedFormat.APNG);
+        assertEquals(SupportedAnimatedFormat.APNG,
+            config.screenRecordingFormat());
+    }
+
     @Test
     void windowDimension()
     {
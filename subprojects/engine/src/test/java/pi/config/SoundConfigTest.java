@@ -25,6 +25,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import pi.resources.sound.VoiceStealing;
+
 /**
  * @author Josef Friedrich
  */
@@ -43,6 +45,22 @@ class SoundConfigTest
     {
         assertEquals(0.5, config.soundVolume());
         assertEquals(0.5, config.musicVolume());
+        assertEquals(32, config.maxVoices());
+        assertEquals(VoiceStealing.OLDEST, config.voiceStealing());
+    }
+
+    @Test
+    void maxVoices()
+    {
+        config.maxVoices(8);
+        assertEquals(8, config.maxVoices());
+    }
+
+    @Test
+    void voiceStealing()
+    {
+        config.voiceStealing(VoiceStealing.QUIETEST);
+        assertEquals(VoiceStealing.QUIETEST, config.voiceStealing());
     }
 
     @Nested
@@ -0,0 +1,222 @@
+/*
+ * Engine Pi ist eine anfängerorientierte 2D-Gaming Engine.
+ *
+ * Copyright (c) 2026 Josef Friedrich and contributors.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package pi.event;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @since 0.53.0
+ */
+class EventListenersTest
+{
+    EventListeners<Runnable> listeners;
+
+    List<String> calls;
+
+    @BeforeEach
+    void setUp()
+    {
+        listeners = new EventListeners<>();
+        calls = new ArrayList<>();
+    }
+
+    Runnable listener(String name)
+    {
+        return () -> calls.add(name);
+    }
+
+    @Test
+    void addInvokesInInsertionOrder()
+    {
+        listeners.add(listener("a"));
+        listeners.add(listener("b"));
+        listeners.add(listener("c"));
+        listeners.invoke(Runnable::run);
+        assertEquals(List.of("a", "b", "c"), calls);
+    }
+
+    @Test
+    void addTwice()
+    {
+        Runnable a = listener("a");
+        listeners.add(a);
+        listeners.add(a);
+        listeners.invoke(Runnable::run);
+        assertEquals(List.of("a"), calls);
+    }
+
+    @Test
+    void remove()
+    {
+        Runnable a = listener("a");
+        listeners.add(a);
+        listeners.add(listener("b"));
+        listeners.remove(a);
+        assertFalse(listeners.contains(a));
+        listeners.invoke(Runnable::run);
+        assertEquals(List.of("b"), calls);
+    }
+
+    @Test
+    void addDuringInvokeTakesEffectNextTime()
+    {
+        listeners.add(() -> {
+            calls.add("a");
+            listeners.add(listener("b"));
+        });
+        listeners.invoke(Runnable::run);
+        assertEquals(List.of("a"), calls);
+        calls.clear();
+        listeners.invoke(Runnable::run);
+        assertEquals(List.of("a", "b"), calls);
+    }
+
+    @Test
+    void removeDuringInvokeTakesEffectNextTime()
+    {
+        Runnable b = listener("b");
+        listeners.add(() -> {
+            calls.add("a");
+            listeners.remove(b);
+        });
+        listeners.add(b);
+        listeners.invoke(Runnable::run);
+        assertEquals(List.of("a", "b"), calls);
+        calls.clear();
+        listeners.invoke(Runnable::run);
+        assertEquals(List.of("a"), calls);
+    }
+
+    @Test
+    void recursiveInvoke()
+    {
+        listeners.add(() -> listeners.invoke(Runnable::run));
+        assertThrows(IllegalStateException.class,
+            () -> listeners.invoke(Runnable::run));
+        // Nach der Ausnahme ist eine erneute Benachrichtigung möglich.
+        listeners.clear();
+        listeners.invoke(Runnable::run);
+    }
+
+    @Test
+    void concurrentInvokeFromOtherThread() throws InterruptedException
+    {
+        List<Throwable> failures = new ArrayList<>();
+        listeners.add(() -> {
+            Thread other = new Thread(() -> {
+                try
+                {
+                    listeners.invoke(r -> calls.add("other"));
+                }
+                catch (Throwable e)
+                {
+                    failures.add(e);
+                }
+            });
+            other.start();
+            try
+            {
+                other.join();
+            }
+            catch (InterruptedException e)
+            {
+                Thread.currentThread().interrupt();
+            }
+        });
+        listeners.invoke(Runnable::run);
+        assertTrue(failures.isEmpty());
+        assertEquals(List.of("other"), calls);
+    }
+
+    @Test
+    void recursiveInvokeInSecondThread() throws InterruptedException
+    {
+        Thread main = Thread.currentThread();
+        List<Throwable> failures = new ArrayList<>();
+        listeners.add(() -> {
+            if (Thread.currentThread() != main)
+            {
+                calls.add("second");
+                listeners.invoke(r -> calls.add("recursive"));
+                return;
+            }
+            // Die zweite Benachrichtigung beginnt, während der erste Thread
+            // noch benachrichtigt.
+            Thread other = new Thread(() -> {
+                try
+                {
+                    listeners.invoke(Runnable::run);
+                }
+                catch (Throwable e)
+                {
+                    failures.add(e);
+                }
+            });
+            other.start();
+            try
+            {
+                other.join();
+            }
+            catch (InterruptedException e)
+            {
+                Thread.currentThread().interrupt();
+            }
+        });
+        listeners.invoke(Runnable::run);
+        assertEquals(1, failures.size());
+        assertInstanceOf(IllegalStateException.class, failures.get(0));
+        assertEquals(List.of("second"), calls);
+    }
+
+    @Test
+    void parentPropagation()
+    {
+        EventListeners<Runnable> parent = new EventListeners<>();
+        EventListeners<Runnable> child = new EventListeners<>(() -> parent);
+        Runnable a = listener("a");
+        child.add(a);
+        assertTrue(parent.contains(a));
+        parent.invoke(Runnable::run);
+        assertEquals(List.of("a"), calls);
+        child.remove(a);
+        assertFalse(parent.contains(a));
+        assertTrue(parent.isEmpty());
+    }
+
+    @Test
+    void clear()
+    {
+        listeners.add(listener("a"));
+        listeners.invoke(Runnable::run);
+        listeners.clear();
+        assertTrue(listeners.isEmpty());
+        listeners.invoke(Runnable::run);
+        assertEquals(List.of("a"), calls);
+    }
+}
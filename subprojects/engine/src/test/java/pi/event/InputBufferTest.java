@@ -0,0 +1,185 @@
+/*
+ * Engine Pi ist eine anfängerorientierte 2D-Gaming Engine.
+ *
+ * Copyright (c) 2026 Josef Friedrich and contributors.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package pi.event;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.awt.Component;
+import java.awt.event.KeyEvent;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @since 0.53.0
+ */
+class InputBufferTest
+{
+    static final Component SOURCE = new Component()
+    {
+        private static final long serialVersionUID = 1L;
+    };
+
+    InputBuffer buffer;
+
+    List<String> received;
+
+    InputSink sink;
+
+    static KeyEvent key(int keyCode)
+    {
+        return new KeyEvent(SOURCE, KeyEvent.KEY_PRESSED, 0, 0, keyCode,
+                (char) keyCode);
+    }
+
+    @BeforeEach
+    void setUp()
+    {
+        buffer = new InputBuffer();
+        received = new ArrayList<>();
+        sink = new InputSink()
+        {
+            @Override
+            public void onKey(long nanos, KeyEvent event, boolean down)
+            {
+                received.add(nanos + " key " + event.getKeyCode() + " " + down);
+            }
+
+            @Override
+            public void onMouseButton(long nanos, MouseButton button, int x,
+                    int y, boolean down)
+            {
+                received.add(nanos + " button " + button + " " + x + "," + y
+                        + " " + down);
+            }
+
+            @Override
+            public void onMouseMove(long nanos, int x, int y)
+            {
+                received.add(nanos + " move " + x + "," + y);
+            }
+
+            @Override
+            public void onMouseScroll(long nanos, double rotation)
+            {
+                received.add(nanos + " scroll " + rotation);
+            }
+        };
+    }
+
+    @Test
+    void deliversInOrderAfterSample()
+    {
+        buffer.keyDown(1, key(KeyEvent.VK_A));
+        buffer.mouseButton(2, MouseButton.RIGHT, 3, 4, true);
+        buffer.mouseScroll(3, -1.5);
+        buffer.keyUp(4, key(KeyEvent.VK_A));
+        buffer.deliver(sink);
+        assertEquals(0, received.size());
+
+        assertEquals(4, buffer.sample(10));
+        assertEquals(10, buffer.sampleNanos());
+        buffer.deliver(sink);
+        assertEquals(List.of("1 key 65 true",
+            "2 button RIGHT 3,4 true",
+            "3 scroll -1.5",
+            "4 key 65 false"), received);
+    }
+
+    @Test
+    void sampleStartsNextFrame()
+    {
+        buffer.mouseScroll(1, 1);
+        buffer.sample(2);
+        buffer.mouseScroll(3, 2);
+        buffer.deliver(sink);
+        assertEquals(List.of("1 scroll 1.0"), received);
+        buffer.sample(4);
+        assertEquals(1, buffer.size());
+        received.clear();
+        buffer.deliver(sink);
+        assertEquals(List.of("3 scroll 2.0"), received);
+        buffer.sample(5);
+        assertEquals(0, buffer.size());
+    }
+
+    @Test
+    void coalescesMouseMoves()
+    {
+        buffer.mouseMove(1, 1, 1);
+        buffer.mouseMove(2, 2, 2);
+        buffer.mouseButton(3, MouseButton.LEFT, 2, 2, true);
+        buffer.mouseMove(4, 3, 3);
+        buffer.mouseMove(5, 4, 4);
+        buffer.sample(6);
+        buffer.deliver(sink);
+        assertEquals(
+            List.of("2 move 2,2", "3 button LEFT 2,2 true", "5 move 4,4"),
+            received);
+    }
+
+    @Test
+    void growsBeyondInitialCapacity()
+    {
+        for (int i = 0; i < 100; i++)
+        {
+            buffer.mouseScroll(i, i);
+        }
+        assertEquals(100, buffer.sample(100));
+        buffer.deliver(sink);
+        assertEquals("99 scroll 99.0", received.get(99));
+    }
+
+    @Test
+    void passesOriginalKeyEvent()
+    {
+        KeyEvent event = key(KeyEvent.VK_SPACE);
+        buffer.keyDown(1, event);
+        buffer.sample(2);
+        List<KeyEvent> events = new ArrayList<>();
+        buffer.deliver(new InputSink()
+        {
+            @Override
+            public void onKey(long nanos, KeyEvent event, boolean down)
+            {
+                events.add(event);
+            }
+
+            @Override
+            public void onMouseButton(long nanos, MouseButton button, int x,
+                    int y, boolean down)
+            {
+            }
+
+            @Override
+            public void onMouseMove(long nanos, int x, int y)
+            {
+            }
+
+            @Override
+            public void onMouseScroll(long nanos, double rotation)
+            {
+            }
+        });
+        assertSame(event, events.get(0));
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Engine Pi ist eine anfängerorientierte 2D-Gaming Engine.
+ *
+ * Copyright (c) 2026 Josef Friedrich and contributors.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package pi.event;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.event.KeyEvent;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * @since 0.53.0
+ */
+class InputRecorderTest
+{
+    @Test
+    void roundTrip()
+    {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        InputBuffer buffer = new InputBuffer();
+        try (InputRecorder recorder = new InputRecorder(bytes))
+        {
+            buffer.keyDown(1_000, InputBufferTest.key(KeyEvent.VK_LEFT));
+            buffer.mouseMove(2_000, -5, 70_000);
+            buffer.sample(10_000);
+            recorder.record(1.0 / 60, buffer);
+
+            buffer.sample(20_000);
+            recorder.record(0.1, buffer);
+
+            buffer.mouseButton(25_000, MouseButton.RIGHT, 1, 2, false);
+            buffer.mouseScroll(26_000, 0.25);
+            buffer.sample(30_000);
+            recorder.record(Math.PI, buffer);
+            assertEquals(3, recorder.frames());
+        }
+
+        List<String> received = new ArrayList<>();
+        InputBuffer target = new InputBuffer();
+        try (InputReplay replay = new InputReplay(
+                new ByteArrayInputStream(bytes.toByteArray())))
+        {
+            double first = replay.next(target);
+            assertEquals(Double.doubleToRawLongBits(1.0 / 60),
+                Double.doubleToRawLongBits(first));
+            assertEquals(2, target.sample(0));
+            target.deliver(new RecordingSink(received));
+
+            assertEquals(0.1, replay.next(target));
+            assertEquals(0, target.sample(0));
+
+            assertEquals(Math.PI, replay.next(target));
+            target.sample(0);
+            target.deliver(new RecordingSink(received));
+
+            assertTrue(Double.isNaN(replay.next(target)));
+            assertTrue(replay.isEnded());
+            assertEquals(3, replay.frames());
+        }
+        long third = Math.round(1.0 / 60 * 1e9) + Math.round(0.1 * 1e9);
+        assertEquals(List.of("-9000 key 37 " + KeyEvent.KEY_PRESSED,
+            "-8000 move -5,70000",
+            (third - 5_000) + " button RIGHT 1,2 false",
+            (third - 4_000) + " scroll 0.25"), received);
+    }
+
+    @Test
+    void rejectsForeignData()
+    {
+        assertThrows(IllegalArgumentException.class,
+            () -> new InputReplay(new ByteArrayInputStream(new byte[]
+            { 1, 2, 3, 4, 5 })));
+    }
+
+    static final class RecordingSink implements InputSink
+    {
+        private final List<String> received;
+
+        RecordingSink(List<String> received)
+        {
+            this.received = received;
+        }
+
+        @Override
+        public void onKey(long nanos, KeyEvent event, boolean down)
+        {
+            received.add(
+                nanos + " key " + event.getKeyCode() + " " + event.getID());
+        }
+
+        @Override
+        public void onMouseButton(long nanos, MouseButton button, int x, int y,
+                boolean down)
+        {
+            received.add(
+                nanos + " button " + button + " " + x + "," + y + " " + down);
+        }
+
+        @Override
+        public void onMouseMove(long nanos, int x, int y)
+        {
+            received.add(nanos + " move " + x + "," + y);
+        }
+
+        @Override
+        public void onMouseScroll(long nanos, double rotation)
+        {
+            received.add(nanos + " scroll " + rotation);
+        }
+    }
+}
@@ -0,0 +1,213 @@
+/*
+ * Engine Pi ist eine anfängerorientierte 2D-Gaming Engine.
+ *
+ * Copyright (c) 2026 Josef Friedrich and contributors.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package pi.graphics;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.awt.AlphaComposite;
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * @since 0.53.0
+ */
+class RecordingGraphics2DTest
+{
+    static final int WIDTH = 64;
+
+    static final int HEIGHT = 48;
+
+    BufferedImage image()
+    {
+        return new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_ARGB);
+    }
+
+    int[] pixels(BufferedImage image)
+    {
+        return image.getRGB(0, 0, WIDTH, HEIGHT, null, 0, WIDTH);
+    }
+
+    /**
+     * Zeichnet einmal direkt und einmal über eine aufgezeichnete Zeichenliste
+     * und vergleicht die Pixel.
+     */
+    void assertSameOutput(Consumer<Graphics2D> painter)
+    {
+        BufferedImage direct = image();
+        Graphics2D g = direct.createGraphics();
+        painter.accept(g);
+        g.dispose();
+
+        RecordingGraphics2D recorder = new RecordingGraphics2D(WIDTH, HEIGHT);
+        painter.accept(recorder);
+        BufferedImage replayed = image();
+        recorder.toDrawList().render(replayed.createGraphics(), WIDTH, HEIGHT);
+
+        assertArrayEquals(pixels(direct), pixels(replayed));
+    }
+
+    @Test
+    void shapes()
+    {
+        assertSameOutput(g -> {
+            g.setColor(Color.RED);
+            g.fillRect(2, 2, 20, 10);
+            g.setColor(Color.BLUE);
+            g.setStroke(new BasicStroke(3));
+            g.drawOval(10, 10, 30, 20);
+            g.drawLine(0, 47, 63, 0);
+        });
+    }
+
+    @Test
+    void transformAndComposite()
+    {
+        assertSameOutput(g -> {
+            g.setRenderingHint(RenderingHints.KEY_ANTIALIASING,
+                RenderingHints.VALUE_ANTIALIAS_ON);
+            g.translate(32, 24);
+            g.rotate(Math.toRadians(30));
+            g.setComposite(
+                AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 0.5f));
+            g.setColor(Color.GREEN);
+            g.fill(new Rectangle2D.Double(-10, -5, 20, 10));
+        });
+    }
+
+    @Test
+    void clip()
+    {
+        assertSameOutput(g -> {
+            g.translate(5, 5);
+            g.clipRect(0, 0, 20, 20);
+            g.setColor(Color.ORANGE);
+            g.fillRect(-5, -5, 60, 60);
+        });
+    }
+
+    @Test
+    void childGraphics()
+    {
+        assertSameOutput(g -> {
+            g.setColor(Color.RED);
+            Graphics2D child = (Graphics2D) g.create();
+            child.translate(20, 20);
+            child.setColor(Color.BLUE);
+            child.fillRect(0, 0, 10, 10);
+            // Der Zustand des übergeordneten Objekts bleibt unverändert.
+            g.fillRect(0, 0, 10, 10);
+            child.fillRect(15, 0, 10, 10);
+            child.dispose();
+        });
+    }
+
+    @Test
+    void imagesAndText()
+    {
+        BufferedImage sprite = new BufferedImage(8, 8,
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D spriteGraphics = sprite.createGraphics();
+        spriteGraphics.setColor(Color.MAGENTA);
+        spriteGraphics.fillRect(0, 0, 4, 8);
+        spriteGraphics.dispose();
+        assertSameOutput(g -> {
+            g.drawImage(sprite, 3, 4, null);
+            g.drawImage(sprite, 20, 4, 16, 16, null);
+            g.setFont(new Font(Font.MONOSPACED, Font.PLAIN, 10));
+            g.setColor(Color.WHITE);
+            g.drawString("Pi", 30, 40);
+        });
+    }
+
+    @Test
+    void copiesMutableShapes()
+    {
+        Rectangle2D.Double rectangle = new Rectangle2D.Double(0, 0, 10, 10);
+        RecordingGraphics2D recorder = new RecordingGraphics2D(WIDTH, HEIGHT);
+        recorder.setColor(Color.RED);
+        recorder.fill(rectangle);
+        rectangle.setRect(30, 30, 10, 10);
+        BufferedImage replayed = image();
+        recorder.toDrawList().render(replayed.createGraphics(), WIDTH, HEIGHT);
+        assertEquals(Color.RED.getRGB(), replayed.getRGB(5, 5));
+        assertEquals(0, replayed.getRGB(35, 35));
+    }
+
+    @Test
+    void snapshotHintCopiesImage()
+    {
+        BufferedImage sprite = new BufferedImage(8, 8,
+                BufferedImage.TYPE_INT_ARGB);
+        sprite.setRGB(0, 0, Color.RED.getRGB());
+        RecordingGraphics2D recorder = new RecordingGraphics2D(WIDTH, HEIGHT);
+        recorder.drawImage(sprite, 0, 0, null);
+        recorder.setRenderingHint(RecordingGraphics2D.KEY_IMAGE_SNAPSHOT, true);
+        recorder.drawImage(sprite, 10, 0, null);
+        recorder.setRenderingHint(RecordingGraphics2D.KEY_IMAGE_SNAPSHOT,
+            false);
+        sprite.setRGB(0, 0, Color.BLUE.getRGB());
+        BufferedImage replayed = image();
+        recorder.toDrawList().render(replayed.createGraphics(), WIDTH, HEIGHT);
+        // Ohne Hinweis wird das Bild nur referenziert.
+        assertEquals(Color.BLUE.getRGB(), replayed.getRGB(0, 0));
+        assertEquals(Color.RED.getRGB(), replayed.getRGB(10, 0));
+    }
+
+    @Test
+    void resetReusesDrawList()
+    {
+        RecordingGraphics2D recorder = new RecordingGraphics2D(WIDTH, HEIGHT);
+        recorder.setColor(Color.RED);
+        recorder.fillRect(0, 0, 10, 10);
+        DrawList first = recorder.toDrawList();
+        assertEquals(2, first.size());
+
+        recorder.reset(WIDTH / 2, HEIGHT / 2);
+        recorder.fillRect(0, 0, 10, 10);
+        DrawList second = recorder.toDrawList();
+        assertSame(first, second);
+        assertEquals(WIDTH / 2, second.width());
+        BufferedImage replayed = image();
+        second.render(replayed.createGraphics(), WIDTH, HEIGHT);
+        // Nach dem Zurücksetzen gilt wieder die Standardfarbe.
+        assertEquals(Color.WHITE.getRGB(), replayed.getRGB(5, 5));
+    }
+
+    @Test
+    void stateIsRecordedOnlyOnChange()
+    {
+        RecordingGraphics2D recorder = new RecordingGraphics2D(WIDTH, HEIGHT);
+        recorder.fillRect(0, 0, 1, 1);
+        recorder.fillRect(1, 1, 1, 1);
+        recorder.setColor(Color.RED);
+        recorder.fillRect(2, 2, 1, 1);
+        // 2 Zustände und 3 Rechtecke
+        assertEquals(5, recorder.toDrawList().size());
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Engine Pi ist eine anfängerorientierte 2D-Gaming Engine.
+ *
+ * Copyright (c) 2026 Josef Friedrich and contributors.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package pi.graphics;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import pi.resources.AtlasRegion;
+import pi.resources.TextureAtlas;
+
+/**
+ * @since 0.53.0
+ */
+class SpriteBatchTest
+{
+    TextureAtlas atlas;
+
+    BufferedImage target;
+
+    Graphics2D g;
+
+    @BeforeEach
+    void setUp()
+    {
+        atlas = new TextureAtlas(64, 1);
+        target = new BufferedImage(40, 40, BufferedImage.TYPE_INT_ARGB);
+        g = target.createGraphics();
+    }
+
+    static BufferedImage image(Color left, Color right)
+    {
+        BufferedImage image = new BufferedImage(2, 1,
+                BufferedImage.TYPE_INT_ARGB);
+        image.setRGB(0, 0, left.getRGB());
+        image.setRGB(1, 0, right.getRGB());
+        return image;
+    }
+
+    int[] pixels(BufferedImage image)
+    {
+        return image.getRGB(0, 0, 40, 40, null, 0, 40);
+    }
+
+    @Test
+    void matchesDirectDrawing()
+    {
+        BufferedImage tile = image(Color.RED, Color.BLUE);
+        AtlasRegion region = atlas.add(tile);
+        g.translate(4, 6);
+        g.scale(2, 2);
+        SpriteBatch batch = new SpriteBatch();
+        assertTrue(batch.begin(g));
+        for (int i = 0; i < 4; i++)
+        {
+            batch.draw(region, i * 4, 0, 4, 2);
+        }
+        batch.end();
+        AffineTransform after = g.getTransform();
+
+        BufferedImage expected = new BufferedImage(40, 40,
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D e = expected.createGraphics();
+        e.translate(4, 6);
+        e.scale(2, 2);
+        for (int i = 0; i < 4; i++)
+        {
+            e.drawImage(tile, i * 4, 0, 4, 2, null);
+        }
+        assertArrayEquals(pixels(expected), pixels(target));
+        assertEquals(e.getTransform(), after);
+    }
+
+    @Test
+    void rotatedIsNotBatched()
+    {
+        g.rotate(0.5);
+        assertFalse(new SpriteBatch().begin(g));
+        assertFalse(SpriteBatch.draw(g,
+            atlas.add(image(Color.RED, Color.BLUE)),
+            0,
+            0,
+            1,
+            1,
+            false,
+            false));
+    }
+
+    @Test
+    void flipHorizontally()
+    {
+        AtlasRegion region = atlas.add(image(Color.RED, Color.BLUE));
+        assertTrue(SpriteBatch.draw(g, region, 0, 0, 2, 1, true, false));
+        assertEquals(Color.BLUE.getRGB(), target.getRGB(0, 0));
+        assertEquals(Color.RED.getRGB(), target.getRGB(1, 0));
+    }
+
+    @Test
+    void flipVertically()
+    {
+        BufferedImage image = new BufferedImage(1, 2,
+                BufferedImage.TYPE_INT_ARGB);
+        image.setRGB(0, 0, Color.RED.getRGB());
+        image.setRGB(0, 1, Color.BLUE.getRGB());
+        AtlasRegion region = atlas.add(image);
+        assertTrue(SpriteBatch.draw(g, region, 0, 0, 1, 2, false, true));
+        assertEquals(Color.BLUE.getRGB(), target.getRGB(0, 0));
+        assertEquals(Color.RED.getRGB(), target.getRGB(0, 1));
+    }
+}
@@ -29,6 +29,7 @@ import java.awt.Graphics2D;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
@@ -40,6 +41,10 @@ class BoxTest
     {
         private int drawCalls = 0;
 
+        private int dimensionCalls = 0;
+
+        private int anchorCalls = 0;
+
         TestBox()
         {
             supportsDefinedDimension = true;
@@ -60,6 +65,7 @@ class BoxTest
         @Override
         protected void calculateDimension()
         {
+            dimensionCalls++;
             width = definedWidth;
             height = definedHeight;
         }
@@ -67,7 +73,7 @@ class BoxTest
         @Override
         protected void calculateAnchors()
         {
-            // No-op in this unit test.
+            anchorCalls++;
         }
 
         @Override
@@ -364,6 +370,88 @@ class BoxTest
         }
     }
 
+    @Nested
+    class IncrementalLayoutTest
+    {
+        TestBox parent;
+
+        TestBox child;
+
+        TestBox sibling;
+
+        @BeforeEach
+        void setUp()
+        {
+            parent = new TestBox();
+            child = new TestBox();
+            sibling = new TestBox();
+            parent.addChildBox(child);
+            parent.addChildBox(sibling);
+            parent.render(null);
+        }
+
+        @Test
+        void cleanTreeIsNotMeasuredAgain()
+        {
+            parent.render(null);
+
+            assertEquals(1, parent.dimensionCalls);
+            assertEquals(1, child.dimensionCalls);
+            assertEquals(1, parent.anchorCalls);
+            assertFalse(parent.needsMeasuring());
+        }
+
+        @Test
+        void positionChangeOnlyRearranges()
+        {
+            parent.x(10).y(20);
+            parent.render(null);
+
+            assertEquals(1, parent.dimensionCalls);
+            assertEquals(1, child.dimensionCalls);
+            assertEquals(2, parent.anchorCalls);
+        }
+
+        @Test
+        void dirtyChildMarksAncestors()
+        {
+            child.width(30);
+
+            assertTrue(child.needsMeasuring());
+            assertTrue(parent.needsMeasuring());
+            assertFalse(sibling.needsMeasuring());
+
+            parent.render(null);
+
+            assertEquals(2, parent.dimensionCalls);
+            assertEquals(2, child.dimensionCalls);
+            assertEquals(1, sibling.dimensionCalls);
+            assertEquals(30, child.width());
+        }
+
+        @Test
+        void invalidationsAreBatchedUntilRender()
+        {
+            child.width(30).height(40).width(50);
+
+            assertEquals(1, child.dimensionCalls);
+
+            parent.render(null);
+
+            assertEquals(2, child.dimensionCalls);
+            assertEquals(50, child.width());
+            assertEquals(40, child.height());
+        }
+
+        @Test
+        void unchangedDimensionDoesNotInvalidate()
+        {
+            child.width(0);
+
+            assertFalse(parent.needsMeasuring());
+        }
+    }
+
     @Nested
     class FormattingTest
     {
@@ -22,6 +22,7 @@ import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -316,6 +317,35 @@ class TextBlockBoxTest
         verify(graphics, atLeastOnce()).setColor(any(Color.class));
     }
 
+    @Test
+    void positionChangeKeepsLines()
+    {
+        TextBlockBox box = new TextBlockBox("Test\nMulti\nLine");
+        box.measure();
+        List<TextBlockBox.TextLayoutLine> lines = box.lines();
+
+        box.x(10).y(20);
+        box.measure();
+
+        assertSame(lines, box.lines());
+        assertFalse(box.needsMeasuring());
+    }
+
+    @Test
+    void contentChangeIsMeasuredLazily()
+    {
+        TextBlockBox box = new TextBlockBox("Test");
+        box.measure();
+        List<TextBlockBox.TextLayoutLine> lines = box.lines();
+
+        box.content("Test", "Multi", "Line");
+
+        assertTrue(box.needsMeasuring());
+        assertEquals(3, box.linesCount());
+        assertNotSame(lines, box.lines());
+        assertFalse(box.needsMeasuring());
+    }
+
     @Test
     void toStringMethod()
     {
@@ -0,0 +1,125 @@
+/*
+ * Engine Pi ist eine anfängerorientierte 2D-Gaming Engine.
+ *
+ * Copyright (c) 2026 Josef Friedrich and contributors.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package pi.graphics.screen_recording;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.awt.image.BufferedImage;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * @since 0.53.0
+ */
+class ApngEncoderTest
+{
+    @TempDir
+    Path dir;
+
+    ScreenshotImage frame(int width, int height, int color)
+    {
+        ScreenshotImage frame = new ScreenshotImage(width, height);
+        int[] pixels = frame.pixels();
+        for (int i = 0; i < pixels.length; i++)
+        {
+            pixels[i] = color + i;
+        }
+        return frame;
+    }
+
+    /**
+     * Liest die Typen aller Blöcke und prüft deren Prüfsummen.
+     */
+    List<String> chunks(File file) throws IOException
+    {
+        List<String> chunks = new ArrayList<>();
+        try (DataInputStream input = new DataInputStream(
+                new FileInputStream(file)))
+        {
+            input.skipBytes(8);
+            while (input.available() > 0)
+            {
+                int length = input.readInt();
+                byte[] typeAndData = new byte[4 + length];
+                input.readFully(typeAndData);
+                CRC32 crc = new CRC32();
+                crc.update(typeAndData);
+                assertEquals((int) crc.getValue(), input.readInt());
+                String type = new String(typeAndData, 0, 4);
+                if (type.equals("acTL"))
+                {
+                    type += ":" + (typeAndData[7] & 0xff);
+                }
+                chunks.add(type);
+            }
+        }
+        return chunks;
+    }
+
+    @Test
+    void writesAnimation() throws IOException
+    {
+        File file = dir.resolve("test.apng").toFile();
+        ApngEncoder encoder = new ApngEncoder(file, 20, 10, 30);
+        ScreenshotImage first = frame(20, 10, 0x102030);
+        encoder.encode(first);
+        encoder.encode(frame(20, 10, 0x405060));
+        encoder.encode(frame(20, 10, 0x708090));
+        encoder.close();
+        assertEquals(List.of("IHDR",
+            "acTL:3",
+            "fcTL",
+            "IDAT",
+            "fcTL",
+            "fdAT",
+            "fcTL",
+            "fdAT",
+            "IEND"), chunks(file));
+        // Das erste Einzelbild ist das Standardbild der PNG-Datei.
+        BufferedImage image = ImageIO.read(file);
+        for (int y = 0; y < 10; y++)
+        {
+            for (int x = 0; x < 20; x++)
+            {
+                assertEquals(first.pixels()[y * 20 + x] & 0xffffff,
+                    image.getRGB(x, y) & 0xffffff);
+            }
+        }
+    }
+
+    @Test
+    void deletesEmptyFile() throws IOException
+    {
+        File file = dir.resolve("empty.apng").toFile();
+        new ApngEncoder(file, 20, 10, 30).close();
+        assertFalse(file.exists());
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Engine Pi ist eine anfängerorientierte 2D-Gaming Engine.
+ *
+ * Copyright (c) 2026 Josef Friedrich and contributors.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package pi.graphics.screen_recording;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * @since 0.53.0
+ */
+class GifEncoderTest
+{
+    @TempDir
+    Path dir;
+
+    @Test
+    void writesAnimation() throws IOException
+    {
+        File file = dir.resolve("test.gif").toFile();
+        GifEncoder encoder = new GifEncoder(file, 30);
+        for (int color : new int[] { 0xff0000, 0x00ff00, 0x0000ff })
+        {
+            ScreenshotImage frame = new ScreenshotImage(8, 4);
+            Arrays.fill(frame.pixels(), color);
+            encoder.encode(frame);
+        }
+        encoder.close();
+        try (ImageInputStream input = ImageIO.createImageInputStream(file))
+        {
+            ImageReader reader = ImageIO.getImageReaders(input).next();
+            reader.setInput(input);
+            assertEquals(3, reader.getNumImages(true));
+            assertEquals(0x0000ff, reader.read(2).getRGB(0, 0) & 0xffffff);
+            reader.dispose();
+        }
+    }
+}
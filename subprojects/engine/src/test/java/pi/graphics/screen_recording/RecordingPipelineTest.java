@@ -0,0 +1,167 @@
+/*
+ * Engine Pi ist eine anfängerorientierte 2D-Gaming Engine.
+ *
+ * Copyright (c) 2026 Josef Friedrich and contributors.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package pi.graphics.screen_recording;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * @since 0.53.0
+ */
+class RecordingPipelineTest
+{
+    /**
+     * Merkt sich den ersten Pixel jedes kodierten Einzelbilds.
+     */
+    static class CollectingEncoder implements FrameEncoder
+    {
+        final List<Integer> pixels = new ArrayList<>();
+
+        final CountDownLatch release;
+
+        boolean closed = false;
+
+        CollectingEncoder(CountDownLatch release)
+        {
+            this.release = release;
+        }
+
+        @Override
+        public void encode(ScreenshotImage frame) throws IOException
+        {
+            try
+            {
+                release.await();
+            }
+            catch (InterruptedException e)
+            {
+                throw new IOException(e);
+            }
+            pixels.add(frame.pixels()[0]);
+        }
+
+        @Override
+        public void close()
+        {
+            closed = true;
+        }
+    }
+
+    void submit(RecordingPipeline pipeline, int pixel)
+    {
+        ScreenshotImage frame = pipeline.acquire();
+        assertNotNull(frame);
+        frame.pixels()[0] = pixel;
+        pipeline.submit(frame);
+    }
+
+    @Test
+    void encodesInOrder() throws IOException
+    {
+        CollectingEncoder encoder = new CollectingEncoder(
+                new CountDownLatch(0));
+        RecordingPipeline pipeline = new RecordingPipeline(4, 3, encoder);
+        for (int i = 0; i < 20; i++)
+        {
+            submit(pipeline, i);
+        }
+        pipeline.close();
+        assertTrue(encoder.closed);
+        assertEquals(20, pipeline.encodedFrames() + pipeline.droppedFrames());
+        for (int i = 1; i < encoder.pixels.size(); i++)
+        {
+            assertTrue(encoder.pixels.get(i - 1) < encoder.pixels.get(i));
+        }
+    }
+
+    @Test
+    void dropsFramesWhenEncoderIsBehind() throws IOException
+    {
+        CountDownLatch release = new CountDownLatch(1);
+        CollectingEncoder encoder = new CollectingEncoder(release);
+        RecordingPipeline pipeline = new RecordingPipeline(4, 3, encoder, 2);
+        // Zwei Einzelbilder in der Warteschlange, eines im Kodierer, eines
+        // beim Zeichnen: Mehr Einzelbilder gibt es nicht.
+        List<ScreenshotImage> frames = new ArrayList<>();
+        for (int i = 0; i < 4; i++)
+        {
+            frames.add(pipeline.acquire());
+        }
+        assertNull(pipeline.acquire());
+        assertEquals(1, pipeline.droppedFrames());
+        for (ScreenshotImage frame : frames)
+        {
+            pipeline.submit(frame);
+        }
+        assertTrue(pipeline.queueDepth() <= 2);
+        assertEquals(2, pipeline.maxQueueDepth());
+        release.countDown();
+        pipeline.close();
+        assertEquals(5, pipeline.encodedFrames() + pipeline.droppedFrames());
+        assertEquals(0, pipeline.queueDepth());
+    }
+
+    @Test
+    void reusesFrames() throws IOException, InterruptedException
+    {
+        RecordingPipeline pipeline = new RecordingPipeline(4, 3,
+                new CollectingEncoder(new CountDownLatch(0)), 1);
+        ScreenshotImage first = pipeline.acquire();
+        pipeline.submit(first);
+        while (pipeline.encodedFrames() == 0)
+        {
+            Thread.sleep(1);
+        }
+        assertSame(first, pipeline.acquire());
+        pipeline.close();
+        assertNull(pipeline.acquire());
+    }
+
+    @Test
+    void reportsEncoderFailure()
+    {
+        RecordingPipeline pipeline = new RecordingPipeline(4, 3,
+                new FrameEncoder()
+                {
+                    @Override
+                    public void encode(ScreenshotImage frame) throws IOException
+                    {
+                        throw new IOException("kaputt");
+                    }
+
+                    @Override
+                    public void close()
+                    {
+                    }
+                });
+        submit(pipeline, 1);
+        assertThrows(IOException.class, pipeline::close);
+    }
+}
@@ -0,0 +1,227 @@
+/*
+ * Engine Pi ist eine anfängerorientierte 2D-Gaming Engine.
+ *
+ * Copyright (c) 2026 Josef Friedrich and contributors.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package pi.loop;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import pi.Controller;
+import pi.Scene;
+import pi.actor.Rectangle;
+
+/**
+ * @since 0.53.0
+ */
+class FrameProfilerTest
+{
+    FrameProfiler profiler;
+
+    @BeforeEach
+    void setUp()
+    {
+        profiler = new FrameProfiler(4);
+    }
+
+    void frame(long stepNanos, float physicsMillis)
+    {
+        profiler.beginFrame();
+        profiler.mark(ProfilerPhase.STEP);
+        profiler
+            .layer(stepNanos, 2 * stepNanos, new float[]
+            { physicsMillis, 0, 0, 0, 0 });
+        profiler.endFrame();
+    }
+
+    @Test
+    void invalidCapacity()
+    {
+        assertThrows(IllegalArgumentException.class,
+            () -> new FrameProfiler(0));
+    }
+
+    @Test
+    void empty()
+    {
+        assertEquals(0, profiler.count());
+        assertEquals(0, profiler.percentile(ProfilerPhase.FRAME, 0.5));
+        assertEquals(0, profiler.last(ProfilerPhase.STEP));
+        assertEquals(0, profiler.layerStepPercentile(0, 0.5));
+        assertEquals(0, profiler.allocationRate());
+    }
+
+    @Test
+    void marksOutsideFrameAreIgnored()
+    {
+        profiler.mark(ProfilerPhase.RENDER);
+        profiler.layer(1, 1, new float[5]);
+        profiler.endFrame();
+        assertEquals(0, profiler.count());
+    }
+
+    @Test
+    void marksAccumulatePerPhase() throws InterruptedException
+    {
+        profiler.beginFrame();
+        Thread.sleep(2);
+        profiler.mark(ProfilerPhase.FRAME_LISTENERS);
+        profiler.mark(ProfilerPhase.CAMERA);
+        Thread.sleep(2);
+        profiler.mark(ProfilerPhase.FRAME_LISTENERS);
+        profiler.endFrame();
+        assertEquals(1, profiler.count());
+        assertTrue(profiler.last(ProfilerPhase.FRAME_LISTENERS) >= 0.004);
+        assertTrue(profiler.last(ProfilerPhase.CAMERA) < 0.002);
+        assertTrue(profiler.last(ProfilerPhase.FRAME) >= profiler
+            .last(ProfilerPhase.FRAME_LISTENERS));
+    }
+
+    @Test
+    void physicsTimingsAreSummedOverLayers()
+    {
+        profiler.beginFrame();
+        profiler.layer(0, 0, new float[] { 1, 0.5f, 0, 0, 0 });
+        profiler.layer(0, 0, new float[] { 2, 0.5f, 0, 0, 0 });
+        profiler.endFrame();
+        assertEquals(2, profiler.layerCount());
+        assertEquals(0.003, profiler.last(ProfilerPhase.PHYSICS_STEP), 1e-6);
+        assertEquals(0.001, profiler.last(ProfilerPhase.PHYSICS_COLLIDE), 1e-6);
+    }
+
+    @Test
+    void layerPercentiles()
+    {
+        frame(4_000_000, 0);
+        frame(1_000_000, 0);
+        frame(3_000_000, 0);
+        frame(2_000_000, 0);
+        assertEquals(0.001, profiler.layerStepPercentile(0, 0), 1e-9);
+        assertEquals(0.004, profiler.layerStepPercentile(0, 1), 1e-9);
+        assertEquals(0.006, profiler.layerRenderPercentile(0, 0.5), 1e-9);
+        assertEquals(0, profiler.layerStepPercentile(1, 0.5));
+    }
+
+    @Test
+    void ringBufferKeepsNewestFrames()
+    {
+        for (int i = 1; i <= 6; i++)
+        {
+            frame(0, i);
+        }
+        assertEquals(4, profiler.count());
+        assertEquals(6, profiler.frameCounter());
+        long[] history = new long[8];
+        assertEquals(4, profiler.history(ProfilerPhase.PHYSICS_STEP, history));
+        assertEquals(3_000_000, history[0]);
+        assertEquals(6_000_000, history[3]);
+        assertEquals(0.003,
+            profiler.percentile(ProfilerPhase.PHYSICS_STEP, 0),
+            1e-9);
+    }
+
+    @Test
+    void historyIsLimitedByTarget()
+    {
+        frame(0, 1);
+        frame(0, 2);
+        frame(0, 3);
+        long[] history = new long[2];
+        assertEquals(2, profiler.history(ProfilerPhase.PHYSICS_STEP, history));
+        assertEquals(2_000_000, history[0]);
+        assertEquals(3_000_000, history[1]);
+    }
+
+    @Test
+    void measuresAllocations()
+    {
+        if (!FrameProfiler.measuresAllocations())
+        {
+            return;
+        }
+        List<long[]> garbage = new ArrayList<>();
+        profiler.beginFrame();
+        for (int i = 0; i < 100; i++)
+        {
+            garbage.add(new long[1000]);
+        }
+        profiler.endFrame();
+        assertFalse(garbage.isEmpty());
+        assertTrue(profiler.allocationRate() > 0);
+    }
+
+    @Test
+    void gameLoopRecordsLayers()
+    {
+        Controller.instantMode(false);
+        Scene scene = new Scene();
+        Rectangle rectangle = new Rectangle(1, 1);
+        rectangle.makeDynamic();
+        scene.add(rectangle);
+        scene.gravity(0, -10);
+        try (HeadlessRunner runner = new HeadlessRunner(scene, 1.0 / 60, true))
+        {
+            runner.steps(10);
+            FrameProfiler profiler = runner.loop().profiler();
+            assertEquals(10, profiler.count());
+            assertEquals(1, profiler.layerCount());
+            assertTrue(profiler.percentile(ProfilerPhase.FRAME, 0.5) > 0);
+            assertTrue(profiler.percentile(ProfilerPhase.RENDER, 0.5) > 0);
+            assertTrue(profiler.layerStepPercentile(0, 0.5) > 0);
+            assertTrue(
+                profiler.percentile(ProfilerPhase.PHYSICS_STEP, 0.5) > 0);
+        }
+    }
+
+    @Test
+    void emitsFlightRecorderEvents(@TempDir Path directory) throws Exception
+    {
+        Path file = directory.resolve("frames.jfr");
+        try (Recording recording = new Recording())
+        {
+            recording.enable("pi.Frame");
+            recording.start();
+            frame(1_000_000, 2);
+            frame(1_000_000, 2);
+            recording.stop();
+            recording.dump(file);
+        }
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        assertEquals(2,
+            events.stream()
+                .filter(
+                    event -> event.getEventType().getName().equals("pi.Frame"))
+                .count());
+        RecordedEvent event = events.get(0);
+        assertEquals(2_000_000, event.getDuration("physicsStep").toNanos());
+        assertTrue(Files.size(file) > 0);
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Engine Pi ist eine anfängerorientierte 2D-Gaming Engine.
+ *
+ * Copyright (c) 2026 Josef Friedrich and contributors.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package pi.loop;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @since 0.53.0
+ */
+class FrameStatisticsTest
+{
+    static final long MS = 1_000_000;
+
+    FrameStatistics statistics;
+
+    @BeforeEach
+    void setUp()
+    {
+        statistics = new FrameStatistics(4, 0.010);
+    }
+
+    @Test
+    void empty()
+    {
+        assertEquals(0, statistics.count());
+        assertEquals(0, statistics.averageFrameDuration());
+        assertEquals(0, statistics.percentile(0.5));
+        assertEquals(0, statistics.jitter());
+        assertEquals(0, statistics.averageFramerate());
+    }
+
+    @Test
+    void averages()
+    {
+        statistics.record(10 * MS, 4 * MS);
+        statistics.record(20 * MS, 6 * MS);
+        assertEquals(2, statistics.count());
+        assertEquals(0.015, statistics.averageFrameDuration(), 1e-9);
+        assertEquals(0.005, statistics.averageWorkDuration(), 1e-9);
+        assertEquals(1 / 0.015, statistics.averageFramerate(), 1e-6);
+        assertEquals(0.005, statistics.jitter(), 1e-9);
+    }
+
+    @Test
+    void percentile()
+    {
+        statistics.record(40 * MS, 0);
+        statistics.record(10 * MS, 0);
+        statistics.record(30 * MS, 0);
+        statistics.record(20 * MS, 0);
+        assertEquals(0.010, statistics.minFrameDuration(), 1e-9);
+        assertEquals(0.040, statistics.maxFrameDuration(), 1e-9);
+        assertEquals(0.030, statistics.percentile(0.5), 1e-9);
+    }
+
+    @Test
+    void ringBufferOverwritesOldestFrames()
+    {
+        for (int i = 1; i <= 6; i++)
+        {
+            statistics.record(i * MS, 0);
+        }
+        assertEquals(4, statistics.count());
+        assertEquals(0.003, statistics.minFrameDuration(), 1e-9);
+        assertEquals(0.006, statistics.maxFrameDuration(), 1e-9);
+    }
+
+    @Test
+    void droppedFrames()
+    {
+        statistics.record(10 * MS, 0);
+        statistics.record(14 * MS, 0);
+        statistics.record(16 * MS, 0);
+        statistics.record(30 * MS, 0);
+        assertEquals(2, statistics.droppedFrames());
+    }
+
+    @Test
+    void invalidCapacity()
+    {
+        assertThrows(IllegalArgumentException.class,
+            () -> new FrameStatistics(0, 0.010));
+    }
+
+    @Test
+    void pacerWaitsUntilDeadline() throws InterruptedException
+    {
+        FramePacer pacer = new FramePacer();
+        long deadline = System.nanoTime() + 5 * MS;
+        pacer.waitUntil(deadline);
+        assertTrue(System.nanoTime() >= deadline);
+    }
+}
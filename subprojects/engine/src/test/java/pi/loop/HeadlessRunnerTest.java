@@ -0,0 +1,226 @@
+/*
+ * Engine Pi ist eine anfängerorientierte 2D-Gaming Engine.
+ *
+ * Copyright (c) 2026 Josef Friedrich and contributors.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package pi.loop;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.Canvas;
+import java.awt.Color;
+import java.awt.event.KeyEvent;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import pi.Controller;
+import pi.Scene;
+import pi.actor.Rectangle;
+import pi.event.InputRecorder;
+import pi.event.InputReplay;
+
+/**
+ * @since 0.53.0
+ */
+class HeadlessRunnerTest
+{
+    Scene scene;
+
+    @BeforeEach
+    void setUp()
+    {
+        Controller.instantMode(false);
+        scene = new Scene();
+    }
+
+    double fall(Scene scene)
+    {
+        Rectangle rectangle = new Rectangle(1, 1);
+        rectangle.makeDynamic();
+        scene.add(rectangle);
+        scene.gravity(0, -10);
+        try (HeadlessRunner runner = new HeadlessRunner(scene, 1.0 / 60, false))
+        {
+            runner.run(1);
+        }
+        return rectangle.center().y();
+    }
+
+    @Test
+    void advancesVirtualClock()
+    {
+        List<Double> pastTimes = new ArrayList<>();
+        scene.frameListeners().add(pastTimes::add);
+        try (HeadlessRunner runner = new HeadlessRunner(scene, 0.1, false))
+        {
+            runner.run(1);
+            assertEquals(10, runner.frameCounter());
+            assertEquals(1, runner.time(), 1e-9);
+        }
+        assertEquals(10, pastTimes.size());
+        assertTrue(pastTimes.stream().allMatch(time -> time == 0.1));
+    }
+
+    @Test
+    void withoutRendering()
+    {
+        try (HeadlessRunner runner = new HeadlessRunner(scene, 0.1, false))
+        {
+            runner.step();
+            assertNull(runner.image());
+        }
+    }
+
+    @Test
+    void rendersIntoImage()
+    {
+        scene.backgroundColor(Color.RED);
+        try (HeadlessRunner runner = new HeadlessRunner(scene))
+        {
+            runner.step();
+            BufferedImage image = runner.image();
+            assertEquals(Controller.config.graphics.windowWidth(),
+                image.getWidth());
+            assertEquals(Color.RED.getRGB(), image.getRGB(0, 0));
+        }
+    }
+
+    @Test
+    void switchesScene()
+    {
+        Scene next = new Scene();
+        List<Double> pastTimes = new ArrayList<>();
+        next.frameListeners().add(pastTimes::add);
+        try (HeadlessRunner runner = new HeadlessRunner(scene, 0.1, false))
+        {
+            runner.step().scene(next).step();
+            assertEquals(next, runner.scene());
+        }
+        assertEquals(1, pastTimes.size());
+    }
+
+    @Test
+    void deterministic()
+    {
+        double first = fall(scene);
+        double second = fall(new Scene());
+        assertTrue(first < 0);
+        assertEquals(first, second);
+    }
+
+    static KeyEvent key(int id, int keyCode)
+    {
+        return new KeyEvent(new Canvas(), id, 0, 0, keyCode, (char) keyCode);
+    }
+
+    @Test
+    void inputIsDeliveredBeforeStep()
+    {
+        List<String> calls = new ArrayList<>();
+        scene.keyStrokeListeners().add(event -> calls.add("key"));
+        scene.frameListeners().add(pastTime -> calls.add("frame"));
+        try (HeadlessRunner runner = new HeadlessRunner(scene, 0.1, false))
+        {
+            runner.loop()
+                .input()
+                .keyDown(System.nanoTime(),
+                    key(KeyEvent.KEY_PRESSED, KeyEvent.VK_A));
+            assertEquals(0, calls.size());
+            runner.step();
+        }
+        assertEquals(List.of("key", "frame"), calls);
+    }
+
+    /**
+     * Spielt eine Szene, in der ein Tastendruck einen Körper anstößt, und gibt
+     * die Lage des Körpers nach jedem Einzelbild zurück.
+     */
+    List<Double> play(HeadlessRunner runner, Rectangle rectangle,
+            boolean inject)
+    {
+        List<Double> positions = new ArrayList<>();
+        for (int frame = 0; frame < 60; frame++)
+        {
+            if (inject && frame % 20 == 5)
+            {
+                runner.loop()
+                    .input()
+                    .keyDown(System.nanoTime(),
+                        key(KeyEvent.KEY_PRESSED, KeyEvent.VK_UP));
+                runner.loop()
+                    .input()
+                    .keyUp(System.nanoTime(),
+                        key(KeyEvent.KEY_RELEASED, KeyEvent.VK_UP));
+            }
+            runner.step();
+            positions.add(rectangle.center().y());
+        }
+        return positions;
+    }
+
+    Rectangle jumper(Scene scene)
+    {
+        Rectangle rectangle = new Rectangle(1, 1);
+        rectangle.makeDynamic();
+        scene.add(rectangle);
+        scene.gravity(0, -10);
+        scene.keyStrokeListeners().add(event -> {
+            if (event.getKeyCode() == KeyEvent.VK_UP)
+            {
+                rectangle.applyImpulse(0, 20);
+            }
+        });
+        return rectangle;
+    }
+
+    @Test
+    void replayReproducesRecordedSession()
+    {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        List<Double> recorded;
+        try (HeadlessRunner runner = new HeadlessRunner(scene, 1.0 / 60, false);
+                InputRecorder recorder = new InputRecorder(bytes))
+        {
+            Rectangle rectangle = jumper(scene);
+            runner.loop().inputRecorder(recorder);
+            recorded = play(runner, rectangle, true);
+        }
+
+        Scene replayScene = new Scene();
+        Rectangle rectangle = jumper(replayScene);
+        List<Double> replayed = new ArrayList<>();
+        replayScene.frameListeners()
+            .add(pastTime -> replayed.add(rectangle.center().y()));
+        try (HeadlessRunner runner = new HeadlessRunner(replayScene, 1, false);
+                InputReplay replay = new InputReplay(
+                        new ByteArrayInputStream(bytes.toByteArray())))
+        {
+            runner.replay(replay);
+            assertEquals(60, runner.frameCounter());
+            assertEquals(1, runner.time(), 1e-9);
+        }
+        assertEquals(recorded, replayed);
+        assertTrue(recorded.get(10) > recorded.get(4));
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * Engine Pi ist eine anfängerorientierte 2D-Gaming Engine.
+ *
+ * Copyright (c) 2026 Josef Friedrich and contributors.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package pi.loop;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import pi.Controller;
+import pi.Layer;
+import pi.Scene;
+import pi.actor.Rectangle;
+import pi.event.CollisionEvent;
+import pi.event.CollisionListener;
+
+/**
+ * @since 0.53.0
+ */
+class LayerStepperTest
+{
+    Scene scene;
+
+    Layer second;
+
+    List<Layer> layers;
+
+    LayerStepper stepper;
+
+    /**
+     * Die Threads, in denen die Kollisionsbeobachter aufgerufen wurden.
+     */
+    List<Thread> collisionThreads;
+
+    List<Rectangle> boxes;
+
+    @BeforeEach
+    void setUp()
+    {
+        Controller.instantMode(false);
+        scene = new Scene();
+        second = new Layer();
+        scene.addLayer(second);
+        layers = List.of(scene.layer(), second);
+        collisionThreads = Collections.synchronizedList(new ArrayList<>());
+        boxes = new ArrayList<>();
+        addFallingBox(scene.layer());
+        addFallingBox(second);
+    }
+
+    @AfterEach
+    void tearDown()
+    {
+        if (stepper != null)
+        {
+            stepper.shutdown();
+        }
+    }
+
+    void addFallingBox(Layer layer)
+    {
+        layer.gravity(0, -10);
+        Rectangle ground = new Rectangle(10, 1);
+        ground.center(0, -2);
+        ground.makeStatic();
+        Rectangle box = new Rectangle(1, 1);
+        box.makeDynamic();
+        layer.add(ground, box);
+        boxes.add(box);
+        box.addCollisionListener(new CollisionListener<>()
+        {
+            @Override
+            public void onCollision(CollisionEvent<pi.actor.Actor> event)
+            {
+                collisionThreads.add(Thread.currentThread());
+            }
+        });
+    }
+
+    void run(double seconds)
+    {
+        for (double time = 0; time < seconds; time += 1.0 / 60)
+        {
+            stepper.step(layers, 1.0 / 60);
+            // Die Figuren werden erst über die Beobachter der
+            // Bildaktualisierung angemeldet.
+            scene.invokeFrameListeners(1.0 / 60);
+        }
+    }
+
+    @Test
+    void automaticConcurrency()
+    {
+        assertEquals(Runtime.getRuntime().availableProcessors(),
+            new LayerStepper(0).concurrency());
+    }
+
+    @Test
+    void negativeConcurrency()
+    {
+        assertThrows(IllegalArgumentException.class,
+            () -> new LayerStepper(-1));
+    }
+
+    @Test
+    void sequential()
+    {
+        stepper = new LayerStepper(1);
+        run(1);
+        assertEquals(2, collisionThreads.size());
+        assertTrue(collisionThreads.stream()
+            .allMatch(thread -> thread == Thread.currentThread()));
+    }
+
+    @Test
+    void parallelDispatchesOnCallingThread()
+    {
+        stepper = new LayerStepper(2);
+        run(1);
+        assertEquals(2, collisionThreads.size());
+        assertTrue(collisionThreads.stream()
+            .allMatch(thread -> thread == Thread.currentThread()));
+    }
+
+    @Test
+    void parallelMatchesSequential()
+    {
+        stepper = new LayerStepper(2);
+        run(1);
+        double parallel = boxes.get(1).center().y();
+        setUp();
+        stepper.shutdown();
+        stepper = new LayerStepper(1);
+        run(1);
+        assertTrue(parallel < 0);
+        assertEquals(parallel, boxes.get(1).center().y());
+    }
+
+    @Test
+    void propagatesFailure()
+    {
+        stepper = new LayerStepper(2);
+        Layer failing = new Layer()
+        {
+            @Override
+            public void step(double pastTime)
+            {
+                throw new IllegalStateException("step");
+            }
+        };
+        assertThrows(IllegalStateException.class,
+            () -> stepper.step(List.of(scene.layer(), failing), 1.0 / 60));
+        // Der Pool bleibt nach einem Fehler verwendbar.
+        stepper.step(layers, 1.0 / 60);
+    }
+}
@@ -0,0 +1,223 @@
+/*
+ * Engine Pi ist eine anfängerorientierte 2D-Gaming Engine.
+ *
+ * Copyright (c) 2026 Josef Friedrich and contributors.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package pi.loop;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jbox2d.dynamics.Body;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import pi.Controller;
+import pi.Scene;
+import pi.actor.Rectangle;
+import pi.event.FrameListener;
+
+/**
+ * @since 0.53.0
+ */
+class UpdateLodTest
+{
+    Scene scene;
+
+    Rectangle near;
+
+    Rectangle far;
+
+    List<Double> nearTimes;
+
+    List<Double> farTimes;
+
+    @BeforeEach
+    void setUp()
+    {
+        Controller.instantMode(false);
+        scene = new Scene();
+        near = new Rectangle(1, 1);
+        near.center(0, 0);
+        far = new Rectangle(1, 1);
+        far.center(1000, 0);
+        scene.add(near, far);
+        scene.invokeFrameListeners(0);
+        nearTimes = new ArrayList<>();
+        farTimes = new ArrayList<>();
+        near.addFrameListener(nearTimes::add);
+        far.addFrameListener(farTimes::add);
+    }
+
+    UpdateLod updateLod()
+    {
+        return scene.layer().updateLod();
+    }
+
+    void frames(int count)
+    {
+        for (int i = 0; i < count; i++)
+        {
+            scene.invokeFrameListeners(0.25);
+        }
+    }
+
+    static double sum(List<Double> times)
+    {
+        return times.stream().mapToDouble(Double::doubleValue).sum();
+    }
+
+    @Test
+    void disabledUpdatesEveryActor()
+    {
+        frames(8);
+
+        assertEquals(8, nearTimes.size());
+        assertEquals(8, farTimes.size());
+    }
+
+    @Test
+    void frameListenersRunInRegistrationOrder()
+    {
+        List<String> calls = new ArrayList<>();
+        FrameListener farListener = pastTime -> calls.add("far");
+        far.addFrameListener(farListener);
+        scene.layer().addFrameListener(pastTime -> calls.add("layer"));
+        near.addFrameListener(pastTime -> calls.add("near"));
+        frames(1);
+        updateLod().enabled(true).offscreenInterval(1);
+        frames(1);
+
+        assertEquals(List.of("far", "layer", "near", "far", "layer", "near"),
+            calls);
+        assertTrue(scene.layer().frameListeners().contains(farListener));
+    }
+
+    @Test
+    void offscreenActorsAccumulateTime()
+    {
+        updateLod().enabled(true).offscreenInterval(4);
+        frames(8);
+
+        assertEquals(8, nearTimes.size());
+        assertEquals(2, farTimes.size());
+        assertEquals(1.0, farTimes.get(1), 1e-9);
+        assertEquals(1, updateLod().throttledActors());
+    }
+
+    @Test
+    void pendingTimeIsDeliveredWhenVisibleAgain()
+    {
+        updateLod().enabled(true).offscreenInterval(100);
+        frames(3);
+        far.center(0, 0);
+        frames(1);
+
+        assertEquals(1, farTimes.size());
+        assertEquals(1.0, sum(farTimes), 1e-9);
+    }
+
+    @Test
+    void freezeStopsOffscreenActors()
+    {
+        updateLod().enabled(true).freezeOffscreen(true);
+        frames(8);
+
+        assertEquals(8, nearTimes.size());
+        assertEquals(0, farTimes.size());
+        assertEquals(1, updateLod().frozenActors());
+    }
+
+    @Test
+    void alwaysUpdatedActorsAreExempt()
+    {
+        updateLod().enabled(true).freezeOffscreen(true);
+        far.alwaysUpdate(true);
+        frames(8);
+
+        assertEquals(8, farTimes.size());
+        assertEquals(2, updateLod().updatedActors());
+    }
+
+    @Test
+    void distantBodiesAreSlept()
+    {
+        near.makeDynamic();
+        far.makeDynamic();
+        scene.invokeFrameListeners(0);
+        updateLod().enabled(true).sleepDistance(50);
+        frames(1);
+
+        assertTrue(near.physicsHandler().body().isAwake());
+        assertFalse(far.physicsHandler().body().isAwake());
+        assertEquals(1, updateLod().sleptBodies());
+    }
+
+    @Test
+    void sleptBodiesWakeWithTheirVelocity()
+    {
+        scene.gravity(0, -10);
+        far.makeDynamic();
+        scene.invokeFrameListeners(0);
+        Body body = far.physicsHandler().body();
+        for (int i = 0; i < 30; i++)
+        {
+            scene.layer().step(1.0 / 60);
+        }
+        float velocity = body.getLinearVelocity().y;
+        assertTrue(velocity < 0);
+
+        updateLod().enabled(true).sleepDistance(50);
+        frames(1);
+        assertFalse(body.isAwake());
+        float y = body.getPosition().y;
+        scene.layer().step(1.0 / 60);
+        assertEquals(y, body.getPosition().y);
+
+        scene.camera().focus(1000, y);
+        frames(1);
+        assertTrue(body.isAwake());
+        assertEquals(velocity, body.getLinearVelocity().y);
+        scene.layer().step(1.0 / 60);
+        assertTrue(body.getPosition().y < y);
+    }
+
+    @Test
+    void disablingSleepWakesBodies()
+    {
+        far.makeDynamic();
+        scene.invokeFrameListeners(0);
+        updateLod().enabled(true).sleepDistance(50);
+        frames(1);
+        assertFalse(far.physicsHandler().body().isAwake());
+
+        updateLod().enabled(false);
+        frames(1);
+        assertTrue(far.physicsHandler().body().isAwake());
+    }
+
+    @Test
+    void intervalMustBePositive()
+    {
+        assertThrows(IllegalArgumentException.class,
+            () -> updateLod().offscreenInterval(0));
+    }
+}
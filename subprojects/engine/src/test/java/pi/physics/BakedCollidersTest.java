@@ -0,0 +1,200 @@
+/*
+ * Engine Pi ist eine anfängerorientierte 2D-Gaming Engine.
+ *
+ * Copyright (c) 2026 Josef Friedrich and contributors.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package pi.physics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import pi.Controller;
+import pi.Scene;
+import pi.actor.Actor;
+import pi.actor.Circle;
+import pi.actor.Rectangle;
+import pi.event.CollisionEvent;
+import pi.event.CollisionListener;
+
+/**
+ * @since 0.53.0
+ */
+class BakedCollidersTest
+{
+    Scene scene;
+
+    List<Rectangle> bricks;
+
+    Rectangle box;
+
+    @BeforeEach
+    void setUp()
+    {
+        Controller.instantMode(false);
+        scene = new Scene();
+        scene.gravity(0, -10);
+        bricks = new ArrayList<>();
+        for (int x = 0; x < 20; x++)
+        {
+            Rectangle brick = new Rectangle(1, 1);
+            brick.anchor(x, 0);
+            brick.makeStatic();
+            bricks.add(brick);
+            scene.add(brick);
+        }
+        box = new Rectangle(0.8, 0.8);
+        box.center(7.5, 3);
+        box.makeDynamic();
+        scene.add(box);
+    }
+
+    void run(double seconds)
+    {
+        for (double time = 0; time < seconds; time += 1.0 / 60)
+        {
+            scene.layer().step(1.0 / 60);
+        }
+    }
+
+    @Test
+    void rowOfBricksBecomesOneLoop()
+    {
+        BakedColliders baked = scene.bakeStaticColliders(bricks);
+        assertFalse(baked.isBaked());
+        scene.invokeFrameListeners(0);
+
+        assertTrue(baked.isBaked());
+        assertEquals(20, baked.actorCount());
+        assertEquals(1, baked.fixtureCount());
+        assertEquals(4, baked.proxyCount());
+        for (Rectangle brick : bricks)
+        {
+            assertFalse(brick.physicsHandler().body().isActive());
+        }
+    }
+
+    @Test
+    void boxRestsOnBakedBricks()
+    {
+        scene.bakeStaticColliders(bricks);
+        scene.invokeFrameListeners(0);
+        run(2);
+
+        assertEquals(1.4, box.center().y(), 0.05);
+    }
+
+    @Test
+    void collisionsReportTouchedBrick()
+    {
+        AtomicReference<Actor> colliding = new AtomicReference<>();
+        AtomicInteger brickCollisions = new AtomicInteger();
+        AtomicInteger ended = new AtomicInteger();
+        box.addCollisionListener(event -> colliding.set(event.colliding()));
+        bricks.get(7)
+            .addCollisionListener(box,
+                event -> brickCollisions.incrementAndGet());
+        scene.bakeStaticColliders(bricks);
+        scene.invokeFrameListeners(0);
+        run(2);
+
+        assertSame(bricks.get(7), colliding.get());
+        assertTrue(brickCollisions.get() > 0);
+
+        AtomicReference<Actor> endedWith = new AtomicReference<>();
+        box.addCollisionListener(new CollisionListener<>()
+        {
+            @Override
+            public void onCollision(CollisionEvent<Actor> event)
+            {
+            }
+
+            @Override
+            public void onCollisionEnd(CollisionEvent<Actor> event)
+            {
+                ended.incrementAndGet();
+                endedWith.set(event.colliding());
+            }
+        });
+        // Die Figur gleitet auf derselben Kante zu einem anderen Stein. Das
+        // Kontaktende wird trotzdem dem ursprünglichen Stein gemeldet.
+        box.center(12.5, 1.4);
+        run(0.1);
+        box.center(12.5, 5);
+        run(0.1);
+
+        assertEquals(1, ended.get());
+        assertSame(bricks.get(7), endedWith.get());
+    }
+
+    @Test
+    void otherActorsAreNotBaked()
+    {
+        Circle ball = new Circle(1);
+        ball.makeStatic();
+        scene.add(ball);
+        List<Actor> actors = new ArrayList<>(bricks);
+        actors.add(ball);
+        actors.add(box);
+        BakedColliders baked = scene.bakeStaticColliders(actors);
+        scene.invokeFrameListeners(0);
+
+        assertEquals(20, baked.actorCount());
+        assertTrue(ball.physicsHandler().body().isActive());
+        assertTrue(box.physicsHandler().body().isActive());
+    }
+
+    @Test
+    void removingBrickRebakes()
+    {
+        BakedColliders baked = scene.bakeStaticColliders(bricks);
+        scene.invokeFrameListeners(0);
+        scene.remove(bricks.get(10));
+        scene.invokeFrameListeners(0);
+        scene.invokeFrameListeners(0);
+
+        assertEquals(19, baked.actorCount());
+        assertEquals(2, baked.fixtureCount());
+        assertEquals(8, baked.proxyCount());
+    }
+
+    @Test
+    void releaseRestoresBodies()
+    {
+        BakedColliders baked = scene.bakeStaticColliders(bricks);
+        scene.invokeFrameListeners(0);
+        int bodies = scene.layer().worldHandler().world().getBodyCount();
+        baked.release();
+
+        assertFalse(baked.isBaked());
+        assertEquals(0, baked.actorCount());
+        assertEquals(bodies - 1,
+            scene.layer().worldHandler().world().getBodyCount());
+        for (Rectangle brick : bricks)
+        {
+            assertTrue(brick.physicsHandler().body().isActive());
+        }
+    }
+}
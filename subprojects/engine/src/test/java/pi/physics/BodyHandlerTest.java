@@ -0,0 +1,179 @@
+/*
+ * Engine Pi ist eine anfängerorientierte 2D-Gaming Engine.
+ *
+ * Copyright (c) 2026 Josef Friedrich and contributors.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package pi.physics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.jbox2d.collision.AABB;
+import org.jbox2d.common.Vec2;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import pi.Controller;
+import pi.Scene;
+import pi.actor.Rectangle;
+import pi.graphics.geom.Vector;
+
+/**
+ * @since 0.53.0
+ */
+class BodyHandlerTest
+{
+    Scene scene;
+
+    Rectangle ground;
+
+    Rectangle box;
+
+    @BeforeEach
+    void setUp()
+    {
+        Controller.instantMode(false);
+        scene = new Scene();
+        scene.gravity(0, -10);
+        ground = new Rectangle(10, 1);
+        ground.center(0, -2);
+        ground.makeStatic();
+        box = new Rectangle(1, 1);
+        box.makeDynamic();
+        scene.add(ground, box);
+        // Die Figuren werden erst über die Beobachter der
+        // Bildaktualisierung angemeldet.
+        scene.invokeFrameListeners(0);
+    }
+
+    void run(double seconds)
+    {
+        for (double time = 0; time < seconds; time += 1.0 / 60)
+        {
+            scene.layer().step(1.0 / 60);
+        }
+    }
+
+    BodyHandler handler(Rectangle actor)
+    {
+        return (BodyHandler) actor.physicsHandler();
+    }
+
+    static void assertAABB(AABB expected, AABB actual)
+    {
+        assertEquals(expected.lowerBound, actual.lowerBound);
+        assertEquals(expected.upperBound, actual.upperBound);
+    }
+
+    @Test
+    void aabbWritesIntoResult()
+    {
+        AABB result = new AABB();
+        assertSame(result, handler(box).aabb(result));
+        assertAABB(handler(box).aabb(), result);
+        assertNotSame(handler(box).aabb(), handler(box).aabb());
+    }
+
+    @Test
+    void aabbFollowsWorldStep()
+    {
+        AABB before = handler(box).aabb();
+        run(0.5);
+        AABB after = handler(box).aabb();
+        assertTrue(after.lowerBound.y < before.lowerBound.y);
+    }
+
+    @Test
+    void aabbFollowsMove()
+    {
+        AABB before = handler(box).aabb();
+        box.moveBy(2, 0);
+        AABB after = handler(box).aabb();
+        assertEquals(before.lowerBound.x + 2, after.lowerBound.x, 1e-5);
+    }
+
+    @Test
+    void centerAndAnchor()
+    {
+        box.moveBy(1.5, 0.5);
+        Vector center = handler(box).center();
+        Vec2 result = new Vec2();
+        assertSame(result, handler(box).center(result));
+        assertEquals(center.x(), result.x, 1e-6);
+        assertEquals(center.y(), result.y, 1e-6);
+        Vector anchor = handler(box).anchor();
+        handler(box).anchor(result);
+        assertEquals(anchor.x(), result.x, 1e-6);
+        assertEquals(anchor.y(), result.y, 1e-6);
+        // Statische Körper verwenden die Mitte des Begrenzungsrahmens.
+        handler(ground).center(result);
+        assertEquals(0, result.x, 1e-6);
+        assertEquals(-2, result.y, 1e-6);
+    }
+
+    @Test
+    void isGrounded()
+    {
+        assertFalse(box.isGrounded());
+        run(2);
+        assertTrue(box.isGrounded());
+    }
+
+    @Test
+    void forEachCollision()
+    {
+        run(2);
+        int[] visited = { 0 };
+        int count = handler(box).forEachCollision((contact, other) -> {
+            assertSame(ground, other);
+            visited[0]++;
+            return true;
+        });
+        assertEquals(1, count);
+        assertEquals(1, visited[0]);
+        assertEquals(1, box.collisions().size());
+        assertSame(ground, box.collisions().get(0).colliding());
+    }
+
+    @Test
+    void forEachCollisionStops()
+    {
+        Rectangle second = new Rectangle(1, 1);
+        second.center(3, 0);
+        second.makeDynamic();
+        scene.add(second);
+        scene.invokeFrameListeners(0);
+        run(2);
+        assertEquals(2, ground.collisions().size());
+        assertEquals(1,
+            handler(ground).forEachCollision((contact, other) -> false));
+    }
+
+    @Test
+    void nullHandlerHasNoCollisions()
+    {
+        Rectangle detached = new Rectangle(1, 1);
+        assertEquals(0,
+            detached.physicsHandler().forEachCollision((contact, other) -> {
+                throw new AssertionError();
+            }));
+        Vec2 anchor = detached.physicsHandler().anchor(new Vec2());
+        assertEquals(0, anchor.x);
+    }
+}
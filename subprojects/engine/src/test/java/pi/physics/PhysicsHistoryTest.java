@@ -0,0 +1,190 @@
+/*
+ * Engine Pi ist eine anfängerorientierte 2D-Gaming Engine.
+ *
+ * Copyright (c) 2026 Josef Friedrich and contributors.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package pi.physics;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jbox2d.dynamics.WorldSnapshot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import pi.Controller;
+import pi.Scene;
+import pi.actor.Rectangle;
+import pi.graphics.geom.Vector;
+
+/**
+ * @since 0.53.0
+ */
+class PhysicsHistoryTest
+{
+    Scene scene;
+
+    List<Rectangle> boxes;
+
+    @BeforeEach
+    void setUp()
+    {
+        Controller.instantMode(false);
+        scene = new Scene();
+        scene.gravity(0, -10);
+        Rectangle ground = new Rectangle(20, 1);
+        ground.anchor(-10, -1);
+        ground.makeStatic();
+        scene.add(ground);
+        boxes = new ArrayList<>();
+        for (int i = 0; i < 6; i++)
+        {
+            Rectangle box = new Rectangle(0.8, 0.8);
+            box.center(i * 0.3, 1 + i * 1.2);
+            box.makeDynamic();
+            boxes.add(box);
+            scene.add(box);
+        }
+        scene.invokeFrameListeners(0);
+    }
+
+    void steps(int steps)
+    {
+        for (int i = 0; i < steps; i++)
+        {
+            scene.layer().worldHandler().step(WorldHandler.STEP_TIME);
+        }
+    }
+
+    double[] centers()
+    {
+        double[] centers = new double[boxes.size() * 2];
+        for (int i = 0; i < boxes.size(); i++)
+        {
+            Vector center = boxes.get(i).center();
+            centers[2 * i] = center.x();
+            centers[2 * i + 1] = center.y();
+        }
+        return centers;
+    }
+
+    static byte[] bytes(WorldSnapshot snapshot)
+    {
+        ByteBuffer buffer = snapshot.getBuffer();
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        return bytes;
+    }
+
+    @Test
+    void restoreSnapshotIsBitExact()
+    {
+        steps(20);
+        WorldSnapshot snapshot = scene.layer().captureSnapshot();
+        steps(100);
+        double[] expected = centers();
+        steps(50);
+        scene.layer().restoreSnapshot(snapshot);
+        steps(100);
+        assertArrayEquals(expected, centers());
+    }
+
+    @Test
+    void restoreMovesActors()
+    {
+        WorldSnapshot snapshot = scene.layer()
+            .captureSnapshot(new WorldSnapshot());
+        double[] start = centers();
+        steps(50);
+        assertNotEquals(start[11], centers()[11]);
+        scene.layer().restoreSnapshot(snapshot);
+        assertArrayEquals(start, centers());
+    }
+
+    @Test
+    void rewind()
+    {
+        PhysicsHistory history = scene.recordPhysicsHistory(1);
+        assertSame(history, scene.layer().physicsHistory());
+        assertEquals(125, history.capacity());
+        steps(30);
+        assertEquals(29, history.size());
+        byte[] expected = bytes(scene.layer().captureSnapshot());
+        steps(20);
+        assertEquals(49, history.size());
+        history.rewind(20);
+        assertEquals(29, history.size());
+        assertArrayEquals(expected, bytes(scene.layer().captureSnapshot()));
+    }
+
+    @Test
+    void historyIsARingBuffer()
+    {
+        PhysicsHistory history = scene.recordPhysicsHistory(0.1);
+        assertEquals(13, history.capacity());
+        steps(40);
+        assertEquals(13, history.size());
+        history.rewind(13);
+        assertEquals(0, history.size());
+        assertThrows(IllegalArgumentException.class, () -> history.rewind(1));
+        assertThrows(IllegalArgumentException.class, () -> history.rewind(-1));
+    }
+
+    @Test
+    void deltasAreSmallerThanSnapshots()
+    {
+        PhysicsHistory history = scene.recordPhysicsHistory(2);
+        steps(200);
+        int snapshotSize = scene.layer().captureSnapshot().getSize();
+        assertTrue(
+            history.memoryUsage() < (long) snapshotSize * history.size() / 2);
+    }
+
+    @Test
+    void addingActorRestartsHistory()
+    {
+        PhysicsHistory history = scene.recordPhysicsHistory(1);
+        steps(10);
+        Rectangle box = new Rectangle(0.5, 0.5);
+        box.center(5, 5);
+        box.makeDynamic();
+        scene.add(box);
+        scene.invokeFrameListeners(0);
+        steps(1);
+        assertEquals(0, history.size());
+        steps(3);
+        assertEquals(3, history.size());
+    }
+
+    @Test
+    void stopRecording()
+    {
+        scene.recordPhysicsHistory(1);
+        assertNull(scene.recordPhysicsHistory(0));
+        assertNull(scene.layer().physicsHistory());
+        assertThrows(IllegalArgumentException.class,
+            () -> scene.recordPhysicsHistory(-1));
+    }
+}
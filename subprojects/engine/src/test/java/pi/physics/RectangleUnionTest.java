@@ -0,0 +1,129 @@
+/*
+ * Engine Pi ist eine anfängerorientierte 2D-Gaming Engine.
+ *
+ * Copyright (c) 2026 Josef Friedrich and contributors.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package pi.physics;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import pi.physics.RectangleUnion.Outline;
+
+/**
+ * @since 0.53.0
+ */
+class RectangleUnionTest
+{
+    @Test
+    void singleRectangle()
+    {
+        RectangleUnion union = new RectangleUnion();
+        union.add(0, 0, 2, 1, 7);
+        List<Outline> outlines = union.outlines();
+
+        assertEquals(1, outlines.size());
+        Outline outline = outlines.get(0);
+        assertArrayEquals(new float[] { 0, 0, 2, 0, 2, 1, 0, 1 },
+            outline.vertices());
+        assertEquals(7, outline.owner(0, 1, -1));
+    }
+
+    @Test
+    void adjacentRectanglesShareOneOutline()
+    {
+        RectangleUnion union = new RectangleUnion();
+        for (int x = 0; x < 5; x++)
+        {
+            union.add(x, 0, x + 1, 1, x);
+        }
+        List<Outline> outlines = union.outlines();
+
+        assertEquals(1, outlines.size());
+        Outline outline = outlines.get(0);
+        assertEquals(4, outline.vertexCount());
+        // Die untere Kante verläuft von (0, 0) nach (5, 0).
+        assertEquals(0, outline.owner(0, 0.5f, -0.5f));
+        assertEquals(2, outline.owner(0, 2.5f, -0.5f));
+        assertEquals(4, outline.owner(0, 4.5f, -0.5f));
+        // Außerhalb der Kante wird der nächste Abschnitt gewählt.
+        assertEquals(4, outline.owner(0, 7, -0.5f));
+        // Die rechte Kante grenzt nur an das letzte Rechteck.
+        assertEquals(4, outline.owner(1, 6, 0.5f));
+    }
+
+    @Test
+    void overlappingRectanglesFormOneOutline()
+    {
+        RectangleUnion union = new RectangleUnion();
+        union.add(0, 0, 3, 1, 0);
+        union.add(2, 0, 3, 3, 1);
+        List<Outline> outlines = union.outlines();
+
+        assertEquals(1, outlines.size());
+        assertEquals(6, outlines.get(0).vertexCount());
+    }
+
+    @Test
+    void ringHasOuterAndInnerOutline()
+    {
+        RectangleUnion union = new RectangleUnion();
+        for (int x = 0; x < 3; x++)
+        {
+            for (int y = 0; y < 3; y++)
+            {
+                if (x != 1 || y != 1)
+                {
+                    union.add(x, y, x + 1, y + 1, 3 * y + x);
+                }
+            }
+        }
+        List<Outline> outlines = union.outlines();
+
+        assertEquals(2, outlines.size());
+        assertEquals(4, outlines.get(0).vertexCount());
+        assertEquals(4, outlines.get(1).vertexCount());
+    }
+
+    @Test
+    void diagonalNeighboursStaySeparate()
+    {
+        RectangleUnion union = new RectangleUnion();
+        union.add(0, 0, 1, 1, 0);
+        union.add(1, 1, 2, 2, 1);
+        List<Outline> outlines = union.outlines();
+
+        assertEquals(2, outlines.size());
+        assertEquals(4, outlines.get(0).vertexCount());
+        assertEquals(4, outlines.get(1).vertexCount());
+    }
+
+    @Test
+    void nearlyEqualCoordinatesAreMerged()
+    {
+        RectangleUnion union = new RectangleUnion();
+        union.add(0, 0, 1, 1, 0);
+        union.add(1.00001f, 0, 2, 1.00001f, 1);
+        List<Outline> outlines = union.outlines();
+
+        assertEquals(1, outlines.size());
+        assertEquals(4, outlines.get(0).vertexCount());
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ * Engine Pi ist eine anfängerorientierte 2D-Gaming Engine.
+ *
+ * Copyright (c) 2026 Josef Friedrich and contributors.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package pi.physics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import pi.Controller;
+import pi.Scene;
+import pi.actor.Actor;
+import pi.actor.Circle;
+import pi.actor.Rectangle;
+
+/**
+ * @since 0.53.0
+ */
+class SpatialQueryTest
+{
+    Scene scene;
+
+    /**
+     * 10 x 10 Rechtecke mit der Kantenlänge 1 im Abstand von 2 Metern. Die
+     * linke untere Ecke des Rechtecks (i, j) liegt bei (2i, 2j).
+     */
+    Rectangle[][] grid = new Rectangle[10][10];
+
+    List<Actor> result = new ArrayList<>();
+
+    @BeforeEach
+    void setUp()
+    {
+        Controller.instantMode(false);
+        scene = new Scene();
+        for (int i = 0; i < 10; i++)
+        {
+            for (int j = 0; j < 10; j++)
+            {
+                Rectangle rectangle = new Rectangle(1, 1);
+                rectangle.anchor(2 * i, 2 * j);
+                if (i == j)
+                {
+                    rectangle.tag("diagonal");
+                }
+                grid[i][j] = rectangle;
+                scene.add(rectangle);
+            }
+        }
+        scene.invokeFrameListeners(0);
+    }
+
+    @Test
+    void actorsInArea()
+    {
+        // überschneidet die Rechtecke mit i = 1..2 und j = 1
+        int count = scene.actorsInArea(2.5, 2.5, 2, 0.2, null, result);
+        assertEquals(2, count);
+        assertEquals(new HashSet<>(List.of(grid[1][1], grid[2][1])),
+            new HashSet<>(result));
+    }
+
+    @Test
+    void appendsToResult()
+    {
+        result.add(grid[0][0]);
+        assertEquals(1, scene.actorsInArea(2.5, 2.5, 0.1, 0.1, null, result));
+        assertEquals(List.of(grid[0][0], grid[1][1]), result);
+    }
+
+    @Test
+    void actorsInRadius()
+    {
+        // Mittelpunkt des Rechtecks (5, 5)
+        scene.actorsInRadius(10.5, 10.5, 1.6, null, result);
+        assertEquals(new HashSet<>(List
+            .of(grid[5][5], grid[4][5], grid[6][5], grid[5][4], grid[5][6])),
+            new HashSet<>(result));
+    }
+
+    @Test
+    void tagFilter()
+    {
+        ActorFilter diagonal = ActorFilter.tag("diagonal");
+        scene.actorsInArea(-1, -1, 30, 30, diagonal, result);
+        assertEquals(10, result.size());
+        for (Actor actor : result)
+        {
+            assertTrue(actor.hasTag("diagonal"));
+        }
+    }
+
+    @Test
+    void typeFilter()
+    {
+        Circle circle = new Circle(1);
+        circle.anchor(10.2, 10.2);
+        scene.add(circle);
+        scene.invokeFrameListeners(0);
+        scene.actorsInRadius(10.5,
+            10.5,
+            3,
+            ActorFilter.type(Circle.class),
+            result);
+        assertEquals(List.of(circle), result);
+    }
+
+    @Test
+    void nearestActors()
+    {
+        assertEquals(3, scene.nearestActors(-5, 0.5, 3, null, result));
+        // Die Rechtecke der linken Spalte liegen am nächsten, und zwar in
+        // der Reihenfolge ihres Abstands.
+        assertSame(grid[0][0], result.get(0));
+        assertSame(grid[0][1], result.get(1));
+        assertSame(grid[0][2], result.get(2));
+    }
+
+    @Test
+    void nearestActorsFarAway()
+    {
+        // Der erste Suchbereich ist leer und muss vergrößert werden.
+        scene.nearestActors(500, 500, 1, null, result);
+        assertEquals(List.of(grid[9][9]), result);
+    }
+
+    @Test
+    void nearestActorsMoreThanAvailable()
+    {
+        assertEquals(10,
+            scene.nearestActors(0, 0, 50, ActorFilter.tag("diagonal"), result));
+        assertSame(grid[0][0], result.get(0));
+        assertSame(grid[9][9], result.get(9));
+    }
+
+    @Test
+    void raycast()
+    {
+        RayHit hit = new RayHit();
+        // von rechts nach links durch die Zeile j = 3
+        assertTrue(scene.raycast(30, 6.5, -5, 6.5, null, hit));
+        assertSame(grid[9][3], hit.actor());
+        assertEquals(19, hit.x(), 1e-4);
+        assertEquals(6.5, hit.y(), 1e-4);
+        assertEquals(1, hit.normalX(), 1e-4);
+        assertFalse(scene.raycast(30, 7.5, -5, 7.5, null, hit));
+    }
+
+    @Test
+    void raycastAll()
+    {
+        assertEquals(10, scene.raycastAll(-5, 6.5, 30, 6.5, null, result));
+        for (int i = 0; i < 10; i++)
+        {
+            assertSame(grid[i][3], result.get(i));
+        }
+    }
+
+    @Test
+    void raycastFilter()
+    {
+        RayHit hit = new RayHit();
+        assertTrue(scene.raycast(-5,
+            -5,
+            30,
+            30,
+            ActorFilter.tag("diagonal").and(actor -> actor.x() > 5),
+            hit));
+        assertSame(grid[3][3], hit.actor());
+    }
+
+    @Test
+    void removedActorsAreNotFound()
+    {
+        scene.remove(grid[1][1]);
+        scene.invokeFrameListeners(0);
+        scene.actorsInRadius(2.5, 2.5, 0.1, null, result);
+        assertTrue(result.isEmpty());
+    }
+}
@@ -0,0 +1,322 @@
+/*
+ * Engine Pi ist eine anfängerorientierte 2D-Gaming Engine.
+ *
+ * Copyright (c) 2026 Josef Friedrich and contributors.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package pi.physics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jbox2d.dynamics.Filter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import pi.Controller;
+import pi.Scene;
+import pi.actor.Actor;
+import pi.actor.Rectangle;
+import pi.event.CollisionEvent;
+import pi.event.CollisionListener;
+
+/**
+ * @since 0.53.0
+ */
+class WorldHandlerTest
+{
+    static final int PLAYER = 0x0001;
+
+    static final int BULLET = 0x0002;
+
+    Scene scene;
+
+    Rectangle ground;
+
+    Rectangle box;
+
+    @BeforeEach
+    void setUp()
+    {
+        Controller.instantMode(false);
+        scene = new Scene();
+        scene.gravity(0, -10);
+        ground = new Rectangle(10, 1);
+        ground.center(0, -2);
+        ground.makeStatic();
+        box = new Rectangle(1, 1);
+        box.makeDynamic();
+    }
+
+    void mount()
+    {
+        scene.add(ground, box);
+        scene.invokeFrameListeners(0);
+    }
+
+    void run(double seconds)
+    {
+        for (double time = 0; time < seconds; time += 1.0 / 60)
+        {
+            scene.layer().step(1.0 / 60);
+        }
+    }
+
+    WorldHandler worldHandler()
+    {
+        return scene.layer().worldHandler();
+    }
+
+    @Test
+    void defaultCategoriesCollide()
+    {
+        AtomicInteger collisions = new AtomicInteger();
+        box.addCollisionListener(event -> collisions.incrementAndGet());
+        mount();
+        run(1);
+
+        assertEquals(WorldHandler.DEFAULT_COLLISION_CATEGORY,
+            box.collisionCategory());
+        assertEquals(WorldHandler.ALL_COLLISION_CATEGORIES,
+            box.collisionMask());
+        assertEquals(1, collisions.get());
+        assertTrue(box.center().y() > -2);
+    }
+
+    @Test
+    void maskedPairIsRejected()
+    {
+        AtomicInteger collisions = new AtomicInteger();
+        box.addCollisionListener(event -> collisions.incrementAndGet());
+        box.collisionCategory(BULLET).collisionMask(BULLET);
+        mount();
+        run(1);
+
+        assertEquals(0, collisions.get());
+        assertEquals(0, worldHandler().contactCount());
+        assertTrue(box.center().y() < -3);
+    }
+
+    @Test
+    void categoriesSurviveMountAndFixtureChange()
+    {
+        box.collisionCategory(BULLET);
+        mount();
+        assertEquals(BULLET, box.collisionCategory());
+
+        box.fixture(() -> FixtureBuilder.rectangle(1, 1));
+        box.collisionMask(PLAYER);
+        run(1);
+
+        assertEquals(BULLET, box.collisionCategory());
+        assertEquals(PLAYER, box.collisionMask());
+        // Der Boden nimmt die Kategorie BULLET auf, die Figur aber nicht die
+        // Kategorie des Bodens.
+        assertTrue(box.center().y() > -2);
+    }
+
+    @Test
+    void changingMaskAfterMountRefilters()
+    {
+        mount();
+        box.collisionMask(BULLET);
+        run(1);
+
+        assertTrue(box.center().y() < -3);
+    }
+
+    @Test
+    void emptyMaskCollidesWithNothing()
+    {
+        box.collisionMask(0);
+        mount();
+        run(1);
+
+        assertEquals(0, box.collisionMask());
+        assertTrue(box.center().y() < -3);
+    }
+
+    @Test
+    void unsetCollisionBitsMeanAllCategories()
+    {
+        Filter filter = new Filter();
+        assertEquals(WorldHandler.ALL_COLLISION_CATEGORIES,
+            WorldHandler.collisionBits(filter.categoryBits));
+        assertEquals(WorldHandler.ALL_COLLISION_CATEGORIES,
+            WorldHandler.collisionBits(filter.maskBits));
+        assertEquals(BULLET,
+            WorldHandler
+                .collisionBits(WorldHandler.filterBits(0xFFFF, BULLET)));
+    }
+
+    @Test
+    void fixtureDataKeepsCategories()
+    {
+        box.collisionCategory(BULLET).collisionMask(PLAYER);
+        mount();
+
+        FixtureData data = FixtureData
+            .fromFixture(box.physicsHandler().body().fixtureList);
+        assertEquals(BULLET, data.getCollisionCategory());
+        assertEquals(PLAYER, data.getCollisionMask());
+    }
+
+    @Test
+    void invalidBitsAreRejected()
+    {
+        assertThrows(IllegalArgumentException.class,
+            () -> box.collisionCategory(0x10000));
+        assertThrows(IllegalArgumentException.class,
+            () -> new FixtureData(null).setCollisionMask(-1));
+    }
+
+    @Test
+    void specificListenerOnlySeesItsCollider()
+    {
+        Rectangle other = new Rectangle(1, 1);
+        other.center(20, 0);
+        AtomicInteger withGround = new AtomicInteger();
+        AtomicInteger withOther = new AtomicInteger();
+        box.addCollisionListener(ground, event -> withGround.incrementAndGet());
+        box.addCollisionListener(other, event -> withOther.incrementAndGet());
+        scene.add(other);
+        mount();
+        run(1);
+
+        assertEquals(1, withGround.get());
+        assertEquals(0, withOther.get());
+    }
+
+    @Test
+    void ignoredCollisionLetsBodyPass()
+    {
+        AtomicInteger ended = new AtomicInteger();
+        box.addCollisionListener(new CollisionListener<>()
+        {
+            @Override
+            public void onCollision(CollisionEvent<Actor> event)
+            {
+                event.ignoreCollision();
+            }
+
+            @Override
+            public void onCollisionEnd(CollisionEvent<Actor> event)
+            {
+                ended.incrementAndGet();
+            }
+        });
+        mount();
+        run(2);
+
+        assertTrue(box.center().y() < -3);
+        assertEquals(1, ended.get());
+    }
+
+    @Test
+    void bufferedContactEndReleasesIgnoredCollision()
+    {
+        AtomicInteger ended = new AtomicInteger();
+        box.addCollisionListener(new CollisionListener<>()
+        {
+            @Override
+            public void onCollision(CollisionEvent<Actor> event)
+            {
+                assertEquals(ground, event.colliding());
+            }
+
+            @Override
+            public void onCollisionEnd(CollisionEvent<Actor> event)
+            {
+                assertEquals(ground, event.colliding());
+                ended.incrementAndGet();
+                // Wird nach dem Kontaktende wieder von der Blacklist entfernt.
+                event.ignoreCollision();
+            }
+        });
+        mount();
+        worldHandler().bufferingContacts(true);
+        for (int i = 0; i < 180; i++)
+        {
+            scene.layer().step(1.0 / 60);
+            worldHandler().dispatchBufferedContacts();
+        }
+        assertTrue(ended.get() > 0);
+        assertTrue(box.center().y() > -2);
+    }
+
+    @Test
+    void countsContactsPerStep()
+    {
+        mount();
+        int begun = 0;
+        for (int i = 0; i < 120; i++)
+        {
+            scene.layer().step(1.0 / 60);
+            begun += worldHandler().contactsBegunLastStep();
+        }
+        assertEquals(1, begun);
+        assertEquals(0, worldHandler().contactsEndedLastStep());
+        assertEquals(1, worldHandler().contactCount());
+    }
+
+    @Test
+    void removedActorReleasesListenerSlot()
+    {
+        AtomicInteger collisions = new AtomicInteger();
+        box.addCollisionListener(event -> collisions.incrementAndGet());
+        mount();
+        scene.remove(box);
+        scene.invokeFrameListeners(0);
+
+        Rectangle second = new Rectangle(1, 1);
+        second.makeDynamic();
+        scene.add(second);
+        scene.invokeFrameListeners(0);
+        run(1);
+
+        assertEquals(0, collisions.get());
+    }
+
+    @Test
+    void manyListenerSlotsGrowTheSlotArray()
+    {
+        ground.width(60);
+        ground.center(0, -2);
+        mount();
+        Set<Actor> collided = ConcurrentHashMap.newKeySet();
+        for (int i = 0; i < 40; i++)
+        {
+            Rectangle falling = new Rectangle(0.5, 0.5);
+            falling.center(i - 20, 0);
+            falling.makeDynamic();
+            falling.addCollisionListener(event -> {
+                if (event.colliding() == ground)
+                {
+                    collided.add(falling);
+                }
+            });
+            scene.add(falling);
+        }
+        scene.invokeFrameListeners(0);
+        run(1);
+
+        assertEquals(40, collided.size());
+    }
+}
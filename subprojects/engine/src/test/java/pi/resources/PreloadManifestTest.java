@@ -0,0 +1,133 @@
+/*
+ * Engine Pi ist eine anfängerorientierte 2D-Gaming Engine.
+ *
+ * Copyright (c) 2026 Josef Friedrich and contributors.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package pi.resources;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URL;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * @since 0.53.0
+ */
+class PreloadManifestTest
+{
+    record TestResource(String value)
+    {
+    }
+
+    static class TestContainer extends ResourcesContainer<TestResource>
+    {
+        @Override
+        protected TestResource load(URL name) throws ResourceLoadException
+        {
+            if (name.toString().contains("broken"))
+            {
+                throw new ResourceLoadException("load failed");
+            }
+            return new TestResource(name.toString());
+        }
+
+        @Override
+        protected long sizeOf(TestResource resource)
+        {
+            return 10;
+        }
+    }
+
+    @Test
+    void loadsAllResources()
+    {
+        var container = new TestContainer();
+        var manifest = new PreloadManifest().add(container, "a", "b", "c");
+
+        assertFalse(manifest.isDone());
+        manifest.await();
+
+        assertTrue(manifest.isDone());
+        assertEquals(3, manifest.completed());
+        assertEquals(1, manifest.progress());
+        assertTrue(container.contains("a"));
+        assertTrue(container.contains("b"));
+        assertTrue(container.contains("c"));
+        assertTrue(manifest.failures().isEmpty());
+    }
+
+    @Test
+    void reportsProgress()
+    {
+        var container = new TestContainer();
+        List<Integer> reported = new CopyOnWriteArrayList<>();
+        new PreloadManifest().add(container, "a", "b", "c", "d")
+            .addListener((completed, total) -> {
+                assertEquals(4, total);
+                reported.add(completed);
+            })
+            .await();
+
+        assertEquals(4, reported.size());
+        assertTrue(reported.containsAll(List.of(1, 2, 3, 4)));
+    }
+
+    @Test
+    void collectsFailures()
+    {
+        var container = new TestContainer();
+        var manifest = new PreloadManifest().add(container, "a", "broken")
+            .await();
+
+        assertTrue(manifest.isDone());
+        assertEquals(2, manifest.completed());
+        assertEquals(1, manifest.failures().size());
+        assertTrue(container.contains("a"));
+    }
+
+    @Test
+    void emptyManifestIsDone()
+    {
+        var manifest = new PreloadManifest().await();
+
+        assertTrue(manifest.isDone());
+        assertEquals(1, manifest.progress());
+    }
+
+    @Test
+    void resourcesArePinnedUntilRelease()
+    {
+        var container = new TestContainer();
+        container.memoryBudget(20);
+        var manifest = new PreloadManifest().add(container, "a", "b").await();
+
+        container.get("c");
+
+        assertTrue(container.contains("a"));
+        assertTrue(container.contains("b"));
+        assertTrue(container.contains("c"));
+
+        manifest.release();
+
+        assertEquals(20, container.usedBytes());
+        assertTrue(container.contains("c"));
+    }
+}
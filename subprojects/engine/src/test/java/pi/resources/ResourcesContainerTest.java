@@ -105,6 +105,77 @@ class ResourcesContainerTest
             () -> container.get("missing", true));
     }
 
+    @Test
+    void budgetEvictsLeastRecentlyUsed()
+    {
+        var container = new TestContainer();
+        container.size = 10;
+        container.memoryBudget(25);
+
+        container.get("a");
+        container.get("b");
+        container.get("a");
+        container.get("c");
+
+        assertEquals(20, container.usedBytes());
+        assertTrue(container.contains("a"));
+        assertFalse(container.contains("b"));
+        assertTrue(container.contains("c"));
+    }
+
+    @Test
+    void pinnedResourceIsNotEvicted()
+    {
+        var container = new TestContainer();
+        container.size = 10;
+        container.memoryBudget(15);
+        container.pin("a");
+
+        container.get("a");
+        container.get("b");
+
+        assertTrue(container.contains("a"));
+        assertTrue(container.contains("b"));
+        assertEquals(20, container.usedBytes());
+
+        container.unpin("a");
+
+        assertFalse(container.contains("a"));
+        assertEquals(10, container.usedBytes());
+    }
+
+    @Test
+    void evictedResourceStillReferencedIsRevived()
+    {
+        var container = new TestContainer();
+        container.size = 10;
+        container.memoryBudget(10);
+
+        TestResource a = container.get("a");
+        container.get("b");
+        assertFalse(container.contains("a"));
+
+        assertSame(a, container.get("a"));
+        assertEquals(2, container.loadCount);
+    }
+
+    @Test
+    void removeAndClearReleaseBytes()
+    {
+        var container = new TestContainer();
+        container.size = 7;
+
+        container.get("a");
+        container.get("b");
+        assertEquals(14, container.usedBytes());
+
+        container.remove("a");
+        assertEquals(7, container.usedBytes());
+
+        container.clear();
+        assertEquals(0, container.usedBytes());
+    }
+
     record TestResource(String value)
     {
     }
@@ -117,6 +188,8 @@ class ResourcesContainerTest
 
         boolean throwOnLoad;
 
+        long size;
+
         @Override
         protected TestResource load(URL name) throws ResourceLoadException
         {
@@ -128,6 +201,12 @@ class ResourcesContainerTest
             return new TestResource("resource-" + loadCount);
         }
 
+        @Override
+        protected long sizeOf(TestResource resource)
+        {
+            return size;
+        }
+
         @Override
         protected String alias(String name, TestResource resource)
         {
@@ -0,0 +1,211 @@
+/*
+ * Engine Pi ist eine anfängerorientierte 2D-Gaming Engine.
+ *
+ * Copyright (c) 2026 Josef Friedrich and contributors.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package pi.resources;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @since 0.53.0
+ */
+class TextureAtlasTest
+{
+    TextureAtlas atlas;
+
+    @BeforeEach
+    void setUp()
+    {
+        atlas = new TextureAtlas(64, 2);
+    }
+
+    static BufferedImage image(int width, int height, Color color)
+    {
+        BufferedImage image = new BufferedImage(width, height,
+                BufferedImage.TYPE_INT_ARGB);
+        for (int x = 0; x < width; x++)
+        {
+            for (int y = 0; y < height; y++)
+            {
+                image.setRGB(x, y, color.getRGB());
+            }
+        }
+        return image;
+    }
+
+    @Test
+    void invalidSize()
+    {
+        assertThrows(IllegalArgumentException.class,
+            () -> new TextureAtlas(0, 1));
+    }
+
+    @Test
+    void addCopiesPixels()
+    {
+        BufferedImage image = image(8, 4, Color.RED);
+        AtlasRegion region = atlas.add(image);
+        assertNotNull(region);
+        assertEquals(8, region.width());
+        assertEquals(4, region.height());
+        assertEquals(Color.RED.getRGB(),
+            region.page().getRGB(region.x() + 7, region.y() + 3));
+    }
+
+    @Test
+    void addTwiceReturnsSameRegion()
+    {
+        BufferedImage image = image(8, 8, Color.RED);
+        assertSame(atlas.add(image), atlas.add(image));
+        assertEquals(1, atlas.regionCount());
+    }
+
+    @Test
+    void regionsDoNotOverlap()
+    {
+        List<AtlasRegion> regions = new ArrayList<>();
+        for (int i = 0; i < 20; i++)
+        {
+            regions.add(atlas.add(image(10, 5 + i % 3, Color.BLUE)));
+        }
+        for (int i = 0; i < regions.size(); i++)
+        {
+            for (int j = i + 1; j < regions.size(); j++)
+            {
+                AtlasRegion a = regions.get(i);
+                AtlasRegion b = regions.get(j);
+                boolean separate = a.pageIndex() != b.pageIndex()
+                        || a.x() + a.width() <= b.x()
+                        || b.x() + b.width() <= a.x()
+                        || a.y() + a.height() <= b.y()
+                        || b.y() + b.height() <= a.y();
+                assertTrue(separate, a + " überlappt " + b);
+            }
+        }
+    }
+
+    @Test
+    void opensNewPage()
+    {
+        for (int i = 0; i < 4; i++)
+        {
+            atlas.add(image(31, 31, Color.RED));
+        }
+        assertEquals(1, atlas.pageCount());
+        atlas.add(image(31, 31, Color.RED));
+        assertEquals(2, atlas.pageCount());
+    }
+
+    @Test
+    void tooLarge()
+    {
+        assertNull(atlas.add(image(33, 8, Color.RED)));
+        assertEquals(0, atlas.pageCount());
+    }
+
+    @Test
+    void full()
+    {
+        List<BufferedImage> images = new ArrayList<>();
+        for (int i = 0; i < 8; i++)
+        {
+            BufferedImage image = image(31, 31, Color.RED);
+            images.add(image);
+            assertNotNull(atlas.add(image));
+        }
+        assertNull(atlas.add(image(31, 31, Color.RED)));
+    }
+
+    @Test
+    void rebuildReusesSpaceOfRemovedImages()
+    {
+        List<BufferedImage> images = new ArrayList<>();
+        for (int i = 0; i < 8; i++)
+        {
+            BufferedImage image = image(31, 31, Color.RED);
+            images.add(image);
+            atlas.add(image);
+        }
+        int generation = atlas.generation();
+        atlas.remove(images.get(0));
+        BufferedImage green = image(31, 31, Color.GREEN);
+        AtlasRegion region = atlas.add(green);
+        assertNotNull(region);
+        assertNotEquals(generation, atlas.generation());
+        assertEquals(Color.GREEN.getRGB(),
+            region.page().getRGB(region.x(), region.y()));
+        // Die übrigen Bilder wurden neu gepackt.
+        AtlasRegion red = atlas.region(images.get(7));
+        assertEquals(atlas.generation(), red.generation());
+        assertEquals(Color.RED.getRGB(), red.page().getRGB(red.x(), red.y()));
+    }
+
+    @Test
+    void clear()
+    {
+        BufferedImage image = image(8, 8, Color.RED);
+        atlas.add(image);
+        int generation = atlas.generation();
+        atlas.clear();
+        assertNull(atlas.region(image));
+        assertEquals(generation + 1, atlas.generation());
+    }
+
+    @Test
+    void followsImageContainer()
+    {
+        ImageContainer images = new ImageContainer();
+        TextureAtlas atlas = new TextureAtlas(images);
+        BufferedImage image = image(8, 8, Color.RED);
+        images.add("red", image);
+        assertNotNull(atlas.region(image));
+        images.remove("red");
+        assertNull(atlas.region(image));
+        images.add("red", image);
+        images.clear();
+        assertEquals(0, atlas.regionCount());
+    }
+
+    @Test
+    void regionCache()
+    {
+        AtlasRegionCache cache = new AtlasRegionCache(atlas, false);
+        BufferedImage image = image(8, 8, Color.RED);
+        assertNull(cache.region(image));
+        AtlasRegionCache adding = new AtlasRegionCache(atlas, true);
+        AtlasRegion region = adding.region(image);
+        assertNotNull(region);
+        assertSame(region, adding.region(image));
+        atlas.clear();
+        AtlasRegion rebuilt = adding.region(image);
+        assertEquals(atlas.generation(), rebuilt.generation());
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * Engine Pi ist eine anfängerorientierte 2D-Gaming Engine.
+ *
+ * Copyright (c) 2026 Josef Friedrich and contributors.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package pi.resources.font;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.Canvas;
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * @since 0.53.0
+ */
+class GlyphAtlasTest
+{
+    Font font = new Font(Font.SANS_SERIF, Font.PLAIN, 16);
+
+    private static FontStringBounds direct(String content, Font font)
+    {
+        return new FontStringBounds(new Canvas().getFontMetrics(font)
+            .getStringBounds(content, null));
+    }
+
+    private static void assertBounds(FontStringBounds expected,
+            FontStringBounds actual)
+    {
+        assertEquals(expected.getWidth(), actual.getWidth());
+        assertEquals(expected.getHeight(), actual.getHeight());
+        assertEquals(expected.getBaseline(), actual.getBaseline());
+    }
+
+    @Test
+    void cachedBoundsMatchJava2D()
+    {
+        for (String content : new String[] { "0", "1299", "1300",
+                "Hello, World!", "Größe: 12,5 m", " " })
+        {
+            for (Font current : new Font[] { font,
+                    font.deriveFont(Font.BOLD, 1000f),
+                    new Font(Font.SERIF, Font.ITALIC, 23) })
+            {
+                assertBounds(direct(content, current),
+                    FontUtil.getStringBounds(content, current));
+            }
+        }
+    }
+
+    @Test
+    void complexTextIsNotSupported()
+    {
+        assertTrue(GlyphAtlas.supports("Score: 12", font));
+        assertFalse(GlyphAtlas.supports("नमस्ते", font));
+        assertBounds(direct("שלום", font),
+            FontUtil.getStringBounds("שלום", font));
+    }
+
+    @Test
+    void rejectsInvalidPixelSize()
+    {
+        assertThrows(IllegalArgumentException.class,
+            () -> GlyphAtlas.of(font, 0, Color.BLACK));
+        assertThrows(IllegalArgumentException.class,
+            () -> GlyphAtlas
+                .of(font, GlyphAtlas.MAX_PIXEL_SIZE + 1, Color.BLACK));
+    }
+
+    @Test
+    void rasterizesEachGlyphOnce()
+    {
+        GlyphAtlas atlas = GlyphAtlas.of(font, 17, Color.BLUE);
+        GlyphRun run = new GlyphRun();
+
+        run.layout("aaa", atlas);
+        run.layout("aab", atlas);
+
+        assertEquals(2, atlas.glyphCount());
+    }
+
+    @Test
+    void onlyChangedSuffixIsLaidOut()
+    {
+        GlyphAtlas atlas = GlyphAtlas.of(font, 16, Color.BLACK);
+        GlyphRun run = new GlyphRun();
+
+        run.layout("1299", atlas);
+        assertEquals(4, run.laidOut());
+
+        run.layout("1300", atlas);
+        assertEquals(3, run.laidOut());
+
+        run.layout("1300", atlas);
+        assertEquals(0, run.laidOut());
+
+        run.layout("13000", atlas);
+        assertEquals(1, run.laidOut());
+    }
+
+    @Test
+    void drawsGlyphs()
+    {
+        BufferedImage image = new BufferedImage(80, 40,
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = image.createGraphics();
+
+        assertTrue(new GlyphRun().draw(g, "Hi", font, Color.RED, 5, 25));
+        g.dispose();
+
+        boolean red = false;
+        for (int x = 0; x < image.getWidth(); x++)
+        {
+            for (int y = 0; y < image.getHeight(); y++)
+            {
+                int argb = image.getRGB(x, y);
+                if ((argb >>> 24) > 128 && (argb & 0xffffff) == 0xff0000)
+                {
+                    red = true;
+                }
+            }
+        }
+        assertTrue(red);
+    }
+
+    @Test
+    void keepsTransform()
+    {
+        BufferedImage image = new BufferedImage(80, 40,
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = image.createGraphics();
+        g.translate(3, 4);
+        g.scale(2, 2);
+
+        assertTrue(new GlyphRun().draw(g, "12", font, Color.RED, 0, 10));
+        assertEquals(3, g.getTransform().getTranslateX());
+        assertEquals(2, g.getTransform().getScaleX());
+        g.dispose();
+    }
+
+    @Test
+    void rotatedTextFallsBack()
+    {
+        BufferedImage image = new BufferedImage(80, 40,
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = image.createGraphics();
+        g.rotate(0.5);
+
+        assertFalse(new GlyphRun().draw(g, "12", font, Color.RED, 0, 10));
+        g.dispose();
+    }
+
+    @Test
+    void largeTextFallsBack()
+    {
+        BufferedImage image = new BufferedImage(80, 40,
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = image.createGraphics();
+
+        assertFalse(new GlyphRun()
+            .draw(g, "12", font.deriveFont(1000f), Color.RED, 0, 10));
+        g.dispose();
+    }
+}
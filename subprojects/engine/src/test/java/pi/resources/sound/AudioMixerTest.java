@@ -0,0 +1,243 @@
+/*
+ * Engine Pi ist eine anfängerorientierte 2D-Gaming Engine.
+ *
+ * Copyright (c) 2026 Josef Friedrich and contributors.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package pi.resources.sound;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sound.sampled.AudioFileFormat;
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @since 0.53.0
+ */
+class AudioMixerTest
+{
+    AudioMixer mixer;
+
+    byte[] output;
+
+    List<String> events;
+
+    @BeforeEach
+    void setUp()
+    {
+        mixer = new AudioMixer(2, Runnable::run, false);
+        output = new byte[AudioMixer.BLOCK_FRAMES * 4];
+        events = new ArrayList<>();
+    }
+
+    /**
+     * Erzeugt einen Mono-Klang, dessen Abtastwerte alle den angegebenen Wert
+     * haben.
+     */
+    Sound sound(int frames, short value) throws IOException
+    {
+        AudioFormat format = new AudioFormat(AudioMixer.SAMPLE_RATE, 16, 1,
+                true, false);
+        byte[] data = new byte[frames * 2];
+        for (int i = 0; i < frames; i++)
+        {
+            data[2 * i] = (byte) value;
+            data[2 * i + 1] = (byte) (value >> 8);
+        }
+        ByteArrayOutputStream wav = new ByteArrayOutputStream();
+        try (AudioInputStream stream = new AudioInputStream(
+                new ByteArrayInputStream(data), format, frames))
+        {
+            AudioSystem.write(stream, AudioFileFormat.Type.WAVE, wav);
+        }
+        return new Sound(new ByteArrayInputStream(wav.toByteArray()),
+                new URL("file:test.wav"));
+    }
+
+    SoundPlayback playback(Sound sound, boolean loop, String name)
+    {
+        SoundPlayback playback = new SoundPlayback(sound, loop);
+        playback.volume(1);
+        playback.addPlaybackListener(new PlaybackListener()
+        {
+            @Override
+            public void cancelled(SoundEvent event)
+            {
+                events.add(name + " cancelled");
+            }
+
+            @Override
+            public void finished(SoundEvent event)
+            {
+                events.add(name + " finished");
+            }
+        });
+        return playback;
+    }
+
+    short left(int frame)
+    {
+        return (short) ((output[4 * frame] & 0xff)
+                | (output[4 * frame + 1] << 8));
+    }
+
+    short right(int frame)
+    {
+        return (short) ((output[4 * frame + 2] & 0xff)
+                | (output[4 * frame + 3] << 8));
+    }
+
+    @Test
+    void sumsVoices() throws IOException
+    {
+        mixer.play(playback(sound(1000, (short) 1000), false, "a"),
+            VoiceStealing.OLDEST);
+        mixer.play(playback(sound(1000, (short) 500), false, "b"),
+            VoiceStealing.OLDEST);
+        mixer.mix(output, AudioMixer.BLOCK_FRAMES);
+        assertEquals(1500, left(0));
+        assertEquals(1500, right(100));
+        assertEquals(2, mixer.activeVoices());
+    }
+
+    @Test
+    void clipsSum() throws IOException
+    {
+        mixer.play(playback(sound(100, (short) 30000), false, "a"),
+            VoiceStealing.OLDEST);
+        mixer.play(playback(sound(100, (short) 30000), false, "b"),
+            VoiceStealing.OLDEST);
+        mixer.mix(output, 10);
+        assertEquals(Short.MAX_VALUE, left(0));
+    }
+
+    @Test
+    void gainAndPan() throws IOException
+    {
+        SoundPlayback playback = playback(sound(100, (short) 1000), false, "a");
+        playback.volume(0.5);
+        playback.pan(1);
+        mixer.play(playback, VoiceStealing.OLDEST);
+        mixer.mix(output, 10);
+        assertEquals(0, left(0));
+        assertEquals(500, right(0));
+    }
+
+    @Test
+    void finishesAndNotifies() throws IOException
+    {
+        SoundPlayback playback = playback(sound(100, (short) 1000), false, "a");
+        mixer.play(playback, VoiceStealing.OLDEST);
+        mixer.mix(output, AudioMixer.BLOCK_FRAMES);
+        assertEquals(1000, left(99));
+        assertEquals(0, left(100));
+        assertFalse(playback.isPlaying());
+        assertEquals(0, mixer.activeVoices());
+        assertEquals(List.of("a finished"), events);
+    }
+
+    @Test
+    void loops() throws IOException
+    {
+        SoundPlayback playback = playback(sound(100, (short) 1000), true, "a");
+        mixer.play(playback, VoiceStealing.OLDEST);
+        mixer.mix(output, AudioMixer.BLOCK_FRAMES);
+        assertEquals(1000, left(AudioMixer.BLOCK_FRAMES - 1));
+        assertTrue(playback.isPlaying());
+    }
+
+    @Test
+    void pausedVoicesAreSilent() throws IOException
+    {
+        SoundPlayback playback = playback(sound(100, (short) 1000), false, "a");
+        mixer.play(playback, VoiceStealing.OLDEST);
+        playback.pause();
+        mixer.mix(output, 10);
+        assertEquals(0, left(0));
+        playback.resume();
+        mixer.mix(output, 10);
+        assertEquals(1000, left(0));
+    }
+
+    @Test
+    void stealsOldestVoice() throws IOException
+    {
+        Sound sound = sound(1000, (short) 1);
+        mixer.play(playback(sound, false, "a"), VoiceStealing.OLDEST);
+        mixer.play(playback(sound, false, "b"), VoiceStealing.OLDEST);
+        assertTrue(
+            mixer.play(playback(sound, false, "c"), VoiceStealing.OLDEST));
+        assertEquals(List.of("a cancelled"), events);
+        assertEquals(2, mixer.activeVoices());
+    }
+
+    @Test
+    void stealsQuietestVoice() throws IOException
+    {
+        Sound sound = sound(1000, (short) 1);
+        mixer.play(playback(sound, false, "a"), VoiceStealing.QUIETEST);
+        SoundPlayback quiet = playback(sound, false, "b");
+        quiet.volume(0.1);
+        mixer.play(quiet, VoiceStealing.QUIETEST);
+        mixer.play(playback(sound, false, "c"), VoiceStealing.QUIETEST);
+        assertEquals(List.of("b cancelled"), events);
+    }
+
+    @Test
+    void rejectsWithoutStealing() throws IOException
+    {
+        Sound sound = sound(1000, (short) 1);
+        mixer.play(playback(sound, false, "a"), VoiceStealing.NONE);
+        mixer.play(playback(sound, false, "b"), VoiceStealing.NONE);
+        assertFalse(
+            mixer.play(playback(sound, false, "c"), VoiceStealing.NONE));
+        assertEquals(List.of(), events);
+    }
+
+    @Test
+    void resamples() throws IOException
+    {
+        AudioFormat format = new AudioFormat(AudioMixer.SAMPLE_RATE / 2, 16, 1,
+                true, false);
+        byte[] data = { 0, 0, (byte) 0xe8, 0x03 }; // 0, 1000
+        ByteArrayOutputStream wav = new ByteArrayOutputStream();
+        try (AudioInputStream stream = new AudioInputStream(
+                new ByteArrayInputStream(data), format, 2))
+        {
+            AudioSystem.write(stream, AudioFileFormat.Type.WAVE, wav);
+        }
+        Sound sound = new Sound(new ByteArrayInputStream(wav.toByteArray()),
+                new URL("file:test.wav"));
+        mixer.play(playback(sound, false, "a"), VoiceStealing.OLDEST);
+        mixer.mix(output, 4);
+        assertEquals(0, left(0));
+        assertEquals(500, left(1));
+        assertEquals(1000, left(2));
+    }
+}
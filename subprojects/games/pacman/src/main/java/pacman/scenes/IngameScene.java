@@ -26,6 +26,8 @@ import static pacman.actors.GhostState.UP;
 import static pacman.scenes.Brick.*;
 
 import java.awt.event.KeyEvent;
+import java.util.ArrayList;
+import java.util.List;
 
 import pacman.Main;
 import pacman.actors.Blinky;
@@ -45,6 +47,12 @@ public class IngameScene extends BaseScene implements KeyStrokeListener
 
     Image screenshot;
 
+    /**
+     * Die Mauersteine des Labyrinths, die zu einem einzigen Körper
+     * zusammengefasst werden.
+     */
+    private final List<Image> bricks = new ArrayList<>();
+
     public IngameScene()
     {
         ghost = new Blinky();
@@ -991,6 +999,7 @@ public class IngameScene extends BaseScene implements KeyStrokeListener
             .pixelPerMeter(8);
         screenshot.visible(false);
         add(screenshot);
+        bakeStaticColliders(bricks);
     }
 
     private void setRow(int y, Brick... bricks)
@@ -1011,6 +1020,7 @@ public class IngameScene extends BaseScene implements KeyStrokeListener
         image.anchor(x, y);
         image.makeStatic();
         add(image);
+        bricks.add(image);
     }
 
     @Override
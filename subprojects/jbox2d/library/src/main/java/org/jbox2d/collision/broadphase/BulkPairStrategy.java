@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2026, Josef Friedrich and contributors
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ * 	* Redistributions of source code must retain the above copyright notice,
+ * 	  this list of conditions and the following disclaimer.
+ * 	* Redistributions in binary form must reproduce the above copyright notice,
+ * 	  this list of conditions and the following disclaimer in the documentation
+ * 	  and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT
+ * NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.jbox2d.collision.broadphase;
+
+import org.jbox2d.callbacks.PairCallback;
+
+/**
+ * A broad-phase strategy that finds all new pairs of the moved proxies in one
+ * pass instead of querying the tree once per moved proxy.
+ */
+public interface BulkPairStrategy extends BroadPhaseStrategy
+{
+    /**
+     * Report every pair of proxies whose fat AABBs overlap and of which at
+     * least one proxy is contained in the move buffer. Each pair is reported
+     * exactly once, with the smaller proxy id first.
+     *
+     * @param moveBuffer The ids of the moved proxies. Entries equal to
+     *     {@link BroadPhase#NULL_PROXY} are ignored.
+     * @param moveCount The number of valid entries in the move buffer.
+     * @param callback Receives the user data of both proxies of each pair.
+     */
+    void updatePairs(int[] moveBuffer, int moveCount, PairCallback callback);
+}
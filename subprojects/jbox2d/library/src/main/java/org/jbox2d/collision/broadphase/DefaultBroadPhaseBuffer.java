@@ -41,10 +41,23 @@ import org.jbox2d.common.Vec2;
  *
  * @author Daniel Murphy
  */
-public class DefaultBroadPhaseBuffer implements TreeCallback, BroadPhase
+public class DefaultBroadPhaseBuffer
+        implements TreeCallback, BroadPhase, FatAABBRestorable
 {
     private final BroadPhaseStrategy tree;
 
+    /**
+     * The strategy as a {@link BulkPairStrategy}, or null if it finds pairs
+     * only through queries.
+     */
+    private final BulkPairStrategy bulkPairs;
+
+    /**
+     * The strategy as a {@link FatAABBRestorable}, or null if it cannot
+     * overwrite fat AABBs.
+     */
+    private final FatAABBRestorable restorable;
+
     private int proxyCount;
 
     private int[] moveBuffer;
@@ -75,6 +88,12 @@ public class DefaultBroadPhaseBuffer implements TreeCallback, BroadPhase
         moveCount = 0;
         moveBuffer = new int[moveCapacity];
         tree = strategy;
+        bulkPairs = strategy instanceof BulkPairStrategy
+                ? (BulkPairStrategy) strategy
+                : null;
+        restorable = strategy instanceof FatAABBRestorable
+                ? (FatAABBRestorable) strategy
+                : null;
         queryProxyId = NULL_PROXY;
     }
 
@@ -106,6 +125,31 @@ public class DefaultBroadPhaseBuffer implements TreeCallback, BroadPhase
         }
     }
 
+    /**
+     * @return true if the strategy of this broad-phase can overwrite fat AABBs,
+     *     so that {@link #setFatAABB(int, AABB)} may be called.
+     */
+    public final boolean canRestoreFatAABBs()
+    {
+        return restorable != null;
+    }
+
+    /**
+     * @throws IllegalStateException if the strategy of this broad-phase is not
+     *     {@link FatAABBRestorable}.
+     */
+    @Override
+    public final void setFatAABB(int proxyId, final AABB fatAABB)
+    {
+        if (restorable == null)
+        {
+            throw new IllegalStateException(
+                    "The broad-phase strategy cannot restore fat AABBs: "
+                            + tree.getClass().getName());
+        }
+        restorable.setFatAABB(proxyId, fatAABB);
+    }
+
     @Override
     public void touchProxy(int proxyId)
     {
@@ -155,6 +199,12 @@ public class DefaultBroadPhaseBuffer implements TreeCallback, BroadPhase
     @Override
     public final void updatePairs(PairCallback callback)
     {
+        if (bulkPairs != null)
+        {
+            bulkPairs.updatePairs(moveBuffer, moveCount, callback);
+            moveCount = 0;
+            return;
+        }
         // Reset pair buffer
         pairCount = 0;
         // Perform tree queries for all moving proxies.
@@ -42,7 +42,7 @@ import org.jbox2d.common.Vec2;
  *
  * @author Daniel Murphy
  */
-public class DynamicTree implements BroadPhaseStrategy
+public class DynamicTree implements BroadPhaseStrategy, FatAABBRestorable
 {
     public static final int MAX_STACK_SIZE = 64;
 
@@ -159,6 +159,17 @@ public class DynamicTree implements BroadPhaseStrategy
         return true;
     }
 
+    @Override
+    public final void setFatAABB(int proxyId, final AABB fatAABB)
+    {
+        assert (0 <= proxyId && proxyId < nodeCapacity);
+        final DynamicTreeNode node = nodes[proxyId];
+        assert (node.child1 == null);
+        removeLeaf(node);
+        node.aabb.set(fatAABB);
+        insertLeaf(proxyId);
+    }
+
     @Override
     public final Object getUserData(int proxyId)
     {
@@ -37,7 +37,8 @@ import org.jbox2d.common.Vec2;
 /**
  * @author Daniel Murphy
  */
-public class DynamicTreeFlatNodes implements BroadPhaseStrategy
+public class DynamicTreeFlatNodes
+        implements BroadPhaseStrategy, FatAABBRestorable
 {
     public static final int MAX_STACK_SIZE = 64;
 
@@ -171,6 +172,16 @@ public class DynamicTreeFlatNodes implements BroadPhaseStrategy
         return true;
     }
 
+    @Override
+    public final void setFatAABB(int proxyId, final AABB fatAABB)
+    {
+        assert (0 <= proxyId && proxyId < nodeCapacity);
+        assert (child1[proxyId] == NULL_NODE);
+        removeLeaf(proxyId);
+        memberAabb[proxyId].set(fatAABB);
+        insertLeaf(proxyId);
+    }
+
     @Override
     public final Object getUserData(int proxyId)
     {
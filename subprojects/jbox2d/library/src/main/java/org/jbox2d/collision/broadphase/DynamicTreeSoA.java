@@ -0,0 +1,1089 @@
+/*
+ * Copyright (c) 2026, Josef Friedrich and contributors
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ * 	* Redistributions of source code must retain the above copyright notice,
+ * 	  this list of conditions and the following disclaimer.
+ * 	* Redistributions in binary form must reproduce the above copyright notice,
+ * 	  this list of conditions and the following disclaimer in the documentation
+ * 	  and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT
+ * NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.jbox2d.collision.broadphase;
+
+import java.util.Arrays;
+
+import org.jbox2d.callbacks.DebugDraw;
+import org.jbox2d.callbacks.PairCallback;
+import org.jbox2d.callbacks.TreeCallback;
+import org.jbox2d.callbacks.TreeRayCastCallback;
+import org.jbox2d.collision.AABB;
+import org.jbox2d.collision.RayCastInput;
+import org.jbox2d.common.Color3f;
+import org.jbox2d.common.MathUtils;
+import org.jbox2d.common.Settings;
+import org.jbox2d.common.Vec2;
+
+/**
+ * A dynamic AABB tree that stores its nodes as a structure of arrays: the
+ * bounds of all nodes live in four contiguous float arrays, the links in int
+ * arrays.
+ *
+ * <p>
+ * Moved proxies are not removed and re-inserted. Instead their ancestors are
+ * refitted, which keeps the bounds exact but lets the topology degrade. Once
+ * the number of changes since the last build exceeds
+ * {@link #setRebuildFraction(float) a fraction} of the proxies, the whole tree
+ * is rebuilt top-down with a binned surface area heuristic before the next
+ * query or pair update.
+ * </p>
+ *
+ * <p>
+ * New pairs are found with a single simultaneous traversal of the tree against
+ * itself that skips subtrees without moved proxies, so every pair is reported
+ * once and the pair buffer needs neither sorting nor deduplication. Queries,
+ * ray casts and the pair traversal use reusable stacks and do not allocate.
+ * </p>
+ */
+public class DynamicTreeSoA implements BulkPairStrategy, FatAABBRestorable
+{
+    public static final int NULL_NODE = -1;
+
+    public static final int INITIAL_BUFFER_LENGTH = 16;
+
+    /**
+     * The number of bins of the surface area heuristic.
+     */
+    private static final int BINS = 16;
+
+    /**
+     * Below this depth the rebuild splits at the median instead of evaluating
+     * the surface area heuristic, which bounds the recursion depth.
+     */
+    private static final int MAX_SAH_DEPTH = 48;
+
+    /**
+     * The minimum number of changes before a rebuild is considered.
+     */
+    private static final int MIN_REBUILD_CHANGES = 32;
+
+    private int root = NULL_NODE;
+
+    private float[] lowerX;
+
+    private float[] lowerY;
+
+    private float[] upperX;
+
+    private float[] upperY;
+
+    /**
+     * The parent of a node, or the next free node for nodes in the free list.
+     */
+    private int[] parent;
+
+    private int[] child1;
+
+    private int[] child2;
+
+    /**
+     * The height of a node: 0 for leaves, -1 for free nodes.
+     */
+    private int[] height;
+
+    private Object[] userData;
+
+    /**
+     * The fat AABB of each leaf, kept in sync with the bound arrays for
+     * {@link #getFatAABB(int)}.
+     */
+    private AABB[] fatAABB;
+
+    /**
+     * Marks moved leaves and all of their ancestors during a pair update.
+     */
+    private boolean[] moved;
+
+    private int nodeCapacity = 0;
+
+    private int nodeCount = 0;
+
+    private int leafCount = 0;
+
+    private int freeList = NULL_NODE;
+
+    /**
+     * The number of inserted, moved and removed proxies since the last build.
+     */
+    private int changes = 0;
+
+    private float rebuildFraction = 0.25f;
+
+    private int[] stack = new int[64];
+
+    // scratch buffers of the rebuild
+
+    private int[] buildLeaves = new int[INITIAL_BUFFER_LENGTH];
+
+    private float[] centroidX = new float[INITIAL_BUFFER_LENGTH];
+
+    private float[] centroidY = new float[INITIAL_BUFFER_LENGTH];
+
+    private final int[] binCount = new int[BINS];
+
+    private final float[] binLowerX = new float[BINS];
+
+    private final float[] binLowerY = new float[BINS];
+
+    private final float[] binUpperX = new float[BINS];
+
+    private final float[] binUpperY = new float[BINS];
+
+    private final float[] rightCost = new float[BINS];
+
+    private final RayCastInput subInput = new RayCastInput();
+
+    private final Vec2[] drawVecs = new Vec2[4];
+
+    private final AABB drawAABB = new AABB();
+
+    private final Color3f color = new Color3f();
+
+    private final Vec2 textVec = new Vec2();
+
+    public DynamicTreeSoA()
+    {
+        expandBuffers(INITIAL_BUFFER_LENGTH);
+        for (int i = 0; i < drawVecs.length; i++)
+        {
+            drawVecs[i] = new Vec2();
+        }
+    }
+
+    /**
+     * Set the fraction of the proxy count that may change before the tree is
+     * rebuilt. Smaller values keep the tree closer to optimal at the cost of
+     * more frequent rebuilds.
+     */
+    public void setRebuildFraction(float rebuildFraction)
+    {
+        if (!(rebuildFraction > 0))
+        {
+            throw new IllegalArgumentException(
+                    "rebuildFraction must be positive, was " + rebuildFraction);
+        }
+        this.rebuildFraction = rebuildFraction;
+    }
+
+    public float getRebuildFraction()
+    {
+        return rebuildFraction;
+    }
+
+    private void expandBuffers(int newCapacity)
+    {
+        int oldCapacity = nodeCapacity;
+        lowerX = Arrays.copyOf(lowerX == null ? new float[0] : lowerX,
+            newCapacity);
+        lowerY = Arrays.copyOf(lowerY == null ? new float[0] : lowerY,
+            newCapacity);
+        upperX = Arrays.copyOf(upperX == null ? new float[0] : upperX,
+            newCapacity);
+        upperY = Arrays.copyOf(upperY == null ? new float[0] : upperY,
+            newCapacity);
+        parent = Arrays.copyOf(parent == null ? new int[0] : parent,
+            newCapacity);
+        child1 = Arrays.copyOf(child1 == null ? new int[0] : child1,
+            newCapacity);
+        child2 = Arrays.copyOf(child2 == null ? new int[0] : child2,
+            newCapacity);
+        height = Arrays.copyOf(height == null ? new int[0] : height,
+            newCapacity);
+        userData = Arrays.copyOf(userData == null ? new Object[0] : userData,
+            newCapacity);
+        fatAABB = Arrays.copyOf(fatAABB == null ? new AABB[0] : fatAABB,
+            newCapacity);
+        moved = Arrays.copyOf(moved == null ? new boolean[0] : moved,
+            newCapacity);
+        // Build a linked list for the free list.
+        for (int i = oldCapacity; i < newCapacity; i++)
+        {
+            parent[i] = i == newCapacity - 1 ? freeList : i + 1;
+            child1[i] = NULL_NODE;
+            child2[i] = NULL_NODE;
+            height[i] = -1;
+        }
+        freeList = oldCapacity;
+        nodeCapacity = newCapacity;
+    }
+
+    private int allocateNode()
+    {
+        if (freeList == NULL_NODE)
+        {
+            expandBuffers(nodeCapacity * 2);
+        }
+        int node = freeList;
+        freeList = parent[node];
+        parent[node] = NULL_NODE;
+        child1[node] = NULL_NODE;
+        child2[node] = NULL_NODE;
+        height[node] = 0;
+        ++nodeCount;
+        return node;
+    }
+
+    private void freeNode(int node)
+    {
+        assert (node != NULL_NODE);
+        assert (0 < nodeCount);
+        parent[node] = freeList;
+        height[node] = -1;
+        userData[node] = null;
+        freeList = node;
+        nodeCount--;
+    }
+
+    private void setFatBounds(int leaf, AABB aabb)
+    {
+        lowerX[leaf] = aabb.lowerBound.x - Settings.aabbExtension;
+        lowerY[leaf] = aabb.lowerBound.y - Settings.aabbExtension;
+        upperX[leaf] = aabb.upperBound.x + Settings.aabbExtension;
+        upperY[leaf] = aabb.upperBound.y + Settings.aabbExtension;
+    }
+
+    private void syncFatAABB(int leaf)
+    {
+        AABB fat = fatAABB[leaf];
+        fat.lowerBound.x = lowerX[leaf];
+        fat.lowerBound.y = lowerY[leaf];
+        fat.upperBound.x = upperX[leaf];
+        fat.upperBound.y = upperY[leaf];
+    }
+
+    @Override
+    public final int createProxy(final AABB aabb, Object userData)
+    {
+        final int leaf = allocateNode();
+        setFatBounds(leaf, aabb);
+        if (fatAABB[leaf] == null)
+        {
+            fatAABB[leaf] = new AABB();
+        }
+        syncFatAABB(leaf);
+        this.userData[leaf] = userData;
+        insertLeaf(leaf);
+        ++leafCount;
+        ++changes;
+        return leaf;
+    }
+
+    @Override
+    public final void destroyProxy(int proxyId)
+    {
+        assert (0 <= proxyId && proxyId < nodeCapacity);
+        assert (child1[proxyId] == NULL_NODE);
+        removeLeaf(proxyId);
+        freeNode(proxyId);
+        --leafCount;
+        ++changes;
+    }
+
+    @Override
+    public final boolean moveProxy(int proxyId, final AABB aabb,
+            Vec2 displacement)
+    {
+        assert (0 <= proxyId && proxyId < nodeCapacity);
+        assert (child1[proxyId] == NULL_NODE);
+        if (lowerX[proxyId] <= aabb.lowerBound.x
+                && lowerY[proxyId] <= aabb.lowerBound.y
+                && aabb.upperBound.x <= upperX[proxyId]
+                && aabb.upperBound.y <= upperY[proxyId])
+        {
+            return false;
+        }
+        setFatBounds(proxyId, aabb);
+        // Predict AABB displacement.
+        final float dx = displacement.x * Settings.aabbMultiplier;
+        final float dy = displacement.y * Settings.aabbMultiplier;
+        if (dx < 0.0f)
+        {
+            lowerX[proxyId] += dx;
+        }
+        else
+        {
+            upperX[proxyId] += dx;
+        }
+        if (dy < 0.0f)
+        {
+            lowerY[proxyId] += dy;
+        }
+        else
+        {
+            upperY[proxyId] += dy;
+        }
+        syncFatAABB(proxyId);
+        refit(parent[proxyId]);
+        ++changes;
+        return true;
+    }
+
+    @Override
+    public final void setFatAABB(int proxyId, final AABB fatAABB)
+    {
+        assert (0 <= proxyId && proxyId < nodeCapacity);
+        assert (child1[proxyId] == NULL_NODE);
+        lowerX[proxyId] = fatAABB.lowerBound.x;
+        lowerY[proxyId] = fatAABB.lowerBound.y;
+        upperX[proxyId] = fatAABB.upperBound.x;
+        upperY[proxyId] = fatAABB.upperBound.y;
+        syncFatAABB(proxyId);
+        refit(parent[proxyId]);
+        ++changes;
+    }
+
+    @Override
+    public final Object getUserData(int proxyId)
+    {
+        assert (0 <= proxyId && proxyId < nodeCapacity);
+        return userData[proxyId];
+    }
+
+    @Override
+    public final AABB getFatAABB(int proxyId)
+    {
+        assert (0 <= proxyId && proxyId < nodeCapacity);
+        return fatAABB[proxyId];
+    }
+
+    private void pushStack(int stackIndex, int value)
+    {
+        if (stackIndex == stack.length)
+        {
+            stack = Arrays.copyOf(stack, stack.length * 2);
+        }
+        stack[stackIndex] = value;
+    }
+
+    @Override
+    public final void query(TreeCallback callback, AABB aabb)
+    {
+        rebuildIfNeeded();
+        if (root == NULL_NODE)
+        {
+            return;
+        }
+        final float qLowerX = aabb.lowerBound.x;
+        final float qLowerY = aabb.lowerBound.y;
+        final float qUpperX = aabb.upperBound.x;
+        final float qUpperY = aabb.upperBound.y;
+        int stackIndex = 0;
+        pushStack(stackIndex++, root);
+        while (stackIndex > 0)
+        {
+            int node = stack[--stackIndex];
+            if (qLowerX - upperX[node] > 0.0f || qLowerY - upperY[node] > 0.0f
+                    || lowerX[node] - qUpperX > 0.0f
+                    || lowerY[node] - qUpperY > 0.0f)
+            {
+                continue;
+            }
+            int child1 = this.child1[node];
+            if (child1 == NULL_NODE)
+            {
+                if (!callback.treeCallback(node))
+                {
+                    return;
+                }
+            }
+            else
+            {
+                pushStack(stackIndex++, child1);
+                pushStack(stackIndex++, child2[node]);
+            }
+        }
+    }
+
+    @Override
+    public void raycast(TreeRayCastCallback callback, RayCastInput input)
+    {
+        rebuildIfNeeded();
+        if (root == NULL_NODE)
+        {
+            return;
+        }
+        final float p1x = input.p1.x, p1y = input.p1.y;
+        final float p2x = input.p2.x, p2y = input.p2.y;
+        float rx = p2x - p1x;
+        float ry = p2y - p1y;
+        float length = MathUtils.sqrt(rx * rx + ry * ry);
+        assert (length > 0f);
+        rx /= length;
+        ry /= length;
+        // v is perpendicular to the segment.
+        final float vx = -ry;
+        final float vy = rx;
+        final float absVx = MathUtils.abs(vx);
+        final float absVy = MathUtils.abs(vy);
+        // Separating axis for segment (Gino, p80).
+        // |dot(v, p1 - c)| > dot(|v|, h)
+        float maxFraction = input.maxFraction;
+        // Build a bounding box for the segment.
+        float tempX = (p2x - p1x) * maxFraction + p1x;
+        float tempY = (p2y - p1y) * maxFraction + p1y;
+        float segLowerX = Math.min(p1x, tempX);
+        float segLowerY = Math.min(p1y, tempY);
+        float segUpperX = Math.max(p1x, tempX);
+        float segUpperY = Math.max(p1y, tempY);
+        int stackIndex = 0;
+        pushStack(stackIndex++, root);
+        while (stackIndex > 0)
+        {
+            int node = stack[--stackIndex];
+            if (segLowerX - upperX[node] > 0.0f
+                    || segLowerY - upperY[node] > 0.0f
+                    || lowerX[node] - segUpperX > 0.0f
+                    || lowerY[node] - segUpperY > 0.0f)
+            {
+                continue;
+            }
+            float cx = (lowerX[node] + upperX[node]) * .5f;
+            float cy = (lowerY[node] + upperY[node]) * .5f;
+            float hx = (upperX[node] - lowerX[node]) * .5f;
+            float hy = (upperY[node] - lowerY[node]) * .5f;
+            float separation = MathUtils.abs(vx * (p1x - cx) + vy * (p1y - cy))
+                    - (absVx * hx + absVy * hy);
+            if (separation > 0.0f)
+            {
+                continue;
+            }
+            int child1 = this.child1[node];
+            if (child1 == NULL_NODE)
+            {
+                subInput.p1.x = p1x;
+                subInput.p1.y = p1y;
+                subInput.p2.x = p2x;
+                subInput.p2.y = p2y;
+                subInput.maxFraction = maxFraction;
+                float value = callback.raycastCallback(subInput, node);
+                if (value == 0.0f)
+                {
+                    // The client has terminated the ray cast.
+                    return;
+                }
+                if (value > 0.0f)
+                {
+                    // Update segment bounding box.
+                    maxFraction = value;
+                    tempX = (p2x - p1x) * maxFraction + p1x;
+                    tempY = (p2y - p1y) * maxFraction + p1y;
+                    segLowerX = Math.min(p1x, tempX);
+                    segLowerY = Math.min(p1y, tempY);
+                    segUpperX = Math.max(p1x, tempX);
+                    segUpperY = Math.max(p1y, tempY);
+                }
+            }
+            else
+            {
+                pushStack(stackIndex++, child1);
+                pushStack(stackIndex++, child2[node]);
+            }
+        }
+    }
+
+    @Override
+    public void updatePairs(int[] moveBuffer, int moveCount,
+            PairCallback callback)
+    {
+        rebuildIfNeeded();
+        // Mark the moved leaves and their ancestors.
+        for (int i = 0; i < moveCount; i++)
+        {
+            int node = moveBuffer[i];
+            while (node != NULL_NODE && !moved[node])
+            {
+                moved[node] = true;
+                node = parent[node];
+            }
+        }
+        if (root != NULL_NODE && moved[root])
+        {
+            findPairs(callback);
+        }
+        // Clear the marks again.
+        for (int i = 0; i < moveCount; i++)
+        {
+            int node = moveBuffer[i];
+            while (node != NULL_NODE && moved[node])
+            {
+                moved[node] = false;
+                node = parent[node];
+            }
+        }
+    }
+
+    /**
+     * Traverse the tree against itself. The stack holds pairs of nodes; a pair
+     * of a node with itself stands for the pairs within its subtree.
+     */
+    private void findPairs(PairCallback callback)
+    {
+        int stackIndex = 0;
+        pushStack(stackIndex++, root);
+        pushStack(stackIndex++, root);
+        while (stackIndex > 0)
+        {
+            int b = stack[--stackIndex];
+            int a = stack[--stackIndex];
+            if (a == b)
+            {
+                int child1 = this.child1[a];
+                if (child1 == NULL_NODE || !moved[a])
+                {
+                    continue;
+                }
+                int child2 = this.child2[a];
+                pushStack(stackIndex++, child1);
+                pushStack(stackIndex++, child1);
+                pushStack(stackIndex++, child2);
+                pushStack(stackIndex++, child2);
+                pushStack(stackIndex++, child1);
+                pushStack(stackIndex++, child2);
+                continue;
+            }
+            if (!moved[a] && !moved[b])
+            {
+                continue;
+            }
+            if (lowerX[b] - upperX[a] > 0.0f || lowerY[b] - upperY[a] > 0.0f
+                    || lowerX[a] - upperX[b] > 0.0f
+                    || lowerY[a] - upperY[b] > 0.0f)
+            {
+                continue;
+            }
+            boolean leafA = child1[a] == NULL_NODE;
+            boolean leafB = child1[b] == NULL_NODE;
+            if (leafA && leafB)
+            {
+                if (a < b)
+                {
+                    callback.addPair(userData[a], userData[b]);
+                }
+                else
+                {
+                    callback.addPair(userData[b], userData[a]);
+                }
+            }
+            else if (leafB || !leafA && perimeter(a) >= perimeter(b))
+            {
+                // Descend into the larger node.
+                pushStack(stackIndex++, child1[a]);
+                pushStack(stackIndex++, b);
+                pushStack(stackIndex++, child2[a]);
+                pushStack(stackIndex++, b);
+            }
+            else
+            {
+                pushStack(stackIndex++, a);
+                pushStack(stackIndex++, child1[b]);
+                pushStack(stackIndex++, a);
+                pushStack(stackIndex++, child2[b]);
+            }
+        }
+    }
+
+    private float perimeter(int node)
+    {
+        return 2.0f
+                * (upperX[node] - lowerX[node] + upperY[node] - lowerY[node]);
+    }
+
+    private void insertLeaf(int leaf)
+    {
+        if (root == NULL_NODE)
+        {
+            root = leaf;
+            parent[root] = NULL_NODE;
+            return;
+        }
+        // Find the best sibling.
+        final float leafLowerX = lowerX[leaf], leafLowerY = lowerY[leaf];
+        final float leafUpperX = upperX[leaf], leafUpperY = upperY[leaf];
+        int index = root;
+        while (child1[index] != NULL_NODE)
+        {
+            float area = perimeter(index);
+            float combinedArea = combinedPerimeter(index,
+                leafLowerX,
+                leafLowerY,
+                leafUpperX,
+                leafUpperY);
+            // Cost of creating a new parent for this node and the new leaf
+            float cost = 2.0f * combinedArea;
+            // Minimum cost of pushing the leaf further down the tree
+            float inheritanceCost = 2.0f * (combinedArea - area);
+            float cost1 = descendCost(child1[index],
+                leafLowerX,
+                leafLowerY,
+                leafUpperX,
+                leafUpperY) + inheritanceCost;
+            float cost2 = descendCost(child2[index],
+                leafLowerX,
+                leafLowerY,
+                leafUpperX,
+                leafUpperY) + inheritanceCost;
+            if (cost < cost1 && cost < cost2)
+            {
+                break;
+            }
+            index = cost1 < cost2 ? child1[index] : child2[index];
+        }
+        int sibling = index;
+        int oldParent = parent[sibling];
+        final int newParent = allocateNode();
+        parent[newParent] = oldParent;
+        child1[newParent] = sibling;
+        child2[newParent] = leaf;
+        parent[sibling] = newParent;
+        parent[leaf] = newParent;
+        if (oldParent == NULL_NODE)
+        {
+            root = newParent;
+        }
+        else if (child1[oldParent] == sibling)
+        {
+            child1[oldParent] = newParent;
+        }
+        else
+        {
+            child2[oldParent] = newParent;
+        }
+        // Height and bounds of the new parent are always recomputed.
+        height[newParent] = -1;
+        refit(newParent);
+    }
+
+    private float combinedPerimeter(int node, float lx, float ly, float ux,
+            float uy)
+    {
+        return 2.0f * (Math.max(upperX[node], ux) - Math.min(lowerX[node], lx)
+                + Math.max(upperY[node], uy) - Math.min(lowerY[node], ly));
+    }
+
+    private float descendCost(int child, float lx, float ly, float ux, float uy)
+    {
+        float combined = combinedPerimeter(child, lx, ly, ux, uy);
+        if (child1[child] == NULL_NODE)
+        {
+            return combined;
+        }
+        return combined - perimeter(child);
+    }
+
+    private void removeLeaf(int leaf)
+    {
+        if (leaf == root)
+        {
+            root = NULL_NODE;
+            return;
+        }
+        int parent = this.parent[leaf];
+        int grandParent = this.parent[parent];
+        int sibling = child1[parent] == leaf ? child2[parent] : child1[parent];
+        this.parent[sibling] = grandParent;
+        if (grandParent == NULL_NODE)
+        {
+            root = sibling;
+        }
+        else if (child1[grandParent] == parent)
+        {
+            child1[grandParent] = sibling;
+        }
+        else
+        {
+            child2[grandParent] = sibling;
+        }
+        freeNode(parent);
+        refit(grandParent);
+    }
+
+    /**
+     * Recompute the bounds and heights of the given node and its ancestors
+     * until a node does not change.
+     */
+    private void refit(int index)
+    {
+        while (index != NULL_NODE)
+        {
+            int child1 = this.child1[index];
+            int child2 = this.child2[index];
+            float lx = Math.min(lowerX[child1], lowerX[child2]);
+            float ly = Math.min(lowerY[child1], lowerY[child2]);
+            float ux = Math.max(upperX[child1], upperX[child2]);
+            float uy = Math.max(upperY[child1], upperY[child2]);
+            int h = 1 + Math.max(height[child1], height[child2]);
+            if (lx == lowerX[index] && ly == lowerY[index]
+                    && ux == upperX[index] && uy == upperY[index]
+                    && h == height[index])
+            {
+                return;
+            }
+            lowerX[index] = lx;
+            lowerY[index] = ly;
+            upperX[index] = ux;
+            upperY[index] = uy;
+            height[index] = h;
+            index = parent[index];
+        }
+    }
+
+    private void rebuildIfNeeded()
+    {
+        if (changes > MIN_REBUILD_CHANGES
+                && changes > rebuildFraction * leafCount)
+        {
+            rebuild();
+        }
+    }
+
+    /**
+     * Rebuild the tree top-down with a binned surface area heuristic. Proxy ids
+     * stay valid; only the internal nodes are replaced.
+     */
+    public void rebuild()
+    {
+        changes = 0;
+        if (buildLeaves.length < leafCount)
+        {
+            int capacity = Math.max(leafCount, buildLeaves.length * 2);
+            buildLeaves = new int[capacity];
+            centroidX = new float[capacity];
+            centroidY = new float[capacity];
+        }
+        int count = 0;
+        for (int i = 0; i < nodeCapacity; i++)
+        {
+            if (height[i] < 0)
+            {
+                continue;
+            }
+            if (child1[i] == NULL_NODE)
+            {
+                buildLeaves[count] = i;
+                centroidX[count] = (lowerX[i] + upperX[i]) * .5f;
+                centroidY[count] = (lowerY[i] + upperY[i]) * .5f;
+                count++;
+            }
+            else
+            {
+                freeNode(i);
+            }
+        }
+        assert (count == leafCount);
+        root = count == 0 ? NULL_NODE : build(0, count, 0);
+        if (root != NULL_NODE)
+        {
+            parent[root] = NULL_NODE;
+        }
+    }
+
+    private int build(int begin, int end, int depth)
+    {
+        if (end - begin == 1)
+        {
+            return buildLeaves[begin];
+        }
+        int split = depth < MAX_SAH_DEPTH ? partition(begin, end)
+                : (begin + end) >>> 1;
+        int left = build(begin, split, depth + 1);
+        int right = build(split, end, depth + 1);
+        int node = allocateNode();
+        child1[node] = left;
+        child2[node] = right;
+        parent[left] = node;
+        parent[right] = node;
+        lowerX[node] = Math.min(lowerX[left], lowerX[right]);
+        lowerY[node] = Math.min(lowerY[left], lowerY[right]);
+        upperX[node] = Math.max(upperX[left], upperX[right]);
+        upperY[node] = Math.max(upperY[left], upperY[right]);
+        height[node] = 1 + Math.max(height[left], height[right]);
+        return node;
+    }
+
+    /**
+     * Partition the leaves between begin and end along the axis with the larger
+     * centroid extent at the bin boundary with the lowest surface area cost.
+     *
+     * @return The index of the first leaf of the second half.
+     */
+    private int partition(int begin, int end)
+    {
+        float minX = Float.MAX_VALUE, minY = Float.MAX_VALUE;
+        float maxX = -Float.MAX_VALUE, maxY = -Float.MAX_VALUE;
+        for (int i = begin; i < end; i++)
+        {
+            minX = Math.min(minX, centroidX[i]);
+            maxX = Math.max(maxX, centroidX[i]);
+            minY = Math.min(minY, centroidY[i]);
+            maxY = Math.max(maxY, centroidY[i]);
+        }
+        boolean axisX = maxX - minX >= maxY - minY;
+        float[] centroids = axisX ? centroidX : centroidY;
+        float min = axisX ? minX : minY;
+        float extent = axisX ? maxX - minX : maxY - minY;
+        if (!(extent > 0))
+        {
+            // All centroids coincide.
+            return (begin + end) >>> 1;
+        }
+        float scale = BINS / extent;
+        Arrays.fill(binCount, 0);
+        Arrays.fill(binLowerX, Float.MAX_VALUE);
+        Arrays.fill(binLowerY, Float.MAX_VALUE);
+        Arrays.fill(binUpperX, -Float.MAX_VALUE);
+        Arrays.fill(binUpperY, -Float.MAX_VALUE);
+        for (int i = begin; i < end; i++)
+        {
+            int bin = bin(centroids[i], min, scale);
+            int leaf = buildLeaves[i];
+            binCount[bin]++;
+            binLowerX[bin] = Math.min(binLowerX[bin], lowerX[leaf]);
+            binLowerY[bin] = Math.min(binLowerY[bin], lowerY[leaf]);
+            binUpperX[bin] = Math.max(binUpperX[bin], upperX[leaf]);
+            binUpperY[bin] = Math.max(binUpperY[bin], upperY[leaf]);
+        }
+        // Sweep from the right: cost of bins i..BINS-1.
+        float lx = Float.MAX_VALUE, ly = Float.MAX_VALUE;
+        float ux = -Float.MAX_VALUE, uy = -Float.MAX_VALUE;
+        int count = 0;
+        for (int i = BINS - 1; i > 0; i--)
+        {
+            count += binCount[i];
+            lx = Math.min(lx, binLowerX[i]);
+            ly = Math.min(ly, binLowerY[i]);
+            ux = Math.max(ux, binUpperX[i]);
+            uy = Math.max(uy, binUpperY[i]);
+            rightCost[i] = count == 0 ? 0 : (ux - lx + uy - ly) * count;
+        }
+        // Sweep from the left and pick the cheapest split.
+        lx = Float.MAX_VALUE;
+        ly = Float.MAX_VALUE;
+        ux = -Float.MAX_VALUE;
+        uy = -Float.MAX_VALUE;
+        count = 0;
+        int bestBin = -1;
+        float bestCost = Float.MAX_VALUE;
+        int total = end - begin;
+        for (int i = 1; i < BINS; i++)
+        {
+            count += binCount[i - 1];
+            lx = Math.min(lx, binLowerX[i - 1]);
+            ly = Math.min(ly, binLowerY[i - 1]);
+            ux = Math.max(ux, binUpperX[i - 1]);
+            uy = Math.max(uy, binUpperY[i - 1]);
+            if (count == 0 || count == total)
+            {
+                continue;
+            }
+            float cost = (ux - lx + uy - ly) * count + rightCost[i];
+            if (cost < bestCost)
+            {
+                bestCost = cost;
+                bestBin = i;
+            }
+        }
+        if (bestBin < 0)
+        {
+            return (begin + end) >>> 1;
+        }
+        // Move the leaves of the left bins to the front.
+        int split = begin;
+        for (int i = begin; i < end; i++)
+        {
+            if (bin(centroids[i], min, scale) < bestBin)
+            {
+                swap(i, split++);
+            }
+        }
+        return split;
+    }
+
+    private static int bin(float centroid, float min, float scale)
+    {
+        int bin = (int) ((centroid - min) * scale);
+        return bin >= BINS ? BINS - 1 : bin;
+    }
+
+    private void swap(int i, int j)
+    {
+        int leaf = buildLeaves[i];
+        buildLeaves[i] = buildLeaves[j];
+        buildLeaves[j] = leaf;
+        float x = centroidX[i];
+        centroidX[i] = centroidX[j];
+        centroidX[j] = x;
+        float y = centroidY[i];
+        centroidY[i] = centroidY[j];
+        centroidY[j] = y;
+    }
+
+    @Override
+    public final int computeHeight()
+    {
+        return root == NULL_NODE ? 0 : computeHeight(root);
+    }
+
+    private int computeHeight(int node)
+    {
+        if (child1[node] == NULL_NODE)
+        {
+            return 0;
+        }
+        return 1 + MathUtils.max(computeHeight(child1[node]),
+            computeHeight(child2[node]));
+    }
+
+    @Override
+    public int getHeight()
+    {
+        return root == NULL_NODE ? 0 : height[root];
+    }
+
+    @Override
+    public int getMaxBalance()
+    {
+        int maxBalance = 0;
+        for (int i = 0; i < nodeCapacity; ++i)
+        {
+            if (height[i] <= 1)
+            {
+                continue;
+            }
+            int balance = MathUtils.abs(height[child2[i]] - height[child1[i]]);
+            maxBalance = MathUtils.max(maxBalance, balance);
+        }
+        return maxBalance;
+    }
+
+    @Override
+    public float getAreaRatio()
+    {
+        if (root == NULL_NODE)
+        {
+            return 0.0f;
+        }
+        float rootArea = perimeter(root);
+        float totalArea = 0.0f;
+        for (int i = 0; i < nodeCapacity; ++i)
+        {
+            if (height[i] < 0)
+            {
+                // Free node in pool
+                continue;
+            }
+            totalArea += perimeter(i);
+        }
+        return totalArea / rootArea;
+    }
+
+    /**
+     * Get the number of proxies in the tree.
+     */
+    public int getProxyCount()
+    {
+        return leafCount;
+    }
+
+    /**
+     * Validate this tree. For testing.
+     */
+    public void validate()
+    {
+        if (root != NULL_NODE)
+        {
+            assert (parent[root] == NULL_NODE);
+            validate(root);
+        }
+        int freeCount = 0;
+        int freeNode = freeList;
+        while (freeNode != NULL_NODE)
+        {
+            assert (0 <= freeNode && freeNode < nodeCapacity);
+            freeNode = parent[freeNode];
+            ++freeCount;
+        }
+        assert (getHeight() == computeHeight());
+        assert (nodeCount + freeCount == nodeCapacity);
+    }
+
+    private void validate(int node)
+    {
+        int child1 = this.child1[node];
+        int child2 = this.child2[node];
+        if (child1 == NULL_NODE)
+        {
+            assert (child2 == NULL_NODE);
+            assert (height[node] == 0);
+            return;
+        }
+        assert (parent[child1] == node);
+        assert (parent[child2] == node);
+        assert (height[node] == 1 + Math.max(height[child1], height[child2]));
+        assert (lowerX[node] == Math.min(lowerX[child1], lowerX[child2]));
+        assert (lowerY[node] == Math.min(lowerY[child1], lowerY[child2]));
+        assert (upperX[node] == Math.max(upperX[child1], upperX[child2]));
+        assert (upperY[node] == Math.max(upperY[child1], upperY[child2]));
+        validate(child1);
+        validate(child2);
+    }
+
+    @Override
+    public void drawTree(DebugDraw argDraw)
+    {
+        if (root == NULL_NODE)
+        {
+            return;
+        }
+        int height = computeHeight();
+        drawTree(argDraw, root, 0, height);
+    }
+
+    public void drawTree(DebugDraw argDraw, int node, int spot, int height)
+    {
+        AABB a = drawAABB;
+        a.lowerBound.set(lowerX[node], lowerY[node]);
+        a.upperBound.set(upperX[node], upperY[node]);
+        a.getVertices(drawVecs);
+        color.set(1,
+            (height - spot) * 1f / height,
+            (height - spot) * 1f / height);
+        argDraw.drawPolygon(drawVecs, 4, color);
+        argDraw.getViewportTransform().getWorldToScreen(a.upperBound, textVec);
+        argDraw.drawString(textVec.x,
+            textVec.y,
+            node + "-" + (spot + 1) + "/" + height,
+            color);
+        int c1 = child1[node];
+        int c2 = child2[node];
+        if (c1 != NULL_NODE)
+        {
+            drawTree(argDraw, c1, spot + 1, height);
+        }
+        if (c2 != NULL_NODE)
+        {
+            drawTree(argDraw, c2, spot + 1, height);
+        }
+    }
+}
@@ -184,6 +184,14 @@ public class Island
 
     public int jointCapacity;
 
+    /**
+     * If set, {@link #solveConstraints} does not report the post solve impulses
+     * to the {@link #listener}. The world replays them later through
+     * {@link #reportPostSolve()} so that the listener is always called on the
+     * stepping thread and in a deterministic order.
+     */
+    public boolean deferReport;
+
     public Island()
     {
     }
@@ -254,6 +262,18 @@ public class Island
 
     public void solve(Profile profile, TimeStep step, Vec2 gravity,
             boolean allowSleep)
+    {
+        initConstraints(profile, step, gravity);
+        solveConstraints(profile, step, allowSleep);
+    }
+
+    /**
+     * Integrates the velocities and initializes the contact and joint
+     * constraints. This reads {@link Body#islandIndex}, so it has to run right
+     * after the island was built: static bodies may be part of several islands
+     * and get a new index in each of them.
+     */
+    public void initConstraints(Profile profile, TimeStep step, Vec2 gravity)
     {
         // System.out.println("Solving Island");
         float h = step.dt;
@@ -321,6 +341,18 @@ public class Island
             joints[i].initVelocityConstraints(solverData);
         }
         profile.solveInit.accum(timer.getMilliseconds());
+    }
+
+    /**
+     * Solves the constraints initialized by {@link #initConstraints}, writes
+     * the new state back to the bodies and puts resting islands to sleep. Only
+     * touches the bodies, contacts and joints of this island, so independent
+     * islands can be solved concurrently.
+     */
+    public void solveConstraints(Profile profile, TimeStep step,
+            boolean allowSleep)
+    {
+        float h = step.dt;
         // Solve velocity constraints
         timer.reset();
         // System.out.println("island solving velocities");
@@ -399,7 +431,10 @@ public class Island
             body.synchronizeTransform();
         }
         profile.solvePosition.accum(timer.getMilliseconds());
-        report(contactSolver.velocityConstraints);
+        if (!deferReport)
+        {
+            report(contactSolver.velocityConstraints);
+        }
         if (allowSleep)
         {
             float minSleepTime = Float.MAX_VALUE;
@@ -590,6 +625,15 @@ public class Island
 
     private final ContactImpulse impulse = new ContactImpulse();
 
+    /**
+     * Reports the impulses of the last {@link #solveConstraints} call to the
+     * listener.
+     */
+    public void reportPostSolve()
+    {
+        report(contactSolver.velocityConstraints);
+    }
+
     public void report(ContactVelocityConstraint[] constraints)
     {
         if (listener == null)
@@ -52,6 +52,8 @@ public class Profile
 
         float accum;
 
+        float last;
+
         public ProfileEntry()
         {
             min = Float.MAX_VALUE;
@@ -60,12 +62,21 @@ public class Profile
 
         public void record(float value)
         {
+            last = value;
             longAvg = longAvg * (1 - LONG_FRACTION) + value * LONG_FRACTION;
             shortAvg = shortAvg * (1 - SHORT_FRACTION) + value * SHORT_FRACTION;
             min = MathUtils.min(value, min);
             max = MathUtils.max(value, max);
         }
 
+        /**
+         * @return the most recently recorded value in milliseconds
+         */
+        public float last()
+        {
+            return last;
+        }
+
         public void startAccum()
         {
             accum = 0;
@@ -23,6 +23,13 @@
  */
 package org.jbox2d.dynamics;
 
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.jbox2d.callbacks.ContactFilter;
 import org.jbox2d.callbacks.ContactListener;
 import org.jbox2d.callbacks.DebugDraw;
@@ -63,6 +70,7 @@ import org.jbox2d.dynamics.contacts.ContactRegister;
 import org.jbox2d.dynamics.joints.Joint;
 import org.jbox2d.dynamics.joints.JointDef;
 import org.jbox2d.dynamics.joints.JointEdge;
+import org.jbox2d.dynamics.joints.JointType;
 import org.jbox2d.dynamics.joints.PulleyJoint;
 import org.jbox2d.particle.ParticleBodyContact;
 import org.jbox2d.particle.ParticleColor;
@@ -250,6 +258,68 @@ public class World
         return allowSleep;
     }
 
+    /**
+     * Set the number of threads that solve the islands of a time step.
+     *
+     * <p>
+     * With one thread (the default) the islands are built and solved one after
+     * another on the stepping thread. With more threads all islands are built
+     * first and then solved concurrently on a work-stealing pool. Every island
+     * only touches its own bodies, contacts and joints, so the results are the
+     * same as with one thread. Post solve callbacks of the contact listener are
+     * delivered on the stepping thread after all islands are solved, in the
+     * order in which the islands were built.
+     * </p>
+     *
+     * @param threads The number of solver threads, at least 1.
+     */
+    public void setSolverThreads(int threads)
+    {
+        if (threads < 1)
+        {
+            throw new IllegalArgumentException(
+                    "The number of solver threads must be at least 1, was "
+                            + threads);
+        }
+        if (threads == solverThreads)
+        {
+            return;
+        }
+        shutdownSolver();
+        solverThreads = threads;
+    }
+
+    /**
+     * Get the number of threads that solve the islands of a time step.
+     */
+    public int getSolverThreads()
+    {
+        return solverThreads;
+    }
+
+    /**
+     * Shut down the threads of the parallel island solver. They are started
+     * again with the next parallel time step.
+     */
+    public void shutdownSolver()
+    {
+        if (solverPool == null)
+        {
+            return;
+        }
+        solverPool.shutdown();
+        try
+        {
+            solverPool.awaitTermination(1, TimeUnit.SECONDS);
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+        }
+        solverPool = null;
+        solverTasks = null;
+    }
+
     private void addType(DynamicStack<Contact> creator, ShapeType type1,
             ShapeType type2)
     {
@@ -1256,6 +1326,38 @@ public class World
 
     private final Island island = new Island();
 
+    private int solverThreads = 1;
+
+    /**
+     * The pool of the parallel island solver, created with the first parallel
+     * time step.
+     */
+    private ForkJoinPool solverPool;
+
+    /**
+     * The reused solver tasks, one per solver thread. Each task owns its own
+     * world pool and profile.
+     */
+    private SolverTask[] solverTasks;
+
+    /**
+     * The islands of the current time step in the order in which they were
+     * built. The instances are reused across time steps.
+     */
+    private Island[] islands = new Island[0];
+
+    private int islandCount;
+
+    /**
+     * Whether the island at the same index was already solved while it was
+     * built, because its joints can't be solved concurrently.
+     */
+    private boolean[] islandSolved = new boolean[0];
+
+    private final AtomicInteger nextIsland = new AtomicInteger();
+
+    private TimeStep solverStep;
+
     private Body[] stack = new Body[10]; // TODO djm find a good initial stack
                                          // number;
 
@@ -1289,6 +1391,8 @@ public class World
         {
             j.islandFlag = false;
         }
+        boolean parallel = solverThreads > 1;
+        islandCount = 0;
         // Build and simulate all awake islands.
         int stackSize = bodyCount;
         if (stack.length < stackSize)
@@ -1388,7 +1492,14 @@ public class World
                     other.flags |= Body.islandFlag;
                 }
             }
-            island.solve(profile, step, gravity, allowSleep);
+            if (parallel)
+            {
+                collectIsland(step);
+            }
+            else
+            {
+                island.solve(profile, step, gravity, allowSleep);
+            }
             // Post solve cleanup.
             for (int i = 0; i < island.bodyCount; ++i)
             {
@@ -1400,6 +1511,10 @@ public class World
                 }
             }
         }
+        if (parallel)
+        {
+            solveIslands(step);
+        }
         profile.solveInit.endAccum();
         profile.solveVelocity.endAccum();
         profile.solvePosition.endAccum();
@@ -1424,6 +1539,176 @@ public class World
         profile.broadphase.record(broadphaseTimer.getMilliseconds());
     }
 
+    /**
+     * Copies the island that was just built into a reused island of its own and
+     * initializes its constraints while the island indices of its static bodies
+     * are still valid.
+     */
+    private void collectIsland(TimeStep step)
+    {
+        if (islandCount == islands.length)
+        {
+            int capacity = Math.max(16, islands.length * 2);
+            Island[] grown = new Island[capacity];
+            System.arraycopy(islands, 0, grown, 0, islandCount);
+            for (int i = islandCount; i < capacity; i++)
+            {
+                grown[i] = new Island();
+            }
+            islands = grown;
+            islandSolved = Arrays.copyOf(islandSolved, capacity);
+        }
+        Island target = islands[islandCount];
+        target.init(island.bodyCount,
+            island.contactCount,
+            island.jointCount,
+            contactManager.contactListener);
+        target.deferReport = true;
+        for (int i = 0; i < island.bodyCount; i++)
+        {
+            target.add(island.bodies[i]);
+        }
+        for (int i = 0; i < island.contactCount; i++)
+        {
+            target.add(island.contacts[i]);
+        }
+        boolean concurrent = true;
+        for (int i = 0; i < island.jointCount; i++)
+        {
+            Joint joint = island.joints[i];
+            target.add(joint);
+            // Constant volume joints look up the island indices of their
+            // bodies while solving.
+            concurrent &= joint.getType() != JointType.CONSTANT_VOLUME;
+        }
+        target.initConstraints(profile, step, gravity);
+        if (!concurrent)
+        {
+            target.solveConstraints(profile, step, allowSleep);
+        }
+        islandSolved[islandCount] = !concurrent;
+        islandCount++;
+    }
+
+    /**
+     * Solves the collected islands on the solver pool and replays the post
+     * solve callbacks in the order in which the islands were built.
+     */
+    private void solveIslands(TimeStep step)
+    {
+        if (islandCount > 1)
+        {
+            if (solverPool == null)
+            {
+                solverPool = new ForkJoinPool(solverThreads,
+                        World::newSolverThread, null, false);
+                solverTasks = new SolverTask[solverThreads];
+                for (int i = 0; i < solverThreads; i++)
+                {
+                    solverTasks[i] = new SolverTask();
+                }
+            }
+            solverStep = step;
+            nextIsland.set(0);
+            int tasks = Math.min(solverThreads, islandCount);
+            for (int i = 0; i < tasks; i++)
+            {
+                SolverTask task = solverTasks[i];
+                task.reinitialize();
+                task.profile.solveVelocity.startAccum();
+                task.profile.solvePosition.startAccum();
+                solverPool.execute(task);
+            }
+            RuntimeException failure = null;
+            for (int i = 0; i < tasks; i++)
+            {
+                SolverTask task = solverTasks[i];
+                try
+                {
+                    task.join();
+                }
+                catch (RuntimeException e)
+                {
+                    if (failure == null)
+                    {
+                        failure = e;
+                    }
+                    else
+                    {
+                        failure.addSuppressed(e);
+                    }
+                }
+                // The time summed up over all solver threads.
+                profile.solveVelocity.accum(task.profile.solveVelocity.accum);
+                profile.solvePosition.accum(task.profile.solvePosition.accum);
+            }
+            solverStep = null;
+            if (failure != null)
+            {
+                throw failure;
+            }
+        }
+        else if (islandCount == 1 && !islandSolved[0])
+        {
+            islands[0].solveConstraints(profile, step, allowSleep);
+        }
+        for (int i = 0; i < islandCount; i++)
+        {
+            islands[i].reportPostSolve();
+        }
+    }
+
+    private static ForkJoinWorkerThread newSolverThread(ForkJoinPool pool)
+    {
+        ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory
+            .newThread(pool);
+        thread.setName("jbox2d-solver-" + thread.getPoolIndex());
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    /**
+     * A reused task that takes the next unsolved island until all islands are
+     * solved. Since there is one task per solver thread, the world pool and the
+     * profile of a task are never used by two threads at the same time.
+     */
+    private final class SolverTask extends RecursiveAction
+    {
+        private final WorldPool taskPool = new DefaultWorldPool(WORLD_POOL_SIZE,
+                WORLD_POOL_CONTAINER_SIZE);
+
+        private final Profile profile = new Profile();
+
+        @Override
+        protected void compute()
+        {
+            int index;
+            while ((index = nextIsland.getAndIncrement()) < islandCount)
+            {
+                if (islandSolved[index])
+                {
+                    continue;
+                }
+                Island target = islands[index];
+                for (int i = 0; i < target.jointCount; i++)
+                {
+                    target.joints[i].setPool(taskPool);
+                }
+                try
+                {
+                    target.solveConstraints(profile, solverStep, allowSleep);
+                }
+                finally
+                {
+                    for (int i = 0; i < target.jointCount; i++)
+                    {
+                        target.joints[i].setPool(pool);
+                    }
+                }
+            }
+        }
+    }
+
     private final Island toiIsland = new Island();
 
     private final TOIInput toiInput = new TOIInput();
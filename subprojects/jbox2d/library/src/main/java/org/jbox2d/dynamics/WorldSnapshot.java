@@ -0,0 +1,759 @@
+/*
+ * Copyright (c) 2026, Josef Friedrich and contributors
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ * 	* Redistributions of source code must retain the above copyright notice,
+ * 	  this list of conditions and the following disclaimer.
+ * 	* Redistributions in binary form must reproduce the above copyright notice,
+ * 	  this list of conditions and the following disclaimer in the documentation
+ * 	  and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT
+ * NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.jbox2d.dynamics;
+
+import java.nio.ByteBuffer;
+
+import org.jbox2d.callbacks.ContactListener;
+import org.jbox2d.collision.AABB;
+import org.jbox2d.collision.ContactID;
+import org.jbox2d.collision.Manifold;
+import org.jbox2d.collision.Manifold.ManifoldType;
+import org.jbox2d.collision.ManifoldPoint;
+import org.jbox2d.collision.broadphase.BroadPhase;
+import org.jbox2d.collision.broadphase.DefaultBroadPhaseBuffer;
+import org.jbox2d.collision.broadphase.FatAABBRestorable;
+import org.jbox2d.common.Sweep;
+import org.jbox2d.common.Transform;
+import org.jbox2d.dynamics.contacts.Contact;
+import org.jbox2d.dynamics.contacts.ContactEdge;
+import org.jbox2d.dynamics.joints.Joint;
+
+/**
+ * A flat binary copy of the dynamic state of a {@link World}: body transforms,
+ * sweeps, velocities, forces and sleep state, the fat AABBs of the broad-phase
+ * proxies, the solver state of the joints and the contacts including their
+ * manifolds and warm starting impulses. Capturing and restoring reuse one
+ * {@link ByteBuffer} and do not allocate once the buffer is large enough, so a
+ * snapshot can be taken every time step.
+ *
+ * <p>
+ * Restoring a snapshot into the world it was captured from (or into a world
+ * with the same bodies, fixtures and joints created in the same order) is bit
+ * exact: stepping the restored world produces the same results as stepping the
+ * world at the time of the capture. Structural changes such as created or
+ * destroyed bodies are not part of the snapshot. Contact listeners are not
+ * notified about contacts that are created or destroyed by a restore. Particles
+ * are not captured.
+ * </p>
+ *
+ * <p>
+ * Snapshots require a broad-phase that is {@link FatAABBRestorable}, such as
+ * the default {@link DefaultBroadPhaseBuffer broad-phase} with one of the
+ * bundled trees. Worlds with another broad-phase, such as the native one, are
+ * rejected by {@link #capture(World)} and {@link #restore(World)}.
+ * </p>
+ *
+ * <p>
+ * Two snapshots can be XOR encoded with
+ * {@link #encodeDelta(WorldSnapshot, ByteBuffer)}. Consecutive snapshots share
+ * most of their bytes, so the run-length encoded delta is usually much smaller
+ * than a snapshot. Because XOR is symmetric, the same delta turns either
+ * snapshot into the other one.
+ * </p>
+ */
+public class WorldSnapshot
+{
+    private static final int MAGIC = 0x4a42534e;
+
+    private static final int DELTA_MAGIC = 0x4a42444c;
+
+    private static final int HEADER_SIZE = 5 * 4;
+
+    private static final int BODY_SIZE = 25 * 4;
+
+    private static final int PROXY_SIZE = 5 * 4;
+
+    private static final int CONTACT_SIZE = 14 * 4;
+
+    private static final int POINT_SIZE = 5 * 4;
+
+    private static final int DELTA_HEADER_SIZE = 4 * 4;
+
+    /**
+     * Marks the contacts of the world that are not part of the snapshot while
+     * it is restored.
+     */
+    private static final int STALE_FLAG = 0x80000000;
+
+    private static final ManifoldType[] MANIFOLD_TYPES = ManifoldType.values();
+
+    private ByteBuffer buffer;
+
+    private int size;
+
+    /**
+     * The fixture proxies of the world by proxy id, filled during a restore.
+     */
+    private FixtureProxy[] proxies = new FixtureProxy[16];
+
+    /**
+     * The contacts of the world in snapshot order, filled during a restore.
+     */
+    private Contact[] contacts = new Contact[16];
+
+    private final AABB fatAABB = new AABB();
+
+    public WorldSnapshot()
+    {
+        this(1024);
+    }
+
+    /**
+     * @param initialCapacity The initial size of the buffer in bytes. The
+     *     buffer grows when a larger world is captured.
+     */
+    public WorldSnapshot(int initialCapacity)
+    {
+        buffer = ByteBuffer.allocate(Math.max(initialCapacity, HEADER_SIZE));
+    }
+
+    /**
+     * Get the number of bytes of the snapshot. This is 0 before the first
+     * capture.
+     */
+    public int getSize()
+    {
+        return size;
+    }
+
+    /**
+     * Check whether both snapshots were captured from worlds with the same
+     * number of bodies, fixture proxies and joints, so that one can be restored
+     * where the other one was captured.
+     */
+    public boolean hasSameStructure(WorldSnapshot other)
+    {
+        return size >= HEADER_SIZE && other.size >= HEADER_SIZE
+                && buffer.getInt(4) == other.buffer.getInt(4)
+                && buffer.getInt(8) == other.buffer.getInt(8)
+                && buffer.getInt(12) == other.buffer.getInt(12);
+    }
+
+    /**
+     * Get the buffer holding the snapshot, positioned at 0 and limited to
+     * {@link #getSize()}. The buffer must not be modified and is only valid
+     * until the snapshot changes.
+     */
+    public ByteBuffer getBuffer()
+    {
+        buffer.clear();
+        buffer.limit(size);
+        return buffer;
+    }
+
+    /**
+     * Copy another snapshot into this one.
+     */
+    public void set(WorldSnapshot other)
+    {
+        ensureCapacity(other.size, false);
+        System
+            .arraycopy(other.buffer.array(), 0, buffer.array(), 0, other.size);
+        size = other.size;
+    }
+
+    /**
+     * Read a snapshot from the remaining bytes of the source buffer, for
+     * example one that was written to a file from {@link #getBuffer()}.
+     */
+    public void load(ByteBuffer source)
+    {
+        int length = source.remaining();
+        if (length < HEADER_SIZE || source.getInt(source.position()) != MAGIC)
+        {
+            throw new IllegalArgumentException("Not a world snapshot");
+        }
+        ensureCapacity(length, false);
+        source.get(buffer.array(), 0, length);
+        size = length;
+    }
+
+    /**
+     * Capture the dynamic state of the world. Must not be called during a time
+     * step.
+     *
+     * @throws IllegalStateException If the world is locked or does not use the
+     *     default broad-phase.
+     */
+    public void capture(World world)
+    {
+        if (world.isLocked())
+        {
+            throw new IllegalStateException(
+                    "Cannot capture a snapshot during a time step");
+        }
+        ContactManager contactManager = world.contactManager;
+        BroadPhase broadPhase = checkBroadPhase(world);
+        int bodyCount = 0;
+        int proxyCount = 0;
+        int jointCount = 0;
+        int contactCount = 0;
+        int bytes = HEADER_SIZE;
+        for (Body b = world.getBodyList(); b != null; b = b.next)
+        {
+            bodyCount++;
+            for (Fixture f = b.fixtureList; f != null; f = f.next)
+            {
+                proxyCount += f.proxyCount;
+            }
+        }
+        for (Joint j = world.getJointList(); j != null; j = j.next)
+        {
+            jointCount++;
+            bytes += j.getStateSize();
+        }
+        for (Contact c = contactManager.contactList; c != null; c = c.next)
+        {
+            contactCount++;
+            bytes += CONTACT_SIZE + c.manifold.pointCount * POINT_SIZE;
+        }
+        bytes += bodyCount * BODY_SIZE + proxyCount * PROXY_SIZE;
+        ensureCapacity(bytes, false);
+        ByteBuffer out = buffer;
+        out.clear();
+        out.putInt(MAGIC);
+        out.putInt(bodyCount);
+        out.putInt(proxyCount);
+        out.putInt(jointCount);
+        out.putInt(contactCount);
+        for (Body b = world.getBodyList(); b != null; b = b.next)
+        {
+            putTransform(out, b.xf);
+            putTransform(out, b.xf0);
+            Sweep sweep = b.sweep;
+            out.putFloat(sweep.localCenter.x);
+            out.putFloat(sweep.localCenter.y);
+            out.putFloat(sweep.c0.x);
+            out.putFloat(sweep.c0.y);
+            out.putFloat(sweep.c.x);
+            out.putFloat(sweep.c.y);
+            out.putFloat(sweep.a0);
+            out.putFloat(sweep.a);
+            out.putFloat(sweep.alpha0);
+            out.putFloat(b.linearVelocity.x);
+            out.putFloat(b.linearVelocity.y);
+            out.putFloat(b.angularVelocity);
+            out.putFloat(b.force.x);
+            out.putFloat(b.force.y);
+            out.putFloat(b.torque);
+            out.putFloat(b.sleepTime);
+            out.putInt(b.flags & Body.awakeFlag);
+        }
+        for (Body b = world.getBodyList(); b != null; b = b.next)
+        {
+            for (Fixture f = b.fixtureList; f != null; f = f.next)
+            {
+                for (int i = 0; i < f.proxyCount; i++)
+                {
+                    int proxyId = f.proxies[i].proxyId;
+                    AABB fat = broadPhase.getFatAABB(proxyId);
+                    out.putInt(proxyId);
+                    out.putFloat(fat.lowerBound.x);
+                    out.putFloat(fat.lowerBound.y);
+                    out.putFloat(fat.upperBound.x);
+                    out.putFloat(fat.upperBound.y);
+                }
+            }
+        }
+        for (Joint j = world.getJointList(); j != null; j = j.next)
+        {
+            j.saveState(out);
+        }
+        for (Contact c = contactManager.contactList; c != null; c = c.next)
+        {
+            out.putInt(c.fixtureA.proxies[c.indexA].proxyId);
+            out.putInt(c.fixtureB.proxies[c.indexB].proxyId);
+            out.putInt(c.flags);
+            out.putFloat(c.toiCount);
+            out.putFloat(c.toi);
+            out.putFloat(c.friction);
+            out.putFloat(c.restitution);
+            out.putFloat(c.tangentSpeed);
+            Manifold manifold = c.manifold;
+            // Contacts whose fixtures never touched have no manifold type.
+            out.putInt(manifold.type == null ? -1 : manifold.type.ordinal());
+            out.putInt(manifold.pointCount);
+            out.putFloat(manifold.localNormal.x);
+            out.putFloat(manifold.localNormal.y);
+            out.putFloat(manifold.localPoint.x);
+            out.putFloat(manifold.localPoint.y);
+            for (int i = 0; i < manifold.pointCount; i++)
+            {
+                ManifoldPoint point = manifold.points[i];
+                out.putFloat(point.localPoint.x);
+                out.putFloat(point.localPoint.y);
+                out.putFloat(point.normalImpulse);
+                out.putFloat(point.tangentImpulse);
+                ContactID id = point.id;
+                out.putInt((id.indexA & 0xff) << 24 | (id.indexB & 0xff) << 16
+                        | (id.typeA & 0xff) << 8 | id.typeB & 0xff);
+            }
+        }
+        size = out.position();
+    }
+
+    /**
+     * Restore the dynamic state of the world from this snapshot. The world must
+     * have the same bodies, fixtures and joints in the same order as the
+     * captured world. Must not be called during a time step.
+     *
+     * @throws IllegalStateException If the snapshot is empty, does not match
+     *     the structure of the world or the world does not use the default
+     *     broad-phase.
+     */
+    public void restore(World world)
+    {
+        if (world.isLocked())
+        {
+            throw new IllegalStateException(
+                    "Cannot restore a snapshot during a time step");
+        }
+        checkBroadPhase(world);
+        ByteBuffer in = buffer;
+        if (size < HEADER_SIZE || in.getInt(0) != MAGIC)
+        {
+            throw new IllegalStateException("The snapshot is empty");
+        }
+        int bodyCount = in.getInt(4);
+        int proxyCount = in.getInt(8);
+        int jointCount = in.getInt(12);
+        int contactCount = in.getInt(16);
+        int worldBodies = 0;
+        int worldProxies = 0;
+        int worldJoints = 0;
+        int jointBytes = 0;
+        for (Body b = world.getBodyList(); b != null; b = b.next)
+        {
+            worldBodies++;
+            for (Fixture f = b.fixtureList; f != null; f = f.next)
+            {
+                worldProxies += f.proxyCount;
+            }
+        }
+        for (Joint j = world.getJointList(); j != null; j = j.next)
+        {
+            worldJoints++;
+            jointBytes += j.getStateSize();
+        }
+        if (bodyCount != worldBodies || proxyCount != worldProxies
+                || jointCount != worldJoints)
+        {
+            throw new IllegalStateException(
+                    "The snapshot does not match the structure of the world");
+        }
+        in.clear();
+        in.limit(size);
+        in.position(HEADER_SIZE + bodyCount * BODY_SIZE);
+        restoreProxies(world, in);
+        for (Joint j = world.getJointList(); j != null; j = j.next)
+        {
+            j.loadState(in);
+        }
+        assert in.position() == HEADER_SIZE + bodyCount * BODY_SIZE
+                + proxyCount * PROXY_SIZE + jointBytes;
+        restoreContacts(world, in, contactCount);
+        // Destroying stale contacts wakes their bodies, so the bodies are
+        // restored last.
+        in.position(HEADER_SIZE);
+        for (Body b = world.getBodyList(); b != null; b = b.next)
+        {
+            getTransform(in, b.xf);
+            getTransform(in, b.xf0);
+            Sweep sweep = b.sweep;
+            sweep.localCenter.x = in.getFloat();
+            sweep.localCenter.y = in.getFloat();
+            sweep.c0.x = in.getFloat();
+            sweep.c0.y = in.getFloat();
+            sweep.c.x = in.getFloat();
+            sweep.c.y = in.getFloat();
+            sweep.a0 = in.getFloat();
+            sweep.a = in.getFloat();
+            sweep.alpha0 = in.getFloat();
+            b.linearVelocity.x = in.getFloat();
+            b.linearVelocity.y = in.getFloat();
+            b.angularVelocity = in.getFloat();
+            b.force.x = in.getFloat();
+            b.force.y = in.getFloat();
+            b.torque = in.getFloat();
+            b.sleepTime = in.getFloat();
+            b.flags = b.flags & ~Body.awakeFlag | in.getInt();
+        }
+    }
+
+    /**
+     * Only broad-phases that can overwrite the fat AABBs of their proxies can
+     * be restored.
+     */
+    private static BroadPhase checkBroadPhase(World world)
+    {
+        BroadPhase broadPhase = world.contactManager.broadPhase;
+        if (!(broadPhase instanceof FatAABBRestorable)
+                || broadPhase instanceof DefaultBroadPhaseBuffer
+                        && !((DefaultBroadPhaseBuffer) broadPhase)
+                            .canRestoreFatAABBs())
+        {
+            throw new IllegalStateException(
+                    "World snapshots require a broad-phase that can restore fat AABBs, but the world uses "
+                            + broadPhase.getClass().getName());
+        }
+        return broadPhase;
+    }
+
+    private void restoreProxies(World world, ByteBuffer in)
+    {
+        BroadPhase broadPhase = world.contactManager.broadPhase;
+        FatAABBRestorable restorable = (FatAABBRestorable) broadPhase;
+        for (Body b = world.getBodyList(); b != null; b = b.next)
+        {
+            for (Fixture f = b.fixtureList; f != null; f = f.next)
+            {
+                for (int i = 0; i < f.proxyCount; i++)
+                {
+                    FixtureProxy proxy = f.proxies[i];
+                    int proxyId = in.getInt();
+                    if (proxyId != proxy.proxyId)
+                    {
+                        throw new IllegalStateException(
+                                "The snapshot does not match the structure of the world");
+                    }
+                    fatAABB.lowerBound.x = in.getFloat();
+                    fatAABB.lowerBound.y = in.getFloat();
+                    fatAABB.upperBound.x = in.getFloat();
+                    fatAABB.upperBound.y = in.getFloat();
+                    if (!sameBits(fatAABB, broadPhase.getFatAABB(proxyId)))
+                    {
+                        restorable.setFatAABB(proxyId, fatAABB);
+                    }
+                    if (proxyId >= proxies.length)
+                    {
+                        FixtureProxy[] grown = new FixtureProxy[Math
+                            .max(proxyId + 1, proxies.length * 2)];
+                        System.arraycopy(proxies, 0, grown, 0, proxies.length);
+                        proxies = grown;
+                    }
+                    proxies[proxyId] = proxy;
+                }
+            }
+        }
+    }
+
+    private void restoreContacts(World world, ByteBuffer in, int contactCount)
+    {
+        ContactManager contactManager = world.contactManager;
+        for (Contact c = contactManager.contactList; c != null; c = c.next)
+        {
+            c.flags |= STALE_FLAG;
+        }
+        if (contacts.length < contactCount)
+        {
+            contacts = new Contact[Math.max(contactCount, contacts.length * 2)];
+        }
+        for (int i = 0; i < contactCount; i++)
+        {
+            FixtureProxy proxyA = proxies[in.getInt()];
+            FixtureProxy proxyB = proxies[in.getInt()];
+            Contact c = findContact(proxyA, proxyB);
+            if (c == null)
+            {
+                c = world.popContact(proxyA.fixture,
+                    proxyA.childIndex,
+                    proxyB.fixture,
+                    proxyB.childIndex);
+            }
+            c.flags = in.getInt();
+            c.toiCount = in.getFloat();
+            c.toi = in.getFloat();
+            c.friction = in.getFloat();
+            c.restitution = in.getFloat();
+            c.tangentSpeed = in.getFloat();
+            Manifold manifold = c.manifold;
+            int type = in.getInt();
+            manifold.type = type < 0 ? null : MANIFOLD_TYPES[type];
+            manifold.pointCount = in.getInt();
+            manifold.localNormal.x = in.getFloat();
+            manifold.localNormal.y = in.getFloat();
+            manifold.localPoint.x = in.getFloat();
+            manifold.localPoint.y = in.getFloat();
+            for (int j = 0; j < manifold.pointCount; j++)
+            {
+                ManifoldPoint point = manifold.points[j];
+                point.localPoint.x = in.getFloat();
+                point.localPoint.y = in.getFloat();
+                point.normalImpulse = in.getFloat();
+                point.tangentImpulse = in.getFloat();
+                int key = in.getInt();
+                ContactID id = point.id;
+                id.indexA = (byte) (key >>> 24);
+                id.indexB = (byte) (key >>> 16);
+                id.typeA = (byte) (key >>> 8);
+                id.typeB = (byte) key;
+            }
+            contacts[i] = c;
+        }
+        ContactListener listener = contactManager.contactListener;
+        contactManager.contactListener = null;
+        try
+        {
+            Contact c = contactManager.contactList;
+            while (c != null)
+            {
+                Contact next = c.next;
+                if ((c.flags & STALE_FLAG) != 0)
+                {
+                    contactManager.destroy(c);
+                }
+                c = next;
+            }
+        }
+        finally
+        {
+            contactManager.contactListener = listener;
+        }
+        // New contacts are prepended to the world list and to the contact
+        // lists of both bodies, so the body lists follow the order of the
+        // world list.
+        for (Body b = world.getBodyList(); b != null; b = b.next)
+        {
+            b.contactList = null;
+        }
+        Contact next = null;
+        for (int i = contactCount - 1; i >= 0; i--)
+        {
+            Contact c = contacts[i];
+            contacts[i] = null;
+            c.next = next;
+            c.prev = null;
+            if (next != null)
+            {
+                next.prev = c;
+            }
+            next = c;
+            Body bodyA = c.fixtureA.body;
+            Body bodyB = c.fixtureB.body;
+            link(c.nodeA, c, bodyA, bodyB);
+            link(c.nodeB, c, bodyB, bodyA);
+        }
+        contactManager.contactList = next;
+        contactManager.contactCount = contactCount;
+        for (int i = 0; i < proxies.length; i++)
+        {
+            proxies[i] = null;
+        }
+    }
+
+    private static Contact findContact(FixtureProxy proxyA, FixtureProxy proxyB)
+    {
+        for (ContactEdge edge = proxyB.fixture.body.contactList; edge != null; edge = edge.next)
+        {
+            Contact c = edge.contact;
+            if (c.fixtureA == proxyA.fixture && c.indexA == proxyA.childIndex
+                    && c.fixtureB == proxyB.fixture
+                    && c.indexB == proxyB.childIndex)
+            {
+                return c;
+            }
+        }
+        return null;
+    }
+
+    private static void link(ContactEdge edge, Contact contact, Body body,
+            Body other)
+    {
+        edge.contact = contact;
+        edge.other = other;
+        edge.prev = null;
+        edge.next = body.contactList;
+        if (body.contactList != null)
+        {
+            body.contactList.prev = edge;
+        }
+        body.contactList = edge;
+    }
+
+    /**
+     * Get the number of bytes {@link #encodeDelta(WorldSnapshot, ByteBuffer)}
+     * writes at most for this and the other snapshot.
+     */
+    public int getMaxDeltaSize(WorldSnapshot other)
+    {
+        int words = Math.max(size, other.size) >> 2;
+        return DELTA_HEADER_SIZE + 4 * words + 8 * ((words + 2) / 3);
+    }
+
+    /**
+     * Write the XOR difference between this and the other snapshot to the
+     * buffer, starting at its position. Runs of unchanged words are skipped, so
+     * the delta of two consecutive snapshots is small.
+     *
+     * @return The number of bytes written, at most
+     *     {@link #getMaxDeltaSize(WorldSnapshot)}.
+     */
+    public int encodeDelta(WorldSnapshot other, ByteBuffer out)
+    {
+        int start = out.position();
+        int words = Math.max(size, other.size) >> 2;
+        out.putInt(DELTA_MAGIC);
+        out.putInt(size);
+        out.putInt(other.size);
+        int runCountPosition = out.position();
+        out.putInt(0);
+        int runs = 0;
+        int i = 0;
+        while (i < words)
+        {
+            int zeroStart = i;
+            while (i < words && xorWord(other, i) == 0)
+            {
+                i++;
+            }
+            if (i == words)
+            {
+                break;
+            }
+            int literalStart = i;
+            // A single unchanged word does not end a literal run, since a new
+            // run costs two words.
+            while (i < words && (xorWord(other, i) != 0
+                    || i + 1 < words && xorWord(other, i + 1) != 0))
+            {
+                i++;
+            }
+            out.putInt(literalStart - zeroStart);
+            out.putInt(i - literalStart);
+            for (int j = literalStart; j < i; j++)
+            {
+                out.putInt(xorWord(other, j));
+            }
+            runs++;
+        }
+        out.putInt(runCountPosition, runs);
+        return out.position() - start;
+    }
+
+    /**
+     * Apply a delta written by {@link #encodeDelta(WorldSnapshot, ByteBuffer)},
+     * reading it from the position of the buffer. If this snapshot is one of
+     * the two snapshots the delta was encoded from, it becomes the other one.
+     *
+     * @throws IllegalArgumentException If the buffer does not contain a delta
+     *     or the delta does not fit this snapshot.
+     */
+    public void applyDelta(ByteBuffer delta)
+    {
+        if (delta.getInt() != DELTA_MAGIC)
+        {
+            throw new IllegalArgumentException("Not a snapshot delta");
+        }
+        int sizeA = delta.getInt();
+        int sizeB = delta.getInt();
+        int runs = delta.getInt();
+        int target;
+        if (size == sizeA)
+        {
+            target = sizeB;
+        }
+        else if (size == sizeB)
+        {
+            target = sizeA;
+        }
+        else
+        {
+            throw new IllegalArgumentException(
+                    "The delta does not belong to this snapshot");
+        }
+        int max = Math.max(sizeA, sizeB);
+        ensureCapacity(max, true);
+        byte[] array = buffer.array();
+        for (int i = size; i < max; i++)
+        {
+            array[i] = 0;
+        }
+        ByteBuffer data = buffer;
+        data.clear();
+        int word = 0;
+        for (int r = 0; r < runs; r++)
+        {
+            word += delta.getInt();
+            int literals = delta.getInt();
+            for (int j = 0; j < literals; j++, word++)
+            {
+                int index = word << 2;
+                data.putInt(index, data.getInt(index) ^ delta.getInt());
+            }
+        }
+        size = target;
+    }
+
+    private int xorWord(WorldSnapshot other, int word)
+    {
+        int index = word << 2;
+        int a = index < size ? buffer.getInt(index) : 0;
+        int b = index < other.size ? other.buffer.getInt(index) : 0;
+        return a ^ b;
+    }
+
+    private void ensureCapacity(int bytes, boolean preserve)
+    {
+        if (buffer.capacity() >= bytes)
+        {
+            return;
+        }
+        ByteBuffer grown = ByteBuffer
+            .allocate(Math.max(bytes, buffer.capacity() * 2));
+        if (preserve)
+        {
+            System.arraycopy(buffer.array(), 0, grown.array(), 0, size);
+        }
+        buffer = grown;
+    }
+
+    private static boolean sameBits(AABB a, AABB b)
+    {
+        return Float.floatToRawIntBits(a.lowerBound.x) == Float
+            .floatToRawIntBits(b.lowerBound.x)
+                && Float.floatToRawIntBits(a.lowerBound.y) == Float
+                    .floatToRawIntBits(b.lowerBound.y)
+                && Float.floatToRawIntBits(a.upperBound.x) == Float
+                    .floatToRawIntBits(b.upperBound.x)
+                && Float.floatToRawIntBits(a.upperBound.y) == Float
+                    .floatToRawIntBits(b.upperBound.y);
+    }
+
+    private static void putTransform(ByteBuffer out, Transform xf)
+    {
+        out.putFloat(xf.p.x);
+        out.putFloat(xf.p.y);
+        out.putFloat(xf.q.s);
+        out.putFloat(xf.q.c);
+    }
+
+    private static void getTransform(ByteBuffer in, Transform xf)
+    {
+        xf.p.x = in.getFloat();
+        xf.p.y = in.getFloat();
+        xf.q.s = in.getFloat();
+        xf.q.c = in.getFloat();
+    }
+}
@@ -110,6 +110,12 @@ public abstract class Contact
 
     public float tangentSpeed;
 
+    /**
+     * Use this to store application specific contact data. It is cleared when
+     * the contact is taken from the pool.
+     */
+    public Object userData;
+
     protected final WorldPool pool;
 
     protected Contact(WorldPool argPool)
@@ -147,6 +153,7 @@ public abstract class Contact
         friction = Contact.mixFriction(fA.friction, fB.friction);
         restitution = Contact.mixRestitution(fA.restitution, fB.restitution);
         tangentSpeed = 0;
+        userData = null;
     }
 
     /**
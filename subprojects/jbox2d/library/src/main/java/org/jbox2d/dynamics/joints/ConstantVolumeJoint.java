@@ -23,6 +23,8 @@
  */
 package org.jbox2d.dynamics.joints;
 
+import java.nio.ByteBuffer;
+
 import org.jbox2d.common.MathUtils;
 import org.jbox2d.common.Settings;
 import org.jbox2d.common.Vec2;
@@ -313,4 +315,22 @@ public class ConstantVolumeJoint extends Joint
     {
         return 0;
     }
+
+    @Override
+    public int getStateSize()
+    {
+        return 4;
+    }
+
+    @Override
+    public void saveState(ByteBuffer buffer)
+    {
+        buffer.putFloat(impulse);
+    }
+
+    @Override
+    public void loadState(ByteBuffer buffer)
+    {
+        impulse = buffer.getFloat();
+    }
 }
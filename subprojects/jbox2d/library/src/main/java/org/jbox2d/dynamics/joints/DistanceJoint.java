@@ -23,6 +23,8 @@
  */
 package org.jbox2d.dynamics.joints;
 
+import java.nio.ByteBuffer;
+
 import org.jbox2d.common.MathUtils;
 import org.jbox2d.common.Rot;
 import org.jbox2d.common.Settings;
@@ -451,4 +453,21 @@ public class DistanceJoint extends Joint
         return localAnchorB;
     }
 
+    @Override
+    public int getStateSize()
+    {
+        return 4;
+    }
+
+    @Override
+    public void saveState(ByteBuffer buffer)
+    {
+        buffer.putFloat(impulse);
+    }
+
+    @Override
+    public void loadState(ByteBuffer buffer)
+    {
+        impulse = buffer.getFloat();
+    }
 }
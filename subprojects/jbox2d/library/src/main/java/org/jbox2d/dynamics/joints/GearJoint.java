@@ -23,6 +23,8 @@
  */
 package org.jbox2d.dynamics.joints;
 
+import java.nio.ByteBuffer;
+
 import org.jbox2d.common.Rot;
 import org.jbox2d.common.Settings;
 import org.jbox2d.common.Transform;
@@ -508,4 +510,22 @@ public class GearJoint extends Joint
         // TODO_ERIN not implemented
         return linearError < Settings.linearSlop;
     }
+
+    @Override
+    public int getStateSize()
+    {
+        return 4;
+    }
+
+    @Override
+    public void saveState(ByteBuffer buffer)
+    {
+        buffer.putFloat(impulse);
+    }
+
+    @Override
+    public void loadState(ByteBuffer buffer)
+    {
+        impulse = buffer.getFloat();
+    }
 }
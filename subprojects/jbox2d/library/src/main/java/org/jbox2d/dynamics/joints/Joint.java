@@ -23,6 +23,8 @@
  */
 package org.jbox2d.dynamics.joints;
 
+import java.nio.ByteBuffer;
+
 import org.jbox2d.common.Vec2;
 import org.jbox2d.dynamics.Body;
 import org.jbox2d.dynamics.SolverData;
@@ -60,6 +62,8 @@ import org.jbox2d.pooling.WorldPool;
  */
 public abstract class Joint
 {
+    private static final LimitState[] LIMIT_STATES = LimitState.values();
+
     public static Joint create(World world, JointDef def)
     {
         // Joint joint = null;
@@ -211,6 +215,24 @@ public abstract class Joint
         userData = data;
     }
 
+    /**
+     * Get the pool that provides the temporary objects of the solver methods.
+     */
+    public WorldPool getPool()
+    {
+        return pool;
+    }
+
+    /**
+     * Set the pool that provides the temporary objects of the solver methods.
+     * The parallel island solver hands each joint the pool of the thread that
+     * solves its island.
+     */
+    public void setPool(WorldPool pool)
+    {
+        this.pool = pool;
+    }
+
     /**
      * Get collide connected. Note: modifying the collide connect flag won't
      * work correctly because the flag is only checked when fixture AABBs begin
@@ -245,6 +267,37 @@ public abstract class Joint
      */
     public abstract boolean solvePositionConstraints(SolverData data);
 
+    /**
+     * Get the number of bytes {@link #saveState(ByteBuffer)} writes. Override
+     * together with the save and load methods if the joint carries solver state
+     * from one time step to the next.
+     */
+    public int getStateSize()
+    {
+        return 0;
+    }
+
+    /**
+     * Write the solver state that survives a time step, such as the accumulated
+     * impulses used for warm starting, to the buffer. Used by
+     * {@link org.jbox2d.dynamics.WorldSnapshot}.
+     */
+    public void saveState(ByteBuffer buffer)
+    {
+    }
+
+    /**
+     * Read the solver state written by {@link #saveState(ByteBuffer)}.
+     */
+    public void loadState(ByteBuffer buffer)
+    {
+    }
+
+    protected static LimitState readLimitState(ByteBuffer buffer)
+    {
+        return LIMIT_STATES[buffer.getInt()];
+    }
+
     /**
      * Override to handle destruction of joint
      */
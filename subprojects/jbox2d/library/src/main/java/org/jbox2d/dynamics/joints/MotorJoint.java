@@ -23,6 +23,8 @@
  */
 package org.jbox2d.dynamics.joints;
 
+import java.nio.ByteBuffer;
+
 import org.jbox2d.common.Mat22;
 import org.jbox2d.common.MathUtils;
 import org.jbox2d.common.Rot;
@@ -376,4 +378,26 @@ public class MotorJoint extends Joint
     {
         return true;
     }
+
+    @Override
+    public int getStateSize()
+    {
+        return 12;
+    }
+
+    @Override
+    public void saveState(ByteBuffer buffer)
+    {
+        buffer.putFloat(linearImpulse.x);
+        buffer.putFloat(linearImpulse.y);
+        buffer.putFloat(angularImpulse);
+    }
+
+    @Override
+    public void loadState(ByteBuffer buffer)
+    {
+        linearImpulse.x = buffer.getFloat();
+        linearImpulse.y = buffer.getFloat();
+        angularImpulse = buffer.getFloat();
+    }
 }
@@ -23,6 +23,8 @@
  */
 package org.jbox2d.dynamics.joints;
 
+import java.nio.ByteBuffer;
+
 import org.jbox2d.common.Mat22;
 import org.jbox2d.common.MathUtils;
 import org.jbox2d.common.Rot;
@@ -285,4 +287,24 @@ public class MouseJoint extends Joint
         data.velocities[indexB].w = wB;
         pool.pushVec2(3);
     }
+
+    @Override
+    public int getStateSize()
+    {
+        return 8;
+    }
+
+    @Override
+    public void saveState(ByteBuffer buffer)
+    {
+        buffer.putFloat(impulse.x);
+        buffer.putFloat(impulse.y);
+    }
+
+    @Override
+    public void loadState(ByteBuffer buffer)
+    {
+        impulse.x = buffer.getFloat();
+        impulse.y = buffer.getFloat();
+    }
 }
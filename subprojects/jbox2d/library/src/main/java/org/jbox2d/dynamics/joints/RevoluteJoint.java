@@ -23,6 +23,8 @@
  */
 package org.jbox2d.dynamics.joints;
 
+import java.nio.ByteBuffer;
+
 import org.jbox2d.common.Mat22;
 import org.jbox2d.common.Mat33;
 import org.jbox2d.common.MathUtils;
@@ -690,4 +692,30 @@ public class RevoluteJoint extends Joint
             upperAngle = upper;
         }
     }
+
+    @Override
+    public int getStateSize()
+    {
+        return 20;
+    }
+
+    @Override
+    public void saveState(ByteBuffer buffer)
+    {
+        buffer.putFloat(impulse.x);
+        buffer.putFloat(impulse.y);
+        buffer.putFloat(impulse.z);
+        buffer.putFloat(motorImpulse);
+        buffer.putInt(limitState.ordinal());
+    }
+
+    @Override
+    public void loadState(ByteBuffer buffer)
+    {
+        impulse.x = buffer.getFloat();
+        impulse.y = buffer.getFloat();
+        impulse.z = buffer.getFloat();
+        motorImpulse = buffer.getFloat();
+        limitState = readLimitState(buffer);
+    }
 }
@@ -23,6 +23,8 @@
  */
 package org.jbox2d.dynamics.joints;
 
+import java.nio.ByteBuffer;
+
 import org.jbox2d.common.MathUtils;
 import org.jbox2d.common.Rot;
 import org.jbox2d.common.Settings;
@@ -320,4 +322,24 @@ public class RopeJoint extends Joint
     {
         return state;
     }
+
+    @Override
+    public int getStateSize()
+    {
+        return 8;
+    }
+
+    @Override
+    public void saveState(ByteBuffer buffer)
+    {
+        buffer.putFloat(impulse);
+        buffer.putInt(state.ordinal());
+    }
+
+    @Override
+    public void loadState(ByteBuffer buffer)
+    {
+        impulse = buffer.getFloat();
+        state = readLimitState(buffer);
+    }
 }
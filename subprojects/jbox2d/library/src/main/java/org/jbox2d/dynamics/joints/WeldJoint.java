@@ -23,6 +23,8 @@
  */
 package org.jbox2d.dynamics.joints;
 
+import java.nio.ByteBuffer;
+
 import org.jbox2d.common.Mat33;
 import org.jbox2d.common.MathUtils;
 import org.jbox2d.common.Rot;
@@ -438,4 +440,26 @@ public class WeldJoint extends Joint
         return positionError <= Settings.linearSlop
                 && angularError <= Settings.angularSlop;
     }
+
+    @Override
+    public int getStateSize()
+    {
+        return 12;
+    }
+
+    @Override
+    public void saveState(ByteBuffer buffer)
+    {
+        buffer.putFloat(impulse.x);
+        buffer.putFloat(impulse.y);
+        buffer.putFloat(impulse.z);
+    }
+
+    @Override
+    public void loadState(ByteBuffer buffer)
+    {
+        impulse.x = buffer.getFloat();
+        impulse.y = buffer.getFloat();
+        impulse.z = buffer.getFloat();
+    }
 }
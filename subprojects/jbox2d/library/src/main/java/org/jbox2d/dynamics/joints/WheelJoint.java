@@ -23,6 +23,8 @@
  */
 package org.jbox2d.dynamics.joints;
 
+import java.nio.ByteBuffer;
+
 import org.jbox2d.common.MathUtils;
 import org.jbox2d.common.Rot;
 import org.jbox2d.common.Settings;
@@ -567,4 +569,26 @@ public class WheelJoint extends Joint
         data.positions[indexB].a = aB;
         return MathUtils.abs(C) <= Settings.linearSlop;
     }
+
+    @Override
+    public int getStateSize()
+    {
+        return 12;
+    }
+
+    @Override
+    public void saveState(ByteBuffer buffer)
+    {
+        buffer.putFloat(impulse);
+        buffer.putFloat(motorImpulse);
+        buffer.putFloat(springImpulse);
+    }
+
+    @Override
+    public void loadState(ByteBuffer buffer)
+    {
+        impulse = buffer.getFloat();
+        motorImpulse = buffer.getFloat();
+        springImpulse = buffer.getFloat();
+    }
 }
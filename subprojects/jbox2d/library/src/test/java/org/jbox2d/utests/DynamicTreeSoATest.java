@@ -0,0 +1,253 @@
+/*
+ * Copyright (c) 2026, Josef Friedrich and contributors
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ * 	* Redistributions of source code must retain the above copyright notice,
+ * 	  this list of conditions and the following disclaimer.
+ * 	* Redistributions in binary form must reproduce the above copyright notice,
+ * 	  this list of conditions and the following disclaimer in the documentation
+ * 	  and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT
+ * NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.jbox2d.utests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.jbox2d.collision.AABB;
+import org.jbox2d.collision.RayCastInput;
+import org.jbox2d.collision.broadphase.BroadPhase;
+import org.jbox2d.collision.broadphase.BroadPhaseStrategy;
+import org.jbox2d.collision.broadphase.DefaultBroadPhaseBuffer;
+import org.jbox2d.collision.broadphase.DynamicTree;
+import org.jbox2d.collision.broadphase.DynamicTreeSoA;
+import org.jbox2d.collision.shapes.PolygonShape;
+import org.jbox2d.common.Vec2;
+import org.jbox2d.dynamics.Body;
+import org.jbox2d.dynamics.BodyDef;
+import org.jbox2d.dynamics.BodyType;
+import org.jbox2d.dynamics.World;
+import org.jbox2d.pooling.normal.DefaultWorldPool;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Compares {@link DynamicTreeSoA} with {@link DynamicTree}.
+ */
+class DynamicTreeSoATest
+{
+    private static final float SIZE = 50;
+
+    private final Random random = new Random(7);
+
+    private AABB box(float halfSize)
+    {
+        float x = random.nextFloat() * SIZE;
+        float y = random.nextFloat() * SIZE;
+        return new AABB(new Vec2(x - halfSize, y - halfSize),
+                new Vec2(x + halfSize, y + halfSize));
+    }
+
+    /**
+     * Creates, moves and destroys random proxies in both trees.
+     */
+    private List<Integer> populate(DynamicTreeSoA soa, DynamicTree tree,
+            int count)
+    {
+        List<Integer> ids = new ArrayList<>();
+        for (int i = 0; i < count; i++)
+        {
+            AABB aabb = box(0.5f);
+            int id = soa.createProxy(aabb, i);
+            assertEquals(id, tree.createProxy(aabb, i));
+            ids.add(id);
+        }
+        for (int i = 0; i < count; i++)
+        {
+            int id = ids.get(random.nextInt(ids.size()));
+            Vec2 displacement = new Vec2(random.nextFloat() * 4 - 2,
+                    random.nextFloat() * 4 - 2);
+            AABB aabb = new AABB(soa.getFatAABB(id));
+            aabb.lowerBound.addLocal(displacement);
+            aabb.upperBound.addLocal(displacement);
+            assertEquals(tree.moveProxy(id, aabb, displacement),
+                soa.moveProxy(id, aabb, displacement));
+        }
+        for (int i = 0; i < count / 10; i++)
+        {
+            int id = ids.remove(random.nextInt(ids.size()));
+            soa.destroyProxy(id);
+            tree.destroyProxy(id);
+        }
+        return ids;
+    }
+
+    private static Set<Object> query(BroadPhaseStrategy tree, AABB aabb)
+    {
+        Set<Object> hits = new HashSet<>();
+        tree.query(proxyId -> {
+            assertTrue(hits.add(tree.getUserData(proxyId)));
+            return true;
+        }, aabb);
+        return hits;
+    }
+
+    @Test
+    void queryMatchesDynamicTree()
+    {
+        DynamicTreeSoA soa = new DynamicTreeSoA();
+        DynamicTree tree = new DynamicTree();
+        populate(soa, tree, 2000);
+        soa.validate();
+        for (int i = 0; i < 200; i++)
+        {
+            AABB aabb = box(3);
+            assertEquals(query(tree, aabb), query(soa, aabb));
+        }
+        soa.validate();
+    }
+
+    @Test
+    void raycastMatchesDynamicTree()
+    {
+        DynamicTreeSoA soa = new DynamicTreeSoA();
+        DynamicTree tree = new DynamicTree();
+        populate(soa, tree, 1000);
+        for (int i = 0; i < 100; i++)
+        {
+            RayCastInput input = new RayCastInput(
+                    new Vec2(random.nextFloat() * SIZE,
+                            random.nextFloat() * SIZE),
+                    new Vec2(random.nextFloat() * SIZE,
+                            random.nextFloat() * SIZE),
+                    1);
+            Set<Object> expected = new HashSet<>();
+            tree.raycast((subInput, proxyId) -> {
+                expected.add(tree.getUserData(proxyId));
+                return subInput.maxFraction;
+            }, input);
+            Set<Object> actual = new HashSet<>();
+            soa.raycast((subInput, proxyId) -> {
+                actual.add(soa.getUserData(proxyId));
+                return subInput.maxFraction;
+            }, input);
+            assertEquals(expected, actual);
+        }
+    }
+
+    @Test
+    void rebuildKeepsProxies()
+    {
+        DynamicTreeSoA soa = new DynamicTreeSoA();
+        DynamicTree tree = new DynamicTree();
+        List<Integer> ids = populate(soa, tree, 500);
+        soa.rebuild();
+        soa.validate();
+        assertEquals(ids.size(), soa.getProxyCount());
+        for (int id : ids)
+        {
+            assertEquals(tree.getUserData(id), soa.getUserData(id));
+            assertEquals(tree.getFatAABB(id).lowerBound,
+                soa.getFatAABB(id).lowerBound);
+        }
+        AABB all = new AABB(new Vec2(-10, -10), new Vec2(SIZE + 10, SIZE + 10));
+        assertEquals(ids.size(), query(soa, all).size());
+    }
+
+    private static Set<String> pairs(BroadPhase broadPhase)
+    {
+        Set<String> pairs = new HashSet<>();
+        broadPhase.updatePairs((a, b) -> {
+            assertTrue(pairs.add(a + "-" + b), "duplicate pair");
+        });
+        return pairs;
+    }
+
+    @Test
+    void updatePairsMatchesQueries()
+    {
+        BroadPhase soa = new DefaultBroadPhaseBuffer(new DynamicTreeSoA());
+        BroadPhase tree = new DefaultBroadPhaseBuffer(new DynamicTree());
+        List<Integer> ids = new ArrayList<>();
+        for (int i = 0; i < 1000; i++)
+        {
+            AABB aabb = box(0.7f);
+            ids.add(soa.createProxy(aabb, i));
+            tree.createProxy(aabb, i);
+        }
+        Set<String> expected = pairs(tree);
+        assertFalse(expected.isEmpty());
+        assertEquals(expected, pairs(soa));
+        // Only the touched proxies are considered in the next update.
+        for (int i = 0; i < 50; i++)
+        {
+            int id = ids.get(random.nextInt(ids.size()));
+            soa.touchProxy(id);
+            tree.touchProxy(id);
+        }
+        assertEquals(pairs(tree), pairs(soa));
+        assertTrue(pairs(soa).isEmpty());
+    }
+
+    @Test
+    void invalidRebuildFraction()
+    {
+        DynamicTreeSoA soa = new DynamicTreeSoA();
+        assertThrows(IllegalArgumentException.class,
+            () -> soa.setRebuildFraction(0));
+    }
+
+    @Test
+    void worldStep()
+    {
+        DynamicTreeSoA strategy = new DynamicTreeSoA();
+        World world = new World(new Vec2(0, -10), new DefaultWorldPool(100, 10),
+                strategy);
+        Body ground = world.createBody(new BodyDef());
+        PolygonShape groundShape = new PolygonShape();
+        groundShape.setAsBox(50, 0.5f);
+        ground.createFixture(groundShape, 0);
+        PolygonShape box = new PolygonShape();
+        box.setAsBox(0.5f, 0.5f);
+        List<Body> boxes = new ArrayList<>();
+        for (int i = 0; i < 100; i++)
+        {
+            BodyDef def = new BodyDef();
+            def.type = BodyType.DYNAMIC;
+            def.position.set(-40 + (i % 20) * 4, 2 + (i / 20) * 2);
+            Body body = world.createBody(def);
+            body.createFixture(box, 1);
+            boxes.add(body);
+        }
+        for (int i = 0; i < 300; i++)
+        {
+            world.step(1 / 60f, 8, 3);
+        }
+        strategy.validate();
+        for (Body body : boxes)
+        {
+            // resting on the ground or on another box
+            float y = body.getPosition().y;
+            assertTrue(y > 0.9f && y < 5.6f, body.getPosition()::toString);
+        }
+    }
+}
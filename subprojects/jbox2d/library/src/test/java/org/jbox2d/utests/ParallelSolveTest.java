@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2026, Josef Friedrich and contributors
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ * 	* Redistributions of source code must retain the above copyright notice,
+ * 	  this list of conditions and the following disclaimer.
+ * 	* Redistributions in binary form must reproduce the above copyright notice,
+ * 	  this list of conditions and the following disclaimer in the documentation
+ * 	  and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT
+ * NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.jbox2d.utests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jbox2d.callbacks.ContactImpulse;
+import org.jbox2d.callbacks.ContactListener;
+import org.jbox2d.collision.Manifold;
+import org.jbox2d.collision.shapes.PolygonShape;
+import org.jbox2d.common.Vec2;
+import org.jbox2d.dynamics.Body;
+import org.jbox2d.dynamics.BodyDef;
+import org.jbox2d.dynamics.BodyType;
+import org.jbox2d.dynamics.World;
+import org.jbox2d.dynamics.contacts.Contact;
+import org.jbox2d.dynamics.joints.RevoluteJointDef;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Compares the parallel island solver with the serial one.
+ */
+class ParallelSolveTest
+{
+    private static final int PILES = 24;
+
+    private static final int BOXES = 6;
+
+    private static World createWorld(List<Body> bodies)
+    {
+        World world = new World(new Vec2(0, -10));
+        BodyDef groundDef = new BodyDef();
+        Body ground = world.createBody(groundDef);
+        PolygonShape groundShape = new PolygonShape();
+        groundShape.setAsBox(PILES * 4, 0.5f);
+        ground.createFixture(groundShape, 0);
+        PolygonShape box = new PolygonShape();
+        box.setAsBox(0.5f, 0.5f);
+        for (int pile = 0; pile < PILES; pile++)
+        {
+            Body previous = null;
+            for (int i = 0; i < BOXES; i++)
+            {
+                BodyDef def = new BodyDef();
+                def.type = BodyType.DYNAMIC;
+                def.position.set(pile * 4 - PILES * 2 + 0.1f * i,
+                    1 + i * 1.05f);
+                Body body = world.createBody(def);
+                body.createFixture(box, 1);
+                bodies.add(body);
+                // every other pile gets a joint so joints are solved in
+                // parallel too
+                if (previous != null && pile % 2 == 0 && i == BOXES - 1)
+                {
+                    RevoluteJointDef joint = new RevoluteJointDef();
+                    joint.initialize(previous,
+                        body,
+                        new Vec2(def.position.x, def.position.y - 0.5f));
+                    world.createJoint(joint);
+                }
+                previous = body;
+            }
+        }
+        return world;
+    }
+
+    private static final class Recorder implements ContactListener
+    {
+        final List<String> postSolves = new ArrayList<>();
+
+        final List<Thread> threads = new ArrayList<>();
+
+        @Override
+        public void beginContact(Contact contact)
+        {
+        }
+
+        @Override
+        public void endContact(Contact contact)
+        {
+        }
+
+        @Override
+        public void preSolve(Contact contact, Manifold oldManifold)
+        {
+        }
+
+        @Override
+        public void postSolve(Contact contact, ContactImpulse impulse)
+        {
+            threads.add(Thread.currentThread());
+            postSolves.add(contact.getFixtureA().getBody().getPosition().x + ":"
+                    + impulse.normalImpulses[0]);
+        }
+    }
+
+    @Test
+    void parallelMatchesSerial()
+    {
+        List<Body> serialBodies = new ArrayList<>();
+        World serial = createWorld(serialBodies);
+        Recorder serialRecorder = new Recorder();
+        serial.setContactListener(serialRecorder);
+
+        List<Body> parallelBodies = new ArrayList<>();
+        World parallel = createWorld(parallelBodies);
+        Recorder parallelRecorder = new Recorder();
+        parallel.setContactListener(parallelRecorder);
+        parallel.setSolverThreads(4);
+        try
+        {
+            for (int step = 0; step < 120; step++)
+            {
+                serial.step(1 / 60f, 8, 3);
+                parallel.step(1 / 60f, 8, 3);
+            }
+        }
+        finally
+        {
+            parallel.shutdownSolver();
+        }
+        for (int i = 0; i < serialBodies.size(); i++)
+        {
+            Body a = serialBodies.get(i);
+            Body b = parallelBodies.get(i);
+            assertEquals(a.getPosition(), b.getPosition());
+            assertEquals(a.getAngle(), b.getAngle());
+            assertEquals(a.getLinearVelocity(), b.getLinearVelocity());
+            assertEquals(a.getAngularVelocity(), b.getAngularVelocity());
+            assertEquals(a.isAwake(), b.isAwake());
+        }
+        assertTrue(serialRecorder.postSolves.size() > 0);
+        assertEquals(serialRecorder.postSolves, parallelRecorder.postSolves);
+        for (Thread thread : parallelRecorder.threads)
+        {
+            assertSame(Thread.currentThread(), thread);
+        }
+    }
+
+    @Test
+    void invalidThreadCount()
+    {
+        World world = new World(new Vec2());
+        assertThrows(IllegalArgumentException.class,
+            () -> world.setSolverThreads(0));
+        assertEquals(1, world.getSolverThreads());
+    }
+}
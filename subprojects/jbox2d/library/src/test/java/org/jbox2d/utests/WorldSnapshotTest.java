@@ -0,0 +1,315 @@
+/*
+ * Copyright (c) 2026, Josef Friedrich and contributors
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ * 	* Redistributions of source code must retain the above copyright notice,
+ * 	  this list of conditions and the following disclaimer.
+ * 	* Redistributions in binary form must reproduce the above copyright notice,
+ * 	  this list of conditions and the following disclaimer in the documentation
+ * 	  and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT
+ * NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.jbox2d.utests;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Proxy;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.jbox2d.collision.broadphase.BroadPhase;
+import org.jbox2d.collision.broadphase.BroadPhaseStrategy;
+import org.jbox2d.collision.broadphase.DynamicTree;
+import org.jbox2d.collision.broadphase.DynamicTreeFlatNodes;
+import org.jbox2d.collision.broadphase.DynamicTreeSoA;
+import org.jbox2d.collision.shapes.CircleShape;
+import org.jbox2d.collision.shapes.PolygonShape;
+import org.jbox2d.common.Vec2;
+import org.jbox2d.dynamics.Body;
+import org.jbox2d.dynamics.BodyDef;
+import org.jbox2d.dynamics.BodyType;
+import org.jbox2d.dynamics.World;
+import org.jbox2d.dynamics.WorldSnapshot;
+import org.jbox2d.dynamics.joints.RevoluteJointDef;
+import org.jbox2d.pooling.normal.DefaultWorldPool;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Captures and restores worlds with a {@link WorldSnapshot}.
+ */
+class WorldSnapshotTest
+{
+    private static World createWorld(List<Body> bodies)
+    {
+        return createWorld(bodies, new DynamicTree());
+    }
+
+    private static World createWorld(List<Body> bodies,
+            BroadPhaseStrategy strategy)
+    {
+        World world = new World(new Vec2(0, -10),
+                new DefaultWorldPool(World.WORLD_POOL_SIZE,
+                        World.WORLD_POOL_CONTAINER_SIZE),
+                strategy);
+        Body ground = world.createBody(new BodyDef());
+        PolygonShape groundShape = new PolygonShape();
+        groundShape.setAsBox(40, 0.5f);
+        ground.createFixture(groundShape, 0);
+        PolygonShape box = new PolygonShape();
+        box.setAsBox(0.5f, 0.5f);
+        CircleShape circle = new CircleShape();
+        circle.setRadius(0.4f);
+        Body previous = null;
+        for (int i = 0; i < 8; i++)
+        {
+            BodyDef def = new BodyDef();
+            def.type = BodyType.DYNAMIC;
+            def.position.set(i * 0.3f, 2 + i * 1.5f);
+            Body body = world.createBody(def);
+            body.createFixture(i % 2 == 0 ? box : circle, 1);
+            bodies.add(body);
+            if (i == 5)
+            {
+                RevoluteJointDef joint = new RevoluteJointDef();
+                joint.initialize(previous,
+                    body,
+                    new Vec2(def.position.x, def.position.y - 0.75f));
+                joint.enableLimit = true;
+                joint.lowerAngle = -0.5f;
+                joint.upperAngle = 0.5f;
+                world.createJoint(joint);
+            }
+            previous = body;
+        }
+        return world;
+    }
+
+    private static void step(World world, int steps)
+    {
+        for (int i = 0; i < steps; i++)
+        {
+            world.step(1 / 60f, 8, 3);
+        }
+    }
+
+    private static int[] state(List<Body> bodies)
+    {
+        int[] state = new int[bodies.size() * 6];
+        int i = 0;
+        for (Body body : bodies)
+        {
+            state[i++] = Float.floatToRawIntBits(body.getPosition().x);
+            state[i++] = Float.floatToRawIntBits(body.getPosition().y);
+            state[i++] = Float.floatToRawIntBits(body.getAngle());
+            state[i++] = Float.floatToRawIntBits(body.getLinearVelocity().x);
+            state[i++] = Float.floatToRawIntBits(body.getLinearVelocity().y);
+            state[i++] = body.isAwake() ? 1 : 0;
+        }
+        return state;
+    }
+
+    private static byte[] bytes(WorldSnapshot snapshot)
+    {
+        ByteBuffer buffer = snapshot.getBuffer();
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        return bytes;
+    }
+
+    @Test
+    void restoreIsBitExact()
+    {
+        assertRestoreIsBitExact(new DynamicTree());
+    }
+
+    @Test
+    void restoreIsBitExactWithOtherTrees()
+    {
+        assertRestoreIsBitExact(new DynamicTreeFlatNodes());
+        assertRestoreIsBitExact(new DynamicTreeSoA());
+    }
+
+    private static void assertRestoreIsBitExact(BroadPhaseStrategy strategy)
+    {
+        List<Body> bodies = new ArrayList<>();
+        World world = createWorld(bodies, strategy);
+        step(world, 5);
+        WorldSnapshot snapshot = new WorldSnapshot(16);
+        snapshot.capture(world);
+        int contactsAtCapture = world.getContactCount();
+        step(world, 150);
+        int[] expected = state(bodies);
+        assertTrue(world.getContactCount() > contactsAtCapture);
+        // leave the original timeline before going back
+        bodies.get(3)
+            .applyLinearImpulse(new Vec2(20, 5),
+                bodies.get(3).getWorldCenter(),
+                true);
+        step(world, 30);
+        snapshot.restore(world);
+        assertEquals(contactsAtCapture, world.getContactCount());
+        step(world, 150);
+        assertArrayEquals(expected, state(bodies));
+    }
+
+    @Test
+    void restoreMatchesCaptureAfterSettling()
+    {
+        List<Body> bodies = new ArrayList<>();
+        World world = createWorld(bodies);
+        step(world, 200);
+        WorldSnapshot first = new WorldSnapshot();
+        first.capture(world);
+        step(world, 40);
+        first.restore(world);
+        WorldSnapshot second = new WorldSnapshot();
+        second.capture(world);
+        assertArrayEquals(bytes(first), bytes(second));
+    }
+
+    @Test
+    void deltaTurnsEitherSnapshotIntoTheOther()
+    {
+        List<Body> bodies = new ArrayList<>();
+        World world = createWorld(bodies);
+        step(world, 100);
+        WorldSnapshot previous = new WorldSnapshot();
+        previous.capture(world);
+        step(world, 1);
+        WorldSnapshot current = new WorldSnapshot();
+        current.capture(world);
+        ByteBuffer delta = ByteBuffer
+            .allocate(previous.getMaxDeltaSize(current));
+        int length = previous.encodeDelta(current, delta);
+        assertEquals(length, delta.position());
+        assertTrue(length < current.getSize());
+
+        WorldSnapshot decoded = new WorldSnapshot(16);
+        decoded.set(previous);
+        delta.flip();
+        decoded.applyDelta(delta);
+        assertArrayEquals(bytes(current), bytes(decoded));
+        delta.rewind();
+        decoded.applyDelta(delta);
+        assertArrayEquals(bytes(previous), bytes(decoded));
+    }
+
+    @Test
+    void deltaBetweenSnapshotsOfDifferentSize()
+    {
+        List<Body> bodies = new ArrayList<>();
+        World world = createWorld(bodies);
+        WorldSnapshot empty = new WorldSnapshot();
+        empty.capture(world);
+        step(world, 150);
+        WorldSnapshot settled = new WorldSnapshot();
+        settled.capture(world);
+        assertTrue(settled.getSize() > empty.getSize());
+        ByteBuffer delta = ByteBuffer.allocate(settled.getMaxDeltaSize(empty));
+        settled.encodeDelta(empty, delta);
+        delta.flip();
+        WorldSnapshot decoded = new WorldSnapshot();
+        decoded.set(settled);
+        decoded.applyDelta(delta);
+        assertArrayEquals(bytes(empty), bytes(decoded));
+        delta.rewind();
+        decoded.applyDelta(delta);
+        assertArrayEquals(bytes(settled), bytes(decoded));
+    }
+
+    @Test
+    void loadReadsSavedSnapshot()
+    {
+        List<Body> bodies = new ArrayList<>();
+        World world = createWorld(bodies);
+        step(world, 60);
+        WorldSnapshot snapshot = new WorldSnapshot();
+        snapshot.capture(world);
+        int[] expected = state(bodies);
+        byte[] saved = bytes(snapshot);
+        step(world, 60);
+        WorldSnapshot loaded = new WorldSnapshot();
+        loaded.load(ByteBuffer.wrap(saved));
+        loaded.restore(world);
+        assertArrayEquals(expected, state(bodies));
+        assertThrows(IllegalArgumentException.class,
+            () -> loaded.load(ByteBuffer.wrap(Arrays.copyOf(saved, 4))));
+    }
+
+    @Test
+    void structureMismatch()
+    {
+        List<Body> bodies = new ArrayList<>();
+        World world = createWorld(bodies);
+        WorldSnapshot snapshot = new WorldSnapshot();
+        assertThrows(IllegalStateException.class,
+            () -> snapshot.restore(world));
+        snapshot.capture(world);
+        world.createBody(new BodyDef());
+        assertThrows(IllegalStateException.class,
+            () -> snapshot.restore(world));
+    }
+
+    @Test
+    void otherBroadPhaseIsRejected()
+    {
+        BroadPhase broadPhase = (BroadPhase) Proxy
+            .newProxyInstance(BroadPhase.class.getClassLoader(), new Class<?>[]
+            { BroadPhase.class }, (proxy, method, args) -> {
+                throw new UnsupportedOperationException(method.getName());
+            });
+        World world = new World(new Vec2(0, -10),
+                new DefaultWorldPool(World.WORLD_POOL_SIZE,
+                        World.WORLD_POOL_CONTAINER_SIZE),
+                broadPhase);
+        WorldSnapshot snapshot = new WorldSnapshot();
+        IllegalStateException exception = assertThrows(
+            IllegalStateException.class,
+            () -> snapshot.capture(world));
+        assertTrue(exception.getMessage().contains("restore fat AABBs"));
+        assertThrows(IllegalStateException.class,
+            () -> snapshot.restore(world));
+    }
+
+    @Test
+    void strategyWithoutFatAABBRestoreIsRejected()
+    {
+        DynamicTree tree = new DynamicTree();
+        BroadPhaseStrategy strategy = (BroadPhaseStrategy) Proxy
+            .newProxyInstance(BroadPhaseStrategy.class.getClassLoader(),
+                new Class<?>[]
+                { BroadPhaseStrategy.class },
+                (proxy, method, args) -> method.invoke(tree, args));
+        World world = new World(new Vec2(0, -10),
+                new DefaultWorldPool(World.WORLD_POOL_SIZE,
+                        World.WORLD_POOL_CONTAINER_SIZE),
+                strategy);
+        Body body = world.createBody(new BodyDef());
+        CircleShape circle = new CircleShape();
+        circle.radius = 1;
+        body.createFixture(circle, 1);
+        world.step(1 / 60f, 8, 3);
+        WorldSnapshot snapshot = new WorldSnapshot();
+        assertThrows(IllegalStateException.class,
+            () -> snapshot.capture(world));
+        assertThrows(IllegalStateException.class,
+            () -> snapshot.restore(world));
+    }
+}